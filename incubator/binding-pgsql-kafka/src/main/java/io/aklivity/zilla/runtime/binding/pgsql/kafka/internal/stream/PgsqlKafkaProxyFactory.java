@@ -15,6 +15,7 @@
 package io.aklivity.zilla.runtime.binding.pgsql.kafka.internal.stream;
 
 import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
 import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_VERSION_ID;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
@@ -82,6 +83,8 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
     private static final int COMMAND_PROCESSED_ERRORED = -1;
     private static final int COMMAND_PROCESSED_NONE = 0;
 
+    private static final int SCHEMA_RESOLVED_SIGNAL_ID = 1;
+
     private static final int FLAGS_INIT = 0x02;
     private static final int FLAGS_CONT = 0x00;
     private static final int FLAGS_FIN = 0x01;
@@ -318,6 +321,10 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
                 final WindowFW window = windowRO.wrap(buffer, index, index + length);
                 onAppWindow(window);
                 break;
+            case SignalFW.TYPE_ID:
+                final SignalFW signal = signalRO.wrap(buffer, index, index + length);
+                onAppSignal(signal);
+                break;
             default:
                 // ignore
                 break;
@@ -456,6 +463,19 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
             state = PgsqlKafkaState.openReply(state);
         }
 
+        private void onAppSignal(
+            final SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+            final long authorization = signal.authorization();
+            final int signalId = signal.signalId();
+
+            if (signalId == SCHEMA_RESOLVED_SIGNAL_ID)
+            {
+                doParseQuery(traceId, authorization);
+            }
+        }
+
         private void onCommandCompleted(
             long traceId,
             long authorization,
@@ -1398,24 +1418,32 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
         final CatalogHandler catalog = binding.catalog;
 
         final String subjectValue = String.format("%s.%s-value", schema, topic);
-        final int schemaId = catalog.resolve(subjectValue, "latest");
-        final String existingSchemaJson = catalog.resolve(schemaId);
-        final String schemaValue = binding.avroValueSchema.generate(existingSchemaJson, alter);
+        final boolean subjectPending = catalog.pending(subjectValue, "latest",
+            server.originId, server.routedId, server.initialId, traceId, SCHEMA_RESOLVED_SIGNAL_ID);
+        final int schemaId = !subjectPending ? catalog.resolve(subjectValue, "latest") : NO_SCHEMA_ID;
+        final boolean schemaPending = subjectPending || catalog.pending(schemaId,
+            server.originId, server.routedId, server.initialId, traceId, SCHEMA_RESOLVED_SIGNAL_ID);
 
-        if (schemaValue != null)
-        {
-            int versionId = catalog.register(subjectValue, schemaValue);
-            //TODO: check if the versionId is the same as the one in the existing schema
-        }
-        else
+        if (!schemaPending)
         {
-            server.doCommandError(traceId, authorization, SEVERITY_ERROR, CODE_XX000,
-                String.format("Unable to alter topic %s\u0000", topic));
-            server.commandsProcessed = COMMAND_PROCESSED_ERRORED;
-        }
+            final String existingSchemaJson = catalog.resolve(schemaId);
+            final String schemaValue = binding.avroValueSchema.generate(existingSchemaJson, alter);
+
+            if (schemaValue != null)
+            {
+                int versionId = catalog.register(subjectValue, schemaValue);
+                //TODO: check if the versionId is the same as the one in the existing schema
+            }
+            else
+            {
+                server.doCommandError(traceId, authorization, SEVERITY_ERROR, CODE_XX000,
+                    String.format("Unable to alter topic %s\u0000", topic));
+                server.commandsProcessed = COMMAND_PROCESSED_ERRORED;
+            }
 
-        final int length = statement.length();
-        server.onCommandCompleted(traceId, authorization, length, PgsqlKafkaCompletionCommand.ALTER_TOPIC_COMMAND);
+            final int length = statement.length();
+            server.onCommandCompleted(traceId, authorization, length, PgsqlKafkaCompletionCommand.ALTER_TOPIC_COMMAND);
+        }
     }
 
     private void decodeDropTopicCommand(
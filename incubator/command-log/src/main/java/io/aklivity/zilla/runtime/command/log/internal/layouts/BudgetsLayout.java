@@ -41,7 +41,8 @@ public final class BudgetsLayout extends Layout
     public static final int SIZEOF_BUDGET_REMAINING = Long.BYTES;
     public static final int LIMIT_BUDGET_REMAINING = OFFSET_BUDGET_REMAINING + SIZEOF_BUDGET_REMAINING;
     public static final int OFFSET_BUDGET_WATCHERS = LIMIT_BUDGET_REMAINING;
-    public static final int SIZEOF_BUDGET_WATCHERS = Long.BYTES;
+    public static final int BUDGET_WATCHERS_WORDS = 4;
+    public static final int SIZEOF_BUDGET_WATCHERS = Long.BYTES * BUDGET_WATCHERS_WORDS;
     public static final int LIMIT_BUDGET_WATCHERS = OFFSET_BUDGET_WATCHERS + SIZEOF_BUDGET_WATCHERS;
 
     public static final int SIZEOF_BUDGET_ENTRY =
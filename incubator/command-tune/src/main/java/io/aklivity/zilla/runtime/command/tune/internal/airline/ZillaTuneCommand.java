@@ -20,6 +20,7 @@ import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
@@ -27,6 +28,8 @@ import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.LongPredicate;
@@ -73,6 +76,8 @@ public final class ZillaTuneCommand extends ZillaCommand
                     workers = byteBuf.getInt(Long.BYTES);
                 }
 
+                final int words = Math.max((workers + Long.SIZE - 1) / Long.SIZE, 1);
+
                 LongPredicate filter = id -> true;
                 Consumer<ByteBuffer> updater = buf -> {};
 
@@ -98,8 +103,14 @@ public final class ZillaTuneCommand extends ZillaCommand
 
                     if (value != null)
                     {
-                        final long mask = Long.decode(value);
-                        updater = buf -> buf.putLong(buf.position() - Long.BYTES, mask);
+                        final long[] mask = Arrays.copyOf(decodeMask(value).toLongArray(), words);
+                        updater = buf ->
+                        {
+                            for (int index = 0; index < words; index++)
+                            {
+                                buf.putLong(buf.position() - (words - index) * Long.BYTES, mask[index]);
+                            }
+                        };
                     }
                 }
 
@@ -108,15 +119,21 @@ public final class ZillaTuneCommand extends ZillaCommand
                     MappedByteBuffer byteBuf = channel.map(MapMode.READ_WRITE, 0, Files.size(tuning));
                     byteBuf.order(nativeOrder());
 
-                    while (byteBuf.remaining() >= Long.BYTES + Long.BYTES)
+                    while (byteBuf.remaining() >= Long.BYTES + words * Long.BYTES + Long.BYTES)
                     {
                         long bindingId = byteBuf.getLong();
-                        long mask = byteBuf.getLong();
+                        byteBuf.position(byteBuf.position() + words * Long.BYTES);
 
                         if (filter.test(bindingId))
                         {
                             updater.accept(byteBuf);
-                            mask = byteBuf.getLong(byteBuf.position() - Long.BYTES);
+
+                            long[] maskWords = new long[words];
+                            for (int index = 0; index < words; index++)
+                            {
+                                maskWords[index] = byteBuf.getLong(byteBuf.position() - (words - index) * Long.BYTES);
+                            }
+                            BitSet mask = BitSet.valueOf(maskWords);
 
                             int namespaceId = (int)(bindingId >> 32) & 0xffff_ffff;
                             int localId = (int)(bindingId >> 0) & 0xffff_ffff;
@@ -124,17 +141,17 @@ public final class ZillaTuneCommand extends ZillaCommand
                             String namespace = labels.lookupLabel(namespaceId);
                             String binding = labels.lookupLabel(localId);
 
-                            String format = String.format("%%%ds", workers);
-                            String maskBits = new StringBuilder()
-                                .append(String.format(format, Long.toBinaryString(mask))
-                                        .replace(' ', '.')
-                                        .replace('0', '.')
-                                        .replace('1', 'x'))
-                                .reverse()
-                                .toString();
+                            StringBuilder maskBits = new StringBuilder();
+                            for (int index = 0; index < Math.max(workers, mask.length()); index++)
+                            {
+                                maskBits.append(mask.get(index) ? 'x' : '.');
+                            }
 
                             System.out.printf("%s  %s.%s\n", maskBits, namespace, binding);
                         }
+
+                        // skip dispatch
+                        byteBuf.position(byteBuf.position() + Long.BYTES);
                     }
                 }
             }
@@ -144,4 +161,33 @@ public final class ZillaTuneCommand extends ZillaCommand
             }
         }
     }
+
+    private static BitSet decodeMask(
+        String value)
+    {
+        BigInteger decoded;
+        if (value.startsWith("0x") || value.startsWith("0X"))
+        {
+            decoded = new BigInteger(value.substring(2), 16);
+        }
+        else if (value.startsWith("#"))
+        {
+            decoded = new BigInteger(value.substring(1), 16);
+        }
+        else if (value.length() > 1 && value.startsWith("0"))
+        {
+            decoded = new BigInteger(value.substring(1), 8);
+        }
+        else
+        {
+            decoded = new BigInteger(value);
+        }
+
+        BitSet mask = new BitSet(decoded.bitLength());
+        for (int index = 0; index < decoded.bitLength(); index++)
+        {
+            mask.set(index, decoded.testBit(index));
+        }
+        return mask;
+    }
 }
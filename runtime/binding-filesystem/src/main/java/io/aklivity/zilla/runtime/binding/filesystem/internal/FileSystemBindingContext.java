@@ -34,8 +34,10 @@ final class FileSystemBindingContext implements BindingContext
 {
     private final Map<KindConfig, FileSystemStreamFactory> factories;
     private final Signaler signaler;
+    private final int ioThreads;
     private FileSystemWatcher watcher;
     private ExecutorService executor;
+    private ExecutorService ioExecutor;
     private int bindings = 0;
 
     FileSystemBindingContext(
@@ -45,7 +47,8 @@ final class FileSystemBindingContext implements BindingContext
         Map<KindConfig, FileSystemStreamFactory> factories = new EnumMap<>(KindConfig.class);
         this.factories = factories;
         this.signaler = context.signaler();
-        factories.put(SERVER, new FileSystemServerFactory(config, context, this::supplyWatcher));
+        this.ioThreads = config.serverIoThreads();
+        factories.put(SERVER, new FileSystemServerFactory(config, context, this::supplyWatcher, this::supplyIoExecutor));
     }
 
     @Override
@@ -61,6 +64,7 @@ final class FileSystemBindingContext implements BindingContext
                 this.watcher = new FileSystemWatcher(signaler);
                 this.executor = Executors.newFixedThreadPool(1);
                 executor.submit(watcher);
+                this.ioExecutor = Executors.newFixedThreadPool(ioThreads);
             }
             factory.attach(binding);
         }
@@ -81,6 +85,7 @@ final class FileSystemBindingContext implements BindingContext
         if (--bindings == 0)
         {
             executor.shutdownNow();
+            ioExecutor.shutdownNow();
         }
     }
 
@@ -94,4 +99,9 @@ final class FileSystemBindingContext implements BindingContext
     {
         return watcher;
     }
+
+    private ExecutorService supplyIoExecutor()
+    {
+        return ioExecutor;
+    }
 }
@@ -26,12 +26,20 @@ public class FileSystemConfiguration extends Configuration
     private static final ConfigurationDef FILE_SYSTEM_CONFIG;
 
     public static final PropertyDef<URI> FILE_SYSTEM_SERVER_ROOT;
+    public static final LongPropertyDef FILE_SYSTEM_SERVER_CACHE_CAPACITY;
+    public static final LongPropertyDef FILE_SYSTEM_SERVER_CACHE_ENTRY_MAX;
+    public static final IntPropertyDef FILE_SYSTEM_SERVER_IO_QUEUE_LIMIT;
+    public static final IntPropertyDef FILE_SYSTEM_SERVER_IO_THREADS;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef(String.format("zilla.binding.%s", NAME));
         FILE_SYSTEM_SERVER_ROOT = config.property(URI.class, "server.root",
             FileSystemConfiguration::decodeServerRoot, new File(".").toURI());
+        FILE_SYSTEM_SERVER_CACHE_CAPACITY = config.property("server.cache.capacity", 64L * 1024L * 1024L);
+        FILE_SYSTEM_SERVER_CACHE_ENTRY_MAX = config.property("server.cache.entry.max", 1024L * 1024L);
+        FILE_SYSTEM_SERVER_IO_QUEUE_LIMIT = config.property("server.io.queue.limit", 64);
+        FILE_SYSTEM_SERVER_IO_THREADS = config.property("server.io.threads", 1);
 
         FILE_SYSTEM_CONFIG = config;
     }
@@ -47,6 +55,26 @@ public class FileSystemConfiguration extends Configuration
         return FILE_SYSTEM_SERVER_ROOT.get(this);
     }
 
+    public long serverCacheCapacity()
+    {
+        return FILE_SYSTEM_SERVER_CACHE_CAPACITY.getAsLong(this);
+    }
+
+    public long serverCacheEntryMax()
+    {
+        return FILE_SYSTEM_SERVER_CACHE_ENTRY_MAX.getAsLong(this);
+    }
+
+    public int serverIoQueueLimit()
+    {
+        return FILE_SYSTEM_SERVER_IO_QUEUE_LIMIT.getAsInt(this);
+    }
+
+    public int serverIoThreads()
+    {
+        return FILE_SYSTEM_SERVER_IO_THREADS.getAsInt(this);
+    }
+
     private static URI decodeServerRoot(
         String location)
     {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal;
+
+import java.net.URL;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemCacheHitsMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemCacheMissesMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemListDurationMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemOperationDurationMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemWriteDurationMetric;
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public class FileSystemMetricGroup implements MetricGroup
+{
+    public static final String NAME = FileSystemBinding.NAME;
+
+    private final Map<String, Supplier<Metric>> fileSystemMetrics = Map.of(
+        FileSystemCacheHitsMetric.NAME, FileSystemCacheHitsMetric::new,
+        FileSystemCacheMissesMetric.NAME, FileSystemCacheMissesMetric::new,
+        FileSystemListDurationMetric.NAME, FileSystemListDurationMetric::new,
+        FileSystemWriteDurationMetric.NAME, FileSystemWriteDurationMetric::new,
+        FileSystemOperationDurationMetric.NAME, FileSystemOperationDurationMetric::new
+    );
+
+    public FileSystemMetricGroup(
+        Configuration config)
+    {
+    }
+
+    @Override
+    public String name()
+    {
+        return NAME;
+    }
+
+    @Override
+    public URL type()
+    {
+        return getClass().getResource("schema/filesystem.metrics.schema.patch.json");
+    }
+
+    @Override
+    public Metric supply(
+        String name)
+    {
+        return fileSystemMetrics.getOrDefault(name, () -> null).get();
+    }
+
+    @Override
+    public Collection<String> metricNames()
+    {
+        return fileSystemMetrics.keySet();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactorySpi;
+
+public final class FileSystemMetricGroupFactorySpi implements MetricGroupFactorySpi
+{
+    @Override
+    public String type()
+    {
+        return FileSystemMetricGroup.NAME;
+    }
+
+    @Override
+    public MetricGroup create(
+        Configuration config)
+    {
+        return new FileSystemMetricGroup(config);
+    }
+}
@@ -14,9 +14,20 @@
  */
 package io.aklivity.zilla.runtime.binding.filesystem.internal.config;
 
+import static io.aklivity.zilla.runtime.engine.util.MetricRecorders.supplyRecorder;
+
+import java.util.function.LongConsumer;
+
 import io.aklivity.zilla.runtime.binding.filesystem.config.FileSystemOptionsConfig;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemCacheHitsMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemCacheMissesMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemListDurationMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemOperationDurationMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemWriteDurationMetric;
+import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
 
 public final class FileSystemBindingConfig
 {
@@ -24,13 +35,25 @@ public final class FileSystemBindingConfig
     public final String name;
     public final FileSystemOptionsConfig options;
     public final KindConfig kind;
+    public final LongConsumer cacheHits;
+    public final LongConsumer cacheMisses;
+    public final LongConsumer listDuration;
+    public final LongConsumer writeDuration;
+    public final LongConsumer operationDuration;
 
     public FileSystemBindingConfig(
-        BindingConfig binding)
+        BindingConfig binding,
+        EngineContext context)
     {
         this.id = binding.id;
         this.name = binding.name;
         this.kind = binding.kind;
         this.options = FileSystemOptionsConfig.class.cast(binding.options);
+        this.cacheHits = supplyRecorder(context, binding, Metric.Kind.COUNTER, FileSystemCacheHitsMetric.NAME);
+        this.cacheMisses = supplyRecorder(context, binding, Metric.Kind.COUNTER, FileSystemCacheMissesMetric.NAME);
+        this.listDuration = supplyRecorder(context, binding, Metric.Kind.HISTOGRAM, FileSystemListDurationMetric.NAME);
+        this.writeDuration = supplyRecorder(context, binding, Metric.Kind.HISTOGRAM, FileSystemWriteDurationMetric.NAME);
+        this.operationDuration =
+            supplyRecorder(context, binding, Metric.Kind.HISTOGRAM, FileSystemOperationDurationMetric.NAME);
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal.metrics;
+
+import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemMetricGroup;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.metrics.BindingMetricContext;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricContext;
+
+public class FileSystemListDurationMetric implements Metric
+{
+    public static final String NAME = String.format("%s.%s", FileSystemMetricGroup.NAME, "list.duration");
+
+    private static final String GROUP = FileSystemMetricGroup.NAME;
+    private static final String DESCRIPTION = "Duration of directory listings on the I/O executor";
+
+    @Override
+    public String name()
+    {
+        return NAME;
+    }
+
+    @Override
+    public Kind kind()
+    {
+        return Kind.HISTOGRAM;
+    }
+
+    @Override
+    public Unit unit()
+    {
+        return Unit.NANOSECONDS;
+    }
+
+    @Override
+    public String description()
+    {
+        return DESCRIPTION;
+    }
+
+    @Override
+    public MetricContext supply(
+        EngineContext context)
+    {
+        return new BindingMetricContext(GROUP, kind());
+    }
+}
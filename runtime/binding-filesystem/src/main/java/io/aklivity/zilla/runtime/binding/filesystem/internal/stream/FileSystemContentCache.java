@@ -0,0 +1,276 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal.stream;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.agrona.LangUtil.rethrowUnchecked;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.LinkOption;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public final class FileSystemContentCache
+{
+    private final long capacity;
+    private final long entryMax;
+    private final long copyMax;
+    private final int tagMax;
+    private final Map<Path, Content> contents;
+
+    private long size;
+
+    public FileSystemContentCache(
+        long capacity,
+        long entryMax,
+        long copyMax,
+        int tagMax)
+    {
+        this.capacity = capacity;
+        this.entryMax = Math.min(Math.min(entryMax, capacity), Integer.MAX_VALUE);
+        this.copyMax = copyMax;
+        this.tagMax = tagMax;
+        this.contents = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public Content lookup(
+        Path path,
+        BasicFileAttributes attributes)
+    {
+        Content content = contents.get(path);
+
+        if (content != null && !content.matches(attributes))
+        {
+            invalidate(path);
+            content = null;
+        }
+
+        if (content != null)
+        {
+            content.acquire();
+        }
+
+        return content;
+    }
+
+    public Content read(
+        Path path,
+        BasicFileAttributes attributes,
+        LinkOption[] symlinks)
+    {
+        Content content = null;
+
+        if (cacheable(attributes))
+        {
+            final Set<OpenOption> options = new HashSet<>();
+            options.add(READ);
+            options.addAll(Set.of(symlinks));
+
+            try (FileChannel channel = FileChannel.open(path, options))
+            {
+                final long length = attributes.size();
+                final MappedByteBuffer mapped = length > copyMax ? channel.map(READ_ONLY, 0, length) : null;
+                final ByteBuffer bytes = mapped != null ? mapped : copy(channel, (int) length);
+                final String tag = calculateTag(bytes, (int) Math.min(length, tagMax));
+
+                content = new Content(attributes.lastModifiedTime().toMillis(), length, new UnsafeBuffer(bytes), tag, mapped);
+            }
+            catch (IOException | UnsupportedOperationException ex)
+            {
+                // not cached
+            }
+        }
+
+        return content;
+    }
+
+    public Content store(
+        Path path,
+        Content content)
+    {
+        if (content != null)
+        {
+            invalidate(path);
+            evict(content.size);
+            contents.put(path, content);
+            size += content.size;
+            content.acquire();
+        }
+
+        return content;
+    }
+
+    public void invalidate(
+        Path path)
+    {
+        final Content content = contents.remove(path);
+        if (content != null)
+        {
+            size -= content.size;
+            content.release();
+        }
+    }
+
+    long size()
+    {
+        return size;
+    }
+
+    int entries()
+    {
+        return contents.size();
+    }
+
+    private boolean cacheable(
+        BasicFileAttributes attributes)
+    {
+        return capacity > 0L &&
+            attributes != null &&
+            attributes.isRegularFile() &&
+            attributes.size() <= entryMax;
+    }
+
+    private void evict(
+        long required)
+    {
+        final Iterator<Content> iterator = contents.values().iterator();
+        while (size + required > capacity && iterator.hasNext())
+        {
+            final Content content = iterator.next();
+            iterator.remove();
+            size -= content.size;
+            content.release();
+        }
+    }
+
+    private ByteBuffer copy(
+        FileChannel channel,
+        int length) throws IOException
+    {
+        final ByteBuffer bytes = ByteBuffer.allocate(length);
+        while (bytes.hasRemaining())
+        {
+            if (channel.read(bytes) == -1)
+            {
+                throw new IOException("truncated");
+            }
+        }
+
+        return bytes.flip();
+    }
+
+    private String calculateTag(
+        ByteBuffer bytes,
+        int length)
+    {
+        final MessageDigest md5 = initMessageDigest("MD5");
+        md5.update(bytes.slice(0, length));
+        return BitUtil.toHex(md5.digest());
+    }
+
+    private static MessageDigest initMessageDigest(
+        String algorithm)
+    {
+        MessageDigest messageDigest = null;
+        try
+        {
+            messageDigest = MessageDigest.getInstance(algorithm);
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            rethrowUnchecked(ex);
+        }
+        return messageDigest;
+    }
+
+    public static final class Content
+    {
+        public final long modifiedAt;
+        public final long size;
+        public final DirectBuffer buffer;
+        public final String tag;
+
+        private final MappedByteBuffer mapped;
+
+        private int references;
+
+        private Content(
+            long modifiedAt,
+            long size,
+            DirectBuffer buffer,
+            String tag,
+            MappedByteBuffer mapped)
+        {
+            this.modifiedAt = modifiedAt;
+            this.size = size;
+            this.buffer = buffer;
+            this.tag = tag;
+            this.mapped = mapped;
+            this.references = 1;
+        }
+
+        public boolean mapped()
+        {
+            return mapped != null;
+        }
+
+        public boolean matches(
+            BasicFileAttributes attributes)
+        {
+            return attributes != null &&
+                attributes.size() == size &&
+                attributes.lastModifiedTime().toMillis() == modifiedAt;
+        }
+
+        public void release()
+        {
+            assert references > 0;
+
+            if (--references == 0 && mapped != null)
+            {
+                IoUtil.unmap(mapped);
+            }
+        }
+
+        int references()
+        {
+            return references;
+        }
+
+        private void acquire()
+        {
+            assert references > 0;
+
+            references++;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import static org.agrona.LangUtil.rethrowUnchecked;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
@@ -45,6 +46,11 @@ import java.nio.file.attribute.BasicFileAttributeView;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
@@ -103,6 +109,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
     private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
     private static final int TIMEOUT_EXPIRED_SIGNAL_ID = 0;
     public static final int FILE_CHANGED_SIGNAL_ID = 1;
+    private static final int IO_COMPLETED_SIGNAL_ID = 2;
     private static final int FLAG_FIN = 0x01;
     private static final int FLAG_INIT = 0x02;
     private static final String DIRECTORY_NAME = "directory";
@@ -141,18 +148,25 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
     private final LongUnaryOperator supplyReplyId;
     private final int fileSystemTypeId;
     private final URI serverRoot;
-    private final MessageDigest md5;
     private final Signaler signaler;
     private final Supplier<FileSystemWatcher> supplyWatcher;
+    private final Supplier<ExecutorService> supplyIoExecutor;
+    private final EngineContext context;
+    private final FileSystemContentCache contentCache;
+    private final Deque<Runnable> ioPending;
 
     private final int decodeMax;
+    private final int ioQueueLimit;
 
     private FileSystemWatcher fileSystemWatcher;
+    private ExecutorService ioExecutor;
+    private int ioQueued;
 
     public FileSystemServerFactory(
         FileSystemConfiguration config,
         EngineContext context,
-        Supplier<FileSystemWatcher> supplyWatcher)
+        Supplier<FileSystemWatcher> supplyWatcher,
+        Supplier<ExecutorService> supplyIoExecutor)
     {
         this.bufferPool = context.bufferPool();
         this.serverRoot = config.serverRoot();
@@ -166,18 +180,24 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         this.fileSystemTypeId = context.supplyTypeId(FileSystemBinding.NAME);
         this.bindings = new Long2ObjectHashMap<>();
         this.signaler = context.signaler();
-        this.md5 = initMessageDigest("MD5");
         this.supplyWatcher = supplyWatcher;
+        this.supplyIoExecutor = supplyIoExecutor;
         this.decodeMax = bufferPool.slotCapacity();
+        this.context = context;
+        this.contentCache = new FileSystemContentCache(
+            config.serverCacheCapacity(), config.serverCacheEntryMax(), decodeMax, readBuffer.capacity());
+        this.ioQueueLimit = config.serverIoQueueLimit();
+        this.ioPending = new ArrayDeque<>();
     }
 
     @Override
     public void attach(
         BindingConfig binding)
     {
-        FileSystemBindingConfig fsBinding = new FileSystemBindingConfig(binding);
+        FileSystemBindingConfig fsBinding = new FileSystemBindingConfig(binding, context);
         bindings.put(binding.id, fsBinding);
         fileSystemWatcher = supplyWatcher.get();
+        ioExecutor = supplyIoExecutor.get();
     }
 
     @Override
@@ -293,6 +313,132 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         return contentType != null ? contentType : DEFAULT_CONTENT_TYPE;
     }
 
+    private void submitIo(
+        Runnable dispatch)
+    {
+        if (ioQueued < ioQueueLimit)
+        {
+            ioQueued++;
+            dispatch.run();
+        }
+        else
+        {
+            ioPending.add(dispatch);
+        }
+    }
+
+    private void releaseIo()
+    {
+        assert ioQueued > 0;
+        ioQueued--;
+
+        final Runnable dispatch = ioPending.poll();
+        if (dispatch != null)
+        {
+            ioQueued++;
+            dispatch.run();
+        }
+    }
+
+    private final class FileSystemIoTask
+    {
+        private final long originId;
+        private final long routedId;
+        private final long streamId;
+
+        private Runnable dispatch;
+        private LongConsumer completed;
+        private Future<?> future;
+        private boolean dispatched;
+        private volatile long duration;
+
+        private FileSystemIoTask(
+            long originId,
+            long routedId,
+            long streamId)
+        {
+            this.originId = originId;
+            this.routedId = routedId;
+            this.streamId = streamId;
+        }
+
+        private boolean active()
+        {
+            return dispatch != null;
+        }
+
+        private void submit(
+            long traceId,
+            Runnable task,
+            LongConsumer completed)
+        {
+            assert dispatch == null;
+
+            this.completed = completed;
+            this.dispatch = () ->
+            {
+                dispatched = true;
+                future = ioExecutor.submit(() -> execute(traceId, task));
+            };
+
+            submitIo(dispatch);
+        }
+
+        private void complete(
+            long traceId)
+        {
+            if (dispatched)
+            {
+                final LongConsumer completed = this.completed;
+
+                dispatched = false;
+                dispatch = null;
+                future = null;
+                this.completed = null;
+                releaseIo();
+
+                completed.accept(traceId);
+            }
+        }
+
+        private boolean cancel()
+        {
+            final boolean executing = dispatched && !future.cancel(false);
+
+            if (dispatched)
+            {
+                dispatched = false;
+                releaseIo();
+            }
+            else if (dispatch != null)
+            {
+                ioPending.remove(dispatch);
+            }
+
+            dispatch = null;
+            future = null;
+            completed = null;
+
+            return executing;
+        }
+
+        private void execute(
+            long traceId,
+            Runnable task)
+        {
+            final long startAt = System.nanoTime();
+            try
+            {
+                task.run();
+            }
+            finally
+            {
+                duration = System.nanoTime() - startAt;
+                signaler.signalNow(originId, routedId, streamId, traceId, IO_COMPLETED_SIGNAL_ID, 0);
+            }
+        }
+    }
+
     private final class FileSystemServerReader
     {
         private final MessageConsumer app;
@@ -309,6 +455,14 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         private final LinkOption[] symlinks;
         private FileSystemWatcher.WatchedFile watchedFile;
         private BasicFileAttributes attributes;
+        private FileSystemContentCache.Content content;
+        private final FileSystemIoTask ioTask;
+        private byte[] directory;
+        private volatile byte[] ioDirectory;
+        private volatile FileSystemContentCache.Content ioContent;
+        private volatile String ioTag;
+        private String resolvedTag;
+        private long timeout;
         private long initialSeq;
         private long initialAck;
         private int initialMax;
@@ -351,6 +505,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             this.resolvedPath = Paths.get(resolvedPath);
             this.capabilities = capabilities;
             this.tag = tag;
+            this.ioTask = new FileSystemIoTask(originId, routedId, replyId);
         }
 
         private void onAppMessage(
@@ -411,16 +566,24 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             state = FileSystemState.openingInitial(state);
 
+            timeout = beginEx != null ? beginEx.timeout() : 0L;
+
             doAppWindow(traceId);
-            String currentTag = calculateTag();
-            if (tag == null || tag.isEmpty() || !tag.equals(currentTag))
+            resolveTag(traceId, this::onBeginResolved);
+        }
+
+        private void onBeginResolved(
+            long traceId)
+        {
+            if (tag == null || tag.isEmpty() || !tag.equals(resolvedTag))
             {
-                doAppBegin(traceId, currentTag);
-                flushAppData(traceId);
+                flushAppBegin(traceId);
             }
             else
             {
-                long timeoutAt = now().toEpochMilli() + beginEx.timeout();
+                releaseContent();
+
+                long timeoutAt = now().toEpochMilli() + timeout;
                 long timeoutId = signaler.signalAt(timeoutAt, originId, routedId, replyId, traceId,
                     TIMEOUT_EXPIRED_SIGNAL_ID, 0);
                 watchedFile = new FileSystemWatcher.WatchedFile(
@@ -429,6 +592,20 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             }
         }
 
+        private void flushAppBegin(
+            long traceId)
+        {
+            if (!FileSystemState.replyOpening(state))
+            {
+                doAppBegin(traceId, resolvedTag);
+                flushAppData(traceId);
+            }
+            else
+            {
+                releaseContent();
+            }
+        }
+
         private BasicFileAttributes readAttributes()
         {
             BasicFileAttributes attributes = null;
@@ -444,15 +621,75 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             return attributes;
         }
 
+        private void resolveTag(
+            long traceId,
+            LongConsumer resolved)
+        {
+            releaseContent();
+            resolvedTag = null;
+
+            if (canReadPayload(capabilities))
+            {
+                final FileSystemBindingConfig binding = bindings.get(routedId);
+                final BasicFileAttributes attributes = readAttributes();
+                content = binding != null ? contentCache.lookup(resolvedPath, attributes) : null;
+
+                if (content != null)
+                {
+                    binding.cacheHits.accept(1L);
+                    resolvedTag = content.tag;
+                    resolved.accept(traceId);
+                }
+                else
+                {
+                    if (binding != null)
+                    {
+                        binding.cacheMisses.accept(1L);
+                    }
+
+                    ioTask.submit(traceId,
+                        () -> loadContent(binding != null, attributes),
+                        t -> onLoadCompleted(t, resolved));
+                }
+            }
+            else
+            {
+                resolved.accept(traceId);
+            }
+        }
+
+        private void loadContent(
+            boolean cacheable,
+            BasicFileAttributes attributes)
+        {
+            final FileSystemContentCache.Content loaded = cacheable
+                ? contentCache.read(resolvedPath, attributes, symlinks)
+                : null;
+
+            ioTag = loaded != null ? loaded.tag : calculateTag();
+            ioContent = loaded;
+        }
+
+        private void onLoadCompleted(
+            long traceId,
+            LongConsumer resolved)
+        {
+            content = contentCache.store(resolvedPath, ioContent);
+            resolvedTag = ioTag;
+            ioContent = null;
+            ioTag = null;
+
+            resolved.accept(traceId);
+        }
+
         private String calculateTag()
         {
             String newTag = null;
-            try
+            try (InputStream input = getInputStream())
             {
-                InputStream input = getInputStream();
                 if (input != null)
                 {
-                    final byte[] readArray = readBuffer.byteArray();
+                    final byte[] readArray = new byte[readBuffer.capacity()];
                     int bytesRead = input.read(readArray, 0, readArray.length);
                     newTag = calculateHash(readArray, 0, Math.max(bytesRead, 0));
                 }
@@ -483,7 +720,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             int offset,
             int length)
         {
-            md5.reset();
+            final MessageDigest md5 = initMessageDigest("MD5");
             md5.update(input, offset, length);
             byte[] hash = md5.digest();
             return BitUtil.toHex(hash);
@@ -521,6 +758,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             state = FileSystemState.closeInitial(state);
 
+            ioTask.cancel();
+            releaseContent();
             doAppAbort(traceId);
         }
 
@@ -574,6 +813,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             state = FileSystemState.closeReply(state);
 
+            ioTask.cancel();
+            releaseContent();
             doAppReset(traceId);
         }
 
@@ -585,15 +826,20 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             {
             case FILE_CHANGED_SIGNAL_ID:
                 flushAppData(traceId);
+                fileSystemWatcher.unregister(watchedFile);
                 break;
             case TIMEOUT_EXPIRED_SIGNAL_ID:
+                ioTask.cancel();
                 doAppBegin(traceId, tag, 0);
                 doAppEnd(traceId);
+                fileSystemWatcher.unregister(watchedFile);
+                break;
+            case IO_COMPLETED_SIGNAL_ID:
+                ioTask.complete(traceId);
                 break;
             default:
                 break;
             }
-            fileSystemWatcher.unregister(watchedFile);
         }
 
         private void doAppBegin(
@@ -694,62 +940,30 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             if (!FileSystemState.replyOpening(state))
             {
-                String newTag = calculateTag();
-                doAppBegin(traceId, newTag);
+                if (!ioTask.active())
+                {
+                    resolveTag(traceId, this::flushAppBegin);
+                }
             }
-
-            if (replyWin > 0)
+            else if (replyWin > 0)
             {
                 try
                 {
                     if (canReadDirectory(capabilities))
                     {
-                        try (Jsonb jsonb = JsonbBuilder.create();
-                             Stream<Path> list = Files.list(resolvedPath))
+                        if (directory != null)
                         {
-                            String response = jsonb.toJson(
-                                list.map(path -> new FileSystemObject(
-                                        path.getFileName().toString(),
-                                        Files.isDirectory(path) ? DIRECTORY_NAME : FILE_NAME))
-                                    .toList());
-                            byte[] responseBytes = response.getBytes(StandardCharsets.UTF_8);
-                            int size = responseBytes.length;
-
-                            if (size > 0)
-                            {
-                                directoryBuffer.wrap(responseBytes);
-
-                                int reserved = Math.min(replyWin, size + replyPad);
-                                int length = Math.max(reserved - replyPad, 0);
-
-                                if (length > 0 && replyDebIndex != NO_DEBITOR_INDEX && replyDeb != null)
-                                {
-                                    final int minimum = Math.min(bufferPool.slotCapacity(), reserved);
-                                    reserved = replyDeb.claim(traceId, replyDebIndex, replyId, minimum, reserved, 0);
-                                    length = Math.max(reserved - replyPad, 0);
-                                }
-
-                                if (length > 0)
-                                {
-                                    OctetsFW payload = payloadRO.wrap(directoryBuffer, 0, size);
-
-                                    doAppData(traceId, reserved, payload);
-
-                                    replyBytes += size;
-
-                                    if (replyBytes == size)
-                                    {
-                                        replyBytes = 0;
-                                        doAppEnd(traceId);
-                                    }
-                                }
-                            }
-                            else
-                            {
-                                doAppEnd(traceId);
-                            }
+                            flushAppDirectory(traceId, replyWin);
+                        }
+                        else if (!ioTask.active())
+                        {
+                            ioTask.submit(traceId, this::listDirectory, this::onListCompleted);
                         }
                     }
+                    else if (content != null)
+                    {
+                        flushAppContent(traceId, replyWin);
+                    }
                     else
                     {
                         InputStream input = getInputStream();
@@ -803,10 +1017,140 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                 }
                 catch (Exception ex)
                 {
+                    releaseContent();
                     doAppAbort(traceId);
                 }
             }
         }
+
+        private void listDirectory()
+        {
+            byte[] listing = null;
+
+            try (Jsonb jsonb = JsonbBuilder.create();
+                 Stream<Path> list = Files.list(resolvedPath))
+            {
+                String response = jsonb.toJson(
+                    list.map(path -> new FileSystemObject(
+                            path.getFileName().toString(),
+                            Files.isDirectory(path) ? DIRECTORY_NAME : FILE_NAME))
+                        .toList());
+                listing = response.getBytes(StandardCharsets.UTF_8);
+            }
+            catch (Exception ex)
+            {
+                // reject
+            }
+
+            ioDirectory = listing;
+        }
+
+        private void onListCompleted(
+            long traceId)
+        {
+            final FileSystemBindingConfig binding = bindings.get(routedId);
+            if (binding != null)
+            {
+                binding.listDuration.accept(ioTask.duration);
+            }
+
+            directory = ioDirectory;
+            ioDirectory = null;
+
+            if (directory != null)
+            {
+                flushAppData(traceId);
+            }
+            else
+            {
+                doAppAbort(traceId);
+            }
+        }
+
+        private void flushAppDirectory(
+            long traceId,
+            int replyWin)
+        {
+            final int size = directory.length;
+            final int available = size - (int) replyBytes;
+
+            if (available > 0)
+            {
+                int reserved = Math.min(replyWin, Math.min(available, decodeMax) + replyPad);
+                int length = Math.max(reserved - replyPad, 0);
+
+                if (length > 0 && replyDebIndex != NO_DEBITOR_INDEX && replyDeb != null)
+                {
+                    final int minimum = Math.min(bufferPool.slotCapacity(), reserved);
+                    reserved = replyDeb.claim(traceId, replyDebIndex, replyId, minimum, reserved, 0);
+                    length = Math.max(reserved - replyPad, 0);
+                }
+
+                if (length > 0)
+                {
+                    final int offset = (int) replyBytes;
+                    directoryBuffer.wrap(directory);
+                    OctetsFW payload = payloadRO.wrap(directoryBuffer, offset, offset + length);
+
+                    doAppData(traceId, reserved, payload);
+
+                    replyBytes += length;
+                }
+            }
+
+            if (replyBytes == size)
+            {
+                replyBytes = 0;
+                directory = null;
+                doAppEnd(traceId);
+            }
+        }
+
+        private void releaseContent()
+        {
+            if (content != null)
+            {
+                content.release();
+                content = null;
+            }
+        }
+
+        private void flushAppContent(
+            long traceId,
+            int replyWin)
+        {
+            final long available = content.size - replyBytes;
+
+            if (available > 0)
+            {
+                int reserved = (int) Math.min(replyWin, Math.min(available, decodeMax) + replyPad);
+                int length = Math.max(reserved - replyPad, 0);
+
+                if (length > 0 && replyDebIndex != NO_DEBITOR_INDEX && replyDeb != null)
+                {
+                    final int minimum = Math.min(bufferPool.slotCapacity(), reserved);
+                    reserved = replyDeb.claim(traceId, replyDebIndex, replyId, minimum, reserved, 0);
+                    length = Math.max(reserved - replyPad, 0);
+                }
+
+                if (length > 0)
+                {
+                    final int offset = (int) replyBytes;
+                    OctetsFW payload = payloadRO.wrap(content.buffer, offset, offset + length);
+
+                    doAppData(traceId, reserved, payload);
+
+                    replyBytes += length;
+                }
+            }
+
+            if (replyBytes == content.size)
+            {
+                replyBytes = 0;
+                releaseContent();
+                doAppEnd(traceId);
+            }
+        }
     }
 
     private final class FileSystemServerWriter
@@ -835,6 +1179,20 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
         private int state;
 
+        private final FileSystemIoTask ioTask;
+        private FileSystemError ioError;
+        private boolean ioFailed;
+        private boolean ioProcessed;
+        private String ioTag;
+        private byte[] ioArray;
+        private int ioLimit;
+        private int ioFlags;
+        private long ioReserved;
+        private int ioWriteLength;
+        private int ioWriteFlags;
+        private long ioWriteReserved;
+        private volatile boolean ioCancelled;
+
         private ByteChannel out;
         private Path tmpPath;
 
@@ -864,6 +1222,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             this.capabilities = capabilities;
             this.tag = tag != null && !tag.isEmpty() ? tag : null;
             this.initialMax = decodeMax;
+            this.ioTask = new FileSystemIoTask(originId, routedId, replyId);
         }
 
         private void onAppMessage(
@@ -898,6 +1257,10 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                 final ResetFW reset = resetRO.wrap(buffer, index, index + length);
                 onAppReset(reset);
                 break;
+            case SignalFW.TYPE_ID:
+                final SignalFW signal = signalRO.wrap(buffer, index, index + length);
+                onAppSignal(signal);
+                break;
             default:
                 break;
             }
@@ -921,9 +1284,25 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             state = FileSystemState.openingInitial(state);
 
-            FileSystemError error = detectErrorCondition(traceId);
+            ioTask.submit(traceId, this::processOperation, this::onOperationCompleted);
+        }
 
-            if (error != null)
+        private void onOperationCompleted(
+            long traceId)
+        {
+            final FileSystemBindingConfig binding = bindings.get(routedId);
+            if (binding != null)
+            {
+                binding.operationDuration.accept(ioTask.duration);
+            }
+
+            final FileSystemError error = ioError;
+
+            if (ioFailed)
+            {
+                cleanup(traceId);
+            }
+            else if (error != null)
             {
                 errorExRW.wrap(errorBuffer, 0, errorBuffer.capacity()).set(error);
 
@@ -937,12 +1316,22 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             }
             else
             {
-                processOperation(traceId);
+                if (ioProcessed)
+                {
+                    contentCache.invalidate(resolvedPath);
+                }
+
+                doAppWindow(traceId);
+
+                if (ioProcessed)
+                {
+                    doAppBegin(traceId, null);
+                    doAppEnd(traceId);
+                }
             }
         }
 
-        private FileSystemError detectErrorCondition(
-            long traceId)
+        private FileSystemError detectErrorCondition()
         {
             FileSystemError error = null;
 
@@ -1005,7 +1394,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                     }
                     catch (Exception ex)
                     {
-                        cleanup(traceId);
+                        ioFailed = true;
                     }
                 }
             }
@@ -1038,36 +1427,113 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             }
             else
             {
-                try
+                if (ioArray == null)
                 {
-                    if ((flags & FLAG_INIT) != 0x00)
-                    {
-                        out = getOutputStream();
-                    }
+                    ioArray = new byte[initialMax];
+                }
 
-                    assert out != null;
+                payload.buffer().getBytes(offset, ioArray, ioLimit, length);
+                ioLimit += length;
+                ioReserved += reserved;
+                ioFlags |= flags;
 
-                    out.write(payload.buffer().byteBuffer().slice(offset, length));
+                flushAppWrite(traceId);
+            }
+        }
 
-                    if ((flags & FLAG_FIN) != 0x00)
-                    {
-                        out.close();
+        private void flushAppWrite(
+            long traceId)
+        {
+            if (!ioTask.active() && (ioLimit > 0 || ioFlags != 0))
+            {
+                final ByteBuffer content = ByteBuffer.wrap(ioArray, 0, ioLimit);
+                final int flags = ioFlags;
 
-                        if ((capabilities & WRITE_FILE_MASK) != 0)
-                        {
-                            Files.move(tmpPath, resolvedPath, REPLACE_EXISTING, ATOMIC_MOVE);
-                        }
+                ioWriteLength = ioLimit;
+                ioWriteReserved = ioReserved;
+                ioWriteFlags = flags;
+                ioReserved = 0L;
+                ioFlags = 0;
+
+                ioTask.submit(traceId, () -> writeContent(content, flags), this::onWriteCompleted);
+            }
+        }
+
+        private void writeContent(
+            ByteBuffer content,
+            int flags)
+        {
+            try
+            {
+                if ((flags & FLAG_INIT) != 0x00)
+                {
+                    out = getOutputStream();
+                }
 
-                        String currentTag = calculateTag();
-                        doAppBegin(traceId, currentTag);
-                        doAppEnd(traceId);
+                assert out != null;
+
+                while (content.hasRemaining())
+                {
+                    out.write(content);
+                }
+
+                if ((flags & FLAG_FIN) != 0x00)
+                {
+                    out.close();
+
+                    if ((capabilities & WRITE_FILE_MASK) != 0)
+                    {
+                        Files.move(tmpPath, resolvedPath, REPLACE_EXISTING, ATOMIC_MOVE);
                     }
-                    doAppWindow(traceId);
+
+                    ioTag = calculateTag();
                 }
-                catch (Exception ex)
+            }
+            catch (Exception ex)
+            {
+                ioFailed = true;
+            }
+
+            if (ioCancelled)
+            {
+                closeOutputQuietly();
+                cleanupTmpFileIfExists();
+            }
+        }
+
+        private void onWriteCompleted(
+            long traceId)
+        {
+            final FileSystemBindingConfig binding = bindings.get(routedId);
+            if (binding != null)
+            {
+                binding.writeDuration.accept(ioTask.duration);
+            }
+
+            if (ioFailed)
+            {
+                cleanup(traceId);
+            }
+            else
+            {
+                initialAck += ioWriteReserved;
+                System.arraycopy(ioArray, ioWriteLength, ioArray, 0, ioLimit - ioWriteLength);
+                ioLimit -= ioWriteLength;
+                ioWriteLength = 0;
+                ioWriteReserved = 0L;
+
+                assert initialAck <= initialSeq;
+
+                if ((ioWriteFlags & FLAG_FIN) != 0x00)
                 {
-                    cleanup(traceId);
+                    contentCache.invalidate(resolvedPath);
+
+                    doAppBegin(traceId, ioTag);
+                    doAppEnd(traceId);
                 }
+                doAppWindow(traceId);
+
+                flushAppWrite(traceId);
             }
         }
 
@@ -1103,7 +1569,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             state = FileSystemState.closeInitial(state);
 
-            cleanupTmpFileIfExists();
+            cancelIo();
 
             doAppAbort(traceId);
         }
@@ -1151,11 +1617,26 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             state = FileSystemState.closeReply(state);
 
-            cleanupTmpFileIfExists();
+            cancelIo();
 
             doAppReset(traceId, EMPTY_EXTENSION);
         }
 
+        private void onAppSignal(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+
+            switch (signal.signalId())
+            {
+            case IO_COMPLETED_SIGNAL_ID:
+                ioTask.complete(traceId);
+                break;
+            default:
+                break;
+            }
+        }
+
         private void doAppBegin(
             long traceId,
             String tag)
@@ -1229,12 +1710,38 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         private void cleanup(
             long traceId)
         {
-            cleanupTmpFileIfExists();
+            cancelIo();
 
             doAppAbort(traceId);
             doAppReset(traceId, EMPTY_EXTENSION);
         }
 
+        private void cancelIo()
+        {
+            ioCancelled = true;
+
+            if (!ioTask.cancel())
+            {
+                closeOutputQuietly();
+                cleanupTmpFileIfExists();
+            }
+        }
+
+        private void closeOutputQuietly()
+        {
+            if (out != null)
+            {
+                try
+                {
+                    out.close();
+                }
+                catch (IOException ex)
+                {
+                    // ignore
+                }
+            }
+        }
+
         private void cleanupTmpFileIfExists()
         {
             if (tmpPath != null)
@@ -1253,19 +1760,18 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         private String calculateTag()
         {
             String newTag = null;
-            try
+            try (InputStream input = getInputStream())
             {
-                InputStream input = getInputStream();
                 if (input != null)
                 {
-                    md5.reset();
+                    final MessageDigest digest = initMessageDigest("MD5");
+                    final byte[] readArray = new byte[readBuffer.capacity()];
                     while (input.available() > 0)
                     {
-                        final byte[] readArray = readBuffer.byteArray();
                         int bytesRead = input.read(readArray, 0, readArray.length);
-                        md5.update(readArray, 0, Math.max(bytesRead, 0));
+                        digest.update(readArray, 0, Math.max(bytesRead, 0));
                     }
-                    byte[] hash = md5.digest();
+                    byte[] hash = digest.digest();
                     newTag = BitUtil.toHex(hash);
                 }
             }
@@ -1317,35 +1823,30 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             return output;
         }
 
-        private void processOperation(
-            long traceId)
+        private void processOperation()
         {
-            try
+            ioError = detectErrorCondition();
+
+            if (!ioFailed && ioError == null)
             {
-                boolean processed = false;
-                if ((capabilities & DELETE_FILE_MASK) != 0 || (capabilities & DELETE_DIRECTORY_MASK) != 0)
-                {
-                    Files.delete(resolvedPath);
-                    processed = true;
-                }
-                else if ((capabilities & CREATE_DIRECTORY_MASK) != 0)
+                try
                 {
-                    Files.createDirectory(resolvedPath);
-                    processed = true;
+                    if ((capabilities & DELETE_FILE_MASK) != 0 || (capabilities & DELETE_DIRECTORY_MASK) != 0)
+                    {
+                        Files.delete(resolvedPath);
+                        ioProcessed = true;
+                    }
+                    else if ((capabilities & CREATE_DIRECTORY_MASK) != 0)
+                    {
+                        Files.createDirectory(resolvedPath);
+                        ioProcessed = true;
+                    }
                 }
-
-                doAppWindow(traceId);
-
-                if (processed)
+                catch (IOException ex)
                 {
-                    doAppBegin(traceId, null);
-                    doAppEnd(traceId);
+                    ioFailed = true;
                 }
             }
-            catch (IOException ex)
-            {
-                cleanup(traceId);
-            }
         }
     }
 
@@ -24,4 +24,7 @@ module io.aklivity.zilla.runtime.binding.filesystem
 
     provides io.aklivity.zilla.runtime.engine.config.OptionsConfigAdapterSpi
         with io.aklivity.zilla.runtime.binding.filesystem.internal.config.FileSystemOptionsConfigAdapter;
+
+    provides io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactorySpi
+        with io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemMetricGroupFactorySpi;
 }
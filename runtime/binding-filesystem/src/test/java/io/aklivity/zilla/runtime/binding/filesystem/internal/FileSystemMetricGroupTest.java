@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Collection;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemCacheHitsMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemCacheMissesMetric;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.metrics.FileSystemWriteDurationMetric;
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public class FileSystemMetricGroupTest
+{
+    @Test
+    public void shouldReturnMetricNames()
+    {
+        MetricGroup metricGroup = new FileSystemMetricGroup(new Configuration());
+
+        Collection<String> metricNames = metricGroup.metricNames();
+
+        assertThat(metricNames, containsInAnyOrder(
+            "filesystem.cache.hits",
+            "filesystem.cache.misses",
+            "filesystem.list.duration",
+            "filesystem.write.duration",
+            "filesystem.operation.duration"));
+    }
+
+    @Test
+    public void shouldResolveCacheHits()
+    {
+        MetricGroup metricGroup = new FileSystemMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("filesystem.cache.hits");
+
+        assertThat(metric, instanceOf(FileSystemCacheHitsMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.COUNTER));
+        assertThat(metric.unit(), equalTo(Metric.Unit.COUNT));
+    }
+
+    @Test
+    public void shouldResolveCacheMisses()
+    {
+        MetricGroup metricGroup = new FileSystemMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("filesystem.cache.misses");
+
+        assertThat(metric, instanceOf(FileSystemCacheMissesMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.COUNTER));
+        assertThat(metric.unit(), equalTo(Metric.Unit.COUNT));
+    }
+
+    @Test
+    public void shouldResolveWriteDuration()
+    {
+        MetricGroup metricGroup = new FileSystemMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("filesystem.write.duration");
+
+        assertThat(metric, instanceOf(FileSystemWriteDurationMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.HISTOGRAM));
+        assertThat(metric.unit(), equalTo(Metric.Unit.NANOSECONDS));
+    }
+
+    @Test
+    public void shouldNotResolveUnknownMetric()
+    {
+        MetricGroup metricGroup = new FileSystemMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("filesystem.unknown");
+
+        assertThat(metric, nullValue());
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal.stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileSystemContentCacheTest
+{
+    private static final LinkOption[] SYMLINKS = new LinkOption[0];
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldLoadAndLookupContent() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(1024L, 1024L, 0L, 1024);
+        Path path = write("index.html", "<html>Hello</html>");
+
+        assertNull(cache.lookup(path, attributes(path)));
+
+        FileSystemContentCache.Content content = load(cache, path);
+
+        assertNotNull(content);
+        assertEquals(18L, content.size);
+        assertEquals("<html>Hello</html>", content.buffer.getStringWithoutLengthUtf8(0, 18));
+        assertEquals("63647265888cc05761e0dedc229271b4", content.tag);
+        assertSame(content, cache.lookup(path, attributes(path)));
+        assertEquals(18L, cache.size());
+    }
+
+    @Test
+    public void shouldReadContentWithoutStoring() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(1024L, 1024L, 0L, 1024);
+        Path path = write("index.html", "<html>Hello</html>");
+
+        FileSystemContentCache.Content content = cache.read(path, attributes(path), SYMLINKS);
+
+        assertNotNull(content);
+        assertEquals(1, content.references());
+        assertEquals(0, cache.entries());
+        assertNull(cache.lookup(path, attributes(path)));
+
+        assertSame(content, cache.store(path, content));
+        assertEquals(2, content.references());
+        assertEquals(18L, cache.size());
+    }
+
+    @Test
+    public void shouldInvalidateModifiedContent() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(1024L, 1024L, 0L, 1024);
+        Path path = write("index.html", "<html>Hello</html>");
+
+        FileSystemContentCache.Content content = load(cache, path);
+
+        write("index.html", "<html>Hello, world</html>");
+        Files.setLastModifiedTime(path, FileTime.fromMillis(content.modifiedAt + 1000L));
+
+        assertNull(cache.lookup(path, attributes(path)));
+        assertEquals(0, cache.entries());
+        assertEquals(0L, cache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedContent() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(16L, 16L, 0L, 1024);
+        Path first = write("first.txt", "0123456789");
+        Path second = write("second.txt", "abcdefghij");
+
+        load(cache, first);
+        load(cache, second);
+
+        assertNull(cache.lookup(first, attributes(first)));
+        assertNotNull(cache.lookup(second, attributes(second)));
+        assertEquals(1, cache.entries());
+        assertEquals(10L, cache.size());
+    }
+
+    @Test
+    public void shouldNotLoadContentExceedingEntryMax() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(1024L, 8L, 0L, 1024);
+        Path path = write("large.txt", "0123456789");
+
+        assertNull(cache.read(path, attributes(path), SYMLINKS));
+        assertEquals(0, cache.entries());
+    }
+
+    @Test
+    public void shouldNotLoadDirectory() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(1024L, 1024L, 0L, 1024);
+        Path path = folder.newFolder("directory").toPath();
+
+        assertNull(cache.read(path, attributes(path), SYMLINKS));
+    }
+
+    @Test
+    public void shouldCopyContentWithinCopyMax() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(1024L, 1024L, 64L, 1024);
+        Path path = write("index.html", "<html>Hello</html>");
+
+        FileSystemContentCache.Content content = load(cache, path);
+
+        assertFalse(content.mapped());
+
+        write("index.html", "<html>Bye</html>");
+
+        assertEquals("<html>Hello</html>", content.buffer.getStringWithoutLengthUtf8(0, 18));
+    }
+
+    @Test
+    public void shouldMapContentExceedingCopyMax() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(1024L, 1024L, 8L, 1024);
+        Path path = write("index.html", "<html>Hello</html>");
+
+        FileSystemContentCache.Content content = load(cache, path);
+
+        assertTrue(content.mapped());
+        assertTrue(content.matches(attributes(path)));
+    }
+
+    @Test
+    public void shouldRetainEvictedContentUntilReleased() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(16L, 16L, 0L, 1024);
+        Path first = write("first.txt", "0123456789");
+        Path second = write("second.txt", "abcdefghij");
+
+        FileSystemContentCache.Content content = load(cache, first);
+        assertEquals(2, content.references());
+
+        load(cache, second).release();
+
+        assertEquals(1, content.references());
+        assertEquals("0123456789", content.buffer.getStringWithoutLengthUtf8(0, 10));
+
+        content.release();
+
+        assertEquals(0, content.references());
+    }
+
+    @Test
+    public void shouldAcquireContentOnLookup() throws Exception
+    {
+        FileSystemContentCache cache = new FileSystemContentCache(1024L, 1024L, 0L, 1024);
+        Path path = write("index.html", "<html>Hello</html>");
+
+        FileSystemContentCache.Content content = load(cache, path);
+        content.release();
+
+        assertSame(content, cache.lookup(path, attributes(path)));
+        assertEquals(2, content.references());
+
+        cache.invalidate(path);
+
+        assertEquals(1, content.references());
+    }
+
+    private FileSystemContentCache.Content load(
+        FileSystemContentCache cache,
+        Path path) throws Exception
+    {
+        return cache.store(path, cache.read(path, attributes(path), SYMLINKS));
+    }
+
+    private Path write(
+        String name,
+        String text) throws Exception
+    {
+        return Files.write(folder.getRoot().toPath().resolve(name), text.getBytes(UTF_8));
+    }
+
+    private static BasicFileAttributes attributes(
+        Path path) throws Exception
+    {
+        return Files.readAttributes(path, BasicFileAttributes.class);
+    }
+}
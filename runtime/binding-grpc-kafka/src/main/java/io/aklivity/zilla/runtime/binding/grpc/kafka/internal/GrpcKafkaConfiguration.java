@@ -14,15 +14,29 @@
  */
 package io.aklivity.zilla.runtime.binding.grpc.kafka.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.agrona.LangUtil;
+
 import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class GrpcKafkaConfiguration extends Configuration
 {
+    public static final BooleanPropertyDef REPLY_SHARED;
+    public static final PropertyDef<StringSupplier> CORRELATION_ID;
+
     private static final ConfigurationDef GRPC_KAFKA_CONFIG;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.grpc.kafka");
+        REPLY_SHARED = config.property("reply.shared", false);
+        CORRELATION_ID = config.property(StringSupplier.class, "correlation.id",
+            GrpcKafkaConfiguration::decodeStringSupplier, GrpcKafkaConfiguration::defaultCorrelationId);
         GRPC_KAFKA_CONFIG = config;
     }
 
@@ -31,4 +45,59 @@ public class GrpcKafkaConfiguration extends Configuration
     {
         super(GRPC_KAFKA_CONFIG, config);
     }
+
+    @FunctionalInterface
+    public interface StringSupplier extends Supplier<String>
+    {
+    }
+
+    public boolean replyShared()
+    {
+        return REPLY_SHARED.getAsBoolean(this);
+    }
+
+    public Supplier<String> correlationId()
+    {
+        return CORRELATION_ID.get(this);
+    }
+
+    private static StringSupplier decodeStringSupplier(
+        String fullyQualifiedMethodName)
+    {
+        StringSupplier supplier = null;
+
+        try
+        {
+            MethodType signature = MethodType.methodType(String.class);
+            String[] parts = fullyQualifiedMethodName.split("::");
+            Class<?> ownerClass = Class.forName(parts[0]);
+            String methodName = parts[1];
+            MethodHandle method = MethodHandles.publicLookup().findStatic(ownerClass, methodName, signature);
+            supplier = () ->
+            {
+                String value = null;
+                try
+                {
+                    value = (String) method.invoke();
+                }
+                catch (Throwable ex)
+                {
+                    LangUtil.rethrowUnchecked(ex);
+                }
+
+                return value;
+            };
+        }
+        catch (Throwable ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return supplier;
+    }
+
+    private static String defaultCorrelationId()
+    {
+        return UUID.randomUUID().toString();
+    }
 }
@@ -63,6 +63,7 @@ public class GrpcKafkaWithProduceResult
     private final String16FW method;
     private final Array32FW<GrpcMetadataFW> metadata;
     private final ExpandableDirectByteBuffer nameBuffer;
+    private final boolean replayable;
 
     GrpcKafkaWithProduceResult(
         String16FW service,
@@ -74,7 +75,8 @@ public class GrpcKafkaWithProduceResult
         List<GrpcKafkaWithProduceOverrideResult> overrides,
         String16FW replyTo,
         GrpcKafkaCorrelationConfig correlation,
-        GrpcKafkaWithProduceHash hash)
+        GrpcKafkaWithProduceHash hash,
+        boolean replayable)
     {
         this.service = service;
         this.method = method;
@@ -86,6 +88,7 @@ public class GrpcKafkaWithProduceResult
         this.acks = acks;
         this.keyRef = keyRef;
         this.hash = hash;
+        this.replayable = replayable;
         this.nameBuffer = new ExpandableDirectByteBuffer();
         this.nameBuffer.putStringWithoutLengthAscii(0, META_PREFIX);
 
@@ -113,6 +116,26 @@ public class GrpcKafkaWithProduceResult
         return replyTo;
     }
 
+    public boolean replayable()
+    {
+        return replayable;
+    }
+
+    public DirectBuffer correlationId()
+    {
+        final OctetsFW correlationId = hash.correlationId();
+        final byte[] bytes = new byte[correlationId.sizeof()];
+        correlationId.buffer().getBytes(correlationId.offset(), bytes);
+        return new UnsafeBuffer(bytes);
+    }
+
+    public OctetsFW correlationId(
+        Array32FW<KafkaHeaderFW> headers)
+    {
+        final KafkaHeaderFW header = headers.matchFirst(h -> correlation.correlationId.value().equals(h.name().value()));
+        return header != null ? header.value() : null;
+    }
+
     public void partitions(
         Array32FW.Builder<KafkaOffsetFW.Builder, KafkaOffsetFW> builder)
     {
@@ -16,7 +16,6 @@ package io.aklivity.zilla.runtime.binding.grpc.kafka.internal.config;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
@@ -53,16 +52,19 @@ public final class GrpcKafkaWithResolver
 
     private final Varuint32FW fieldId;
     private final GrpcKafkaOptionsConfig options;
+    private final Supplier<String> supplyCorrelationId;
     private final LongObjectBiFunction<MatchResult, String> identityReplacer;
     private final GrpcKafkaWithConfig with;
     private final Matcher identityMatcher;
 
     public GrpcKafkaWithResolver(
         GrpcKafkaOptionsConfig options,
+        Supplier<String> supplyCorrelationId,
         LongObjectBiFunction<MatchResult, String> identityReplacer,
         GrpcKafkaWithConfig with)
     {
         this.options = options;
+        this.supplyCorrelationId = supplyCorrelationId;
         this.identityReplacer = identityReplacer;
         this.with = with;
         this.identityMatcher = IDENTITY_PATTERN.matcher("");
@@ -161,6 +163,8 @@ public final class GrpcKafkaWithResolver
         final String16FW method = new String16FW(beginEx.method().asString());
 
         OctetsFW correlationId = resolveCorrelationId(metadata);
+        final boolean replayable = metadata.anyMatch(m ->
+            options.idempotency.metadata.value().compareTo(m.name().value()) == 0);
         Supplier<DirectBuffer> keyRef = resolveKey(authorization, produce);
 
         GrpcKafkaWithProduceHash hash = new GrpcKafkaWithProduceHash(octetsRW, dashOctetsRW, correlationId, hashBytesRW);
@@ -170,7 +174,7 @@ public final class GrpcKafkaWithResolver
         String16FW replyTo = new String16FW(produce.replyTo);
 
         return new GrpcKafkaWithProduceResult(service, method, metadata, topic, acks, keyRef, overrides, replyTo,
-            options.correlation, hash);
+            options.correlation, hash, replayable);
     }
 
     private OctetsFW resolveCorrelationId(
@@ -188,7 +192,7 @@ public final class GrpcKafkaWithResolver
         }
         else
         {
-            final byte[] newIdempotencyKey = UUID.randomUUID().toString().getBytes();
+            final byte[] newIdempotencyKey = supplyCorrelationId.get().getBytes();
             correlationId = new OctetsFW.Builder()
                 .wrap(new UnsafeBuffer(new byte[newIdempotencyKey.length]), 0, newIdempotencyKey.length)
                 .set(newIdempotencyKey)
@@ -20,12 +20,17 @@ import static io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream
 import static io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.GrpcType.TEXT;
 import static java.time.Instant.now;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.GrpcKafkaConfiguration;
@@ -37,6 +42,7 @@ import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.Array32FW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.KafkaHeaderFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.KafkaOffsetFW;
+import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.KafkaOffsetType;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.String16FW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.String8FW;
@@ -46,6 +52,7 @@ import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.BeginF
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.DataFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.EndFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.ExtensionFW;
+import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.FlushFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.GrpcAbortExFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.GrpcBeginExFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.GrpcDataExFW;
@@ -64,6 +71,7 @@ import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.util.Correlations;
 
 public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
 {
@@ -99,6 +107,7 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
     private final DataFW dataRO = new DataFW();
     private final EndFW endRO = new EndFW();
     private final AbortFW abortRO = new AbortFW();
+    private final FlushFW flushRO = new FlushFW();
 
     private final String16FW.Builder statusRW = new
         String16FW.Builder().wrap(new UnsafeBuffer(new byte[256], 0, 256), 0, 256);
@@ -140,11 +149,15 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
     private final BindingHandler streamFactory;
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
+    private final LongSupplier supplyTraceId;
     private final Signaler signaler;
+    private final boolean replyShared;
+    private final Supplier<String> supplyCorrelationId;
     private final int grpcTypeId;
     private final int kafkaTypeId;
 
     private final Long2ObjectHashMap<GrpcKafkaBindingConfig> bindings;
+    private final Long2ObjectHashMap<KafkaCorrelateDemux> demuxes;
 
     public GrpcKafkaProxyFactory(
         GrpcKafkaConfiguration config,
@@ -157,8 +170,12 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         this.streamFactory = context.streamFactory();
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
+        this.supplyTraceId = context::supplyTraceId;
         this.signaler = context.signaler();
+        this.replyShared = config.replyShared();
+        this.supplyCorrelationId = config.correlationId();
         this.bindings = new Long2ObjectHashMap<>();
+        this.demuxes = new Long2ObjectHashMap<>();
         this.grpcTypeId = context.supplyTypeId(GRPC_TYPE_NAME);
         this.kafkaTypeId = context.supplyTypeId(KAFKA_TYPE_NAME);
     }
@@ -179,7 +196,7 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
     public void attach(
         BindingConfig binding)
     {
-        GrpcKafkaBindingConfig newBinding = new GrpcKafkaBindingConfig(binding);
+        GrpcKafkaBindingConfig newBinding = new GrpcKafkaBindingConfig(binding, supplyCorrelationId);
         bindings.put(binding.id, newBinding);
     }
 
@@ -188,6 +205,14 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         long bindingId)
     {
         bindings.remove(bindingId);
+
+        if (!demuxes.isEmpty())
+        {
+            final long traceId = supplyTraceId.getAsLong();
+            new ArrayList<>(demuxes.values()).stream()
+                .filter(d -> d.originId == bindingId)
+                .forEach(d -> d.doKafkaClose(traceId, 0L));
+        }
     }
 
     @Override
@@ -1152,7 +1177,8 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             super(grpc, originId, routedId, initialId);
             this.resolvedId = resolvedId;
             this.producer = new KafkaProduceProxy(routedId, resolvedId, this, result);
-            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, result);
+            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, result,
+                replyShared && !result.replayable());
         }
 
         private void onGrpcMessage(
@@ -1943,6 +1969,10 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         private final long replyId;
         private final GrpcKafkaWithProduceResult result;
         private final GrpcProxy delegate;
+        private final boolean shared;
+
+        private KafkaCorrelateDemux demux;
+        private DirectBuffer correlationId;
 
         private int state;
 
@@ -1961,12 +1991,14 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             long originId,
             long routedId,
             GrpcProxy delegate,
-            GrpcKafkaWithProduceResult result)
+            GrpcKafkaWithProduceResult result,
+            boolean shared)
         {
             this.originId = originId;
             this.routedId = routedId;
             this.delegate = delegate;
             this.result = result;
+            this.shared = shared;
             this.initialId = supplyInitialId.applyAsLong(routedId);
             this.replyId = supplyReplyId.applyAsLong(initialId);
         }
@@ -1979,10 +2011,24 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             initialMax = delegate.initialMax;
             state = GrpcKafkaState.openingInitial(state);
 
-            kafka = newKafkaCorrelater(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                    traceId, authorization, affinity, result);
+            if (shared)
+            {
+                correlationId = result.correlationId();
+                demux = supplyCorrelateDemux(originId, routedId, authorization, result);
 
-            doKafkaWindow(traceId);
+                if (demux != null && !demux.join(this, traceId, authorization, affinity))
+                {
+                    demux = null;
+                }
+            }
+
+            if (demux == null)
+            {
+                kafka = newKafkaCorrelater(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck,
+                        initialMax, traceId, authorization, affinity, result);
+
+                doKafkaWindow(traceId);
+            }
         }
 
         private void doKafkaEnd(
@@ -1996,8 +2042,16 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
                 initialMax = delegate.initialMax;
                 state = GrpcKafkaState.closeInitial(state);
 
-                doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, authorization);
+                if (demux != null)
+                {
+                    demux.leave(this, traceId);
+                    onDemuxEnd(traceId, authorization);
+                }
+                else
+                {
+                    doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                            traceId, authorization);
+                }
             }
         }
 
@@ -2005,15 +2059,22 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            if (!GrpcKafkaState.initialClosed(state) && kafka != null)
+            if (!GrpcKafkaState.initialClosed(state) && (kafka != null || demux != null))
             {
                 initialSeq = delegate.initialSeq;
                 initialAck = delegate.initialAck;
                 initialMax = delegate.initialMax;
                 state = GrpcKafkaState.closeInitial(state);
 
-                doAbort(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, authorization, emptyRO);
+                if (demux != null)
+                {
+                    demux.leave(this, traceId);
+                }
+                else
+                {
+                    doAbort(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                            traceId, authorization, emptyRO);
+                }
             }
         }
 
@@ -2210,19 +2271,30 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            if (!GrpcKafkaState.replyClosed(state) && kafka != null)
+            if (!GrpcKafkaState.replyClosed(state) && (kafka != null || demux != null))
             {
                 state = GrpcKafkaState.closeReply(state);
 
-                doReset(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                        traceId, authorization, emptyRO);
+                if (demux != null)
+                {
+                    demux.leave(this, traceId);
+                }
+                else
+                {
+                    doReset(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                            traceId, authorization, emptyRO);
+                }
             }
         }
 
         private void doKafkaWindow(
             long traceId)
         {
-            if (kafka != null)
+            if (demux != null)
+            {
+                demux.doKafkaWindow(traceId);
+            }
+            else if (kafka != null)
             {
                 replyAck = delegate.replyAck;
                 replyMax = delegate.replyMax;
@@ -2234,6 +2306,529 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
                         traceId, 0L, replyBud, replyPad, replyCap);
             }
         }
+
+        private void onDemuxBegin()
+        {
+            state = GrpcKafkaState.openingReply(state);
+        }
+
+        private void onDemuxData(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int flags,
+            OctetsFW payload,
+            KafkaDataExFW kafkaDataEx)
+        {
+            replySeq += reserved;
+
+            delegate.onKafkaData(traceId, authorization, budgetId, reserved, flags, payload, kafkaDataEx);
+        }
+
+        private void onDemuxEnd(
+            long traceId,
+            long authorization)
+        {
+            if (!GrpcKafkaState.replyClosed(state))
+            {
+                state = GrpcKafkaState.closeReply(state);
+
+                delegate.onKafkaEnd(traceId, authorization);
+            }
+        }
+
+        private void onDemuxAbort(
+            long traceId,
+            long authorization)
+        {
+            if (!GrpcKafkaState.replyClosed(state))
+            {
+                state = GrpcKafkaState.closeReply(state);
+
+                delegate.onKafkaAbort(traceId, authorization);
+            }
+        }
+
+        private void onDemuxWindow(
+            long authorization,
+            long traceId,
+            long budgetId,
+            int padding,
+            int capabilities)
+        {
+            if (!GrpcKafkaState.initialClosed(state))
+            {
+                state = GrpcKafkaState.openInitial(state);
+
+                delegate.onKafkaWindow(authorization, traceId, budgetId, padding, capabilities);
+            }
+        }
+
+        private void onDemuxReset(
+            long traceId,
+            long authorization)
+        {
+            if (!GrpcKafkaState.initialClosed(state))
+            {
+                state = GrpcKafkaState.closeInitial(state);
+
+                delegate.onKafkaReset(traceId, authorization);
+            }
+        }
+    }
+
+    private final class KafkaCorrelateDemux
+    {
+        private final long key;
+        private final long originId;
+        private final long routedId;
+        private final long authorization;
+        private final long initialId;
+        private final long replyId;
+        private final GrpcKafkaWithProduceResult result;
+        private final Correlations<KafkaCorrelateProxy> members;
+
+        private MessageConsumer kafka;
+        private final Consumer<KafkaCorrelateProxy> accumulateWindow;
+
+        private KafkaCorrelateProxy receiver;
+        private boolean flushed;
+
+        private int state;
+
+        private long initialSeq;
+        private long initialAck;
+        private int initialMax;
+        private long initialBud;
+        private int initialPad;
+        private int initialCap;
+
+        private long replySeq;
+        private long replyAck;
+        private int replyMax;
+        private int replyPad;
+        private int replyWinMin;
+        private int replyPadMax;
+
+        private KafkaCorrelateDemux(
+            long key,
+            long originId,
+            long routedId,
+            long authorization,
+            GrpcKafkaWithProduceResult result)
+        {
+            this.key = key;
+            this.originId = originId;
+            this.routedId = routedId;
+            this.authorization = authorization;
+            this.result = result;
+            this.members = new Correlations<>(m -> m.correlationId);
+            this.initialId = supplyInitialId.applyAsLong(routedId);
+            this.replyId = supplyReplyId.applyAsLong(initialId);
+            this.accumulateWindow = this::accumulateWindow;
+        }
+
+        private boolean join(
+            KafkaCorrelateProxy member,
+            long traceId,
+            long authorization,
+            long affinity)
+        {
+            if (!GrpcKafkaState.initialOpening(state))
+            {
+                doKafkaBegin(traceId, authorization, affinity);
+            }
+
+            // replies are only shared once the live position is established,
+            // earlier requests keep a dedicated historical correlation stream
+            final boolean joined = flushed && members.register(member);
+
+            if (joined)
+            {
+                if (GrpcKafkaState.replyOpening(state))
+                {
+                    member.onDemuxBegin();
+                }
+
+                if (GrpcKafkaState.initialOpened(state))
+                {
+                    member.onDemuxWindow(authorization, traceId, initialBud, initialPad, initialCap);
+                }
+            }
+
+            return joined;
+        }
+
+        private void leave(
+            KafkaCorrelateProxy member,
+            long traceId)
+        {
+            members.unregister(member);
+
+            if (receiver == member)
+            {
+                receiver = null;
+            }
+
+            doKafkaWindow(traceId);
+        }
+
+        private void doKafkaBegin(
+            long traceId,
+            long authorization,
+            long affinity)
+        {
+            state = GrpcKafkaState.openingInitial(state);
+
+            kafka = newKafkaReplies(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, authorization, affinity, result);
+
+            doKafkaWindow(traceId);
+        }
+
+        private void doKafkaClose(
+            long traceId,
+            long authorization)
+        {
+            if (GrpcKafkaState.initialOpening(state))
+            {
+                doKafkaEnd(traceId, authorization);
+                doKafkaReset(traceId, authorization);
+            }
+
+            onDemuxClosed();
+
+            members.drain(m -> m.onDemuxAbort(traceId, authorization));
+        }
+
+        private void doKafkaEnd(
+            long traceId,
+            long authorization)
+        {
+            if (!GrpcKafkaState.initialClosed(state))
+            {
+                state = GrpcKafkaState.closeInitial(state);
+
+                doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization);
+            }
+        }
+
+        private void doKafkaAbort(
+            long traceId,
+            long authorization)
+        {
+            if (!GrpcKafkaState.initialClosed(state))
+            {
+                state = GrpcKafkaState.closeInitial(state);
+
+                doAbort(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization, emptyRO);
+            }
+        }
+
+        private void onKafkaMessage(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
+            {
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onKafkaBegin(begin);
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                onKafkaData(data);
+                break;
+            case EndFW.TYPE_ID:
+                final EndFW end = endRO.wrap(buffer, index, index + length);
+                onKafkaEnd(end);
+                break;
+            case AbortFW.TYPE_ID:
+                final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                onKafkaAbort(abort);
+                break;
+            case FlushFW.TYPE_ID:
+                final FlushFW flush = flushRO.wrap(buffer, index, index + length);
+                onKafkaFlush(flush);
+                break;
+            case WindowFW.TYPE_ID:
+                final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                onKafkaWindow(window);
+                break;
+            case ResetFW.TYPE_ID:
+                final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                onKafkaReset(reset);
+                break;
+            }
+        }
+
+        private void onKafkaBegin(
+            BeginFW begin)
+        {
+            final long sequence = begin.sequence();
+            final long acknowledge = begin.acknowledge();
+            final long traceId = begin.traceId();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+            assert acknowledge >= replyAck;
+
+            replySeq = sequence;
+            replyAck = acknowledge;
+            state = GrpcKafkaState.openingReply(state);
+
+            assert replyAck <= replySeq;
+
+            members.forEach(KafkaCorrelateProxy::onDemuxBegin);
+            doKafkaWindow(traceId);
+        }
+
+        private void onKafkaData(
+            DataFW data)
+        {
+            final long sequence = data.sequence();
+            final long acknowledge = data.acknowledge();
+            final long traceId = data.traceId();
+            final long authorization = data.authorization();
+            final long budgetId = data.budgetId();
+            final int reserved = data.reserved();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence + reserved;
+
+            assert replyAck <= replySeq;
+
+            if (replySeq > replyAck + replyMax)
+            {
+                doKafkaReset(traceId, authorization);
+                doKafkaAbort(traceId, authorization);
+                onDemuxClosed();
+
+                members.drain(m -> m.onDemuxReset(traceId, authorization));
+            }
+            else
+            {
+                final int flags = data.flags();
+                final OctetsFW payload = data.payload();
+                final OctetsFW extension = data.extension();
+
+                final ExtensionFW dataEx = extension.get(extensionRO::tryWrap);
+                final KafkaDataExFW kafkaDataEx =
+                    dataEx != null && dataEx.typeId() == kafkaTypeId ? extension.get(kafkaDataExRO::tryWrap) : null;
+
+                KafkaCorrelateProxy member = receiver;
+
+                if ((flags & DATA_FLAG_INIT) != 0x00)
+                {
+                    member = null;
+
+                    final KafkaMergedFetchDataExFW kafkaMergedFetchDataEx =
+                        kafkaDataEx != null && kafkaDataEx.merged() != null ? kafkaDataEx.merged().fetch() : null;
+                    final OctetsFW correlationId =
+                        kafkaMergedFetchDataEx != null ? result.correlationId(kafkaMergedFetchDataEx.headers()) : null;
+
+                    if (correlationId != null)
+                    {
+                        member = members.resolve(correlationId.buffer(), correlationId.offset(), correlationId.sizeof());
+                    }
+                }
+
+                receiver = (flags & DATA_FLAG_FIN) == 0x00 ? member : null;
+
+                if (member != null)
+                {
+                    member.onDemuxData(traceId, authorization, budgetId, reserved, flags, payload, kafkaDataEx);
+                }
+
+                doKafkaWindow(traceId);
+            }
+        }
+
+        private void onKafkaEnd(
+            EndFW end)
+        {
+            final long sequence = end.sequence();
+            final long acknowledge = end.acknowledge();
+            final long traceId = end.traceId();
+            final long authorization = end.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = GrpcKafkaState.closeReply(state);
+
+            assert replyAck <= replySeq;
+
+            doKafkaEnd(traceId, authorization);
+            onDemuxClosed();
+
+            members.drain(m -> m.onDemuxEnd(traceId, authorization));
+        }
+
+        private void onKafkaFlush(
+            FlushFW flush)
+        {
+            final long sequence = flush.sequence();
+            final long acknowledge = flush.acknowledge();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            flushed = true;
+
+            assert replyAck <= replySeq;
+        }
+
+        private void onKafkaAbort(
+            AbortFW abort)
+        {
+            final long sequence = abort.sequence();
+            final long acknowledge = abort.acknowledge();
+            final long traceId = abort.traceId();
+            final long authorization = abort.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = GrpcKafkaState.closeReply(state);
+
+            assert replyAck <= replySeq;
+
+            doKafkaAbort(traceId, authorization);
+            onDemuxClosed();
+
+            members.drain(m -> m.onDemuxAbort(traceId, authorization));
+        }
+
+        private void onKafkaWindow(
+            WindowFW window)
+        {
+            final long sequence = window.sequence();
+            final long acknowledge = window.acknowledge();
+            final int maximum = window.maximum();
+            final long authorization = window.authorization();
+            final long traceId = window.traceId();
+            final long budgetId = window.budgetId();
+            final int padding = window.padding();
+            final int capabilities = window.capabilities();
+
+            assert acknowledge <= sequence;
+            assert maximum >= initialMax;
+
+            initialAck = acknowledge;
+            initialMax = maximum;
+            initialBud = budgetId;
+            initialPad = padding;
+            initialCap = capabilities;
+            state = GrpcKafkaState.openInitial(state);
+
+            assert initialAck <= initialSeq;
+
+            members.forEach(m -> m.onDemuxWindow(authorization, traceId, budgetId, padding, capabilities));
+        }
+
+        private void onKafkaReset(
+            ResetFW reset)
+        {
+            final long sequence = reset.sequence();
+            final long acknowledge = reset.acknowledge();
+            final long traceId = reset.traceId();
+            final long authorization = reset.authorization();
+
+            assert acknowledge <= sequence;
+            assert acknowledge >= initialAck;
+
+            initialAck = acknowledge;
+            state = GrpcKafkaState.closeInitial(state);
+
+            assert initialAck <= initialSeq;
+
+            doKafkaReset(traceId, authorization);
+            onDemuxClosed();
+
+            members.drain(m -> m.onDemuxReset(traceId, authorization));
+        }
+
+        private void doKafkaReset(
+            long traceId,
+            long authorization)
+        {
+            if (!GrpcKafkaState.replyClosed(state))
+            {
+                state = GrpcKafkaState.closeReply(state);
+
+                doReset(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, authorization, emptyRO);
+            }
+        }
+
+        private void doKafkaWindow(
+            long traceId)
+        {
+            if (!GrpcKafkaState.replyClosed(state))
+            {
+                replyWinMin = members.isEmpty() ? writeBuffer.capacity() : Integer.MAX_VALUE;
+                replyPadMax = 0;
+                members.visit(accumulateWindow);
+
+                final int replyWin = replyMax - (int) (replySeq - replyAck);
+                final int replyCredit = replyWinMin - replyWin;
+
+                if (replyCredit > 0 || replyPadMax > replyPad)
+                {
+                    final int replyNoAck = (int) (replySeq - replyAck);
+                    replyAck += Math.min(replyNoAck, Math.max(replyCredit, 0));
+                    assert replyAck <= replySeq;
+
+                    replyMax = Math.max(replyWinMin, replyWin) + (int) (replySeq - replyAck);
+                    assert replyMax >= 0;
+
+                    replyPad = Math.max(replyPad, replyPadMax);
+
+                    doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                            traceId, 0L, 0L, replyPad, 0);
+                }
+            }
+        }
+
+        private void accumulateWindow(
+            KafkaCorrelateProxy member)
+        {
+            final GrpcProxy delegate = member.delegate;
+
+            replyWinMin = Math.min(replyWinMin, delegate.replyMax - (int) (delegate.replySeq - delegate.replyAck));
+            replyPadMax = Math.max(replyPadMax, delegate.replyPad);
+        }
+
+        private boolean matches(
+            long originId,
+            long routedId,
+            long authorization,
+            GrpcKafkaWithProduceResult result)
+        {
+            return this.originId == originId &&
+                this.routedId == routedId &&
+                this.authorization == authorization &&
+                this.result.replyTo().value().equals(result.replyTo().value());
+        }
+
+        private void onDemuxClosed()
+        {
+            if (demuxes.get(key) == this)
+            {
+                demuxes.remove(key);
+            }
+        }
     }
 
     private void doBegin(
@@ -2518,6 +3113,80 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         return receiver;
     }
 
+    private KafkaCorrelateDemux supplyCorrelateDemux(
+        long originId,
+        long routedId,
+        long authorization,
+        GrpcKafkaWithProduceResult result)
+    {
+        final DirectBuffer replyTo = result.replyTo().value();
+
+        long key = originId;
+        key = 31L * key + routedId;
+        key = 31L * key + authorization;
+        for (int index = 0; index < replyTo.capacity(); index++)
+        {
+            key = 31L * key + replyTo.getByte(index);
+        }
+
+        KafkaCorrelateDemux demux = demuxes.get(key);
+
+        if (demux == null)
+        {
+            demux = new KafkaCorrelateDemux(key, originId, routedId, authorization, result);
+            demuxes.put(key, demux);
+        }
+        else if (!demux.matches(originId, routedId, authorization, result))
+        {
+            // key collision, use a dedicated correlater instead
+            demux = null;
+        }
+
+        return demux;
+    }
+
+    private MessageConsumer newKafkaReplies(
+        MessageConsumer sender,
+        long originId,
+        long routedId,
+        long streamId,
+        long sequence,
+        long acknowledge,
+        int maximum,
+        long traceId,
+        long authorization,
+        long affinity,
+        GrpcKafkaWithProduceResult result)
+    {
+        final KafkaBeginExFW kafkaBeginEx =
+            kafkaBeginExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                .typeId(kafkaTypeId)
+                .merged(m -> m.capabilities(c -> c.set(FETCH_ONLY))
+                              .topic(result.replyTo())
+                              .partitionsItem(p -> p.partitionId(-1).partitionOffset(KafkaOffsetType.LIVE.value())))
+                .build();
+
+        final BeginFW begin = beginRW.wrap(writeBuffer, 0, writeBuffer.capacity())
+                .originId(originId)
+                .routedId(routedId)
+                .streamId(streamId)
+                .sequence(sequence)
+                .acknowledge(acknowledge)
+                .maximum(maximum)
+                .traceId(traceId)
+                .authorization(authorization)
+                .affinity(affinity)
+                .extension(kafkaBeginEx.buffer(), kafkaBeginEx.offset(), kafkaBeginEx.sizeof())
+                .build();
+
+        MessageConsumer receiver =
+                streamFactory.newStream(begin.typeId(), begin.buffer(), begin.offset(), begin.sizeof(), sender);
+
+        receiver.accept(begin.typeId(), begin.buffer(), begin.offset(), begin.sizeof());
+
+        return receiver;
+    }
+
     private void doWindow(
         MessageConsumer sender,
         long originId,
@@ -14,10 +14,14 @@
  */
 package io.aklivity.zilla.runtime.blinding.grpc.kafka.internal.stream;
 
+import static io.aklivity.zilla.runtime.blinding.grpc.kafka.internal.GrpcKafkaConfigurationTest.CORRELATION_ID_NAME;
+import static io.aklivity.zilla.runtime.blinding.grpc.kafka.internal.GrpcKafkaConfigurationTest.REPLY_SHARED_NAME;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_BUFFER_SLOT_CAPACITY;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
@@ -28,6 +32,7 @@ import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class GrpcKafkaProduceProxyIT
 {
@@ -58,6 +63,19 @@ public class GrpcKafkaProduceProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("produce.proxy.rpc.yaml")
+    @Configure(name = REPLY_SHARED_NAME, value = "true")
+    @Configure(name = CORRELATION_ID_NAME,
+        value = "io.aklivity.zilla.runtime.blinding.grpc.kafka.internal.stream.GrpcKafkaProduceProxyIT::supplyCorrelationId")
+    @Specification({
+        "${grpc}/unary.rpc.shared/client",
+        "${kafka}/unary.rpc.shared/server"})
+    public void shouldExchangeMessagesWithUnaryRpcSharedReplies() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("produce.proxy.rpc.yaml")
     @Specification({
@@ -157,4 +175,16 @@ public class GrpcKafkaProduceProxyIT
     {
         k3po.finish();
     }
+
+    private static final String[] CORRELATION_IDS =
+    {
+        "59410e57-3e0f-4b61-9328-f645a7968ac8",
+        "8ab5c5e4-2f5a-4c1d-9b47-1c7e0f3a6d52"
+    };
+    private static final AtomicInteger CORRELATION_INDEX = new AtomicInteger();
+
+    public static String supplyCorrelationId()
+    {
+        return CORRELATION_IDS[CORRELATION_INDEX.getAndIncrement() % CORRELATION_IDS.length];
+    }
 }
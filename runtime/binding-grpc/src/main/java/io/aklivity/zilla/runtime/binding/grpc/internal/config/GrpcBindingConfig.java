@@ -158,7 +158,8 @@ public final class GrpcBindingConfig
         CharSequence serviceName,
         String methodName)
     {
-        return resolveMethod(catalogs.stream().map(GrpcCatalogSchema::resolveProtobuf), serviceName, methodName);
+        return resolveMethod(catalogs.stream().map(GrpcCatalogSchema::resolveProtobuf).filter(Objects::nonNull),
+            serviceName, methodName);
     }
 
     private GrpcMethodConfig resolveMethod(
@@ -427,11 +428,15 @@ public final class GrpcBindingConfig
         {
             final int newSchemaId = handler.resolve(subject, version);
 
-            if (schemaId != newSchemaId)
+            if (newSchemaId != NO_SCHEMA_ID && schemaId != newSchemaId)
             {
-                schemaId = newSchemaId;
-                String schema = handler.resolve(schemaId);
-                protobuf = parser.parse(null, schema);
+                // keep the previous protobuf until the new schema resolves, so a miss retries on the next request
+                String schema = handler.resolve(newSchemaId);
+                if (schema != null)
+                {
+                    schemaId = newSchemaId;
+                    protobuf = parser.parse(null, schema);
+                }
             }
 
             return protobuf;
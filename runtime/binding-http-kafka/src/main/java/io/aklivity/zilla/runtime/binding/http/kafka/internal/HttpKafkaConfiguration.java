@@ -18,11 +18,18 @@ import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class HttpKafkaConfiguration extends Configuration
 {
+    public static final BooleanPropertyDef REPLY_SHARED;
+    public static final BooleanPropertyDef FETCH_SHARED;
+    public static final IntPropertyDef FETCH_CACHE_CAPACITY;
+
     private static final ConfigurationDef HTTP_KAFKA_CONFIG;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.http.kafka");
+        REPLY_SHARED = config.property("reply.shared", false);
+        FETCH_SHARED = config.property("fetch.shared", false);
+        FETCH_CACHE_CAPACITY = config.property("fetch.cache.capacity", 8 * 1024 * 1024);
         HTTP_KAFKA_CONFIG = config;
     }
 
@@ -31,4 +38,19 @@ public class HttpKafkaConfiguration extends Configuration
     {
         super(HTTP_KAFKA_CONFIG, config);
     }
+
+    public boolean replyShared()
+    {
+        return REPLY_SHARED.getAsBoolean(this);
+    }
+
+    public boolean fetchShared()
+    {
+        return FETCH_SHARED.getAsBoolean(this);
+    }
+
+    public int fetchCacheCapacity()
+    {
+        return FETCH_CACHE_CAPACITY.getAsInt(this);
+    }
 }
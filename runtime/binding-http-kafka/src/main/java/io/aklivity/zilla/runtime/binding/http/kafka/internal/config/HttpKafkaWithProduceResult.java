@@ -30,6 +30,7 @@ import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaHeaderFW
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaKeyFW;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaOffsetFW;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaOffsetType;
+import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.String16FW;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.String8FW;
 
@@ -70,6 +71,7 @@ public class HttpKafkaWithProduceResult
     private final HttpKafkaWithProduceHash hash;
     private final long timeout;
     private final boolean idempotent;
+    private final boolean replayable;
 
     HttpKafkaWithProduceResult(
         long compositeId,
@@ -81,6 +83,7 @@ public class HttpKafkaWithProduceResult
         String16FW ifMatch,
         String16FW replyTo,
         String16FW idempotencyKey,
+        boolean replayable,
         List<HttpKafkaWithProduceAsyncHeaderResult> async,
         HttpKafkaWithProduceHash hash,
         long timeout)
@@ -96,6 +99,7 @@ public class HttpKafkaWithProduceResult
         this.async = async;
         this.hash = hash;
         this.idempotent = idempotencyKey != null;
+        this.replayable = replayable;
         this.timeout = timeout;
     }
 
@@ -251,6 +255,18 @@ public class HttpKafkaWithProduceResult
             .value(correlationId.value(), 0, correlationId.length());
     }
 
+    public String16FW correlationId()
+    {
+        return hash.correlationId();
+    }
+
+    public OctetsFW correlationId(
+        Array32FW<KafkaHeaderFW> headers)
+    {
+        final KafkaHeaderFW header = headers.matchFirst(h -> correlation.correlationId.value().equals(h.name().value()));
+        return header != null ? header.value() : null;
+    }
+
     public void correlated(
         Array32FW<KafkaHeaderFW> headers,
         Array32FW.Builder<HttpHeaderFW.Builder, HttpHeaderFW> builder,
@@ -319,6 +335,11 @@ public class HttpKafkaWithProduceResult
         return idempotent;
     }
 
+    public boolean replayable()
+    {
+        return replayable;
+    }
+
     public boolean reply()
     {
         return replyTo != null;
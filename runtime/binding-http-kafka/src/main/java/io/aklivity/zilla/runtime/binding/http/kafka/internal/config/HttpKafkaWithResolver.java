@@ -282,6 +282,8 @@ public final class HttpKafkaWithResolver
                     ? new String16FW(UUID.randomUUID().toString())
                     : null;
 
+        final boolean replayable = correlationId != null || httpIdempotencyKey != null;
+
         if (correlationId == null)
         {
             correlationId = idempotencyKey;
@@ -442,6 +444,6 @@ public final class HttpKafkaWithResolver
 
         return new HttpKafkaWithProduceResult(
                 compositeId, options.correlation, topic, acks, keyRef, overrides, ifMatch, replyTo,
-                idempotencyKey, async, hash, timeout);
+                idempotencyKey, replayable, async, hash, timeout);
     }
 }
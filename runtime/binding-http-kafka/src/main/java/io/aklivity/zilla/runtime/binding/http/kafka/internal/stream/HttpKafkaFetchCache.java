@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.kafka.internal.stream;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public final class HttpKafkaFetchCache
+{
+    private final int capacity;
+    private final Long2ObjectHashMap<Entry> entries;
+    private final Entry sentinel;
+
+    private long size;
+
+    public HttpKafkaFetchCache(
+        int capacity)
+    {
+        this.capacity = capacity;
+        this.entries = new Long2ObjectHashMap<>();
+        this.sentinel = new Entry(0L, null, null, 0);
+    }
+
+    public Entry lookup(
+        long hash,
+        DirectBuffer key,
+        DirectBuffer tag,
+        int offset,
+        int length)
+    {
+        final Entry entry = entries.get(hash);
+        final boolean matches = entry != null && entry.key.equals(key) && entry.matches(tag, offset, length);
+
+        if (matches)
+        {
+            entry.unlink();
+            entry.linkBefore(sentinel);
+        }
+
+        return matches ? entry : null;
+    }
+
+    public Entry record(
+        long hash,
+        DirectBuffer key,
+        DirectBuffer tag,
+        int offset,
+        int length)
+    {
+        final MutableDirectBuffer keyCopy = new UnsafeBuffer(new byte[key.capacity()]);
+        keyCopy.putBytes(0, key, 0, key.capacity());
+        final MutableDirectBuffer tagCopy = new UnsafeBuffer(new byte[length]);
+        tagCopy.putBytes(0, tag, offset, length);
+        return new Entry(hash, keyCopy, tagCopy, capacity);
+    }
+
+    public boolean publish(
+        Entry entry)
+    {
+        final boolean published = entry.length != -1;
+
+        if (published)
+        {
+            final Entry replaced = entries.remove(entry.hash);
+            if (replaced != null)
+            {
+                replaced.unlink();
+                size -= replaced.length;
+            }
+
+            while (size + entry.length > capacity && sentinel.next != sentinel)
+            {
+                final Entry eldest = sentinel.next;
+                eldest.unlink();
+                entries.remove(eldest.hash);
+                size -= eldest.length;
+            }
+
+            entries.put(entry.hash, entry);
+            entry.linkBefore(sentinel);
+            size += entry.length;
+        }
+
+        return published;
+    }
+
+    public long size()
+    {
+        return size;
+    }
+
+    public int entries()
+    {
+        return entries.size();
+    }
+
+    public static final class Entry
+    {
+        private final long hash;
+        private final DirectBuffer key;
+        private final DirectBuffer tag;
+        private final int limit;
+        private final MutableDirectBuffer body;
+
+        private int length;
+        private Entry previous;
+        private Entry next;
+
+        private Entry(
+            long hash,
+            DirectBuffer key,
+            DirectBuffer tag,
+            int limit)
+        {
+            this.hash = hash;
+            this.key = key;
+            this.tag = tag;
+            this.limit = limit;
+            this.body = tag != null ? new ExpandableDirectByteBuffer(Math.min(limit, 1024)) : null;
+            this.previous = this;
+            this.next = this;
+        }
+
+        public DirectBuffer tag()
+        {
+            return tag;
+        }
+
+        public DirectBuffer body()
+        {
+            return body;
+        }
+
+        public int length()
+        {
+            return length;
+        }
+
+        public boolean append(
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
+            final boolean appended = this.length != -1 && this.length + length <= limit;
+
+            if (appended)
+            {
+                body.putBytes(this.length, buffer, offset, length);
+                this.length += length;
+            }
+            else
+            {
+                this.length = -1;
+            }
+
+            return appended;
+        }
+
+        private boolean matches(
+            DirectBuffer tag,
+            int offset,
+            int length)
+        {
+            boolean matches = this.tag.capacity() == length;
+            for (int index = 0; matches && index < length; index++)
+            {
+                matches = this.tag.getByte(index) == tag.getByte(offset + index);
+            }
+            return matches;
+        }
+
+        private void linkBefore(
+            Entry successor)
+        {
+            previous = successor.previous;
+            next = successor;
+            previous.next = this;
+            successor.previous = this;
+        }
+
+        private void unlink()
+        {
+            previous.next = next;
+            next.previous = previous;
+            previous = this;
+            next = this;
+        }
+    }
+}
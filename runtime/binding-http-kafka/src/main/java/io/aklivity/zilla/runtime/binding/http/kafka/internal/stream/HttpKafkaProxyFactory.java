@@ -19,11 +19,16 @@ import static io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaC
 import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.time.Instant.now;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.function.LongUnaryOperator;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfiguration;
@@ -34,8 +39,10 @@ import io.aklivity.zilla.runtime.binding.http.kafka.internal.config.HttpKafkaWit
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.Array32FW;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.HttpHeaderFW;
+import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaFilterFW;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaHeaderFW;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaOffsetFW;
+import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaOffsetType;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.String16FW;
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.String8FW;
@@ -58,6 +65,7 @@ import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.util.Correlations;
 
 public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
 {
@@ -102,14 +110,26 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     private final KafkaBeginExFW.Builder kafkaBeginExRW = new KafkaBeginExFW.Builder();
     private final KafkaDataExFW.Builder kafkaDataExRW = new KafkaDataExFW.Builder();
 
+    private final Array32FW<KafkaOffsetFW> partitionsRO = new Array32FW<>(new KafkaOffsetFW());
+    private final OctetsFW cachedRO = new OctetsFW();
+
+    private final Array32FW.Builder<KafkaFilterFW.Builder, KafkaFilterFW> filtersRW =
+        new Array32FW.Builder<>(new KafkaFilterFW.Builder(), new KafkaFilterFW());
+
     private final HttpKafkaEtagHelper etagHelper = new HttpKafkaEtagHelper();
+    private final DirectBuffer fetchKeyRO = new UnsafeBuffer();
+    private final DirectBuffer fetchKeyMatchRO = new UnsafeBuffer();
 
     private final MutableDirectBuffer writeBuffer;
     private final MutableDirectBuffer extBuffer;
+    private final MutableDirectBuffer fetchKeyBuffer;
+    private final MutableDirectBuffer fetchKeyMatchBuffer;
     private final BindingHandler streamFactory;
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
+    private final LongSupplier supplyTraceId;
     private final Signaler signaler;
+    private final boolean replyShared;
     private final int httpTypeId;
     private final int kafkaTypeId;
 
@@ -125,6 +145,9 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     private final String8FW httpEtag;
 
     private final Long2ObjectHashMap<HttpKafkaBindingConfig> bindings;
+    private final Long2ObjectHashMap<KafkaCorrelateDemux> demuxes;
+    private final Long2ObjectHashMap<HttpFetchManyProxy> fetchLeaders;
+    private final HttpKafkaFetchCache fetchCache;
 
     public HttpKafkaProxyFactory(
         HttpKafkaConfiguration config,
@@ -135,8 +158,15 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         this.streamFactory = context.streamFactory();
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
+        this.supplyTraceId = context::supplyTraceId;
         this.signaler = context.signaler();
+        this.replyShared = config.replyShared();
         this.bindings = new Long2ObjectHashMap<>();
+        this.demuxes = new Long2ObjectHashMap<>();
+        this.fetchLeaders = new Long2ObjectHashMap<>();
+        this.fetchCache = config.fetchShared() ? new HttpKafkaFetchCache(config.fetchCacheCapacity()) : null;
+        this.fetchKeyBuffer = fetchCache != null ? new UnsafeBuffer(new byte[writeBuffer.capacity()]) : null;
+        this.fetchKeyMatchBuffer = fetchCache != null ? new UnsafeBuffer(new byte[writeBuffer.capacity()]) : null;
         this.httpTypeId = context.supplyTypeId(HTTP_TYPE_NAME);
         this.kafkaTypeId = context.supplyTypeId(KAFKA_TYPE_NAME);
         this.httpBeginEx404 = initHttpBeginEx("404");
@@ -169,6 +199,14 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         long bindingId)
     {
         bindings.remove(bindingId);
+
+        if (!demuxes.isEmpty())
+        {
+            final long traceId = supplyTraceId.getAsLong();
+            new ArrayList<>(demuxes.values()).stream()
+                .filter(d -> d.originId == bindingId)
+                .forEach(d -> d.doKafkaClose(traceId, 0L));
+        }
     }
 
     @Override
@@ -870,10 +908,19 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     {
         private final KafkaFetchProxy fetcher;
         private final long affinity;
+        private final boolean shareable;
+        private final long fetchKey;
+        private final List<HttpFetchManyProxy> followers;
 
         private long replyBud;
         private int replyMsgs;
 
+        private long authorization;
+        private HttpFetchManyProxy leader;
+        private HttpKafkaFetchCache.Entry recording;
+        private HttpKafkaFetchCache.Entry cached;
+        private int cachedProgress;
+
         private HttpFetchManyProxy(
             MessageConsumer http,
             long originId,
@@ -886,6 +933,9 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             super(http, originId, routedId, initialId);
             this.affinity = affinity;
             this.fetcher = new KafkaFetchProxy(routedId, resolvedId, this, resolved);
+            this.shareable = fetchCache != null;
+            this.fetchKey = shareable ? supplyFetchKey(routedId, resolvedId, resolved) : 0L;
+            this.followers = shareable ? new ArrayList<>() : null;
         }
 
         private void onHttpMessage(
@@ -934,7 +984,6 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             final long acknowledge = begin.acknowledge();
             final long traceId = begin.traceId();
             final long authorization = begin.authorization();
-            final long affinity = begin.affinity();
 
             assert acknowledge <= sequence;
             assert sequence >= initialSeq;
@@ -946,8 +995,20 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
 
             assert initialAck <= initialSeq;
 
+            this.authorization = authorization;
+
             doHttpWindow(traceId, authorization, 0, 0, 0);
-            fetcher.doKafkaBegin(traceId, authorization, affinity);
+
+            final HttpFetchManyProxy leader = shareable ? fetchLeaders.get(fetchKey) : null;
+            if (leader != null && matchesFetchKey(leader))
+            {
+                leader.followers.add(this);
+                this.leader = leader;
+            }
+            else
+            {
+                doFetchManyLead(traceId);
+            }
         }
 
         private void onHttpData(
@@ -1010,7 +1071,12 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
 
             assert initialAck <= initialSeq;
 
-            fetcher.doKafkaAbort(traceId, authorization);
+            doFetchManyLeave(traceId);
+
+            if (fetcher.kafka != null)
+            {
+                fetcher.doKafkaAbort(traceId, authorization);
+            }
         }
 
         protected void onHttpFlush(
@@ -1030,7 +1096,10 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
 
             assert replyAck <= replySeq;
 
-            fetcher.doKafkaFlush(traceId, authorization, budgetId, reserved);
+            if (fetcher.kafka != null && cached == null)
+            {
+                fetcher.doKafkaFlush(traceId, authorization, budgetId, reserved);
+            }
         }
 
         private void onHttpReset(
@@ -1052,7 +1121,12 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
 
             assert replyAck <= replySeq;
 
-            fetcher.doKafkaReset(traceId);
+            doFetchManyLeave(traceId);
+
+            if (fetcher.kafka != null)
+            {
+                fetcher.doKafkaReset(traceId);
+            }
         }
 
         private void onHttpWindow(
@@ -1075,12 +1149,20 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             replyAck = acknowledge;
             replyMax = maximum;
             replyBud = budgetId;
+            replyPad = padding;
             state = HttpKafkaState.openReply(state);
 
             assert replyAck <= replySeq;
 
-            final int mergePadding = fetcher.resolved.padding();
-            fetcher.doKafkaWindow(traceId, authorization, budgetId, padding + mergePadding, capabilities);
+            if (cached != null)
+            {
+                doHttpReplay(traceId);
+            }
+            else if (fetcher.kafka != null)
+            {
+                final int mergePadding = fetcher.resolved.padding();
+                fetcher.doKafkaWindow(traceId, authorization, budgetId, padding + mergePadding, capabilities);
+            }
         }
 
         @Override
@@ -1088,7 +1170,10 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            onKafkaError(traceId, authorization);
+            if (cached == null)
+            {
+                onKafkaError(traceId, authorization);
+            }
         }
 
         @Override
@@ -1096,7 +1181,10 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            onKafkaError(traceId, authorization);
+            if (cached == null)
+            {
+                onKafkaError(traceId, authorization);
+            }
         }
 
         private void onKafkaError(
@@ -1111,6 +1199,12 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             }
 
             doHttpAbort(traceId, authorization);
+
+            if (shareable)
+            {
+                recording = null;
+                doFetchManyShare(traceId, null, null);
+            }
         }
 
         @Override
@@ -1128,39 +1222,42 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                 final KafkaMergedBeginExFW kafkaMergedBeginEx = kafkaBeginEx.merged();
                 final Array32FW<KafkaOffsetFW> partitions = kafkaMergedBeginEx.partitions();
                 final String16FW etag = etagHelper.encodeLatest(partitions);
+                final boolean notModified = fetcher.resolved.partitions(partitions);
 
-                if (fetcher.resolved.partitions(partitions))
+                HttpKafkaFetchCache.Entry shared = null;
+                if (shareable)
                 {
-                    final HttpBeginExFW httpBeginEx = httpBeginExRW
-                            .wrap(extBuffer, 0, extBuffer.capacity())
-                            .typeId(httpTypeId)
-                            .headersItem(h -> h.set(httpStatus304))
-                            .headersItem(h -> h.name(httpContentType).value(fetcher.resolved.contentType()))
-                            .headersItem(h -> h.name(httpEtag).value(etag))
-                            .build();
+                    final DirectBuffer key = encodeFetchKey(fetcher.resolved, fetchKeyBuffer, fetchKeyRO);
+                    shared = fetchCache.lookup(fetchKey, key, partitions.buffer(), partitions.offset(), partitions.sizeof());
+                    recording = shared == null
+                        ? fetchCache.record(fetchKey, key, partitions.buffer(), partitions.offset(), partitions.sizeof())
+                        : null;
+                }
 
-                    doHttpBegin(traceId, authorization, affinity, httpBeginEx);
-                    doHttpEnd(traceId, authorization);
+                if (notModified)
+                {
+                    doHttpNotModified(traceId, authorization, etag);
 
                     fetcher.doKafkaEnd(traceId, authorization);
                     fetcher.doKafkaReset(traceId);
                 }
-                else
+                else if (shared != null)
                 {
-                    final HttpBeginExFW.Builder builder = httpBeginExRW
-                            .wrap(extBuffer, 0, extBuffer.capacity())
-                            .typeId(httpTypeId);
-
-                    builder.headers(fetcher.resolved::headers);
-
-                    if (etag != null)
-                    {
-                        builder.headersItem(h -> h.name(httpEtag).value(etag));
-                    }
+                    fetcher.doKafkaEnd(traceId, authorization);
+                    fetcher.doKafkaReset(traceId);
 
-                    Flyweight httpBeginEx = builder.build();
+                    doHttpCached(traceId, authorization, etag, shared);
+                }
+                else
+                {
+                    doHttpOk(traceId, authorization, etag);
+                }
 
-                    doHttpBegin(traceId, authorization, affinity, httpBeginEx);
+                if (shareable && (notModified || shared != null))
+                {
+                    final DirectBuffer tag = shared != null ? shared.tag() : recording.tag();
+                    recording = null;
+                    doFetchManyShare(traceId, tag, shared);
                 }
             }
         }
@@ -1184,6 +1281,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                     OctetsFW preamble = fetcher.resolved.header();
                     int reservedPre = preamble.sizeof();
                     doHttpData(traceId, authorization, replyBud, reservedPre, 0x03, preamble);
+                    doFetchManyRecord(preamble);
 
                     replyPadAdjust = reservedPre;
                 }
@@ -1192,12 +1290,14 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                     OctetsFW preamble = fetcher.resolved.separator();
                     int reservedSep = preamble.sizeof();
                     doHttpData(traceId, authorization, replyBud, reservedSep, 0x03, preamble);
+                    doFetchManyRecord(preamble);
 
                     replyPadAdjust = reservedSep;
                 }
 
                 // TODO: await http response window if necessary (handle in doHttpData)
                 doHttpData(traceId, authorization, budgetId, reserved - replyPadAdjust, flags, payload);
+                doFetchManyRecord(payload);
 
                 replyMsgs++;
                 replyPadAdjust = 0;
@@ -1209,6 +1309,8 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             long traceId,
             long authorization)
         {
+            final boolean complete = !HttpKafkaState.initialClosed(fetcher.state);
+
             if (HttpKafkaState.initialClosed(state))
             {
                 fetcher.doKafkaEnd(traceId, authorization);
@@ -1221,14 +1323,25 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                     OctetsFW preamble = fetcher.resolved.header();
                     int reservedPre = preamble.sizeof();
                     doHttpData(traceId, authorization, replyBud, reservedPre, 0x03, preamble);
+                    doFetchManyRecord(preamble);
                 }
 
                 OctetsFW postamble = fetcher.resolved.trailer();
                 final int reservedPost = postamble.sizeof();
                 doHttpData(traceId, authorization, replyBud, reservedPost, 0x03, postamble);
+                doFetchManyRecord(postamble);
 
                 doHttpEnd(traceId, authorization);
             }
+
+            if (shareable)
+            {
+                final HttpKafkaFetchCache.Entry entry = recording;
+                recording = null;
+
+                final boolean published = entry != null && complete && fetchCache.publish(entry);
+                doFetchManyShare(traceId, entry != null ? entry.tag() : null, published ? entry : null);
+            }
         }
 
         @Override
@@ -1252,6 +1365,176 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             doHttpWindow(authorization, traceId, budgetId, padding, capabilities);
         }
 
+        private void doFetchManyLead(
+            long traceId)
+        {
+            if (shareable && fetchLeaders.get(fetchKey) == null)
+            {
+                fetchLeaders.put(fetchKey, this);
+            }
+
+            fetcher.doKafkaBegin(traceId, authorization, affinity);
+        }
+
+        private boolean matchesFetchKey(
+            HttpFetchManyProxy leader)
+        {
+            return routedId == leader.routedId &&
+                fetcher.routedId == leader.fetcher.routedId &&
+                fetcher.resolved.compositeId() == leader.fetcher.resolved.compositeId() &&
+                encodeFetchKey(fetcher.resolved, fetchKeyBuffer, fetchKeyRO)
+                    .equals(encodeFetchKey(leader.fetcher.resolved, fetchKeyMatchBuffer, fetchKeyMatchRO));
+        }
+
+        private void doFetchManyRecord(
+            OctetsFW payload)
+        {
+            if (recording != null)
+            {
+                recording.append(payload.buffer(), payload.offset(), payload.sizeof());
+            }
+        }
+
+        private void doFetchManyLeave(
+            long traceId)
+        {
+            if (leader != null)
+            {
+                leader.followers.remove(this);
+                leader = null;
+            }
+            else if (shareable && fetchLeaders.get(fetchKey) == this)
+            {
+                recording = null;
+                doFetchManyShare(traceId, null, null);
+            }
+        }
+
+        private void doFetchManyShare(
+            long traceId,
+            DirectBuffer tag,
+            HttpKafkaFetchCache.Entry entry)
+        {
+            if (fetchLeaders.get(fetchKey) == this)
+            {
+                fetchLeaders.remove(fetchKey);
+            }
+
+            final List<HttpFetchManyProxy> members = new ArrayList<>(followers);
+            followers.clear();
+
+            HttpFetchManyProxy next = null;
+            for (HttpFetchManyProxy member : members)
+            {
+                member.leader = null;
+
+                final Array32FW<KafkaOffsetFW> partitions = tag != null ? partitionsRO.wrap(tag, 0, tag.capacity()) : null;
+                final String16FW etag = partitions != null ? etagHelper.encodeLatest(partitions) : null;
+
+                if (partitions != null && member.fetcher.resolved.partitions(partitions))
+                {
+                    member.doHttpNotModified(traceId, member.authorization, etag);
+                }
+                else if (entry != null)
+                {
+                    member.doHttpCached(traceId, member.authorization, etag, entry);
+                }
+                else if (next == null)
+                {
+                    next = member;
+                }
+                else
+                {
+                    next.followers.add(member);
+                    member.leader = next;
+                }
+            }
+
+            if (next != null)
+            {
+                next.doFetchManyLead(traceId);
+            }
+        }
+
+        private void doHttpNotModified(
+            long traceId,
+            long authorization,
+            String16FW etag)
+        {
+            final HttpBeginExFW httpBeginEx = httpBeginExRW
+                    .wrap(extBuffer, 0, extBuffer.capacity())
+                    .typeId(httpTypeId)
+                    .headersItem(h -> h.set(httpStatus304))
+                    .headersItem(h -> h.name(httpContentType).value(fetcher.resolved.contentType()))
+                    .headersItem(h -> h.name(httpEtag).value(etag))
+                    .build();
+
+            doHttpBegin(traceId, authorization, affinity, httpBeginEx);
+            doHttpEnd(traceId, authorization);
+        }
+
+        private void doHttpOk(
+            long traceId,
+            long authorization,
+            String16FW etag)
+        {
+            final HttpBeginExFW.Builder builder = httpBeginExRW
+                    .wrap(extBuffer, 0, extBuffer.capacity())
+                    .typeId(httpTypeId);
+
+            builder.headers(fetcher.resolved::headers);
+
+            if (etag != null)
+            {
+                builder.headersItem(h -> h.name(httpEtag).value(etag));
+            }
+
+            Flyweight httpBeginEx = builder.build();
+
+            doHttpBegin(traceId, authorization, affinity, httpBeginEx);
+        }
+
+        private void doHttpCached(
+            long traceId,
+            long authorization,
+            String16FW etag,
+            HttpKafkaFetchCache.Entry entry)
+        {
+            cached = entry;
+            cachedProgress = 0;
+
+            doHttpOk(traceId, authorization, etag);
+            doHttpReplay(traceId);
+        }
+
+        private void doHttpReplay(
+            long traceId)
+        {
+            final DirectBuffer body = cached.body();
+            final int length = cached.length();
+
+            int size = Math.min(length - cachedProgress, replyWindow());
+            while (size > 0 && !HttpKafkaState.replyClosed(state))
+            {
+                final OctetsFW payload = cachedRO.wrap(body, cachedProgress, cachedProgress + size);
+                doHttpData(traceId, authorization, replyBud, size + replyPad, 0x03, payload);
+                cachedProgress += size;
+
+                size = Math.min(length - cachedProgress, replyWindow());
+            }
+
+            if (cachedProgress == length)
+            {
+                doHttpEnd(traceId, authorization);
+            }
+        }
+
+        private int replyWindow()
+        {
+            final int replyNoAck = (int)(replySeq - replyAck);
+            return Math.min(replyMax - replyNoAck - replyPad, writeBuffer.capacity() >> 1);
+        }
+
         private void doHttpBegin(
             long traceId,
             long authorization,
@@ -1270,7 +1553,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         {
             if (!HttpKafkaState.replyClosed(state))
             {
-                replySeq = fetcher.replySeq;
+                replySeq = cached == null ? fetcher.replySeq : replySeq;
                 state = HttpKafkaState.closeReply(state);
 
                 doAbort(http, originId, routedId, replyId, replySeq, replyAck, replyMax,
@@ -1300,7 +1583,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         {
             if (!HttpKafkaState.replyClosed(state))
             {
-                replySeq = fetcher.replySeq;
+                replySeq = cached == null ? fetcher.replySeq : replySeq;
                 state = HttpKafkaState.closeReply(state);
 
                 doEnd(http, originId, routedId, replyId, replySeq, replyAck, replyMax,
@@ -1308,6 +1591,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             }
         }
 
+
         private void doHttpFlush(
             long traceId,
             long authorization,
@@ -1713,7 +1997,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             super(http, originId, routedId, initialId);
             this.affinity = affinity;
             this.producer = new KafkaProduceProxy(routedId, resolvedId, this, resolved);
-            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved);
+            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved, false);
         }
 
         private void onHttpMessage(
@@ -2901,7 +3185,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         {
             super(http, originId, routedId, initialId);
             this.affinity = affinity;
-            this.delegate = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved);
+            this.delegate = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved, false);
         }
 
         private void onHttpMessage(
@@ -3319,6 +3603,11 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         private final long replyId;
         private final HttpKafkaWithProduceResult resolved;
         private final HttpProxy delegate;
+        private final boolean shared;
+
+        private KafkaCorrelateDemux demux;
+        private String16FW correlationId;
+        private boolean flushed;
 
         private int state;
 
@@ -3339,12 +3628,14 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             long originId,
             long routedId,
             HttpProxy delegate,
-            HttpKafkaWithProduceResult resolved)
+            HttpKafkaWithProduceResult resolved,
+            boolean shared)
         {
             this.originId = originId;
             this.routedId = routedId;
             this.delegate = delegate;
             this.resolved = resolved;
+            this.shared = shared;
             this.initialId = supplyInitialId.applyAsLong(routedId);
             this.replyId = supplyReplyId.applyAsLong(initialId);
         }
@@ -3357,16 +3648,35 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             initialMax = delegate.initialMax;
             state = HttpKafkaState.openingInitial(state);
 
-            kafka = newKafkaCorrelater(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                    traceId, authorization, affinity, resolved);
+            if (shared)
+            {
+                correlationId = resolved.correlationId();
+                demux = supplyCorrelateDemux(originId, routedId, authorization, resolved);
+
+                if (demux != null && !demux.join(this, traceId, authorization, affinity))
+                {
+                    demux = null;
+                }
+            }
 
             final long timeout = resolved.timeout();
-            if (timeout > 0L)
+
+            if (demux == null)
             {
-                cancelWait = signaler.signalAt(now().toEpochMilli() + timeout, originId, routedId, initialId,
-                        traceId, SIGNAL_WAIT_EXPIRED, 0);
+                kafka = newKafkaCorrelater(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck,
+                        initialMax, traceId, authorization, affinity, resolved);
+
+                if (timeout > 0L)
+                {
+                    cancelWait = signaler.signalAt(now().toEpochMilli() + timeout, originId, routedId, initialId,
+                            traceId, SIGNAL_WAIT_EXPIRED, 0);
+                }
+                doKafkaWindow(traceId);
+            }
+            else if (timeout > 0L)
+            {
+                cancelWait = signaler.signalAt(now().toEpochMilli() + timeout, SIGNAL_WAIT_EXPIRED, this::onDemuxSignal);
             }
-            doKafkaWindow(traceId);
         }
 
         private void doKafkaEnd(
@@ -3383,8 +3693,16 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                 signaler.cancel(cancelWait);
                 cancelWait = NO_CANCEL_ID;
 
-                doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, authorization);
+                if (demux != null)
+                {
+                    demux.leave(this, traceId);
+                    onDemuxEnd(traceId, authorization);
+                }
+                else
+                {
+                    doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                            traceId, authorization);
+                }
             }
         }
 
@@ -3392,7 +3710,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            if (!HttpKafkaState.initialClosed(state) && kafka != null)
+            if (!HttpKafkaState.initialClosed(state) && (kafka != null || demux != null))
             {
                 initialSeq = delegate.initialSeq;
                 initialAck = delegate.initialAck;
@@ -3402,8 +3720,15 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                 signaler.cancel(cancelWait);
                 cancelWait = NO_CANCEL_ID;
 
-                doAbort(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, authorization);
+                if (demux != null)
+                {
+                    demux.leave(this, traceId);
+                }
+                else
+                {
+                    doAbort(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                            traceId, authorization);
+                }
             }
         }
 
@@ -3628,19 +3953,30 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         private void doKafkaReset(
             long traceId)
         {
-            if (!HttpKafkaState.replyClosed(state) && kafka != null)
+            if (!HttpKafkaState.replyClosed(state) && (kafka != null || demux != null))
             {
                 state = HttpKafkaState.closeReply(state);
 
-                doReset(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                        traceId);
+                if (demux != null)
+                {
+                    demux.leave(this, traceId);
+                }
+                else
+                {
+                    doReset(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                            traceId);
+                }
             }
         }
 
         private void doKafkaWindow(
             long traceId)
         {
-            if (kafka != null)
+            if (demux != null)
+            {
+                demux.doKafkaWindow(traceId);
+            }
+            else if (kafka != null)
             {
                 replyAck = delegate.replyAck;
                 replyMax = delegate.replyMax;
@@ -3652,41 +3988,608 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                         traceId, 0L, replyBud, replyPad, replyCap);
             }
         }
-    }
 
-    private final class HttpProduceSyncProxy extends HttpProxy
-    {
-        private final KafkaProduceProxy producer;
-        private final KafkaCorrelateProxy correlater;
-        private final long affinity;
-        private int producedFlags;
+        private void onDemuxSignal(
+            int signalId)
+        {
+            assert signalId == SIGNAL_WAIT_EXPIRED;
 
-        private HttpProduceSyncProxy(
-            MessageConsumer http,
-            long originId,
-            long routedId,
-            long initialId,
-            long resolvedId,
-            long affinity,
-            HttpKafkaWithProduceResult resolved)
+            cancelWait = NO_CANCEL_ID;
+
+            final long traceId = supplyTraceId.getAsLong();
+            doKafkaEnd(traceId, 0L);
+        }
+
+        private void onDemuxBegin(
+            long traceId,
+            long authorization,
+            OctetsFW extension)
         {
-            super(http, originId, routedId, initialId);
-            this.affinity = affinity;
-            this.producer = new KafkaProduceProxy(routedId, resolvedId, this, resolved);
-            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved);
+            state = HttpKafkaState.openingReply(state);
+
+            delegate.onKafkaBegin(traceId, authorization, extension);
         }
 
-        private void onHttpMessage(
-            int msgTypeId,
-            DirectBuffer buffer,
-            int index,
-            int length)
+        private void onDemuxData(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int flags,
+            OctetsFW payload,
+            OctetsFW extension)
         {
-            switch (msgTypeId)
+            replySeq += reserved;
+
+            signaler.cancel(cancelWait);
+            cancelWait = NO_CANCEL_ID;
+
+            delegate.onKafkaData(traceId, authorization, budgetId, reserved, flags, payload, extension);
+        }
+
+        private void onDemuxFlush(
+            long traceId,
+            long authorization)
+        {
+            if (!flushed)
             {
-            case BeginFW.TYPE_ID:
-                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
-                onHttpBegin(begin);
+                flushed = true;
+                delegate.onKafkaFlush(traceId, authorization, 0L, 0);
+            }
+        }
+
+        private void onDemuxEnd(
+            long traceId,
+            long authorization)
+        {
+            if (!HttpKafkaState.replyClosed(state))
+            {
+                state = HttpKafkaState.closeReply(state);
+
+                delegate.onKafkaEnd(traceId, authorization);
+            }
+        }
+
+        private void onDemuxAbort(
+            long traceId,
+            long authorization)
+        {
+            if (!HttpKafkaState.replyClosed(state))
+            {
+                state = HttpKafkaState.closeReply(state);
+
+                delegate.onKafkaAbort(traceId, authorization);
+            }
+        }
+
+        private void onDemuxWindow(
+            long authorization,
+            long traceId,
+            long budgetId,
+            int padding,
+            int capabilities)
+        {
+            if (!HttpKafkaState.initialClosed(state))
+            {
+                state = HttpKafkaState.openInitial(state);
+
+                delegate.onKafkaWindow(authorization, traceId, budgetId, padding, capabilities);
+            }
+        }
+
+        private void onDemuxReset(
+            long traceId,
+            long authorization)
+        {
+            if (!HttpKafkaState.initialClosed(state))
+            {
+                state = HttpKafkaState.closeInitial(state);
+
+                delegate.onKafkaReset(traceId, authorization);
+            }
+        }
+    }
+
+    private final class KafkaCorrelateDemux
+    {
+        private final long key;
+        private final long originId;
+        private final long routedId;
+        private final long authorization;
+        private final long initialId;
+        private final long replyId;
+        private final HttpKafkaWithProduceResult resolved;
+        private final Correlations<KafkaCorrelateProxy> members;
+
+        private MessageConsumer kafka;
+        private final Consumer<KafkaCorrelateProxy> accumulateWindow;
+
+        private KafkaCorrelateProxy receiver;
+        private boolean flushed;
+
+        private int state;
+
+        private long initialSeq;
+        private long initialAck;
+        private int initialMax;
+        private long initialBud;
+        private int initialPad;
+        private int initialCap;
+
+        private long replySeq;
+        private long replyAck;
+        private int replyMax;
+        private int replyPad;
+        private int replyWinMin;
+        private int replyPadMax;
+
+        private KafkaCorrelateDemux(
+            long key,
+            long originId,
+            long routedId,
+            long authorization,
+            HttpKafkaWithProduceResult resolved)
+        {
+            this.key = key;
+            this.originId = originId;
+            this.routedId = routedId;
+            this.authorization = authorization;
+            this.resolved = resolved;
+            this.members = new Correlations<>(m -> m.correlationId.value());
+            this.initialId = supplyInitialId.applyAsLong(routedId);
+            this.replyId = supplyReplyId.applyAsLong(initialId);
+            this.accumulateWindow = this::accumulateWindow;
+        }
+
+        private boolean join(
+            KafkaCorrelateProxy member,
+            long traceId,
+            long authorization,
+            long affinity)
+        {
+            final boolean joined = members.register(member);
+
+            if (joined)
+            {
+                if (!HttpKafkaState.initialOpening(state))
+                {
+                    doKafkaBegin(traceId, authorization, affinity);
+                }
+                else
+                {
+                    if (HttpKafkaState.replyOpening(state))
+                    {
+                        member.onDemuxBegin(traceId, authorization, emptyRO);
+                    }
+
+                    if (HttpKafkaState.initialOpened(state))
+                    {
+                        member.onDemuxWindow(authorization, traceId, initialBud, initialPad, initialCap);
+                    }
+
+                    if (flushed)
+                    {
+                        member.onDemuxFlush(traceId, authorization);
+                    }
+                }
+            }
+
+            return joined;
+        }
+
+        private void leave(
+            KafkaCorrelateProxy member,
+            long traceId)
+        {
+            members.unregister(member);
+
+            if (receiver == member)
+            {
+                receiver = null;
+            }
+
+            doKafkaWindow(traceId);
+        }
+
+        private void doKafkaBegin(
+            long traceId,
+            long authorization,
+            long affinity)
+        {
+            state = HttpKafkaState.openingInitial(state);
+
+            kafka = newKafkaReplies(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, authorization, affinity, resolved);
+
+            doKafkaWindow(traceId);
+        }
+
+        private void doKafkaClose(
+            long traceId,
+            long authorization)
+        {
+            if (HttpKafkaState.initialOpening(state))
+            {
+                doKafkaEnd(traceId, authorization);
+                doKafkaReset(traceId);
+            }
+
+            onDemuxClosed();
+
+            members.drain(m -> m.onDemuxAbort(traceId, authorization));
+        }
+
+        private void doKafkaEnd(
+            long traceId,
+            long authorization)
+        {
+            if (!HttpKafkaState.initialClosed(state))
+            {
+                state = HttpKafkaState.closeInitial(state);
+
+                doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization);
+            }
+        }
+
+        private void doKafkaAbort(
+            long traceId,
+            long authorization)
+        {
+            if (!HttpKafkaState.initialClosed(state))
+            {
+                state = HttpKafkaState.closeInitial(state);
+
+                doAbort(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization);
+            }
+        }
+
+        private void onKafkaMessage(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
+            {
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onKafkaBegin(begin);
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                onKafkaData(data);
+                break;
+            case EndFW.TYPE_ID:
+                final EndFW end = endRO.wrap(buffer, index, index + length);
+                onKafkaEnd(end);
+                break;
+            case AbortFW.TYPE_ID:
+                final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                onKafkaAbort(abort);
+                break;
+            case FlushFW.TYPE_ID:
+                final FlushFW flush = flushRO.wrap(buffer, index, index + length);
+                onKafkaFlush(flush);
+                break;
+            case WindowFW.TYPE_ID:
+                final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                onKafkaWindow(window);
+                break;
+            case ResetFW.TYPE_ID:
+                final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                onKafkaReset(reset);
+                break;
+            }
+        }
+
+        private void onKafkaBegin(
+            BeginFW begin)
+        {
+            final long sequence = begin.sequence();
+            final long acknowledge = begin.acknowledge();
+            final long traceId = begin.traceId();
+            final long authorization = begin.authorization();
+            final OctetsFW extension = begin.extension();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+            assert acknowledge >= replyAck;
+
+            replySeq = sequence;
+            replyAck = acknowledge;
+            state = HttpKafkaState.openingReply(state);
+
+            assert replyAck <= replySeq;
+
+            members.forEach(m -> m.onDemuxBegin(traceId, authorization, extension));
+            doKafkaWindow(traceId);
+        }
+
+        private void onKafkaData(
+            DataFW data)
+        {
+            final long sequence = data.sequence();
+            final long acknowledge = data.acknowledge();
+            final long traceId = data.traceId();
+            final long authorization = data.authorization();
+            final long budgetId = data.budgetId();
+            final int reserved = data.reserved();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence + reserved;
+
+            assert replyAck <= replySeq;
+
+            if (replySeq > replyAck + replyMax)
+            {
+                doKafkaReset(traceId);
+                doKafkaAbort(traceId, authorization);
+                onDemuxClosed();
+
+                members.drain(m -> m.onDemuxReset(traceId, authorization));
+            }
+            else
+            {
+                final int flags = data.flags();
+                final OctetsFW payload = data.payload();
+                final OctetsFW extension = data.extension();
+
+                KafkaCorrelateProxy member = receiver;
+
+                if ((flags & DATA_FLAG_INIT) != 0x00)
+                {
+                    member = null;
+
+                    final ExtensionFW dataEx = extension.get(extensionRO::tryWrap);
+                    final KafkaDataExFW kafkaDataEx =
+                            dataEx != null && dataEx.typeId() == kafkaTypeId ? extension.get(kafkaDataExRO::tryWrap) : null;
+                    final KafkaMergedFetchDataExFW kafkaMergedFetchDataEx =
+                            kafkaDataEx != null && kafkaDataEx.merged() != null ? kafkaDataEx.merged().fetch() : null;
+                    final OctetsFW correlationId =
+                            kafkaMergedFetchDataEx != null ? resolved.correlationId(kafkaMergedFetchDataEx.headers()) : null;
+
+                    if (correlationId != null)
+                    {
+                        member = members.resolve(correlationId.buffer(), correlationId.offset(), correlationId.sizeof());
+                    }
+                }
+
+                receiver = (flags & DATA_FLAG_FIN) == 0x00 ? member : null;
+
+                if (member != null)
+                {
+                    member.onDemuxData(traceId, authorization, budgetId, reserved, flags, payload, extension);
+                }
+
+                doKafkaWindow(traceId);
+            }
+        }
+
+        private void onKafkaEnd(
+            EndFW end)
+        {
+            final long sequence = end.sequence();
+            final long acknowledge = end.acknowledge();
+            final long traceId = end.traceId();
+            final long authorization = end.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = HttpKafkaState.closeReply(state);
+
+            assert replyAck <= replySeq;
+
+            doKafkaEnd(traceId, authorization);
+            onDemuxClosed();
+
+            members.drain(m -> m.onDemuxEnd(traceId, authorization));
+        }
+
+        private void onKafkaFlush(
+            FlushFW flush)
+        {
+            final long sequence = flush.sequence();
+            final long acknowledge = flush.acknowledge();
+            final long traceId = flush.traceId();
+            final long authorization = flush.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+
+            assert replyAck <= replySeq;
+
+            if (!flushed)
+            {
+                flushed = true;
+                members.forEach(m -> m.onDemuxFlush(traceId, authorization));
+            }
+        }
+
+        private void onKafkaAbort(
+            AbortFW abort)
+        {
+            final long sequence = abort.sequence();
+            final long acknowledge = abort.acknowledge();
+            final long traceId = abort.traceId();
+            final long authorization = abort.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = HttpKafkaState.closeReply(state);
+
+            assert replyAck <= replySeq;
+
+            doKafkaAbort(traceId, authorization);
+            onDemuxClosed();
+
+            members.drain(m -> m.onDemuxAbort(traceId, authorization));
+        }
+
+        private void onKafkaWindow(
+            WindowFW window)
+        {
+            final long sequence = window.sequence();
+            final long acknowledge = window.acknowledge();
+            final int maximum = window.maximum();
+            final long authorization = window.authorization();
+            final long traceId = window.traceId();
+            final long budgetId = window.budgetId();
+            final int padding = window.padding();
+            final int capabilities = window.capabilities();
+
+            assert acknowledge <= sequence;
+            assert maximum >= initialMax;
+
+            initialAck = acknowledge;
+            initialMax = maximum;
+            initialBud = budgetId;
+            initialPad = padding;
+            initialCap = capabilities;
+            state = HttpKafkaState.openInitial(state);
+
+            assert initialAck <= initialSeq;
+
+            members.forEach(m -> m.onDemuxWindow(authorization, traceId, budgetId, padding, capabilities));
+        }
+
+        private void onKafkaReset(
+            ResetFW reset)
+        {
+            final long sequence = reset.sequence();
+            final long acknowledge = reset.acknowledge();
+            final long traceId = reset.traceId();
+            final long authorization = reset.authorization();
+
+            assert acknowledge <= sequence;
+            assert acknowledge >= initialAck;
+
+            initialAck = acknowledge;
+            state = HttpKafkaState.closeInitial(state);
+
+            assert initialAck <= initialSeq;
+
+            doKafkaReset(traceId);
+            onDemuxClosed();
+
+            members.drain(m -> m.onDemuxReset(traceId, authorization));
+        }
+
+        private void doKafkaReset(
+            long traceId)
+        {
+            if (!HttpKafkaState.replyClosed(state))
+            {
+                state = HttpKafkaState.closeReply(state);
+
+                doReset(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId);
+            }
+        }
+
+        private void doKafkaWindow(
+            long traceId)
+        {
+            if (!HttpKafkaState.replyClosed(state))
+            {
+                replyWinMin = members.isEmpty() ? writeBuffer.capacity() : Integer.MAX_VALUE;
+                replyPadMax = 0;
+                members.visit(accumulateWindow);
+
+                final int replyWin = replyMax - (int) (replySeq - replyAck);
+                final int replyCredit = replyWinMin - replyWin;
+
+                if (replyCredit > 0 || replyPadMax > replyPad)
+                {
+                    final int replyNoAck = (int) (replySeq - replyAck);
+                    replyAck += Math.min(replyNoAck, Math.max(replyCredit, 0));
+                    assert replyAck <= replySeq;
+
+                    replyMax = Math.max(replyWinMin, replyWin) + (int) (replySeq - replyAck);
+                    assert replyMax >= 0;
+
+                    replyPad = Math.max(replyPad, replyPadMax);
+
+                    doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                            traceId, 0L, 0L, replyPad, 0);
+                }
+            }
+        }
+
+        private void accumulateWindow(
+            KafkaCorrelateProxy member)
+        {
+            final HttpProxy delegate = member.delegate;
+
+            replyWinMin = Math.min(replyWinMin, delegate.replyMax - (int) (delegate.replySeq - delegate.replyAck));
+            replyPadMax = Math.max(replyPadMax, delegate.replyPad);
+        }
+
+        private boolean matches(
+            long originId,
+            long routedId,
+            long authorization,
+            HttpKafkaWithProduceResult resolved)
+        {
+            return this.originId == originId &&
+                this.routedId == routedId &&
+                this.authorization == authorization &&
+                this.resolved.compositeId() == resolved.compositeId() &&
+                this.resolved.replyTo().value().equals(resolved.replyTo().value());
+        }
+
+        private void onDemuxClosed()
+        {
+            if (demuxes.get(key) == this)
+            {
+                demuxes.remove(key);
+            }
+        }
+    }
+
+    private final class HttpProduceSyncProxy extends HttpProxy
+    {
+        private final KafkaProduceProxy producer;
+        private final KafkaCorrelateProxy correlater;
+        private final long affinity;
+        private int producedFlags;
+
+        private HttpProduceSyncProxy(
+            MessageConsumer http,
+            long originId,
+            long routedId,
+            long initialId,
+            long resolvedId,
+            long affinity,
+            HttpKafkaWithProduceResult resolved)
+        {
+            super(http, originId, routedId, initialId);
+            this.affinity = affinity;
+            this.producer = new KafkaProduceProxy(routedId, resolvedId, this, resolved);
+            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved,
+                replyShared && !resolved.replayable());
+        }
+
+        private void onHttpMessage(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
+            {
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onHttpBegin(begin);
                 break;
             case DataFW.TYPE_ID:
                 final DataFW data = dataRO.wrap(buffer, index, index + length);
@@ -4457,6 +5360,117 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         return receiver;
     }
 
+    private long supplyFetchKey(
+        long routedId,
+        long resolvedId,
+        HttpKafkaWithFetchResult resolved)
+    {
+        final DirectBuffer key = encodeFetchKey(resolved, fetchKeyBuffer, fetchKeyRO);
+
+        long hash = routedId;
+        hash = 31L * hash + resolvedId;
+        hash = 31L * hash + resolved.compositeId();
+        for (int index = 0; index < key.capacity(); index++)
+        {
+            hash = 31L * hash + key.getByte(index);
+        }
+
+        return hash;
+    }
+
+    private DirectBuffer encodeFetchKey(
+        HttpKafkaWithFetchResult resolved,
+        MutableDirectBuffer buffer,
+        DirectBuffer keyRO)
+    {
+        final String16FW topic = resolved.topic();
+        buffer.putBytes(0, topic.buffer(), topic.offset(), topic.sizeof());
+
+        filtersRW.wrap(buffer, topic.sizeof(), buffer.capacity());
+        resolved.filters(filtersRW);
+
+        final Array32FW<KafkaFilterFW> filters = filtersRW.build();
+        keyRO.wrap(buffer, 0, filters.limit());
+
+        return keyRO;
+    }
+
+    private KafkaCorrelateDemux supplyCorrelateDemux(
+        long originId,
+        long routedId,
+        long authorization,
+        HttpKafkaWithProduceResult resolved)
+    {
+        final DirectBuffer replyTo = resolved.replyTo().value();
+
+        long key = originId;
+        key = 31L * key + routedId;
+        key = 31L * key + authorization;
+        key = 31L * key + resolved.compositeId();
+        for (int index = 0; index < replyTo.capacity(); index++)
+        {
+            key = 31L * key + replyTo.getByte(index);
+        }
+
+        KafkaCorrelateDemux demux = demuxes.get(key);
+
+        if (demux == null)
+        {
+            demux = new KafkaCorrelateDemux(key, originId, routedId, authorization, resolved);
+            demuxes.put(key, demux);
+        }
+        else if (!demux.matches(originId, routedId, authorization, resolved))
+        {
+            // key collision, use a dedicated correlater instead
+            demux = null;
+        }
+
+        return demux;
+    }
+
+    private MessageConsumer newKafkaReplies(
+        MessageConsumer sender,
+        long originId,
+        long routedId,
+        long streamId,
+        long sequence,
+        long acknowledge,
+        int maximum,
+        long traceId,
+        long authorization,
+        long affinity,
+        HttpKafkaWithProduceResult resolved)
+    {
+        final KafkaBeginExFW kafkaBeginEx =
+            kafkaBeginExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                .compositeId(resolved.compositeId())
+                .typeId(kafkaTypeId)
+                .merged(m -> m.capabilities(c -> c.set(FETCH_ONLY))
+                              .topic(resolved.replyTo())
+                              .partitionsItem(p -> p.partitionId(-1).partitionOffset(KafkaOffsetType.LIVE.value())))
+                .build();
+
+        final BeginFW begin = beginRW.wrap(writeBuffer, 0, writeBuffer.capacity())
+                .originId(originId)
+                .routedId(routedId)
+                .streamId(streamId)
+                .sequence(sequence)
+                .acknowledge(acknowledge)
+                .maximum(maximum)
+                .traceId(traceId)
+                .authorization(authorization)
+                .affinity(affinity)
+                .extension(kafkaBeginEx.buffer(), kafkaBeginEx.offset(), kafkaBeginEx.sizeof())
+                .build();
+
+        MessageConsumer receiver =
+                streamFactory.newStream(begin.typeId(), begin.buffer(), begin.offset(), begin.sizeof(), sender);
+
+        receiver.accept(begin.typeId(), begin.buffer(), begin.offset(), begin.sizeof());
+
+        return receiver;
+    }
+
     private void doWindow(
         MessageConsumer sender,
         long originId,
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.kafka.internal;
+
+import static io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfiguration.FETCH_CACHE_CAPACITY;
+import static io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfiguration.FETCH_SHARED;
+import static io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfiguration.REPLY_SHARED;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class HttpKafkaConfigurationTest
+{
+    public static final String REPLY_SHARED_NAME = "zilla.binding.http.kafka.reply.shared";
+    public static final String FETCH_SHARED_NAME = "zilla.binding.http.kafka.fetch.shared";
+    public static final String FETCH_CACHE_CAPACITY_NAME = "zilla.binding.http.kafka.fetch.cache.capacity";
+
+    @Test
+    public void shouldVerifyConstants()
+    {
+        assertEquals(REPLY_SHARED.name(), REPLY_SHARED_NAME);
+        assertEquals(FETCH_SHARED.name(), FETCH_SHARED_NAME);
+        assertEquals(FETCH_CACHE_CAPACITY.name(), FETCH_CACHE_CAPACITY_NAME);
+    }
+}
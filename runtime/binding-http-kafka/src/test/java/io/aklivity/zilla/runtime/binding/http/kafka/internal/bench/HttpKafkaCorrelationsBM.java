@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.kafka.internal.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.UUID;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.engine.util.Correlations;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class HttpKafkaCorrelationsBM
+{
+    @Param({ "1", "100", "1000", "5000" })
+    private int inflight;
+
+    private DirectBuffer[] requests;
+    private DirectBuffer[] replies;
+    private HttpKafkaCorrelations<DirectBuffer> correlations;
+    private int next;
+
+    @Setup
+    public void init()
+    {
+        requests = new DirectBuffer[inflight];
+        replies = new DirectBuffer[inflight];
+        correlations = new HttpKafkaCorrelations<>(r -> r);
+
+        for (int i = 0; i < inflight; i++)
+        {
+            final byte[] correlationId = String.format("%s-%032x", UUID.randomUUID(), i).getBytes(UTF_8);
+            requests[i] = new UnsafeBuffer(correlationId.clone());
+            replies[i] = new UnsafeBuffer(correlationId.clone());
+            correlations.register(requests[i]);
+        }
+    }
+
+    @Benchmark
+    public void shared(
+        Blackhole blackhole)
+    {
+        final DirectBuffer reply = nextReply();
+
+        blackhole.consume(correlations.resolve(reply, 0, reply.capacity()));
+    }
+
+    @Benchmark
+    public void dedicated(
+        Blackhole blackhole)
+    {
+        final DirectBuffer reply = nextReply();
+
+        // each in-flight request filters every reply on its own correlation stream
+        DirectBuffer matched = null;
+        for (int i = 0; i < requests.length; i++)
+        {
+            final DirectBuffer request = requests[i];
+            if (request.capacity() == reply.capacity() &&
+                request.compareTo(reply) == 0)
+            {
+                matched = request;
+            }
+        }
+
+        blackhole.consume(matched);
+    }
+
+    private DirectBuffer nextReply()
+    {
+        final DirectBuffer reply = replies[next];
+        next = next + 1 < replies.length ? next + 1 : 0;
+        return reply;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(HttpKafkaCorrelationsBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.kafka.internal.stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class HttpKafkaFetchCacheTest
+{
+    private final HttpKafkaFetchCache cache = new HttpKafkaFetchCache(16);
+
+    @Test
+    public void shouldLookupPublished()
+    {
+        final DirectBuffer tag = buffer("offsets-1");
+        final HttpKafkaFetchCache.Entry entry = cache.record(1L, buffer("items"), tag, 0, tag.capacity());
+
+        assertTrue(append(entry, "[{},"));
+        assertTrue(append(entry, "{}]"));
+        assertTrue(cache.publish(entry));
+
+        assertSame(entry, cache.lookup(1L, buffer("items"), tag, 0, tag.capacity()));
+        assertEquals("[{},{}]", entry.body().getStringWithoutLengthUtf8(0, entry.length()));
+        assertEquals(7, cache.size());
+    }
+
+    @Test
+    public void shouldNotLookupAdvancedOffsets()
+    {
+        final DirectBuffer tag = buffer("offsets-1");
+        final HttpKafkaFetchCache.Entry entry = cache.record(1L, buffer("items"), tag, 0, tag.capacity());
+        append(entry, "[]");
+        cache.publish(entry);
+
+        final DirectBuffer advanced = buffer("offsets-2");
+
+        assertNull(cache.lookup(1L, buffer("items"), advanced, 0, advanced.capacity()));
+        assertNull(cache.lookup(2L, buffer("others"), tag, 0, tag.capacity()));
+    }
+
+    @Test
+    public void shouldNotLookupCollidingKey()
+    {
+        final DirectBuffer tag = buffer("offsets-1");
+        final HttpKafkaFetchCache.Entry entry = cache.record(1L, buffer("items"), tag, 0, tag.capacity());
+        append(entry, "[]");
+        cache.publish(entry);
+
+        assertNull(cache.lookup(1L, buffer("others"), tag, 0, tag.capacity()));
+    }
+
+    @Test
+    public void shouldNotPublishOverflow()
+    {
+        final DirectBuffer tag = buffer("offsets-1");
+        final HttpKafkaFetchCache.Entry entry = cache.record(1L, buffer("items"), tag, 0, tag.capacity());
+
+        assertTrue(append(entry, "[{\"id\":1},"));
+        assertFalse(append(entry, "{\"id\":2}]"));
+        assertFalse(cache.publish(entry));
+
+        assertNull(cache.lookup(1L, buffer("items"), tag, 0, tag.capacity()));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed()
+    {
+        final DirectBuffer tag = buffer("offsets-1");
+
+        final HttpKafkaFetchCache.Entry first = cache.record(3L, buffer("first"), tag, 0, tag.capacity());
+        append(first, "[1,2,3]");
+        cache.publish(first);
+
+        final HttpKafkaFetchCache.Entry second = cache.record(4L, buffer("second"), tag, 0, tag.capacity());
+        append(second, "[4,5,6]");
+        cache.publish(second);
+
+        cache.lookup(3L, buffer("first"), tag, 0, tag.capacity());
+
+        final HttpKafkaFetchCache.Entry third = cache.record(5L, buffer("third"), tag, 0, tag.capacity());
+        append(third, "[7,8,9]");
+        cache.publish(third);
+
+        assertSame(first, cache.lookup(3L, buffer("first"), tag, 0, tag.capacity()));
+        assertNull(cache.lookup(4L, buffer("second"), tag, 0, tag.capacity()));
+        assertSame(third, cache.lookup(5L, buffer("third"), tag, 0, tag.capacity()));
+        assertEquals(2, cache.entries());
+        assertEquals(14, cache.size());
+    }
+
+    private static boolean append(
+        HttpKafkaFetchCache.Entry entry,
+        String value)
+    {
+        final DirectBuffer buffer = buffer(value);
+        return entry.append(buffer, 0, buffer.capacity());
+    }
+
+    private static DirectBuffer buffer(
+        String value)
+    {
+        return new UnsafeBuffer(value.getBytes(UTF_8));
+    }
+}
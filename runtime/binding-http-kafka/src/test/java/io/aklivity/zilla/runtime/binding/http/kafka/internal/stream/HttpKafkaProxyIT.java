@@ -28,6 +28,7 @@ import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class HttpKafkaProxyIT
 {
@@ -528,6 +529,39 @@ public class HttpKafkaProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("proxy.get.items.yaml")
+    @Configure(name = "zilla.binding.http.kafka.fetch.shared", value = "true")
+    @Specification({
+        "${http}/get.items.shared/client",
+        "${kafka}/get.items.write.flush/server"})
+    public void shouldGetItemsWithSharedFetch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.get.items.yaml")
+    @Configure(name = "zilla.binding.http.kafka.fetch.shared", value = "true")
+    @Specification({
+        "${http}/get.items.shared.if.none.match/client",
+        "${kafka}/get.items.write.flush/server"})
+    public void shouldNotGetItemsIfNoneMatchNotModifiedWithSharedFetch() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.get.items.yaml")
+    @Configure(name = "zilla.binding.http.kafka.fetch.shared", value = "true")
+    @Specification({
+        "${http}/get.items.cached/client",
+        "${kafka}/get.items.cached/server"})
+    public void shouldGetItemsCached() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("proxy.patch.item.yaml")
     @Specification({
@@ -598,6 +632,17 @@ public class HttpKafkaProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("proxy.post.item.command.yaml")
+    @Configure(name = "zilla.binding.http.kafka.reply.shared", value = "true")
+    @Specification({
+        "${http}/post.item.command.shared/client",
+        "${kafka}/post.item.command.shared/server"})
+    public void shouldPostItemCommandsWithSharedReplies() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("proxy.post.item.command.yaml")
     @Specification({
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.codec;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Byte-level HTTP/1.1 request line and header line parser.
+ * <p>
+ * Each {@code parse*} method is given a single line including its terminating {@code CRLF} and records
+ * the offsets of the parsed parts into the source buffer, so no {@code String} is materialized on success.
+ * The accepted grammar matches the request line {@code [A-Z]+\s+[^\s]+\s+HTTP/\d\.\d\r\n}
+ * and the header line {@code [^\s:]+:\s*[^\r\n]*\r\n}.
+ */
+public final class Http1RequestParser
+{
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte COLON = ':';
+    private static final byte SLASH = '/';
+    private static final byte QUESTION = '?';
+    private static final byte PERCENT = '%';
+    private static final byte[] HTTP_SLASH_BYTES = { 'H', 'T', 'T', 'P', '/' };
+    private static final int VERSION_LENGTH = HTTP_SLASH_BYTES.length + 3;
+
+    private static final int CHAR_WHITESPACE = 0x01;
+    private static final int CHAR_PATH = 0x02;
+    private static final int CHAR_QUERY = 0x04;
+
+    private static final byte[] CHAR_CLASSES = initCharClasses();
+
+    private final MutableDirectBuffer nameRW;
+
+    private DirectBuffer buffer;
+    private int methodOffset;
+    private int methodLength;
+    private int targetOffset;
+    private int targetLength;
+    private int versionOffset;
+    private int nameLength;
+    private int valueOffset;
+    private int valueLength;
+
+    public Http1RequestParser(
+        int maximumLineSize)
+    {
+        this.nameRW = new UnsafeBuffer(new byte[maximumLineSize]);
+    }
+
+    public DirectBuffer buffer()
+    {
+        return buffer;
+    }
+
+    public boolean parseRequestLine(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        this.buffer = buffer;
+
+        boolean parsed = false;
+
+        final int endOfLineAt = limit - 2;
+        if (endOfLineAt > offset &&
+            buffer.getByte(endOfLineAt) == CR &&
+            buffer.getByte(endOfLineAt + 1) == LF)
+        {
+            int progress = offset;
+            while (progress < endOfLineAt && isUpperCaseLetter(buffer.getByte(progress)))
+            {
+                progress++;
+            }
+            methodOffset = offset;
+            methodLength = progress - offset;
+
+            final int endOfMethodAt = progress;
+            progress = skipWhitespace(buffer, progress, endOfLineAt);
+
+            if (methodLength > 0 && progress > endOfMethodAt)
+            {
+                targetOffset = progress;
+                while (progress < endOfLineAt && !isWhitespace(buffer.getByte(progress)))
+                {
+                    progress++;
+                }
+                targetLength = progress - targetOffset;
+
+                final int endOfTargetAt = progress;
+                progress = skipWhitespace(buffer, progress, endOfLineAt);
+
+                versionOffset = progress;
+                parsed = targetLength > 0 &&
+                    progress > endOfTargetAt &&
+                    endOfLineAt - progress == VERSION_LENGTH &&
+                    isVersion(buffer, progress);
+            }
+        }
+
+        return parsed;
+    }
+
+    public int methodOffset()
+    {
+        return methodOffset;
+    }
+
+    public int methodLength()
+    {
+        return methodLength;
+    }
+
+    public boolean methodEquals(
+        byte[] method)
+    {
+        return equals(buffer, methodOffset, methodLength, method);
+    }
+
+    public int targetOffset()
+    {
+        return targetOffset;
+    }
+
+    public int targetLength()
+    {
+        return targetLength;
+    }
+
+    public int versionMajor()
+    {
+        return buffer.getByte(versionOffset + HTTP_SLASH_BYTES.length) - '0';
+    }
+
+    /**
+     * Returns {@code true} when the target is an origin-form absolute path with optional query, without authority,
+     * fragment or any character that {@code java.net.URI} would reject, so the raw target bytes can be used as
+     * {@code :path} directly.
+     */
+    public boolean isOriginForm()
+    {
+        final int limit = targetOffset + targetLength;
+
+        boolean originForm = targetLength > 0 &&
+            buffer.getByte(targetOffset) == SLASH &&
+            (targetLength == 1 || buffer.getByte(targetOffset + 1) != SLASH);
+
+        int charClass = CHAR_PATH;
+        for (int progress = targetOffset; originForm && progress < limit; progress++)
+        {
+            final byte ch = buffer.getByte(progress);
+            if (ch == PERCENT)
+            {
+                originForm = progress + 2 < limit &&
+                    isHexDigit(buffer.getByte(progress + 1)) &&
+                    isHexDigit(buffer.getByte(progress + 2));
+                progress += 2;
+            }
+            else if (ch == QUESTION && charClass == CHAR_PATH)
+            {
+                charClass = CHAR_QUERY;
+            }
+            else
+            {
+                originForm = ch >= 0 && (CHAR_CLASSES[ch] & charClass) != 0;
+            }
+        }
+
+        return originForm;
+    }
+
+    public boolean parseHeaderLine(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        this.buffer = buffer;
+
+        boolean parsed = false;
+
+        final int endOfLineAt = limit - 2;
+        if (endOfLineAt > offset &&
+            buffer.getByte(endOfLineAt) == CR &&
+            buffer.getByte(endOfLineAt + 1) == LF)
+        {
+            int progress = offset;
+            byte ch = 0;
+            while (progress < endOfLineAt && (ch = buffer.getByte(progress)) != COLON && !isWhitespace(ch))
+            {
+                nameRW.putByte(progress - offset, toLowerCase(ch));
+                progress++;
+            }
+            nameLength = progress - offset;
+
+            if (nameLength > 0 && progress < endOfLineAt && ch == COLON)
+            {
+                progress = skipWhitespace(buffer, progress + 1, endOfLineAt);
+
+                valueOffset = progress;
+                while (progress < endOfLineAt && (ch = buffer.getByte(progress)) != CR && ch != LF)
+                {
+                    progress++;
+                }
+                valueLength = progress - valueOffset;
+
+                parsed = progress == endOfLineAt;
+            }
+        }
+
+        return parsed;
+    }
+
+    public DirectBuffer name()
+    {
+        return nameRW;
+    }
+
+    public int nameLength()
+    {
+        return nameLength;
+    }
+
+    public boolean nameEquals(
+        byte[] name)
+    {
+        return equals(nameRW, 0, nameLength, name);
+    }
+
+    public int valueOffset()
+    {
+        return valueOffset;
+    }
+
+    public int valueLength()
+    {
+        return valueLength;
+    }
+
+    public boolean valueEquals(
+        byte[] value)
+    {
+        return equals(buffer, valueOffset, valueLength, value);
+    }
+
+    public int valueIndexOf(
+        byte value)
+    {
+        int index = -1;
+        for (int progress = valueOffset; progress < valueOffset + valueLength; progress++)
+        {
+            if (buffer.getByte(progress) == value)
+            {
+                index = progress;
+                break;
+            }
+        }
+        return index;
+    }
+
+    private static boolean equals(
+        DirectBuffer buffer,
+        int offset,
+        int length,
+        byte[] value)
+    {
+        boolean equals = length == value.length;
+        for (int index = 0; equals && index < length; index++)
+        {
+            equals = buffer.getByte(offset + index) == value[index];
+        }
+        return equals;
+    }
+
+    private static int skipWhitespace(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+        while (progress < limit && isWhitespace(buffer.getByte(progress)))
+        {
+            progress++;
+        }
+        return progress;
+    }
+
+    private static boolean isVersion(
+        DirectBuffer buffer,
+        int offset)
+    {
+        final int versionAt = offset + HTTP_SLASH_BYTES.length;
+        return equals(buffer, offset, HTTP_SLASH_BYTES.length, HTTP_SLASH_BYTES) &&
+            isDigit(buffer.getByte(versionAt)) &&
+            buffer.getByte(versionAt + 1) == '.' &&
+            isDigit(buffer.getByte(versionAt + 2));
+    }
+
+    private static boolean isWhitespace(
+        byte ch)
+    {
+        return ch >= 0 && (CHAR_CLASSES[ch] & CHAR_WHITESPACE) != 0;
+    }
+
+    private static boolean isUpperCaseLetter(
+        byte ch)
+    {
+        return ch >= 'A' && ch <= 'Z';
+    }
+
+    private static boolean isDigit(
+        byte ch)
+    {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isHexDigit(
+        byte ch)
+    {
+        return isDigit(ch) || ch >= 'a' && ch <= 'f' || ch >= 'A' && ch <= 'F';
+    }
+
+    private static byte toLowerCase(
+        byte ch)
+    {
+        return isUpperCaseLetter(ch) ? (byte) (ch + ('a' - 'A')) : ch;
+    }
+
+    private static byte[] initCharClasses()
+    {
+        final byte[] charClasses = new byte[128];
+
+        for (byte ch : " \t\n\u000b\f\r".getBytes(US_ASCII))
+        {
+            charClasses[ch] |= CHAR_WHITESPACE;
+        }
+
+        // RFC 2396 pchar and uric, as accepted by java.net.URI
+        final String unreserved = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-_.!~*'()";
+        for (byte ch : (unreserved + ";:@&=+$,/").getBytes(US_ASCII))
+        {
+            charClasses[ch] |= CHAR_PATH;
+        }
+        for (byte ch : (unreserved + ";/?:@&=+$,[]").getBytes(US_ASCII))
+        {
+            charClasses[ch] |= CHAR_QUERY;
+        }
+
+        return charClasses;
+    }
+}
@@ -19,6 +19,7 @@ import static io.aklivity.zilla.runtime.binding.http.config.HttpPolicyConfig.SAM
 import static java.util.EnumSet.allOf;
 import static java.util.stream.Collectors.toList;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -70,6 +71,8 @@ public final class HttpBindingConfig
     public final Function<Function<String, String>, String> credentials;
     public final List<HttpRequestType> requests;
 
+    private final HttpRouteTree routeTree;
+
     public HttpBindingConfig(
         BindingConfig binding,
         Function<ModelConfig, ValidatorHandler> supplyValidator)
@@ -80,6 +83,7 @@ public final class HttpBindingConfig
         this.options = HttpOptionsConfig.class.cast(binding.options);
         this.routes = binding.routes.stream().map(route ->
             new HttpRouteConfig(route, options != null ? options.overrides : null)).collect(toList());
+        this.routeTree = new HttpRouteTree(binding.routes);
         this.resolveId = binding.resolveId;
         this.credentials = options != null && options.authorization != null ?
                 asAccessor(options.authorization.credentials) : DEFAULT_CREDENTIALS;
@@ -90,10 +94,20 @@ public final class HttpBindingConfig
         long authorization,
         Function<String, String> headerByName)
     {
-        return routes.stream()
-            .filter(r -> r.authorized(authorization) && r.matches(headerByName))
-            .findFirst()
-            .orElse(null);
+        HttpRouteConfig resolved = null;
+
+        final BitSet candidates = routeTree.candidates(headerByName);
+        for (int index = candidates.nextSetBit(0); index != -1; index = candidates.nextSetBit(index + 1))
+        {
+            HttpRouteConfig route = routes.get(index);
+            if (route.authorized(authorization) && route.matches(headerByName))
+            {
+                resolved = route;
+                break;
+            }
+        }
+
+        return resolved;
     }
 
     public SortedSet<HttpVersion>  versions()
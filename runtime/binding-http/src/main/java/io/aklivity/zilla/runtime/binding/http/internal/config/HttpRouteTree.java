@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfig;
+import io.aklivity.zilla.runtime.engine.config.ConditionConfig;
+import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+
+/**
+ * Decision tree over route conditions keyed on {@code :authority}, {@code :method} and literal {@code :path} segments.
+ * <p>
+ * The tree only narrows the routes that could match a request, so the candidates are always a superset of the
+ * matching routes, in route order. Each candidate must still be confirmed by {@link HttpRouteConfig#matches}.
+ */
+public final class HttpRouteTree
+{
+    private static final String HEADER_AUTHORITY = ":authority";
+    private static final String HEADER_METHOD = ":method";
+    private static final String HEADER_PATH = ":path";
+    private static final String WILDCARD_CHARS = "*{}\\[]()?+|^$";
+    private static final char PATH_SEPARATOR = '/';
+    private static final char QUERY_SEPARATOR = '?';
+
+    private final BitSet unconditional;
+    private final Map<String, MethodNode> authorities;
+    private final MethodNode anyAuthority;
+    private final BitSet candidates;
+
+    public HttpRouteTree(
+        List<RouteConfig> routes)
+    {
+        this.unconditional = new BitSet(routes.size());
+        this.authorities = new HashMap<>();
+        this.anyAuthority = new MethodNode();
+        this.candidates = new BitSet(routes.size());
+
+        for (int index = 0; index < routes.size(); index++)
+        {
+            RouteConfig route = routes.get(index);
+            if (route.when.isEmpty())
+            {
+                unconditional.set(index);
+            }
+            else
+            {
+                for (ConditionConfig condition : route.when)
+                {
+                    compile(index, HttpConditionConfig.class.cast(condition));
+                }
+            }
+        }
+    }
+
+    public BitSet candidates(
+        Function<String, String> headerByName)
+    {
+        candidates.clear();
+        candidates.or(unconditional);
+
+        String authority = headerByName.apply(HEADER_AUTHORITY);
+        String method = headerByName.apply(HEADER_METHOD);
+        String path = headerByName.apply(HEADER_PATH);
+
+        if (authority != null)
+        {
+            MethodNode node = authorities.get(authority);
+            if (node != null)
+            {
+                node.collect(method, path, candidates);
+            }
+        }
+        anyAuthority.collect(method, path, candidates);
+
+        return candidates;
+    }
+
+    private void compile(
+        int index,
+        HttpConditionConfig condition)
+    {
+        Map<String, String> headers = condition.headers;
+        if (headers == null)
+        {
+            unconditional.set(index);
+        }
+        else
+        {
+            String authority = headers.get(HEADER_AUTHORITY);
+            MethodNode methods = isLiteral(authority)
+                ? authorities.computeIfAbsent(authority, a -> new MethodNode())
+                : anyAuthority;
+
+            String method = headers.get(HEADER_METHOD);
+            PathNode paths = isLiteral(method)
+                ? methods.methods.computeIfAbsent(method, m -> new PathNode())
+                : methods.anyMethod;
+
+            String path = headers.get(HEADER_PATH);
+            if (path != null && !path.isEmpty() && path.charAt(0) == PATH_SEPARATOR)
+            {
+                final int literalLimit = literalLimit(path);
+                final boolean literal = literalLimit == path.length();
+
+                int segmentAt = 1;
+                for (int separatorAt = path.indexOf(PATH_SEPARATOR, segmentAt);
+                     separatorAt != -1 && separatorAt < literalLimit;
+                     separatorAt = path.indexOf(PATH_SEPARATOR, segmentAt))
+                {
+                    paths = paths.children.computeIfAbsent(path.substring(segmentAt, separatorAt), s -> new PathNode());
+                    segmentAt = separatorAt + 1;
+                }
+
+                if (literal)
+                {
+                    paths = paths.children.computeIfAbsent(path.substring(segmentAt), s -> new PathNode());
+                    paths.exact.set(index);
+                }
+                else
+                {
+                    paths.routes.set(index);
+                }
+            }
+            else
+            {
+                paths.routes.set(index);
+            }
+        }
+    }
+
+    private static boolean isLiteral(
+        String pattern)
+    {
+        return pattern != null && literalLimit(pattern) == pattern.length();
+    }
+
+    private static int literalLimit(
+        String pattern)
+    {
+        int limit = 0;
+        while (limit < pattern.length() && WILDCARD_CHARS.indexOf(pattern.charAt(limit)) == -1)
+        {
+            limit++;
+        }
+        return limit;
+    }
+
+    private static final class MethodNode
+    {
+        private final Map<String, PathNode> methods = new HashMap<>();
+        private final PathNode anyMethod = new PathNode();
+
+        private void collect(
+            String method,
+            String path,
+            BitSet candidates)
+        {
+            if (method != null)
+            {
+                PathNode node = methods.get(method);
+                if (node != null)
+                {
+                    node.collect(path, candidates);
+                }
+            }
+            anyMethod.collect(path, candidates);
+        }
+    }
+
+    private static final class PathNode
+    {
+        private final Map<String, PathNode> children = new HashMap<>();
+        private final BitSet routes = new BitSet();
+        private final BitSet exact = new BitSet();
+
+        private void collect(
+            String path,
+            BitSet candidates)
+        {
+            candidates.or(routes);
+
+            if (path != null && !path.isEmpty() && path.charAt(0) == PATH_SEPARATOR && !children.isEmpty())
+            {
+                int queryAt = path.indexOf(QUERY_SEPARATOR);
+                int pathLimit = queryAt != -1 ? queryAt : path.length();
+
+                PathNode node = this;
+                int segmentAt = 1;
+                while (node != null && segmentAt <= pathLimit)
+                {
+                    int separatorAt = path.indexOf(PATH_SEPARATOR, segmentAt);
+                    int segmentLimit = separatorAt != -1 && separatorAt < pathLimit ? separatorAt : pathLimit;
+
+                    node = node.children.get(path.substring(segmentAt, segmentLimit));
+                    if (node != null)
+                    {
+                        candidates.or(node.routes);
+
+                        if (segmentLimit == pathLimit)
+                        {
+                            candidates.or(node.exact);
+                        }
+                    }
+                    segmentAt = segmentLimit + 1;
+                }
+            }
+        }
+    }
+}
@@ -75,7 +75,6 @@ import org.agrona.collections.LongHashSet;
 import org.agrona.collections.LongLongConsumer;
 import org.agrona.collections.MutableBoolean;
 import org.agrona.collections.MutableInteger;
-import org.agrona.collections.MutableReference;
 import org.agrona.concurrent.AtomicBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -85,6 +84,7 @@ import io.aklivity.zilla.runtime.binding.http.config.HttpVersion;
 import io.aklivity.zilla.runtime.binding.http.internal.HttpBinding;
 import io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration;
 import io.aklivity.zilla.runtime.binding.http.internal.HttpEventContext;
+import io.aklivity.zilla.runtime.binding.http.internal.codec.Http1RequestParser;
 import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2ContinuationFW;
 import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2DataFW;
 import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2ErrorCode;
@@ -154,6 +154,7 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final int CLEANUP_SIGNAL = 0;
     private static final int DELEGATE_SIGNAL = 1;
     private static final int EXPIRING_SIGNAL = 2;
+    private static final int CONTENT_SIGNAL = 3;
 
     private static final int PADDING_CHUNKED = 10;
     private static final long MAX_REMOTE_BUDGET = Integer.MAX_VALUE;
@@ -169,10 +170,6 @@ public final class HttpServerFactory implements HttpStreamFactory
                 .wrap(new UnsafeBuffer(new byte[64]), 0, 64)
                 .build();
 
-    private static final Pattern REQUEST_LINE_PATTERN =
-            Pattern.compile("(?<method>[A-Z]+)\\s+(?<target>[^\\s]+)\\s+(?<version>HTTP/\\d\\.\\d)\r\n");
-    private static final Pattern VERSION_PATTERN = Pattern.compile("HTTP/1\\.\\d");
-    private static final Pattern HEADER_LINE_PATTERN = Pattern.compile("(?<name>[^\\s:]+):\\s*(?<value>[^\r\n]*)\r\n");
     private static final Pattern CONNECTION_CLOSE_PATTERN = Pattern.compile("(^|\\s*,\\s*)close(\\s*,\\s*|$)");
 
     private static final byte[] COLON_SPACE_BYTES = ": ".getBytes(US_ASCII);
@@ -180,6 +177,15 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final byte[] CRLF_BYTES = "\r\n".getBytes(US_ASCII);
     private static final byte[] SEMICOLON_BYTES = ";".getBytes(US_ASCII);
 
+    private static final byte[] HEADER_NAME_CONNECTION_BYTES = "connection".getBytes(US_ASCII);
+    private static final byte[] HEADER_NAME_CONTENT_LENGTH_BYTES = "content-length".getBytes(US_ASCII);
+    private static final byte[] HEADER_NAME_HOST_BYTES = "host".getBytes(US_ASCII);
+    private static final byte[] HEADER_NAME_HTTP2_SETTINGS_BYTES = "http2-settings".getBytes(US_ASCII);
+    private static final byte[] HEADER_NAME_TRANSFER_ENCODING_BYTES = "transfer-encoding".getBytes(US_ASCII);
+    private static final byte[] HEADER_NAME_UPGRADE_BYTES = "upgrade".getBytes(US_ASCII);
+    private static final byte[] TRANSFER_ENCODING_CHUNKED_BYTES = "chunked".getBytes(US_ASCII);
+    private static final byte[] UPGRADE_H2C_BYTES = "h2c".getBytes(US_ASCII);
+
     private static final byte COLON_BYTE = ':';
     private static final byte HYPHEN_BYTE = '-';
     private static final byte COMMA_BYTE = ',';
@@ -316,6 +322,9 @@ public final class HttpServerFactory implements HttpStreamFactory
 
     private static final int MAXIMUM_METHOD_LENGTH = SUPPORTED_METHODS.stream().mapToInt(String::length).max().getAsInt();
 
+    private static final byte[][] SUPPORTED_METHODS_BYTES =
+            SUPPORTED_METHODS.stream().map(m -> m.getBytes(US_ASCII)).toArray(byte[][]::new);
+
     static
     {
         final Map<String16FW, String> schemePorts = new HashMap<>();
@@ -460,7 +469,17 @@ public final class HttpServerFactory implements HttpStreamFactory
 
     private final MutableInteger codecOffset = new MutableInteger();
     private final MutableBoolean hasAuthority = new MutableBoolean();
-    private final MutableReference<String> connectionRef = new MutableReference<>();
+    private final MutableInteger connectionAt = new MutableInteger();
+    private final MutableInteger connectionLength = new MutableInteger();
+    private final UnsafeBuffer authorityRO = new UnsafeBuffer(0L, 0);
+    private String16FW requestScheme;
+
+    private final Consumer<HttpHeaderFW.Builder> encodeRequestScheme = this::encodeRequestScheme;
+    private final Consumer<HttpHeaderFW.Builder> encodeRequestMethod = this::encodeRequestMethod;
+    private final Consumer<HttpHeaderFW.Builder> encodeRequestPath = this::encodeRequestPath;
+    private final Consumer<HttpHeaderFW.Builder> encodeRequestAuthority = this::encodeRequestAuthority;
+    private final Consumer<HttpHeaderFW.Builder> encodeRequestConnection = this::encodeRequestConnection;
+    private final Consumer<HttpHeaderFW.Builder> encodeRequestHeader = this::encodeRequestHeader;
 
     private final Http2PrefaceFW http2PrefaceRO = new Http2PrefaceFW();
     private final Http2FrameInfoFW http2FrameInfoRO = new Http2FrameInfoFW();
@@ -542,9 +561,8 @@ public final class HttpServerFactory implements HttpStreamFactory
     private final int encodeMax;
     private final int proxyTypeId;
     private final int httpTypeId;
-    private final Matcher requestLine;
-    private final Matcher versionPart;
-    private final Matcher headerLine;
+    private final Http1RequestParser requestParser;
+    private final MutableDirectBuffer authorityRW;
     private final Matcher connectionClose;
     private final int maximumHeadersSize;
     private final Long2ObjectHashMap<HttpBindingConfig> bindings;
@@ -572,11 +590,10 @@ public final class HttpServerFactory implements HttpStreamFactory
         this.extBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
         this.httpTypeId = context.supplyTypeId(HttpBinding.NAME);
         this.proxyTypeId = context.supplyTypeId("proxy");
-        this.requestLine = REQUEST_LINE_PATTERN.matcher("");
-        this.headerLine = HEADER_LINE_PATTERN.matcher("");
-        this.versionPart = VERSION_PATTERN.matcher("");
         this.connectionClose = CONNECTION_CLOSE_PATTERN.matcher("");
         this.maximumHeadersSize = bufferPool.slotCapacity();
+        this.requestParser = new Http1RequestParser(maximumHeadersSize);
+        this.authorityRW = new UnsafeBuffer(new byte[maximumHeadersSize + 8]);
         this.decodeMax = bufferPool.slotCapacity();
         this.supplyValidator = context::supplyValidator;
         this.encodeMax = bufferPool.slotCapacity();
@@ -1004,7 +1021,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         if (error == null && endOfHeadersAt != -1)
         {
             server.decoder = decodeHeadersOnly;
-            connectionRef.ref = null;
+            connectionAt.value = -1;
 
             final int endOfHeaderLinesAt = endOfHeadersAt - CRLF_BYTES.length;
             int startOfLineAt = endOfStartAt;
@@ -1014,7 +1031,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                     endOfLineAt = limitOfBytes(buffer, startOfLineAt, endOfHeaderLinesAt, CRLF_BYTES))
             {
                 error = decodeHeaderLine(server, buffer, offset, startOfLineAt, endOfLineAt,
-                                         httpBeginEx, hasAuthority, connectionRef);
+                                         httpBeginEx, hasAuthority, connectionAt, connectionLength);
             }
 
             if (error == null && !hasAuthority.value)
@@ -1139,51 +1156,57 @@ public final class HttpServerFactory implements HttpStreamFactory
         String16FW scheme)
     {
         DirectBuffer error = null;
-        final CharSequence startLine = new AsciiSequenceView(buffer, offset, limit - offset);
-        if (startLine.length() >= maximumHeadersSize)
+        if (limit - offset >= maximumHeadersSize)
         {
             error = ERROR_414_REQUEST_URI_TOO_LONG;
         }
-        else if (requestLine.reset(startLine).matches())
+        else if (requestParser.parseRequestLine(buffer, offset, limit))
         {
-            final String method = requestLine.group("method");
-            final String target = requestLine.group("target");
-            final String version = requestLine.group("version");
-
-            final URI targetURI = createTargetURI(target);
+            final boolean originForm = requestParser.isOriginForm();
+            final URI targetURI = originForm ? null : createTargetURI(
+                new AsciiSequenceView(buffer, requestParser.targetOffset(), requestParser.targetLength()).toString());
 
-            if (targetURI == null)
+            if (!originForm && targetURI == null)
             {
                 error = ERROR_400_BAD_REQUEST;
             }
-            else if (!versionPart.reset(version).matches())
+            else if (requestParser.versionMajor() != 1)
             {
                 error = ERROR_505_VERSION_NOT_SUPPORTED;
             }
-            else if (targetURI.getUserInfo() != null)
+            else if (targetURI != null && targetURI.getUserInfo() != null)
             {
                 error = ERROR_400_BAD_REQUEST;
             }
-            else if (!SUPPORTED_METHODS.contains(method))
+            else if (!isSupportedMethod())
             {
                 error = ERROR_501_METHOD_NOT_IMPLEMENTED;
             }
             else
             {
-                final String path = targetURI.getRawPath();
-                final String query = targetURI.getRawQuery();
-                final String authority = targetURI.getAuthority();
+                requestScheme = scheme;
+                httpBeginEx.headersItem(encodeRequestScheme)
+                           .headersItem(encodeRequestMethod);
 
-                final String pathWithQuery = query != null ? String.format("%s?%s", path, query) : path;
+                if (originForm)
+                {
+                    httpBeginEx.headersItem(encodeRequestPath);
+                }
+                else
+                {
+                    final String path = targetURI.getRawPath();
+                    final String query = targetURI.getRawQuery();
+                    final String authority = targetURI.getAuthority();
 
-                httpBeginEx.headersItem(h -> h.name(HEADER_SCHEME).value(scheme))
-                           .headersItem(h -> h.name(HEADER_METHOD).value(method))
-                           .headersItem(h -> h.name(HEADER_PATH).value(pathWithQuery));
+                    final String pathWithQuery = query != null ? String.format("%s?%s", path, query) : path;
 
-                if (authority != null)
-                {
-                    httpBeginEx.headersItem(h -> h.name(HEADER_AUTHORITY).value(authority));
-                    hasAuthority.value = true;
+                    httpBeginEx.headersItem(h -> h.name(HEADER_PATH).value(pathWithQuery));
+
+                    if (authority != null)
+                    {
+                        httpBeginEx.headersItem(h -> h.name(HEADER_AUTHORITY).value(authority));
+                        hasAuthority.value = true;
+                    }
                 }
             }
         }
@@ -1203,7 +1226,8 @@ public final class HttpServerFactory implements HttpStreamFactory
         int endOfLineAt,
         HttpBeginExFW.Builder httpBeginEx,
         MutableBoolean hasAuthority,
-        MutableReference<String> connection)
+        MutableInteger connectionAt,
+        MutableInteger connectionLength)
     {
         DirectBuffer error = null;
 
@@ -1211,60 +1235,68 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             error = ERROR_431_HEADERS_TOO_LARGE;
         }
-        else if (headerLine.reset(new AsciiSequenceView(buffer, startOfLineAt, endOfLineAt - startOfLineAt)).matches())
+        else if (requestParser.parseHeaderLine(buffer, startOfLineAt, endOfLineAt))
         {
-            final String name = headerLine.group("name").toLowerCase();
-            final String value = headerLine.group("value");
-
-            switch (name)
+            if (requestParser.nameEquals(HEADER_NAME_CONNECTION_BYTES))
             {
-            case "connection":
-                connection.ref = value;
+                connectionAt.value = requestParser.valueOffset();
+                connectionLength.value = requestParser.valueLength();
 
                 if (server.decoder == decodeUpgraded)
                 {
-                    httpBeginEx.headersItem(h -> h.name(HEADER_CONNECTION).value(connection.ref));
+                    httpBeginEx.headersItem(encodeRequestConnection);
                 }
-                break;
-
-            case "content-length":
+            }
+            else if (requestParser.nameEquals(HEADER_NAME_CONTENT_LENGTH_BYTES))
+            {
                 if (server.decoder != decodeHeadersOnly)
                 {
                     error = ERROR_400_BAD_REQUEST;
                 }
                 else
                 {
-                    final int contentLength = parseInt(value);
+                    final int contentLength = buffer.parseIntAscii(requestParser.valueOffset(), requestParser.valueLength());
                     if (contentLength > 0)
                     {
                         server.decodableContentLength = contentLength;
                         server.decoder = decodeContent;
                     }
-                    httpBeginEx.headersItem(h -> h.name(HEADER_CONTENT_LENGTH).value(value));
+                    httpBeginEx.headersItem(encodeRequestHeader);
                 }
-                break;
-
-            case "host":
+            }
+            else if (requestParser.nameEquals(HEADER_NAME_HOST_BYTES))
+            {
                 if (!hasAuthority.value)
                 {
-                    String authority = (value.indexOf(':') == -1)
-                            ? String.format("%s:%s", value, SCHEME_PORTS.get(server.decodeScheme))
-                            : value;
-                    httpBeginEx.headersItem(h -> h.name(HEADER_AUTHORITY).value(authority));
+                    final int valueOffset = requestParser.valueOffset();
+                    final int valueLength = requestParser.valueLength();
+                    if (requestParser.valueIndexOf(COLON_BYTE) == -1)
+                    {
+                        authorityRW.putBytes(0, buffer, valueOffset, valueLength);
+                        authorityRW.putByte(valueLength, COLON_BYTE);
+                        final String port = SCHEME_PORTS.get(server.decodeScheme);
+                        final int portLength = authorityRW.putStringWithoutLengthAscii(valueLength + 1, port);
+                        authorityRO.wrap(authorityRW, 0, valueLength + 1 + portLength);
+                    }
+                    else
+                    {
+                        authorityRO.wrap(buffer, valueOffset, valueLength);
+                    }
+                    httpBeginEx.headersItem(encodeRequestAuthority);
                     hasAuthority.value = true;
                 }
-                break;
-
-            case "http2-settings":
+            }
+            else if (requestParser.nameEquals(HEADER_NAME_HTTP2_SETTINGS_BYTES))
+            {
                 // TODO: h2c
-                break;
-
-            case "transfer-encoding":
+            }
+            else if (requestParser.nameEquals(HEADER_NAME_TRANSFER_ENCODING_BYTES))
+            {
                 if (server.decoder != decodeHeadersOnly)
                 {
                     error = ERROR_400_BAD_REQUEST;
                 }
-                else if (!"chunked".equals(value))
+                else if (!requestParser.valueEquals(TRANSFER_ENCODING_CHUNKED_BYTES))
                 {
                     error = ERROR_501_UNSUPPORTED_TRANSFER_ENCODING;
                 }
@@ -1273,10 +1305,10 @@ public final class HttpServerFactory implements HttpStreamFactory
                     server.decoder = decodeChunkHeader;
                     httpBeginEx.headersItem(h -> h.name(HEADER_TRANSFER_ENCODING).value(TRANSFER_ENCODING_CHUNKED));
                 }
-                break;
-
-            case "upgrade":
-                if ("h2c".equals(value))
+            }
+            else if (requestParser.nameEquals(HEADER_NAME_UPGRADE_BYTES))
+            {
+                if (requestParser.valueEquals(UPGRADE_H2C_BYTES))
                 {
                     // TODO: h2c
                 }
@@ -1288,18 +1320,17 @@ public final class HttpServerFactory implements HttpStreamFactory
                 {
                     // TODO: wait for 101 first
                     server.decoder = decodeUpgraded;
-                    httpBeginEx.headersItem(h -> h.name(HEADER_UPGRADE).value(value));
+                    httpBeginEx.headersItem(encodeRequestHeader);
 
-                    if (connection.ref != null)
+                    if (connectionAt.value != -1)
                     {
-                        httpBeginEx.headersItem(h -> h.name(HEADER_CONNECTION).value(connection.ref));
+                        httpBeginEx.headersItem(encodeRequestConnection);
                     }
                 }
-                break;
-
-            default:
-                httpBeginEx.headersItem(h -> h.name(name).value(value));
-                break;
+            }
+            else
+            {
+                httpBeginEx.headersItem(encodeRequestHeader);
             }
         }
         else if (buffer.getByte(startOfLineAt) == SPACE_BYTE)
@@ -1945,6 +1976,9 @@ public final class HttpServerFactory implements HttpStreamFactory
                     exchange.onResponseExpiring(traceId);
                 }
                 break;
+            case CONTENT_SIGNAL:
+                decodeNetworkIfBuffered(traceId, signal.authorization(), 0L);
+                break;
             }
         }
 
@@ -2310,16 +2344,19 @@ public final class HttpServerFactory implements HttpStreamFactory
             int limit,
             Flyweight extension)
         {
-            boolean contentValid = exchange.validateContent(buffer, offset, limit - offset);
-            int result;
-            if (contentValid)
+            int result = offset;
+            if (!exchange.pendingContent(buffer, offset, limit - offset))
             {
-                result = exchange.doRequestData(traceId, budgetId, buffer, offset, limit, extension);
-            }
-            else
-            {
-                onDecodeBodyInvalid(traceId, authorization, ERROR_400_BAD_REQUEST);
-                result = limit;
+                boolean contentValid = exchange.validateContent(buffer, offset, limit - offset);
+                if (contentValid)
+                {
+                    result = exchange.doRequestData(traceId, budgetId, buffer, offset, limit, extension);
+                }
+                else
+                {
+                    onDecodeBodyInvalid(traceId, authorization, ERROR_400_BAD_REQUEST);
+                    result = limit;
+                }
             }
             return result;
         }
@@ -3264,6 +3301,16 @@ public final class HttpServerFactory implements HttpStreamFactory
                     contentType.validate(traceId, routedId, buffer, index, length, ValueConsumer.NOP);
             }
 
+            private boolean pendingContent(
+                DirectBuffer buffer,
+                int index,
+                int length)
+            {
+                // body stays in the decode slot until the schema lookup signals
+                return contentType != null &&
+                    contentType.pending(buffer, index, length, originId, routedId, replyId, traceId, CONTENT_SIGNAL);
+            }
+
             private void cleanupExpiringIfNecessary()
             {
                 if (expiringId != NO_CANCEL_ID)
@@ -7096,6 +7143,57 @@ public final class HttpServerFactory implements HttpStreamFactory
                 headers.containsKey(HEADER_NAME_ACCESS_CONTROL_REQUEST_HEADERS));
     }
 
+    private void encodeRequestScheme(
+        HttpHeaderFW.Builder header)
+    {
+        header.name(HEADER_SCHEME).value(requestScheme);
+    }
+
+    private void encodeRequestMethod(
+        HttpHeaderFW.Builder header)
+    {
+        header.name(HEADER_METHOD)
+              .value(requestParser.buffer(), requestParser.methodOffset(), requestParser.methodLength());
+    }
+
+    private void encodeRequestPath(
+        HttpHeaderFW.Builder header)
+    {
+        header.name(HEADER_PATH)
+              .value(requestParser.buffer(), requestParser.targetOffset(), requestParser.targetLength());
+    }
+
+    private void encodeRequestAuthority(
+        HttpHeaderFW.Builder header)
+    {
+        header.name(HEADER_AUTHORITY)
+              .value(authorityRO, 0, authorityRO.capacity());
+    }
+
+    private void encodeRequestConnection(
+        HttpHeaderFW.Builder header)
+    {
+        header.name(HEADER_CONNECTION)
+              .value(requestParser.buffer(), connectionAt.value, connectionLength.value);
+    }
+
+    private void encodeRequestHeader(
+        HttpHeaderFW.Builder header)
+    {
+        header.name(requestParser.name(), 0, requestParser.nameLength())
+              .value(requestParser.buffer(), requestParser.valueOffset(), requestParser.valueLength());
+    }
+
+    private boolean isSupportedMethod()
+    {
+        boolean supported = false;
+        for (int i = 0; !supported && i < SUPPORTED_METHODS_BYTES.length; i++)
+        {
+            supported = requestParser.methodEquals(SUPPORTED_METHODS_BYTES[i]);
+        }
+        return supported;
+    }
+
     private URI createTargetURI(
         String target)
     {
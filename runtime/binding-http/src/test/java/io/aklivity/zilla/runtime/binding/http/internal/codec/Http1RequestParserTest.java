@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.codec;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class Http1RequestParserTest
+{
+    private final Http1RequestParser parser = new Http1RequestParser(8192);
+
+    @Test
+    public void shouldParseRequestLine()
+    {
+        DirectBuffer buffer = asBuffer("xxGET /path?query HTTP/1.1\r\n");
+
+        assertTrue(parser.parseRequestLine(buffer, 2, buffer.capacity()));
+        assertEquals("GET", asString(buffer, parser.methodOffset(), parser.methodLength()));
+        assertEquals("/path?query", asString(buffer, parser.targetOffset(), parser.targetLength()));
+        assertEquals(1, parser.versionMajor());
+        assertTrue(parser.methodEquals("GET".getBytes(US_ASCII)));
+        assertFalse(parser.methodEquals("GE".getBytes(US_ASCII)));
+        assertTrue(parser.isOriginForm());
+    }
+
+    @Test
+    public void shouldParseRequestLineWithVersion2()
+    {
+        DirectBuffer buffer = asBuffer("GET / HTTP/2.0\r\n");
+
+        assertTrue(parser.parseRequestLine(buffer, 0, buffer.capacity()));
+        assertEquals(2, parser.versionMajor());
+    }
+
+    @Test
+    public void shouldParseRequestLineWithWhitespaceRuns()
+    {
+        DirectBuffer buffer = asBuffer("GET \t /  HTTP/1.1\r\n");
+
+        assertTrue(parser.parseRequestLine(buffer, 0, buffer.capacity()));
+        assertEquals("/", asString(buffer, parser.targetOffset(), parser.targetLength()));
+    }
+
+    @Test
+    public void shouldNotParseInvalidRequestLines()
+    {
+        assertRequestLineInvalid("get / HTTP/1.1\r\n");
+        assertRequestLineInvalid("GET/ HTTP/1.1\r\n");
+        assertRequestLineInvalid("GET /HTTP/1.1\r\n");
+        assertRequestLineInvalid("GET / HTTP/1.1 \r\n");
+        assertRequestLineInvalid("GET / HTTP/1.x\r\n");
+        assertRequestLineInvalid("GET / HTTQ/1.1\r\n");
+        assertRequestLineInvalid("GET / HTTP/11\r\n");
+        assertRequestLineInvalid("GET /\r\n");
+        assertRequestLineInvalid("GET / HTTP/1.1\n");
+        assertRequestLineInvalid(" GET / HTTP/1.1\r\n");
+    }
+
+    @Test
+    public void shouldDetectOriginFormTarget()
+    {
+        assertOriginForm(true, "/");
+        assertOriginForm(true, "/a/b;c=d?e=f&g=[h]");
+        assertOriginForm(true, "/a%20b?c%2Fd");
+        assertOriginForm(true, "/a?b?c");
+        assertOriginForm(false, "//authority/path");
+        assertOriginForm(false, "http://localhost:8080/");
+        assertOriginForm(false, "*");
+        assertOriginForm(false, "/path#fragment");
+        assertOriginForm(false, "/pa[th");
+        assertOriginForm(false, "/a%2");
+        assertOriginForm(false, "/a%zz");
+        assertOriginForm(false, "/a\"b");
+    }
+
+    @Test
+    public void shouldParseHeaderLine()
+    {
+        DirectBuffer buffer = asBuffer("Content-Type: \t text/plain \r\n");
+
+        assertTrue(parser.parseHeaderLine(buffer, 0, buffer.capacity()));
+        assertEquals("content-type", asString(parser.name(), 0, parser.nameLength()));
+        assertEquals("text/plain ", asString(buffer, parser.valueOffset(), parser.valueLength()));
+        assertTrue(parser.nameEquals("content-type".getBytes(US_ASCII)));
+        assertTrue(parser.valueEquals("text/plain ".getBytes(US_ASCII)));
+        assertEquals(-1, parser.valueIndexOf((byte) ':'));
+    }
+
+    @Test
+    public void shouldParseHeaderLineWithEmptyValue()
+    {
+        DirectBuffer buffer = asBuffer("x-empty:\r\n");
+
+        assertTrue(parser.parseHeaderLine(buffer, 0, buffer.capacity()));
+        assertEquals("x-empty", asString(parser.name(), 0, parser.nameLength()));
+        assertEquals(0, parser.valueLength());
+    }
+
+    @Test
+    public void shouldParseHeaderLineWithColonInValue()
+    {
+        DirectBuffer buffer = asBuffer("Host:localhost:8080\r\n");
+
+        assertTrue(parser.parseHeaderLine(buffer, 0, buffer.capacity()));
+        assertEquals("localhost:8080", asString(buffer, parser.valueOffset(), parser.valueLength()));
+        assertEquals(parser.valueOffset() + 9, parser.valueIndexOf((byte) ':'));
+    }
+
+    @Test
+    public void shouldNotParseInvalidHeaderLines()
+    {
+        assertHeaderLineInvalid(": value\r\n");
+        assertHeaderLineInvalid(" name: value\r\n");
+        assertHeaderLineInvalid("name : value\r\n");
+        assertHeaderLineInvalid("name value\r\n");
+        assertHeaderLineInvalid("name: val\rue\r\n");
+        assertHeaderLineInvalid("name: value\n");
+    }
+
+    private void assertRequestLineInvalid(
+        String line)
+    {
+        DirectBuffer buffer = asBuffer(line);
+        assertFalse(line, parser.parseRequestLine(buffer, 0, buffer.capacity()));
+    }
+
+    private void assertHeaderLineInvalid(
+        String line)
+    {
+        DirectBuffer buffer = asBuffer(line);
+        assertFalse(line, parser.parseHeaderLine(buffer, 0, buffer.capacity()));
+    }
+
+    private void assertOriginForm(
+        boolean expected,
+        String target)
+    {
+        DirectBuffer buffer = asBuffer(String.format("GET %s HTTP/1.1\r\n", target));
+        assertTrue(target, parser.parseRequestLine(buffer, 0, buffer.capacity()));
+        assertEquals(target, expected, parser.isOriginForm());
+    }
+
+    private static DirectBuffer asBuffer(
+        String value)
+    {
+        return new UnsafeBuffer(value.getBytes(US_ASCII));
+    }
+
+    private static String asString(
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        return buffer.getStringWithoutLengthAscii(offset, length);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfig;
+import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfigBuilder;
+import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+
+public class HttpRouteTreeTest
+{
+    private final HttpRouteTree tree = new HttpRouteTree(List.of(
+        route(":path", "/items/*", ":method", "GET"),
+        route(":path", "/items/*", ":method", "POST"),
+        route(":path", "/items", ":method", "GET"),
+        route(":path", "/orders/{id}/lines", ":authority", "localhost:8080"),
+        route(":path", "/*"),
+        RouteConfig.builder().exit("default").build()));
+
+    @Test
+    public void shouldResolveLiteralPathAndMethod()
+    {
+        BitSet candidates = tree.candidates(Map.of(":path", "/items/42", ":method", "GET")::get);
+
+        assertThat(candidates, equalTo(bits(0, 4, 5)));
+    }
+
+    @Test
+    public void shouldResolveLiteralPathWithQuery()
+    {
+        BitSet candidates = tree.candidates(Map.of(":path", "/items?limit=10", ":method", "GET")::get);
+
+        assertThat(candidates, equalTo(bits(0, 2, 4, 5)));
+    }
+
+    @Test
+    public void shouldResolveLiteralAuthority()
+    {
+        BitSet candidates = tree.candidates(
+            Map.of(":path", "/orders/1/lines", ":method", "GET", ":authority", "localhost:8080")::get);
+
+        assertThat(candidates, equalTo(bits(3, 4, 5)));
+    }
+
+    @Test
+    public void shouldNotResolveOtherAuthority()
+    {
+        BitSet candidates = tree.candidates(
+            Map.of(":path", "/orders/1/lines", ":method", "GET", ":authority", "example.com:443")::get);
+
+        assertThat(candidates, equalTo(bits(4, 5)));
+    }
+
+    @Test
+    public void shouldResolveUnconditionalWithoutHeaders()
+    {
+        BitSet candidates = tree.candidates(Map.<String, String>of()::get);
+
+        assertThat(candidates, equalTo(bits(4, 5)));
+    }
+
+    private static RouteConfig route(
+        String... headers)
+    {
+        HttpConditionConfigBuilder<HttpConditionConfig> condition = HttpConditionConfig.builder();
+        for (int i = 0; i < headers.length; i += 2)
+        {
+            condition.header(headers[i], headers[i + 1]);
+        }
+
+        return RouteConfig.builder()
+            .exit("exit")
+            .when(condition.build())
+            .build();
+    }
+
+    private static BitSet bits(
+        int... indexes)
+    {
+        BitSet bits = new BitSet();
+        for (int index : indexes)
+        {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
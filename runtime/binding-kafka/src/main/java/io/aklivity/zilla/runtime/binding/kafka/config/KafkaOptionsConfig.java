@@ -32,6 +32,8 @@ public final class KafkaOptionsConfig extends OptionsConfig
     public final List<KafkaTopicConfig> topics;
     public final List<KafkaServerConfig> servers;
     public final KafkaSaslConfig sasl;
+    public final KafkaProduceConfig produce;
+    public final String rack;
 
     public static KafkaOptionsConfigBuilder<KafkaOptionsConfig> builder()
     {
@@ -48,13 +50,17 @@ public final class KafkaOptionsConfig extends OptionsConfig
         List<String> bootstrap,
         List<KafkaTopicConfig> topics,
         List<KafkaServerConfig> servers,
-        KafkaSaslConfig sasl)
+        KafkaSaslConfig sasl,
+        KafkaProduceConfig produce,
+        String rack)
     {
         super(resolveModels(topics), List.of());
         this.bootstrap = bootstrap;
         this.topics = topics;
         this.servers = servers;
         this.sasl = sasl;
+        this.produce = produce;
+        this.rack = rack;
     }
 
     private static List<ModelConfig> resolveModels(
@@ -30,6 +30,8 @@ public final class KafkaOptionsConfigBuilder<T> extends ConfigBuilder<T, KafkaOp
     private List<KafkaTopicConfig> topics;
     private List<KafkaServerConfig> servers;
     private KafkaSaslConfig sasl;
+    private KafkaProduceConfig produce;
+    private String rack;
 
     KafkaOptionsConfigBuilder(
         Function<OptionsConfig, T> mapper)
@@ -91,6 +93,25 @@ public final class KafkaOptionsConfigBuilder<T> extends ConfigBuilder<T, KafkaOp
         return KafkaSaslConfig.builder(this::sasl);
     }
 
+    public KafkaOptionsConfigBuilder<T> produce(
+        KafkaProduceConfig produce)
+    {
+        this.produce = produce;
+        return this;
+    }
+
+    public KafkaProduceConfigBuilder<KafkaOptionsConfigBuilder<T>> produce()
+    {
+        return KafkaProduceConfig.builder(this::produce);
+    }
+
+    public KafkaOptionsConfigBuilder<T> rack(
+        String rack)
+    {
+        this.rack = rack;
+        return this;
+    }
+
     public KafkaOptionsConfigBuilder<T> server(
         KafkaServerConfig server)
     {
@@ -106,6 +127,6 @@ public final class KafkaOptionsConfigBuilder<T> extends ConfigBuilder<T, KafkaOp
     @Override
     public T build()
     {
-        return mapper.apply(new KafkaOptionsConfig(bootstrap, topics, servers, sasl));
+        return mapper.apply(new KafkaOptionsConfig(bootstrap, topics, servers, sasl, produce, rack));
     }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.config;
+
+import java.util.function.Function;
+
+public class KafkaProduceConfig
+{
+    public final KafkaCompressionConfig compression;
+    public final Long linger;
+    public final Integer batchSize;
+
+    public static KafkaProduceConfigBuilder<KafkaProduceConfig> builder()
+    {
+        return new KafkaProduceConfigBuilder<>(KafkaProduceConfig.class::cast);
+    }
+
+    public static <T> KafkaProduceConfigBuilder<T> builder(
+        Function<KafkaProduceConfig, T> mapper)
+    {
+        return new KafkaProduceConfigBuilder<>(mapper);
+    }
+
+    KafkaProduceConfig(
+        KafkaCompressionConfig compression,
+        Long linger,
+        Integer batchSize)
+    {
+        this.compression = compression;
+        this.linger = linger;
+        this.batchSize = batchSize;
+    }
+}
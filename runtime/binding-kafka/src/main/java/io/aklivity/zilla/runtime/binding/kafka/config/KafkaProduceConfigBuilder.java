@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.config;
+
+import java.util.function.Function;
+
+import io.aklivity.zilla.runtime.engine.config.ConfigBuilder;
+
+public final class KafkaProduceConfigBuilder<T> extends ConfigBuilder<T, KafkaProduceConfigBuilder<T>>
+{
+    private final Function<KafkaProduceConfig, T> mapper;
+    private KafkaCompressionConfig compression;
+    private Long linger;
+    private Integer batchSize;
+
+    KafkaProduceConfigBuilder(
+        Function<KafkaProduceConfig, T> mapper)
+    {
+        this.mapper = mapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Class<KafkaProduceConfigBuilder<T>> thisType()
+    {
+        return (Class<KafkaProduceConfigBuilder<T>>) getClass();
+    }
+
+    public KafkaProduceConfigBuilder<T> compression(
+        KafkaCompressionConfig compression)
+    {
+        this.compression = compression;
+        return this;
+    }
+
+    public KafkaProduceConfigBuilder<T> linger(
+        long linger)
+    {
+        this.linger = linger;
+        return this;
+    }
+
+    public KafkaProduceConfigBuilder<T> batchSize(
+        int batchSize)
+    {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public T build()
+    {
+        return mapper.apply(new KafkaProduceConfig(compression, linger, batchSize));
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.config;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -30,6 +31,7 @@ public class KafkaTopicConfig
     public final ModelConfig key;
     public final ModelConfig value;
     public final KafkaTopicTransformsConfig transforms;
+    public final List<String> indexes;
 
     public static KafkaTopicConfigBuilder<KafkaTopicConfig> builder()
     {
@@ -48,7 +50,8 @@ public class KafkaTopicConfig
         KafkaDeltaType deltaType,
         ModelConfig key,
         ModelConfig value,
-        KafkaTopicTransformsConfig transforms)
+        KafkaTopicTransformsConfig transforms,
+        List<String> indexes)
     {
         this.name = name;
         this.defaultOffset = defaultOffset;
@@ -56,6 +59,7 @@ public class KafkaTopicConfig
         this.key = key;
         this.value = value;
         this.transforms = transforms;
+        this.indexes = indexes;
     }
 
     @Override
@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.config;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
@@ -31,6 +33,7 @@ public final class KafkaTopicConfigBuilder<T> extends ConfigBuilder<T, KafkaTopi
     private KafkaTopicTransformsConfig transforms;
     private ModelConfig key;
     private ModelConfig value;
+    private List<String> indexes;
 
     KafkaTopicConfigBuilder(
         Function<KafkaTopicConfig, T> mapper)
@@ -92,6 +95,23 @@ public final class KafkaTopicConfigBuilder<T> extends ConfigBuilder<T, KafkaTopi
         return this;
     }
 
+    public KafkaTopicConfigBuilder<T> indexes(
+        List<String> indexes)
+    {
+        this.indexes = indexes;
+        return this;
+    }
+
+    public KafkaTopicConfigBuilder<T> index(
+        String header)
+    {
+        if (this.indexes == null)
+        {
+            this.indexes = new ArrayList<>();
+        }
+        this.indexes.add(header);
+        return this;
+    }
 
     public <C extends ConfigBuilder<KafkaTopicConfigBuilder<T>, C>> C key(
         Function<Function<ModelConfig, KafkaTopicConfigBuilder<T>>, C> key)
@@ -108,6 +128,6 @@ public final class KafkaTopicConfigBuilder<T> extends ConfigBuilder<T, KafkaTopi
     @Override
     public T build()
     {
-        return mapper.apply(new KafkaTopicConfig(name, defaultOffset, deltaType, key, value, transforms));
+        return mapper.apply(new KafkaTopicConfig(name, defaultOffset, deltaType, key, value, transforms, indexes));
     }
 }
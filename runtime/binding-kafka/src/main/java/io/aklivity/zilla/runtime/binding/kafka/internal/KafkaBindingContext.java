@@ -21,6 +21,8 @@ import static io.aklivity.zilla.runtime.engine.config.KindConfig.CLIENT;
 
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import org.agrona.collections.Long2ObjectHashMap;
@@ -43,6 +45,10 @@ final class KafkaBindingContext implements BindingContext
     private final Long2ObjectHashMap<KafkaClientRoute> clientRoutesById;
     private final Long2ObjectHashMap<KafkaCacheRoute> cacheRoutesById;
     private final Map<KindConfig, KafkaStreamFactory> factories;
+    private final boolean maintenanceAsync;
+    private final int maintenanceThreads;
+    private ExecutorService maintainer;
+    private int cacheServers;
 
     KafkaBindingContext(
         KafkaConfiguration config,
@@ -51,11 +57,13 @@ final class KafkaBindingContext implements BindingContext
     {
         this.clientRoutesById = new Long2ObjectHashMap<>();
         this.cacheRoutesById = new Long2ObjectHashMap<>();
+        this.maintenanceAsync = config.cacheMaintenanceAsync();
+        this.maintenanceThreads = config.cacheMaintenanceThreads();
 
         Map<KindConfig, KafkaStreamFactory> factories = new EnumMap<>(KindConfig.class);
         factories.put(CLIENT, new KafkaClientFactory(config, context, this::supplyClientRoute));
         factories.put(CACHE_SERVER, new KafkaCacheServerFactory(config, context, supplyCache,
-            this::supplyCacheRoute));
+            this::supplyCacheRoute, this::supplyMaintainer));
         factories.put(CACHE_CLIENT, new KafkaCacheClientFactory(config, context, supplyCache,
             this::supplyCacheRoute));
         this.factories = factories;
@@ -69,6 +77,11 @@ final class KafkaBindingContext implements BindingContext
 
         if (factory != null)
         {
+            if (binding.kind == CACHE_SERVER && maintenanceAsync && cacheServers++ == 0)
+            {
+                this.maintainer = Executors.newFixedThreadPool(maintenanceThreads);
+            }
+
             factory.attach(binding);
         }
 
@@ -84,6 +97,11 @@ final class KafkaBindingContext implements BindingContext
         if (factory != null)
         {
             factory.detach(binding.id);
+
+            if (binding.kind == CACHE_SERVER && maintenanceAsync && --cacheServers == 0)
+            {
+                maintainer.shutdown();
+            }
         }
     }
 
@@ -99,6 +117,11 @@ final class KafkaBindingContext implements BindingContext
         return cacheRoutesById.computeIfAbsent(resolvedId, KafkaCacheRoute::new);
     }
 
+    private ExecutorService supplyMaintainer()
+    {
+        return maintainer;
+    }
+
     private KafkaClientRoute supplyClientRoute(
         long resolvedId)
     {
@@ -48,6 +48,8 @@ public class KafkaConfiguration extends Configuration
     public static final IntPropertyDef KAFKA_CLIENT_FETCH_MAX_WAIT_MILLIS;
     public static final IntPropertyDef KAFKA_CLIENT_FETCH_MAX_BYTES;
     public static final IntPropertyDef KAFKA_CLIENT_FETCH_PARTITION_MAX_BYTES;
+    public static final BooleanPropertyDef KAFKA_CLIENT_FETCH_SESSION;
+    public static final IntPropertyDef KAFKA_CLIENT_FETCH_SESSION_MAX_WAIT_MILLIS;
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS;
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_MAX_RESPONSE_MILLIS;
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_MAX_BYTES;
@@ -67,9 +69,13 @@ public class KafkaConfiguration extends Configuration
     public static final IntPropertyDef KAFKA_CACHE_SEGMENT_BYTES;
     public static final IntPropertyDef KAFKA_CACHE_SEGMENT_INDEX_BYTES;
     public static final BooleanPropertyDef KAFKA_CACHE_SERVER_BOOTSTRAP;
+    public static final BooleanPropertyDef KAFKA_CACHE_RECOVERY;
+    public static final BooleanPropertyDef KAFKA_CACHE_MAINTENANCE_ASYNC;
+    public static final IntPropertyDef KAFKA_CACHE_MAINTENANCE_THREADS;
     public static final IntPropertyDef KAFKA_CACHE_CLIENT_RECONNECT_DELAY;
     public static final IntPropertyDef KAFKA_CACHE_CLIENT_CLEANUP_DELAY;
     public static final IntPropertyDef KAFKA_CACHE_CLIENT_TRAILERS_SIZE_MAX;
+    public static final IntPropertyDef KAFKA_CACHE_CURSOR_DELTA_KEYS_MAX;
     public static final IntPropertyDef KAFKA_CACHE_SERVER_RECONNECT_DELAY;
     public static final PropertyDef<NonceSupplier> KAFKA_CLIENT_SASL_SCRAM_NONCE;
     public static final PropertyDef<Duration> KAFKA_CLIENT_GROUP_REBALANCE_TIMEOUT;
@@ -96,6 +102,8 @@ public class KafkaConfiguration extends Configuration
         KAFKA_CLIENT_FETCH_MAX_WAIT_MILLIS = config.property("client.fetch.max.wait.millis", 1 * 60 * 1000);
         KAFKA_CLIENT_FETCH_MAX_BYTES = config.property("client.fetch.max.bytes", 50 * 1024 * 1024);
         KAFKA_CLIENT_FETCH_PARTITION_MAX_BYTES = config.property("client.fetch.partition.max.bytes", 50 * 1024 * 1024);
+        KAFKA_CLIENT_FETCH_SESSION = config.property("client.fetch.session", false);
+        KAFKA_CLIENT_FETCH_SESSION_MAX_WAIT_MILLIS = config.property("client.fetch.session.max.wait.millis", 500);
         KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS = config.property("client.produce.max.request.millis", 0);
         KAFKA_CLIENT_PRODUCE_MAX_RESPONSE_MILLIS = config.property("client.produce.max.response.millis", 120000);
         KAFKA_CLIENT_PRODUCE_MAX_BYTES = config.property("client.produce.max.bytes", Integer.MAX_VALUE);
@@ -113,6 +121,9 @@ public class KafkaConfiguration extends Configuration
         KAFKA_CACHE_DIRECTORY = config.property(Path.class, "cache.directory",
             KafkaConfiguration::cacheDirectory, KafkaBinding.NAME);
         KAFKA_CACHE_SERVER_BOOTSTRAP = config.property("cache.server.bootstrap", true);
+        KAFKA_CACHE_RECOVERY = config.property("cache.recovery", false);
+        KAFKA_CACHE_MAINTENANCE_ASYNC = config.property("cache.maintenance.async", false);
+        KAFKA_CACHE_MAINTENANCE_THREADS = config.property("cache.maintenance.threads", 1);
         KAFKA_CACHE_PRODUCE_CAPACITY = config.property("cache.produce.capacity", Long.MAX_VALUE);
         KAFKA_CACHE_SERVER_RECONNECT_DELAY = config.property("cache.server.reconnect", 5);
         KAFKA_CACHE_CLIENT_RECONNECT_DELAY = config.property("cache.client.reconnect", 0);
@@ -131,6 +142,7 @@ public class KafkaConfiguration extends Configuration
         KAFKA_CACHE_SEGMENT_BYTES = config.property("cache.segment.bytes", 0x40000000);
         KAFKA_CACHE_SEGMENT_INDEX_BYTES = config.property("cache.segment.index.bytes", 0xA00000);
         KAFKA_CACHE_CLIENT_TRAILERS_SIZE_MAX = config.property("cache.client.trailers.size.max", 256);
+        KAFKA_CACHE_CURSOR_DELTA_KEYS_MAX = config.property("cache.cursor.delta.keys.max", 65536);
         KAFKA_CLIENT_CONNECTION_POOL = config.property("client.connection.pool", true);
         KAFKA_VERBOSE = config.property("verbose", KafkaConfiguration::supplyVerbose);
         KAFKA_CONFIG = config;
@@ -182,6 +194,16 @@ public class KafkaConfiguration extends Configuration
         return KAFKA_CLIENT_FETCH_PARTITION_MAX_BYTES.get(this);
     }
 
+    public boolean clientFetchSession()
+    {
+        return KAFKA_CLIENT_FETCH_SESSION.getAsBoolean(this);
+    }
+
+    public int clientFetchSessionMaxWaitMillis()
+    {
+        return KAFKA_CLIENT_FETCH_SESSION_MAX_WAIT_MILLIS.getAsInt(this);
+    }
+
     public int clientProduceMaxRequestMillis()
     {
         return KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS.getAsInt(this);
@@ -282,6 +304,21 @@ public class KafkaConfiguration extends Configuration
         return KAFKA_CACHE_SERVER_BOOTSTRAP.getAsBoolean(this);
     }
 
+    public boolean cacheRecovery()
+    {
+        return KAFKA_CACHE_RECOVERY.getAsBoolean(this);
+    }
+
+    public boolean cacheMaintenanceAsync()
+    {
+        return KAFKA_CACHE_MAINTENANCE_ASYNC.getAsBoolean(this);
+    }
+
+    public int cacheMaintenanceThreads()
+    {
+        return KAFKA_CACHE_MAINTENANCE_THREADS.getAsInt(this);
+    }
+
     public boolean clientConnectionPool()
     {
         return KAFKA_CLIENT_CONNECTION_POOL.getAsBoolean(this);
@@ -306,6 +343,11 @@ public class KafkaConfiguration extends Configuration
         return KAFKA_CACHE_CLIENT_TRAILERS_SIZE_MAX.getAsInt(this);
     }
 
+    public int cacheCursorDeltaKeysMax()
+    {
+        return KAFKA_CACHE_CURSOR_DELTA_KEYS_MAX.getAsInt(this);
+    }
+
     public String clientId()
     {
         return KAFKA_CLIENT_ID.get(this);
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal;
+
+import java.net.URL;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionDurationMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionReclaimedMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaProduceBatchCompressedSizeMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaProduceBatchSizeMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaProduceCompressionDurationMetric;
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public class KafkaMetricGroup implements MetricGroup
+{
+    public static final String NAME = KafkaBinding.NAME;
+
+    private final Map<String, Supplier<Metric>> kafkaMetrics = Map.of(
+        KafkaProduceBatchSizeMetric.NAME, KafkaProduceBatchSizeMetric::new,
+        KafkaProduceBatchCompressedSizeMetric.NAME, KafkaProduceBatchCompressedSizeMetric::new,
+        KafkaProduceCompressionDurationMetric.NAME, KafkaProduceCompressionDurationMetric::new,
+        KafkaCacheCompactionDurationMetric.NAME, KafkaCacheCompactionDurationMetric::new,
+        KafkaCacheCompactionReclaimedMetric.NAME, KafkaCacheCompactionReclaimedMetric::new
+    );
+
+    public KafkaMetricGroup(
+        Configuration config)
+    {
+    }
+
+    @Override
+    public String name()
+    {
+        return NAME;
+    }
+
+    @Override
+    public URL type()
+    {
+        return getClass().getResource("schema/kafka.metrics.schema.patch.json");
+    }
+
+    @Override
+    public Metric supply(
+        String name)
+    {
+        return kafkaMetrics.getOrDefault(name, () -> null).get();
+    }
+
+    @Override
+    public Collection<String> metricNames()
+    {
+        return kafkaMetrics.keySet();
+    }
+}
@@ -32,7 +32,6 @@ import java.util.zip.CRC32C;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.LongHashSet;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.MutableLong;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -67,15 +66,18 @@ public final class KafkaCacheCursorFactory
 
     private final MutableDirectBuffer writeBuffer;
     private final CRC32C checksum;
+    private final int deltaKeysMax;
 
     public static final int POSITION_UNSET = -1;
     public static final int INDEX_UNSET = -1;
 
     public KafkaCacheCursorFactory(
-        int writeCapacity)
+        int writeCapacity,
+        int deltaKeysMax)
     {
         this.writeBuffer = new UnsafeBuffer(ByteBuffer.allocate(writeCapacity));
         this.checksum = new CRC32C();
+        this.deltaKeysMax = deltaKeysMax;
     }
 
     public KafkaCacheCursor newCursor(
@@ -88,7 +90,7 @@ public final class KafkaCacheCursorFactory
     public final class KafkaCacheCursor implements AutoCloseable
     {
         private final KafkaDeltaType deltaType;
-        private final LongHashSet deltaKeyOffsets; // TODO: bounded LongHashCache, evict -> discard
+        private final KafkaCacheDeltaKeyOffsets deltaKeyOffsets;
         private final KafkaFilterCondition condition;
 
         private Node segmentNode;
@@ -105,7 +107,7 @@ public final class KafkaCacheCursorFactory
         {
             this.condition = condition;
             this.deltaType = deltaType;
-            this.deltaKeyOffsets = new LongHashSet();
+            this.deltaKeyOffsets = new KafkaCacheDeltaKeyOffsets(deltaKeysMax);
         }
 
         public void init(
@@ -509,7 +511,7 @@ public final class KafkaCacheCursorFactory
 
                 if (segment != null)
                 {
-                    final KafkaCacheIndexFile hashFile = segment.hashFile();
+                    final KafkaCacheIndexFile hashFile = hashFile(segment);
                     assert hashFile != null;
 
                     this.hashFile = hashFile;
@@ -596,6 +598,12 @@ public final class KafkaCacheCursorFactory
                 comparable.wrap(header.buffer(), header.offset(), header.sizeof());
                 return comparable.compareTo(value) == 0 ? mask : 0L;
             }
+
+            protected KafkaCacheIndexFile hashFile(
+                KafkaCacheSegment segment)
+            {
+                return segment.hashFile();
+            }
         }
 
         private static final class Not extends KafkaFilterCondition
@@ -829,6 +837,7 @@ public final class KafkaCacheCursorFactory
         private static final class Header extends Equals
         {
             private final MutableLong match;
+            private final DirectBuffer name;
 
             private Header(
                 long mask,
@@ -837,6 +846,15 @@ public final class KafkaCacheCursorFactory
             {
                 super(mask, checksum, header.buffer(), header.offset(), header.sizeof());
                 this.match = new MutableLong();
+                this.name = copyBuffer(header.name().buffer(), header.name().offset(), header.name().sizeof());
+            }
+
+            // head segment only, also used by HeaderSequence values, but Not still visits every entry
+            @Override
+            protected KafkaCacheIndexFile hashFile(
+                KafkaCacheSegment segment)
+            {
+                return segment.indexesHeader(name) ? segment.headersFile() : segment.hashFile();
             }
 
             @Override
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
+
+import org.agrona.collections.Long2LongHashMap;
+
+public final class KafkaCacheDeltaKeyOffsets
+{
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long NO_SEQUENCE = -1L;
+
+    private final int capacity;
+    private final Long2LongHashMap sequencesByOffset;
+
+    private long[] evictions;
+    private long[] sequences;
+    private int evictionHead;
+    private int evictionCount;
+    private long sequence;
+
+    public KafkaCacheDeltaKeyOffsets(
+        int capacity)
+    {
+        assert capacity > 0;
+        this.capacity = capacity;
+        this.sequencesByOffset = new Long2LongHashMap(NO_SEQUENCE);
+        this.evictions = new long[Math.min(capacity, INITIAL_CAPACITY)];
+        this.sequences = new long[evictions.length];
+    }
+
+    public void add(
+        long offset)
+    {
+        if (!sequencesByOffset.containsKey(offset))
+        {
+            if (evictionCount == evictions.length)
+            {
+                if (evictions.length < capacity)
+                {
+                    grow();
+                }
+                else
+                {
+                    evictOldest();
+                }
+            }
+
+            final long sequence = this.sequence++;
+            sequencesByOffset.put(offset, sequence);
+
+            evictions[evictionHead] = offset;
+            sequences[evictionHead] = sequence;
+            evictionHead = (evictionHead + 1) % evictions.length;
+            evictionCount++;
+        }
+    }
+
+    public boolean remove(
+        long offset)
+    {
+        // ring entry becomes stale, skipped on eviction as sequence no longer matches
+        return sequencesByOffset.remove(offset) != NO_SEQUENCE;
+    }
+
+    public boolean contains(
+        long offset)
+    {
+        return sequencesByOffset.containsKey(offset);
+    }
+
+    public int size()
+    {
+        return sequencesByOffset.size();
+    }
+
+    public void clear()
+    {
+        sequencesByOffset.clear();
+        evictionHead = 0;
+        evictionCount = 0;
+    }
+
+    private void evictOldest()
+    {
+        final int oldestAt = (evictionHead - evictionCount + evictions.length) % evictions.length;
+        final long offset = evictions[oldestAt];
+
+        if (sequencesByOffset.get(offset) == sequences[oldestAt])
+        {
+            // evict -> discard, next descendant is delivered without delta
+            sequencesByOffset.remove(offset);
+        }
+
+        evictionCount--;
+    }
+
+    private void grow()
+    {
+        final int newLength = Math.min(capacity, evictions.length << 1);
+        final long[] newEvictions = new long[newLength];
+        final long[] newSequences = new long[newLength];
+        final int oldestAt = (evictionHead - evictionCount + evictions.length) % evictions.length;
+
+        for (int index = 0; index < evictionCount; index++)
+        {
+            newEvictions[index] = evictions[(oldestAt + index) % evictions.length];
+            newSequences[index] = sequences[(oldestAt + index) % evictions.length];
+        }
+
+        this.evictions = newEvictions;
+        this.sequences = newSequences;
+        this.evictionHead = evictionCount;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
 import static java.nio.file.StandardOpenOption.READ;
@@ -53,6 +54,8 @@ public class KafkaCacheFile implements AutoCloseable
     private static final String EXT_KSCAN = ".kscan";
     private static final String EXT_KSCAN_WORK = ".kscan.work";
     private static final String EXT_KINDEX = ".kindex";
+    private static final String EXT_XSCAN = ".xscan";
+    private static final String EXT_TORN = ".torn";
 
     private static final String FORMAT_FILE = "%%019d%s";
     private static final String FORMAT_LOG_FILE = String.format(FORMAT_FILE, EXT_LOG);
@@ -65,6 +68,7 @@ public class KafkaCacheFile implements AutoCloseable
     private static final String FORMAT_NINDEX_FILE = String.format(FORMAT_FILE, EXT_NINDEX);
     private static final String FORMAT_KSCAN_FILE = String.format(FORMAT_FILE, EXT_KSCAN);
     private static final String FORMAT_KINDEX_FILE = String.format(FORMAT_FILE, EXT_KINDEX);
+    private static final String FORMAT_XSCAN_FILE = String.format(FORMAT_FILE, EXT_XSCAN);
 
     private final Path location;
     private final MappedByteBuffer mappedByteBuf;
@@ -413,6 +417,34 @@ public class KafkaCacheFile implements AutoCloseable
         return mapped;
     }
 
+    private static Path tear(
+        Path file)
+    {
+        final Path torn = file.resolveSibling(file.getFileName() + EXT_TORN);
+
+        try
+        {
+            if (Files.exists(torn))
+            {
+                Files.deleteIfExists(file);
+            }
+            else if (Files.exists(file))
+            {
+                Files.move(file, torn, ATOMIC_MOVE);
+            }
+            else
+            {
+                Files.createFile(torn);
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return torn;
+    }
+
     private static FileChannel openAppender(
         Path file)
     {
@@ -450,6 +482,16 @@ public class KafkaCacheFile implements AutoCloseable
         }
     }
 
+    public static final class TornLog extends KafkaCacheFile
+    {
+        public TornLog(
+            Path location,
+            long baseOffset)
+        {
+            super(tear(location.resolve(String.format(FORMAT_LOG_FILE, baseOffset))));
+        }
+    }
+
     public static final class Index extends KafkaCacheIndexFile.SortedByKey
     {
         public Index(
@@ -469,6 +511,16 @@ public class KafkaCacheFile implements AutoCloseable
         }
     }
 
+    public static final class TornIndex extends KafkaCacheFile
+    {
+        public TornIndex(
+            Path location,
+            long baseOffset)
+        {
+            super(tear(location.resolve(String.format(FORMAT_INDEX_FILE, baseOffset))));
+        }
+    }
+
     public static final class HashScan extends KafkaCacheIndexFile.SortedByValue
     {
         public HashScan(
@@ -577,6 +629,19 @@ public class KafkaCacheFile implements AutoCloseable
         }
     }
 
+    public static final class HeadersScan extends KafkaCacheIndexFile.SortedByValue
+    {
+        public HeadersScan(
+            Path location,
+            long baseOffset,
+            int capacity,
+            MutableDirectBuffer appendBuf,
+            IntFunction<long[]> sortSpaceRef)
+        {
+            super(location.resolve(String.format(FORMAT_XSCAN_FILE, baseOffset)), capacity, appendBuf, sortSpaceRef);
+        }
+    }
+
     public static final class Delta extends KafkaCacheFile
     {
         public Delta(
@@ -596,6 +661,16 @@ public class KafkaCacheFile implements AutoCloseable
         }
     }
 
+    public static final class TornDelta extends KafkaCacheFile
+    {
+        public TornDelta(
+            Path location,
+            long baseOffset)
+        {
+            super(tear(location.resolve(String.format(FORMAT_DELTA_FILE, baseOffset))));
+        }
+    }
+
     public static final class Converted extends KafkaCacheFile
     {
         public Converted(
@@ -614,4 +689,14 @@ public class KafkaCacheFile implements AutoCloseable
             super(location.resolve(String.format(FORMAT_CONVERTED_FILE, baseOffset)));
         }
     }
+
+    public static final class TornConverted extends KafkaCacheFile
+    {
+        public TornConverted(
+            Path location,
+            long baseOffset)
+        {
+            super(tear(location.resolve(String.format(FORMAT_CONVERTED_FILE, baseOffset))));
+        }
+    }
 }
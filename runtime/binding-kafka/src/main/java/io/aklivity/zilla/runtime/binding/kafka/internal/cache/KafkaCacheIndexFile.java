@@ -21,6 +21,7 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheC
 import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorRecord.cursorIndex;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorRecord.cursorRetryValue;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorRecord.cursorValue;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexEntry;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexKey;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexValue;
 import static java.lang.Integer.compareUnsigned;
@@ -295,8 +296,6 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
             int key,
             long cursor)
         {
-            // TODO: optimize to break loop on key mismatch
-            //       requires cursor condition retain memento of last match index
             final int index = cursorIndex(cursor);
             final int value = cursorValue(cursor);
             assert index >= 0;
@@ -305,16 +304,16 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
 
             long higher = cursor(lastIndex + 1, available() != 0 ? RETRY_SEGMENT_VALUE : NEXT_SEGMENT_VALUE);
 
-            for (int currentIndex = index; currentIndex <= lastIndex; currentIndex++)
-            {
-                final long indexEntry = readLong(currentIndex << 3);
-                final int indexKey = indexKey(indexEntry);
-                final int indexValue = indexValue(indexEntry);
+            final int higherIndex = cursorRetryValue(cursor)
+                ? seekCeiling(index, lastIndex, indexEntry(key, 0), true)
+                : seekCeiling(index, lastIndex, indexEntry(key, value), false);
 
-                if (indexKey == key && (cursorRetryValue(cursor) || compareUnsigned(indexValue, value) > 0))
+            if (higherIndex <= lastIndex)
+            {
+                final long indexEntry = readLong(higherIndex << 3);
+                if (indexKey(indexEntry) == key)
                 {
-                    higher = cursor(currentIndex, indexValue(indexEntry));
-                    break;
+                    higher = cursor(higherIndex, indexValue(indexEntry));
                 }
             }
 
@@ -326,8 +325,6 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
             int key,
             long cursor)
         {
-            // TODO: optimize to break loop on key mismatch
-            //       requires cursor condition retain memento of last match index
             final int index = cursorIndex(cursor);
             final int value = cursorValue(cursor);
             assert index >= 0;
@@ -336,16 +333,16 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
 
             long ceiling = cursor(lastIndex + 1, available() != 0 ? RETRY_SEGMENT_VALUE : NEXT_SEGMENT_VALUE);
 
-            for (int currentIndex = index; currentIndex <= lastIndex; currentIndex++)
-            {
-                final long indexEntry = readLong(currentIndex << 3);
-                final int indexKey = indexKey(indexEntry);
-                final int indexValue = indexValue(indexEntry);
+            final int ceilingIndex = cursorRetryValue(cursor)
+                ? seekCeiling(index, lastIndex, indexEntry(key, 0), true)
+                : seekCeiling(index, lastIndex, indexEntry(key, value), true);
 
-                if (indexKey == key && (cursorRetryValue(cursor) || compareUnsigned(indexValue, value) >= 0))
+            if (ceilingIndex <= lastIndex)
+            {
+                final long indexEntry = readLong(ceilingIndex << 3);
+                if (indexKey(indexEntry) == key)
                 {
-                    ceiling = cursor(currentIndex, indexValue(indexEntry));
-                    break;
+                    ceiling = cursor(ceilingIndex, indexValue(indexEntry));
                 }
             }
 
@@ -357,24 +354,25 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
             int key,
             long cursor)
         {
-            // TODO: optimize to break loop on key mismatch
-            //       requires cursor condition retain memento of last match index
             final int index = cursorIndex(cursor);
             final int value = cursorValue(cursor);
 
             long floor = cursor(-1, NEXT_SEGMENT_VALUE);
 
             final int lastIndex = (capacity() >> 3) - 1;
-            for (int currentIndex = index; 0 <= currentIndex && currentIndex <= lastIndex; currentIndex--)
+            if (0 <= index && index <= lastIndex)
             {
-                final long indexEntry = readLong(currentIndex << 3);
-                final int indexKey = indexKey(indexEntry);
-                final int indexValue = indexValue(indexEntry);
+                final int floorIndex = cursorRetryValue(cursor)
+                    ? seekFloor(0, index, indexEntry(key, -1), true)
+                    : seekFloor(0, index, indexEntry(key, value), true);
 
-                if (indexKey == key && (cursorRetryValue(cursor) || compareUnsigned(indexValue, value) <= 0))
+                if (floorIndex >= 0)
                 {
-                    floor = cursor(currentIndex, indexValue(indexEntry));
-                    break;
+                    final long indexEntry = readLong(floorIndex << 3);
+                    if (indexKey(indexEntry) == key)
+                    {
+                        floor = cursor(floorIndex, indexValue(indexEntry));
+                    }
                 }
             }
 
@@ -386,29 +384,78 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
             int key,
             long cursor)
         {
-            // TODO: optimize to break loop on key mismatch
-            //       requires cursor condition retain memento of last match index
             final int index = cursorIndex(cursor);
             final int value = cursorValue(cursor);
 
             long lower = cursor(-1, NEXT_SEGMENT_VALUE);
 
             final int lastIndex = (capacity() >> 3) - 1;
-            for (int currentIndex = index; 0 <= currentIndex && currentIndex <= lastIndex; currentIndex--)
+            if (0 <= index && index <= lastIndex)
             {
-                final long indexEntry = readLong(currentIndex << 3);
-                final int indexKey = indexKey(indexEntry);
-                final int indexValue = indexValue(indexEntry);
+                final int lowerIndex = cursorRetryValue(cursor)
+                    ? seekFloor(0, index, indexEntry(key, -1), true)
+                    : seekFloor(0, index, indexEntry(key, value), false);
 
-                if (indexKey == key && (cursorRetryValue(cursor) || compareUnsigned(indexValue, value) < 0))
+                if (lowerIndex >= 0)
                 {
-                    lower = cursor(currentIndex, indexValue(indexEntry));
-                    break;
+                    final long indexEntry = readLong(lowerIndex << 3);
+                    if (indexKey(indexEntry) == key)
+                    {
+                        lower = cursor(lowerIndex, indexValue(indexEntry));
+                    }
                 }
             }
 
             return lower;
         }
+
+        private int seekCeiling(
+            int lowIndex,
+            int highIndex,
+            long entry,
+            boolean inclusive)
+        {
+            while (lowIndex <= highIndex)
+            {
+                final int midIndex = (lowIndex + highIndex) >>> 1;
+                final int compare = Long.compareUnsigned(readLong(midIndex << 3), entry);
+
+                if (compare < 0 || compare == 0 && !inclusive)
+                {
+                    lowIndex = midIndex + 1;
+                }
+                else
+                {
+                    highIndex = midIndex - 1;
+                }
+            }
+
+            return lowIndex;
+        }
+
+        private int seekFloor(
+            int lowIndex,
+            int highIndex,
+            long entry,
+            boolean inclusive)
+        {
+            while (lowIndex <= highIndex)
+            {
+                final int midIndex = (lowIndex + highIndex) >>> 1;
+                final int compare = Long.compareUnsigned(readLong(midIndex << 3), entry);
+
+                if (compare > 0 || compare == 0 && !inclusive)
+                {
+                    highIndex = midIndex - 1;
+                }
+                else
+                {
+                    lowIndex = midIndex + 1;
+                }
+            }
+
+            return highIndex;
+        }
     }
 
     public static class SortedByValue extends KafkaCacheIndexFile
@@ -23,6 +23,7 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaT
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_ACKNOWLEDGE;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_ACK_MODE;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_ANCESTOR;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_CHECKSUM;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_CONVERTED_POSITION;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_DELTA_POSITION;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_DESCENDANT;
@@ -43,9 +44,12 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
 import java.util.zip.CRC32C;
 
 import jakarta.json.JsonArray;
@@ -60,6 +64,7 @@ import org.agrona.ExpandableArrayBuffer;
 import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.LangUtil;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
@@ -116,6 +121,10 @@ public final class KafkaCachePartition
 
     private static final int SIZEOF_PADDING_LENGTH = Integer.BYTES;
 
+    private static final int MAINTENANCE_NONE = 0;
+    private static final int MAINTENANCE_FREEZING = 1;
+    private static final int MAINTENANCE_COMPACTING = 2;
+
     private final KafkaCachePaddedKeyFW paddedKeyRO = new KafkaCachePaddedKeyFW();
     private final KafkaCacheEntryFW headEntryRO = new KafkaCacheEntryFW();
     private final KafkaCacheEntryFW logEntryRO = new KafkaCacheEntryFW();
@@ -156,6 +165,12 @@ public final class KafkaCachePartition
     private final AtomicLong produceCapacity;
     private final OctetsFW octetsRO = new OctetsFW();
     private final KafkaKeyFW keyRO = new KafkaKeyFW();
+    private final UnsafeBuffer headerNameRO = new UnsafeBuffer();
+
+    private List<DirectBuffer> indexHeaders = List.of();
+    private Executor maintainer = Runnable::run;
+    private LongConsumer compactionDuration = d -> {};
+    private LongConsumer compactionReclaimed = r -> {};
 
     public KafkaCachePartition(
         Path location,
@@ -241,6 +256,32 @@ public final class KafkaCachePartition
         return head == sentinel ? defaultOffset.value() : head.segment().nextOffset();
     }
 
+    public void maintenance(
+        Executor maintainer,
+        LongConsumer compactionDuration,
+        LongConsumer compactionReclaimed)
+    {
+        this.maintainer = requireNonNull(maintainer);
+        this.compactionDuration = requireNonNull(compactionDuration);
+        this.compactionReclaimed = requireNonNull(compactionReclaimed);
+    }
+
+    public void indexHeaders(
+        List<String> names)
+    {
+        this.indexHeaders = names.stream()
+            .<DirectBuffer>map(n -> new UnsafeBuffer(n.getBytes(UTF_8)))
+            .toList();
+    }
+
+    public void publish()
+    {
+        for (Node node = sentinel.next; node != sentinel; node = node.next)
+        {
+            node.publish();
+        }
+    }
+
     public Node append(
         long offset)
     {
@@ -248,17 +289,13 @@ public final class KafkaCachePartition
 
         final Node head = sentinel.previous;
 
-        KafkaCacheSegment segment = new KafkaCacheSegment(location, config, topic, id, offset, appendBuf, sortSpaceRef);
-        Node node = new Node(segment);
-        node.previous = head;
-        node.next = sentinel;
-        node.previous.next = node;
-        node.next.previous = node;
+        KafkaCacheSegment segment =
+            new KafkaCacheSegment(location, config, topic, id, offset, indexHeaders, appendBuf, sortSpaceRef);
+        Node node = link(segment);
 
         if (!head.sentinel())
         {
-            final KafkaCacheSegment tail = head.segment.freeze();
-            head.segment(tail);
+            head.freeze();
         }
 
         produceCapacity.getAndAdd(segmentBytes());
@@ -266,6 +303,55 @@ public final class KafkaCachePartition
         return node;
     }
 
+    public void recover()
+    {
+        assert sentinel.next == sentinel;
+
+        KafkaCacheSegment.recoverStaged(location);
+
+        long nextOffset = OFFSET_HISTORICAL;
+        boolean recovering = true;
+
+        for (long baseOffset : KafkaCacheSegment.baseOffsets(location))
+        {
+            KafkaCacheSegment segment = null;
+
+            if (recovering && baseOffset >= nextOffset)
+            {
+                segment = KafkaCacheSegment.recover(location, topic, id, baseOffset);
+
+                if (segment == null)
+                {
+                    segment = recoverTorn(baseOffset);
+                    recovering = false;
+                }
+                else if (segment.logFile().empty())
+                {
+                    segment.delete();
+                    segment.close();
+                    segment = null;
+                }
+            }
+            else
+            {
+                KafkaCacheSegment.delete(location, baseOffset);
+                recovering = false;
+            }
+
+            if (segment != null)
+            {
+                link(segment);
+                nextOffset = segment.nextOffset();
+            }
+        }
+
+        if (sentinel.previous != sentinel)
+        {
+            progress = nextOffset - 1;
+            link(new KafkaCacheSegment(location, config, topic, id, nextOffset, indexHeaders, appendBuf, sortSpaceRef));
+        }
+    }
+
     public Node seekNotBefore(
         long offset)
     {
@@ -326,10 +412,12 @@ public final class KafkaCachePartition
             int indexRemaining = headSegment.indexFile().available();
             int hashRemaining = headSegment.hashFile().available();
             int nullsRemaining = headSegment.nullsFile().available();
+            int headersRemaining = headersAvailable(headSegment);
             if (logRemaining < logRequired ||
                 indexRemaining < SIZEOF_INDEX_RECORD ||
                 hashRemaining < hashRequiredMax ||
-                nullsRemaining < SIZEOF_INDEX_RECORD)
+                nullsRemaining < SIZEOF_INDEX_RECORD ||
+                headersRemaining < hashRequiredMax)
             {
                 head = append(offset);
                 headSegment = head.segment;
@@ -337,11 +425,13 @@ public final class KafkaCachePartition
                 indexRemaining = headSegment.indexFile().available();
                 hashRemaining = headSegment.hashFile().available();
                 nullsRemaining = headSegment.nullsFile().available();
+                headersRemaining = headersAvailable(headSegment);
             }
             assert logRemaining >= logRequired;
             assert indexRemaining >= SIZEOF_INDEX_RECORD;
             assert hashRemaining >= hashRequiredMax;
             assert nullsRemaining >= SIZEOF_INDEX_RECORD;
+            assert headersRemaining >= hashRequiredMax;
         }
 
         return head;
@@ -440,6 +530,7 @@ public final class KafkaCachePartition
         entryInfo.putInt(FIELD_OFFSET_CONVERTED_POSITION, convertedPos);
         entryInfo.putInt(FIELD_OFFSET_DELTA_POSITION, NO_DELTA_POSITION);
         entryInfo.putShort(FIELD_OFFSET_ACK_MODE, KafkaAckMode.NONE.value());
+        entryInfo.putInt(FIELD_OFFSET_CHECKSUM, 0);
 
         logFile.appendBytes(entryInfo);
         final int keyAt = logFile.capacity();
@@ -584,6 +675,7 @@ public final class KafkaCachePartition
         final KafkaCacheFile logFile = headSegment.logFile();
         final KafkaCacheFile deltaFile = headSegment.deltaFile();
         final KafkaCacheFile hashFile = headSegment.hashFile();
+        final KafkaCacheFile headersFile = headSegment.headersFile();
         final KafkaCacheFile indexFile = headSegment.indexFile();
         final KafkaCacheFile convertedFile = headSegment.convertedFile();
 
@@ -669,6 +761,11 @@ public final class KafkaCachePartition
                 final long hash = computeHash(h);
                 final long hashEntry = (hash << 32) | logFile.markValue();
                 hashFile.appendLong(hashEntry);
+
+                if (indexesHeader(headSegment, h))
+                {
+                    headersFile.appendLong(hashEntry);
+                }
             });
         }
 
@@ -683,6 +780,11 @@ public final class KafkaCachePartition
                 final long hash = computeHash(t);
                 final long hashEntry = (hash << 32) | logFile.markValue();
                 hashFile.appendLong(hashEntry);
+
+                if (indexesHeader(headSegment, t))
+                {
+                    headersFile.appendLong(hashEntry);
+                }
             });
         }
 
@@ -690,6 +792,7 @@ public final class KafkaCachePartition
         indexFile.appendLong(indexEntry);
 
         final KafkaCacheEntryFW headEntry = logFile.readBytes(logFile.markValue(), headEntryRO::wrap);
+        logFile.writeInt(logFile.markValue() + FIELD_OFFSET_CHECKSUM, computeChecksum(headEntry));
 
         if (deltaType == JSON_PATCH &&
             ancestorEntry != null && ancestorEntry.valueLen() != -1 &&
@@ -789,6 +892,7 @@ public final class KafkaCachePartition
         entryInfo.putInt(FIELD_OFFSET_CONVERTED_POSITION, convertedPos);
         entryInfo.putInt(FIELD_OFFSET_DELTA_POSITION, NO_DELTA_POSITION);
         entryInfo.putShort(FIELD_OFFSET_ACK_MODE, ackMode.value());
+        entryInfo.putInt(FIELD_OFFSET_CHECKSUM, 0);
 
         logFile.appendBytes(entryInfo);
 
@@ -934,6 +1038,9 @@ public final class KafkaCachePartition
 
         valueLimit.value = trailersAt + trailersSizeMax;
 
+        final KafkaCacheEntryFW headEntry = logFile.readBytes(entryMark.value, headEntryRO::wrap);
+        logFile.writeInt(entryMark.value + FIELD_OFFSET_CHECKSUM, computeChecksum(headEntry));
+
         logFile.writeLong(entryMark.value + FIELD_OFFSET_ACKNOWLEDGE, acknowledge);
         logFile.writeInt(entryMark.value + FIELD_OFFSET_FLAGS, CACHE_ENTRY_FLAGS_COMPLETED);
     }
@@ -999,6 +1106,182 @@ public final class KafkaCachePartition
         return String.format("[%s] %s[%d]", cache, topic, id);
     }
 
+    private Node link(
+        KafkaCacheSegment segment)
+    {
+        final Node head = sentinel.previous;
+
+        Node node = new Node(segment);
+        node.previous = head;
+        node.next = sentinel;
+        node.previous.next = node;
+        node.next.previous = node;
+
+        return node;
+    }
+
+    private KafkaCacheSegment recoverTorn(
+        long baseOffset)
+    {
+        final KafkaCacheFile logFile = new KafkaCacheFile.TornLog(location, baseOffset);
+        final KafkaCacheFile convertedFile = new KafkaCacheFile.TornConverted(location, baseOffset);
+        final KafkaCacheFile deltaFile = new KafkaCacheFile.TornDelta(location, baseOffset);
+        final KafkaCacheFile indexFile = new KafkaCacheFile.TornIndex(location, baseOffset);
+
+        final KafkaCacheSegment appender =
+            new KafkaCacheSegment(location, config, topic, id, baseOffset, appendBuf, sortSpaceRef);
+
+        int logLimit = 0;
+        for (int indexPosition = 0; indexPosition + Long.BYTES <= indexFile.capacity(); indexPosition += Long.BYTES)
+        {
+            final long indexEntry = indexFile.readLong(indexPosition);
+            final long offsetDelta = indexEntry >>> 32;
+            final int logPosition = (int) indexEntry;
+
+            final KafkaCacheEntryFW logEntry = logPosition >= logLimit && logPosition < logFile.capacity()
+                ? logFile.readBytes(logPosition, logEntryRO::tryWrap)
+                : null;
+
+            if (logEntry == null ||
+                logEntry.offset$() != baseOffset + offsetDelta ||
+                logEntry.offset$() <= appender.lastOffset() ||
+                logEntry.checksum() != computeChecksum(logEntry) ||
+                !recoverTornEntry(appender, logEntry, convertedFile, deltaFile))
+            {
+                break;
+            }
+
+            logLimit = logEntry.limit();
+        }
+
+        logFile.close();
+        convertedFile.close();
+        deltaFile.close();
+        indexFile.close();
+
+        KafkaCacheSegment frozen = appender.freeze();
+        appender.close();
+
+        logFile.delete();
+        convertedFile.delete();
+        deltaFile.delete();
+        indexFile.delete();
+
+        if (frozen.logFile().empty())
+        {
+            frozen.delete();
+            frozen.close();
+            frozen = null;
+        }
+
+        return frozen;
+    }
+
+    private boolean recoverTornEntry(
+        KafkaCacheSegment appender,
+        KafkaCacheEntryFW logEntry,
+        KafkaCacheFile convertedFile,
+        KafkaCacheFile deltaFile)
+    {
+        final KafkaCacheFile appendLogFile = appender.logFile();
+        final KafkaCacheFile appendIndexFile = appender.indexFile();
+        final KafkaCacheFile appendHashFile = appender.hashFile();
+        final KafkaCacheFile appendKeysFile = appender.keysFile();
+        final KafkaCacheFile appendNullsFile = appender.nullsFile();
+
+        final int convertedPosition = logEntry.convertedPosition();
+        final int convertedLength = convertedPosition != NO_CONVERTED_POSITION &&
+                                    convertedPosition >= 0 &&
+                                    convertedPosition + SIZE_OF_INT <= convertedFile.capacity()
+                ? convertedFile.readInt(convertedPosition)
+                : 0;
+        final int convertedPaddingAt = convertedPosition + SIZE_OF_INT + convertedLength;
+        final int convertedSize = convertedPosition != NO_CONVERTED_POSITION &&
+                                  convertedLength >= 0 &&
+                                  convertedPaddingAt >= 0 &&
+                                  convertedPaddingAt + SIZE_OF_INT <= convertedFile.capacity()
+                ? SIZE_OF_INT + convertedLength + SIZE_OF_INT + convertedFile.readInt(convertedPaddingAt)
+                : 0;
+
+        final int deltaPosition = logEntry.deltaPosition();
+        final KafkaCacheDeltaFW deltaEntry = deltaPosition != NO_DELTA_POSITION &&
+                                             deltaPosition >= 0 &&
+                                             deltaPosition < deltaFile.capacity()
+                ? deltaFile.readBytes(deltaPosition, deltaEntryRO::tryWrap)
+                : null;
+
+        final int hashRequired = (1 + logEntry.headers().fieldCount() + logEntry.trailers().fieldCount()) * SIZEOF_INDEX_RECORD;
+
+        final boolean recovered =
+            (convertedPosition == NO_CONVERTED_POSITION ||
+                convertedSize >= SIZE_OF_INT * 2 && convertedSize <= convertedFile.capacity() - convertedPosition) &&
+            (deltaPosition == NO_DELTA_POSITION || deltaEntry != null) &&
+            appendLogFile.available() >= logEntry.sizeof() &&
+            appender.convertedFile().available() >= convertedSize &&
+            appender.deltaFile().available() >= (deltaEntry != null ? deltaEntry.sizeof() : 0) &&
+            appendIndexFile.available() >= SIZEOF_INDEX_RECORD &&
+            appendHashFile.available() >= hashRequired &&
+            appendKeysFile.available() >= SIZEOF_INDEX_RECORD &&
+            appendNullsFile.available() >= SIZEOF_INDEX_RECORD;
+
+        if (recovered)
+        {
+            final long logOffset = logEntry.offset$();
+            final int logPosition = appendLogFile.capacity();
+            final long keyHash = computeHash(logEntry.paddedKey().key());
+
+            appendLogFile.appendBytes(logEntry);
+
+            if (convertedPosition != NO_CONVERTED_POSITION)
+            {
+                appendLogFile.writeInt(logPosition + FIELD_OFFSET_CONVERTED_POSITION, appender.convertedFile().capacity());
+                appender.convertedFile().appendBytes(convertedFile.buffer(), convertedPosition, convertedSize);
+            }
+
+            if (deltaEntry != null)
+            {
+                appendLogFile.writeInt(logPosition + FIELD_OFFSET_DELTA_POSITION, appender.deltaFile().capacity());
+                appender.deltaFile().appendBytes(deltaEntry);
+            }
+
+            final long offsetDelta = (int)(logOffset - appender.baseOffset());
+            appendIndexFile.appendLong((offsetDelta << 32) | logPosition);
+
+            appendHashFile.appendLong(keyHash << 32 | logPosition);
+            logEntry.headers().forEach(h -> appendHashFile.appendLong(computeHash(h) << 32 | logPosition));
+            logEntry.trailers().forEach(t -> appendHashFile.appendLong(computeHash(t) << 32 | logPosition));
+
+            if (logEntry.valueLen() == -1)
+            {
+                final long timestampDelta = (logEntry.timestamp() - appender.timestamp()) & 0xFFFF_FFFFL;
+                appendNullsFile.appendLong(timestampDelta << 32 | logPosition);
+            }
+
+            final int deltaBaseOffset = 0;
+            appendKeysFile.appendLong(keyHash << 32 | deltaBaseOffset);
+
+            appender.lastOffset(logOffset);
+        }
+
+        return recovered;
+    }
+
+    private int headersAvailable(
+        KafkaCacheSegment segment)
+    {
+        final KafkaCacheFile headersFile = segment.headersFile();
+        return headersFile != null ? headersFile.available() : Integer.MAX_VALUE;
+    }
+
+    private boolean indexesHeader(
+        KafkaCacheSegment segment,
+        KafkaHeaderFW header)
+    {
+        final OctetsFW name = header.name();
+        headerNameRO.wrap(name.buffer(), name.offset(), name.sizeof());
+        return segment.indexesHeader(headerNameRO);
+    }
+
     private long computeHash(
         Flyweight keyOrHeader)
     {
@@ -1014,12 +1297,47 @@ public final class KafkaCachePartition
         return checksum.getValue();
     }
 
+    private int computeChecksum(
+        KafkaCacheEntryFW entry)
+    {
+        final ByteBuffer byteBuffer = entry.buffer().byteBuffer().duplicate();
+        checksum.reset();
+        byteBuffer.clear();
+        byteBuffer.position(entry.offset() + FIELD_OFFSET_OFFSET);
+        byteBuffer.limit(entry.offset() + FIELD_OFFSET_TIMESTAMP + Long.BYTES);
+        checksum.update(byteBuffer);
+        byteBuffer.clear();
+        byteBuffer.position(entry.offset() + FIELD_OFFSET_PADDED_KEY);
+        byteBuffer.limit(entry.limit());
+        checksum.update(byteBuffer);
+        return (int) checksum.getValue();
+    }
+
+    private static long computeHash(
+        CRC32C checksum,
+        Flyweight keyOrHeader)
+    {
+        final ByteBuffer byteBuffer = keyOrHeader.buffer().byteBuffer().duplicate();
+        byteBuffer.clear();
+        byteBuffer.position(keyOrHeader.offset());
+        byteBuffer.limit(keyOrHeader.limit());
+        checksum.reset();
+        checksum.update(byteBuffer);
+        return checksum.getValue();
+    }
+
     public final class Node
     {
         private volatile KafkaCacheSegment segment;
         private volatile KafkaCachePartition.Node previous;
         private volatile KafkaCachePartition.Node next;
 
+        private int maintenance;
+        private LongArrayList maintenanceMarks;
+        private volatile KafkaCacheSegment maintained;
+        private volatile long maintenanceNanos;
+        private volatile boolean maintenanceDone;
+
         Node()
         {
             this.segment = null;
@@ -1091,74 +1409,62 @@ public final class KafkaCachePartition
         {
             assert next != sentinel; // not head segment
 
-            if (segment.cleanableAt() <= now)
+            if (maintenance == MAINTENANCE_NONE && segment.cleanableAt() <= now)
             {
-                // TODO: use temporary files plus move to avoid corrupted log on restart
-                segment.delete();
-
-                final KafkaCacheSegment appender = new KafkaCacheSegment(segment, config, appendBuf, sortSpaceRef);
-                final KafkaCacheFile logFile = segment.logFile();
-                final KafkaCacheFile deltaFile = segment.deltaFile();
-
-                for (int logPosition = 0; logPosition < logFile.capacity(); )
-                {
-                    final KafkaCacheEntryFW logEntry = logFile.readBytes(logPosition, logEntryRO::wrap);
-                    if ((logEntry.flags() & CACHE_ENTRY_FLAGS_DIRTY) == 0)
-                    {
-                        final long logOffset = logEntry.offset$();
-                        final KafkaKeyFW key = logEntry.paddedKey().key();
-                        final ArrayFW<KafkaHeaderFW> headers = logEntry.headers();
-                        final int deltaPosition = logEntry.deltaPosition();
-                        final long keyHash = computeHash(key);
-
-                        final long offsetDelta = (int)(logOffset - segment.baseOffset());
-                        final long indexEntry = (offsetDelta << 32) | appender.logFile().capacity();
-                        appender.indexFile().appendLong(indexEntry);
-
-                        final long keyHashEntry = keyHash << 32 | appender.logFile().capacity();
-                        appender.hashFile().appendLong(keyHashEntry);
-
-                        headers.forEach(header ->
-                        {
-                            final long headerHash = computeHash(header);
-                            final long headerHashEntry = headerHash << 32 | appender.logFile().capacity();
-                            appender.hashFile().appendLong(headerHashEntry);
-                        });
+                maintain(MAINTENANCE_COMPACTING, this::compact);
+            }
+        }
 
-                        appender.logFile().appendBytes(logEntry);
-                        if (deltaPosition != -1)
-                        {
-                            final int newLogEntryAt = appender.logFile().capacity() - logEntry.sizeof();
-                            appender.logFile().writeInt(newLogEntryAt + FIELD_OFFSET_DELTA_POSITION, deltaFile.capacity());
+        public void publish()
+        {
+            if (maintenance != MAINTENANCE_NONE && maintenanceDone)
+            {
+                final int completed = maintenance;
+                final KafkaCacheSegment result = maintained;
 
-                            final KafkaCacheDeltaFW deltaEntry = deltaFile.readBytes(deltaPosition, deltaEntryRO::wrap);
-                            appender.deltaFile().appendBytes(deltaEntry);
-                        }
+                maintenance = MAINTENANCE_NONE;
+                maintained = null;
+                maintenanceDone = false;
 
-                        // note: keys cleanup must also retain non-zero base offsets when spanning multiple segments
-                        final int deltaBaseOffset = 0;
-                        final long keyEntry = keyHash << 32 | deltaBaseOffset;
-                        appender.keysFile().appendLong(keyEntry);
+                if (result == null)
+                {
+                    // maintenance failed, retain current segment
+                }
+                else if (previous.next != this)
+                {
+                    result.delete();
+                    result.close();
+                }
+                else if (completed == MAINTENANCE_FREEZING)
+                {
+                    result.dirty(segment);
+                    segment(result);
+                }
+                else if (result.logFile().empty())
+                {
+                    final long reclaimed = segment.size();
 
-                        appender.lastOffset(logOffset);
-                    }
+                    result.delete();
+                    result.close();
+                    remove();
 
-                    logPosition = logEntry.limit();
+                    compactionDuration.accept(maintenanceNanos);
+                    compactionReclaimed.accept(reclaimed);
                 }
+                else
+                {
+                    final long reclaimed = segment.size() - result.size();
 
-                segment.close();
-
-                final KafkaCacheSegment frozen = appender.freeze();
-                appender.close();
+                    replayMarks(result);
+                    segment(result);
 
-                if (frozen.logFile().empty())
-                {
-                    frozen.delete();
-                    remove();
+                    compactionDuration.accept(maintenanceNanos);
+                    compactionReclaimed.accept(reclaimed);
                 }
-                else
+
+                if (maintenanceMarks != null)
                 {
-                    segment(frozen);
+                    maintenanceMarks.clear();
                 }
             }
         }
@@ -1175,6 +1481,7 @@ public final class KafkaCachePartition
                 if (entry.ownerId() == producerId && (entry.flags() & CACHE_ENTRY_FLAGS_CONTROL) == 0x00)
                 {
                     logFile.writeInt(entry.offset() + FIELD_OFFSET_FLAGS, CACHE_ENTRY_FLAGS_ABORTED);
+                    mark(entry.offset$(), NO_DESCENDANT_OFFSET, CACHE_ENTRY_FLAGS_ABORTED);
                 }
             }
         }
@@ -1240,6 +1547,7 @@ public final class KafkaCachePartition
             logFile.writeLong(ancestor.offset() + FIELD_OFFSET_DESCENDANT, descendantOffset);
             logFile.writeInt(ancestor.offset() + FIELD_OFFSET_FLAGS, CACHE_ENTRY_FLAGS_DIRTY);
             segment.markDirtyBytes(ancestor.sizeof());
+            mark(ancestor.offset$(), descendantOffset, CACHE_ENTRY_FLAGS_DIRTY);
         }
 
         public void markDirty(
@@ -1248,6 +1556,164 @@ public final class KafkaCachePartition
             final KafkaCacheFile logFile = segment.logFile();
             logFile.writeInt(entry.offset() + FIELD_OFFSET_FLAGS, CACHE_ENTRY_FLAGS_DIRTY);
             segment.markDirtyBytes(entry.sizeof());
+            mark(entry.offset$(), NO_DESCENDANT_OFFSET, CACHE_ENTRY_FLAGS_DIRTY);
+        }
+
+        private void freeze()
+        {
+            maintain(MAINTENANCE_FREEZING, KafkaCacheSegment::freeze);
+        }
+
+        private void maintain(
+            int maintenance,
+            Function<KafkaCacheSegment, KafkaCacheSegment> operation)
+        {
+            final KafkaCacheSegment source = segment.acquire();
+            if (source != null)
+            {
+                this.maintenance = maintenance;
+                this.maintained = null;
+                this.maintenanceDone = false;
+
+                try
+                {
+                    maintainer.execute(() ->
+                    {
+                        final long startAt = System.nanoTime();
+                        try
+                        {
+                            maintained = operation.apply(source);
+                        }
+                        finally
+                        {
+                            maintenanceNanos = System.nanoTime() - startAt;
+                            source.release();
+                            maintenanceDone = true;
+                        }
+                    });
+                }
+                finally
+                {
+                    publish();
+                }
+            }
+        }
+
+        private KafkaCacheSegment compact(
+            KafkaCacheSegment source)
+        {
+            final MutableDirectBuffer compactBuf = new UnsafeBuffer(allocateDirect(appendBuf.capacity()));
+            final KafkaCacheEntryFW compactEntryRO = new KafkaCacheEntryFW();
+            final KafkaCacheDeltaFW compactDeltaRO = new KafkaCacheDeltaFW();
+            final CRC32C compactChecksum = new CRC32C();
+
+            final Path staging = KafkaCacheSegment.staging(source.location());
+            final KafkaCacheSegment appender = new KafkaCacheSegment(source, staging, config, compactBuf, sortSpaceRef);
+            final KafkaCacheFile logFile = source.logFile();
+            final KafkaCacheFile deltaFile = source.deltaFile();
+
+            for (int logPosition = 0; logPosition < logFile.capacity(); )
+            {
+                final KafkaCacheEntryFW logEntry = logFile.readBytes(logPosition, compactEntryRO::wrap);
+                if ((logEntry.flags() & CACHE_ENTRY_FLAGS_DIRTY) == 0)
+                {
+                    final long logOffset = logEntry.offset$();
+                    final KafkaKeyFW key = logEntry.paddedKey().key();
+                    final ArrayFW<KafkaHeaderFW> headers = logEntry.headers();
+                    final int deltaPosition = logEntry.deltaPosition();
+                    final long keyHash = computeHash(compactChecksum, key);
+
+                    final long offsetDelta = (int)(logOffset - source.baseOffset());
+                    final long indexEntry = (offsetDelta << 32) | appender.logFile().capacity();
+                    appender.indexFile().appendLong(indexEntry);
+
+                    final long keyHashEntry = keyHash << 32 | appender.logFile().capacity();
+                    appender.hashFile().appendLong(keyHashEntry);
+
+                    headers.forEach(header ->
+                    {
+                        final long headerHash = computeHash(compactChecksum, header);
+                        final long headerHashEntry = headerHash << 32 | appender.logFile().capacity();
+                        appender.hashFile().appendLong(headerHashEntry);
+                    });
+
+                    appender.logFile().appendBytes(logEntry);
+                    if (deltaPosition != -1)
+                    {
+                        final int newLogEntryAt = appender.logFile().capacity() - logEntry.sizeof();
+                        appender.logFile().writeInt(newLogEntryAt + FIELD_OFFSET_DELTA_POSITION, deltaFile.capacity());
+
+                        final KafkaCacheDeltaFW deltaEntry = deltaFile.readBytes(deltaPosition, compactDeltaRO::wrap);
+                        appender.deltaFile().appendBytes(deltaEntry);
+                    }
+
+                    // note: keys cleanup must also retain non-zero base offsets when spanning multiple segments
+                    final int deltaBaseOffset = 0;
+                    final long keyEntry = keyHash << 32 | deltaBaseOffset;
+                    appender.keysFile().appendLong(keyEntry);
+
+                    appender.lastOffset(logOffset);
+                }
+
+                logPosition = logEntry.limit();
+            }
+
+            final KafkaCacheSegment frozen = appender.freeze();
+            appender.close();
+
+            return frozen.install(source.location());
+        }
+
+        private void mark(
+            long offset,
+            long descendantOffset,
+            int flags)
+        {
+            if (maintenance == MAINTENANCE_COMPACTING)
+            {
+                if (maintenanceMarks == null)
+                {
+                    maintenanceMarks = new LongArrayList();
+                }
+
+                maintenanceMarks.addLong(offset);
+                maintenanceMarks.addLong(descendantOffset);
+                maintenanceMarks.addLong(flags);
+            }
+        }
+
+        private void replayMarks(
+            KafkaCacheSegment result)
+        {
+            final LongArrayList marks = maintenanceMarks;
+            final KafkaCacheFile logFile = result.logFile();
+
+            for (int index = 0; marks != null && index < marks.size(); index += 3)
+            {
+                final long offset = marks.getLong(index);
+                final long descendantOffset = marks.getLong(index + 1);
+                final int flags = (int) marks.getLong(index + 2);
+
+                final long cursor = result.indexFile().first((int)(offset - result.baseOffset()));
+                final int position = cursorValue(cursor);
+                if (position != NEXT_SEGMENT_VALUE && position != RETRY_SEGMENT_VALUE)
+                {
+                    final KafkaCacheEntryFW entry = logFile.readBytes(position, logEntryRO::tryWrap);
+                    if (entry != null && entry.offset$() == offset)
+                    {
+                        if (descendantOffset != NO_DESCENDANT_OFFSET)
+                        {
+                            logFile.writeLong(entry.offset() + FIELD_OFFSET_DESCENDANT, descendantOffset);
+                        }
+                        logFile.writeInt(entry.offset() + FIELD_OFFSET_FLAGS, flags);
+
+                        if ((flags & CACHE_ENTRY_FLAGS_DIRTY) != 0)
+                        {
+                            result.markDirtyBytes(entry.sizeof());
+                        }
+                    }
+                }
+            }
         }
 
         @Override
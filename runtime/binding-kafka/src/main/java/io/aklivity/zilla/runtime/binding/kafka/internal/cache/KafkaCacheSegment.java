@@ -16,18 +16,49 @@
 package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
 
 import static java.lang.System.currentTimeMillis;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
 
+import org.agrona.DirectBuffer;
+import org.agrona.LangUtil;
 import org.agrona.MutableDirectBuffer;
 
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
 
 public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
 {
     private static final long OFFSET_LIVE = KafkaOffsetType.LIVE.value();
 
+    private static final String FORMAT_SEAL_FILE = "%019d.seal";
+    private static final String FORMAT_SEAL_WORK_FILE = "%019d.seal.work";
+    private static final String FORMAT_SEGMENT_FILES = "%019d.*";
+    private static final String FORMAT_HEADERS_FILES = "%019d.x*";
+    private static final String EXT_LOG = ".log";
+    private static final String EXT_LOG_TORN = ".log.torn";
+    private static final String EXT_SEAL = ".seal";
+    private static final String STAGING_DIRECTORY = "compacting";
+    private static final int LENGTH_BASE_OFFSET = 19;
+
+    private static final int SEAL_LAST_OFFSET = 0;
+    private static final int SEAL_LOG_CAPACITY = SEAL_LAST_OFFSET + Long.BYTES;
+    private static final int SEAL_INDEX_CAPACITY = SEAL_LOG_CAPACITY + Integer.BYTES;
+    private static final int SEAL_HASH_CAPACITY = SEAL_INDEX_CAPACITY + Integer.BYTES;
+    private static final int SEAL_KEYS_CAPACITY = SEAL_HASH_CAPACITY + Integer.BYTES;
+    private static final int SEAL_NULLS_CAPACITY = SEAL_KEYS_CAPACITY + Integer.BYTES;
+    private static final int SEAL_CHECKSUM = SEAL_NULLS_CAPACITY + Integer.BYTES;
+    private static final int SIZEOF_SEAL = SEAL_CHECKSUM + Integer.BYTES;
+
     private final Path location;
     private final String name;
     private final int id;
@@ -41,6 +72,8 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
     private final KafkaCacheIndexFile hashFile;
     private final KafkaCacheIndexFile keysFile;
     private final KafkaCacheIndexFile nullsFile;
+    private final KafkaCacheIndexFile headersFile;
+    private final List<DirectBuffer> headers;
 
     private long lastOffset;
 
@@ -50,11 +83,12 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
 
     public KafkaCacheSegment(
         KafkaCacheSegment segment,
+        Path location,
         KafkaCacheTopicConfig config,
         MutableDirectBuffer appendBuf,
         IntFunction<long[]> sortSpaceRef)
     {
-        this(segment.location,
+        this(location,
                 config,
                 segment.name,
                 segment.id,
@@ -71,6 +105,19 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         long baseOffset,
         MutableDirectBuffer appendBuf,
         IntFunction<long[]> sortSpaceRef)
+    {
+        this(location, config, name, id, baseOffset, List.of(), appendBuf, sortSpaceRef);
+    }
+
+    public KafkaCacheSegment(
+        Path location,
+        KafkaCacheTopicConfig config,
+        String name,
+        int id,
+        long baseOffset,
+        List<DirectBuffer> headers,
+        MutableDirectBuffer appendBuf,
+        IntFunction<long[]> sortSpaceRef)
     {
         this.location = location;
         this.name = name;
@@ -85,6 +132,10 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         this.hashFile = new KafkaCacheFile.HashScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef);
         this.keysFile = new KafkaCacheFile.KeysScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef);
         this.nullsFile = new KafkaCacheFile.NullsScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef);
+        this.headersFile = !headers.isEmpty()
+            ? new KafkaCacheFile.HeadersScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef)
+            : null;
+        this.headers = headers;
     }
 
     public KafkaCacheSegment(
@@ -107,6 +158,8 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         this.hashFile = new KafkaCacheFile.HashIndex(location, baseOffset);
         this.keysFile = new KafkaCacheFile.KeysIndex(location, baseOffset);
         this.nullsFile = new KafkaCacheFile.NullsIndex(location, baseOffset);
+        this.headersFile = null;
+        this.headers = List.of();
     }
 
     public Path location()
@@ -186,6 +239,22 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         return keysFile;
     }
 
+    public KafkaCacheIndexFile headersFile()
+    {
+        return headersFile;
+    }
+
+    public List<DirectBuffer> headers()
+    {
+        return headers;
+    }
+
+    public boolean indexesHeader(
+        DirectBuffer name)
+    {
+        return headersFile != null && headers.contains(name);
+    }
+
     public KafkaCacheSegment freeze()
     {
         logFile.freeze();
@@ -196,17 +265,36 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         nullsFile.freeze();
         keysFile.freeze();
 
+        // frozen hash index is already sorted by hash then position, so the header scan adds nothing
+        if (headersFile != null)
+        {
+            headersFile.delete();
+        }
+
         final KafkaCacheSegment frozen = new KafkaCacheSegment(location, name, id, baseOffset, lastOffset);
 
-        frozen.dirtySince = dirtySince;
-        frozen.dirtyBytes = dirtyBytes;
-        frozen.cleanableAt = cleanableAt;
+        frozen.dirty(this);
+        frozen.seal();
 
         return frozen;
     }
 
+    public KafkaCacheSegment install(
+        Path target)
+    {
+        // seal moves last, so recovery rolls forward from staging until the seal is in place
+        moveFiles(location, target, baseOffset);
+
+        final KafkaCacheSegment installed = new KafkaCacheSegment(target, name, id, baseOffset, lastOffset);
+        installed.dirty(this);
+        close();
+
+        return installed;
+    }
+
     public void delete()
     {
+        deleteSeal();
         logFile.delete();
         indexFile.delete();
         hashFile.delete();
@@ -214,6 +302,31 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         convertedFile.delete();
         deltaFile.delete();
         keysFile.delete();
+
+        if (headersFile != null)
+        {
+            headersFile.delete();
+        }
+    }
+
+    public void dirty(
+        KafkaCacheSegment segment)
+    {
+        this.dirtySince = segment.dirtySince;
+        this.dirtyBytes = segment.dirtyBytes;
+        this.cleanableAt = segment.cleanableAt;
+    }
+
+    public long size()
+    {
+        return (long) logFile.capacity() +
+            convertedFile.capacity() +
+            deltaFile.capacity() +
+            indexFile.capacity() +
+            hashFile.capacity() +
+            keysFile.capacity() +
+            nullsFile.capacity() +
+            (headersFile != null ? headersFile.capacity() : 0);
     }
 
     public long cleanableAt()
@@ -249,12 +362,257 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         return capacity == 0 ? 0.0 : (double) dirtyBytes / capacity;
     }
 
+    public static KafkaCacheSegment recover(
+        Path location,
+        String name,
+        int id,
+        long baseOffset)
+    {
+        KafkaCacheSegment recovered = null;
+
+        deleteFiles(location, String.format(FORMAT_HEADERS_FILES, baseOffset));
+
+        final ByteBuffer seal = readSeal(location.resolve(String.format(FORMAT_SEAL_FILE, baseOffset)));
+        if (seal != null)
+        {
+            final long lastOffset = seal.getLong(SEAL_LAST_OFFSET);
+            final KafkaCacheSegment segment = new KafkaCacheSegment(location, name, id, baseOffset, lastOffset);
+
+            if (segment.logFile.capacity() == seal.getInt(SEAL_LOG_CAPACITY) &&
+                segment.indexFile.capacity() == seal.getInt(SEAL_INDEX_CAPACITY) &&
+                segment.hashFile.capacity() == seal.getInt(SEAL_HASH_CAPACITY) &&
+                segment.keysFile.capacity() == seal.getInt(SEAL_KEYS_CAPACITY) &&
+                segment.nullsFile.capacity() == seal.getInt(SEAL_NULLS_CAPACITY) &&
+                segment.checksum() == seal.getInt(SEAL_CHECKSUM) &&
+                segment.lastEntryMatches())
+            {
+                recovered = segment;
+            }
+            else
+            {
+                segment.close();
+            }
+        }
+
+        return recovered;
+    }
+
+    public static long[] baseOffsets(
+        Path location)
+    {
+        long[] baseOffsets = new long[0];
+
+        try (Stream<Path> files = Files.list(location))
+        {
+            baseOffsets = files
+                .map(f -> f.getFileName().toString())
+                .filter(f -> f.endsWith(EXT_LOG) || f.endsWith(EXT_LOG_TORN))
+                .mapToLong(f -> Long.parseLong(f.substring(0, LENGTH_BASE_OFFSET)))
+                .distinct()
+                .sorted()
+                .toArray();
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return baseOffsets;
+    }
+
+    public static void delete(
+        Path location,
+        long baseOffset)
+    {
+        deleteFiles(location, String.format(FORMAT_SEGMENT_FILES, baseOffset));
+    }
+
+    public static Path staging(
+        Path location)
+    {
+        final Path staging = location.resolve(STAGING_DIRECTORY);
+
+        try
+        {
+            Files.createDirectories(staging);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return staging;
+    }
+
+    public static void recoverStaged(
+        Path location)
+    {
+        final Path staging = location.resolve(STAGING_DIRECTORY);
+
+        if (Files.isDirectory(staging))
+        {
+            // sealed in staging means install had begun, so finish it; anything unsealed never replaced its source
+            try (Stream<Path> files = Files.list(staging))
+            {
+                final long[] sealed = files
+                    .map(f -> f.getFileName().toString())
+                    .filter(f -> f.endsWith(EXT_SEAL))
+                    .mapToLong(f -> Long.parseLong(f.substring(0, LENGTH_BASE_OFFSET)))
+                    .toArray();
+
+                for (long baseOffset : sealed)
+                {
+                    moveFiles(staging, location, baseOffset);
+                }
+            }
+            catch (IOException ex)
+            {
+                LangUtil.rethrowUnchecked(ex);
+            }
+
+            deleteFiles(staging, "*");
+        }
+    }
+
     @Override
     public String toString()
     {
         return String.format("[%s] %s[%d] @ %d +%d", getClass().getSimpleName(), name, id, baseOffset, references());
     }
 
+    private void seal()
+    {
+        final ByteBuffer seal = ByteBuffer.allocate(SIZEOF_SEAL);
+        seal.putLong(SEAL_LAST_OFFSET, lastOffset);
+        seal.putInt(SEAL_LOG_CAPACITY, logFile.capacity());
+        seal.putInt(SEAL_INDEX_CAPACITY, indexFile.capacity());
+        seal.putInt(SEAL_HASH_CAPACITY, hashFile.capacity());
+        seal.putInt(SEAL_KEYS_CAPACITY, keysFile.capacity());
+        seal.putInt(SEAL_NULLS_CAPACITY, nullsFile.capacity());
+        seal.putInt(SEAL_CHECKSUM, checksum());
+
+        try
+        {
+            final Path sealWork = location.resolve(String.format(FORMAT_SEAL_WORK_FILE, baseOffset));
+            final Path sealFile = location.resolve(String.format(FORMAT_SEAL_FILE, baseOffset));
+            Files.write(sealWork, seal.array());
+            Files.move(sealWork, sealFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    private void deleteSeal()
+    {
+        try
+        {
+            Files.deleteIfExists(location.resolve(String.format(FORMAT_SEAL_FILE, baseOffset)));
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    private int checksum()
+    {
+        final CRC32C checksum = new CRC32C();
+        checksum.update(indexFile.buffer().byteBuffer().duplicate().clear());
+        checksum.update(hashFile.buffer().byteBuffer().duplicate().clear());
+        checksum.update(keysFile.buffer().byteBuffer().duplicate().clear());
+        checksum.update(nullsFile.buffer().byteBuffer().duplicate().clear());
+        return (int) checksum.getValue();
+    }
+
+    private boolean lastEntryMatches()
+    {
+        boolean matches = lastOffset == OFFSET_LIVE && logFile.empty();
+
+        final int indexCapacity = indexFile.capacity();
+        if (lastOffset != OFFSET_LIVE && indexCapacity >= Long.BYTES)
+        {
+            final long indexEntry = indexFile.readLong(indexCapacity - Long.BYTES);
+            final int position = (int) indexEntry;
+            final KafkaCacheEntryFW entry = position >= 0 && position < logFile.capacity()
+                ? logFile.readBytes(position, new KafkaCacheEntryFW()::tryWrap)
+                : null;
+
+            matches = entry != null &&
+                entry.offset$() == lastOffset &&
+                entry.offset$() == baseOffset + (indexEntry >>> 32);
+        }
+
+        return matches;
+    }
+
+    private static void deleteFiles(
+        Path location,
+        String glob)
+    {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(location, glob))
+        {
+            for (Path file : files)
+            {
+                Files.deleteIfExists(file);
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    private static void moveFiles(
+        Path source,
+        Path target,
+        long baseOffset)
+    {
+        final Path sealFile = source.resolve(String.format(FORMAT_SEAL_FILE, baseOffset));
+
+        try
+        {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(source, String.format(FORMAT_SEGMENT_FILES, baseOffset)))
+            {
+                for (Path file : files)
+                {
+                    if (!file.equals(sealFile))
+                    {
+                        Files.move(file, target.resolve(file.getFileName()), REPLACE_EXISTING, ATOMIC_MOVE);
+                    }
+                }
+            }
+
+            Files.move(sealFile, target.resolve(sealFile.getFileName()), REPLACE_EXISTING, ATOMIC_MOVE);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    private static ByteBuffer readSeal(
+        Path sealFile)
+    {
+        ByteBuffer seal = null;
+
+        try
+        {
+            if (Files.exists(sealFile))
+            {
+                final byte[] bytes = Files.readAllBytes(sealFile);
+                seal = bytes.length == SIZEOF_SEAL ? ByteBuffer.wrap(bytes) : null;
+            }
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return seal;
+    }
+
     @Override
     protected KafkaCacheSegment self()
     {
@@ -271,5 +629,10 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         convertedFile.close();
         deltaFile.close();
         keysFile.close();
+
+        if (headersFile != null)
+        {
+            headersFile.close();
+        }
     }
 }
@@ -34,6 +34,7 @@ public final class KafkaCacheTopic
     private final String name;
     private final KafkaCacheTopicConfig config;
     private final int appendCapacity;
+    private final boolean recovery;
     private final Map<Integer, KafkaCachePartition> partitionsById;
     private final Map<Long, KafkaCachePartition> partitionsByIndex;
     private IntFunction<long[]> sortSpaceRef;
@@ -49,6 +50,7 @@ public final class KafkaCacheTopic
         this.location = location;
         this.config = new KafkaCacheTopicConfig(config);
         this.appendCapacity = ENGINE_BUFFER_SLOT_CAPACITY.get(config);
+        this.recovery = config.cacheRecovery();
         this.cache = cache;
         this.produceCapacity = produceCapacity;
         this.maxProduceCapacity = config.cacheProduceCapacity();
@@ -96,7 +98,15 @@ public final class KafkaCacheTopic
     private KafkaCachePartition newFetchPartition(
         int id)
     {
-        return new KafkaCachePartition(location, config, cache, name, id, appendCapacity, sortSpaceRef);
+        final KafkaCachePartition partition =
+            new KafkaCachePartition(location, config, cache, name, id, appendCapacity, sortSpaceRef);
+
+        if (recovery)
+        {
+            partition.recover();
+        }
+
+        return partition;
     }
 
     private KafkaCachePartition newProducePartition(
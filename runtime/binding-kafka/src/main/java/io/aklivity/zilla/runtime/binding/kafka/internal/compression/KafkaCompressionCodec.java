@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public abstract class KafkaCompressionCodec
+{
+    public static final int DECOMPRESS_FAILED = -1;
+    public static final int COMPRESS_FAILED = -1;
+
+    /**
+     * Compresses the records of a record batch.
+     *
+     * @param src  the buffer containing the uncompressed records
+     * @param srcOffset  the offset of the uncompressed records
+     * @param srcLength  the length of the uncompressed records
+     * @param dst  the buffer to receive the compressed records
+     * @param dstOffset  the offset to start writing compressed records
+     * @param dstLimit  the limit for writing compressed records
+     *
+     * @return  the compressed length, or {@code COMPRESS_FAILED} if exceeding {@code dstLimit}
+     */
+    public abstract int compress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit);
+
+    /**
+     * Decompresses the records of a compressed record batch.
+     *
+     * @param src  the buffer containing the compressed records
+     * @param srcOffset  the offset of the compressed records
+     * @param srcLength  the length of the compressed records
+     * @param dst  the buffer to receive the decompressed records
+     * @param dstOffset  the offset to start writing decompressed records
+     * @param dstLimit  the limit for writing decompressed records
+     *
+     * @return  the decompressed length, or {@code DECOMPRESS_FAILED} if malformed or exceeding {@code dstLimit}
+     */
+    public abstract int decompress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit);
+
+    static int copyMatch(
+        MutableDirectBuffer dst,
+        int dstProgress,
+        int matchOffset,
+        int matchLength)
+    {
+        final int matchStart = dstProgress - matchOffset;
+
+        if (matchOffset >= matchLength)
+        {
+            dst.putBytes(dstProgress, dst, matchStart, matchLength);
+        }
+        else
+        {
+            for (int index = 0; index < matchLength; index++)
+            {
+                dst.putByte(dstProgress + index, dst.getByte(matchStart + index));
+            }
+        }
+
+        return dstProgress + matchLength;
+    }
+}
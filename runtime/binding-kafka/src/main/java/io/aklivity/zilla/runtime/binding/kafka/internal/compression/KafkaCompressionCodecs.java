@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+public final class KafkaCompressionCodecs
+{
+    private final KafkaCompressionCodec gzip;
+    private final KafkaCompressionCodec snappy;
+    private final KafkaCompressionCodec lz4;
+    private final KafkaCompressionCodec zstd;
+
+    public KafkaCompressionCodecs(
+        int capacity)
+    {
+        this.gzip = new KafkaGzipCodec(capacity);
+        this.snappy = new KafkaSnappyCodec();
+        this.lz4 = new KafkaLz4Codec();
+        this.zstd = new KafkaZstdCodec();
+    }
+
+    public KafkaCompressionCodec supply(
+        KafkaCompressionType type)
+    {
+        KafkaCompressionCodec codec = null;
+
+        if (type != null)
+        {
+            switch (type)
+            {
+            case GZIP:
+                codec = gzip;
+                break;
+            case SNAPPY:
+                codec = snappy;
+                break;
+            case LZ4:
+                codec = lz4;
+                break;
+            case ZSTD:
+                codec = zstd;
+                break;
+            default:
+                break;
+            }
+        }
+
+        return codec;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+public enum KafkaCompressionType
+{
+    NONE,
+    GZIP,
+    SNAPPY,
+    LZ4,
+    ZSTD;
+
+    private static final int ATTRIBUTES_COMPRESSION_MASK = 0x07;
+
+    public int attributes()
+    {
+        return ordinal();
+    }
+
+    public static KafkaCompressionType valueOf(
+        int attributes)
+    {
+        final int codec = attributes & ATTRIBUTES_COMPRESSION_MASK;
+        return codec < VALUES.length ? VALUES[codec] : null;
+    }
+
+    private static final KafkaCompressionType[] VALUES = values();
+}
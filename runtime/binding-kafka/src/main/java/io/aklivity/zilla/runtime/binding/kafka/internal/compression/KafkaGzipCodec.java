@@ -0,0 +1,226 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public final class KafkaGzipCodec extends KafkaCompressionCodec
+{
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int GZIP_METHOD_DEFLATE = 8;
+    private static final int GZIP_HEADER_SIZE = 10;
+    private static final int GZIP_TRAILER_SIZE = 8;
+    private static final byte GZIP_OS_UNKNOWN = (byte) 0xff;
+
+    private static final int FLAG_HCRC = 0x02;
+    private static final int FLAG_EXTRA = 0x04;
+    private static final int FLAG_NAME = 0x08;
+    private static final int FLAG_COMMENT = 0x10;
+
+    private final Inflater inflater;
+    private final Deflater deflater;
+    private final CRC32 crc32;
+    private final byte[] input;
+    private final byte[] output;
+
+    public KafkaGzipCodec(
+        int capacity)
+    {
+        this.inflater = new Inflater(true);
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        this.crc32 = new CRC32();
+        this.input = new byte[capacity];
+        this.output = new byte[capacity];
+    }
+
+    @Override
+    public int compress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int deflateMax = Math.min(dstLimit - dstOffset - GZIP_HEADER_SIZE - GZIP_TRAILER_SIZE, output.length);
+
+        int dstProgress = COMPRESS_FAILED;
+
+        if (srcLength <= input.length && deflateMax > 0)
+        {
+            src.getBytes(srcOffset, input, 0, srcLength);
+            deflater.setInput(input, 0, srcLength);
+            deflater.finish();
+
+            try
+            {
+                int deflateLength = 0;
+                while (!deflater.finished() && deflateLength < deflateMax)
+                {
+                    deflateLength += deflater.deflate(output, deflateLength, deflateMax - deflateLength);
+                }
+
+                if (deflater.finished())
+                {
+                    crc32.reset();
+                    crc32.update(input, 0, srcLength);
+
+                    int progress = dstOffset;
+                    dst.putShort(progress, (short) GZIP_MAGIC, LITTLE_ENDIAN);
+                    dst.putByte(progress + 2, (byte) GZIP_METHOD_DEFLATE);
+                    dst.putByte(progress + 3, (byte) 0);
+                    dst.putInt(progress + 4, 0);
+                    dst.putByte(progress + 8, (byte) 0);
+                    dst.putByte(progress + 9, GZIP_OS_UNKNOWN);
+                    progress += GZIP_HEADER_SIZE;
+
+                    dst.putBytes(progress, output, 0, deflateLength);
+                    progress += deflateLength;
+
+                    dst.putInt(progress, (int) crc32.getValue(), LITTLE_ENDIAN);
+                    dst.putInt(progress + Integer.BYTES, srcLength, LITTLE_ENDIAN);
+                    progress += GZIP_TRAILER_SIZE;
+
+                    dstProgress = progress - dstOffset;
+                }
+            }
+            finally
+            {
+                deflater.reset();
+            }
+        }
+
+        return dstProgress;
+    }
+
+    @Override
+    public int decompress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int srcLimit = srcOffset + srcLength;
+        final int deflateOffset = skipHeader(src, srcOffset, srcLimit);
+        final int deflateLength = srcLimit - deflateOffset;
+
+        int dstProgress = DECOMPRESS_FAILED;
+
+        if (deflateOffset != DECOMPRESS_FAILED && deflateLength <= input.length)
+        {
+            final int outputMax = Math.min(dstLimit - dstOffset, output.length);
+
+            src.getBytes(deflateOffset, input, 0, deflateLength);
+            inflater.setInput(input, 0, deflateLength);
+
+            try
+            {
+                int outputLength = 0;
+                while (!inflater.finished() && outputLength < outputMax)
+                {
+                    final int inflated = inflater.inflate(output, outputLength, outputMax - outputLength);
+                    if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    {
+                        break;
+                    }
+                    outputLength += inflated;
+                }
+
+                if (inflater.finished())
+                {
+                    dst.putBytes(dstOffset, output, 0, outputLength);
+                    dstProgress = outputLength;
+                }
+            }
+            catch (DataFormatException ex)
+            {
+                dstProgress = DECOMPRESS_FAILED;
+            }
+            finally
+            {
+                inflater.reset();
+            }
+        }
+
+        return dstProgress;
+    }
+
+    private static int skipHeader(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLimit)
+    {
+        int progress = DECOMPRESS_FAILED;
+
+        if (srcLimit - srcOffset >= GZIP_HEADER_SIZE &&
+            (src.getShort(srcOffset, LITTLE_ENDIAN) & 0xffff) == GZIP_MAGIC &&
+            src.getByte(srcOffset + 2) == GZIP_METHOD_DEFLATE)
+        {
+            final int flags = src.getByte(srcOffset + 3) & 0xff;
+
+            progress = srcOffset + GZIP_HEADER_SIZE;
+
+            if ((flags & FLAG_EXTRA) != 0 && progress + Short.BYTES <= srcLimit)
+            {
+                progress += Short.BYTES + (src.getShort(progress, LITTLE_ENDIAN) & 0xffff);
+            }
+
+            if ((flags & FLAG_NAME) != 0)
+            {
+                progress = skipZeroTerminated(src, progress, srcLimit);
+            }
+
+            if ((flags & FLAG_COMMENT) != 0)
+            {
+                progress = skipZeroTerminated(src, progress, srcLimit);
+            }
+
+            if ((flags & FLAG_HCRC) != 0)
+            {
+                progress += Short.BYTES;
+            }
+
+            if (progress > srcLimit)
+            {
+                progress = DECOMPRESS_FAILED;
+            }
+        }
+
+        return progress;
+    }
+
+    private static int skipZeroTerminated(
+        DirectBuffer src,
+        int progress,
+        int srcLimit)
+    {
+        while (progress < srcLimit && src.getByte(progress) != 0)
+        {
+            progress++;
+        }
+        return progress + 1;
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.Arrays;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public final class KafkaLz4Codec extends KafkaCompressionCodec
+{
+    private static final int FRAME_MAGIC = 0x184d2204;
+
+    private static final int FLAG_VERSION_MASK = 0xc0;
+    private static final int FLAG_VERSION = 0x40;
+    private static final int FLAG_BLOCK_INDEPENDENCE = 0x20;
+    private static final int FLAG_BLOCK_CHECKSUM = 0x10;
+    private static final int FLAG_CONTENT_SIZE = 0x08;
+    private static final int FLAG_CONTENT_CHECKSUM = 0x04;
+    private static final int FLAG_DICTIONARY_ID = 0x01;
+
+    private static final int BLOCK_UNCOMPRESSED = 0x80000000;
+    private static final int BLOCK_LENGTH_MASK = 0x7fffffff;
+
+    private static final int BLOCK_MAX_SIZE_64KB = 0x40;
+    private static final int BLOCK_MAX_SIZE = 64 * 1024;
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES + 3;
+
+    private static final int MIN_MATCH = 4;
+    private static final int RUN_MASK = 0x0f;
+    private static final int MAX_OFFSET = 65535;
+    private static final int LAST_LITERALS = 5;
+    private static final int MATCH_FIND_LIMIT = 12;
+
+    private static final int HASH_BITS = 12;
+    private static final int HASH_MULTIPLIER = -1640531535;
+
+    private static final int PRIME32_1 = 0x9e3779b1;
+    private static final int PRIME32_2 = 0x85ebca77;
+    private static final int PRIME32_3 = 0xc2b2ae3d;
+    private static final int PRIME32_5 = 0x165667b1;
+
+    private final int[] hashTable = new int[1 << HASH_BITS];
+
+    @Override
+    public int compress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        if (dstLimit - dstOffset < FRAME_HEADER_SIZE)
+        {
+            return COMPRESS_FAILED;
+        }
+
+        final int flags = FLAG_VERSION | FLAG_BLOCK_INDEPENDENCE;
+
+        int dstProgress = dstOffset;
+        dst.putInt(dstProgress, FRAME_MAGIC, LITTLE_ENDIAN);
+        dst.putByte(dstProgress + Integer.BYTES, (byte) flags);
+        dst.putByte(dstProgress + Integer.BYTES + 1, (byte) BLOCK_MAX_SIZE_64KB);
+        dst.putByte(dstProgress + Integer.BYTES + 2, headerChecksum(flags, BLOCK_MAX_SIZE_64KB));
+        dstProgress += FRAME_HEADER_SIZE;
+
+        final int srcLimit = srcOffset + srcLength;
+        for (int srcProgress = srcOffset; srcProgress < srcLimit; srcProgress += BLOCK_MAX_SIZE)
+        {
+            final int blockLength = Math.min(srcLimit - srcProgress, BLOCK_MAX_SIZE);
+            final int blockOffset = dstProgress + Integer.BYTES;
+
+            if (blockOffset > dstLimit)
+            {
+                return COMPRESS_FAILED;
+            }
+
+            final int blockLimit = Math.min(dstLimit, blockOffset + blockLength);
+            final int compressed = compressBlock(src, srcProgress, blockLength, dst, blockOffset, blockLimit);
+
+            if (compressed != COMPRESS_FAILED && compressed < blockLength)
+            {
+                dst.putInt(dstProgress, compressed, LITTLE_ENDIAN);
+                dstProgress = blockOffset + compressed;
+            }
+            else if (blockOffset + blockLength <= dstLimit)
+            {
+                dst.putInt(dstProgress, BLOCK_UNCOMPRESSED | blockLength, LITTLE_ENDIAN);
+                dst.putBytes(blockOffset, src, srcProgress, blockLength);
+                dstProgress = blockOffset + blockLength;
+            }
+            else
+            {
+                return COMPRESS_FAILED;
+            }
+        }
+
+        if (dstProgress + Integer.BYTES > dstLimit)
+        {
+            return COMPRESS_FAILED;
+        }
+
+        dst.putInt(dstProgress, 0, LITTLE_ENDIAN);
+        dstProgress += Integer.BYTES;
+
+        return dstProgress - dstOffset;
+    }
+
+    @Override
+    public int decompress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int srcLimit = srcOffset + srcLength;
+        int srcProgress = srcOffset;
+
+        if (srcLength < Integer.BYTES + 3 || src.getInt(srcProgress, LITTLE_ENDIAN) != FRAME_MAGIC)
+        {
+            return DECOMPRESS_FAILED;
+        }
+        srcProgress += Integer.BYTES;
+
+        final int flags = src.getByte(srcProgress) & 0xff;
+        if ((flags & FLAG_VERSION_MASK) != FLAG_VERSION)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        // FLG, BD
+        srcProgress += 2;
+
+        if ((flags & FLAG_CONTENT_SIZE) != 0)
+        {
+            srcProgress += Long.BYTES;
+        }
+
+        if ((flags & FLAG_DICTIONARY_ID) != 0)
+        {
+            srcProgress += Integer.BYTES;
+        }
+
+        // HC
+        srcProgress++;
+
+        final int blockChecksumSize = (flags & FLAG_BLOCK_CHECKSUM) != 0 ? Integer.BYTES : 0;
+
+        int dstProgress = dstOffset;
+        while (true)
+        {
+            if (srcProgress + Integer.BYTES > srcLimit)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            final int blockHeader = src.getInt(srcProgress, LITTLE_ENDIAN);
+            srcProgress += Integer.BYTES;
+
+            if (blockHeader == 0)
+            {
+                break;
+            }
+
+            final int blockLength = blockHeader & BLOCK_LENGTH_MASK;
+            final int blockLimit = srcProgress + blockLength;
+
+            if (blockLimit + blockChecksumSize > srcLimit)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            if ((blockHeader & BLOCK_UNCOMPRESSED) != 0)
+            {
+                if (dstProgress + blockLength > dstLimit)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+                dst.putBytes(dstProgress, src, srcProgress, blockLength);
+                dstProgress += blockLength;
+            }
+            else
+            {
+                dstProgress = decompressBlock(src, srcProgress, blockLimit, dst, dstOffset, dstProgress, dstLimit);
+                if (dstProgress == DECOMPRESS_FAILED)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+            }
+
+            srcProgress = blockLimit + blockChecksumSize;
+        }
+
+        if ((flags & FLAG_CONTENT_CHECKSUM) != 0)
+        {
+            srcProgress += Integer.BYTES;
+        }
+
+        return srcProgress <= srcLimit ? dstProgress - dstOffset : DECOMPRESS_FAILED;
+    }
+
+    private int compressBlock(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int srcLimit = srcOffset + srcLength;
+        int srcAnchor = srcOffset;
+        int dstProgress = dstOffset;
+
+        if (srcLength > MATCH_FIND_LIMIT)
+        {
+            final int[] hashTable = this.hashTable;
+            Arrays.fill(hashTable, -1);
+
+            final int matchFindLimit = srcLimit - MATCH_FIND_LIMIT;
+            final int matchLengthLimit = srcLimit - LAST_LITERALS;
+            int srcProgress = srcOffset;
+
+            while (srcProgress < matchFindLimit && dstProgress != COMPRESS_FAILED)
+            {
+                final int sequence = src.getInt(srcProgress);
+                final int hash = (sequence * HASH_MULTIPLIER) >>> (Integer.SIZE - HASH_BITS);
+                final int candidate = hashTable[hash];
+                hashTable[hash] = srcProgress;
+
+                if (candidate == -1 ||
+                    srcProgress - candidate > MAX_OFFSET ||
+                    src.getInt(candidate) != sequence)
+                {
+                    srcProgress++;
+                    continue;
+                }
+
+                int matchLength = MIN_MATCH;
+                while (srcProgress + matchLength < matchLengthLimit &&
+                    src.getByte(candidate + matchLength) == src.getByte(srcProgress + matchLength))
+                {
+                    matchLength++;
+                }
+
+                dstProgress = emitSequence(src, srcAnchor, srcProgress - srcAnchor,
+                    srcProgress - candidate, matchLength, dst, dstProgress, dstLimit);
+
+                srcProgress += matchLength;
+                srcAnchor = srcProgress;
+            }
+        }
+
+        if (dstProgress != COMPRESS_FAILED)
+        {
+            dstProgress = emitSequence(src, srcAnchor, srcLimit - srcAnchor, 0, 0, dst, dstProgress, dstLimit);
+        }
+
+        return dstProgress != COMPRESS_FAILED ? dstProgress - dstOffset : COMPRESS_FAILED;
+    }
+
+    private static int emitSequence(
+        DirectBuffer src,
+        int literalOffset,
+        int literalLength,
+        int matchOffset,
+        int matchLength,
+        MutableDirectBuffer dst,
+        int dstProgress,
+        int dstLimit)
+    {
+        final int matchLengthCode = matchLength != 0 ? matchLength - MIN_MATCH : 0;
+        final int sequenceMax = Byte.BYTES + literalLength / 0xff + 1 + literalLength + Short.BYTES + matchLengthCode / 0xff + 1;
+
+        if (dstProgress + sequenceMax > dstLimit)
+        {
+            return COMPRESS_FAILED;
+        }
+
+        final int token = Math.min(literalLength, RUN_MASK) << 4 | Math.min(matchLengthCode, RUN_MASK);
+        dst.putByte(dstProgress++, (byte) token);
+        dstProgress = emitLength(literalLength, dst, dstProgress);
+
+        dst.putBytes(dstProgress, src, literalOffset, literalLength);
+        dstProgress += literalLength;
+
+        if (matchLength != 0)
+        {
+            dst.putShort(dstProgress, (short) matchOffset, LITTLE_ENDIAN);
+            dstProgress += Short.BYTES;
+            dstProgress = emitLength(matchLengthCode, dst, dstProgress);
+        }
+
+        return dstProgress;
+    }
+
+    private static int emitLength(
+        int length,
+        MutableDirectBuffer dst,
+        int dstProgress)
+    {
+        if (length >= RUN_MASK)
+        {
+            int remaining = length - RUN_MASK;
+            while (remaining >= 0xff)
+            {
+                dst.putByte(dstProgress++, (byte) 0xff);
+                remaining -= 0xff;
+            }
+            dst.putByte(dstProgress++, (byte) remaining);
+        }
+
+        return dstProgress;
+    }
+
+    static byte headerChecksum(
+        int flags,
+        int blockDescriptor)
+    {
+        int hash = PRIME32_5 + 2;
+        hash = Integer.rotateLeft(hash + (flags & 0xff) * PRIME32_5, 11) * PRIME32_1;
+        hash = Integer.rotateLeft(hash + (blockDescriptor & 0xff) * PRIME32_5, 11) * PRIME32_1;
+        hash ^= hash >>> 15;
+        hash *= PRIME32_2;
+        hash ^= hash >>> 13;
+        hash *= PRIME32_3;
+        hash ^= hash >>> 16;
+        return (byte) (hash >>> 8);
+    }
+
+    private static int decompressBlock(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstProgress,
+        int dstLimit)
+    {
+        while (srcProgress < srcLimit)
+        {
+            final int token = src.getByte(srcProgress++) & 0xff;
+
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK)
+            {
+                int extra;
+                do
+                {
+                    if (srcProgress >= srcLimit)
+                    {
+                        return DECOMPRESS_FAILED;
+                    }
+                    extra = src.getByte(srcProgress++) & 0xff;
+                    literalLength += extra;
+                } while (extra == 0xff);
+            }
+
+            if (srcProgress + literalLength > srcLimit || dstProgress + literalLength > dstLimit)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            dst.putBytes(dstProgress, src, srcProgress, literalLength);
+            srcProgress += literalLength;
+            dstProgress += literalLength;
+
+            if (srcProgress == srcLimit)
+            {
+                break;
+            }
+
+            if (srcProgress + Short.BYTES > srcLimit)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            final int matchOffset = src.getShort(srcProgress, LITTLE_ENDIAN) & 0xffff;
+            srcProgress += Short.BYTES;
+
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK)
+            {
+                int extra;
+                do
+                {
+                    if (srcProgress >= srcLimit)
+                    {
+                        return DECOMPRESS_FAILED;
+                    }
+                    extra = src.getByte(srcProgress++) & 0xff;
+                    matchLength += extra;
+                } while (extra == 0xff);
+            }
+            matchLength += MIN_MATCH;
+
+            if (matchOffset == 0 || matchOffset > dstProgress - dstOffset || dstProgress + matchLength > dstLimit)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            dstProgress = copyMatch(dst, dstProgress, matchOffset, matchLength);
+        }
+
+        return dstProgress;
+    }
+}
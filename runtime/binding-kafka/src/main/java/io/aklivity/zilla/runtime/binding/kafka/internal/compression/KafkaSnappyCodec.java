@@ -0,0 +1,408 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.Arrays;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public final class KafkaSnappyCodec extends KafkaCompressionCodec
+{
+    private static final long XERIAL_MAGIC = 0x82534e4150505900L;
+    private static final int XERIAL_HEADER_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int XERIAL_VERSION = 1;
+    private static final int XERIAL_COMPATIBLE_VERSION = 1;
+    private static final int XERIAL_BLOCK_SIZE = 32 * 1024;
+
+    private static final int TAG_LITERAL = 0x00;
+    private static final int TAG_COPY_1 = 0x01;
+    private static final int TAG_COPY_2 = 0x02;
+    private static final int TAG_COPY_4 = 0x03;
+
+    private static final int HASH_BITS = 14;
+    private static final int HASH_MULTIPLIER = 0x1e35a7bd;
+    private static final int MIN_MATCH = 4;
+    private static final int MIN_COMPRESSIBLE = 15;
+    private static final int MAX_COPY_1_LENGTH = 11;
+    private static final int MAX_COPY_1_OFFSET = 2047;
+    private static final int MAX_COPY_2_LENGTH = 64;
+    private static final int MAX_COPY_2_OFFSET = 65535;
+
+    private final int[] hashTable = new int[1 << HASH_BITS];
+
+    @Override
+    public int compress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        if (dstLimit - dstOffset < XERIAL_HEADER_SIZE)
+        {
+            return COMPRESS_FAILED;
+        }
+
+        int dstProgress = dstOffset;
+        dst.putLong(dstProgress, XERIAL_MAGIC, BIG_ENDIAN);
+        dst.putInt(dstProgress + Long.BYTES, XERIAL_VERSION, BIG_ENDIAN);
+        dst.putInt(dstProgress + Long.BYTES + Integer.BYTES, XERIAL_COMPATIBLE_VERSION, BIG_ENDIAN);
+        dstProgress += XERIAL_HEADER_SIZE;
+
+        final int srcLimit = srcOffset + srcLength;
+        for (int srcProgress = srcOffset; srcProgress < srcLimit; srcProgress += XERIAL_BLOCK_SIZE)
+        {
+            final int blockLength = Math.min(srcLimit - srcProgress, XERIAL_BLOCK_SIZE);
+            final int blockOffset = dstProgress + Integer.BYTES;
+
+            final int compressed = blockOffset < dstLimit
+                ? compressBlock(src, srcProgress, blockLength, dst, blockOffset, dstLimit)
+                : COMPRESS_FAILED;
+
+            if (compressed == COMPRESS_FAILED)
+            {
+                return COMPRESS_FAILED;
+            }
+
+            dst.putInt(dstProgress, compressed, BIG_ENDIAN);
+            dstProgress = blockOffset + compressed;
+        }
+
+        return dstProgress - dstOffset;
+    }
+
+    @Override
+    public int decompress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        return isXerialFramed(src, srcOffset, srcLength)
+            ? decompressXerial(src, srcOffset + XERIAL_HEADER_SIZE, srcOffset + srcLength, dst, dstOffset, dstLimit)
+            : decompressBlock(src, srcOffset, srcOffset + srcLength, dst, dstOffset, dstLimit);
+    }
+
+    private int compressBlock(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        int dstProgress = dstOffset;
+
+        int varint = srcLength;
+        while ((varint & ~0x7f) != 0)
+        {
+            if (dstProgress >= dstLimit)
+            {
+                return COMPRESS_FAILED;
+            }
+            dst.putByte(dstProgress++, (byte) ((varint & 0x7f) | 0x80));
+            varint >>>= 7;
+        }
+
+        if (dstProgress >= dstLimit)
+        {
+            return COMPRESS_FAILED;
+        }
+        dst.putByte(dstProgress++, (byte) varint);
+
+        final int srcLimit = srcOffset + srcLength;
+        int srcAnchor = srcOffset;
+
+        if (srcLength >= MIN_COMPRESSIBLE)
+        {
+            final int[] hashTable = this.hashTable;
+            Arrays.fill(hashTable, -1);
+
+            final int matchLimit = srcLimit - MIN_MATCH;
+            int srcProgress = srcOffset;
+
+            while (srcProgress <= matchLimit && dstProgress != COMPRESS_FAILED)
+            {
+                final int sequence = src.getInt(srcProgress);
+                final int hash = (sequence * HASH_MULTIPLIER) >>> (Integer.SIZE - HASH_BITS);
+                final int candidate = hashTable[hash];
+                hashTable[hash] = srcProgress;
+
+                if (candidate == -1 ||
+                    srcProgress - candidate > MAX_COPY_2_OFFSET ||
+                    src.getInt(candidate) != sequence)
+                {
+                    srcProgress++;
+                    continue;
+                }
+
+                int matchLength = MIN_MATCH;
+                while (srcProgress + matchLength < srcLimit &&
+                    src.getByte(candidate + matchLength) == src.getByte(srcProgress + matchLength))
+                {
+                    matchLength++;
+                }
+
+                dstProgress = emitLiteral(src, srcAnchor, srcProgress - srcAnchor, dst, dstProgress, dstLimit);
+                if (dstProgress != COMPRESS_FAILED)
+                {
+                    dstProgress = emitCopy(srcProgress - candidate, matchLength, dst, dstProgress, dstLimit);
+                }
+
+                srcProgress += matchLength;
+                srcAnchor = srcProgress;
+            }
+        }
+
+        if (dstProgress != COMPRESS_FAILED)
+        {
+            dstProgress = emitLiteral(src, srcAnchor, srcLimit - srcAnchor, dst, dstProgress, dstLimit);
+        }
+
+        return dstProgress != COMPRESS_FAILED ? dstProgress - dstOffset : COMPRESS_FAILED;
+    }
+
+    private static int emitLiteral(
+        DirectBuffer src,
+        int srcOffset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstProgress,
+        int dstLimit)
+    {
+        if (length > 0)
+        {
+            final int lengthBytes = length - 1 < 60 ? 0 : (Integer.SIZE - Integer.numberOfLeadingZeros(length - 1) + 7) >> 3;
+
+            if (dstProgress + Byte.BYTES + lengthBytes + length > dstLimit)
+            {
+                return COMPRESS_FAILED;
+            }
+
+            if (lengthBytes == 0)
+            {
+                dst.putByte(dstProgress++, (byte) ((length - 1) << 2 | TAG_LITERAL));
+            }
+            else
+            {
+                dst.putByte(dstProgress++, (byte) ((59 + lengthBytes) << 2 | TAG_LITERAL));
+                for (int index = 0; index < lengthBytes; index++)
+                {
+                    dst.putByte(dstProgress++, (byte) ((length - 1) >>> (index << 3)));
+                }
+            }
+
+            dst.putBytes(dstProgress, src, srcOffset, length);
+            dstProgress += length;
+        }
+
+        return dstProgress;
+    }
+
+    private static int emitCopy(
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstProgress,
+        int dstLimit)
+    {
+        while (length > 0)
+        {
+            if (dstProgress + Byte.BYTES + Short.BYTES > dstLimit)
+            {
+                return COMPRESS_FAILED;
+            }
+
+            if (length <= MAX_COPY_1_LENGTH && offset <= MAX_COPY_1_OFFSET)
+            {
+                dst.putByte(dstProgress++, (byte) ((offset >>> 8) << 5 | (length - MIN_MATCH) << 2 | TAG_COPY_1));
+                dst.putByte(dstProgress++, (byte) offset);
+                length = 0;
+            }
+            else
+            {
+                // leave at least MIN_MATCH bytes for the next copy
+                final int copyLength = length > MAX_COPY_2_LENGTH + MIN_MATCH
+                    ? MAX_COPY_2_LENGTH
+                    : length > MAX_COPY_2_LENGTH ? MAX_COPY_2_LENGTH - MIN_MATCH : length;
+
+                dst.putByte(dstProgress++, (byte) ((copyLength - 1) << 2 | TAG_COPY_2));
+                dst.putShort(dstProgress, (short) offset, LITTLE_ENDIAN);
+                dstProgress += Short.BYTES;
+                length -= copyLength;
+            }
+        }
+
+        return dstProgress;
+    }
+
+    private static boolean isXerialFramed(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength)
+    {
+        return srcLength >= XERIAL_HEADER_SIZE &&
+            src.getLong(srcOffset, BIG_ENDIAN) == XERIAL_MAGIC;
+    }
+
+    private static int decompressXerial(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        int dstProgress = dstOffset;
+
+        while (srcProgress < srcLimit && dstProgress != DECOMPRESS_FAILED)
+        {
+            if (srcProgress + Integer.BYTES > srcLimit)
+            {
+                dstProgress = DECOMPRESS_FAILED;
+                break;
+            }
+
+            final int blockLength = src.getInt(srcProgress, BIG_ENDIAN);
+            final int blockOffset = srcProgress + Integer.BYTES;
+            final int blockLimit = blockOffset + blockLength;
+
+            if (blockLength < 0 || blockLimit > srcLimit)
+            {
+                dstProgress = DECOMPRESS_FAILED;
+                break;
+            }
+
+            final int decompressed = decompressBlock(src, blockOffset, blockLimit, dst, dstProgress, dstLimit);
+            dstProgress = decompressed != DECOMPRESS_FAILED ? dstProgress + decompressed : DECOMPRESS_FAILED;
+            srcProgress = blockLimit;
+        }
+
+        return dstProgress != DECOMPRESS_FAILED ? dstProgress - dstOffset : DECOMPRESS_FAILED;
+    }
+
+    private static int decompressBlock(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        int uncompressedLength = 0;
+        int shift = 0;
+        int varint;
+        do
+        {
+            if (srcProgress >= srcLimit || shift > 28)
+            {
+                return DECOMPRESS_FAILED;
+            }
+            varint = src.getByte(srcProgress++) & 0xff;
+            uncompressedLength |= (varint & 0x7f) << shift;
+            shift += 7;
+        } while ((varint & 0x80) != 0);
+
+        final int dstMax = dstOffset + uncompressedLength;
+        if (uncompressedLength < 0 || dstMax > dstLimit)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        int dstProgress = dstOffset;
+        while (srcProgress < srcLimit)
+        {
+            final int tag = src.getByte(srcProgress++) & 0xff;
+
+            int length;
+            int offset;
+
+            switch (tag & 0x03)
+            {
+            case TAG_LITERAL:
+                length = tag >>> 2;
+                if (length >= 60)
+                {
+                    final int lengthBytes = length - 59;
+                    if (srcProgress + lengthBytes > srcLimit)
+                    {
+                        return DECOMPRESS_FAILED;
+                    }
+                    length = 0;
+                    for (int index = 0; index < lengthBytes; index++)
+                    {
+                        length |= (src.getByte(srcProgress++) & 0xff) << (index << 3);
+                    }
+                }
+                length++;
+
+                if (length <= 0 || srcProgress + length > srcLimit || dstProgress + length > dstMax)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+
+                dst.putBytes(dstProgress, src, srcProgress, length);
+                srcProgress += length;
+                dstProgress += length;
+                continue;
+            case TAG_COPY_1:
+                if (srcProgress + Byte.BYTES > srcLimit)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+                length = ((tag >>> 2) & 0x07) + 4;
+                offset = ((tag & 0xe0) << 3) | (src.getByte(srcProgress) & 0xff);
+                srcProgress += Byte.BYTES;
+                break;
+            case TAG_COPY_2:
+                if (srcProgress + Short.BYTES > srcLimit)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+                length = (tag >>> 2) + 1;
+                offset = src.getShort(srcProgress, LITTLE_ENDIAN) & 0xffff;
+                srcProgress += Short.BYTES;
+                break;
+            default:
+                assert (tag & 0x03) == TAG_COPY_4;
+                if (srcProgress + Integer.BYTES > srcLimit)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+                length = (tag >>> 2) + 1;
+                offset = src.getInt(srcProgress, LITTLE_ENDIAN);
+                srcProgress += Integer.BYTES;
+                break;
+            }
+
+            if (offset <= 0 || offset > dstProgress - dstOffset || dstProgress + length > dstMax)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            dstProgress = copyMatch(dst, dstProgress, offset, length);
+        }
+
+        return dstProgress == dstMax ? uncompressedLength : DECOMPRESS_FAILED;
+    }
+}
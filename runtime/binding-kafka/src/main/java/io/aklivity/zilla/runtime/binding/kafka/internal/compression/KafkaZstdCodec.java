@@ -0,0 +1,1211 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.Arrays;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public final class KafkaZstdCodec extends KafkaCompressionCodec
+{
+    private static final int FRAME_MAGIC = 0xfd2fb528;
+    private static final int SKIPPABLE_MAGIC = 0x184d2a50;
+    private static final int SKIPPABLE_MAGIC_MASK = 0xfffffff0;
+
+    private static final int FLAG_CONTENT_SIZE_SHIFT = 6;
+    private static final int FLAG_SINGLE_SEGMENT = 0x20;
+    private static final int FLAG_RESERVED = 0x08;
+    private static final int FLAG_CONTENT_CHECKSUM = 0x04;
+    private static final int FLAG_DICTIONARY_ID_MASK = 0x03;
+    private static final int[] DICTIONARY_ID_SIZES = { 0, 1, 2, 4 };
+
+    private static final int BLOCK_HEADER_SIZE = 3;
+    private static final int BLOCK_LAST = 0x01;
+    private static final int BLOCK_RAW = 0;
+    private static final int BLOCK_RLE = 1;
+    private static final int BLOCK_COMPRESSED = 2;
+    private static final int BLOCK_MAX_SIZE = 128 * 1024;
+
+    private static final int LITERALS_RAW = 0;
+    private static final int LITERALS_RLE = 1;
+    private static final int LITERALS_COMPRESSED = 2;
+    private static final int LITERALS_TREELESS = 3;
+
+    private static final int HUFFMAN_BITS_MAX = 11;
+    private static final int HUFFMAN_WEIGHTS_MAX = 255;
+    private static final int HUFFMAN_WEIGHTS_ACCURACY_MAX = 6;
+
+    private static final int MODE_PREDEFINED = 0;
+    private static final int MODE_RLE = 1;
+    private static final int MODE_COMPRESSED = 2;
+    private static final int MODE_REPEAT = 3;
+
+    private static final int LITERALS_LENGTH = 0;
+    private static final int OFFSET = 1;
+    private static final int MATCH_LENGTH = 2;
+
+    private static final int[] ACCURACY_MAX = { 9, 8, 9 };
+    private static final int[] SYMBOLS_MAX = { 36, 32, 53 };
+
+    private static final int[] LITERALS_LENGTH_BASE =
+    {
+        0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15,
+        16, 18, 20, 22, 24, 28, 32, 40, 48, 64, 128, 256, 512, 1024, 2048, 4096,
+        8192, 16384, 32768, 65536
+    };
+
+    private static final int[] LITERALS_LENGTH_BITS =
+    {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 1, 1, 1, 2, 2, 3, 3, 4, 6, 7, 8, 9, 10, 11, 12,
+        13, 14, 15, 16
+    };
+
+    private static final int[] MATCH_LENGTH_BASE =
+    {
+        3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18,
+        19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34,
+        35, 37, 39, 41, 43, 47, 51, 59, 67, 83, 99, 131, 259, 515, 1027, 2051,
+        4099, 8195, 16387, 32771, 65539
+    };
+
+    private static final int[] MATCH_LENGTH_BITS =
+    {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 1, 1, 1, 2, 2, 3, 3, 4, 4, 5, 7, 8, 9, 10, 11,
+        12, 13, 14, 15, 16
+    };
+
+    private static final FseTable[] PREDEFINED =
+    {
+        FseTable.predefined(6, new short[]
+        {
+            4, 3, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 1, 1, 1,
+            2, 2, 2, 2, 2, 2, 2, 2, 2, 3, 2, 1, 1, 1, 1, 1,
+            -1, -1, -1, -1
+        }),
+        FseTable.predefined(5, new short[]
+        {
+            1, 1, 1, 1, 1, 1, 2, 2, 2, 1, 1, 1, 1, 1, 1, 1,
+            1, 1, 1, 1, 1, 1, 1, 1, -1, -1, -1, -1, -1
+        }),
+        FseTable.predefined(6, new short[]
+        {
+            1, 4, 3, 2, 2, 2, 2, 2, 2, 1, 1, 1, 1, 1, 1, 1,
+            1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1,
+            1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, -1, -1,
+            -1, -1, -1, -1, -1
+        })
+    };
+
+    private final byte[] literals = new byte[BLOCK_MAX_SIZE];
+    private final byte[] weights = new byte[HUFFMAN_WEIGHTS_MAX + 1];
+    private final byte[] huffmanSymbols = new byte[1 << HUFFMAN_BITS_MAX];
+    private final byte[] huffmanBits = new byte[1 << HUFFMAN_BITS_MAX];
+    private final int[] huffmanRanks = new int[HUFFMAN_BITS_MAX + 2];
+    private final short[] distribution = new short[HUFFMAN_WEIGHTS_MAX + 1];
+    private final FseTable weightsTable = new FseTable(HUFFMAN_WEIGHTS_ACCURACY_MAX);
+    private final FseTable[] decodedTables =
+    {
+        new FseTable(ACCURACY_MAX[LITERALS_LENGTH]),
+        new FseTable(ACCURACY_MAX[OFFSET]),
+        new FseTable(ACCURACY_MAX[MATCH_LENGTH])
+    };
+    private final FseTable[] rleTables = { new FseTable(0), new FseTable(0), new FseTable(0) };
+    private final FseTable[] tables = new FseTable[3];
+    private final int[] repeatOffsets = new int[3];
+    private final BitReader bits = new BitReader();
+
+    private int huffmanMaxBits;
+    private int literalsLength;
+    private int headerBytes;
+
+    @Override
+    public int compress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final boolean singleByteSize = srcLength <= 0xff;
+        final int headerSize = Integer.BYTES + Byte.BYTES + (singleByteSize ? Byte.BYTES : Integer.BYTES);
+
+        if (dstOffset + headerSize > dstLimit)
+        {
+            return COMPRESS_FAILED;
+        }
+
+        int dstProgress = dstOffset;
+        dst.putInt(dstProgress, FRAME_MAGIC, LITTLE_ENDIAN);
+        dstProgress += Integer.BYTES;
+
+        if (singleByteSize)
+        {
+            dst.putByte(dstProgress++, (byte) FLAG_SINGLE_SEGMENT);
+            dst.putByte(dstProgress++, (byte) srcLength);
+        }
+        else
+        {
+            dst.putByte(dstProgress++, (byte) (2 << FLAG_CONTENT_SIZE_SHIFT | FLAG_SINGLE_SEGMENT));
+            dst.putInt(dstProgress, srcLength, LITTLE_ENDIAN);
+            dstProgress += Integer.BYTES;
+        }
+
+        final int srcLimit = srcOffset + srcLength;
+        int srcProgress = srcOffset;
+        do
+        {
+            final int blockLength = Math.min(srcLimit - srcProgress, BLOCK_MAX_SIZE);
+            final int blockLast = srcProgress + blockLength == srcLimit ? BLOCK_LAST : 0;
+            final boolean repeated = isRepeated(src, srcProgress, blockLength);
+            final int blockSize = repeated ? Byte.BYTES : blockLength;
+
+            if (dstProgress + BLOCK_HEADER_SIZE + blockSize > dstLimit)
+            {
+                return COMPRESS_FAILED;
+            }
+
+            final int blockHeader = blockLength << 3 | (repeated ? BLOCK_RLE : BLOCK_RAW) << 1 | blockLast;
+            dst.putShort(dstProgress, (short) blockHeader, LITTLE_ENDIAN);
+            dst.putByte(dstProgress + Short.BYTES, (byte) (blockHeader >>> 16));
+            dstProgress += BLOCK_HEADER_SIZE;
+
+            if (repeated)
+            {
+                dst.putByte(dstProgress, src.getByte(srcProgress));
+            }
+            else
+            {
+                dst.putBytes(dstProgress, src, srcProgress, blockLength);
+            }
+
+            dstProgress += blockSize;
+            srcProgress += blockLength;
+        } while (srcProgress < srcLimit);
+
+        return dstProgress - dstOffset;
+    }
+
+    @Override
+    public int decompress(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int srcLimit = srcOffset + srcLength;
+        int srcProgress = srcOffset;
+        int dstProgress = dstOffset;
+
+        if (srcLength < Integer.BYTES)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        while (srcProgress < srcLimit && dstProgress != DECOMPRESS_FAILED)
+        {
+            if (srcProgress + Integer.BYTES > srcLimit)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            final int magic = src.getInt(srcProgress, LITTLE_ENDIAN);
+            srcProgress += Integer.BYTES;
+
+            if ((magic & SKIPPABLE_MAGIC_MASK) == SKIPPABLE_MAGIC)
+            {
+                if (srcProgress + Integer.BYTES > srcLimit)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+
+                final int skippable = src.getInt(srcProgress, LITTLE_ENDIAN);
+                srcProgress += Integer.BYTES;
+
+                if (skippable < 0 || skippable > srcLimit - srcProgress)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+
+                srcProgress += skippable;
+            }
+            else if (magic == FRAME_MAGIC)
+            {
+                srcProgress = decompressFrameHeader(src, srcProgress, srcLimit, dstLimit - dstProgress);
+                if (srcProgress == DECOMPRESS_FAILED)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+
+                final boolean checksum = (headerBytes & FLAG_CONTENT_CHECKSUM) != 0;
+                final int frameOffset = dstProgress;
+
+                Arrays.fill(tables, null);
+                huffmanMaxBits = 0;
+                repeatOffsets[0] = 1;
+                repeatOffsets[1] = 4;
+                repeatOffsets[2] = 8;
+
+                int blockHeader = 0;
+                while ((blockHeader & BLOCK_LAST) == 0 && dstProgress != DECOMPRESS_FAILED)
+                {
+                    if (srcProgress + BLOCK_HEADER_SIZE > srcLimit)
+                    {
+                        return DECOMPRESS_FAILED;
+                    }
+
+                    blockHeader = src.getShort(srcProgress, LITTLE_ENDIAN) & 0xffff |
+                        (src.getByte(srcProgress + Short.BYTES) & 0xff) << 16;
+                    srcProgress += BLOCK_HEADER_SIZE;
+
+                    final int blockType = (blockHeader >>> 1) & 0x03;
+                    final int blockSize = blockHeader >>> 3;
+
+                    switch (blockType)
+                    {
+                    case BLOCK_RAW:
+                        if (blockSize > srcLimit - srcProgress || blockSize > dstLimit - dstProgress)
+                        {
+                            return DECOMPRESS_FAILED;
+                        }
+                        dst.putBytes(dstProgress, src, srcProgress, blockSize);
+                        srcProgress += blockSize;
+                        dstProgress += blockSize;
+                        break;
+                    case BLOCK_RLE:
+                        if (srcProgress >= srcLimit || blockSize > dstLimit - dstProgress)
+                        {
+                            return DECOMPRESS_FAILED;
+                        }
+                        dst.setMemory(dstProgress, blockSize, src.getByte(srcProgress));
+                        srcProgress++;
+                        dstProgress += blockSize;
+                        break;
+                    case BLOCK_COMPRESSED:
+                        if (blockSize > BLOCK_MAX_SIZE || blockSize > srcLimit - srcProgress)
+                        {
+                            return DECOMPRESS_FAILED;
+                        }
+                        dstProgress = decompressBlock(src, srcProgress, srcProgress + blockSize,
+                            dst, frameOffset, dstProgress, dstLimit);
+                        srcProgress += blockSize;
+                        break;
+                    default:
+                        return DECOMPRESS_FAILED;
+                    }
+                }
+
+                if (checksum)
+                {
+                    srcProgress += Integer.BYTES;
+                }
+            }
+            else
+            {
+                return DECOMPRESS_FAILED;
+            }
+        }
+
+        return srcProgress == srcLimit && dstProgress != DECOMPRESS_FAILED ? dstProgress - dstOffset : DECOMPRESS_FAILED;
+    }
+
+    private int decompressFrameHeader(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit,
+        int dstRemaining)
+    {
+        if (srcProgress >= srcLimit)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        final int flags = src.getByte(srcProgress++) & 0xff;
+        final boolean singleSegment = (flags & FLAG_SINGLE_SEGMENT) != 0;
+        final int contentSizeFlag = flags >>> FLAG_CONTENT_SIZE_SHIFT;
+        final int dictionaryIdSize = DICTIONARY_ID_SIZES[flags & FLAG_DICTIONARY_ID_MASK];
+        final int contentSizeSize = contentSizeFlag == 0 ? (singleSegment ? 1 : 0) : 1 << contentSizeFlag;
+        final int windowSize = singleSegment ? 0 : 1;
+
+        if ((flags & FLAG_RESERVED) != 0 ||
+            srcProgress + windowSize + dictionaryIdSize + contentSizeSize > srcLimit)
+        {
+            return DECOMPRESS_FAILED;
+        }
+        srcProgress += windowSize;
+
+        long dictionaryId = 0L;
+        for (int index = dictionaryIdSize - 1; index >= 0; index--)
+        {
+            dictionaryId = dictionaryId << 8 | (src.getByte(srcProgress + index) & 0xff);
+        }
+        srcProgress += dictionaryIdSize;
+
+        long contentSize = 0L;
+        for (int index = contentSizeSize - 1; index >= 0; index--)
+        {
+            contentSize = contentSize << 8 | (src.getByte(srcProgress + index) & 0xff);
+        }
+        srcProgress += contentSizeSize;
+
+        if (contentSizeSize == Short.BYTES)
+        {
+            contentSize += 256;
+        }
+
+        // dictionaries are not used by kafka producers
+        if (dictionaryId != 0L || contentSizeSize != 0 && Long.compareUnsigned(contentSize, dstRemaining) > 0)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        headerBytes = flags;
+
+        return srcProgress;
+    }
+
+    private int decompressBlock(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit,
+        MutableDirectBuffer dst,
+        int frameOffset,
+        int dstProgress,
+        int dstLimit)
+    {
+        srcProgress = decodeLiterals(src, srcProgress, srcLimit);
+
+        return srcProgress != DECOMPRESS_FAILED
+            ? decodeSequences(src, srcProgress, srcLimit, dst, frameOffset, dstProgress, dstLimit)
+            : DECOMPRESS_FAILED;
+    }
+
+    private int decodeLiterals(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit)
+    {
+        if (srcProgress >= srcLimit)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        final int header = src.getByte(srcProgress) & 0xff;
+        final int literalsType = header & 0x03;
+        final int sizeFormat = (header >>> 2) & 0x03;
+
+        int progress = DECOMPRESS_FAILED;
+
+        switch (literalsType)
+        {
+        case LITERALS_RAW:
+        case LITERALS_RLE:
+        {
+            final int headerSize = sizeFormat == 1 ? 2 : sizeFormat == 3 ? 3 : 1;
+            if (srcProgress + headerSize > srcLimit)
+            {
+                break;
+            }
+
+            final int size = readLittleEndian(src, srcProgress, headerSize) >>> (headerSize == 1 ? 3 : 4);
+            final int dataOffset = srcProgress + headerSize;
+
+            if (size > BLOCK_MAX_SIZE)
+            {
+                break;
+            }
+
+            if (literalsType == LITERALS_RAW && size <= srcLimit - dataOffset)
+            {
+                src.getBytes(dataOffset, literals, 0, size);
+                literalsLength = size;
+                progress = dataOffset + size;
+            }
+            else if (literalsType == LITERALS_RLE && dataOffset < srcLimit)
+            {
+                Arrays.fill(literals, 0, size, src.getByte(dataOffset));
+                literalsLength = size;
+                progress = dataOffset + 1;
+            }
+            break;
+        }
+        case LITERALS_COMPRESSED:
+        case LITERALS_TREELESS:
+        {
+            final int headerSize = sizeFormat <= 1 ? 3 : sizeFormat + 2;
+            if (srcProgress + headerSize > srcLimit)
+            {
+                break;
+            }
+
+            final int sizeBits = headerSize == 3 ? 10 : headerSize == 4 ? 14 : 18;
+            final long sizes = readLittleEndian(src, srcProgress, Math.min(headerSize, Integer.BYTES)) & 0xffff_ffffL |
+                (headerSize == 5 ? (src.getByte(srcProgress + Integer.BYTES) & 0xffL) << 32 : 0L);
+            final int size = (int) (sizes >>> 4) & ((1 << sizeBits) - 1);
+            final int compressedSize = (int) (sizes >>> (4 + sizeBits)) & ((1 << sizeBits) - 1);
+            final int streamsLimit = srcProgress + headerSize + compressedSize;
+
+            if (size > BLOCK_MAX_SIZE || streamsLimit > srcLimit)
+            {
+                break;
+            }
+
+            int streamsOffset = srcProgress + headerSize;
+            if (literalsType == LITERALS_COMPRESSED)
+            {
+                streamsOffset = decodeHuffmanTable(src, streamsOffset, streamsLimit);
+            }
+
+            if (streamsOffset == DECOMPRESS_FAILED || huffmanMaxBits == 0)
+            {
+                break;
+            }
+
+            final boolean decoded = sizeFormat == 0
+                ? decodeHuffmanStream(src, streamsOffset, streamsLimit, 0, size)
+                : decodeHuffmanStreams(src, streamsOffset, streamsLimit, size);
+
+            if (decoded)
+            {
+                literalsLength = size;
+                progress = streamsLimit;
+            }
+            break;
+        }
+        default:
+            break;
+        }
+
+        return progress;
+    }
+
+    private int decodeHuffmanTable(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit)
+    {
+        if (srcProgress >= srcLimit)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        final int header = src.getByte(srcProgress++) & 0xff;
+        final byte[] weights = this.weights;
+
+        int weightCount;
+
+        if (header >= 128)
+        {
+            weightCount = header - 127;
+            final int weightsLimit = srcProgress + (weightCount + 1) / 2;
+            if (weightsLimit > srcLimit)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            for (int index = 0; index < weightCount; index++)
+            {
+                final int pair = src.getByte(srcProgress + index / 2) & 0xff;
+                weights[index] = (byte) ((index & 1) == 0 ? pair >>> 4 : pair & 0x0f);
+            }
+            srcProgress = weightsLimit;
+        }
+        else
+        {
+            final int weightsLimit = srcProgress + header;
+            final int tableSize = weightsLimit <= srcLimit
+                ? decodeFseTable(src, srcProgress, weightsLimit, weightsTable, HUFFMAN_WEIGHTS_ACCURACY_MAX,
+                    HUFFMAN_WEIGHTS_MAX + 1)
+                : DECOMPRESS_FAILED;
+
+            if (tableSize == DECOMPRESS_FAILED)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            weightCount = decodeHuffmanWeights(src, srcProgress + tableSize, weightsLimit);
+            if (weightCount == DECOMPRESS_FAILED)
+            {
+                return DECOMPRESS_FAILED;
+            }
+            srcProgress = weightsLimit;
+        }
+
+        int weightSum = 0;
+        for (int index = 0; index < weightCount; index++)
+        {
+            final int weight = weights[index] & 0xff;
+            if (weight > HUFFMAN_BITS_MAX)
+            {
+                return DECOMPRESS_FAILED;
+            }
+            weightSum += weight > 0 ? 1 << (weight - 1) : 0;
+        }
+
+        if (weightSum == 0)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        final int maxBits = highestBit(weightSum) + 1;
+        final int leftOver = (1 << maxBits) - weightSum;
+
+        if (maxBits > HUFFMAN_BITS_MAX || (leftOver & (leftOver - 1)) != 0)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        weights[weightCount++] = (byte) (highestBit(leftOver) + 1);
+
+        final int[] ranks = huffmanRanks;
+        Arrays.fill(ranks, 0);
+        for (int index = 0; index < weightCount; index++)
+        {
+            final int weight = weights[index];
+            if (weight > 0)
+            {
+                ranks[maxBits + 1 - weight]++;
+            }
+        }
+
+        // ranks[n] becomes the first table index of codes with n bits, longest codes first
+        int rankIndex = 0;
+        for (int bits = maxBits; bits >= 1; bits--)
+        {
+            final int count = ranks[bits];
+            final int codeLength = count << (maxBits - bits);
+            Arrays.fill(huffmanBits, rankIndex, rankIndex + codeLength, (byte) bits);
+            ranks[bits] = rankIndex;
+            rankIndex += codeLength;
+        }
+
+        if (rankIndex != 1 << maxBits)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        for (int symbol = 0; symbol < weightCount; symbol++)
+        {
+            final int weight = weights[symbol];
+            if (weight > 0)
+            {
+                final int bits = maxBits + 1 - weight;
+                final int code = ranks[bits];
+                final int codeLength = 1 << (maxBits - bits);
+                Arrays.fill(huffmanSymbols, code, code + codeLength, (byte) symbol);
+                ranks[bits] = code + codeLength;
+            }
+        }
+
+        huffmanMaxBits = maxBits;
+
+        return srcProgress;
+    }
+
+    private int decodeHuffmanWeights(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit)
+    {
+        final BitReader bits = this.bits;
+        final FseTable table = weightsTable;
+        final byte[] weights = this.weights;
+
+        if (!bits.init(src, srcProgress, srcLimit))
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        int state1 = bits.read(table.accuracy);
+        int state2 = bits.read(table.accuracy);
+        int weightCount = 0;
+
+        // two interleaved states, the final symbol comes from the state that did not overflow
+        while (true)
+        {
+            if (weightCount > HUFFMAN_WEIGHTS_MAX - 2)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            weights[weightCount++] = table.symbols[state1];
+            state1 = table.base[state1] + bits.read(table.bits[state1]);
+
+            if (bits.position < 0)
+            {
+                weights[weightCount++] = table.symbols[state2];
+                break;
+            }
+
+            weights[weightCount++] = table.symbols[state2];
+            state2 = table.base[state2] + bits.read(table.bits[state2]);
+
+            if (bits.position < 0)
+            {
+                weights[weightCount++] = table.symbols[state1];
+                break;
+            }
+        }
+
+        return weightCount;
+    }
+
+    private boolean decodeHuffmanStreams(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit,
+        int size)
+    {
+        final int jumpTableSize = 3 * Short.BYTES;
+        if (srcProgress + jumpTableSize > srcLimit)
+        {
+            return false;
+        }
+
+        final int streamSize = (size + 3) / 4;
+        final int lastStreamSize = size - 3 * streamSize;
+
+        int streamOffset = srcProgress + jumpTableSize;
+        boolean decoded = lastStreamSize >= 0;
+
+        for (int stream = 0; stream < 4 && decoded; stream++)
+        {
+            final int streamLimit = stream < 3
+                ? streamOffset + (src.getShort(srcProgress + stream * Short.BYTES, LITTLE_ENDIAN) & 0xffff)
+                : srcLimit;
+
+            decoded = streamLimit <= srcLimit &&
+                decodeHuffmanStream(src, streamOffset, streamLimit, stream * streamSize,
+                    stream < 3 ? streamSize : lastStreamSize);
+
+            streamOffset = streamLimit;
+        }
+
+        return decoded;
+    }
+
+    private boolean decodeHuffmanStream(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit,
+        int literalsOffset,
+        int literalsSize)
+    {
+        final BitReader bits = this.bits;
+        final int maxBits = huffmanMaxBits;
+        final int mask = (1 << maxBits) - 1;
+
+        if (!bits.init(src, srcProgress, srcLimit))
+        {
+            return false;
+        }
+
+        final int literalsLimit = literalsOffset + literalsSize;
+        int literalsProgress = literalsOffset;
+        int state = bits.read(maxBits);
+
+        while (bits.position > -maxBits)
+        {
+            if (literalsProgress == literalsLimit)
+            {
+                return false;
+            }
+
+            final int symbolBits = huffmanBits[state];
+            literals[literalsProgress++] = huffmanSymbols[state];
+            state = ((state << symbolBits) + bits.read(symbolBits)) & mask;
+        }
+
+        return bits.position == -maxBits && literalsProgress == literalsLimit;
+    }
+
+    private int decodeSequences(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit,
+        MutableDirectBuffer dst,
+        int frameOffset,
+        int dstProgress,
+        int dstLimit)
+    {
+        if (srcProgress >= srcLimit)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        final int header = src.getByte(srcProgress++) & 0xff;
+
+        int sequences = header;
+        if (header >= 128)
+        {
+            final int headerSize = header == 255 ? Short.BYTES : Byte.BYTES;
+            if (srcProgress + headerSize > srcLimit)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            sequences = header == 255
+                ? (src.getShort(srcProgress, LITTLE_ENDIAN) & 0xffff) + 0x7f00
+                : ((header - 128) << 8) + (src.getByte(srcProgress) & 0xff);
+            srcProgress += headerSize;
+        }
+
+        int literalsProgress = 0;
+
+        if (sequences != 0)
+        {
+            if (srcProgress >= srcLimit)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            final int modes = src.getByte(srcProgress++) & 0xff;
+            if ((modes & 0x03) != 0)
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            srcProgress = selectTable(LITERALS_LENGTH, modes >>> 6, src, srcProgress, srcLimit);
+            srcProgress = selectTable(OFFSET, (modes >>> 4) & 0x03, src, srcProgress, srcLimit);
+            srcProgress = selectTable(MATCH_LENGTH, (modes >>> 2) & 0x03, src, srcProgress, srcLimit);
+
+            final BitReader bits = this.bits;
+            if (srcProgress == DECOMPRESS_FAILED || !bits.init(src, srcProgress, srcLimit))
+            {
+                return DECOMPRESS_FAILED;
+            }
+
+            final FseTable literalsLengthTable = tables[LITERALS_LENGTH];
+            final FseTable offsetTable = tables[OFFSET];
+            final FseTable matchLengthTable = tables[MATCH_LENGTH];
+            final int[] repeatOffsets = this.repeatOffsets;
+
+            int literalsLengthState = bits.read(literalsLengthTable.accuracy);
+            int offsetState = bits.read(offsetTable.accuracy);
+            int matchLengthState = bits.read(matchLengthTable.accuracy);
+
+            for (int sequence = 0; sequence < sequences; sequence++)
+            {
+                final int offsetCode = offsetTable.symbols[offsetState];
+                final int matchLengthCode = matchLengthTable.symbols[matchLengthState];
+                final int literalsLengthCode = literalsLengthTable.symbols[literalsLengthState];
+
+                final long offsetValue = (1L << offsetCode) + bits.read(offsetCode);
+                final int matchLength = MATCH_LENGTH_BASE[matchLengthCode] + bits.read(MATCH_LENGTH_BITS[matchLengthCode]);
+                final int literalLength =
+                    LITERALS_LENGTH_BASE[literalsLengthCode] + bits.read(LITERALS_LENGTH_BITS[literalsLengthCode]);
+
+                long offset;
+                if (offsetValue > 3)
+                {
+                    offset = offsetValue - 3;
+                    repeatOffsets[2] = repeatOffsets[1];
+                    repeatOffsets[1] = repeatOffsets[0];
+                }
+                else
+                {
+                    final int repeat = (int) offsetValue - 1 + (literalLength == 0 ? 1 : 0);
+                    offset = repeat == 0 ? repeatOffsets[0] : repeat < 3 ? repeatOffsets[repeat] : repeatOffsets[0] - 1L;
+
+                    if (repeat > 1)
+                    {
+                        repeatOffsets[2] = repeatOffsets[1];
+                    }
+
+                    if (repeat > 0)
+                    {
+                        repeatOffsets[1] = repeatOffsets[0];
+                    }
+                }
+
+                if (sequence + 1 < sequences)
+                {
+                    literalsLengthState = literalsLengthTable.base[literalsLengthState] +
+                        bits.read(literalsLengthTable.bits[literalsLengthState]);
+                    matchLengthState = matchLengthTable.base[matchLengthState] +
+                        bits.read(matchLengthTable.bits[matchLengthState]);
+                    offsetState = offsetTable.base[offsetState] + bits.read(offsetTable.bits[offsetState]);
+                }
+
+                if (literalLength > literalsLength - literalsProgress ||
+                    (long) literalLength + matchLength > dstLimit - dstProgress)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+
+                dst.putBytes(dstProgress, literals, literalsProgress, literalLength);
+                literalsProgress += literalLength;
+                dstProgress += literalLength;
+
+                if (offset <= 0L || offset > dstProgress - frameOffset)
+                {
+                    return DECOMPRESS_FAILED;
+                }
+
+                repeatOffsets[0] = (int) offset;
+                dstProgress = copyMatch(dst, dstProgress, (int) offset, matchLength);
+            }
+
+            if (bits.position != 0)
+            {
+                return DECOMPRESS_FAILED;
+            }
+        }
+        else if (srcProgress != srcLimit)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        final int remaining = literalsLength - literalsProgress;
+        if (remaining > dstLimit - dstProgress)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        dst.putBytes(dstProgress, literals, literalsProgress, remaining);
+
+        return dstProgress + remaining;
+    }
+
+    private int selectTable(
+        int kind,
+        int mode,
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit)
+    {
+        if (srcProgress == DECOMPRESS_FAILED)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        int progress = srcProgress;
+
+        switch (mode)
+        {
+        case MODE_PREDEFINED:
+            tables[kind] = PREDEFINED[kind];
+            break;
+        case MODE_RLE:
+        {
+            final int symbol = srcProgress < srcLimit ? src.getByte(srcProgress) & 0xff : Integer.MAX_VALUE;
+            if (symbol < SYMBOLS_MAX[kind])
+            {
+                tables[kind] = rleTables[kind].rle(symbol);
+                progress = srcProgress + 1;
+            }
+            else
+            {
+                progress = DECOMPRESS_FAILED;
+            }
+            break;
+        }
+        case MODE_COMPRESSED:
+        {
+            final FseTable table = decodedTables[kind];
+            final int tableSize = decodeFseTable(src, srcProgress, srcLimit, table, ACCURACY_MAX[kind], SYMBOLS_MAX[kind]);
+            tables[kind] = tableSize != DECOMPRESS_FAILED ? table : null;
+            progress = tableSize != DECOMPRESS_FAILED ? srcProgress + tableSize : DECOMPRESS_FAILED;
+            break;
+        }
+        case MODE_REPEAT:
+            if (tables[kind] == null)
+            {
+                progress = DECOMPRESS_FAILED;
+            }
+            break;
+        default:
+            progress = DECOMPRESS_FAILED;
+            break;
+        }
+
+        return progress;
+    }
+
+    private int decodeFseTable(
+        DirectBuffer src,
+        int srcProgress,
+        int srcLimit,
+        FseTable table,
+        int accuracyMax,
+        int symbolsMax)
+    {
+        final short[] distribution = this.distribution;
+        final long limitBits = (long) (srcLimit - srcProgress) << 3;
+
+        long position = 0L;
+        final int accuracy = readForward(src, srcProgress, srcLimit, position, 4) + 5;
+        position += 4;
+
+        if (accuracy > accuracyMax)
+        {
+            return DECOMPRESS_FAILED;
+        }
+
+        int remaining = 1 << accuracy;
+        int symbols = 0;
+
+        while (remaining > 0 && symbols < symbolsMax)
+        {
+            final int bits = highestBit(remaining + 1) + 1;
+            final int lowerMask = (1 << (bits - 1)) - 1;
+            final int threshold = (1 << bits) - 1 - (remaining + 1);
+
+            int value = readForward(src, srcProgress, srcLimit, position, bits);
+            position += bits;
+
+            if ((value & lowerMask) < threshold)
+            {
+                value &= lowerMask;
+                position--;
+            }
+            else if (value > lowerMask)
+            {
+                value -= threshold;
+            }
+
+            final int probability = value - 1;
+            remaining -= Math.abs(probability);
+            distribution[symbols++] = (short) probability;
+
+            if (probability == 0)
+            {
+                int repeat;
+                do
+                {
+                    repeat = readForward(src, srcProgress, srcLimit, position, 2);
+                    position += 2;
+
+                    for (int index = 0; index < repeat && symbols < symbolsMax; index++)
+                    {
+                        distribution[symbols++] = 0;
+                    }
+                } while (repeat == 3 && position <= limitBits);
+            }
+        }
+
+        final int size = (int) ((position + 7) >>> 3);
+
+        return remaining == 0 && position <= limitBits && table.init(accuracy, distribution, symbols)
+            ? size
+            : DECOMPRESS_FAILED;
+    }
+
+    private static int readForward(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLimit,
+        long position,
+        int bits)
+    {
+        final int byteOffset = srcOffset + (int) (position >>> 3);
+        final int shift = (int) (position & 0x07);
+
+        long value = 0L;
+        for (int index = (shift + bits + 7) / 8 - 1; index >= 0; index--)
+        {
+            final int byteIndex = byteOffset + index;
+            value = value << 8 | (byteIndex < srcLimit ? src.getByte(byteIndex) & 0xff : 0);
+        }
+
+        return (int) (value >>> shift) & ((1 << bits) - 1);
+    }
+
+    private static int readLittleEndian(
+        DirectBuffer src,
+        int srcOffset,
+        int length)
+    {
+        int value = 0;
+        for (int index = length - 1; index >= 0; index--)
+        {
+            value = value << 8 | (src.getByte(srcOffset + index) & 0xff);
+        }
+        return value;
+    }
+
+    private static boolean isRepeated(
+        DirectBuffer src,
+        int srcOffset,
+        int srcLength)
+    {
+        boolean repeated = srcLength > BLOCK_HEADER_SIZE;
+        final byte first = repeated ? src.getByte(srcOffset) : 0;
+        for (int index = 1; index < srcLength && repeated; index++)
+        {
+            repeated = src.getByte(srcOffset + index) == first;
+        }
+        return repeated;
+    }
+
+    private static int highestBit(
+        int value)
+    {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(value);
+    }
+
+    private static final class BitReader
+    {
+        private DirectBuffer buffer;
+        private int offset;
+        private int position;
+
+        private boolean init(
+            DirectBuffer buffer,
+            int offset,
+            int limit)
+        {
+            final int last = limit > offset ? buffer.getByte(limit - 1) & 0xff : 0;
+
+            this.buffer = buffer;
+            this.offset = offset;
+            this.position = ((limit - offset - 1) << 3) + highestBit(last);
+
+            return last != 0;
+        }
+
+        // reads backward from the end marker, bits before the start of the stream read as zero
+        private int read(
+            int bits)
+        {
+            position -= bits;
+
+            int value = 0;
+            if (bits != 0)
+            {
+                final int available = position >= 0 ? bits : bits + position;
+                if (available > 0)
+                {
+                    final int start = Math.max(position, 0);
+                    final int byteOffset = offset + (start >>> 3);
+                    final int shift = start & 0x07;
+
+                    long window = 0L;
+                    for (int index = (shift + available + 7) / 8 - 1; index >= 0; index--)
+                    {
+                        window = window << 8 | (buffer.getByte(byteOffset + index) & 0xff);
+                    }
+
+                    value = (int) ((window >>> shift) & ((1L << available) - 1)) << (bits - available);
+                }
+            }
+
+            return value;
+        }
+    }
+
+    private static final class FseTable
+    {
+        private final byte[] symbols;
+        private final byte[] bits;
+        private final int[] base;
+        private final int[] next;
+
+        private int accuracy;
+
+        private FseTable(
+            int accuracyMax)
+        {
+            final int size = 1 << accuracyMax;
+            this.symbols = new byte[size];
+            this.bits = new byte[size];
+            this.base = new int[size];
+            this.next = new int[HUFFMAN_WEIGHTS_MAX + 1];
+        }
+
+        private FseTable rle(
+            int symbol)
+        {
+            accuracy = 0;
+            symbols[0] = (byte) symbol;
+            bits[0] = 0;
+            base[0] = 0;
+            return this;
+        }
+
+        private boolean init(
+            int accuracy,
+            short[] distribution,
+            int symbolCount)
+        {
+            final int size = 1 << accuracy;
+            final int mask = size - 1;
+            final int step = (size >>> 1) + (size >>> 3) + 3;
+
+            int highThreshold = size;
+            for (int symbol = 0; symbol < symbolCount; symbol++)
+            {
+                if (distribution[symbol] == -1)
+                {
+                    symbols[--highThreshold] = (byte) symbol;
+                    next[symbol] = 1;
+                }
+            }
+
+            int position = 0;
+            for (int symbol = 0; symbol < symbolCount; symbol++)
+            {
+                final int probability = distribution[symbol];
+                if (probability > 0)
+                {
+                    next[symbol] = probability;
+                    for (int index = 0; index < probability; index++)
+                    {
+                        symbols[position] = (byte) symbol;
+                        do
+                        {
+                            position = (position + step) & mask;
+                        } while (position >= highThreshold);
+                    }
+                }
+            }
+
+            if (position != 0)
+            {
+                return false;
+            }
+
+            for (int state = 0; state < size; state++)
+            {
+                final int nextState = next[symbols[state] & 0xff]++;
+                final int stateBits = accuracy - highestBit(nextState);
+                bits[state] = (byte) stateBits;
+                base[state] = (nextState << stateBits) - size;
+            }
+
+            this.accuracy = accuracy;
+
+            return true;
+        }
+
+        private static FseTable predefined(
+            int accuracy,
+            short[] distribution)
+        {
+            final FseTable table = new FseTable(accuracy);
+            table.init(accuracy, distribution, distribution.length);
+            return table;
+        }
+    }
+}
@@ -17,16 +17,25 @@ package io.aklivity.zilla.runtime.binding.kafka.internal.config;
 
 import static io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaTopicType.DEFAULT_TOPIC_TYPE;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType.HISTORICAL;
+import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.HISTOGRAM;
+import static io.aklivity.zilla.runtime.engine.util.MetricRecorders.supplyRecorder;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.LongConsumer;
 import java.util.function.ToLongFunction;
 
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaOptionsConfig;
+import io.aklivity.zilla.runtime.binding.kafka.config.KafkaProduceConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaSaslConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaServerConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionDurationMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionReclaimedMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaProduceBatchCompressedSizeMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaProduceBatchSizeMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaProduceCompressionDurationMetric;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType;
 import io.aklivity.zilla.runtime.engine.EngineContext;
@@ -42,6 +51,11 @@ public final class KafkaBindingConfig
     public final List<KafkaRouteConfig> routes;
     public final ToLongFunction<String> resolveId;
     public final List<KafkaTopicType> topicTypes;
+    public final LongConsumer produceBatchSize;
+    public final LongConsumer produceBatchCompressedSize;
+    public final LongConsumer produceCompressionDuration;
+    public final LongConsumer cacheCompactionDuration;
+    public final LongConsumer cacheCompactionReclaimed;
 
     public KafkaBindingConfig(
         BindingConfig binding,
@@ -55,6 +69,11 @@ public final class KafkaBindingConfig
         this.resolveId = binding.resolveId;
         this.topicTypes = options != null && options.topics != null
             ? options.topics.stream().map(t -> new KafkaTopicType(context, t)).collect(toList()) : Collections.emptyList();
+        this.produceBatchSize = supplyRecorder(context, binding, HISTOGRAM, KafkaProduceBatchSizeMetric.NAME);
+        this.produceBatchCompressedSize = supplyRecorder(context, binding, HISTOGRAM, KafkaProduceBatchCompressedSizeMetric.NAME);
+        this.produceCompressionDuration = supplyRecorder(context, binding, HISTOGRAM, KafkaProduceCompressionDurationMetric.NAME);
+        this.cacheCompactionDuration = supplyRecorder(context, binding, HISTOGRAM, KafkaCacheCompactionDurationMetric.NAME);
+        this.cacheCompactionReclaimed = supplyRecorder(context, binding, HISTOGRAM, KafkaCacheCompactionReclaimedMetric.NAME);
     }
 
     public KafkaRouteConfig resolve(
@@ -93,6 +112,16 @@ public final class KafkaBindingConfig
         return options != null ? options.sasl : null;
     }
 
+    public KafkaProduceConfig produce()
+    {
+        return options != null ? options.produce : null;
+    }
+
+    public String rack()
+    {
+        return options != null ? options.rack : null;
+    }
+
     public List<KafkaServerConfig> servers()
     {
         return options != null ? options.servers : null;
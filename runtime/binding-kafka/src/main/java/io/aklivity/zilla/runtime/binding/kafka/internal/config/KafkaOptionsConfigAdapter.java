@@ -26,8 +26,10 @@ import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.bind.adapter.JsonbAdapter;
 
+import io.aklivity.zilla.runtime.binding.kafka.config.KafkaCompressionConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaOptionsConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaOptionsConfigBuilder;
+import io.aklivity.zilla.runtime.binding.kafka.config.KafkaProduceConfigBuilder;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaBinding;
 import io.aklivity.zilla.runtime.engine.config.OptionsConfig;
 import io.aklivity.zilla.runtime.engine.config.OptionsConfigAdapterSpi;
@@ -42,6 +44,11 @@ public final class KafkaOptionsConfigAdapter implements OptionsConfigAdapterSpi,
     private static final String SASL_MECHANISM_NAME = "mechanism";
     private static final String SASL_PLAIN_USERNAME_NAME = "username";
     private static final String SASL_PLAIN_PASSWORD_NAME = "password";
+    private static final String PRODUCE_NAME = "produce";
+    private static final String PRODUCE_COMPRESSION_NAME = "compression";
+    private static final String PRODUCE_LINGER_NAME = "linger";
+    private static final String PRODUCE_BATCH_SIZE_NAME = "batchSize";
+    private static final String RACK_NAME = "rack";
 
     private final KafkaTopicConfigAdapter topic = new KafkaTopicConfigAdapter();
 
@@ -103,6 +110,33 @@ public final class KafkaOptionsConfigAdapter implements OptionsConfigAdapterSpi,
             object.add(SASL_NAME, sasl);
         }
 
+        if (kafkaOptions.produce != null)
+        {
+            JsonObjectBuilder produce = Json.createObjectBuilder();
+
+            if (kafkaOptions.produce.compression != null)
+            {
+                produce.add(PRODUCE_COMPRESSION_NAME, kafkaOptions.produce.compression.name().toLowerCase());
+            }
+
+            if (kafkaOptions.produce.linger != null)
+            {
+                produce.add(PRODUCE_LINGER_NAME, kafkaOptions.produce.linger);
+            }
+
+            if (kafkaOptions.produce.batchSize != null)
+            {
+                produce.add(PRODUCE_BATCH_SIZE_NAME, kafkaOptions.produce.batchSize);
+            }
+
+            object.add(PRODUCE_NAME, produce);
+        }
+
+        if (kafkaOptions.rack != null)
+        {
+            object.add(RACK_NAME, kafkaOptions.rack);
+        }
+
         return object.build();
     }
 
@@ -152,6 +186,35 @@ public final class KafkaOptionsConfigAdapter implements OptionsConfigAdapterSpi,
                 .build();
         }
 
+        if (object.containsKey(PRODUCE_NAME))
+        {
+            JsonObject produce = object.getJsonObject(PRODUCE_NAME);
+            KafkaProduceConfigBuilder<KafkaOptionsConfigBuilder<KafkaOptionsConfig>> produceBuilder = options.produce();
+
+            if (produce.containsKey(PRODUCE_COMPRESSION_NAME))
+            {
+                produceBuilder.compression(
+                    KafkaCompressionConfig.valueOf(produce.getString(PRODUCE_COMPRESSION_NAME).toUpperCase()));
+            }
+
+            if (produce.containsKey(PRODUCE_LINGER_NAME))
+            {
+                produceBuilder.linger(produce.getJsonNumber(PRODUCE_LINGER_NAME).longValue());
+            }
+
+            if (produce.containsKey(PRODUCE_BATCH_SIZE_NAME))
+            {
+                produceBuilder.batchSize(produce.getInt(PRODUCE_BATCH_SIZE_NAME));
+            }
+
+            produceBuilder.build();
+        }
+
+        if (object.containsKey(RACK_NAME))
+        {
+            options.rack(object.getString(RACK_NAME));
+        }
+
         return options.build();
     }
 }
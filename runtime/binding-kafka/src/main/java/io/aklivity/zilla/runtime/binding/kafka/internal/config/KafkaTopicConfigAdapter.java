@@ -18,8 +18,10 @@ package io.aklivity.zilla.runtime.binding.kafka.internal.config;
 import static jakarta.json.JsonValue.ValueType.OBJECT;
 
 import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.bind.adapter.JsonbAdapter;
 
@@ -38,6 +40,7 @@ public final class KafkaTopicConfigAdapter implements JsonbAdapter<KafkaTopicCon
     private static final String EVENT_VALUE = "value";
     private static final String SUBJECT = "subject";
     private static final String TRANSFORMS_NAME = "transforms";
+    private static final String INDEXES_NAME = "indexes";
 
     private final ModelConfigAdapter model = new ModelConfigAdapter();
     private final KafkaTopicTransformsConfigAdapter transforms = new KafkaTopicTransformsConfigAdapter();
@@ -80,6 +83,13 @@ public final class KafkaTopicConfigAdapter implements JsonbAdapter<KafkaTopicCon
             object.add(TRANSFORMS_NAME, transforms.adaptToJson(topic.transforms));
         }
 
+        if (topic.indexes != null && !topic.indexes.isEmpty())
+        {
+            JsonArrayBuilder indexes = Json.createArrayBuilder();
+            topic.indexes.forEach(indexes::add);
+            object.add(INDEXES_NAME, indexes);
+        }
+
         return object.build();
     }
 
@@ -143,6 +153,14 @@ public final class KafkaTopicConfigAdapter implements JsonbAdapter<KafkaTopicCon
             topicBuilder.transforms(transforms.adaptFromJson(transformsObject));
         }
 
+        if (object.containsKey(INDEXES_NAME))
+        {
+            object.getJsonArray(INDEXES_NAME).stream()
+                .map(JsonString.class::cast)
+                .map(JsonString::getString)
+                .forEach(topicBuilder::index);
+        }
+
         return topicBuilder.build();
     }
 }
@@ -40,6 +40,7 @@ public class KafkaTopicType
     public final ConverterHandler valueReader;
     public final ConverterHandler valueWriter;
     public final KafkaTopicTransformsType transforms;
+    public final List<String> indexes;
 
     private final Matcher topicMatch;
     private final Matcher matcher;
@@ -52,6 +53,7 @@ public class KafkaTopicType
         this.valueReader = ConverterHandler.NONE;
         this.valueWriter = ConverterHandler.NONE;
         this.transforms = null;
+        this.indexes = emptyList();
         this.matcher = TRANSFORM_PATH_PATTERN.matcher("");
     }
 
@@ -62,6 +64,7 @@ public class KafkaTopicType
         this.matcher = TRANSFORM_PATH_PATTERN.matcher("");
         this.topicMatch = topicConfig.name != null ? asMatcher(topicConfig.name) : null;
         this.transforms = topicConfig.transforms != null ? transforms(topicConfig.transforms) : null;
+        this.indexes = topicConfig.indexes != null ? List.copyOf(topicConfig.indexes) : emptyList();
         this.keyReader = Optional.ofNullable(topicConfig.key)
             .map(context::supplyReadConverter)
             .map(this::key)
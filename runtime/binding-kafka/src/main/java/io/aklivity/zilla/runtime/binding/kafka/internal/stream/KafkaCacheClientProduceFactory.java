@@ -203,7 +203,7 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
         this.initialBudgetMax = bufferPool.slotCapacity();
         this.localIndex = context.index();
         this.cleanupDelay = config.cacheClientCleanupDelay();
-        this.cursorFactory = new KafkaCacheCursorFactory(context.writeBuffer().capacity());
+        this.cursorFactory = new KafkaCacheCursorFactory(context.writeBuffer().capacity(), config.cacheCursorDeltaKeysMax());
         this.trailersSizeMax = config.cacheClientTrailersSizeMax();
         this.reconnectDelay = config.cacheServerReconnect();
     }
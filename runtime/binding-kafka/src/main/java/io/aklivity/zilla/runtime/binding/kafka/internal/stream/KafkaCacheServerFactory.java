@@ -17,8 +17,10 @@ package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
 
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_SERVER_RECONNECT_DELAY;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.LongFunction;
+import java.util.function.Supplier;
 
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -53,7 +55,8 @@ public final class KafkaCacheServerFactory implements KafkaStreamFactory
         KafkaConfiguration config,
         EngineContext context,
         Function<String, KafkaCache> supplyCache,
-        LongFunction<KafkaCacheRoute> supplyCacheRoute)
+        LongFunction<KafkaCacheRoute> supplyCacheRoute,
+        Supplier<ExecutorService> supplyMaintainer)
     {
         final Long2ObjectHashMap<KafkaBindingConfig> bindings = new Long2ObjectHashMap<>();
         final Int2ObjectHashMap<BindingHandler> factories = new Int2ObjectHashMap<>();
@@ -83,7 +86,7 @@ public final class KafkaCacheServerFactory implements KafkaStreamFactory
             new KafkaCacheInitProducerIdFactory(config, context, bindings::get);
 
         final KafkaCacheServerFetchFactory cacheFetchFactory = new KafkaCacheServerFetchFactory(
-                config, context, bindings::get, supplyCache, supplyCacheRoute);
+                config, context, bindings::get, supplyCache, supplyCacheRoute, supplyMaintainer);
 
         final KafkaCacheServerProduceFactory cacheProduceFactory = new KafkaCacheServerProduceFactory(
                 config, context, bindings::get, supplyCache, supplyCacheRoute);
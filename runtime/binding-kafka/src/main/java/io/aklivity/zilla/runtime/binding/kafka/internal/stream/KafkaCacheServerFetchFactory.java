@@ -30,12 +30,16 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
 import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -118,6 +122,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
     private static final int SIGNAL_SEGMENT_RETAIN = 2;
     private static final int SIGNAL_SEGMENT_DELETE = 3;
     private static final int SIGNAL_SEGMENT_COMPACT = 4;
+    private static final int SIGNAL_SEGMENT_MAINTAINED = 5;
 
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -160,17 +165,20 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
     private final LongFunction<KafkaBindingConfig> supplyBinding;
     private final Function<String, KafkaCache> supplyCache;
     private final LongFunction<KafkaCacheRoute> supplyCacheRoute;
+    private final Supplier<ExecutorService> supplyMaintainer;
     private final int reconnectDelay;
     private final EngineContext context;
     private final boolean verbose;
     private final long retentionMillisMaxLive;
+    private final boolean maintenanceAsync;
 
     public KafkaCacheServerFetchFactory(
         KafkaConfiguration config,
         EngineContext context,
         LongFunction<KafkaBindingConfig> supplyBinding,
         Function<String, KafkaCache> supplyCache,
-        LongFunction<KafkaCacheRoute> supplyCacheRoute)
+        LongFunction<KafkaCacheRoute> supplyCacheRoute,
+        Supplier<ExecutorService> supplyMaintainer)
     {
         this.context = context;
         this.kafkaTypeId = context.supplyTypeId(KafkaBinding.NAME);
@@ -187,9 +195,11 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
         this.supplyBinding = supplyBinding;
         this.supplyCache = supplyCache;
         this.supplyCacheRoute = supplyCacheRoute;
+        this.supplyMaintainer = supplyMaintainer;
         this.reconnectDelay = config.cacheServerReconnect();
         this.verbose = config.verbose();
         this.retentionMillisMaxLive = config.cacheRetentionMillisMax();
+        this.maintenanceAsync = config.cacheMaintenanceAsync();
     }
 
     @Override
@@ -245,7 +255,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
                 final KafkaTopicType topicType = binding.resolveTopicType(topicName);
                 final KafkaCacheServerFetchFanout newFanout =
                     new KafkaCacheServerFetchFanout(routedId, resolvedId, authorization,
-                        affinity, partition, routeDeltaType, defaultOffset, topicType);
+                        affinity, partition, routeDeltaType, defaultOffset, topicType, binding);
 
                 cacheRoute.serverFetchFanoutsByTopicPartition.put(partitionKey, newFanout);
                 fanout = newFanout;
@@ -521,7 +531,8 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             KafkaCachePartition partition,
             KafkaDeltaType deltaType,
             KafkaOffsetType defaultOffset,
-            KafkaTopicType topicType)
+            KafkaTopicType topicType,
+            KafkaBindingConfig binding)
         {
             this.originId = originId;
             this.routedId = routedId;
@@ -537,6 +548,10 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             this.entryMark = new MutableInteger(0);
             this.valueMark = new MutableInteger(0);
             this.transforms = topicType.transforms;
+
+            final Executor maintainer = maintenanceAsync ? this::doServerFanoutMaintenance : Runnable::run;
+            partition.maintenance(maintainer, binding.cacheCompactionDuration, binding.cacheCompactionReclaimed);
+            partition.indexHeaders(topicType.indexes);
         }
 
         private void onServerFanoutMemberOpening(
@@ -1176,6 +1191,9 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             case SIGNAL_SEGMENT_COMPACT:
                 onServerFanoutInitialSignalSegmentCompact(signal);
                 break;
+            case SIGNAL_SEGMENT_MAINTAINED:
+                onServerFanoutInitialSignalSegmentMaintained(signal);
+                break;
             }
         }
 
@@ -1217,6 +1235,8 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
         {
             final long now = currentTimeMillis();
 
+            partition.publish();
+
             Node segmentNode = partition.sentinel().next();
             while (!segmentNode.next().sentinel()) // avoid cleaning head
             {
@@ -1228,6 +1248,39 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             this.compactId = NO_CANCEL_ID;
         }
 
+        private void onServerFanoutInitialSignalSegmentMaintained(
+            SignalFW signal)
+        {
+            partition.publish();
+        }
+
+        private void doServerFanoutMaintenance(
+            Runnable task)
+        {
+            final ExecutorService maintainer = supplyMaintainer.get();
+            final long traceId = supplyTraceId.getAsLong();
+
+            try
+            {
+                maintainer.execute(() ->
+                {
+                    try
+                    {
+                        task.run();
+                    }
+                    finally
+                    {
+                        signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_SEGMENT_MAINTAINED, 0);
+                    }
+                });
+            }
+            catch (RejectedExecutionException ex)
+            {
+                task.run();
+                partition.publish();
+            }
+        }
+
         private void doServerFanoutReplyResetIfNecessary(
             long traceId)
         {
@@ -168,7 +168,7 @@ public final class KafkaCacheServerProduceFactory implements BindingHandler
         this.supplyBinding = supplyBinding;
         this.supplyCache = supplyCache;
         this.supplyCacheRoute = supplyCacheRoute;
-        this.cursorFactory = new KafkaCacheCursorFactory(writeBuffer.capacity());
+        this.cursorFactory = new KafkaCacheCursorFactory(writeBuffer.capacity(), config.cacheCursorDeltaKeysMax());
         this.supplyRemoteIndex = context::supplyClientIndex;
         this.crc32c = new CRC32C();
         this.reconnectDelay = config.cacheServerReconnect();
@@ -21,20 +21,29 @@ import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_I
 import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntHashSet;
 import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.LongLongConsumer;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaSaslConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaServerConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaBinding;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodecs;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaBindingConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaRouteConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.Flyweight;
@@ -53,8 +62,16 @@ import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.Contro
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.ControlRecordKeyType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.FetchRequestFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.FetchResponseFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.FetchSessionRequestFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.FetchSessionResponseFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.ForgottenPartitionRequestFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.ForgottenTopicRequestFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.ForgottenTopicsRequestFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.LeaderEpochPartitionRequestFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.PartitionRequestFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.PartitionResponseFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.PreferredReplicaResponseFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.RackRequestFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.TopicRequestFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.TopicResponseFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.fetch.TransactionResponseFW;
@@ -97,7 +114,11 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
 
     private static final int ERROR_NONE = 0;
     private static final int ERROR_OFFSET_OUT_OF_RANGE = 1;
+    private static final int ERROR_CORRUPT_MESSAGE = 2;
     private static final int ERROR_NOT_LEADER_FOR_PARTITION = 6;
+    private static final int ERROR_MESSAGE_TOO_LARGE = 10;
+    private static final int ERROR_FETCH_SESSION_ID_NOT_FOUND = 70;
+    private static final int ERROR_INVALID_FETCH_SESSION_EPOCH = 71;
 
     private static final int FLAG_CONT = 0x00;
     private static final int FLAG_FIN = 0x01;
@@ -108,6 +129,15 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private static final long OFFSET_HISTORICAL = KafkaOffsetType.HISTORICAL.value();
 
     private static final int SIGNAL_NEXT_REQUEST = 1;
+    private static final int SIGNAL_REROUTE = 2;
+
+    private static final long NO_BROKER_ID = -1L;
+    private static final int NO_PREFERRED_REPLICA = -1;
+
+    private static final int FETCH_SESSION_ID_NONE = 0;
+    private static final int FETCH_SESSION_EPOCH_INITIAL = 0;
+    private static final int FETCH_SESSION_EPOCH_FINAL = -1;
+    private static final long NO_SESSION_OFFSET = -1L;
 
     private static final DirectBuffer EMPTY_BUFFER = new UnsafeBuffer();
     private static final OctetsFW EMPTY_OCTETS = new OctetsFW().wrap(EMPTY_BUFFER, 0, 0);
@@ -118,6 +148,8 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
 
     private static final short FETCH_API_KEY = 1;
     private static final short FETCH_API_VERSION = 5;
+    private static final short FETCH_SESSION_API_VERSION = 7;
+    private static final short FETCH_RACK_API_VERSION = 11;
 
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -147,17 +179,26 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final OffsetsTopicRequestFW.Builder offsetsTopicRequestRW = new OffsetsTopicRequestFW.Builder();
     private final OffsetsPartitionRequestFW.Builder offsetsPartitionRequestRW = new OffsetsPartitionRequestFW.Builder();
     private final FetchRequestFW.Builder fetchRequestRW = new FetchRequestFW.Builder();
+    private final FetchSessionRequestFW.Builder fetchSessionRequestRW = new FetchSessionRequestFW.Builder();
+    private final ForgottenTopicsRequestFW.Builder forgottenTopicsRequestRW = new ForgottenTopicsRequestFW.Builder();
+    private final ForgottenTopicRequestFW.Builder forgottenTopicRequestRW = new ForgottenTopicRequestFW.Builder();
+    private final ForgottenPartitionRequestFW.Builder forgottenPartitionRequestRW = new ForgottenPartitionRequestFW.Builder();
     private final TopicRequestFW.Builder fetchTopicRequestRW = new TopicRequestFW.Builder();
     private final PartitionRequestFW.Builder fetchPartitionRequestRW = new PartitionRequestFW.Builder();
+    private final LeaderEpochPartitionRequestFW.Builder fetchLeaderEpochPartitionRequestRW =
+            new LeaderEpochPartitionRequestFW.Builder();
+    private final RackRequestFW.Builder fetchRackRequestRW = new RackRequestFW.Builder();
 
     private final ResponseHeaderFW responseHeaderRO = new ResponseHeaderFW();
     private final OffsetsResponseFW offsetsResponseRO = new OffsetsResponseFW();
     private final OffsetsTopicResponseFW offsetsTopicResponseRO = new OffsetsTopicResponseFW();
     private final OffsetsPartitionResponseFW offsetsPartitionResponseRO = new OffsetsPartitionResponseFW();
     private final FetchResponseFW fetchResponseRO = new FetchResponseFW();
+    private final FetchSessionResponseFW fetchSessionResponseRO = new FetchSessionResponseFW();
     private final TopicResponseFW topicResponseRO = new TopicResponseFW();
     private final PartitionResponseFW partitionResponseRO = new PartitionResponseFW();
     private final TransactionResponseFW transactionResponseRO = new TransactionResponseFW();
+    private final PreferredReplicaResponseFW preferredReplicaResponseRO = new PreferredReplicaResponseFW();
     private final RecordSetFW recordSetRO = new RecordSetFW();
     private final RecordBatchFW recordBatchRO = new RecordBatchFW();
     private final Varint32FW recordLengthRO = new Varint32FW();
@@ -182,11 +223,14 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final KafkaFetchClientDecoder decodeOffsetsPartition = this::decodeOffsetsPartition;
     private final KafkaFetchClientDecoder decodeFetchResponse = this::decodeFetchResponse;
     private final KafkaFetchClientDecoder decodeFetch = this::decodeFetch;
+    private final KafkaFetchClientDecoder decodeFetchSession = this::decodeFetchSession;
     private final KafkaFetchClientDecoder decodeFetchTopic = this::decodeFetchTopic;
     private final KafkaFetchClientDecoder decodeFetchPartition = this::decodeFetchPartition;
     private final KafkaFetchClientDecoder decodeFetchTransaction = this::decodeFetchTransaction;
+    private final KafkaFetchClientDecoder decodeFetchPreferredReplica = this::decodeFetchPreferredReplica;
     private final KafkaFetchClientDecoder decodeFetchRecordSet = this::decodeFetchRecordSet;
     private final KafkaFetchClientDecoder decodeFetchRecordBatch = this::decodeFetchRecordBatch;
+    private final KafkaFetchClientDecoder decodeFetchRecordBatchCompressed = this::decodeFetchRecordBatchCompressed;
     private final KafkaFetchClientDecoder decodeFetchRecordLength = this::decodeFetchRecordLength;
     private final KafkaFetchClientDecoder decodeFetchRecord = this::decodeFetchRecord;
     private final KafkaFetchClientDecoder decodeFetchRecordInit = this::decodeFetchRecordInit;
@@ -197,13 +241,35 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final KafkaFetchClientDecoder decodeIgnoreAll = this::decodeIgnoreAll;
     private final KafkaFetchClientDecoder decodeReject = this::decodeReject;
 
+    private final KafkaFetchSessionDecoder decodeSessionSaslHandshakeResponse = this::decodeSaslHandshakeResponse;
+    private final KafkaFetchSessionDecoder decodeSessionSaslHandshake = this::decodeSaslHandshake;
+    private final KafkaFetchSessionDecoder decodeSessionSaslHandshakeMechanisms = this::decodeSaslHandshakeMechanisms;
+    private final KafkaFetchSessionDecoder decodeSessionSaslHandshakeMechanism = this::decodeSaslHandshakeMechanism;
+    private final KafkaFetchSessionDecoder decodeSessionSaslAuthenticateResponse = this::decodeSaslAuthenticateResponse;
+    private final KafkaFetchSessionDecoder decodeSessionSaslAuthenticate = this::decodeSaslAuthenticate;
+    private final KafkaFetchSessionDecoder decodeSessionResponse = this::decodeSessionResponse;
+    private final KafkaFetchSessionDecoder decodeSessionFetch = this::decodeSessionFetch;
+    private final KafkaFetchSessionDecoder decodeSessionTopic = this::decodeSessionTopic;
+    private final KafkaFetchSessionDecoder decodeSessionPartition = this::decodeSessionPartition;
+    private final KafkaFetchSessionDecoder decodeSessionMember = this::decodeSessionMember;
+    private final KafkaFetchSessionDecoder decodeSessionIgnoreTransaction = this::decodeSessionIgnoreTransaction;
+    private final KafkaFetchSessionDecoder decodeSessionIgnorePreferredReplica = this::decodeSessionIgnorePreferredReplica;
+    private final KafkaFetchSessionDecoder decodeSessionIgnoreRecordSetLength = this::decodeSessionIgnoreRecordSetLength;
+    private final KafkaFetchSessionDecoder decodeSessionIgnoreRecordSet = this::decodeSessionIgnoreRecordSet;
+    private final KafkaFetchSessionDecoder decodeSessionIgnoreAll = this::decodeSessionIgnoreAll;
+    private final KafkaFetchSessionDecoder decodeSessionReject = this::decodeSessionReject;
+
     private final int fetchMaxBytes;
     private final int fetchMaxWaitMillis;
     private final int partitionMaxBytes;
+    private final boolean fetchSession;
+    private final int fetchSessionMaxWaitMillis;
+    private final Map<String, KafkaFetchSession> fetchSessions;
     private final int kafkaTypeId;
     private final int proxyTypeId;
     private final MutableDirectBuffer extBuffer;
     private final BufferPool decodePool;
+    private final BufferPool decompressPool;
     private final BufferPool encodePool;
     private final Signaler signaler;
     private final BindingHandler streamFactory;
@@ -212,6 +278,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final LongFunction<BudgetDebitor> supplyDebitor;
     private final LongFunction<KafkaClientRoute> supplyClientRoute;
     private final int decodeMaxBytes;
+    private final KafkaCompressionCodecs codecs;
 
     public KafkaClientFetchFactory(
         KafkaConfiguration config,
@@ -224,11 +291,15 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         this.fetchMaxBytes = config.clientFetchMaxBytes();
         this.fetchMaxWaitMillis = config.clientFetchMaxWaitMillis();
         this.partitionMaxBytes = config.clientFetchPartitionMaxBytes();
+        this.fetchSession = config.clientFetchSession();
+        this.fetchSessionMaxWaitMillis = config.clientFetchSessionMaxWaitMillis();
+        this.fetchSessions = new Object2ObjectHashMap<>();
         this.kafkaTypeId = context.supplyTypeId(KafkaBinding.NAME);
         this.proxyTypeId = context.supplyTypeId("proxy");
         this.signaler = context.signaler();
         this.extBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
         this.decodePool = context.bufferPool();
+        this.decompressPool = decodePool.duplicate();
         this.encodePool = context.bufferPool();
         this.streamFactory = context.streamFactory();
         this.supplyReceiver = context::supplyReceiver;
@@ -236,6 +307,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         this.supplyDebitor = supplyDebitor;
         this.supplyClientRoute = supplyClientRoute;
         this.decodeMaxBytes = decodePool.slotCapacity();
+        this.codecs = new KafkaCompressionCodecs(decodeMaxBytes);
     }
 
     @Override
@@ -279,9 +351,12 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 final long latestOffset = partition.latestOffset();
                 final KafkaIsolation isolation = kafkaFetchBeginEx.isolation().get();
                 final KafkaSaslConfig sasl = binding.sasl();
+                final String rack = binding.rack();
 
                 final KafkaClientRoute clientRoute = supplyClientRoute.apply(resolvedId);
-                final KafkaServerConfig server = clientRoute.servers.get(affinity);
+                final int replicaId = rack != null ? clientRoute.supplyReplicas(topicName).get(partitionId) : -1;
+                final long brokerId = replicaId != -1 && clientRoute.servers.containsKey(replicaId) ? replicaId : affinity;
+                final KafkaServerConfig server = clientRoute.servers.get(brokerId);
 
                 newStream = new KafkaFetchStream(
                     application,
@@ -293,10 +368,12 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                     partitionId,
                     latestOffset,
                     leaderId,
+                    brokerId,
                     initialOffset,
                     isolation,
                     server,
-                    sasl)::onApplication;
+                    sasl,
+                    rack)::onApplication;
             }
         }
 
@@ -800,7 +877,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
             {
                 progress = responseHeader.limit();
                 client.decodableResponseBytes = responseHeader.length();
-                client.decoder = decodeFetch;
+                client.decoder = client.apiVersion >= FETCH_SESSION_API_VERSION ? decodeFetchSession : decodeFetch;
             }
         }
 
@@ -838,6 +915,45 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         return progress;
     }
 
+    private int decodeFetchSession(
+        KafkaFetchStream.KafkaFetchClient client,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
+
+        if (length != 0)
+        {
+            final FetchSessionResponseFW fetchResponse = fetchSessionResponseRO.tryWrap(buffer, progress, limit);
+
+            if (fetchResponse != null)
+            {
+                final int errorCode = fetchResponse.errorCode();
+
+                progress = fetchResponse.limit();
+
+                client.decodableTopics = fetchResponse.topicCount();
+                client.decodableResponseBytes -= fetchResponse.sizeof();
+                assert client.decodableResponseBytes >= 0;
+
+                if (errorCode != ERROR_NONE)
+                {
+                    client.onDecodeResponseErrorCode(traceId, client.originId, errorCode);
+                }
+
+                client.decoder = decodeFetchTopic;
+            }
+        }
+
+        return progress;
+    }
+
     private int decodeFetchTopic(
         KafkaFetchStream.KafkaFetchClient client,
         long traceId,
@@ -947,7 +1063,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         decode:
         if (client.decodableTransactions <= 0)
         {
-            client.decoder = decodeFetchRecordSet;
+            client.decoder = client.apiVersion >= FETCH_RACK_API_VERSION ? decodeFetchPreferredReplica : decodeFetchRecordSet;
             break decode;
         }
         else if (length != 0)
@@ -972,6 +1088,37 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         return progress;
     }
 
+    private int decodeFetchPreferredReplica(
+        KafkaFetchStream.KafkaFetchClient client,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
+
+        if (length != 0)
+        {
+            final PreferredReplicaResponseFW preferredReplica = preferredReplicaResponseRO.tryWrap(buffer, progress, limit);
+            if (preferredReplica != null)
+            {
+                progress = preferredReplica.limit();
+
+                client.decodableResponseBytes -= preferredReplica.sizeof();
+                assert client.decodableResponseBytes >= 0;
+
+                client.onDecodeFetchPreferredReplica(preferredReplica.preferredReadReplica());
+                client.decoder = decodeFetchRecordSet;
+            }
+        }
+
+        return progress;
+    }
+
     private int decodeFetchRecordSet(
         KafkaFetchStream.KafkaFetchClient client,
         long traceId,
@@ -1100,12 +1247,37 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 client.decodableRecordBatchBytes -= recordBatchProgress;
                 assert client.decodableRecordBatchBytes >= 0;
 
-                if (isCompressedBatch(attributes) || isControlBatch(attributes) && !isTransactionalBatch(attributes))
+                if (isControlBatch(attributes) && !isTransactionalBatch(attributes))
                 {
                     client.decoder = decodeIgnoreRecordBatch;
                     break decode;
                 }
 
+                if (isCompressedBatch(attributes))
+                {
+                    final KafkaCompressionCodec codec = codecs.supply(KafkaCompressionType.valueOf(attributes));
+
+                    if (codec == null || client.decodableRecordBatchBytes > decodeMaxBytes)
+                    {
+                        if (KafkaConfiguration.DEBUG)
+                        {
+                            System.out.format("[client] [0x%016x] %s[%d] FETCH RecordBatch %d failed (compression %s)\n",
+                                client.replyId, client.topic, client.partitionId, baseOffset,
+                                KafkaCompressionType.valueOf(attributes));
+                        }
+
+                        final int error = codec == null ? ERROR_CORRUPT_MESSAGE : ERROR_MESSAGE_TOO_LARGE;
+                        client.onDecodeFetchRecordBatchFailed(traceId, authorization, error);
+                        client.decoder = decodeIgnoreAll;
+                        break decode;
+                    }
+
+                    client.decoder = client.decodableRecordBatchBytes <= client.decodableRecordSetBytes
+                        ? decodeFetchRecordBatchCompressed
+                        : decodeIgnoreRecordSet;
+                    break decode;
+                }
+
                 client.decoder = decodeFetchRecordLength;
             }
         }
@@ -1113,6 +1285,155 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         return progress;
     }
 
+    private int decodeFetchRecordBatchCompressed(
+        KafkaFetchStream.KafkaFetchClient client,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
+        final int compressedBytes = client.decodableRecordBatchBytes;
+
+        decode:
+        if (length >= compressedBytes)
+        {
+            if (client.decompressSlot == NO_SLOT)
+            {
+                client.decompressSlot = decompressPool.acquire(client.initialId);
+
+                if (client.decompressSlot == NO_SLOT)
+                {
+                    client.cleanupNetwork(traceId);
+                    client.decoder = decodeIgnoreAll;
+                    break decode;
+                }
+
+                final KafkaCompressionType compression = KafkaCompressionType.valueOf(client.decodeRecordBatchAttributes);
+                final KafkaCompressionCodec codec = codecs.supply(compression);
+                final MutableDirectBuffer decompressBuffer = decompressPool.buffer(client.decompressSlot);
+                final int decompressed = codec.decompress(buffer, progress, compressedBytes,
+                        decompressBuffer, 0, decompressBuffer.capacity());
+
+                if (decompressed == KafkaCompressionCodec.DECOMPRESS_FAILED)
+                {
+                    if (KafkaConfiguration.DEBUG)
+                    {
+                        System.out.format("[client] [0x%016x] %s[%d] FETCH RecordBatch %d failed (%s decompress failed)\n",
+                            client.replyId, client.topic, client.partitionId, client.decodeRecordBatchOffset, compression);
+                    }
+
+                    client.onDecodeFetchRecordBatchFailed(traceId, authorization, ERROR_CORRUPT_MESSAGE);
+                    client.decoder = decodeIgnoreAll;
+                    break decode;
+                }
+
+                client.decompressProgress = 0;
+                client.decompressLimit = decompressed;
+            }
+
+            final MutableDirectBuffer records = decompressPool.buffer(client.decompressSlot);
+
+            while (client.decodableRecords > 0 && client.decompressProgress < client.decompressLimit)
+            {
+                final int recordOffset = client.decompressProgress;
+                final RecordHeaderFW recordHeader = recordHeaderRO.tryWrap(records, recordOffset, client.decompressLimit);
+                if (recordHeader == null)
+                {
+                    break;
+                }
+
+                final Varint32FW recordLength = recordLengthRO.wrap(records, recordOffset, client.decompressLimit);
+                final int sizeofRecord = recordLength.sizeof() + recordLength.value();
+                final int recordLimit = recordOffset + sizeofRecord;
+                if (recordLimit > client.decompressLimit)
+                {
+                    break;
+                }
+
+                final long offsetAbs = client.decodeRecordBatchOffset + recordHeader.offsetDelta();
+                final long timestampAbs = client.decodeRecordBatchTimestamp + recordHeader.timestampDelta();
+
+                if (KafkaConfiguration.DEBUG)
+                {
+                    System.out.format("[client] [0x%016x] %s[%d] FETCH Record (compressed) %d\n",
+                        client.replyId, client.topic, client.partitionId, offsetAbs);
+                }
+
+                if (offsetAbs >= client.nextOffset)
+                {
+                    final int valueLength = recordHeader.valueLength();
+                    final int valueOffset = recordHeader.limit();
+                    final int valueReserved = Math.max(valueLength, 0) + client.stream.replyPad;
+
+                    if (valueReserved > client.stream.replyBudget())
+                    {
+                        break decode;
+                    }
+
+                    if (valueReserved != 0 && client.stream.replyDebIndex != NO_DEBITOR_INDEX)
+                    {
+                        final int valueClaimed = client.stream.replyDeb.claim(traceId, client.stream.replyDebIndex,
+                                client.stream.replyId, valueReserved, valueReserved, 0);
+
+                        if (valueClaimed == 0)
+                        {
+                            break decode;
+                        }
+                    }
+
+                    final OctetsFW key = recordHeader.key();
+                    final OctetsFW value =
+                            valueLength != -1 ? valueRO.wrap(records, valueOffset, valueOffset + valueLength) : null;
+
+                    final int trailerOffset = valueOffset + Math.max(valueLength, 0);
+                    final RecordTrailerFW recordTrailer = recordTrailerRO.wrap(records, trailerOffset, recordLimit);
+                    final int headerCount = recordTrailer.headerCount();
+                    final int headersOffset = recordTrailer.limit();
+                    final int headersLength = recordLimit - headersOffset;
+                    final DirectBuffer headers = wrapHeaders(records, headersOffset, headersLength);
+
+                    client.decodeRecordOffset = offsetAbs;
+                    client.onDecodeFetchRecord(traceId, client.decodeRecordBatchAborted, valueReserved, offsetAbs,
+                            timestampAbs, client.decodeRecordBatchProducerId, key, value, headerCount, headers);
+                }
+
+                client.decompressProgress = recordLimit;
+
+                client.decodableRecords--;
+                assert client.decodableRecords >= 0;
+            }
+
+            progress += compressedBytes;
+
+            client.decodableResponseBytes -= compressedBytes;
+            assert client.decodableResponseBytes >= 0;
+
+            client.decodableRecordSetBytes -= compressedBytes;
+            assert client.decodableRecordSetBytes >= 0;
+
+            if (KafkaConfiguration.DEBUG)
+            {
+                System.out.format("[client] [0x%016x] %s[%d] FETCH Record Set Bytes %d\n",
+                    client.replyId, client.topic, client.partitionId, client.decodableRecordSetBytes);
+            }
+
+            client.decodableRecordBatchBytes -= compressedBytes;
+            assert client.decodableRecordBatchBytes == 0;
+
+            client.cleanupDecompressSlotIfNecessary();
+            client.nextOffset = Math.max(client.nextOffset, client.decodeRecordBatchLastOffset + 1);
+            client.decodableRecords = 0;
+            client.decoder = decodeFetchRecordBatch;
+        }
+
+        return progress;
+    }
+
     private int decodeFetchRecordLength(
         KafkaFetchStream.KafkaFetchClient client,
         long traceId,
@@ -1714,994 +2035,2716 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         return limit;
     }
 
-    private final class KafkaFetchStream
+    @FunctionalInterface
+    private interface KafkaFetchSessionDecoder
     {
-        private final MessageConsumer application;
-        private final long originId;
-        private final long routedId;
-        private final long initialId;
-        private final long replyId;
-        private final long leaderId;
-        private final KafkaClientRoute clientRoute;
-        private final KafkaFetchClient client;
+        int decode(
+            KafkaFetchSession session,
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            MutableDirectBuffer buffer,
+            int offset,
+            int progress,
+            int limit);
+    }
 
-        private int state;
-        private int flushFramesSent;
+    private int decodeSessionResponse(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
 
-        private long initialSeq;
-        private long initialAck;
-        private int initialMax;
+        if (length != 0)
+        {
+            final ResponseHeaderFW responseHeader = responseHeaderRO.tryWrap(buffer, progress, limit);
+            if (responseHeader != null)
+            {
+                progress = responseHeader.limit();
+                session.decodableResponseBytes = responseHeader.length();
+                session.decoder = decodeSessionFetch;
+            }
+        }
 
-        private long replySeq;
-        private long replyAck;
-        private int replyMax;
-        private int replyPad;
+        return progress;
+    }
 
-        private long replyBud;
-        private BudgetDebitor replyDeb;
-        private long replyDebIndex = NO_DEBITOR_INDEX;
+    private int decodeSessionFetch(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
 
-        KafkaFetchStream(
-            MessageConsumer application,
-            long originId,
-            long routedId,
-            long initialId,
-            long resolvedId,
-            String topic,
-            int partitionId,
-            long latestOffset,
-            long leaderId,
-            long initialOffset,
-            KafkaIsolation isolation,
-            KafkaServerConfig server,
-            KafkaSaslConfig sasl)
+        if (length != 0)
         {
-            this.application = application;
-            this.originId = originId;
-            this.routedId = routedId;
-            this.initialId = initialId;
-            this.replyId = supplyReplyId.applyAsLong(initialId);
-            this.leaderId = leaderId;
-            this.clientRoute = supplyClientRoute.apply(resolvedId);
-            this.client = new KafkaFetchClient(routedId, resolvedId, topic, partitionId,
-                    initialOffset, latestOffset, isolation, server, sasl);
-        }
+            final FetchSessionResponseFW fetchResponse = fetchSessionResponseRO.tryWrap(buffer, progress, limit);
 
-        private int replyBudget()
-        {
-            return replyMax - (int)(replySeq - replyAck);
+            if (fetchResponse != null)
+            {
+                progress = fetchResponse.limit();
+
+                session.decodableTopics = fetchResponse.topicCount();
+                session.decodableResponseBytes -= fetchResponse.sizeof();
+                assert session.decodableResponseBytes >= 0;
+
+                session.onDecodeFetchSession(traceId, fetchResponse.errorCode(), fetchResponse.sessionId());
+
+                session.decoder = decodeSessionTopic;
+            }
         }
 
-        private void onApplication(
-            int msgTypeId,
-            DirectBuffer buffer,
-            int index,
-            int length)
+        return progress;
+    }
+
+    private int decodeSessionTopic(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
+
+        decode:
+        if (session.decodableTopics == 0)
         {
-            switch (msgTypeId)
-            {
-            case BeginFW.TYPE_ID:
-                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
-                onApplicationBegin(begin);
-                break;
-            case DataFW.TYPE_ID:
-                final DataFW data = dataRO.wrap(buffer, index, index + length);
-                onApplicationData(data);
-                break;
-            case EndFW.TYPE_ID:
-                final EndFW end = endRO.wrap(buffer, index, index + length);
-                onApplicationEnd(end);
-                break;
-            case AbortFW.TYPE_ID:
-                final AbortFW abort = abortRO.wrap(buffer, index, index + length);
-                onApplicationAbort(abort);
-                break;
-            case WindowFW.TYPE_ID:
-                final WindowFW window = windowRO.wrap(buffer, index, index + length);
-                onApplicationWindow(window);
-                break;
-            case ResetFW.TYPE_ID:
-                final ResetFW reset = resetRO.wrap(buffer, index, index + length);
-                onApplicationReset(reset);
-                break;
-            default:
-                break;
-            }
+            session.decoder = decodeSessionResponse;
+            session.onDecodeFetchResponse(traceId);
+            break decode;
         }
-
-        private void onApplicationBegin(
-            BeginFW begin)
+        else if (length != 0)
         {
-            final long traceId = begin.traceId();
-            final long authorization = begin.authorization();
+            final TopicResponseFW topic = topicResponseRO.tryWrap(buffer, progress, limit);
+            if (topic != null)
+            {
+                progress = topic.limit();
 
-            state = KafkaState.openingInitial(state);
+                session.decodableResponseBytes -= topic.sizeof();
+                assert session.decodableResponseBytes >= 0;
 
-            if (client.topicPartitions.get(client.partitionId) != leaderId)
-            {
-                client.network = MessageConsumer.NOOP;
-                cleanupApplication(traceId, ERROR_NOT_LEADER_FOR_PARTITION);
-            }
-            else
-            {
-                client.doNetworkBegin(traceId, authorization, leaderId);
+                session.decodeTopic = topic.name().asString();
+                session.decodablePartitions = topic.partitionCount();
+                session.decoder = decodeSessionPartition;
             }
         }
 
-        private void onApplicationData(
-            DataFW data)
-        {
-            final long traceId = data.traceId();
+        return progress;
+    }
 
-            client.cleanupNetwork(traceId);
-        }
+    private int decodeSessionPartition(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
 
-        private void onApplicationEnd(
-            EndFW end)
+        decode:
+        if (session.decodablePartitions == 0)
         {
-            final long traceId = end.traceId();
-            final long authorization = end.authorization();
-
-            state = KafkaState.closedInitial(state);
-
-            client.doNetworkEndAfterFlush(traceId, authorization);
+            session.decodableTopics--;
+            assert session.decodableTopics >= 0;
+            session.decoder = decodeSessionTopic;
+            break decode;
         }
-
-        private void onApplicationAbort(
-            AbortFW abort)
+        else if (length != 0)
         {
-            final long traceId = abort.traceId();
+            final PartitionResponseFW partition = partitionResponseRO.tryWrap(buffer, progress, limit);
+            if (partition != null)
+            {
+                final KafkaFetchStream.KafkaFetchClient member = session.findMember(session.decodeTopic, partition.partitionId());
 
-            state = KafkaState.closedInitial(state);
+                if (member != null)
+                {
+                    // member decodes its own partition, starting from the partition header
+                    member.decodableResponseBytes = session.decodableResponseBytes;
+                    member.decodableTopics = 1;
+                    member.decodablePartitions = 1;
+                    member.decoder = decodeFetchPartition;
+
+                    session.decoding = member;
+                    session.decoder = decodeSessionMember;
+                }
+                else
+                {
+                    progress = partition.limit();
 
-            client.doNetworkAbortIfNecessary(traceId);
+                    session.decodableResponseBytes -= partition.sizeof();
+                    assert session.decodableResponseBytes >= 0;
+
+                    session.decodableTransactions = partition.abortedTransactionCount();
+                    session.decoder = decodeSessionIgnoreTransaction;
+                }
+            }
         }
 
-        private void onApplicationWindow(
-            WindowFW window)
-        {
-            final long sequence = window.sequence();
-            final long acknowledge = window.acknowledge();
-            final int maximum = window.maximum();
-            final long traceId = window.traceId();
-            final long budgetId = window.budgetId();
-            final int padding = window.padding();
+        return progress;
+    }
 
-            assert acknowledge <= sequence;
-            assert sequence <= replySeq;
-            assert acknowledge >= replyAck;
-            assert maximum >= replyMax;
+    private int decodeSessionMember(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        MutableDirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final KafkaFetchStream.KafkaFetchClient member = session.decoding;
+
+        KafkaFetchClientDecoder previous = null;
+        while (progress <= limit &&
+            previous != member.decoder &&
+            member.session == session &&
+            member.decoder != decodeFetchTopic &&
+            member.decoder != decodeIgnoreAll)
+        {
+            previous = member.decoder;
+            progress = member.decoder.decode(member, traceId, authorization, budgetId, reserved, buffer, offset, progress, limit);
+        }
 
-            this.replyAck = acknowledge;
-            this.replyMax = maximum;
-            this.replyPad = padding;
-            this.replyBud = budgetId;
+        session.decodableResponseBytes = member.decodableResponseBytes;
 
-            assert replyAck <= replySeq;
+        if (member.decoder == decodeFetchTopic ||
+            member.decoder == decodeFetchPartition && member.decodablePartitions == 0)
+        {
+            session.decodablePartitions--;
+            assert session.decodablePartitions >= 0;
+            session.decoding = null;
+            session.decoder = decodeSessionPartition;
+        }
+        else if (member.session != session || member.decoder == decodeIgnoreAll)
+        {
+            // member left mid partition, skip the remainder of its partition
+            session.decoding = null;
 
-            if (replyBud != 0L && replyDeb == null)
+            if (member.decoder == decodeFetchTransaction)
             {
-                replyDeb = supplyDebitor.apply(replyBud);
-                replyDebIndex = replyDeb.acquire(replyBud, replyId, client::decodeNetworkIfNecessary);
+                session.decodableTransactions = member.decodableTransactions;
+                session.decoder = decodeSessionIgnoreTransaction;
+            }
+            else if (member.decoder == decodeFetchPreferredReplica)
+            {
+                session.decoder = decodeSessionIgnorePreferredReplica;
+            }
+            else if (member.decoder == decodeFetchRecordSet)
+            {
+                session.decoder = decodeSessionIgnoreRecordSetLength;
+            }
+            else
+            {
+                session.decodableRecordSetBytes = member.decodableRecordSetBytes;
+                session.decoder = decodeSessionIgnoreRecordSet;
             }
-
-            state = KafkaState.openedReply(state);
-
-            client.decodeNetworkIfNecessary(traceId);
         }
 
-        private void onApplicationReset(
-            ResetFW reset)
-        {
-            final long traceId = reset.traceId();
-
-            state = KafkaState.closedReply(state);
+        return progress;
+    }
 
-            client.doNetworkResetIfNecessary(traceId);
-        }
+    private int decodeSessionIgnoreTransaction(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
 
-        private boolean isApplicationReplyOpen()
+        decode:
+        if (session.decodableTransactions <= 0)
         {
-            return KafkaState.replyOpening(state);
+            session.decoder = session.apiVersion >= FETCH_RACK_API_VERSION
+                ? decodeSessionIgnorePreferredReplica
+                : decodeSessionIgnoreRecordSetLength;
+            break decode;
         }
-
-        private void doApplicationBeginIfNecessary(
-            long traceId,
-            long authorization,
-            String topic,
-            int partitionId,
-            long partitionOffset,
-            long stableOffset,
-            long latestOffset,
-            KafkaIsolation isolation)
+        else if (length != 0)
         {
-            if (!KafkaState.replyOpening(state))
+            final TransactionResponseFW transaction = transactionResponseRO.tryWrap(buffer, progress, limit);
+            if (transaction != null)
             {
-                doApplicationBegin(traceId, authorization, topic,
-                        partitionId, partitionOffset, stableOffset, latestOffset, isolation);
+                progress = transaction.limit();
+
+                session.decodableResponseBytes -= transaction.sizeof();
+                assert session.decodableResponseBytes >= 0;
+                session.decodableTransactions--;
+                assert session.decodableTransactions >= 0;
             }
         }
 
-        private void doApplicationBegin(
-            long traceId,
-            long authorization,
-            String topic,
-            int partitionId,
-            long partitionOffset,
-            long stableOffset,
-            long latestOffset,
-            KafkaIsolation isolation)
-        {
-            state = KafkaState.openingReply(state);
+        return progress;
+    }
 
-            doBegin(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                    traceId, authorization, leaderId,
-                ex -> ex.set((b, o, l) -> kafkaBeginExRW.wrap(b, o, l)
-                                                        .typeId(kafkaTypeId)
-                                                        .fetch(m -> m.topic(topic)
-                                                                     .partition(p -> p.partitionId(partitionId)
-                                                                                      .partitionOffset(partitionOffset)
-                                                                                      .stableOffset(stableOffset)
-                                                                                      .latestOffset(latestOffset))
-                                                                     .isolation(i -> i.set(isolation)))
-                                                        .build()
-                                                        .sizeof()));
-            client.initialLatestOffset = latestOffset;
-            client.initialStableOffset = stableOffset;
-        }
+    private int decodeSessionIgnorePreferredReplica(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
 
-        private void doApplicationData(
-            long traceId,
-            long authorization,
-            int flags,
-            int reserved,
-            OctetsFW payload,
-            Flyweight extension)
+        if (length != 0)
         {
-            doData(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                    traceId, authorization, flags, replyBud, reserved, payload, extension);
-
-            replySeq += reserved;
+            final PreferredReplicaResponseFW preferredReplica = preferredReplicaResponseRO.tryWrap(buffer, progress, limit);
+            if (preferredReplica != null)
+            {
+                progress = preferredReplica.limit();
 
-            assert replyAck <= replySeq;
+                session.decodableResponseBytes -= preferredReplica.sizeof();
+                assert session.decodableResponseBytes >= 0;
 
+                session.decoder = decodeSessionIgnoreRecordSetLength;
+            }
         }
 
-        private void doApplicationFlush(
-            long traceId,
-            long authorization,
-            int reserved,
-            Flyweight extension)
-        {
-            doFlush(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                    traceId, authorization, reserved, extension);
-
-            replySeq += reserved;
-
-            assert replyAck <= replySeq;
+        return progress;
+    }
 
-            flushFramesSent++;
-        }
+    private int decodeSessionIgnoreRecordSetLength(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
 
-        private void doFlushPartitionOffsetIfNecessary(
-            long traceId,
-            long authorization)
+        if (length != 0)
         {
-            if (KafkaState.replyOpening(state) &&
-                client.lastStableOffset < client.stableOffset ||
-                client.lastLatestOffset < client.latestOffset)
+            final RecordSetFW recordSet = recordSetRO.tryWrap(buffer, progress, limit);
+            if (recordSet != null)
             {
-                final KafkaFlushExFW kafkaFlushEx = kafkaFlushExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                    .typeId(kafkaTypeId)
-                    .fetch(f -> f
-                        .partition(p -> p
-                            .partitionId(client.partitionId)
-                            .partitionOffset(client.decodeRecordBatchLastOffset)
-                            .stableOffset(client.stableOffset)
-                            .latestOffset(client.latestOffset)))
-                    .build();
+                final int responseProgress = recordSet.sizeof();
 
-                doFlush(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                    traceId, authorization, 0, kafkaFlushEx);
+                progress += responseProgress;
 
-                replySeq += 0;
+                session.decodableResponseBytes -= responseProgress;
+                assert session.decodableResponseBytes >= 0;
 
-                assert replyAck <= replySeq;
+                session.decodableRecordSetBytes = recordSet.length();
+                assert session.decodableRecordSetBytes >= 0 : "negative recordSetSize";
+                assert session.decodableRecordSetBytes <= session.decodableResponseBytes : "record set overflows response";
 
-                client.lastStableOffset = client.stableOffset;
-                client.lastLatestOffset = client.latestOffset;
+                session.decoder = decodeSessionIgnoreRecordSet;
             }
         }
 
-        private void doApplicationFlushIfNecessary(
-            long traceId,
-            long authorization)
-        {
-            if (KafkaState.replyOpening(state) &&
-                    client.decodeRecordBatchLastOffset >= client.initialLatestOffset &&
-                    client.decodableRecords == 0 &&
-                    flushFramesSent == 0)
-            {
-                final KafkaFlushExFW kafkaFlushEx = kafkaFlushExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                        .typeId(kafkaTypeId)
-                        .fetch(f -> f
-                                .partition(p -> p
-                                        .partitionId(client.partitionId)
-                                        .partitionOffset(client.decodeRecordBatchLastOffset)
-                                        .stableOffset(client.initialStableOffset)
-                                        .latestOffset(client.initialLatestOffset)))
-                        .build();
+        return progress;
+    }
 
-                doFlush(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                        traceId, authorization, 0, kafkaFlushEx);
+    private int decodeSessionIgnoreRecordSet(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int maxLength = limit - progress;
+        final int length = Math.min(maxLength, session.decodableRecordSetBytes);
 
-                replySeq += 0;
+        progress += length;
 
-                assert replyAck <= replySeq;
+        session.decodableResponseBytes -= length;
+        assert session.decodableResponseBytes >= 0;
 
-                flushFramesSent++;
-            }
-        }
+        session.decodableRecordSetBytes -= length;
+        assert session.decodableRecordSetBytes >= 0;
 
-        private void doApplicationEnd(
-            long traceId)
+        if (session.decodableRecordSetBytes == 0)
         {
-            cleanupApplicationDebitorIfNecessary();
-
-            state = KafkaState.closedReply(state);
-            //client.stream = nullIfClosed(state, client.stream);
-            doEnd(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                    traceId, client.authorization, EMPTY_OCTETS);
+            session.decodablePartitions--;
+            assert session.decodablePartitions >= 0;
+            session.decoder = decodeSessionPartition;
         }
 
-        private void doApplicationAbort(
-            long traceId)
-        {
-            cleanupApplicationDebitorIfNecessary();
+        return progress;
+    }
 
-            state = KafkaState.closedReply(state);
-            //client.stream = nullIfClosed(state, client.stream);
-            doAbort(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                    traceId, client.authorization, EMPTY_OCTETS);
-        }
+    private int decodeSessionIgnoreAll(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        return limit;
+    }
 
-        private void doApplicationWindow(
-            long traceId,
-            long budgetId,
-            int minInitialNoAck,
-            int minInitialPad,
-            int minInitialMax)
-        {
-            final long newInitialAck = Math.max(initialSeq - minInitialNoAck, initialAck);
+    private int decodeSessionReject(
+        KafkaFetchSession session,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        session.cleanupNetwork(traceId);
+        session.decoder = decodeSessionIgnoreAll;
+        return limit;
+    }
 
-            if (newInitialAck > initialAck || minInitialMax > initialMax || !KafkaState.initialOpened(state))
-            {
-                initialAck = newInitialAck;
-                assert initialAck <= initialSeq;
+    private final class KafkaFetchStream
+    {
+        private final MessageConsumer application;
+        private final long originId;
+        private final long routedId;
+        private final long initialId;
+        private final long replyId;
+        private final long leaderId;
+        private final KafkaClientRoute clientRoute;
 
-                initialMax = minInitialMax;
+        private KafkaFetchClient client;
 
-                state = KafkaState.openedInitial(state);
+        private int state;
+        private int flushFramesSent;
 
-                doWindow(application, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, client.authorization, budgetId, minInitialPad);
-            }
-        }
+        private long initialSeq;
+        private long initialAck;
+        private int initialMax;
 
-        private void doApplicationReset(
-            long traceId,
-            Flyweight extension)
-        {
-            state = KafkaState.closedInitial(state);
-            //client.stream = nullIfClosed(state, client.stream);
+        private long replySeq;
+        private long replyAck;
+        private int replyMax;
+        private int replyPad;
 
-            doReset(application, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                    traceId, client.authorization, extension);
+        private long replyBud;
+        private BudgetDebitor replyDeb;
+        private long replyDebIndex = NO_DEBITOR_INDEX;
+
+        KafkaFetchStream(
+            MessageConsumer application,
+            long originId,
+            long routedId,
+            long initialId,
+            long resolvedId,
+            String topic,
+            int partitionId,
+            long latestOffset,
+            long leaderId,
+            long brokerId,
+            long initialOffset,
+            KafkaIsolation isolation,
+            KafkaServerConfig server,
+            KafkaSaslConfig sasl,
+            String rack)
+        {
+            this.application = application;
+            this.originId = originId;
+            this.routedId = routedId;
+            this.initialId = initialId;
+            this.replyId = supplyReplyId.applyAsLong(initialId);
+            this.leaderId = leaderId;
+            this.clientRoute = supplyClientRoute.apply(resolvedId);
+            this.client = new KafkaFetchClient(routedId, resolvedId, topic, partitionId,
+                    initialOffset, latestOffset, isolation, server, sasl, brokerId, rack);
         }
 
-        private void doApplicationAbortIfNecessary(
-            long traceId)
+        private int replyBudget()
         {
-            if (KafkaState.replyOpening(state) && !KafkaState.replyClosed(state))
-            {
-                doApplicationAbort(traceId);
-            }
+            return replyMax - (int)(replySeq - replyAck);
         }
 
-        private void doApplicationResetIfNecessary(
-            long traceId,
-            Flyweight extension)
+        private void onApplication(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
         {
-            if (!KafkaState.initialClosed(state))
+            switch (msgTypeId)
             {
-                doApplicationReset(traceId, extension);
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onApplicationBegin(begin);
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                onApplicationData(data);
+                break;
+            case EndFW.TYPE_ID:
+                final EndFW end = endRO.wrap(buffer, index, index + length);
+                onApplicationEnd(end);
+                break;
+            case AbortFW.TYPE_ID:
+                final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                onApplicationAbort(abort);
+                break;
+            case WindowFW.TYPE_ID:
+                final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                onApplicationWindow(window);
+                break;
+            case ResetFW.TYPE_ID:
+                final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                onApplicationReset(reset);
+                break;
+            default:
+                break;
             }
         }
 
-        private void cleanupApplication(
-            long traceId,
-            int error)
+        private void onApplicationBegin(
+            BeginFW begin)
         {
-            final KafkaResetExFW kafkaResetEx = kafkaResetExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                    .typeId(kafkaTypeId)
-                    .error(error)
-                    .build();
+            final long traceId = begin.traceId();
+            final long authorization = begin.authorization();
 
-            cleanupApplication(traceId, kafkaResetEx);
-        }
+            state = KafkaState.openingInitial(state);
 
-        private void cleanupApplication(
-            long traceId,
-            Flyweight extension)
-        {
-            doApplicationResetIfNecessary(traceId, extension);
-            doApplicationAbortIfNecessary(traceId);
-        }
-
-        private void cleanupApplicationDebitorIfNecessary()
-        {
-            if (replyDebIndex != NO_DEBITOR_INDEX)
+            if (client.topicPartitions.get(client.partitionId) != leaderId)
             {
-                replyDeb.release(replyDebIndex, replyId);
-                replyDebIndex = NO_DEBITOR_INDEX;
-                replyDeb = null;
+                client.network = MessageConsumer.NOOP;
+                cleanupApplication(traceId, ERROR_NOT_LEADER_FOR_PARTITION);
+            }
+            else
+            {
+                client.doNetworkBegin(traceId, authorization, client.brokerId);
             }
         }
 
-        private final class KafkaFetchClient extends KafkaSaslClient
+        private void onApplicationData(
+            DataFW data)
         {
-            private final LongLongConsumer encodeSaslHandshakeRequest = this::doEncodeSaslHandshakeRequest;
-            private final LongLongConsumer encodeSaslAuthenticateRequest = this::doEncodeSaslAuthenticateRequest;
-            private final LongLongConsumer encodeOffsetsRequest = this::doEncodeOffsetsRequest;
-            private final LongLongConsumer encodeFetchRequest = this::doEncodeFetchRequest;
+            final long traceId = data.traceId();
 
-            private MessageConsumer network;
-            private final KafkaFetchStream stream;
-            private final String topic;
-            private final Int2IntHashMap topicPartitions;
-            private final int partitionId;
-            private final KafkaIsolation isolation;
+            client.cleanupNetwork(traceId);
+        }
 
-            private long nextOffset;
-            private long stableOffset;
-            private long latestOffset;
-            private long initialLatestOffset;
-            private long initialStableOffset;
-            private long lastLatestOffset;
-            private long lastStableOffset;
+        private void onApplicationEnd(
+            EndFW end)
+        {
+            final long traceId = end.traceId();
+            final long authorization = end.authorization();
 
-            private int state;
-            private long authorization;
+            state = KafkaState.closedInitial(state);
 
-            private long initialSeq;
-            private long initialAck;
-            private int initialMax;
-            private int initialPad;
-            private long initialBudgetId;
+            client.doNetworkEndAfterFlush(traceId, authorization);
+        }
 
-            private long replySeq;
-            private long replyAck;
-            private int replyMax;
+        private void onApplicationAbort(
+            AbortFW abort)
+        {
+            final long traceId = abort.traceId();
 
-            private int encodeSlot = NO_SLOT;
-            private int encodeSlotOffset;
-            private long encodeSlotTraceId;
+            state = KafkaState.closedInitial(state);
 
-            private int decodeSlot = NO_SLOT;
-            private int decodeSlotOffset;
-            private int decodeSlotReserved;
+            client.doNetworkAbortIfNecessary(traceId);
+        }
 
-            private int decodableResponseBytes;
-            private int decodableTopics;
-            private int decodableTransactions;
-            private int decodablePartitions;
-            private int decodePartitionError;
-            private int decodePartitionId;
-            private Long2LongHashMap decodeAbortedTransactions;
-            private int decodableRecordSetBytes;
-            private int decodableRecordBatchBytes;
-            private long decodeRecordBatchOffset;
-            private long decodeRecordBatchLastOffset;
-            private long decodeRecordBatchTimestamp;
-            private long decodeRecordBatchProducerId;
-            private boolean decodeRecordBatchAborted;
-            private int decodeRecordBatchAttributes;
-            private int decodableRecords;
-            private long decodeRecordOffset;
-            private int decodableRecordBytes;
-            private int decodableRecordValueBytes;
+        private void onApplicationWindow(
+            WindowFW window)
+        {
+            final long sequence = window.sequence();
+            final long acknowledge = window.acknowledge();
+            final int maximum = window.maximum();
+            final long traceId = window.traceId();
+            final long budgetId = window.budgetId();
+            final int padding = window.padding();
 
-            private int nextResponseId;
+            assert acknowledge <= sequence;
+            assert sequence <= replySeq;
+            assert acknowledge >= replyAck;
+            assert maximum >= replyMax;
 
-            private KafkaFetchClientDecoder decoder;
-            private LongLongConsumer encoder;
+            this.replyAck = acknowledge;
+            this.replyMax = maximum;
+            this.replyPad = padding;
+            this.replyBud = budgetId;
 
-            KafkaFetchClient(
-                long originId,
-                long routedId,
-                String topic,
-                int partitionId,
-                long initialOffset,
-                long latestOffset,
-                KafkaIsolation isolation,
-                KafkaServerConfig server,
-                KafkaSaslConfig sasl)
-            {
-                super(server, sasl, originId, routedId);
-                this.stream = KafkaFetchStream.this;
-                this.topic = requireNonNull(topic);
-                this.topicPartitions = clientRoute.supplyPartitions(topic);
-                this.partitionId = partitionId;
-                this.nextOffset = initialOffset;
-                this.latestOffset = latestOffset;
-                this.isolation = isolation;
-                this.encoder = encodeFetchRequest;
-                this.decoder = decodeReject;
-                this.decodeAbortedTransactions = new Long2LongHashMap(Long.MIN_VALUE);
-            }
+            assert replyAck <= replySeq;
 
-            private void onNetwork(
-                int msgTypeId,
-                DirectBuffer buffer,
-                int index,
-                int length)
+            if (replyBud != 0L && replyDeb == null)
             {
-                switch (msgTypeId)
-                {
-                case BeginFW.TYPE_ID:
-                    final BeginFW begin = beginRO.wrap(buffer, index, index + length);
-                    onNetworkBegin(begin);
-                    break;
-                case DataFW.TYPE_ID:
-                    final DataFW data = dataRO.wrap(buffer, index, index + length);
-                    onNetworkData(data);
-                    break;
-                case EndFW.TYPE_ID:
-                    final EndFW end = endRO.wrap(buffer, index, index + length);
-                    onNetworkEnd(end);
-                    break;
-                case AbortFW.TYPE_ID:
-                    final AbortFW abort = abortRO.wrap(buffer, index, index + length);
-                    onNetworkAbort(abort);
-                    break;
-                case ResetFW.TYPE_ID:
-                    final ResetFW reset = resetRO.wrap(buffer, index, index + length);
-                    onNetworkReset(reset);
-                    break;
-                case WindowFW.TYPE_ID:
-                    final WindowFW window = windowRO.wrap(buffer, index, index + length);
-                    onNetworkWindow(window);
-                    break;
-                case SignalFW.TYPE_ID:
-                    final SignalFW signal = signalRO.wrap(buffer, index, index + length);
-                    onNetworkSignal(signal);
-                    break;
-                default:
-                    break;
-                }
+                replyDeb = supplyDebitor.apply(replyBud);
+                replyDebIndex = replyDeb.acquire(replyBud, replyId, t -> client.decodeNetworkIfNecessary(t));
             }
 
-            private void onNetworkBegin(
-                BeginFW begin)
-            {
-                final long traceId = begin.traceId();
-
-                authorization = begin.authorization();
-                state = KafkaState.openingReply(state);
+            state = KafkaState.openedReply(state);
 
-                doNetworkWindow(traceId, 0L, 0, 0, decodePool.slotCapacity());
-            }
+            client.decodeNetworkIfNecessary(traceId);
+        }
 
-            private long networkBytesReceived;
+        private void onApplicationReset(
+            ResetFW reset)
+        {
+            final long traceId = reset.traceId();
 
-            private void onNetworkData(
-                DataFW data)
-            {
-                final long sequence = data.sequence();
-                final long acknowledge = data.acknowledge();
-                final long traceId = data.traceId();
-                final long budgetId = data.budgetId();
+            state = KafkaState.closedReply(state);
 
-                networkBytesReceived += Math.max(data.length(), 0);
+            client.doNetworkResetIfNecessary(traceId);
+        }
 
-                authorization = data.authorization();
+        private boolean isApplicationReplyOpen()
+        {
+            return KafkaState.replyOpening(state);
+        }
 
-                assert acknowledge <= sequence;
-                assert sequence >= replySeq;
+        private void doApplicationBeginIfNecessary(
+            long traceId,
+            long authorization,
+            String topic,
+            int partitionId,
+            long partitionOffset,
+            long stableOffset,
+            long latestOffset,
+            KafkaIsolation isolation)
+        {
+            if (!KafkaState.replyOpening(state))
+            {
+                doApplicationBegin(traceId, authorization, topic,
+                        partitionId, partitionOffset, stableOffset, latestOffset, isolation);
+            }
+        }
 
-                replySeq = sequence + data.reserved();
+        private void doApplicationBegin(
+            long traceId,
+            long authorization,
+            String topic,
+            int partitionId,
+            long partitionOffset,
+            long stableOffset,
+            long latestOffset,
+            KafkaIsolation isolation)
+        {
+            state = KafkaState.openingReply(state);
 
-                assert replyAck <= replySeq;
+            doBegin(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, leaderId,
+                ex -> ex.set((b, o, l) -> kafkaBeginExRW.wrap(b, o, l)
+                                                        .typeId(kafkaTypeId)
+                                                        .fetch(m -> m.topic(topic)
+                                                                     .partition(p -> p.partitionId(partitionId)
+                                                                                      .partitionOffset(partitionOffset)
+                                                                                      .stableOffset(stableOffset)
+                                                                                      .latestOffset(latestOffset))
+                                                                     .isolation(i -> i.set(isolation)))
+                                                        .build()
+                                                        .sizeof()));
+            client.initialLatestOffset = latestOffset;
+            client.initialStableOffset = stableOffset;
+        }
 
-                if (replySeq > replyAck + replyMax)
-                {
+        private void doApplicationData(
+            long traceId,
+            long authorization,
+            int flags,
+            int reserved,
+            OctetsFW payload,
+            Flyweight extension)
+        {
+            doData(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, flags, replyBud, reserved, payload, extension);
+
+            replySeq += reserved;
+
+            assert replyAck <= replySeq;
+
+        }
+
+        private void doApplicationFlush(
+            long traceId,
+            long authorization,
+            int reserved,
+            Flyweight extension)
+        {
+            doFlush(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, reserved, extension);
+
+            replySeq += reserved;
+
+            assert replyAck <= replySeq;
+
+            flushFramesSent++;
+        }
+
+        private void doFlushPartitionOffsetIfNecessary(
+            long traceId,
+            long authorization)
+        {
+            if (KafkaState.replyOpening(state) &&
+                client.lastStableOffset < client.stableOffset ||
+                client.lastLatestOffset < client.latestOffset)
+            {
+                final KafkaFlushExFW kafkaFlushEx = kafkaFlushExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                    .typeId(kafkaTypeId)
+                    .fetch(f -> f
+                        .partition(p -> p
+                            .partitionId(client.partitionId)
+                            .partitionOffset(client.decodeRecordBatchLastOffset)
+                            .stableOffset(client.stableOffset)
+                            .latestOffset(client.latestOffset)))
+                    .build();
+
+                doFlush(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, 0, kafkaFlushEx);
+
+                replySeq += 0;
+
+                assert replyAck <= replySeq;
+
+                client.lastStableOffset = client.stableOffset;
+                client.lastLatestOffset = client.latestOffset;
+            }
+        }
+
+        private void doApplicationFlushIfNecessary(
+            long traceId,
+            long authorization)
+        {
+            if (KafkaState.replyOpening(state) &&
+                    client.decodeRecordBatchLastOffset >= client.initialLatestOffset &&
+                    client.decodableRecords == 0 &&
+                    flushFramesSent == 0)
+            {
+                final KafkaFlushExFW kafkaFlushEx = kafkaFlushExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                        .typeId(kafkaTypeId)
+                        .fetch(f -> f
+                                .partition(p -> p
+                                        .partitionId(client.partitionId)
+                                        .partitionOffset(client.decodeRecordBatchLastOffset)
+                                        .stableOffset(client.initialStableOffset)
+                                        .latestOffset(client.initialLatestOffset)))
+                        .build();
+
+                doFlush(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, authorization, 0, kafkaFlushEx);
+
+                replySeq += 0;
+
+                assert replyAck <= replySeq;
+
+                flushFramesSent++;
+            }
+        }
+
+        private void doApplicationEnd(
+            long traceId)
+        {
+            cleanupApplicationDebitorIfNecessary();
+
+            state = KafkaState.closedReply(state);
+            //client.stream = nullIfClosed(state, client.stream);
+            doEnd(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, client.authorization, EMPTY_OCTETS);
+        }
+
+        private void doApplicationAbort(
+            long traceId)
+        {
+            cleanupApplicationDebitorIfNecessary();
+
+            state = KafkaState.closedReply(state);
+            //client.stream = nullIfClosed(state, client.stream);
+            doAbort(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, client.authorization, EMPTY_OCTETS);
+        }
+
+        private void doApplicationWindow(
+            long traceId,
+            long budgetId,
+            int minInitialNoAck,
+            int minInitialPad,
+            int minInitialMax)
+        {
+            final long newInitialAck = Math.max(initialSeq - minInitialNoAck, initialAck);
+
+            if (newInitialAck > initialAck || minInitialMax > initialMax || !KafkaState.initialOpened(state))
+            {
+                initialAck = newInitialAck;
+                assert initialAck <= initialSeq;
+
+                initialMax = minInitialMax;
+
+                state = KafkaState.openedInitial(state);
+
+                doWindow(application, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, client.authorization, budgetId, minInitialPad);
+            }
+        }
+
+        private void doApplicationReset(
+            long traceId,
+            Flyweight extension)
+        {
+            state = KafkaState.closedInitial(state);
+            //client.stream = nullIfClosed(state, client.stream);
+
+            doReset(application, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, client.authorization, extension);
+        }
+
+        private void doApplicationAbortIfNecessary(
+            long traceId)
+        {
+            if (KafkaState.replyOpening(state) && !KafkaState.replyClosed(state))
+            {
+                doApplicationAbort(traceId);
+            }
+        }
+
+        private void doApplicationResetIfNecessary(
+            long traceId,
+            Flyweight extension)
+        {
+            if (!KafkaState.initialClosed(state))
+            {
+                doApplicationReset(traceId, extension);
+            }
+        }
+
+        private void cleanupApplication(
+            long traceId,
+            int error)
+        {
+            final KafkaResetExFW kafkaResetEx = kafkaResetExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                    .typeId(kafkaTypeId)
+                    .error(error)
+                    .build();
+
+            cleanupApplication(traceId, kafkaResetEx);
+        }
+
+        private void cleanupApplication(
+            long traceId,
+            Flyweight extension)
+        {
+            doApplicationResetIfNecessary(traceId, extension);
+            doApplicationAbortIfNecessary(traceId);
+        }
+
+        private void onNetworkReroute(
+            long traceId,
+            long brokerId)
+        {
+            final KafkaFetchClient previous = client;
+            final KafkaServerConfig server = clientRoute.servers.get(brokerId);
+
+            previous.doNetworkDetach(traceId);
+
+            final KafkaFetchClient next = new KafkaFetchClient(previous.originId, previous.routedId, previous.topic,
+                    previous.partitionId, previous.nextOffset, previous.latestOffset, previous.isolation,
+                    server, previous.sasl, brokerId, previous.rack);
+            next.stableOffset = previous.stableOffset;
+            next.initialLatestOffset = previous.initialLatestOffset;
+            next.initialStableOffset = previous.initialStableOffset;
+            next.lastLatestOffset = previous.lastLatestOffset;
+            next.lastStableOffset = previous.lastStableOffset;
+            next.decodeRecordBatchLastOffset = previous.decodeRecordBatchLastOffset;
+
+            if (KafkaConfiguration.DEBUG)
+            {
+                System.out.format("[client] [0x%016x] %s[%d] FETCH reroute %d -> %d\n",
+                    replyId, previous.topic, previous.partitionId, previous.brokerId, brokerId);
+            }
+
+            client = next;
+            client.doNetworkBegin(traceId, previous.authorization, brokerId);
+        }
+
+        private void cleanupApplicationDebitorIfNecessary()
+        {
+            if (replyDebIndex != NO_DEBITOR_INDEX)
+            {
+                replyDeb.release(replyDebIndex, replyId);
+                replyDebIndex = NO_DEBITOR_INDEX;
+                replyDeb = null;
+            }
+        }
+
+        private final class KafkaFetchClient extends KafkaSaslClient
+        {
+            private final LongLongConsumer encodeSaslHandshakeRequest = this::doEncodeSaslHandshakeRequest;
+            private final LongLongConsumer encodeSaslAuthenticateRequest = this::doEncodeSaslAuthenticateRequest;
+            private final LongLongConsumer encodeOffsetsRequest = this::doEncodeOffsetsRequest;
+            private final LongLongConsumer encodeFetchRequest =
+                fetchSession ? this::doEncodeFetchSessionJoin : this::doEncodeFetchRequest;
+
+            private MessageConsumer network;
+            private final KafkaFetchStream stream;
+            private final String topic;
+            private final Int2IntHashMap topicPartitions;
+            private final int partitionId;
+            private final KafkaIsolation isolation;
+            private final Int2IntHashMap topicReplicas;
+            private final long brokerId;
+            private final String rack;
+            private final short apiVersion;
+
+            private long rerouteId = NO_BROKER_ID;
+
+            private long nextOffset;
+            private long stableOffset;
+            private long latestOffset;
+            private long initialLatestOffset;
+            private long initialStableOffset;
+            private long lastLatestOffset;
+            private long lastStableOffset;
+
+            private int state;
+            private long authorization;
+
+            private long initialSeq;
+            private long initialAck;
+            private int initialMax;
+            private int initialPad;
+            private long initialBudgetId;
+
+            private long replySeq;
+            private long replyAck;
+            private int replyMax;
+
+            private int encodeSlot = NO_SLOT;
+            private int encodeSlotOffset;
+            private long encodeSlotTraceId;
+
+            private int decodeSlot = NO_SLOT;
+            private int decodeSlotOffset;
+            private int decodeSlotReserved;
+
+            private int decodableResponseBytes;
+            private int decodableTopics;
+            private int decodableTransactions;
+            private int decodablePartitions;
+            private int decodePartitionError;
+            private int decodePartitionId;
+            private Long2LongHashMap decodeAbortedTransactions;
+            private int decodableRecordSetBytes;
+            private int decodableRecordBatchBytes;
+            private long decodeRecordBatchOffset;
+            private long decodeRecordBatchLastOffset;
+            private long decodeRecordBatchTimestamp;
+            private long decodeRecordBatchProducerId;
+            private boolean decodeRecordBatchAborted;
+            private int decodeRecordBatchAttributes;
+            private int decodableRecords;
+            private long decodeRecordOffset;
+            private int decodableRecordBytes;
+            private int decodableRecordValueBytes;
+
+            private int decompressSlot = NO_SLOT;
+            private int decompressProgress;
+            private int decompressLimit;
+
+            private int nextResponseId;
+
+            private KafkaFetchSession session;
+            private long sessionOffset = NO_SESSION_OFFSET;
+
+            private KafkaFetchClientDecoder decoder;
+            private LongLongConsumer encoder;
+
+            KafkaFetchClient(
+                long originId,
+                long routedId,
+                String topic,
+                int partitionId,
+                long initialOffset,
+                long latestOffset,
+                KafkaIsolation isolation,
+                KafkaServerConfig server,
+                KafkaSaslConfig sasl,
+                long brokerId,
+                String rack)
+            {
+                super(server, sasl, originId, routedId);
+                this.stream = KafkaFetchStream.this;
+                this.topic = requireNonNull(topic);
+                this.topicPartitions = clientRoute.supplyPartitions(topic);
+                this.partitionId = partitionId;
+                this.nextOffset = initialOffset;
+                this.latestOffset = latestOffset;
+                this.isolation = isolation;
+                this.topicReplicas = clientRoute.supplyReplicas(topic);
+                this.brokerId = brokerId;
+                this.rack = rack;
+
+                this.apiVersion = rack != null ? FETCH_RACK_API_VERSION : FETCH_API_VERSION;
+
+                this.encoder = encodeFetchRequest;
+                this.decoder = decodeReject;
+                this.decodeAbortedTransactions = new Long2LongHashMap(Long.MIN_VALUE);
+            }
+
+            private void onNetworkIfAttached(
+                int msgTypeId,
+                DirectBuffer buffer,
+                int index,
+                int length)
+            {
+                if (stream.client == this)
+                {
+                    onNetwork(msgTypeId, buffer, index, length);
+                }
+            }
+
+            private void onNetwork(
+                int msgTypeId,
+                DirectBuffer buffer,
+                int index,
+                int length)
+            {
+                switch (msgTypeId)
+                {
+                case BeginFW.TYPE_ID:
+                    final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                    onNetworkBegin(begin);
+                    break;
+                case DataFW.TYPE_ID:
+                    final DataFW data = dataRO.wrap(buffer, index, index + length);
+                    onNetworkData(data);
+                    break;
+                case EndFW.TYPE_ID:
+                    final EndFW end = endRO.wrap(buffer, index, index + length);
+                    onNetworkEnd(end);
+                    break;
+                case AbortFW.TYPE_ID:
+                    final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                    onNetworkAbort(abort);
+                    break;
+                case ResetFW.TYPE_ID:
+                    final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                    onNetworkReset(reset);
+                    break;
+                case WindowFW.TYPE_ID:
+                    final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                    onNetworkWindow(window);
+                    break;
+                case SignalFW.TYPE_ID:
+                    final SignalFW signal = signalRO.wrap(buffer, index, index + length);
+                    onNetworkSignal(signal);
+                    break;
+                default:
+                    break;
+                }
+            }
+
+            private void onNetworkBegin(
+                BeginFW begin)
+            {
+                final long traceId = begin.traceId();
+
+                authorization = begin.authorization();
+                state = KafkaState.openingReply(state);
+
+                doNetworkWindow(traceId, 0L, 0, 0, decodePool.slotCapacity());
+            }
+
+            private long networkBytesReceived;
+
+            private void onNetworkData(
+                DataFW data)
+            {
+                final long sequence = data.sequence();
+                final long acknowledge = data.acknowledge();
+                final long traceId = data.traceId();
+                final long budgetId = data.budgetId();
+
+                networkBytesReceived += Math.max(data.length(), 0);
+
+                authorization = data.authorization();
+
+                assert acknowledge <= sequence;
+                assert sequence >= replySeq;
+
+                replySeq = sequence + data.reserved();
+
+                assert replyAck <= replySeq;
+
+                if (replySeq > replyAck + replyMax)
+                {
+                    cleanupNetwork(traceId);
+                }
+                else
+                {
+                    if (decodeSlot == NO_SLOT)
+                    {
+                        decodeSlot = decodePool.acquire(initialId);
+                    }
+
+                    if (decodeSlot == NO_SLOT)
+                    {
+                        cleanupNetwork(traceId);
+                    }
+                    else
+                    {
+                        final OctetsFW payload = data.payload();
+                        int reserved = data.reserved();
+                        int offset = payload.offset();
+                        int limit = payload.limit();
+
+                        final MutableDirectBuffer buffer = decodePool.buffer(decodeSlot);
+                        buffer.putBytes(decodeSlotOffset, payload.buffer(), offset, limit - offset);
+                        decodeSlotOffset += limit - offset;
+                        decodeSlotReserved += reserved;
+
+                        offset = 0;
+                        limit = decodeSlotOffset;
+                        reserved = decodeSlotReserved;
+
+                        decodeNetwork(traceId, authorization, budgetId, reserved, buffer, offset, limit);
+                    }
+                }
+            }
+
+            private void onNetworkEnd(
+                EndFW end)
+            {
+                final long traceId = end.traceId();
+
+                state = KafkaState.closingReply(state);
+
+                if (!isApplicationReplyOpen())
+                {
                     cleanupNetwork(traceId);
                 }
+                else if (decodeSlot == NO_SLOT)
+                {
+                    doApplicationEnd(traceId);
+                }
+            }
+
+            private void onNetworkAbort(
+                AbortFW abort)
+            {
+                final long traceId = abort.traceId();
+
+                if (KafkaConfiguration.DEBUG)
+                {
+                    System.out.format("[client] [0x%016x] %s[%s] FETCH aborted (%d bytes)\n",
+                        replyId, topic, partitionId, networkBytesReceived);
+                }
+
+                state = KafkaState.closedReply(state);
+
+                cleanupNetwork(traceId);
+            }
+
+            private void onNetworkReset(
+                ResetFW reset)
+            {
+                final long traceId = reset.traceId();
+
+                if (KafkaConfiguration.DEBUG)
+                {
+                    System.out.format("[client] [0x%016x] %s[%d] FETCH reset (%d bytes)\n",
+                        replyId, topic, partitionId, networkBytesReceived);
+                }
+
+                state = KafkaState.closedInitial(state);
+
+                cleanupNetwork(traceId);
+            }
+
+            private void onNetworkWindow(
+                WindowFW window)
+            {
+                final long sequence = window.sequence();
+                final long acknowledge = window.acknowledge();
+                final int maximum = window.maximum();
+                final long traceId = window.traceId();
+                final long budgetId = window.budgetId();
+                final int padding = window.padding();
+
+                authorization = window.authorization();
+
+                assert acknowledge <= sequence;
+                assert sequence <= initialSeq;
+                assert acknowledge >= initialAck;
+                assert maximum + acknowledge >= initialMax + initialAck;
+
+                this.initialAck = acknowledge;
+                this.initialMax = maximum;
+                this.initialPad = padding;
+                this.initialBudgetId = budgetId;
+
+                assert initialAck <= initialSeq;
+
+                state = KafkaState.openedInitial(state);
+
+                if (encodeSlot != NO_SLOT)
+                {
+                    final MutableDirectBuffer buffer = encodePool.buffer(encodeSlot);
+                    final int limit = encodeSlotOffset;
+
+                    encodeNetwork(encodeSlotTraceId, authorization, budgetId, buffer, 0, limit);
+                }
+
+                doEncodeRequestIfNecessary(traceId, budgetId);
+            }
+
+            private void onNetworkSignal(
+                SignalFW signal)
+            {
+                final long traceId = signal.traceId();
+                final int signalId = signal.signalId();
+
+                if (signalId == SIGNAL_NEXT_REQUEST)
+                {
+                    doEncodeRequestIfNecessary(traceId, initialBudgetId);
+                }
+                else if (signalId == SIGNAL_REROUTE &&
+                    !KafkaState.initialClosing(state) &&
+                    !KafkaState.replyClosing(state))
+                {
+                    onNetworkReroute(traceId, rerouteId);
+                }
+            }
+
+            private void doNetworkBegin(
+                long traceId,
+                long authorization,
+                long affinity)
+            {
+                state = KafkaState.openingInitial(state);
+
+                if (fetchSession && nextOffset != OFFSET_LIVE && nextOffset != OFFSET_HISTORICAL)
+                {
+                    doFetchSessionJoin(traceId, authorization);
+                }
+                else
+                {
+                    doNetworkConnect(traceId, authorization, affinity);
+                }
+            }
+
+            private void doNetworkConnect(
+                long traceId,
+                long authorization,
+                long affinity)
+            {
+                if (client.sasl != null)
+                {
+                    client.encoder = client.encodeSaslHandshakeRequest;
+                    client.decoder = decodeSaslHandshakeResponse;
+                }
+                else if (nextOffset == OFFSET_LIVE || nextOffset == OFFSET_HISTORICAL)
+                {
+                    client.encoder = client.encodeOffsetsRequest;
+                    client.decoder = decodeOffsetsResponse;
+                }
+
+                Consumer<OctetsFW.Builder> extension = EMPTY_EXTENSION;
+
+                if (server != null)
+                {
+                    extension = e -> e.set((b, o, l) -> proxyBeginExRW.wrap(b, o, l)
+                                                                      .typeId(proxyTypeId)
+                                                                      .address(a -> a.inet(i -> i.protocol(p -> p.set(STREAM))
+                                                                                                 .source("0.0.0.0")
+                                                                                                 .destination(server.host)
+                                                                                                 .sourcePort(0)
+                                                                                                 .destinationPort(server.port)))
+                                                                      .infos(i -> i.item(ii -> ii.authority(server.host)))
+                                                                      .build()
+                                                                      .sizeof());
+                }
+
+                network = newStream(this::onNetworkIfAttached, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization, affinity, extension);
+            }
+
+            private void doFetchSessionJoin(
+                long traceId,
+                long authorization)
+            {
+                final String key = String.format("%d:%d:%d:%d:%s", originId, routedId, authorization, brokerId, isolation);
+                final KafkaFetchSession joining = fetchSessions.computeIfAbsent(key,
+                    k -> new KafkaFetchSession(originId, routedId, k, server, sasl, brokerId, isolation, rack));
+
+                this.authorization = authorization;
+                this.network = MessageConsumer.NOOP;
+
+                joining.doJoin(traceId, authorization, this);
+            }
+
+            @Override
+            protected void doNetworkData(
+                long traceId,
+                long budgetId,
+                DirectBuffer buffer,
+                int offset,
+                int limit)
+            {
+                if (encodeSlot != NO_SLOT)
+                {
+                    final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
+                    encodeBuffer.putBytes(encodeSlotOffset, buffer, offset, limit - offset);
+                    encodeSlotOffset += limit - offset;
+                    encodeSlotTraceId = traceId;
+
+                    buffer = encodeBuffer;
+                    offset = 0;
+                    limit = encodeSlotOffset;
+                }
+
+                encodeNetwork(traceId, authorization, budgetId, buffer, offset, limit);
+            }
+
+            private void doNetworkEndAfterFlush(
+                long traceId,
+                long authorization)
+            {
+                state = KafkaState.closingInitial(state);
+
+                if (encodeSlot == NO_SLOT)
+                {
+                    doNetworkEnd(traceId, authorization);
+                }
+            }
+
+            private void doNetworkEnd(
+                long traceId,
+                long authorization)
+            {
+                if (session != null)
+                {
+                    session.doLeave(traceId, this);
+
+                    if (isApplicationReplyOpen() && !KafkaState.replyClosed(stream.state))
+                    {
+                        doApplicationEnd(traceId);
+                    }
+                }
+
+                state = KafkaState.closedInitial(state);
+                doEnd(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization, EMPTY_OCTETS);
+
+                cleanupEncodeSlotIfNecessary();
+            }
+
+            private void doNetworkDetach(
+                long traceId)
+            {
+                doNetworkResetIfNecessary(traceId);
+
+                if (!KafkaState.initialClosed(state))
+                {
+                    doNetworkEnd(traceId, authorization);
+                }
+            }
+
+            private void doNetworkAbortIfNecessary(
+                long traceId)
+            {
+                if (session != null)
+                {
+                    session.doLeave(traceId, this);
+                }
+
+                if (!KafkaState.initialClosed(state))
+                {
+                    doAbort(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                            traceId, authorization, EMPTY_OCTETS);
+                    state = KafkaState.closedInitial(state);
+                }
+
+                cleanupEncodeSlotIfNecessary();
+            }
+
+            private void doNetworkResetIfNecessary(
+                long traceId)
+            {
+                if (session != null)
+                {
+                    session.doLeave(traceId, this);
+                }
+
+                if (!KafkaState.replyClosed(state))
+                {
+                    doReset(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                            traceId, authorization, EMPTY_OCTETS);
+                    state = KafkaState.closedReply(state);
+                }
+
+                cleanupDecodeSlotIfNecessary();
+                cleanupDecompressSlotIfNecessary();
+            }
+
+            private void doNetworkWindow(
+                long traceId,
+                long budgetId,
+                int minReplyNoAck,
+                int minReplyPad,
+                int minReplyMax)
+            {
+                final long newReplyAck = Math.max(replySeq - minReplyNoAck, replyAck);
+
+                if (newReplyAck > replyAck || minReplyMax > replyMax || !KafkaState.replyOpened(state))
+                {
+                    replyAck = newReplyAck;
+                    assert replyAck <= replySeq;
+
+                    replyMax = minReplyMax;
+
+                    doWindow(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                            traceId, authorization, budgetId, minReplyPad);
+
+                    state = KafkaState.openedReply(state);
+                }
+            }
+
+            private void doEncodeRequestIfNecessary(
+                long traceId,
+                long budgetId)
+            {
+                if (nextRequestId == nextResponseId)
+                {
+                    encoder.accept(traceId, budgetId);
+                }
+            }
+
+            @Override
+            protected void doDecodeSaslHandshakeResponse(
+                long traceId)
+            {
+                decoder = decodeSaslHandshakeResponse;
+            }
+
+            @Override
+            protected void doDecodeSaslHandshake(
+                long traceId)
+            {
+                decoder = decodeSaslHandshake;
+            }
+
+            @Override
+            protected void doDecodeSaslHandshakeMechanisms(
+                long traceId)
+            {
+                decoder = decodeSaslHandshakeMechanisms;
+            }
+
+            @Override
+            protected void doDecodeSaslHandshakeMechansim(
+                long traceId)
+            {
+                decoder = decodeSaslHandshakeMechanism;
+            }
+
+            @Override
+            protected void doDecodeSaslAuthenticateResponse(
+                long traceId)
+            {
+                decoder = decodeSaslAuthenticateResponse;
+            }
+
+            @Override
+            protected void doDecodeSaslAuthenticate(
+                long traceId)
+            {
+                decoder = decodeSaslAuthenticate;
+            }
+
+            private void doEncodeOffsetsRequest(
+                long traceId,
+                long budgetId)
+            {
+                final MutableDirectBuffer encodeBuffer = writeBuffer;
+                final int encodeOffset = DataFW.FIELD_OFFSET_PAYLOAD;
+                final int encodeLimit = encodeBuffer.capacity();
+
+                int encodeProgress = encodeOffset;
+
+                final RequestHeaderFW requestHeader = requestHeaderRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .length(0)
+                        .apiKey(OFFSETS_API_KEY)
+                        .apiVersion(OFFSETS_API_VERSION)
+                        .correlationId(0)
+                        .clientId(clientId)
+                        .build();
+
+                encodeProgress = requestHeader.limit();
+
+                final OffsetsRequestFW offsetsRequest = offsetsRequestRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .isolationLevel(i -> i.set(READ_UNCOMMITTED))
+                        .topicCount(1)
+                        .build();
+
+                encodeProgress = offsetsRequest.limit();
+
+                final OffsetsTopicRequestFW topicRequest = offsetsTopicRequestRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .name(topic)
+                        .partitionCount(1)
+                        .build();
+
+                encodeProgress = topicRequest.limit();
+
+                final long timestamp = nextOffset;
+
+                assert timestamp < 0;
+
+                final OffsetsPartitionRequestFW partitionRequest = offsetsPartitionRequestRW
+                        .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .partitionId(partitionId)
+                        .timestamp(timestamp)
+                        .build();
+
+                encodeProgress = partitionRequest.limit();
+
+                final int requestId = nextRequestId++;
+                final int requestSize = encodeProgress - encodeOffset - RequestHeaderFW.FIELD_OFFSET_API_KEY;
+
+                requestHeaderRW.wrap(encodeBuffer, requestHeader.offset(), requestHeader.limit())
+                        .length(requestSize)
+                        .apiKey(requestHeader.apiKey())
+                        .apiVersion(requestHeader.apiVersion())
+                        .correlationId(requestId)
+                        .clientId(requestHeader.clientId())
+                        .build();
+
+                if (KafkaConfiguration.DEBUG)
+                {
+                    System.out.format("[0x%016x] %s[%d] OFFSETS %d\n", replyId, topic, partitionId, timestamp);
+                }
+
+                doNetworkData(traceId, budgetId, encodeBuffer, encodeOffset, encodeProgress);
+
+                this.decoder = decodeOffsetsResponse;
+            }
+
+            private void doEncodeFetchRequest(
+                long traceId,
+                long budgetId)
+            {
+                final MutableDirectBuffer encodeBuffer = writeBuffer;
+                final int encodeOffset = DataFW.FIELD_OFFSET_PAYLOAD;
+                final int encodeLimit = encodeBuffer.capacity();
+
+                int encodeProgress = encodeOffset;
+
+                final RequestHeaderFW requestHeader = requestHeaderRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .length(0)
+                        .apiKey(FETCH_API_KEY)
+                        .apiVersion(apiVersion)
+                        .correlationId(0)
+                        .clientId(clientId)
+                        .build();
+
+                encodeProgress = requestHeader.limit();
+
+                final int maxWaitTimeMillis = !KafkaState.replyOpened(stream.state) ? 0 : fetchMaxWaitMillis;
+
+                if (apiVersion >= FETCH_SESSION_API_VERSION)
+                {
+                    // sessionless full fetch, default sessionId 0 and sessionEpoch -1
+                    final FetchSessionRequestFW fetchRequest = fetchSessionRequestRW
+                            .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                            .maxWaitTimeMillis(maxWaitTimeMillis)
+                            .minBytes(1)
+                            .maxBytes(fetchMaxBytes)
+                            .isolationLevel((byte) isolation.ordinal())
+                            .topicCount(1)
+                            .build();
+
+                    encodeProgress = fetchRequest.limit();
+                }
+                else
+                {
+                    final FetchRequestFW fetchRequest = fetchRequestRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
+                            .maxWaitTimeMillis(maxWaitTimeMillis)
+                            .minBytes(1)
+                            .maxBytes(fetchMaxBytes)
+                            .isolationLevel((byte) isolation.ordinal())
+                            .topicCount(1)
+                            .build();
+
+                    encodeProgress = fetchRequest.limit();
+                }
+
+                final TopicRequestFW topicRequest = fetchTopicRequestRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .name(topic)
+                        .partitionCount(1)
+                        .build();
+
+                encodeProgress = topicRequest.limit();
+
+                if (apiVersion >= FETCH_RACK_API_VERSION)
+                {
+                    final LeaderEpochPartitionRequestFW partitionRequest = fetchLeaderEpochPartitionRequestRW
+                            .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                            .partitionId(partitionId)
+                            .fetchOffset(nextOffset)
+                            .maxBytes(partitionMaxBytes)
+                            .build();
+
+                    encodeProgress = partitionRequest.limit();
+                }
+                else
+                {
+                    final PartitionRequestFW partitionRequest = fetchPartitionRequestRW
+                            .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                            .partitionId((int) partitionId)
+                            .fetchOffset(nextOffset)
+                            .maxBytes(partitionMaxBytes)
+                            .build();
+
+                    encodeProgress = partitionRequest.limit();
+                }
+
+                if (apiVersion >= FETCH_SESSION_API_VERSION)
+                {
+                    final ForgottenTopicsRequestFW forgottenTopics = forgottenTopicsRequestRW
+                            .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                            .build();
+
+                    encodeProgress = forgottenTopics.limit();
+                }
+
+                if (apiVersion >= FETCH_RACK_API_VERSION)
+                {
+                    final RackRequestFW rackRequest = fetchRackRequestRW
+                            .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                            .rackId(rack)
+                            .build();
+
+                    encodeProgress = rackRequest.limit();
+                }
+
+                final int requestId = nextRequestId++;
+                final int requestSize = encodeProgress - encodeOffset - RequestHeaderFW.FIELD_OFFSET_API_KEY;
+
+                requestHeaderRW.wrap(encodeBuffer, requestHeader.offset(), requestHeader.limit())
+                        .length(requestSize)
+                        .apiKey(requestHeader.apiKey())
+                        .apiVersion(requestHeader.apiVersion())
+                        .correlationId(requestId)
+                        .clientId(requestHeader.clientId())
+                        .build();
+
+                if (KafkaConfiguration.DEBUG)
+                {
+                    System.out.format("[0x%016x] %s[%d] FETCH %d\n", replyId, topic, partitionId, nextOffset);
+                }
+
+                doNetworkData(traceId, budgetId, encodeBuffer, encodeOffset, encodeProgress);
+
+                client.decodeRecordBatchLastOffset = nextOffset - 1;
+
+                this.decoder = decodeFetchResponse;
+            }
+
+            private void doEncodeFetchSessionJoin(
+                long traceId,
+                long budgetId)
+            {
+                if (!KafkaState.initialClosing(state))
+                {
+                    onNetworkReroute(traceId, brokerId);
+                }
+            }
+
+            private void encodeNetwork(
+                long traceId,
+                long authorization,
+                long budgetId,
+                DirectBuffer buffer,
+                int offset,
+                int limit)
+            {
+                final int maxLength = limit - offset;
+                final int initialWin = initialMax - (int)(initialSeq - initialAck);
+                final int length = Math.max(Math.min(initialWin - initialPad, maxLength), 0);
+
+                if (length > 0)
+                {
+                    final int reserved = length + initialPad;
+
+                    doData(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                            traceId, authorization, budgetId, reserved, buffer, offset, length, EMPTY_OCTETS);
+
+                    initialSeq += reserved;
+
+                    assert initialAck <= initialSeq;
+                }
+
+                final int remaining = maxLength - length;
+                if (remaining > 0)
+                {
+                    if (encodeSlot == NO_SLOT)
+                    {
+                        encodeSlot = encodePool.acquire(initialId);
+                    }
+
+                    if (encodeSlot == NO_SLOT)
+                    {
+                        cleanupNetwork(traceId);
+                    }
+                    else
+                    {
+                        final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
+                        encodeBuffer.putBytes(0, buffer, offset + length, remaining);
+                        encodeSlotOffset = remaining;
+                    }
+                }
+                else
+                {
+                    cleanupEncodeSlotIfNecessary();
+
+                    if (KafkaState.initialClosing(state))
+                    {
+                        doNetworkEnd(traceId, authorization);
+                    }
+                }
+            }
+
+            private void decodeNetworkIfNecessary(
+                long traceId)
+            {
+                if (session != null)
+                {
+                    session.decodeNetworkIfNecessary(traceId);
+                }
+                else if (decodeSlot != NO_SLOT)
+                {
+                    final MutableDirectBuffer buffer = decodePool.buffer(decodeSlot);
+                    final long budgetId = 0L; // TODO
+                    final int offset = 0;
+                    final int limit = decodeSlotOffset;
+                    final int reserved = decodeSlotReserved;
+
+                    decodeNetwork(traceId, authorization, budgetId, reserved, buffer, offset, limit);
+                }
+            }
+
+            private void decodeNetwork(
+                long traceId,
+                long authorization,
+                long budgetId,
+                int reserved,
+                MutableDirectBuffer buffer,
+                int offset,
+                int limit)
+            {
+                KafkaFetchClientDecoder previous = null;
+                int progress = offset;
+                while (progress <= limit && previous != decoder)
+                {
+                    previous = decoder;
+                    progress = decoder.decode(this, traceId, authorization, budgetId, reserved, buffer, offset, progress, limit);
+                }
+
+                if (progress < limit)
+                {
+                    if (decodeSlot == NO_SLOT)
+                    {
+                        decodeSlot = decodePool.acquire(initialId);
+                    }
+
+                    if (decodeSlot == NO_SLOT)
+                    {
+                        cleanupNetwork(traceId);
+                    }
+                    else
+                    {
+                        final MutableDirectBuffer decodeBuffer = decodePool.buffer(decodeSlot);
+                        decodeBuffer.putBytes(0, buffer, progress, limit - progress);
+                        decodeSlotOffset = limit - progress;
+                        decodeSlotReserved = (int) ((long) (limit - progress) * reserved / (limit - offset));
+                        assert decodeSlotReserved >= 0;
+                    }
+
+                    doNetworkWindow(traceId, budgetId, decodeSlotOffset, 0, replyMax);
+                }
+                else
+                {
+                    cleanupDecodeSlotIfNecessary();
+
+                    if (KafkaState.replyClosing(state))
+                    {
+                        doApplicationEnd(traceId);
+                    }
+                    else if (reserved > 0)
+                    {
+                        doNetworkWindow(traceId, budgetId, 0, 0, replyMax);
+                    }
+                }
+            }
+
+            @Override
+            protected void onDecodeSaslHandshakeResponse(
+                long traceId,
+                long authorization,
+                int errorCode)
+            {
+                switch (errorCode)
+                {
+                case ERROR_NONE:
+                    client.encoder = client.encodeSaslAuthenticateRequest;
+                    client.decoder = decodeSaslAuthenticateResponse;
+                    break;
+                default:
+                    cleanupApplication(traceId, errorCode);
+                    doNetworkEnd(traceId, authorization);
+                    break;
+                }
+            }
+
+            @Override
+            protected void onDecodeSaslAuthenticateResponse(
+                long traceId,
+                long authorization,
+                int errorCode)
+            {
+                switch (errorCode)
+                {
+                case ERROR_NONE:
+                    if (nextOffset == OFFSET_LIVE || nextOffset == OFFSET_HISTORICAL)
+                    {
+                        client.encoder = client.encodeOffsetsRequest;
+                        client.decoder = decodeOffsetsResponse;
+                    }
+                    else
+                    {
+                        client.encoder = client.encodeFetchRequest;
+                        client.decoder = decodeFetchResponse;
+                    }
+                    break;
+                default:
+                    cleanupApplication(traceId, errorCode);
+                    doNetworkEnd(traceId, authorization);
+                    break;
+                }
+            }
+
+            private void onDecodeOffsetsPartition(
+                long traceId,
+                long authorization,
+                int errorCode,
+                int partitionId,
+                long partitionOffset)
+            {
+                switch (errorCode)
+                {
+                case ERROR_NONE:
+                    assert partitionId == this.partitionId;
+                    this.nextOffset = partitionOffset;
+                    break;
+                default:
+                    onDecodeResponseErrorCode(traceId, originId, errorCode);
+                    cleanupApplication(traceId, errorCode);
+                    doNetworkEnd(traceId, authorization);
+                    break;
+                }
+            }
+
+            private void onDecodeFetchPartition(
+                long traceId,
+                long authorization,
+                int partitionId,
+                int errorCode)
+            {
+                if (brokerId != leaderId &&
+                    (errorCode == ERROR_NOT_LEADER_FOR_PARTITION || errorCode == ERROR_OFFSET_OUT_OF_RANGE))
+                {
+                    assert partitionId == this.partitionId;
+                    topicReplicas.remove(partitionId);
+                    rerouteId = leaderId;
+                }
+                else
+                {
+                    switch (errorCode)
+                    {
+                    case ERROR_NONE:
+                        assert partitionId == this.partitionId;
+                        doApplicationWindow(traceId, 0L, 0, 0, 0);
+                        doApplicationBeginIfNecessary(traceId, authorization, topic, partitionId,
+                                nextOffset, stableOffset, latestOffset, isolation);
+                        break;
+                    case ERROR_OFFSET_OUT_OF_RANGE:
+                        assert partitionId == this.partitionId;
+                        // TODO: recover at EARLIEST or LATEST ?
+                        nextOffset = OFFSET_HISTORICAL;
+                        if (session != null)
+                        {
+                            // resolve offset on a dedicated connection, then rejoin the session
+                            onNetworkReroute(traceId, brokerId);
+                        }
+                        else
+                        {
+                            client.encoder = client.encodeOffsetsRequest;
+                            doEncodeRequestIfNecessary(traceId, initialBudgetId);
+                        }
+                        break;
+                    default:
+                        if (errorCode == ERROR_NOT_LEADER_FOR_PARTITION)
+                        {
+                            final long metaInitialId = clientRoute.metaInitialId;
+                            if (metaInitialId != 0L)
+                            {
+                                final MessageConsumer metaInitial = supplyReceiver.apply(metaInitialId);
+                                // TODO: improve coordination with meta stream
+                                doFlush(metaInitial, originId, routedId, metaInitialId, 0, 0, 0,
+                                        traceId, authorization, 0, EMPTY_OCTETS);
+                            }
+                        }
+                        else
+                        {
+                            onDecodeResponseErrorCode(traceId, originId, errorCode);
+                        }
+
+                        cleanupApplication(traceId, errorCode);
+                        doNetworkEnd(traceId, authorization);
+                        break;
+                    }
+                }
+            }
+
+            private void onDecodeFetchPreferredReplica(
+                int replicaId)
+            {
+                if (replicaId != NO_PREFERRED_REPLICA &&
+                    replicaId != brokerId &&
+                    clientRoute.servers.containsKey(replicaId))
+                {
+                    if (replicaId == leaderId)
+                    {
+                        topicReplicas.remove(partitionId);
+                    }
+                    else
+                    {
+                        topicReplicas.put(partitionId, replicaId);
+                    }
+
+                    rerouteId = replicaId;
+                }
+            }
+
+            private void onDecodeResponseErrorCode(
+                long traceId,
+                long originId,
+                int errorCode)
+            {
+                super.onDecodeResponseErrorCode(traceId, originId, FETCH_API_KEY, apiVersion, errorCode);
+            }
+
+            private void onDecodeFetchRecordBatchFailed(
+                long traceId,
+                long authorization,
+                int errorCode)
+            {
+                cleanupDecompressSlotIfNecessary();
+                cleanupApplication(traceId, errorCode);
+                doNetworkEnd(traceId, authorization);
+            }
+
+            private void onDecodeFetchTransactionAbort(
+                long traceId,
+                long authorization,
+                long offset,
+                long producerId)
+            {
+                this.nextOffset = offset + 1;
+
+                final KafkaFlushExFW kafkaFlushEx = kafkaFlushExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                        .typeId(kafkaTypeId)
+                        .fetch(f -> f
+                            .partition(p -> p
+                                .partitionId(decodePartitionId)
+                                .partitionOffset(offset)
+                                .stableOffset(stableOffset)
+                                .latestOffset(latestOffset))
+                            .transactionsItem(t -> t
+                                .result(r -> r.set(KafkaTransactionResult.ABORT))
+                                .producerId(producerId)))
+                        .build();
+
+                doApplicationFlush(traceId, authorization, 0, kafkaFlushEx);
+            }
+
+            private void onDecodeFetchTransactionCommit(
+                long traceId,
+                long authorization,
+                long offset,
+                long producerId)
+            {
+                this.nextOffset = offset + 1;
+
+                final KafkaFlushExFW kafkaFlushEx = kafkaFlushExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                        .typeId(kafkaTypeId)
+                        .fetch(f -> f
+                            .partition(p -> p
+                                .partitionId(decodePartitionId)
+                                .partitionOffset(offset)
+                                .stableOffset(stableOffset)
+                                .latestOffset(latestOffset))
+                            .transactionsItem(t -> t
+                                .result(r -> r.set(KafkaTransactionResult.COMMIT))
+                                .producerId(producerId)))
+                        .build();
+
+                doApplicationFlush(traceId, authorization, 0, kafkaFlushEx);
+            }
+
+            private void onDecodeFetchRecord(
+                long traceId,
+                boolean aborted,
+                int reserved,
+                long offset,
+                long timestamp,
+                long producerId,
+                OctetsFW key,
+                OctetsFW value,
+                int headerCount,
+                DirectBuffer headers)
+            {
+                this.nextOffset = offset + 1;
+
+                final KafkaDataExFW kafkaDataEx = kafkaDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                        .typeId(kafkaTypeId)
+                        .fetch(f ->
+                        {
+                            f.timestamp(timestamp);
+                            f.producerId(producerId);
+                            f.partition(p -> p
+                                .partitionId(decodePartitionId)
+                                .partitionOffset(offset)
+                                .stableOffset(stableOffset)
+                                .latestOffset(latestOffset));
+                            f.key(k -> setKey(k, key));
+                            final int headersLimit = headers.capacity();
+                            int headerProgress = 0;
+                            for (int headerIndex = 0; headerIndex < headerCount; headerIndex++)
+                            {
+                                final MessageHeaderFW header = messageHeaderRO.wrap(headers, headerProgress, headersLimit);
+                                f.headersItem(i -> setHeader(i, header.key(), header.value()));
+                                headerProgress = header.limit();
+                            }
+                        })
+                        .build();
+                final int flags = aborted ? FLAG_INIT | FLAG_FIN | FLAG_SKIP : FLAG_INIT | FLAG_FIN;
+                doApplicationData(traceId, authorization, flags, reserved, value, kafkaDataEx);
+            }
+
+            private void onDecodeFetchRecordValueInit(
+                long traceId,
+                boolean aborted,
+                int reserved,
+                int deferred,
+                long offset,
+                long timestamp,
+                int headersSizeMax,
+                long producerId,
+                OctetsFW key,
+                OctetsFW valueInit)
+            {
+                final KafkaDataExFW kafkaDataEx = kafkaDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                        .typeId(kafkaTypeId)
+                        .fetch(f -> f.deferred(deferred)
+                                     .timestamp(timestamp)
+                                     .headersSizeMax(headersSizeMax)
+                                     .producerId(producerId)
+                                     .partition(p -> p.partitionId(decodePartitionId)
+                                                      .partitionOffset(offset)
+                                                      .stableOffset(stableOffset)
+                                                      .latestOffset(latestOffset))
+                                     .key(k -> setKey(k, key)))
+                        .build();
+
+                final int flags = aborted ? FLAG_INIT | FLAG_SKIP : FLAG_INIT;
+                doApplicationData(traceId, authorization, flags, reserved, valueInit, kafkaDataEx);
+            }
+
+            private void onDecodeFetchRecordValueCont(
+                long traceId,
+                int reserved,
+                OctetsFW value)
+            {
+                doApplicationData(traceId, authorization, FLAG_CONT, reserved, value, EMPTY_OCTETS);
+            }
+
+            private void onDecodeFetchRecordValueFin(
+                long traceId,
+                int reserved,
+                long offset,
+                OctetsFW value,
+                int headerCount,
+                DirectBuffer headers)
+            {
+                this.nextOffset = offset + 1;
+
+                final KafkaDataExFW kafkaDataEx = kafkaDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                        .typeId(kafkaTypeId)
+                        .fetch(f ->
+                        {
+                            f.partition(p -> p
+                                .partitionId(decodePartitionId)
+                                .partitionOffset(offset)
+                                .stableOffset(stableOffset)
+                                .latestOffset(latestOffset));
+                            final int headersLimit = headers.capacity();
+                            int headerProgress = 0;
+                            for (int headerIndex = 0; headerIndex < headerCount; headerIndex++)
+                            {
+                                final MessageHeaderFW header = messageHeaderRO.wrap(headers, headerProgress, headersLimit);
+                                f.headersItem(i -> setHeader(i, header.key(), header.value()));
+                                headerProgress = header.limit();
+                            }
+                        })
+                        .build();
+
+                doApplicationData(traceId, authorization, FLAG_FIN, reserved, value, kafkaDataEx);
+            }
+
+            private void onIgnoreRecordSet(
+                long traceId)
+            {
+                doFlushPartitionOffsetIfNecessary(traceId, authorization);
+            }
+
+            @Override
+            protected void onDecodeSaslResponse(
+                long traceId)
+            {
+                nextResponseId++;
+                signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+            }
+
+            private void onDecodeFetchResponse(
+                long traceId)
+            {
+                nextResponseId++;
+
+                if (topicPartitions.get(partitionId) == leaderId)
+                {
+                    final int signalId = rerouteId != NO_BROKER_ID ? SIGNAL_REROUTE : SIGNAL_NEXT_REQUEST;
+                    doApplicationFlushIfNecessary(traceId, authorization);
+                    signaler.signalNow(originId, routedId, initialId, traceId, signalId, 0);
+                }
                 else
                 {
-                    if (decodeSlot == NO_SLOT)
-                    {
-                        decodeSlot = decodePool.acquire(initialId);
-                    }
+                    cleanupApplication(traceId, ERROR_NOT_LEADER_FOR_PARTITION);
+                    doNetworkEnd(traceId, authorization);
+                }
+            }
 
-                    if (decodeSlot == NO_SLOT)
+            private void onDecodeFetchSessionResponse(
+                long traceId)
+            {
+                if (topicPartitions.get(partitionId) == leaderId)
+                {
+                    doApplicationFlushIfNecessary(traceId, authorization);
+
+                    if (rerouteId != NO_BROKER_ID)
                     {
-                        cleanupNetwork(traceId);
+                        onNetworkReroute(traceId, rerouteId);
                     }
-                    else
-                    {
-                        final OctetsFW payload = data.payload();
-                        int reserved = data.reserved();
-                        int offset = payload.offset();
-                        int limit = payload.limit();
+                }
+                else
+                {
+                    cleanupApplication(traceId, ERROR_NOT_LEADER_FOR_PARTITION);
+                    doNetworkEnd(traceId, authorization);
+                }
+            }
 
-                        final MutableDirectBuffer buffer = decodePool.buffer(decodeSlot);
-                        buffer.putBytes(decodeSlotOffset, payload.buffer(), offset, limit - offset);
-                        decodeSlotOffset += limit - offset;
-                        decodeSlotReserved += reserved;
+            private void cleanupNetwork(
+                long traceId)
+            {
+                doNetworkResetIfNecessary(traceId);
+                doNetworkAbortIfNecessary(traceId);
+
+                cleanupApplication(traceId, EMPTY_OCTETS);
+            }
+
+            private void cleanupDecodeSlotIfNecessary()
+            {
+                if (decodeSlot != NO_SLOT)
+                {
+                    decodePool.release(decodeSlot);
+                    decodeSlot = NO_SLOT;
+                    decodeSlotOffset = 0;
+                    decodeSlotReserved = 0;
+                }
+            }
+
+            private void cleanupDecompressSlotIfNecessary()
+            {
+                if (decompressSlot != NO_SLOT)
+                {
+                    decompressPool.release(decompressSlot);
+                    decompressSlot = NO_SLOT;
+                    decompressProgress = 0;
+                    decompressLimit = 0;
+                }
+            }
+
+            private void cleanupEncodeSlotIfNecessary()
+            {
+                if (encodeSlot != NO_SLOT)
+                {
+                    encodePool.release(encodeSlot);
+                    encodeSlot = NO_SLOT;
+                    encodeSlotOffset = 0;
+                    encodeSlotTraceId = 0;
+                }
+            }
+        }
+    }
+
+    private final class KafkaFetchSession extends KafkaSaslClient
+    {
+        private final LongLongConsumer encodeSaslHandshakeRequest = this::doEncodeSaslHandshakeRequest;
+        private final LongLongConsumer encodeSaslAuthenticateRequest = this::doEncodeSaslAuthenticateRequest;
+        private final LongLongConsumer encodeFetchRequest = this::doEncodeFetchRequest;
+
+        private final String key;
+        private final long brokerId;
+        private final KafkaIsolation isolation;
+        private final String rack;
+        private final short apiVersion;
+        private final List<KafkaFetchStream.KafkaFetchClient> members;
+        private final List<KafkaFetchStream.KafkaFetchClient> decodedMembers;
+        private final Map<String, Int2ObjectHashMap<KafkaFetchStream.KafkaFetchClient>> membersByTopic;
+        private final Map<String, IntHashSet> forgottenByTopic;
+
+        private MessageConsumer network;
+        private int state;
+        private long authorization;
+
+        private long initialSeq;
+        private long initialAck;
+        private int initialMax;
+        private int initialPad;
+        private long initialBudgetId;
+
+        private long replySeq;
+        private long replyAck;
+        private int replyMax;
+
+        private int encodeSlot = NO_SLOT;
+        private int encodeSlotOffset;
+        private long encodeSlotTraceId;
+
+        private int decodeSlot = NO_SLOT;
+        private int decodeSlotOffset;
+        private int decodeSlotReserved;
 
-                        offset = 0;
-                        limit = decodeSlotOffset;
-                        reserved = decodeSlotReserved;
+        private int sessionId = FETCH_SESSION_ID_NONE;
+        private int sessionEpoch = FETCH_SESSION_EPOCH_INITIAL;
 
-                        decodeNetwork(traceId, authorization, budgetId, reserved, buffer, offset, limit);
-                    }
-                }
-            }
+        private int decodableResponseBytes;
+        private int decodableTopics;
+        private int decodablePartitions;
+        private int decodableTransactions;
+        private int decodableRecordSetBytes;
+        private String decodeTopic;
+        private KafkaFetchStream.KafkaFetchClient decoding;
 
-            private void onNetworkEnd(
-                EndFW end)
-            {
-                final long traceId = end.traceId();
+        private int nextResponseId;
 
-                state = KafkaState.closingReply(state);
+        private KafkaFetchSessionDecoder decoder;
+        private LongLongConsumer encoder;
 
-                if (!isApplicationReplyOpen())
-                {
-                    cleanupNetwork(traceId);
-                }
-                else if (decodeSlot == NO_SLOT)
-                {
-                    doApplicationEnd(traceId);
-                }
-            }
+        KafkaFetchSession(
+            long originId,
+            long routedId,
+            String key,
+            KafkaServerConfig server,
+            KafkaSaslConfig sasl,
+            long brokerId,
+            KafkaIsolation isolation,
+            String rack)
+        {
+            super(server, sasl, originId, routedId);
+            this.key = key;
+            this.brokerId = brokerId;
+            this.isolation = isolation;
+            this.rack = rack;
+            this.apiVersion = rack != null ? FETCH_RACK_API_VERSION : FETCH_SESSION_API_VERSION;
+            this.members = new ArrayList<>();
+            this.decodedMembers = new ArrayList<>();
+            this.membersByTopic = new Object2ObjectHashMap<>();
+            this.forgottenByTopic = new Object2ObjectHashMap<>();
+
+            this.encoder = encodeFetchRequest;
+            this.decoder = decodeSessionReject;
+        }
 
-            private void onNetworkAbort(
-                AbortFW abort)
-            {
-                final long traceId = abort.traceId();
+        private void doJoin(
+            long traceId,
+            long authorization,
+            KafkaFetchStream.KafkaFetchClient member)
+        {
+            membersByTopic.computeIfAbsent(member.topic, t -> new Int2ObjectHashMap<>()).put(member.partitionId, member);
+            members.add(member);
 
-                if (KafkaConfiguration.DEBUG)
-                {
-                    System.out.format("[client] [0x%016x] %s[%s] FETCH aborted (%d bytes)\n",
-                        replyId, topic, partitionId, networkBytesReceived);
-                }
+            final IntHashSet forgotten = forgottenByTopic.get(member.topic);
+            if (forgotten != null && forgotten.remove(member.partitionId) && forgotten.isEmpty())
+            {
+                forgottenByTopic.remove(member.topic);
+            }
 
-                state = KafkaState.closedReply(state);
+            member.session = this;
+            member.sessionOffset = NO_SESSION_OFFSET;
 
-                cleanupNetwork(traceId);
+            if (KafkaState.initialOpening(state))
+            {
+                doEncodeRequestIfNecessary(traceId, initialBudgetId);
             }
+            else
+            {
+                doNetworkBegin(traceId, authorization);
+            }
+        }
 
-            private void onNetworkReset(
-                ResetFW reset)
+        private void doLeave(
+            long traceId,
+            KafkaFetchStream.KafkaFetchClient member)
+        {
+            final Int2ObjectHashMap<KafkaFetchStream.KafkaFetchClient> partitions = membersByTopic.get(member.topic);
+            partitions.remove(member.partitionId);
+            if (partitions.isEmpty())
             {
-                final long traceId = reset.traceId();
+                membersByTopic.remove(member.topic);
+            }
+            members.remove(member);
 
-                if (KafkaConfiguration.DEBUG)
-                {
-                    System.out.format("[client] [0x%016x] %s[%d] FETCH reset (%d bytes)\n",
-                        replyId, topic, partitionId, networkBytesReceived);
-                }
+            if (member.sessionOffset != NO_SESSION_OFFSET)
+            {
+                forgottenByTopic.computeIfAbsent(member.topic, t -> new IntHashSet()).add(member.partitionId);
+            }
 
-                state = KafkaState.closedInitial(state);
+            member.session = null;
 
-                cleanupNetwork(traceId);
+            if (members.isEmpty())
+            {
+                fetchSessions.remove(key, this);
+                doEncodeRequestIfNecessary(traceId, initialBudgetId);
             }
+        }
 
-            private void onNetworkWindow(
-                WindowFW window)
+        private KafkaFetchStream.KafkaFetchClient findMember(
+            String topic,
+            int partitionId)
+        {
+            final Int2ObjectHashMap<KafkaFetchStream.KafkaFetchClient> partitions = membersByTopic.get(topic);
+            return partitions != null ? partitions.get(partitionId) : null;
+        }
+
+        private void onNetwork(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
             {
-                final long sequence = window.sequence();
-                final long acknowledge = window.acknowledge();
-                final int maximum = window.maximum();
-                final long traceId = window.traceId();
-                final long budgetId = window.budgetId();
-                final int padding = window.padding();
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onNetworkBegin(begin);
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                onNetworkData(data);
+                break;
+            case EndFW.TYPE_ID:
+                final EndFW end = endRO.wrap(buffer, index, index + length);
+                onNetworkEnd(end);
+                break;
+            case AbortFW.TYPE_ID:
+                final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                onNetworkAbort(abort);
+                break;
+            case ResetFW.TYPE_ID:
+                final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                onNetworkReset(reset);
+                break;
+            case WindowFW.TYPE_ID:
+                final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                onNetworkWindow(window);
+                break;
+            case SignalFW.TYPE_ID:
+                final SignalFW signal = signalRO.wrap(buffer, index, index + length);
+                onNetworkSignal(signal);
+                break;
+            default:
+                break;
+            }
+        }
 
-                authorization = window.authorization();
+        private void onNetworkBegin(
+            BeginFW begin)
+        {
+            final long traceId = begin.traceId();
 
-                assert acknowledge <= sequence;
-                assert sequence <= initialSeq;
-                assert acknowledge >= initialAck;
-                assert maximum + acknowledge >= initialMax + initialAck;
+            authorization = begin.authorization();
+            state = KafkaState.openingReply(state);
 
-                this.initialAck = acknowledge;
-                this.initialMax = maximum;
-                this.initialPad = padding;
-                this.initialBudgetId = budgetId;
+            doNetworkWindow(traceId, 0L, 0, 0, decodePool.slotCapacity());
+        }
 
-                assert initialAck <= initialSeq;
+        private void onNetworkData(
+            DataFW data)
+        {
+            final long sequence = data.sequence();
+            final long acknowledge = data.acknowledge();
+            final long traceId = data.traceId();
+            final long budgetId = data.budgetId();
 
-                state = KafkaState.openedInitial(state);
+            authorization = data.authorization();
 
-                if (encodeSlot != NO_SLOT)
-                {
-                    final MutableDirectBuffer buffer = encodePool.buffer(encodeSlot);
-                    final int limit = encodeSlotOffset;
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
 
-                    encodeNetwork(encodeSlotTraceId, authorization, budgetId, buffer, 0, limit);
-                }
+            replySeq = sequence + data.reserved();
 
-                doEncodeRequestIfNecessary(traceId, budgetId);
-            }
+            assert replyAck <= replySeq;
 
-            private void onNetworkSignal(
-                SignalFW signal)
+            if (replySeq > replyAck + replyMax)
             {
-                final long traceId = signal.traceId();
-                final int signalId = signal.signalId();
-
-                if (signalId == SIGNAL_NEXT_REQUEST)
-                {
-                    doEncodeRequestIfNecessary(traceId, initialBudgetId);
-                }
+                cleanupNetwork(traceId);
             }
-
-            private void doNetworkBegin(
-                long traceId,
-                long authorization,
-                long affinity)
+            else
             {
-                state = KafkaState.openingInitial(state);
-
-                if (client.sasl != null)
-                {
-                    client.encoder = client.encodeSaslHandshakeRequest;
-                    client.decoder = decodeSaslHandshakeResponse;
-                }
-                else if (nextOffset == OFFSET_LIVE || nextOffset == OFFSET_HISTORICAL)
+                if (decodeSlot == NO_SLOT)
                 {
-                    client.encoder = client.encodeOffsetsRequest;
-                    client.decoder = decodeOffsetsResponse;
+                    decodeSlot = decodePool.acquire(initialId);
                 }
 
-                Consumer<OctetsFW.Builder> extension = EMPTY_EXTENSION;
-
-                if (server != null)
+                if (decodeSlot == NO_SLOT)
                 {
-                    extension = e -> e.set((b, o, l) -> proxyBeginExRW.wrap(b, o, l)
-                                                                      .typeId(proxyTypeId)
-                                                                      .address(a -> a.inet(i -> i.protocol(p -> p.set(STREAM))
-                                                                                                 .source("0.0.0.0")
-                                                                                                 .destination(server.host)
-                                                                                                 .sourcePort(0)
-                                                                                                 .destinationPort(server.port)))
-                                                                      .infos(i -> i.item(ii -> ii.authority(server.host)))
-                                                                      .build()
-                                                                      .sizeof());
+                    cleanupNetwork(traceId);
                 }
-
-                network = newStream(this::onNetwork, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, authorization, affinity, extension);
-            }
-
-            @Override
-            protected void doNetworkData(
-                long traceId,
-                long budgetId,
-                DirectBuffer buffer,
-                int offset,
-                int limit)
-            {
-                if (encodeSlot != NO_SLOT)
+                else
                 {
-                    final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
-                    encodeBuffer.putBytes(encodeSlotOffset, buffer, offset, limit - offset);
-                    encodeSlotOffset += limit - offset;
-                    encodeSlotTraceId = traceId;
+                    final OctetsFW payload = data.payload();
+                    int reserved = data.reserved();
+                    int offset = payload.offset();
+                    int limit = payload.limit();
+
+                    final MutableDirectBuffer buffer = decodePool.buffer(decodeSlot);
+                    buffer.putBytes(decodeSlotOffset, payload.buffer(), offset, limit - offset);
+                    decodeSlotOffset += limit - offset;
+                    decodeSlotReserved += reserved;
 
-                    buffer = encodeBuffer;
                     offset = 0;
-                    limit = encodeSlotOffset;
-                }
+                    limit = decodeSlotOffset;
+                    reserved = decodeSlotReserved;
 
-                encodeNetwork(traceId, authorization, budgetId, buffer, offset, limit);
+                    decodeNetwork(traceId, authorization, budgetId, reserved, buffer, offset, limit);
+                }
             }
+        }
 
-            private void doNetworkEndAfterFlush(
-                long traceId,
-                long authorization)
-            {
-                state = KafkaState.closingInitial(state);
+        private void onNetworkEnd(
+            EndFW end)
+        {
+            final long traceId = end.traceId();
 
-                if (encodeSlot == NO_SLOT)
-                {
-                    doNetworkEnd(traceId, authorization);
-                }
-            }
+            state = KafkaState.closedReply(state);
 
-            private void doNetworkEnd(
-                long traceId,
-                long authorization)
-            {
-                state = KafkaState.closedInitial(state);
-                doEnd(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, authorization, EMPTY_OCTETS);
+            cleanupNetwork(traceId);
+        }
 
-                cleanupEncodeSlotIfNecessary();
-            }
+        private void onNetworkAbort(
+            AbortFW abort)
+        {
+            final long traceId = abort.traceId();
 
-            private void doNetworkAbortIfNecessary(
-                long traceId)
-            {
-                if (!KafkaState.initialClosed(state))
-                {
-                    doAbort(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                            traceId, authorization, EMPTY_OCTETS);
-                    state = KafkaState.closedInitial(state);
-                }
+            state = KafkaState.closedReply(state);
 
-                cleanupEncodeSlotIfNecessary();
-            }
+            cleanupNetwork(traceId);
+        }
 
-            private void doNetworkResetIfNecessary(
-                long traceId)
-            {
-                if (!KafkaState.replyClosed(state))
-                {
-                    doReset(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                            traceId, authorization, EMPTY_OCTETS);
-                    state = KafkaState.closedReply(state);
-                }
+        private void onNetworkReset(
+            ResetFW reset)
+        {
+            final long traceId = reset.traceId();
+
+            state = KafkaState.closedInitial(state);
 
-                cleanupDecodeSlotIfNecessary();
-            }
+            cleanupNetwork(traceId);
+        }
 
-            private void doNetworkWindow(
-                long traceId,
-                long budgetId,
-                int minReplyNoAck,
-                int minReplyPad,
-                int minReplyMax)
-            {
-                final long newReplyAck = Math.max(replySeq - minReplyNoAck, replyAck);
+        private void onNetworkWindow(
+            WindowFW window)
+        {
+            final long sequence = window.sequence();
+            final long acknowledge = window.acknowledge();
+            final int maximum = window.maximum();
+            final long traceId = window.traceId();
+            final long budgetId = window.budgetId();
+            final int padding = window.padding();
 
-                if (newReplyAck > replyAck || minReplyMax > replyMax || !KafkaState.replyOpened(state))
-                {
-                    replyAck = newReplyAck;
-                    assert replyAck <= replySeq;
+            authorization = window.authorization();
 
-                    replyMax = minReplyMax;
+            assert acknowledge <= sequence;
+            assert sequence <= initialSeq;
+            assert acknowledge >= initialAck;
+            assert maximum + acknowledge >= initialMax + initialAck;
 
-                    doWindow(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                            traceId, authorization, budgetId, minReplyPad);
+            this.initialAck = acknowledge;
+            this.initialMax = maximum;
+            this.initialPad = padding;
+            this.initialBudgetId = budgetId;
 
-                    state = KafkaState.openedReply(state);
-                }
-            }
+            assert initialAck <= initialSeq;
 
-            private void doEncodeRequestIfNecessary(
-                long traceId,
-                long budgetId)
+            state = KafkaState.openedInitial(state);
+
+            if (encodeSlot != NO_SLOT)
             {
-                if (nextRequestId == nextResponseId)
-                {
-                    encoder.accept(traceId, budgetId);
-                }
+                final MutableDirectBuffer buffer = encodePool.buffer(encodeSlot);
+                final int limit = encodeSlotOffset;
+
+                encodeNetwork(encodeSlotTraceId, authorization, budgetId, buffer, 0, limit);
             }
 
-            @Override
-            protected void doDecodeSaslHandshakeResponse(
-                long traceId)
+            doEncodeRequestIfNecessary(traceId, budgetId);
+        }
+
+        private void onNetworkSignal(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+            final int signalId = signal.signalId();
+
+            if (signalId == SIGNAL_NEXT_REQUEST)
             {
-                decoder = decodeSaslHandshakeResponse;
+                doEncodeRequestIfNecessary(traceId, initialBudgetId);
             }
+        }
 
-            @Override
-            protected void doDecodeSaslHandshake(
-                long traceId)
+        private void doNetworkBegin(
+            long traceId,
+            long authorization)
+        {
+            state = KafkaState.openingInitial(state);
+
+            if (sasl != null)
             {
-                decoder = decodeSaslHandshake;
+                encoder = encodeSaslHandshakeRequest;
+                decoder = decodeSessionSaslHandshakeResponse;
             }
 
-            @Override
-            protected void doDecodeSaslHandshakeMechanisms(
-                long traceId)
+            Consumer<OctetsFW.Builder> extension = EMPTY_EXTENSION;
+
+            if (server != null)
             {
-                decoder = decodeSaslHandshakeMechanisms;
+                extension = e -> e.set((b, o, l) -> proxyBeginExRW.wrap(b, o, l)
+                                                                  .typeId(proxyTypeId)
+                                                                  .address(a -> a.inet(i -> i.protocol(p -> p.set(STREAM))
+                                                                                             .source("0.0.0.0")
+                                                                                             .destination(server.host)
+                                                                                             .sourcePort(0)
+                                                                                             .destinationPort(server.port)))
+                                                                  .infos(i -> i.item(ii -> ii.authority(server.host)))
+                                                                  .build()
+                                                                  .sizeof());
             }
 
-            @Override
-            protected void doDecodeSaslHandshakeMechansim(
-                long traceId)
+            network = newStream(this::onNetwork, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, authorization, brokerId, extension);
+        }
+
+        @Override
+        protected void doNetworkData(
+            long traceId,
+            long budgetId,
+            DirectBuffer buffer,
+            int offset,
+            int limit)
+        {
+            if (encodeSlot != NO_SLOT)
             {
-                decoder = decodeSaslHandshakeMechanism;
+                final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
+                encodeBuffer.putBytes(encodeSlotOffset, buffer, offset, limit - offset);
+                encodeSlotOffset += limit - offset;
+                encodeSlotTraceId = traceId;
+
+                buffer = encodeBuffer;
+                offset = 0;
+                limit = encodeSlotOffset;
             }
 
-            @Override
-            protected void doDecodeSaslAuthenticateResponse(
-                long traceId)
+            encodeNetwork(traceId, authorization, budgetId, buffer, offset, limit);
+        }
+
+        private void doNetworkEndAfterFlush(
+            long traceId,
+            long authorization)
+        {
+            state = KafkaState.closingInitial(state);
+
+            if (encodeSlot == NO_SLOT)
             {
-                decoder = decodeSaslAuthenticateResponse;
+                doNetworkEnd(traceId, authorization);
             }
+        }
 
-            @Override
-            protected void doDecodeSaslAuthenticate(
-                long traceId)
+        private void doNetworkEnd(
+            long traceId,
+            long authorization)
+        {
+            state = KafkaState.closedInitial(state);
+            doEnd(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, authorization, EMPTY_OCTETS);
+
+            cleanupEncodeSlotIfNecessary();
+        }
+
+        private void doNetworkAbortIfNecessary(
+            long traceId)
+        {
+            if (!KafkaState.initialClosed(state))
             {
-                decoder = decodeSaslAuthenticate;
+                doAbort(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization, EMPTY_OCTETS);
+                state = KafkaState.closedInitial(state);
             }
 
-            private void doEncodeOffsetsRequest(
-                long traceId,
-                long budgetId)
-            {
-                final MutableDirectBuffer encodeBuffer = writeBuffer;
-                final int encodeOffset = DataFW.FIELD_OFFSET_PAYLOAD;
-                final int encodeLimit = encodeBuffer.capacity();
+            cleanupEncodeSlotIfNecessary();
+        }
 
-                int encodeProgress = encodeOffset;
+        private void doNetworkResetIfNecessary(
+            long traceId)
+        {
+            if (!KafkaState.replyClosed(state))
+            {
+                doReset(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, authorization, EMPTY_OCTETS);
+                state = KafkaState.closedReply(state);
+            }
 
-                final RequestHeaderFW requestHeader = requestHeaderRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
-                        .length(0)
-                        .apiKey(OFFSETS_API_KEY)
-                        .apiVersion(OFFSETS_API_VERSION)
-                        .correlationId(0)
-                        .clientId(clientId)
-                        .build();
+            cleanupDecodeSlotIfNecessary();
+        }
 
-                encodeProgress = requestHeader.limit();
+        private void doNetworkWindow(
+            long traceId,
+            long budgetId,
+            int minReplyNoAck,
+            int minReplyPad,
+            int minReplyMax)
+        {
+            final long newReplyAck = Math.max(replySeq - minReplyNoAck, replyAck);
 
-                final OffsetsRequestFW offsetsRequest = offsetsRequestRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
-                        .isolationLevel(i -> i.set(READ_UNCOMMITTED))
-                        .topicCount(1)
-                        .build();
+            if (newReplyAck > replyAck || minReplyMax > replyMax || !KafkaState.replyOpened(state))
+            {
+                replyAck = newReplyAck;
+                assert replyAck <= replySeq;
 
-                encodeProgress = offsetsRequest.limit();
+                replyMax = minReplyMax;
 
-                final OffsetsTopicRequestFW topicRequest = offsetsTopicRequestRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
-                        .name(topic)
-                        .partitionCount(1)
-                        .build();
+                doWindow(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, authorization, budgetId, minReplyPad);
 
-                encodeProgress = topicRequest.limit();
+                state = KafkaState.openedReply(state);
+            }
+        }
 
-                final long timestamp = nextOffset;
+        private void doEncodeRequestIfNecessary(
+            long traceId,
+            long budgetId)
+        {
+            if (nextRequestId == nextResponseId &&
+                !KafkaState.initialClosing(state))
+            {
+                encoder.accept(traceId, budgetId);
+            }
+        }
 
-                assert timestamp < 0;
+        @Override
+        protected void doDecodeSaslHandshakeResponse(
+            long traceId)
+        {
+            decoder = decodeSessionSaslHandshakeResponse;
+        }
 
-                final OffsetsPartitionRequestFW partitionRequest = offsetsPartitionRequestRW
-                        .wrap(encodeBuffer, encodeProgress, encodeLimit)
-                        .partitionId(partitionId)
-                        .timestamp(timestamp)
-                        .build();
+        @Override
+        protected void doDecodeSaslHandshake(
+            long traceId)
+        {
+            decoder = decodeSessionSaslHandshake;
+        }
 
-                encodeProgress = partitionRequest.limit();
+        @Override
+        protected void doDecodeSaslHandshakeMechanisms(
+            long traceId)
+        {
+            decoder = decodeSessionSaslHandshakeMechanisms;
+        }
 
-                final int requestId = nextRequestId++;
-                final int requestSize = encodeProgress - encodeOffset - RequestHeaderFW.FIELD_OFFSET_API_KEY;
+        @Override
+        protected void doDecodeSaslHandshakeMechansim(
+            long traceId)
+        {
+            decoder = decodeSessionSaslHandshakeMechanism;
+        }
 
-                requestHeaderRW.wrap(encodeBuffer, requestHeader.offset(), requestHeader.limit())
-                        .length(requestSize)
-                        .apiKey(requestHeader.apiKey())
-                        .apiVersion(requestHeader.apiVersion())
-                        .correlationId(requestId)
-                        .clientId(requestHeader.clientId())
-                        .build();
+        @Override
+        protected void doDecodeSaslAuthenticateResponse(
+            long traceId)
+        {
+            decoder = decodeSessionSaslAuthenticateResponse;
+        }
 
-                if (KafkaConfiguration.DEBUG)
-                {
-                    System.out.format("[0x%016x] %s[%d] OFFSETS %d\n", replyId, topic, partitionId, timestamp);
-                }
+        @Override
+        protected void doDecodeSaslAuthenticate(
+            long traceId)
+        {
+            decoder = decodeSessionSaslAuthenticate;
+        }
 
-                doNetworkData(traceId, budgetId, encodeBuffer, encodeOffset, encodeProgress);
+        private void doEncodeFetchRequest(
+            long traceId,
+            long budgetId)
+        {
+            final boolean closing = members.isEmpty();
 
-                this.decoder = decodeOffsetsResponse;
+            if (closing && sessionId == FETCH_SESSION_ID_NONE)
+            {
+                decoder = decodeSessionIgnoreAll;
+                doNetworkEndAfterFlush(traceId, authorization);
             }
-
-            private void doEncodeFetchRequest(
-                long traceId,
-                long budgetId)
+            else
             {
                 final MutableDirectBuffer encodeBuffer = writeBuffer;
                 final int encodeOffset = DataFW.FIELD_OFFSET_PAYLOAD;
@@ -2712,524 +4755,475 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 final RequestHeaderFW requestHeader = requestHeaderRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
                         .length(0)
                         .apiKey(FETCH_API_KEY)
-                        .apiVersion(FETCH_API_VERSION)
+                        .apiVersion(apiVersion)
                         .correlationId(0)
                         .clientId(clientId)
                         .build();
 
                 encodeProgress = requestHeader.limit();
 
-                final FetchRequestFW fetchRequest = fetchRequestRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
-                        .maxWaitTimeMillis(!KafkaState.replyOpened(stream.state) ? 0 : fetchMaxWaitMillis)
+                // closing releases the session, otherwise epoch 0 requests a full fetch
+                final int epoch = closing ? FETCH_SESSION_EPOCH_FINAL : sessionEpoch;
+                final boolean full = epoch == FETCH_SESSION_EPOCH_INITIAL;
+
+                final FetchSessionRequestFW fetchRequest = fetchSessionRequestRW
+                        .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .maxWaitTimeMillis(0)
                         .minBytes(1)
                         .maxBytes(fetchMaxBytes)
                         .isolationLevel((byte) isolation.ordinal())
-                        .topicCount(1)
+                        .sessionId(sessionId)
+                        .sessionEpoch(epoch)
+                        .topicCount(0)
                         .build();
 
                 encodeProgress = fetchRequest.limit();
 
-                final TopicRequestFW topicRequest = fetchTopicRequestRW.wrap(encodeBuffer, encodeProgress, encodeLimit)
-                        .name(topic)
-                        .partitionCount(1)
-                        .build();
-
-                encodeProgress = topicRequest.limit();
-
-                final PartitionRequestFW partitionRequest = fetchPartitionRequestRW
-                        .wrap(encodeBuffer, encodeProgress, encodeLimit)
-                        .partitionId((int) partitionId)
-                        .fetchOffset(nextOffset)
-                        .maxBytes(partitionMaxBytes)
-                        .build();
-
-                encodeProgress = partitionRequest.limit();
-
-                final int requestId = nextRequestId++;
-                final int requestSize = encodeProgress - encodeOffset - RequestHeaderFW.FIELD_OFFSET_API_KEY;
-
-                requestHeaderRW.wrap(encodeBuffer, requestHeader.offset(), requestHeader.limit())
-                        .length(requestSize)
-                        .apiKey(requestHeader.apiKey())
-                        .apiVersion(requestHeader.apiVersion())
-                        .correlationId(requestId)
-                        .clientId(requestHeader.clientId())
-                        .build();
-
-                if (KafkaConfiguration.DEBUG)
-                {
-                    System.out.format("[0x%016x] %s[%d] FETCH %d\n", replyId, topic, partitionId, nextOffset);
-                }
-
-                doNetworkData(traceId, budgetId, encodeBuffer, encodeOffset, encodeProgress);
-
-                client.decodeRecordBatchLastOffset = nextOffset - 1;
-
-                this.decoder = decodeFetchResponse;
-            }
-
-            private void encodeNetwork(
-                long traceId,
-                long authorization,
-                long budgetId,
-                DirectBuffer buffer,
-                int offset,
-                int limit)
-            {
-                final int maxLength = limit - offset;
-                final int initialWin = initialMax - (int)(initialSeq - initialAck);
-                final int length = Math.max(Math.min(initialWin - initialPad, maxLength), 0);
-
-                if (length > 0)
-                {
-                    final int reserved = length + initialPad;
-
-                    doData(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                            traceId, authorization, budgetId, reserved, buffer, offset, length, EMPTY_OCTETS);
-
-                    initialSeq += reserved;
-
-                    assert initialAck <= initialSeq;
-                }
+                int maxWaitTimeMillis = closing ? 0 : fetchSessionMaxWaitMillis;
+                int topicCount = 0;
 
-                final int remaining = maxLength - length;
-                if (remaining > 0)
+                if (!closing)
                 {
-                    if (encodeSlot == NO_SLOT)
+                    for (String topic : membersByTopic.keySet())
                     {
-                        encodeSlot = encodePool.acquire(initialId);
-                    }
+                        final Int2ObjectHashMap<KafkaFetchStream.KafkaFetchClient> partitions = membersByTopic.get(topic);
 
-                    if (encodeSlot == NO_SLOT)
-                    {
-                        cleanupNetwork(traceId);
-                    }
-                    else
-                    {
-                        final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
-                        encodeBuffer.putBytes(0, buffer, offset + length, remaining);
-                        encodeSlotOffset = remaining;
-                    }
-                }
-                else
-                {
-                    cleanupEncodeSlotIfNecessary();
+                        int partitionCount = 0;
+                        for (KafkaFetchStream.KafkaFetchClient member : partitions.values())
+                        {
+                            if (full || member.nextOffset != member.sessionOffset)
+                            {
+                                partitionCount++;
+                            }
+                        }
 
-                    if (KafkaState.initialClosing(state))
-                    {
-                        doNetworkEnd(traceId, authorization);
-                    }
-                }
-            }
+                        if (partitionCount != 0)
+                        {
+                            final TopicRequestFW topicRequest = fetchTopicRequestRW
+                                    .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                                    .name(topic)
+                                    .partitionCount(partitionCount)
+                                    .build();
 
-            private void decodeNetworkIfNecessary(
-                long traceId)
-            {
-                if (decodeSlot != NO_SLOT)
-                {
-                    final MutableDirectBuffer buffer = decodePool.buffer(decodeSlot);
-                    final long budgetId = 0L; // TODO
-                    final int offset = 0;
-                    final int limit = decodeSlotOffset;
-                    final int reserved = decodeSlotReserved;
+                            encodeProgress = topicRequest.limit();
 
-                    decodeNetwork(traceId, authorization, budgetId, reserved, buffer, offset, limit);
+                            for (KafkaFetchStream.KafkaFetchClient member : partitions.values())
+                            {
+                                if (full || member.nextOffset != member.sessionOffset)
+                                {
+                                    encodeProgress = encodePartitionRequest(member, encodeBuffer, encodeProgress, encodeLimit);
+
+                                    if (!KafkaState.replyOpened(member.stream.state))
+                                    {
+                                        maxWaitTimeMillis = 0;
+                                    }
+
+                                    member.sessionOffset = member.nextOffset;
+                                }
+                            }
+
+                            topicCount++;
+                        }
+                    }
                 }
-            }
 
-            private void decodeNetwork(
-                long traceId,
-                long authorization,
-                long budgetId,
-                int reserved,
-                MutableDirectBuffer buffer,
-                int offset,
-                int limit)
-            {
-                KafkaFetchClientDecoder previous = null;
-                int progress = offset;
-                while (progress <= limit && previous != decoder)
+                if (full || closing)
                 {
-                    previous = decoder;
-                    progress = decoder.decode(this, traceId, authorization, budgetId, reserved, buffer, offset, progress, limit);
+                    forgottenByTopic.clear();
                 }
 
-                if (progress < limit)
-                {
-                    if (decodeSlot == NO_SLOT)
-                    {
-                        decodeSlot = decodePool.acquire(initialId);
-                    }
+                final ForgottenTopicsRequestFW forgottenTopics = forgottenTopicsRequestRW
+                        .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .topicCount(forgottenByTopic.size())
+                        .build();
 
-                    if (decodeSlot == NO_SLOT)
-                    {
-                        cleanupNetwork(traceId);
-                    }
-                    else
-                    {
-                        final MutableDirectBuffer decodeBuffer = decodePool.buffer(decodeSlot);
-                        decodeBuffer.putBytes(0, buffer, progress, limit - progress);
-                        decodeSlotOffset = limit - progress;
-                        decodeSlotReserved = (int) ((long) (limit - progress) * reserved / (limit - offset));
-                        assert decodeSlotReserved >= 0;
-                    }
+                encodeProgress = forgottenTopics.limit();
 
-                    doNetworkWindow(traceId, budgetId, decodeSlotOffset, 0, replyMax);
-                }
-                else
+                for (Map.Entry<String, IntHashSet> entry : forgottenByTopic.entrySet())
                 {
-                    cleanupDecodeSlotIfNecessary();
+                    final IntHashSet partitionIds = entry.getValue();
 
-                    if (KafkaState.replyClosing(state))
-                    {
-                        doApplicationEnd(traceId);
-                    }
-                    else if (reserved > 0)
-                    {
-                        doNetworkWindow(traceId, budgetId, 0, 0, replyMax);
-                    }
-                }
-            }
+                    final ForgottenTopicRequestFW forgottenTopic = forgottenTopicRequestRW
+                            .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                            .name(entry.getKey())
+                            .partitionCount(partitionIds.size())
+                            .build();
 
-            @Override
-            protected void onDecodeSaslHandshakeResponse(
-                long traceId,
-                long authorization,
-                int errorCode)
-            {
-                switch (errorCode)
-                {
-                case ERROR_NONE:
-                    client.encoder = client.encodeSaslAuthenticateRequest;
-                    client.decoder = decodeSaslAuthenticateResponse;
-                    break;
-                default:
-                    cleanupApplication(traceId, errorCode);
-                    doNetworkEnd(traceId, authorization);
-                    break;
-                }
-            }
+                    encodeProgress = forgottenTopic.limit();
 
-            @Override
-            protected void onDecodeSaslAuthenticateResponse(
-                long traceId,
-                long authorization,
-                int errorCode)
-            {
-                switch (errorCode)
-                {
-                case ERROR_NONE:
-                    if (nextOffset == OFFSET_LIVE || nextOffset == OFFSET_HISTORICAL)
-                    {
-                        client.encoder = client.encodeOffsetsRequest;
-                        client.decoder = decodeOffsetsResponse;
-                    }
-                    else
+                    final IntHashSet.IntIterator partitionIdsIter = partitionIds.iterator();
+                    while (partitionIdsIter.hasNext())
                     {
-                        client.encoder = client.encodeFetchRequest;
-                        client.decoder = decodeFetchResponse;
+                        final ForgottenPartitionRequestFW forgottenPartition = forgottenPartitionRequestRW
+                                .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                                .partitionId(partitionIdsIter.nextValue())
+                                .build();
+
+                        encodeProgress = forgottenPartition.limit();
                     }
-                    break;
-                default:
-                    cleanupApplication(traceId, errorCode);
-                    doNetworkEnd(traceId, authorization);
-                    break;
                 }
-            }
 
-            private void onDecodeOffsetsPartition(
-                long traceId,
-                long authorization,
-                int errorCode,
-                int partitionId,
-                long partitionOffset)
-            {
-                switch (errorCode)
-                {
-                case ERROR_NONE:
-                    assert partitionId == this.partitionId;
-                    this.nextOffset = partitionOffset;
-                    break;
-                default:
-                    onDecodeResponseErrorCode(traceId, originId, errorCode);
-                    cleanupApplication(traceId, errorCode);
-                    doNetworkEnd(traceId, authorization);
-                    break;
-                }
-            }
+                forgottenByTopic.clear();
 
-            private void onDecodeFetchPartition(
-                long traceId,
-                long authorization,
-                int partitionId,
-                int errorCode)
-            {
-                switch (errorCode)
+                if (apiVersion >= FETCH_RACK_API_VERSION)
                 {
-                case ERROR_NONE:
-                    assert partitionId == this.partitionId;
-                    doApplicationWindow(traceId, 0L, 0, 0, 0);
-                    doApplicationBeginIfNecessary(traceId, authorization, topic, partitionId,
-                            nextOffset, stableOffset, latestOffset, isolation);
-                    break;
-                case ERROR_OFFSET_OUT_OF_RANGE:
-                    assert partitionId == this.partitionId;
-                    // TODO: recover at EARLIEST or LATEST ?
-                    nextOffset = OFFSET_HISTORICAL;
-                    client.encoder = client.encodeOffsetsRequest;
-                    doEncodeRequestIfNecessary(traceId, initialBudgetId);
-                    break;
-                default:
-                    if (errorCode == ERROR_NOT_LEADER_FOR_PARTITION)
-                    {
-                        final long metaInitialId = clientRoute.metaInitialId;
-                        if (metaInitialId != 0L)
-                        {
-                            final MessageConsumer metaInitial = supplyReceiver.apply(metaInitialId);
-                            // TODO: improve coordination with meta stream
-                            doFlush(metaInitial, originId, routedId, metaInitialId, 0, 0, 0,
-                                    traceId, authorization, 0, EMPTY_OCTETS);
-                        }
-                    }
-                    else
-                    {
-                        onDecodeResponseErrorCode(traceId, originId, errorCode);
-                    }
+                    final RackRequestFW rackRequest = fetchRackRequestRW
+                            .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                            .rackId(rack)
+                            .build();
 
-                    cleanupApplication(traceId, errorCode);
-                    doNetworkEnd(traceId, authorization);
-                    break;
+                    encodeProgress = rackRequest.limit();
                 }
-            }
 
-            private void onDecodeResponseErrorCode(
-                long traceId,
-                long originId,
-                int errorCode)
-            {
-                super.onDecodeResponseErrorCode(traceId, originId, FETCH_API_KEY, FETCH_API_VERSION, errorCode);
-            }
+                fetchSessionRequestRW.wrap(encodeBuffer, fetchRequest.offset(), fetchRequest.limit())
+                        .maxWaitTimeMillis(maxWaitTimeMillis)
+                        .minBytes(1)
+                        .maxBytes(fetchMaxBytes)
+                        .isolationLevel((byte) isolation.ordinal())
+                        .sessionId(sessionId)
+                        .sessionEpoch(epoch)
+                        .topicCount(topicCount)
+                        .build();
 
-            private void onDecodeFetchTransactionAbort(
-                long traceId,
-                long authorization,
-                long offset,
-                long producerId)
-            {
-                this.nextOffset = offset + 1;
+                final int requestId = nextRequestId++;
+                final int requestSize = encodeProgress - encodeOffset - RequestHeaderFW.FIELD_OFFSET_API_KEY;
 
-                final KafkaFlushExFW kafkaFlushEx = kafkaFlushExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                        .typeId(kafkaTypeId)
-                        .fetch(f -> f
-                            .partition(p -> p
-                                .partitionId(decodePartitionId)
-                                .partitionOffset(offset)
-                                .stableOffset(stableOffset)
-                                .latestOffset(latestOffset))
-                            .transactionsItem(t -> t
-                                .result(r -> r.set(KafkaTransactionResult.ABORT))
-                                .producerId(producerId)))
+                requestHeaderRW.wrap(encodeBuffer, requestHeader.offset(), requestHeader.limit())
+                        .length(requestSize)
+                        .apiKey(requestHeader.apiKey())
+                        .apiVersion(requestHeader.apiVersion())
+                        .correlationId(requestId)
+                        .clientId(requestHeader.clientId())
                         .build();
 
-                doApplicationFlush(traceId, authorization, 0, kafkaFlushEx);
-            }
+                if (KafkaConfiguration.DEBUG)
+                {
+                    System.out.format("[0x%016x] FETCH session %d epoch %d topics %d\n",
+                        replyId, sessionId, epoch, topicCount);
+                }
 
-            private void onDecodeFetchTransactionCommit(
-                long traceId,
-                long authorization,
-                long offset,
-                long producerId)
-            {
-                this.nextOffset = offset + 1;
+                doNetworkData(traceId, budgetId, encodeBuffer, encodeOffset, encodeProgress);
 
-                final KafkaFlushExFW kafkaFlushEx = kafkaFlushExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                        .typeId(kafkaTypeId)
-                        .fetch(f -> f
-                            .partition(p -> p
-                                .partitionId(decodePartitionId)
-                                .partitionOffset(offset)
-                                .stableOffset(stableOffset)
-                                .latestOffset(latestOffset))
-                            .transactionsItem(t -> t
-                                .result(r -> r.set(KafkaTransactionResult.COMMIT))
-                                .producerId(producerId)))
-                        .build();
+                for (int index = 0; index < members.size(); index++)
+                {
+                    final KafkaFetchStream.KafkaFetchClient member = members.get(index);
+                    member.decodeRecordBatchLastOffset = member.nextOffset - 1;
+                }
 
-                doApplicationFlush(traceId, authorization, 0, kafkaFlushEx);
+                if (closing)
+                {
+                    decoder = decodeSessionIgnoreAll;
+                    doNetworkEndAfterFlush(traceId, authorization);
+                }
+                else
+                {
+                    decoder = decodeSessionResponse;
+                }
             }
+        }
 
-            private void onDecodeFetchRecord(
-                long traceId,
-                boolean aborted,
-                int reserved,
-                long offset,
-                long timestamp,
-                long producerId,
-                OctetsFW key,
-                OctetsFW value,
-                int headerCount,
-                DirectBuffer headers)
+        private int encodePartitionRequest(
+            KafkaFetchStream.KafkaFetchClient member,
+            MutableDirectBuffer encodeBuffer,
+            int encodeProgress,
+            int encodeLimit)
+        {
+            if (apiVersion >= FETCH_RACK_API_VERSION)
             {
-                this.nextOffset = offset + 1;
-
-                final KafkaDataExFW kafkaDataEx = kafkaDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                        .typeId(kafkaTypeId)
-                        .fetch(f ->
-                        {
-                            f.timestamp(timestamp);
-                            f.producerId(producerId);
-                            f.partition(p -> p
-                                .partitionId(decodePartitionId)
-                                .partitionOffset(offset)
-                                .stableOffset(stableOffset)
-                                .latestOffset(latestOffset));
-                            f.key(k -> setKey(k, key));
-                            final int headersLimit = headers.capacity();
-                            int headerProgress = 0;
-                            for (int headerIndex = 0; headerIndex < headerCount; headerIndex++)
-                            {
-                                final MessageHeaderFW header = messageHeaderRO.wrap(headers, headerProgress, headersLimit);
-                                f.headersItem(i -> setHeader(i, header.key(), header.value()));
-                                headerProgress = header.limit();
-                            }
-                        })
+                final LeaderEpochPartitionRequestFW partitionRequest = fetchLeaderEpochPartitionRequestRW
+                        .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .partitionId(member.partitionId)
+                        .fetchOffset(member.nextOffset)
+                        .maxBytes(partitionMaxBytes)
                         .build();
-                final int flags = aborted ? FLAG_INIT | FLAG_FIN | FLAG_SKIP : FLAG_INIT | FLAG_FIN;
-                doApplicationData(traceId, authorization, flags, reserved, value, kafkaDataEx);
-            }
 
-            private void onDecodeFetchRecordValueInit(
-                long traceId,
-                boolean aborted,
-                int reserved,
-                int deferred,
-                long offset,
-                long timestamp,
-                int headersSizeMax,
-                long producerId,
-                OctetsFW key,
-                OctetsFW valueInit)
+                encodeProgress = partitionRequest.limit();
+            }
+            else
             {
-                final KafkaDataExFW kafkaDataEx = kafkaDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                        .typeId(kafkaTypeId)
-                        .fetch(f -> f.deferred(deferred)
-                                     .timestamp(timestamp)
-                                     .headersSizeMax(headersSizeMax)
-                                     .producerId(producerId)
-                                     .partition(p -> p.partitionId(decodePartitionId)
-                                                      .partitionOffset(offset)
-                                                      .stableOffset(stableOffset)
-                                                      .latestOffset(latestOffset))
-                                     .key(k -> setKey(k, key)))
+                final PartitionRequestFW partitionRequest = fetchPartitionRequestRW
+                        .wrap(encodeBuffer, encodeProgress, encodeLimit)
+                        .partitionId(member.partitionId)
+                        .fetchOffset(member.nextOffset)
+                        .maxBytes(partitionMaxBytes)
                         .build();
 
-                final int flags = aborted ? FLAG_INIT | FLAG_SKIP : FLAG_INIT;
-                doApplicationData(traceId, authorization, flags, reserved, valueInit, kafkaDataEx);
+                encodeProgress = partitionRequest.limit();
             }
 
-            private void onDecodeFetchRecordValueCont(
-                long traceId,
-                int reserved,
-                OctetsFW value)
+            return encodeProgress;
+        }
+
+        private void encodeNetwork(
+            long traceId,
+            long authorization,
+            long budgetId,
+            DirectBuffer buffer,
+            int offset,
+            int limit)
+        {
+            final int maxLength = limit - offset;
+            final int initialWin = initialMax - (int)(initialSeq - initialAck);
+            final int length = Math.max(Math.min(initialWin - initialPad, maxLength), 0);
+
+            if (length > 0)
             {
-                doApplicationData(traceId, authorization, FLAG_CONT, reserved, value, EMPTY_OCTETS);
+                final int reserved = length + initialPad;
+
+                doData(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                        traceId, authorization, budgetId, reserved, buffer, offset, length, EMPTY_OCTETS);
+
+                initialSeq += reserved;
+
+                assert initialAck <= initialSeq;
             }
 
-            private void onDecodeFetchRecordValueFin(
-                long traceId,
-                int reserved,
-                long offset,
-                OctetsFW value,
-                int headerCount,
-                DirectBuffer headers)
+            final int remaining = maxLength - length;
+            if (remaining > 0)
             {
-                this.nextOffset = offset + 1;
+                if (encodeSlot == NO_SLOT)
+                {
+                    encodeSlot = encodePool.acquire(initialId);
+                }
 
-                final KafkaDataExFW kafkaDataEx = kafkaDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                        .typeId(kafkaTypeId)
-                        .fetch(f ->
-                        {
-                            f.partition(p -> p
-                                .partitionId(decodePartitionId)
-                                .partitionOffset(offset)
-                                .stableOffset(stableOffset)
-                                .latestOffset(latestOffset));
-                            final int headersLimit = headers.capacity();
-                            int headerProgress = 0;
-                            for (int headerIndex = 0; headerIndex < headerCount; headerIndex++)
-                            {
-                                final MessageHeaderFW header = messageHeaderRO.wrap(headers, headerProgress, headersLimit);
-                                f.headersItem(i -> setHeader(i, header.key(), header.value()));
-                                headerProgress = header.limit();
-                            }
-                        })
-                        .build();
+                if (encodeSlot == NO_SLOT)
+                {
+                    cleanupNetwork(traceId);
+                }
+                else
+                {
+                    final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
+                    encodeBuffer.putBytes(0, buffer, offset + length, remaining);
+                    encodeSlotOffset = remaining;
+                }
+            }
+            else
+            {
+                cleanupEncodeSlotIfNecessary();
 
-                doApplicationData(traceId, authorization, FLAG_FIN, reserved, value, kafkaDataEx);
+                if (KafkaState.initialClosing(state))
+                {
+                    doNetworkEnd(traceId, authorization);
+                }
             }
+        }
 
-            private void onIgnoreRecordSet(
-                long traceId)
+        private void decodeNetworkIfNecessary(
+            long traceId)
+        {
+            if (decodeSlot != NO_SLOT)
             {
-                doFlushPartitionOffsetIfNecessary(traceId, authorization);
+                final MutableDirectBuffer buffer = decodePool.buffer(decodeSlot);
+                final long budgetId = 0L; // TODO
+                final int offset = 0;
+                final int limit = decodeSlotOffset;
+                final int reserved = decodeSlotReserved;
+
+                decodeNetwork(traceId, authorization, budgetId, reserved, buffer, offset, limit);
             }
+        }
 
-            @Override
-            protected void onDecodeSaslResponse(
-                long traceId)
+        private void decodeNetwork(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            MutableDirectBuffer buffer,
+            int offset,
+            int limit)
+        {
+            KafkaFetchSessionDecoder previous = null;
+            int progress = offset;
+            while (progress <= limit && previous != decoder)
             {
-                nextResponseId++;
-                signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+                previous = decoder;
+                progress = decoder.decode(this, traceId, authorization, budgetId, reserved, buffer, offset, progress, limit);
             }
 
-            private void onDecodeFetchResponse(
-                long traceId)
+            if (progress < limit)
             {
-                nextResponseId++;
+                if (decodeSlot == NO_SLOT)
+                {
+                    decodeSlot = decodePool.acquire(initialId);
+                }
 
-                if (topicPartitions.get(partitionId) == leaderId)
+                if (decodeSlot == NO_SLOT)
                 {
-                    doApplicationFlushIfNecessary(traceId, authorization);
-                    signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+                    cleanupNetwork(traceId);
                 }
                 else
                 {
-                    cleanupApplication(traceId, ERROR_NOT_LEADER_FOR_PARTITION);
-                    doNetworkEnd(traceId, authorization);
+                    final MutableDirectBuffer decodeBuffer = decodePool.buffer(decodeSlot);
+                    decodeBuffer.putBytes(0, buffer, progress, limit - progress);
+                    decodeSlotOffset = limit - progress;
+                    decodeSlotReserved = (int) ((long) (limit - progress) * reserved / (limit - offset));
+                    assert decodeSlotReserved >= 0;
                 }
+
+                doNetworkWindow(traceId, budgetId, decodeSlotOffset, 0, replyMax);
             }
+            else
+            {
+                cleanupDecodeSlotIfNecessary();
 
-            private void cleanupNetwork(
-                long traceId)
+                if (reserved > 0)
+                {
+                    doNetworkWindow(traceId, budgetId, 0, 0, replyMax);
+                }
+            }
+        }
+
+        @Override
+        protected void onDecodeSaslHandshakeResponse(
+            long traceId,
+            long authorization,
+            int errorCode)
+        {
+            switch (errorCode)
             {
-                doNetworkResetIfNecessary(traceId);
-                doNetworkAbortIfNecessary(traceId);
+            case ERROR_NONE:
+                encoder = encodeSaslAuthenticateRequest;
+                decoder = decodeSessionSaslAuthenticateResponse;
+                break;
+            default:
+                cleanupMembers(traceId, errorCode);
+                doNetworkEnd(traceId, authorization);
+                break;
+            }
+        }
 
-                cleanupApplication(traceId, EMPTY_OCTETS);
+        @Override
+        protected void onDecodeSaslAuthenticateResponse(
+            long traceId,
+            long authorization,
+            int errorCode)
+        {
+            switch (errorCode)
+            {
+            case ERROR_NONE:
+                encoder = encodeFetchRequest;
+                decoder = decodeSessionResponse;
+                break;
+            default:
+                cleanupMembers(traceId, errorCode);
+                doNetworkEnd(traceId, authorization);
+                break;
             }
+        }
 
-            private void cleanupDecodeSlotIfNecessary()
+        @Override
+        protected void onDecodeSaslResponse(
+            long traceId)
+        {
+            nextResponseId++;
+            signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+        }
+
+        private void onDecodeFetchSession(
+            long traceId,
+            int errorCode,
+            int sessionId)
+        {
+            switch (errorCode)
             {
-                if (decodeSlot != NO_SLOT)
+            case ERROR_NONE:
+                this.sessionId = sessionId;
+                if (sessionId == FETCH_SESSION_ID_NONE)
                 {
-                    decodePool.release(decodeSlot);
-                    decodeSlot = NO_SLOT;
-                    decodeSlotOffset = 0;
-                    decodeSlotReserved = 0;
+                    // broker declined to cache a session, keep sending full fetches
+                    this.sessionEpoch = FETCH_SESSION_EPOCH_INITIAL;
                 }
+                else
+                {
+                    this.sessionEpoch = sessionEpoch == Integer.MAX_VALUE ? 1 : sessionEpoch + 1;
+                }
+                break;
+            default:
+                if (errorCode != ERROR_FETCH_SESSION_ID_NOT_FOUND &&
+                    errorCode != ERROR_INVALID_FETCH_SESSION_EPOCH)
+                {
+                    onDecodeResponseErrorCode(traceId, originId, FETCH_API_KEY, apiVersion, errorCode);
+                }
+
+                // next request falls back to a full fetch that creates a new session
+                this.sessionId = FETCH_SESSION_ID_NONE;
+                this.sessionEpoch = FETCH_SESSION_EPOCH_INITIAL;
+                break;
             }
+        }
 
-            private void cleanupEncodeSlotIfNecessary()
+        private void onDecodeFetchResponse(
+            long traceId)
+        {
+            nextResponseId++;
+
+            decodedMembers.addAll(members);
+            for (int index = 0; index < decodedMembers.size(); index++)
             {
-                if (encodeSlot != NO_SLOT)
+                decodedMembers.get(index).onDecodeFetchSessionResponse(traceId);
+            }
+            decodedMembers.clear();
+
+            signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+        }
+
+        private void cleanupNetwork(
+            long traceId)
+        {
+            doNetworkResetIfNecessary(traceId);
+            doNetworkAbortIfNecessary(traceId);
+
+            cleanupMembers(traceId, ERROR_NONE);
+        }
+
+        private void cleanupMembers(
+            long traceId,
+            int error)
+        {
+            final List<KafkaFetchStream.KafkaFetchClient> detached = new ArrayList<>(members);
+
+            members.clear();
+            membersByTopic.clear();
+            forgottenByTopic.clear();
+            fetchSessions.remove(key, this);
+
+            for (int index = 0; index < detached.size(); index++)
+            {
+                final KafkaFetchStream.KafkaFetchClient member = detached.get(index);
+                member.session = null;
+
+                if (error != ERROR_NONE)
                 {
-                    encodePool.release(encodeSlot);
-                    encodeSlot = NO_SLOT;
-                    encodeSlotOffset = 0;
-                    encodeSlotTraceId = 0;
+                    member.stream.cleanupApplication(traceId, error);
+                }
+                else
+                {
+                    member.stream.cleanupApplication(traceId, EMPTY_OCTETS);
                 }
             }
         }
+
+        private void cleanupDecodeSlotIfNecessary()
+        {
+            if (decodeSlot != NO_SLOT)
+            {
+                decodePool.release(decodeSlot);
+                decodeSlot = NO_SLOT;
+                decodeSlotOffset = 0;
+                decodeSlotReserved = 0;
+            }
+        }
+
+        private void cleanupEncodeSlotIfNecessary()
+        {
+            if (encodeSlot != NO_SLOT)
+            {
+                encodePool.release(encodeSlot);
+                encodeSlot = NO_SLOT;
+                encodeSlotOffset = 0;
+                encodeSlotTraceId = 0;
+            }
+        }
     }
 
     private DirectBuffer wrapHeaders(
@@ -3294,7 +5288,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private static boolean isCompressedBatch(
         int attributes)
     {
-        // 0 = NONE, 1 = GZIP, 2 = SNAPPY, 3 = LZ4
+        // 0 = NONE, 1 = GZIP, 2 = SNAPPY, 3 = LZ4, 4 = ZSTD
         return (attributes & 0x07) != 0;
     }
 
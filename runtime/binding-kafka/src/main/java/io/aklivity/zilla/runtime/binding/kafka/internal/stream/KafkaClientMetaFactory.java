@@ -25,6 +25,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 import java.util.function.UnaryOperator;
@@ -32,6 +33,7 @@ import java.util.function.UnaryOperator;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongLongConsumer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -219,7 +221,8 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
                     resolvedId,
                     topicName,
                     binding.servers(),
-                    sasl)::onApplication;
+                    sasl,
+                    binding.rack())::onApplication;
         }
 
         return newStream;
@@ -595,8 +598,9 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
             final int brokerId = broker.nodeId();
             final String host = broker.host().asString();
             final int port = broker.port();
+            final String rack = broker.rack().asString();
 
-            client.onDecodeBroker(brokerId, host, port);
+            client.onDecodeBroker(brokerId, host, port, rack);
 
             progress = broker.limit();
 
@@ -764,8 +768,9 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
             final int partitionError = partition.errorCode();
             final int partitionId = partition.partitionId();
             final int leaderId = partition.leader();
+            final PrimitiveIterator.OfInt inSyncReplicas = partition.inSyncReplicas();
 
-            client.onDecodePartition(traceId, partitionId, leaderId, partitionError);
+            client.onDecodePartition(traceId, partitionId, leaderId, partitionError, inSyncReplicas);
 
             progress = partition.limit();
 
@@ -843,7 +848,8 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
             long resolvedId,
             String topic,
             List<KafkaServerConfig> servers,
-            KafkaSaslConfig sasl)
+            KafkaSaslConfig sasl,
+            String rack)
         {
             this.application = application;
             this.originId = originId;
@@ -852,7 +858,7 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
             this.replyId = supplyReplyId.applyAsLong(initialId);
             this.affinity = affinity;
             this.clientRoute = supplyClientRoute.apply(resolvedId);
-            this.client = new KafkaMetaClient(routedId, resolvedId, topic, servers, sasl);
+            this.client = new KafkaMetaClient(routedId, resolvedId, topic, servers, sasl, rack);
         }
 
         private void onApplication(
@@ -1130,9 +1136,13 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
             private MessageConsumer network;
             private final String topic;
             private final Int2IntHashMap topicPartitions;
+            private final Int2IntHashMap topicReplicas;
+            private final String rack;
 
             private final Long2ObjectHashMap<KafkaServerConfig> newServers;
+            private final Int2ObjectHashMap<String> newRacks;
             private final Int2IntHashMap newPartitions;
+            private final Int2IntHashMap newReplicas;
 
             private int state;
             private long authorization;
@@ -1176,13 +1186,18 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
                 long routedId,
                 String topic,
                 List<KafkaServerConfig> servers,
-                KafkaSaslConfig sasl)
+                KafkaSaslConfig sasl,
+                String rack)
             {
                 super(servers, sasl, originId, routedId);
                 this.topic = requireNonNull(topic);
                 this.topicPartitions = clientRoute.supplyPartitions(topic);
+                this.topicReplicas = clientRoute.supplyReplicas(topic);
+                this.rack = rack;
                 this.newServers = new Long2ObjectHashMap<>();
+                this.newRacks = new Int2ObjectHashMap<>();
                 this.newPartitions = new Int2IntHashMap(-1);
+                this.newReplicas = new Int2IntHashMap(-1);
 
                 this.encoder = sasl != null ? encodeSaslHandshakeRequest : encodeMetaRequest;
                 this.decoder = decodeReject;
@@ -1782,14 +1797,21 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
             private void onDecodeMetadata()
             {
                 newServers.clear();
+                newRacks.clear();
             }
 
             private void onDecodeBroker(
                 int brokerId,
                 String host,
-                int port)
+                int port,
+                String rack)
             {
                 newServers.put(brokerId, KafkaServerConfig.builder().host(host).port(port).build());
+
+                if (rack != null)
+                {
+                    newRacks.put(brokerId, rack);
+                }
             }
 
             private void onDecodeBrokers()
@@ -1811,6 +1833,7 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
                 case ERROR_UNKNOWN_TOPIC:
                     assert topic.equals(this.topic);
                     newPartitions.clear();
+                    newReplicas.clear();
                     break;
                 default:
                     onDecodeResponseErrorCode(traceId, originId, errorCode);
@@ -1828,11 +1851,21 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
                 long traceId,
                 int partitionId,
                 int leaderId,
-                int partitionError)
+                int partitionError,
+                PrimitiveIterator.OfInt inSyncReplicas)
             {
                 if (partitionError == ERROR_NONE)
                 {
                     newPartitions.put(partitionId, leaderId);
+
+                    if (rack != null)
+                    {
+                        final int replicaId = nearestReplica(leaderId, inSyncReplicas);
+                        if (replicaId != leaderId)
+                        {
+                            newReplicas.put(partitionId, replicaId);
+                        }
+                    }
                 }
                 else
                 {
@@ -1840,6 +1873,28 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
                 }
             }
 
+            private int nearestReplica(
+                int leaderId,
+                PrimitiveIterator.OfInt inSyncReplicas)
+            {
+                int replicaId = leaderId;
+
+                if (!rack.equals(newRacks.get(leaderId)) && inSyncReplicas != null)
+                {
+                    while (inSyncReplicas.hasNext())
+                    {
+                        final int inSyncReplicaId = inSyncReplicas.nextInt();
+                        if (rack.equals(newRacks.get(inSyncReplicaId)))
+                        {
+                            replicaId = inSyncReplicaId;
+                            break;
+                        }
+                    }
+                }
+
+                return replicaId;
+            }
+
             private void onDecodeResponseErrorCode(
                 long traceId,
                 long originId,
@@ -1870,6 +1925,13 @@ public final class KafkaClientMetaFactory extends KafkaClientSaslHandshaker impl
                     newPartitions.forEach(sharedPartitions::put);
                 }
 
+                final Int2IntHashMap sharedReplicas = topicReplicas;
+                if (!sharedReplicas.equals(newReplicas))
+                {
+                    sharedReplicas.clear();
+                    newReplicas.forEach(sharedReplicas::put);
+                }
+
                 if (!Objects.equals(partitions, newPartitions))
                 {
                     if (partitions == null)
@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec.COMPRESS_FAILED;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaChecksum.combineCRC32C;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType.LIVE;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.ProxyAddressProtocol.STREAM;
@@ -37,10 +38,14 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.LongLongConsumer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+import io.aklivity.zilla.runtime.binding.kafka.config.KafkaProduceConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaSaslConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaServerConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaBinding;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodecs;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaBindingConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaRouteConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.events.KafkaEventContext;
@@ -192,6 +197,8 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
     private final int encodeMaxBytes;
     private final CRC32C crc32c;
     private final KafkaEventContext event;
+    private final KafkaCompressionCodecs codecs;
+    private final MutableDirectBuffer compressBuffer;
 
     public KafkaClientProduceFactory(
         KafkaConfiguration config,
@@ -218,6 +225,8 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 encodePool.slotCapacity() - PRODUCE_REQUEST_RECORDS_OFFSET_MAX);
         this.crc32c = new CRC32C();
         this.event = new KafkaEventContext(context);
+        this.codecs = new KafkaCompressionCodecs(encodePool.slotCapacity());
+        this.compressBuffer = new UnsafeBuffer(new byte[encodePool.slotCapacity()]);
     }
 
     @Override
@@ -254,7 +263,6 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
             {
                 final long resolvedId = resolved.id;
                 final int partitionId = kafkaProduceBeginEx.partition().partitionId();
-                final KafkaSaslConfig sasl = binding.sasl();
 
                 final KafkaClientRoute clientRoute = supplyClientRoute.apply(resolvedId);
                 final KafkaServerConfig server = clientRoute.servers.get(affinity);
@@ -269,7 +277,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                         topicName,
                         partitionId,
                         server,
-                        sasl)::onApplication;
+                        binding)::onApplication;
             }
         }
 
@@ -901,6 +909,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
         private final long initialId;
         private final long replyId;
         private final long affinity;
+        private final int batchMaxBytes;
         private final KafkaProduceClient client;
 
         private int state;
@@ -923,15 +932,20 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
             String topic,
             int partitionId,
             KafkaServerConfig server,
-            KafkaSaslConfig sasl)
+            KafkaBindingConfig binding)
         {
+            final KafkaProduceConfig produce = binding.produce();
+
             this.application = application;
             this.originId = originId;
             this.routedId = routedId;
             this.initialId = initialId;
             this.replyId = supplyReplyId.applyAsLong(initialId);
             this.affinity = affinity;
-            this.client = new KafkaProduceClient(this, resolvedId, topic, partitionId, server, sasl);
+            this.batchMaxBytes = produce != null && produce.batchSize != null
+                ? Math.min(produce.batchSize, encodeMaxBytes)
+                : encodeMaxBytes;
+            this.client = new KafkaProduceClient(this, resolvedId, topic, partitionId, server, binding);
         }
 
         private void onApplication(
@@ -981,7 +995,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
 
             if (client.flushable)
             {
-                doAppWindow(traceId, 0, encodeMaxBytes);
+                doAppWindow(traceId, 0, batchMaxBytes);
             }
 
             client.doNetworkBegin(traceId, authorization, affinity);
@@ -1206,6 +1220,10 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
             private final KafkaProduceStream stream;
             private final String topic;
             private final int partitionId;
+            private final KafkaBindingConfig binding;
+            private final KafkaCompressionType compression;
+            private final KafkaCompressionCodec compressor;
+            private final long lingerMillis;
 
             private KafkaAckMode encodeableAckMode;
             private KafkaAckMode encodedAckMode;
@@ -1258,12 +1276,22 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 String topic,
                 int partitionId,
                 KafkaServerConfig server,
-                KafkaSaslConfig sasl)
+                KafkaBindingConfig binding)
             {
-                super(server, sasl, stream.routedId, resolvedId);
+                super(server, binding.sasl(), stream.routedId, resolvedId);
+
+                final KafkaSaslConfig sasl = binding.sasl();
+                final KafkaProduceConfig produce = binding.produce();
+
                 this.stream = stream;
                 this.topic = requireNonNull(topic);
                 this.partitionId = partitionId;
+                this.binding = binding;
+                this.compression = produce != null && produce.compression != null
+                    ? KafkaCompressionType.valueOf(produce.compression.name())
+                    : null;
+                this.compressor = codecs.supply(compression);
+                this.lingerMillis = produce != null && produce.linger != null ? produce.linger : produceRequestMaxDelay;
                 this.flusher = flushRecord;
                 this.encodeableAckMode = KafkaAckMode.NONE;
 
@@ -1826,13 +1854,13 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                     nextRequestId == nextResponseId &&
                     encodeSlot != NO_SLOT)
                 {
-                    if (produceRequestMaxDelay == 0)
+                    if (lingerMillis == 0)
                     {
                         signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
                     }
                     else
                     {
-                        signaler.signalAt(currentTimeMillis() + produceRequestMaxDelay, originId, routedId,
+                        signaler.signalAt(currentTimeMillis() + lingerMillis, originId, routedId,
                                 initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
                     }
                     signaledRequestId = nextRequestId + 1;
@@ -1904,6 +1932,8 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 final MutableDirectBuffer encodeSlotBuffer = encodePool.buffer(encodeSlot);
 
                 final RecordBatchFW recordBatch = recordBatchRO.wrap(encodeSlotBuffer, encodeSlotOffset, encodeSlotLimit);
+                doEncodeCompressIfNecessary(recordBatch);
+
                 final int recordBatchLength = RecordBatchFW.FIELD_OFFSET_LEADER_EPOCH + recordBatch.length();
 
                 final ProducePartitionRequestFW partitionRequest =
@@ -1945,6 +1975,47 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 decoder = decodeProduceResponse;
             }
 
+            private void doEncodeCompressIfNecessary(
+                RecordBatchFW recordBatch)
+            {
+                final int recordBatchLength = RecordBatchFW.FIELD_OFFSET_LEADER_EPOCH + recordBatch.length();
+                final int recordBatchLimit = recordBatch.offset() + recordBatchLength;
+
+                if (recordBatchLimit == encodeSlotLimit &&
+                    encodeableRecordBytesDeferred == 0)
+                {
+                    final MutableDirectBuffer encodeSlotBuffer = encodePool.buffer(encodeSlot);
+                    final int recordsOffset = recordBatch.limit();
+                    final int recordsLength = recordBatchLimit - recordsOffset;
+
+                    binding.produceBatchSize.accept(recordsLength);
+
+                    if (compressor != null)
+                    {
+                        final long compressAt = System.nanoTime();
+                        final int compressedLength = compressor.compress(encodeSlotBuffer, recordsOffset, recordsLength,
+                            compressBuffer, 0, recordsLength);
+                        binding.produceCompressionDuration.accept(System.nanoTime() - compressAt);
+
+                        if (compressedLength != COMPRESS_FAILED && compressedLength < recordsLength)
+                        {
+                            final int recordBatchOffset = recordBatch.offset();
+                            final int attributes = encodeSlotBuffer.getShort(
+                                recordBatchOffset + RecordBatchFW.FIELD_OFFSET_ATTRIBUTES, BIG_ENDIAN);
+
+                            encodeSlotBuffer.putBytes(recordsOffset, compressBuffer, 0, compressedLength);
+                            encodeSlotBuffer.putInt(recordBatchOffset + RecordBatchFW.FIELD_OFFSET_LENGTH,
+                                recordBatch.length() - recordsLength + compressedLength, BIG_ENDIAN);
+                            encodeSlotBuffer.putShort(recordBatchOffset + RecordBatchFW.FIELD_OFFSET_ATTRIBUTES,
+                                (short) (attributes | compression.attributes()), BIG_ENDIAN);
+                            encodeSlotLimit = recordsOffset + compressedLength;
+                        }
+
+                        binding.produceBatchCompressedSize.accept(encodeSlotLimit - recordsOffset);
+                    }
+                }
+            }
+
             private void doEncodeHeadersChecksum(
                 Array32FW<KafkaHeaderFW> headers)
             {
@@ -2109,7 +2180,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                                 Math.max(flushableRequestBytes - encodeableRecordBytesDeferred - 1, 0);
                         final int encodeNoAck = Math.max(encodeRequestBytesBuffered, encodeBytesBuffered);
                         final int noAck = (int) (stream.initialSeq - stream.initialAck);
-                        stream.doAppWindow(traceId, noAck, noAck + encodeMaxBytes - encodeNoAck);
+                        stream.doAppWindow(traceId, noAck, noAck + stream.batchMaxBytes - encodeNoAck);
                     }
                 }
             }
@@ -2240,7 +2311,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                     client.encoder = client.encodeProduceRequest;
                     client.decoder = decodeProduceResponse;
                     client.flushable = true;
-                    doAppWindow(traceId, 0, encodeMaxBytes);
+                    doAppWindow(traceId, 0, batchMaxBytes);
                     break;
                 default:
                     cleanupApplication(traceId, errorCode);
@@ -2297,7 +2368,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 final int encodeRequestBytesBuffered =
                         Math.max(flushableRequestBytes - encodeableRecordBytesDeferred - 1, 0);
                 final int encodeNoAck = Math.max(encodeRequestBytesBuffered, encodeBytesBuffered);
-                stream.doAppWindow(traceId, encodeNoAck, encodeMaxBytes);
+                stream.doAppWindow(traceId, encodeNoAck, stream.batchMaxBytes);
 
                 if (encodeSlot != NO_SLOT)
                 {
@@ -26,6 +26,7 @@ public final class KafkaClientRoute
     public final long resolvedId;
     public final Long2ObjectHashMap<KafkaServerConfig> servers;
     public final Int2ObjectHashMap<Int2IntHashMap> partitions;
+    public final Int2ObjectHashMap<Int2IntHashMap> replicas;
 
     public volatile long metaInitialId;
 
@@ -35,6 +36,7 @@ public final class KafkaClientRoute
         this.resolvedId = resolvedId;
         this.servers = new Long2ObjectHashMap<>();
         this.partitions = new Int2ObjectHashMap<>();
+        this.replicas = new Int2ObjectHashMap<>();
     }
 
     public Int2IntHashMap supplyPartitions(
@@ -43,4 +45,11 @@ public final class KafkaClientRoute
         int topicKey = System.identityHashCode(topic.intern());
         return partitions.computeIfAbsent(topicKey, k -> new Int2IntHashMap(-1));
     }
+
+    public Int2IntHashMap supplyReplicas(
+        String topic)
+    {
+        int topicKey = System.identityHashCode(topic.intern());
+        return replicas.computeIfAbsent(topicKey, k -> new Int2IntHashMap(-1));
+    }
 }
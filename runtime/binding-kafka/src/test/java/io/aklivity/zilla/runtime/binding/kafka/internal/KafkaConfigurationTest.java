@@ -16,9 +16,15 @@
 package io.aklivity.zilla.runtime.binding.kafka.internal;
 
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_CLIENT_CLEANUP_DELAY;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_CURSOR_DELTA_KEYS_MAX;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_MAINTENANCE_ASYNC;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_MAINTENANCE_THREADS;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_RECOVERY;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_RETENTION_MILLIS_MAX;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_SERVER_RECONNECT_DELAY;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_CONNECTION_POOL_CLEANUP_MILLIS;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_FETCH_SESSION;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_FETCH_SESSION_MAX_WAIT_MILLIS;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_INSTANCE_ID;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_MAX_BYTES;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS;
@@ -34,10 +40,17 @@ public class KafkaConfigurationTest
     public static final String KAFKA_CLIENT_PRODUCE_MAX_BYTES_NAME = "zilla.binding.kafka.client.produce.max.bytes";
     public static final String KAFKA_CLIENT_CONNECTION_POOL_CLEANUP_MILLIS_NAME =
         "zilla.binding.kafka.client.connection.pool.cleanup.millis";
+    public static final String KAFKA_CLIENT_FETCH_SESSION_NAME = "zilla.binding.kafka.client.fetch.session";
+    public static final String KAFKA_CLIENT_FETCH_SESSION_MAX_WAIT_MILLIS_NAME =
+        "zilla.binding.kafka.client.fetch.session.max.wait.millis";
     public static final String KAFKA_CACHE_SERVER_RECONNECT_DELAY_NAME = "zilla.binding.kafka.cache.server.reconnect";
     public static final String KAFKA_CACHE_CLIENT_CLEANUP_DELAY_NAME = "zilla.binding.kafka.cache.client.cleanup.delay";
     public static final String KAFKA_CLIENT_SASL_SCRAM_NONCE_NAME = "zilla.binding.kafka.client.sasl.scram.nonce";
     public static final String KAFKA_CLIENT_INSTANCE_ID_NAME = "zilla.binding.kafka.client.instance.id";
+    public static final String KAFKA_CACHE_RECOVERY_NAME = "zilla.binding.kafka.cache.recovery";
+    public static final String KAFKA_CACHE_MAINTENANCE_ASYNC_NAME = "zilla.binding.kafka.cache.maintenance.async";
+    public static final String KAFKA_CACHE_MAINTENANCE_THREADS_NAME = "zilla.binding.kafka.cache.maintenance.threads";
+    public static final String KAFKA_CACHE_CURSOR_DELTA_KEYS_MAX_NAME = "zilla.binding.kafka.cache.cursor.delta.keys.max";
 
     public static final String KAFKA_CACHE_RETENTION_MILLIS_MAX_NAME =
         "zilla.binding.kafka.cache.retention.ms.max";
@@ -48,10 +61,16 @@ public class KafkaConfigurationTest
         assertEquals(KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS.name(), KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS_NAME);
         assertEquals(KAFKA_CLIENT_CONNECTION_POOL_CLEANUP_MILLIS.name(), KAFKA_CLIENT_CONNECTION_POOL_CLEANUP_MILLIS_NAME);
         assertEquals(KAFKA_CLIENT_PRODUCE_MAX_BYTES.name(), KAFKA_CLIENT_PRODUCE_MAX_BYTES_NAME);
+        assertEquals(KAFKA_CLIENT_FETCH_SESSION.name(), KAFKA_CLIENT_FETCH_SESSION_NAME);
+        assertEquals(KAFKA_CLIENT_FETCH_SESSION_MAX_WAIT_MILLIS.name(), KAFKA_CLIENT_FETCH_SESSION_MAX_WAIT_MILLIS_NAME);
         assertEquals(KAFKA_CACHE_SERVER_RECONNECT_DELAY.name(), KAFKA_CACHE_SERVER_RECONNECT_DELAY_NAME);
         assertEquals(KAFKA_CACHE_CLIENT_CLEANUP_DELAY.name(), KAFKA_CACHE_CLIENT_CLEANUP_DELAY_NAME);
         assertEquals(KAFKA_CLIENT_SASL_SCRAM_NONCE.name(), KAFKA_CLIENT_SASL_SCRAM_NONCE_NAME);
         assertEquals(KAFKA_CLIENT_INSTANCE_ID.name(), KAFKA_CLIENT_INSTANCE_ID_NAME);
         assertEquals(KAFKA_CACHE_RETENTION_MILLIS_MAX.name(), KAFKA_CACHE_RETENTION_MILLIS_MAX_NAME);
+        assertEquals(KAFKA_CACHE_RECOVERY.name(), KAFKA_CACHE_RECOVERY_NAME);
+        assertEquals(KAFKA_CACHE_MAINTENANCE_ASYNC.name(), KAFKA_CACHE_MAINTENANCE_ASYNC_NAME);
+        assertEquals(KAFKA_CACHE_MAINTENANCE_THREADS.name(), KAFKA_CACHE_MAINTENANCE_THREADS_NAME);
+        assertEquals(KAFKA_CACHE_CURSOR_DELTA_KEYS_MAX.name(), KAFKA_CACHE_CURSOR_DELTA_KEYS_MAX_NAME);
     }
 }
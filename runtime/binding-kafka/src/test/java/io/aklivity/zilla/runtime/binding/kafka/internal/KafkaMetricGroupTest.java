@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import java.util.Collection;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionDurationMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionReclaimedMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaProduceBatchCompressedSizeMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaProduceBatchSizeMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaProduceCompressionDurationMetric;
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public class KafkaMetricGroupTest
+{
+    @Test
+    public void shouldReturnMetricNames()
+    {
+        MetricGroup metricGroup = new KafkaMetricGroup(new Configuration());
+
+        Collection<String> metricNames = metricGroup.metricNames();
+
+        assertThat(metricNames, containsInAnyOrder(
+            "kafka.produce.batch.size",
+            "kafka.produce.batch.compressed.size",
+            "kafka.produce.compression.duration",
+            "kafka.cache.compaction.duration",
+            "kafka.cache.compaction.reclaimed"
+        ));
+    }
+
+    @Test
+    public void shouldResolveProduceBatchSize()
+    {
+        MetricGroup metricGroup = new KafkaMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("kafka.produce.batch.size");
+
+        assertThat(metric, instanceOf(KafkaProduceBatchSizeMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.HISTOGRAM));
+        assertThat(metric.unit(), equalTo(Metric.Unit.BYTES));
+    }
+
+    @Test
+    public void shouldResolveProduceBatchCompressedSize()
+    {
+        MetricGroup metricGroup = new KafkaMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("kafka.produce.batch.compressed.size");
+
+        assertThat(metric, instanceOf(KafkaProduceBatchCompressedSizeMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.HISTOGRAM));
+        assertThat(metric.unit(), equalTo(Metric.Unit.BYTES));
+    }
+
+    @Test
+    public void shouldResolveProduceCompressionDuration()
+    {
+        MetricGroup metricGroup = new KafkaMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("kafka.produce.compression.duration");
+
+        assertThat(metric, instanceOf(KafkaProduceCompressionDurationMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.HISTOGRAM));
+        assertThat(metric.unit(), equalTo(Metric.Unit.NANOSECONDS));
+    }
+
+    @Test
+    public void shouldResolveCacheCompactionDuration()
+    {
+        MetricGroup metricGroup = new KafkaMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("kafka.cache.compaction.duration");
+
+        assertThat(metric, instanceOf(KafkaCacheCompactionDurationMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.HISTOGRAM));
+        assertThat(metric.unit(), equalTo(Metric.Unit.NANOSECONDS));
+    }
+
+    @Test
+    public void shouldResolveCacheCompactionReclaimed()
+    {
+        MetricGroup metricGroup = new KafkaMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("kafka.cache.compaction.reclaimed");
+
+        assertThat(metric, instanceOf(KafkaCacheCompactionReclaimedMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.HISTOGRAM));
+        assertThat(metric.unit(), equalTo(Metric.Unit.BYTES));
+    }
+}
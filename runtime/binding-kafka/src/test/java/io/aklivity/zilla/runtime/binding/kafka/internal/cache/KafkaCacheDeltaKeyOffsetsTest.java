@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class KafkaCacheDeltaKeyOffsetsTest
+{
+    @Test
+    public void shouldAddAndRemoveOffsets()
+    {
+        KafkaCacheDeltaKeyOffsets offsets = new KafkaCacheDeltaKeyOffsets(4);
+
+        offsets.add(10L);
+        offsets.add(11L);
+
+        assertEquals(2, offsets.size());
+        assertTrue(offsets.remove(10L));
+        assertFalse(offsets.remove(10L));
+        assertTrue(offsets.contains(11L));
+    }
+
+    @Test
+    public void shouldEvictOldestOffsets()
+    {
+        KafkaCacheDeltaKeyOffsets offsets = new KafkaCacheDeltaKeyOffsets(3);
+
+        for (long offset = 0L; offset < 5L; offset++)
+        {
+            offsets.add(offset);
+        }
+
+        assertEquals(3, offsets.size());
+        assertFalse(offsets.contains(0L));
+        assertFalse(offsets.contains(1L));
+        assertTrue(offsets.contains(2L));
+        assertTrue(offsets.contains(4L));
+    }
+
+    @Test
+    public void shouldRetainOffsetsWhenGrowing()
+    {
+        KafkaCacheDeltaKeyOffsets offsets = new KafkaCacheDeltaKeyOffsets(64);
+
+        for (long offset = 0L; offset < 40L; offset++)
+        {
+            offsets.add(offset);
+        }
+        offsets.remove(5L);
+
+        for (long offset = 40L; offset < 66L; offset++)
+        {
+            offsets.add(offset);
+        }
+
+        assertEquals(63, offsets.size());
+        assertFalse(offsets.contains(0L));
+        assertTrue(offsets.contains(2L));
+        assertTrue(offsets.contains(65L));
+    }
+
+    @Test
+    public void shouldRetainReaddedOffsetWhenEvictingStaleEntry()
+    {
+        KafkaCacheDeltaKeyOffsets offsets = new KafkaCacheDeltaKeyOffsets(2);
+
+        offsets.add(1L);
+        offsets.remove(1L);
+        offsets.add(2L);
+        offsets.add(1L);
+
+        assertEquals(2, offsets.size());
+        assertTrue(offsets.contains(1L));
+        assertTrue(offsets.contains(2L));
+
+        offsets.add(3L);
+
+        assertEquals(2, offsets.size());
+        assertFalse(offsets.contains(2L));
+        assertTrue(offsets.contains(1L));
+        assertTrue(offsets.contains(3L));
+    }
+
+    @Test
+    public void shouldClearOffsets()
+    {
+        KafkaCacheDeltaKeyOffsets offsets = new KafkaCacheDeltaKeyOffsets(2);
+
+        offsets.add(1L);
+        offsets.add(2L);
+        offsets.clear();
+        offsets.add(3L);
+        offsets.add(4L);
+
+        assertEquals(2, offsets.size());
+        assertTrue(offsets.contains(3L));
+        assertTrue(offsets.contains(4L));
+    }
+}
@@ -17,16 +17,28 @@ package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
 
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_BUFFER_SLOT_CAPACITY;
 import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Rule;
@@ -39,6 +51,7 @@ import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
 import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
@@ -188,6 +201,259 @@ public class KafkaCachePartitionTest
         assertEquals("[cache] test[0]", partition.toString());
     }
 
+    @Test
+    public void shouldRecoverSegments() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+
+        partition.append(10L);
+        writeEntries(partition, 11L, 12L);
+        partition.append(15L);
+        writeEntries(partition, 16L);
+
+        KafkaCachePartition recovered = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        recovered.recover();
+
+        Node tail10 = recovered.sentinel().next();
+        Node tail15 = tail10.next();
+        Node head17 = tail15.next();
+
+        assertEquals(10L, tail10.segment().baseOffset());
+        assertEquals(12L, tail10.segment().lastOffset());
+        assertEquals(15L, tail15.segment().baseOffset());
+        assertEquals(16L, tail15.segment().lastOffset());
+        assertSame(recovered.head(), head17);
+        assertEquals(17L, head17.segment().baseOffset());
+        assertEquals(17L, recovered.nextOffset(KafkaOffsetType.HISTORICAL));
+
+        writeEntries(recovered, 17L);
+
+        assertEquals(18L, recovered.nextOffset(KafkaOffsetType.HISTORICAL));
+    }
+
+    @Test
+    public void shouldTruncateTornHeadSegment() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+
+        partition.append(10L);
+        writeEntries(partition, 11L, 12L);
+        partition.append(15L);
+        writeEntries(partition, 16L, 17L);
+
+        Path log15 = location.resolve("test-0").resolve(String.format("%019d.log", 15L));
+        try (FileChannel channel = FileChannel.open(log15, WRITE))
+        {
+            channel.truncate(channel.size() - 1);
+        }
+
+        KafkaCachePartition recovered = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        recovered.recover();
+
+        Node tail15 = recovered.head().previous();
+
+        assertEquals(15L, tail15.segment().baseOffset());
+        assertEquals(16L, tail15.segment().lastOffset());
+        assertEquals(17L, recovered.nextOffset(KafkaOffsetType.HISTORICAL));
+    }
+
+    @Test
+    public void shouldTruncateTornHeadSegmentAtChecksumMismatch() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+
+        partition.append(10L);
+        writeEntries(partition, 11L, 12L);
+        partition.append(15L);
+        writeEntries(partition, 16L, 17L);
+
+        Path log15 = location.resolve("test-0").resolve(String.format("%019d.log", 15L));
+        byte[] log = Files.readAllBytes(log15);
+        int valueAt = new String(log, ISO_8859_1).lastIndexOf("value");
+        try (FileChannel channel = FileChannel.open(log15, WRITE))
+        {
+            channel.write(ByteBuffer.wrap(new byte[] { 'V' }), valueAt);
+        }
+
+        KafkaCachePartition recovered = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        recovered.recover();
+
+        Node tail15 = recovered.head().previous();
+
+        assertEquals(15L, tail15.segment().baseOffset());
+        assertEquals(16L, tail15.segment().lastOffset());
+        assertEquals(17L, recovered.nextOffset(KafkaOffsetType.HISTORICAL));
+    }
+
+    @Test
+    public void shouldDiscardSegmentsAfterCorruptSeal() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+
+        partition.append(10L);
+        writeEntries(partition, 11L, 12L);
+        partition.append(15L);
+        writeEntries(partition, 16L);
+        partition.append(20L);
+        writeEntries(partition, 21L);
+
+        Path seal15 = location.resolve("test-0").resolve(String.format("%019d.seal", 15L));
+        try (FileChannel channel = FileChannel.open(seal15, WRITE))
+        {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7f }), channel.size() - 1);
+        }
+
+        KafkaCachePartition recovered = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        recovered.recover();
+
+        Node tail15 = recovered.head().previous();
+
+        assertEquals(15L, tail15.segment().baseOffset());
+        assertEquals(16L, tail15.segment().lastOffset());
+        assertEquals(17L, recovered.nextOffset(KafkaOffsetType.HISTORICAL));
+        assertTrue(Files.notExists(location.resolve("test-0").resolve(String.format("%019d.log", 20L))));
+    }
+
+    @Test
+    public void shouldRollForwardInterruptedCompaction() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        Path backup = tempFolder.newFolder().toPath();
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+
+        Node head10 = partition.append(10L);
+        writeEntries(partition, 10L, 11L);
+        partition.append(15L);
+        writeEntries(partition, 16L);
+        partition.append(20L);
+        writeEntries(partition, 21L);
+
+        Path directory = location.resolve("test-0");
+        Path staging = directory.resolve("compacting");
+        String segment10 = String.format("%019d.*", 10L);
+        copyFiles(directory, backup, segment10);
+
+        head10.findAndMarkDirty(new KafkaCacheEntryFW(), 10L);
+        long now = currentTimeMillis();
+        head10.segment().cleanableAt(now);
+        head10.clean(now);
+
+        // crash after the compacted log was installed, but before the staged seal
+        moveFiles(directory, staging, segment10);
+        moveFiles(backup, directory, segment10);
+        moveFiles(staging, directory, String.format("%019d.log", 10L));
+
+        KafkaCachePartition recovered = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        recovered.recover();
+
+        Node tail10 = recovered.sentinel().next();
+        Node tail15 = tail10.next();
+        Node tail20 = tail15.next();
+
+        assertEquals(10L, tail10.segment().baseOffset());
+        assertEquals(11L, tail10.segment().lastOffset());
+        assertEquals(Long.BYTES, tail10.segment().indexFile().capacity());
+        assertEquals(15L, tail15.segment().baseOffset());
+        assertEquals(20L, tail20.segment().baseOffset());
+        assertEquals(22L, recovered.nextOffset(KafkaOffsetType.HISTORICAL));
+        assertTrue(Files.notExists(staging.resolve(String.format("%019d.seal", 10L))));
+    }
+
+    @Test
+    public void shouldIndexHeaders() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        partition.indexHeaders(List.of("header"));
+
+        partition.append(10L);
+        writeEntries(partition, 11L, 12L);
+
+        KafkaCacheSegment head10s = partition.head().segment();
+
+        assertTrue(head10s.indexesHeader(new UnsafeBuffer("header".getBytes(UTF_8))));
+        assertEquals(2 * Long.BYTES, head10s.headersFile().capacity());
+
+        partition.append(15L);
+        writeEntries(partition, 16L);
+
+        KafkaCacheSegment tail10s = partition.head().previous().segment();
+
+        assertNull(tail10s.headersFile());
+        assertEquals(4 * Long.BYTES, tail10s.hashFile().capacity());
+        assertTrue(Files.notExists(location.resolve("test-0").resolve(String.format("%019d.xscan", 10L))));
+    }
+
+    private static void copyFiles(
+        Path source,
+        Path target,
+        String glob) throws IOException
+    {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(source, glob))
+        {
+            for (Path file : files)
+            {
+                Files.copy(file, target.resolve(file.getFileName()), REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static void moveFiles(
+        Path source,
+        Path target,
+        String glob) throws IOException
+    {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(source, glob))
+        {
+            for (Path file : files)
+            {
+                Files.move(file, target.resolve(file.getFileName()), REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static void writeEntries(
+        KafkaCachePartition partition,
+        long... offsets)
+    {
+        MutableDirectBuffer writeBuffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+        MutableInteger entryMark = new MutableInteger(0);
+        MutableInteger valueMark = new MutableInteger(0);
+
+        KafkaKeyFW key = new KafkaKeyFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity())
+            .length(4)
+            .value(k -> k.set("test".getBytes(UTF_8)))
+            .build();
+
+        Array32FW<KafkaHeaderFW> headers = new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+                .wrap(writeBuffer, key.limit(), writeBuffer.capacity())
+                .item(h -> h.nameLen(6).name(n -> n.set("header".getBytes(UTF_8)))
+                            .valueLen(5).value(v -> v.set("value".getBytes(UTF_8))))
+                .build();
+
+        OctetsFW value = new OctetsFW.Builder()
+                .wrap(writeBuffer, headers.limit(), writeBuffer.capacity())
+                .set("value".getBytes(UTF_8))
+                .build();
+
+        for (long offset : offsets)
+        {
+            partition.writeEntry(null, 1L, 1L, offset, entryMark, valueMark, 0L, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+                ConverterHandler.NONE, false, null);
+        }
+    }
+
     public static class NodeTest
     {
         @Rule
@@ -257,6 +523,85 @@ public class KafkaCachePartitionTest
             assertEquals("[KafkaCacheSegment] test[0] @ 15 +1", head15s.toString());
         }
 
+        @Test
+        public void shouldPublishMaintainedSegments() throws Exception
+        {
+            Path location = tempFolder.newFolder().toPath();
+            KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+
+            MutableDirectBuffer writeBuffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+            MutableInteger entryMark = new MutableInteger(0);
+            MutableInteger valueMark = new MutableInteger(0);
+
+            KafkaKeyFW key = new KafkaKeyFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity())
+                .length(4)
+                .value(k -> k.set("test".getBytes(UTF_8)))
+                .build();
+
+            Array32FW<KafkaHeaderFW> headers = new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+                    .wrap(writeBuffer, key.limit(), writeBuffer.capacity())
+                    .build();
+
+            OctetsFW value = new OctetsFW.Builder()
+                    .wrap(writeBuffer, headers.limit(), writeBuffer.capacity())
+                    .set("value".getBytes(UTF_8))
+                    .build();
+
+            List<Runnable> tasks = new ArrayList<>();
+            LongArrayList durations = new LongArrayList();
+            LongArrayList reclaims = new LongArrayList();
+
+            KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+            partition.maintenance(tasks::add, durations::addLong, reclaims::addLong);
+
+            Node head10 = partition.append(10L);
+            KafkaCacheSegment head10s = head10.segment();
+
+            partition.writeEntry(null, 1L, 1L, 10L, entryMark, valueMark, 0L, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+                ConverterHandler.NONE, false, null);
+            partition.writeEntry(null, 1L, 1L, 11L, entryMark, valueMark, 0L, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+                ConverterHandler.NONE, false, null);
+
+            Node head15 = partition.append(15L);
+
+            assertSame(head10s, head10.segment());
+            assertEquals(1, tasks.size());
+
+            tasks.remove(0).run();
+            partition.publish();
+
+            KafkaCacheSegment tail10s = head10.segment();
+            assertNotSame(head10s, tail10s);
+
+            KafkaCacheEntryFW dirty = head10.findAndMarkDirty(new KafkaCacheEntryFW(), 10L);
+            assertNotNull(dirty);
+
+            long now = currentTimeMillis();
+            tail10s.cleanableAt(now);
+            head10.clean(now);
+
+            assertSame(tail10s, head10.segment());
+            assertEquals(1, tasks.size());
+
+            tasks.remove(0).run();
+            head10.findAndMarkDirty(new KafkaCacheEntryFW(), 11L);
+
+            assertSame(tail10s, head10.segment());
+
+            partition.publish();
+
+            KafkaCacheSegment clean10s = head10.segment();
+            assertNotSame(tail10s, clean10s);
+            assertEquals(11L, clean10s.lastOffset());
+            assertTrue(clean10s.dirtySince() != -1L);
+            assertEquals(1, durations.size());
+            assertEquals(1, reclaims.size());
+            assertTrue(reclaims.getLong(0) > 0L);
+            assertSame(head15, partition.head());
+        }
+
         @Test
         public void shouldSeekAncestor() throws Exception
         {
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaCacheCursor;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaFilterCondition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaEvaluation;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaFilterFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
+import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class KafkaCacheCursorBM
+{
+    @Param({"100000"})
+    public int entries;
+
+    @Param({"1000"})
+    public int keys;
+
+    private final KafkaCacheEntryFW entryRO = new KafkaCacheEntryFW();
+
+    private Path location;
+    private KafkaCachePartition partition;
+    private KafkaCacheCursorFactory cursorFactory;
+    private KafkaFilterCondition keyCondition;
+    private KafkaFilterCondition noneCondition;
+
+    @Setup
+    public void init() throws IOException
+    {
+        location = Files.createTempDirectory("kafka-cache-cursor");
+
+        KafkaConfiguration config = new KafkaConfiguration();
+        KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(config);
+        partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536, long[]::new);
+        cursorFactory = new KafkaCacheCursorFactory(65536, config.cacheCursorDeltaKeysMax());
+
+        MutableDirectBuffer writeBuffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+        MutableInteger entryMark = new MutableInteger(0);
+        MutableInteger valueMark = new MutableInteger(0);
+
+        Array32FW<KafkaHeaderFW> headers = new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+                .wrap(writeBuffer, 512, writeBuffer.capacity())
+                .build();
+
+        OctetsFW value = new OctetsFW.Builder()
+                .wrap(writeBuffer, headers.limit(), writeBuffer.capacity())
+                .set(new byte[64])
+                .build();
+
+        partition.append(0L);
+        for (int offset = 0; offset < entries; offset++)
+        {
+            byte[] keyBytes = String.format("key-%d", offset % keys).getBytes(UTF_8);
+            KafkaKeyFW key = new KafkaKeyFW.Builder().wrap(writeBuffer, 0, 512)
+                .length(keyBytes.length)
+                .value(k -> k.set(keyBytes))
+                .build();
+
+            partition.writeEntry(null, 1L, 1L, offset, entryMark, valueMark, 0L, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+                ConverterHandler.NONE, false, null);
+        }
+        partition.append(entries);
+
+        byte[] filterKey = "key-0".getBytes(UTF_8);
+        Array32FW<KafkaFilterFW> filters = new Array32FW.Builder<>(new KafkaFilterFW.Builder(), new KafkaFilterFW())
+                .wrap(new UnsafeBuffer(new byte[256]), 0, 256)
+                .item(f -> f.conditionsItem(c -> c.key(k -> k.length(filterKey.length).value(v -> v.set(filterKey)))))
+                .build();
+        Array32FW<KafkaFilterFW> noFilters = new Array32FW.Builder<>(new KafkaFilterFW.Builder(), new KafkaFilterFW())
+                .wrap(new UnsafeBuffer(new byte[64]), 0, 64)
+                .build();
+
+        keyCondition = cursorFactory.asCondition(filters, KafkaEvaluation.LAZY);
+        noneCondition = cursorFactory.asCondition(noFilters, KafkaEvaluation.LAZY);
+    }
+
+    @TearDown
+    public void close()
+    {
+        IoUtil.delete(location.toFile(), true);
+    }
+
+    @Benchmark
+    public void fetchFiltered(
+        Blackhole blackhole)
+    {
+        blackhole.consume(fetch(keyCondition, KafkaDeltaType.NONE));
+    }
+
+    @Benchmark
+    public void fetchUnfiltered(
+        Blackhole blackhole)
+    {
+        blackhole.consume(fetch(noneCondition, KafkaDeltaType.NONE));
+    }
+
+    @Benchmark
+    public void fetchDelta(
+        Blackhole blackhole)
+    {
+        blackhole.consume(fetch(noneCondition, KafkaDeltaType.JSON_PATCH));
+    }
+
+    private int fetch(
+        KafkaFilterCondition condition,
+        KafkaDeltaType deltaType)
+    {
+        int count = 0;
+
+        try (KafkaCacheCursor cursor = cursorFactory.newCursor(condition, deltaType))
+        {
+            Node tail = partition.sentinel().next();
+            cursor.init(tail, tail.segment().baseOffset(), entries);
+
+            for (KafkaCacheEntryFW entry = cursor.next(entryRO); entry != null; entry = cursor.next(entryRO))
+            {
+                count++;
+                cursor.advance(entry.offset$() + 1);
+            }
+        }
+
+        return count;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(KafkaCacheCursorBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec.COMPRESS_FAILED;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec.DECOMPRESS_FAILED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class KafkaGzipCodecTest
+{
+    @Test
+    public void shouldDecompress() throws Exception
+    {
+        byte[] expected = "Hello, world. Hello, world. Hello, world.".getBytes(UTF_8);
+        byte[] compressed = gzip(expected);
+
+        KafkaGzipCodec codec = new KafkaGzipCodec(1024);
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[1024]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(expected.length, length);
+        assertEquals("Hello, world. Hello, world. Hello, world.", output.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldDecompressRepeatedly() throws Exception
+    {
+        byte[] compressed = gzip("Hello, world".getBytes(UTF_8));
+
+        KafkaGzipCodec codec = new KafkaGzipCodec(1024);
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[1024]);
+
+        codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 16, output.capacity());
+
+        assertEquals("Hello, world", output.getStringWithoutLengthUtf8(16, length));
+    }
+
+    @Test
+    public void shouldNotDecompressWhenOutputOverflows() throws Exception
+    {
+        byte[] compressed = gzip("Hello, world".getBytes(UTF_8));
+
+        KafkaGzipCodec codec = new KafkaGzipCodec(1024);
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[8]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(DECOMPRESS_FAILED, length);
+    }
+
+    @Test
+    public void shouldNotDecompressInvalidHeader()
+    {
+        byte[] invalid = "Hello, world".getBytes(UTF_8);
+
+        KafkaGzipCodec codec = new KafkaGzipCodec(1024);
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[1024]);
+
+        int length = codec.decompress(new UnsafeBuffer(invalid), 0, invalid.length, output, 0, output.capacity());
+
+        assertEquals(DECOMPRESS_FAILED, length);
+    }
+
+    @Test
+    public void shouldCompress() throws Exception
+    {
+        byte[] expected = "Hello, world. Hello, world. Hello, world.".getBytes(UTF_8);
+
+        KafkaGzipCodec codec = new KafkaGzipCodec(1024);
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[1024]);
+
+        int length = codec.compress(new UnsafeBuffer(expected), 0, expected.length, output, 0, output.capacity());
+
+        byte[] compressed = new byte[length];
+        output.getBytes(0, compressed);
+
+        assertArrayEquals(expected, gunzip(compressed));
+    }
+
+    @Test
+    public void shouldNotCompressWhenOutputOverflows()
+    {
+        byte[] input = "Hello, world".getBytes(UTF_8);
+
+        KafkaGzipCodec codec = new KafkaGzipCodec(1024);
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[12]);
+
+        int length = codec.compress(new UnsafeBuffer(input), 0, input.length, output, 0, output.capacity());
+
+        assertEquals(COMPRESS_FAILED, length);
+    }
+
+    private static byte[] gunzip(
+        byte[] bytes) throws Exception
+    {
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(bytes)))
+        {
+            return gunzip.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(
+        byte[] bytes) throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out))
+        {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec.COMPRESS_FAILED;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec.DECOMPRESS_FAILED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class KafkaLz4CodecTest
+{
+    @Test
+    public void shouldDecompressFrame()
+    {
+        byte[] compressed =
+        {
+            0x04, 0x22, 0x4d, 0x18,                 // magic
+            0x60, 0x40, (byte) 0x82,                // FLG, BD, HC
+            0x0b, 0x00, 0x00, 0x00,                 // block length
+            0x44, 'a', 'b', 'c', 'd', 0x04, 0x00,   // 4 literals, match length 8, offset 4
+            0x30, 'x', 'y', 'z',                    // 3 literals
+            0x00, 0x00, 0x00, 0x00                  // end mark
+        };
+
+        KafkaLz4Codec codec = new KafkaLz4Codec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[64]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(15, length);
+        assertEquals("abcdabcdabcdxyz", output.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldDecompressUncompressedBlock()
+    {
+        byte[] compressed =
+        {
+            0x04, 0x22, 0x4d, 0x18,
+            0x60, 0x40, (byte) 0x82,
+            0x03, 0x00, 0x00, (byte) 0x80,          // uncompressed block length
+            'x', 'y', 'z',
+            0x00, 0x00, 0x00, 0x00
+        };
+
+        KafkaLz4Codec codec = new KafkaLz4Codec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[64]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(3, length);
+        assertEquals("xyz", output.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldNotDecompressInvalidMagic()
+    {
+        byte[] compressed =
+        {
+            0x00, 0x22, 0x4d, 0x18,
+            0x60, 0x40, (byte) 0x82,
+            0x00, 0x00, 0x00, 0x00
+        };
+
+        KafkaLz4Codec codec = new KafkaLz4Codec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[64]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(DECOMPRESS_FAILED, length);
+    }
+
+    @Test
+    public void shouldCompressAndDecompress()
+    {
+        byte[] expected = new byte[100 * 1024];
+        for (int index = 0; index < expected.length; index++)
+        {
+            expected[index] = (byte) (index % 251 < 128 ? 'a' + index % 7 : index * 31);
+        }
+
+        KafkaLz4Codec codec = new KafkaLz4Codec();
+        MutableDirectBuffer compressed = new UnsafeBuffer(new byte[expected.length + 1024]);
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[expected.length]);
+
+        int compressedLength = codec.compress(new UnsafeBuffer(expected), 0, expected.length,
+            compressed, 0, compressed.capacity());
+        int length = codec.decompress(compressed, 0, compressedLength, output, 0, output.capacity());
+
+        assertTrue(compressedLength < expected.length);
+        assertEquals(expected.length, length);
+        assertArrayEquals(expected, output.byteArray());
+    }
+
+    @Test
+    public void shouldNotCompressWhenOutputOverflows()
+    {
+        byte[] input = "abcdefghijklmnopqrstuvwxyz".getBytes(UTF_8);
+
+        KafkaLz4Codec codec = new KafkaLz4Codec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[16]);
+
+        int length = codec.compress(new UnsafeBuffer(input), 0, input.length, output, 0, output.capacity());
+
+        assertEquals(COMPRESS_FAILED, length);
+    }
+
+    @Test
+    public void shouldComputeHeaderChecksum()
+    {
+        assertEquals((byte) 0x82, KafkaLz4Codec.headerChecksum(0x60, 0x40));
+    }
+}
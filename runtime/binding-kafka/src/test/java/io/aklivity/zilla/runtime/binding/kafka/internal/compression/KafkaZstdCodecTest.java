@@ -0,0 +1,167 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec.COMPRESS_FAILED;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec.DECOMPRESS_FAILED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class KafkaZstdCodecTest
+{
+    @Test
+    public void shouldDecompressFrame()
+    {
+        byte[] compressed =
+        {
+            0x28, (byte) 0xb5, 0x2f, (byte) 0xfd, 0x20, 0x29, (byte) 0xa5, 0x00,
+            0x00, 0x70, 0x48, 0x65, 0x6c, 0x6c, 0x6f, 0x2c,
+            0x20, 0x57, 0x6f, 0x72, 0x6c, 0x64, 0x21, 0x20,
+            0x01, 0x00, 0x11, 0x4e, 0x25
+        };
+
+        KafkaZstdCodec codec = new KafkaZstdCodec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[64]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(41, length);
+        assertEquals("Hello, World! Hello, World! Hello, World!", output.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldDecompressHuffmanLiterals()
+    {
+        byte[] compressed =
+        {
+            0x28, (byte) 0xb5, 0x2f, (byte) 0xfd, 0x20, 0x68, (byte) 0xfd, 0x01,
+            0x00, (byte) 0xd2, (byte) 0x83, 0x0d, 0x12, (byte) 0x90, (byte) 0xcf, 0x01,
+            0x60, (byte) 0x83, 0x0d, 0x36, (byte) 0xd8, 0x60, (byte) 0x83, 0x05,
+            (byte) 0xbb, (byte) 0xbb, 0x43, 0x6c, (byte) 0xec, 0x3a, 0x07, 0x0d,
+            (byte) 0xb5, (byte) 0xe9, (byte) 0x8f, (byte) 0xd6, 0x6f, (byte) 0xa8, 0x4d, (byte) 0xff,
+            (byte) 0xc0, (byte) 0xb8, 0x71, (byte) 0x9c, 0x7b, (byte) 0x9d, (byte) 0x9c, (byte) 0xf9,
+            0x48, (byte) 0xaa, (byte) 0xbb, 0x7c, (byte) 0x8c, (byte) 0xa6, 0x5f, 0x57,
+            (byte) 0xde, (byte) 0xac, (byte) 0x8b, (byte) 0xe1, 0x4a, 0x20, 0x0a, 0x4f,
+            (byte) 0xce, 0x0c, 0x01, 0x00, 0x05, (byte) 0x9a, (byte) 0xaa, 0x0c
+        };
+
+        KafkaZstdCodec codec = new KafkaZstdCodec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[128]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(104, length);
+        assertEquals("the quick brown fox jumps over the lazy dog, " +
+            "the quick brown fox jumps over the lazy dog again and again", output.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldDecompressRleBlock()
+    {
+        byte[] compressed =
+        {
+            0x28, (byte) 0xb5, 0x2f, (byte) 0xfd,   // magic
+            0x20, 0x05,                             // FHD single segment, content size
+            0x2b, 0x00, 0x00,                       // last RLE block, size 5
+            'z'
+        };
+
+        KafkaZstdCodec codec = new KafkaZstdCodec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[64]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(5, length);
+        assertEquals("zzzzz", output.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldNotDecompressInvalidMagic()
+    {
+        byte[] compressed =
+        {
+            0x00, (byte) 0xb5, 0x2f, (byte) 0xfd,
+            0x20, 0x05,
+            0x2b, 0x00, 0x00,
+            'z'
+        };
+
+        KafkaZstdCodec codec = new KafkaZstdCodec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[64]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(DECOMPRESS_FAILED, length);
+    }
+
+    @Test
+    public void shouldNotDecompressWhenOutputOverflows()
+    {
+        byte[] compressed =
+        {
+            0x28, (byte) 0xb5, 0x2f, (byte) 0xfd, 0x20, 0x29, (byte) 0xa5, 0x00,
+            0x00, 0x70, 0x48, 0x65, 0x6c, 0x6c, 0x6f, 0x2c,
+            0x20, 0x57, 0x6f, 0x72, 0x6c, 0x64, 0x21, 0x20,
+            0x01, 0x00, 0x11, 0x4e, 0x25
+        };
+
+        KafkaZstdCodec codec = new KafkaZstdCodec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[16]);
+
+        int length = codec.decompress(new UnsafeBuffer(compressed), 0, compressed.length, output, 0, output.capacity());
+
+        assertEquals(DECOMPRESS_FAILED, length);
+    }
+
+    @Test
+    public void shouldCompressAndDecompress()
+    {
+        byte[] expected = new byte[200 * 1024];
+        for (int index = 0; index < expected.length; index++)
+        {
+            expected[index] = (byte) (index < 64 * 1024 ? 'a' : 'a' + index % 7);
+        }
+
+        KafkaZstdCodec codec = new KafkaZstdCodec();
+        MutableDirectBuffer compressed = new UnsafeBuffer(new byte[expected.length + 1024]);
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[expected.length]);
+
+        int compressedLength = codec.compress(new UnsafeBuffer(expected), 0, expected.length,
+            compressed, 0, compressed.capacity());
+        int length = codec.decompress(compressed, 0, compressedLength, output, 0, output.capacity());
+
+        assertEquals(expected.length, length);
+        assertArrayEquals(expected, output.byteArray());
+    }
+
+    @Test
+    public void shouldNotCompressWhenOutputOverflows()
+    {
+        byte[] input = "abcdefghijklmnopqrstuvwxyz".getBytes(UTF_8);
+
+        KafkaZstdCodec codec = new KafkaZstdCodec();
+        MutableDirectBuffer output = new UnsafeBuffer(new byte[16]);
+
+        int length = codec.compress(new UnsafeBuffer(input), 0, input.length, output, 0, output.capacity());
+
+        assertEquals(COMPRESS_FAILED, length);
+    }
+}
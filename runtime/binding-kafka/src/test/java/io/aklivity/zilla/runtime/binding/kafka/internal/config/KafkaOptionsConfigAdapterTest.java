@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.config;
 
+import static io.aklivity.zilla.runtime.binding.kafka.config.KafkaCompressionConfig.LZ4;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType.JSON_PATCH;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType.LIVE;
 import static java.util.Collections.singletonList;
@@ -24,6 +25,8 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertEquals;
 
+import java.util.List;
+
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbConfig;
@@ -266,4 +269,133 @@ public class KafkaOptionsConfigAdapterTest
         assertThat(text, equalTo("{\"bootstrap\":[\"test\"],\"topics\":[{\"name\":\"test\",\"value\":\"test\"," +
             "\"transforms\":{\"extract-headers\":{\"correlation-id\":\"${message.value.correlationId}\"}}}]}"));
     }
+
+    @Test
+    public void shouldReadIndexesOptions()
+    {
+        String text =
+            "{" +
+                "\"bootstrap\":" +
+                "[" +
+                    "\"test\"" +
+                "]," +
+                "\"topics\":" +
+                "[" +
+                    "{" +
+                    "\"name\": \"test\"," +
+                    "\"indexes\":" +
+                    "[" +
+                        "\"zilla:identity\"," +
+                        "\"tenant-id\"" +
+                    "]" +
+                    "}" +
+                "]" +
+            "}";
+
+        KafkaOptionsConfig options = jsonb.fromJson(text, KafkaOptionsConfig.class);
+
+        assertThat(options, not(nullValue()));
+        assertThat(options.topics.get(0).indexes, equalTo(List.of("zilla:identity", "tenant-id")));
+    }
+
+    @Test
+    public void shouldWriteIndexesOptions()
+    {
+        KafkaOptionsConfig options = KafkaOptionsConfig.builder()
+            .bootstrap("test")
+            .topic()
+                .name("test")
+                .index("zilla:identity")
+                .index("tenant-id")
+                .build()
+            .build();
+
+        String text = jsonb.toJson(options);
+
+        assertThat(text, not(nullValue()));
+        assertThat(text, equalTo("{\"bootstrap\":[\"test\"],\"topics\":[{\"name\":\"test\"," +
+            "\"indexes\":[\"zilla:identity\",\"tenant-id\"]}]}"));
+    }
+
+    @Test
+    public void shouldReadProduceOptions()
+    {
+        String text =
+            "{" +
+                "\"servers\":" +
+                "[" +
+                    "\"localhost:9092\"" +
+                "]," +
+                "\"produce\":" +
+                "{" +
+                    "\"compression\": \"lz4\"," +
+                    "\"linger\": 10," +
+                    "\"batchSize\": 65536" +
+                "}" +
+            "}";
+
+        KafkaOptionsConfig options = jsonb.fromJson(text, KafkaOptionsConfig.class);
+
+        assertThat(options, not(nullValue()));
+        assertThat(options.produce.compression, equalTo(LZ4));
+        assertThat(options.produce.linger, equalTo(10L));
+        assertThat(options.produce.batchSize, equalTo(65536));
+    }
+
+    @Test
+    public void shouldWriteProduceOptions()
+    {
+        KafkaOptionsConfig options = KafkaOptionsConfig.builder()
+            .server()
+                .host("localhost")
+                .port(9092)
+                .build()
+            .produce()
+                .compression(LZ4)
+                .linger(10L)
+                .batchSize(65536)
+                .build()
+            .build();
+
+        String text = jsonb.toJson(options);
+
+        assertThat(text, not(nullValue()));
+        assertThat(text, equalTo("{\"servers\":[\"localhost:9092\"]," +
+            "\"produce\":{\"compression\":\"lz4\",\"linger\":10,\"batchSize\":65536}}"));
+    }
+
+    @Test
+    public void shouldReadRackOption()
+    {
+        String text =
+            "{" +
+                "\"servers\":" +
+                "[" +
+                    "\"localhost:9092\"" +
+                "]," +
+                "\"rack\": \"use1-az1\"" +
+            "}";
+
+        KafkaOptionsConfig options = jsonb.fromJson(text, KafkaOptionsConfig.class);
+
+        assertThat(options, not(nullValue()));
+        assertThat(options.rack, equalTo("use1-az1"));
+    }
+
+    @Test
+    public void shouldWriteRackOption()
+    {
+        KafkaOptionsConfig options = KafkaOptionsConfig.builder()
+            .server()
+                .host("localhost")
+                .port(9092)
+                .build()
+            .rack("use1-az1")
+            .build();
+
+        String text = jsonb.toJson(options);
+
+        assertThat(text, not(nullValue()));
+        assertThat(text, equalTo("{\"servers\":[\"localhost:9092\"],\"rack\":\"use1-az1\"}"));
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_BUFFER_SLOT_CAPACITY;
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DRAIN_ON_CLOSE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.rules.RuleChain.outerRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.DisableOnDebug;
+import org.junit.rules.TestRule;
+import org.junit.rules.Timeout;
+
+import io.aklivity.k3po.runtime.junit.annotation.Specification;
+import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfigurationTest;
+import io.aklivity.zilla.runtime.engine.test.EngineRule;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
+
+public class ClientFetchSessionIT
+{
+    private final K3poRule k3po = new K3poRule()
+        .addScriptRoot("net", "io/aklivity/zilla/specs/binding/kafka/streams/network/fetch.v7")
+        .addScriptRoot("app", "io/aklivity/zilla/specs/binding/kafka/streams/application/fetch");
+
+    private final TestRule timeout = new DisableOnDebug(new Timeout(10, SECONDS));
+
+    private final EngineRule engine = new EngineRule()
+        .directory("target/zilla-itests")
+        .countersBufferCapacity(8192)
+        .configure(ENGINE_BUFFER_SLOT_CAPACITY, 8192)
+        .configure(ENGINE_DRAIN_ON_CLOSE, false)
+        .configurationRoot("io/aklivity/zilla/specs/binding/kafka/config")
+        .external("net0")
+        .clean();
+
+    @Rule
+    public final TestRule chain = outerRule(engine).around(k3po).around(timeout);
+
+    @Test
+    @Configuration("client.when.topic.yaml")
+    @Configure(name = KafkaConfigurationTest.KAFKA_CLIENT_FETCH_SESSION_NAME, value = "true")
+    @Specification({
+        "${app}/session.incremental/client",
+        "${net}/session.incremental/server"})
+    public void shouldReceiveMessagesInIncrementalSession() throws Exception
+    {
+        k3po.start();
+        k3po.awaitBarrier("RECEIVED_INCREMENTAL_FETCH");
+        k3po.notifyBarrier("JOIN_SECOND_PARTITION");
+        Thread.sleep(200); // allow second partition to join the in-flight session
+        k3po.notifyBarrier("JOINED_SECOND_PARTITION");
+        k3po.awaitBarrier("RECEIVED_SECOND_INCREMENTAL_FETCH");
+        k3po.notifyBarrier("LEAVE_FIRST_PARTITION");
+        Thread.sleep(200); // allow first partition to leave the in-flight session
+        k3po.notifyBarrier("LEFT_FIRST_PARTITION");
+        k3po.awaitBarrier("RECEIVED_FORGOTTEN_FETCH");
+        k3po.notifyBarrier("LEAVE_SECOND_PARTITION");
+        Thread.sleep(200); // allow second partition to leave the in-flight session
+        k3po.notifyBarrier("LEFT_SECOND_PARTITION");
+        k3po.finish();
+    }
+}
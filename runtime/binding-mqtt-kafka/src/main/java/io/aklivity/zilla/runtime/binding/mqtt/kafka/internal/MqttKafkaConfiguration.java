@@ -42,6 +42,7 @@ public class MqttKafkaConfiguration extends Configuration
     public static final IntPropertyDef BOOTSTRAP_STREAM_RECONNECT_DELAY;
     public static final IntPropertyDef PUBLISH_QOS_MAX;
     public static final PropertyDef<String> KAFKA_GROUP_ID_PREFIX;
+    public static final BooleanPropertyDef SUBSCRIBE_FANOUT;
 
     static
     {
@@ -62,6 +63,7 @@ public class MqttKafkaConfiguration extends Configuration
         BOOTSTRAP_STREAM_RECONNECT_DELAY = config.property("bootstrap.stream.reconnect", 2);
         PUBLISH_QOS_MAX = config.property("publish.qos.max", 2);
         KAFKA_GROUP_ID_PREFIX = config.property("group.id.prefix.format", "zilla:%s-%s");
+        SUBSCRIBE_FANOUT = config.property("subscribe.fanout", false);
         MQTT_KAFKA_CONFIG = config;
     }
 
@@ -131,6 +133,11 @@ public class MqttKafkaConfiguration extends Configuration
         return KAFKA_GROUP_ID_PREFIX.get(this);
     }
 
+    public boolean subscribeFanout()
+    {
+        return SUBSCRIBE_FANOUT.get(this);
+    }
+
 
     private static StringSupplier decodeStringSupplier(
         String fullyQualifiedMethodName)
@@ -158,6 +158,9 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
     private final MutableDirectBuffer subscriptionIdsBuffer;
     private final MutableDirectBuffer filterBuffer;
     private final MutableDirectBuffer offsetBuffer;
+    private final MutableDirectBuffer fanoutKeyBuffer;
+    private final DirectBuffer fanoutKeyRO = new UnsafeBuffer();
+    private final MutableInteger fanoutKeyLimit = new MutableInteger();
     private final BindingHandler streamFactory;
     private final Signaler signaler;
     private final BufferPool bufferPool;
@@ -180,6 +183,8 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
     private final String groupIdPrefixFormat;
     private final Function<Long, String> supplyNamespace;
     private final Function<Long, String> supplyLocalName;
+    private final boolean fanoutAvailable;
+    private final Long2ObjectHashMap<List<KafkaMessagesFanout>> fanouts;
 
     private int reconnectAttempt;
     private String groupIdPrefix;
@@ -196,6 +201,7 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         this.subscriptionIdsBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
         this.filterBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
         this.offsetBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
+        this.fanoutKeyBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
         this.streamFactory = context.streamFactory();
         this.signaler = context.signaler();
         this.bufferPool = context.bufferPool();
@@ -218,6 +224,8 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         this.groupIdPrefixFormat = config.groupIdPrefixFormat();
         this.supplyNamespace = context::supplyNamespace;
         this.supplyLocalName = context::supplyLocalName;
+        this.fanoutAvailable = config.subscribeFanout();
+        this.fanouts = new Long2ObjectHashMap<>();
     }
 
     @Override
@@ -1146,6 +1154,8 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         private int replyPad;
         private boolean expiredMessage;
         private int bufferedDataFlags;
+        private KafkaMessagesFanout fanout;
+        private boolean fanoutSkip;
 
         private KafkaMessagesProxy(
             long originId,
@@ -1268,7 +1278,6 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
 
             assert replyAck <= replySeq;
 
-            sendData:
             if (replySeq > replyAck + replyMax)
             {
                 doKafkaReset(traceId);
@@ -1285,6 +1294,41 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
                     dataEx != null && dataEx.typeId() == kafkaTypeId ? extension.get(kafkaDataExRO::tryWrap) : null;
                 final KafkaMergedDataExFW kafkaMergedDataEx =
                     kafkaDataEx != null && kafkaDataEx.kind() == KafkaDataExFW.KIND_MERGED ? kafkaDataEx.merged() : null;
+
+                onKafkaMergedData(traceId, authorization, budgetId, reserved, flags, length, payload, kafkaMergedDataEx);
+            }
+        }
+
+        private void onFanoutData(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int flags,
+            int length,
+            OctetsFW payload,
+            KafkaMergedDataExFW kafkaMergedDataEx)
+        {
+            fanoutSkip &= (flags & DATA_FLAG_INIT) == 0x00;
+
+            if (!fanoutSkip)
+            {
+                onKafkaMergedData(traceId, authorization, budgetId, reserved, flags, length, payload, kafkaMergedDataEx);
+            }
+        }
+
+        private void onKafkaMergedData(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int flags,
+            int length,
+            OctetsFW payload,
+            KafkaMergedDataExFW kafkaMergedDataEx)
+        {
+            sendData:
+            {
                 final OctetsFW key = kafkaMergedDataEx != null ? kafkaMergedDataEx.fetch().key().value() : null;
                 final long filters = kafkaMergedDataEx != null ? kafkaMergedDataEx.fetch().filters() : 0;
                 final KafkaOffsetFW partition = kafkaMergedDataEx != null ? kafkaMergedDataEx.fetch().partition() : null;
@@ -1399,8 +1443,14 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
 
                 if (!expiredMessage)
                 {
-                    if (!MqttKafkaState.initialOpened(mqtt.retained.state) ||
-                        MqttKafkaState.replyClosed(mqtt.retained.state))
+                    final boolean retainedOpen = MqttKafkaState.initialOpened(mqtt.retained.state) &&
+                        !MqttKafkaState.replyClosed(mqtt.retained.state);
+
+                    // a shared fetch may run ahead of this subscriber, so buffer until its own window catches up
+                    final boolean fanoutBlocked = fanout != null &&
+                        (dataSlot != NO_SLOT || mqtt.replyWindow() < reserved);
+
+                    if (!retainedOpen && !fanoutBlocked)
                     {
                         mqtt.doMqttData(traceId, authorization, budgetId, reserved, flags, payload, mqttSubscribeDataEx);
                         mqtt.mqttSharedBudget -= length;
@@ -1416,17 +1466,19 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
                         {
                             cleanup(traceId, authorization);
                         }
-
-
-                        final MutableDirectBuffer dataBuffer = bufferPool.buffer(dataSlot);
-                        Flyweight message = mqttSubscribeMessageRW.wrap(dataBuffer, messageSlotLimit, dataBuffer.capacity())
-                            .extension(mqttSubscribeDataEx.buffer(), mqttSubscribeDataEx.offset(), mqttSubscribeDataEx.sizeof())
-                            .payload(payload)
-                            .build();
-
-                        bufferedDataFlags = flags;
-                        messageSlotLimit = message.limit();
-                        messageSlotReserved += reserved;
+                        else
+                        {
+                            final MutableDirectBuffer dataBuffer = bufferPool.buffer(dataSlot);
+                            Flyweight message = mqttSubscribeMessageRW.wrap(dataBuffer, messageSlotLimit, dataBuffer.capacity())
+                                .extension(mqttSubscribeDataEx.buffer(), mqttSubscribeDataEx.offset(),
+                                    mqttSubscribeDataEx.sizeof())
+                                .payload(payload)
+                                .build();
+
+                            bufferedDataFlags = flags;
+                            messageSlotLimit = message.limit();
+                            messageSlotReserved += reserved;
+                        }
                     }
                 }
 
@@ -1601,12 +1653,91 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
                 initialMax = mqtt.initialMax;
                 state = MqttKafkaState.openingInitial(state);
 
-                kafka = newKafkaStream(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                    traceId, authorization, affinity, mqtt.clientId, topic, filterBuilder.build(), mqtt.qos,
-                    KafkaOffsetType.LIVE);
+                final Array32FW<MqttTopicFilterFW> messagesFilters = filterBuilder.build();
+                final DirectBuffer fanoutKey = fanoutKey(messagesFilters);
+
+                if (fanoutKey != null)
+                {
+                    fanout = supplyFanout(authorization, fanoutKey);
+                    fanout.join(this, traceId, authorization, affinity, messagesFilters);
+                }
+                else
+                {
+                    kafka = newKafkaStream(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck,
+                        initialMax, traceId, authorization, affinity, mqtt.clientId, topic, messagesFilters, mqtt.qos,
+                        KafkaOffsetType.LIVE);
+                }
             }
         }
 
+        private DirectBuffer fanoutKey(
+            Array32FW<MqttTopicFilterFW> filters)
+        {
+            DirectBuffer fanoutKey = null;
+
+            if (fanoutAvailable &&
+                mqtt.qos == MqttQoS.AT_MOST_ONCE.value() &&
+                !filters.isEmpty() &&
+                !filters.anyMatch(f -> (f.flags() & NO_LOCAL_FLAG) != 0))
+            {
+                fanoutKeyBuffer.putBytes(0, topic.buffer(), topic.offset(), topic.sizeof());
+                fanoutKeyLimit.value = topic.sizeof();
+                filters.forEach(f ->
+                {
+                    final String16FW pattern = f.pattern();
+                    int limit = fanoutKeyLimit.value;
+                    fanoutKeyBuffer.putByte(limit, (byte) f.qos());
+                    limit += Byte.BYTES;
+                    fanoutKeyBuffer.putInt(limit, messagesSubscriptionIds.indexOf((int) f.subscriptionId()));
+                    limit += Integer.BYTES;
+                    fanoutKeyBuffer.putBytes(limit, pattern.buffer(), pattern.offset(), pattern.sizeof());
+                    limit += pattern.sizeof();
+                    fanoutKeyLimit.value = limit;
+                });
+                fanoutKeyRO.wrap(fanoutKeyBuffer, 0, fanoutKeyLimit.value);
+                fanoutKey = fanoutKeyRO;
+            }
+
+            return fanoutKey;
+        }
+
+        private KafkaMessagesFanout supplyFanout(
+            long authorization,
+            DirectBuffer key)
+        {
+            long keyHash = routedId;
+            keyHash = 31L * keyHash + authorization;
+            for (int index = 0; index < key.capacity(); index++)
+            {
+                keyHash = 31L * keyHash + key.getByte(index);
+            }
+
+            List<KafkaMessagesFanout> candidates = fanouts.get(keyHash);
+            if (candidates == null)
+            {
+                candidates = new ArrayList<>(1);
+                fanouts.put(keyHash, candidates);
+            }
+
+            KafkaMessagesFanout fanout = null;
+            for (int index = 0; index < candidates.size() && fanout == null; index++)
+            {
+                final KafkaMessagesFanout candidate = candidates.get(index);
+                if (candidate.matches(routedId, authorization, key))
+                {
+                    fanout = candidate;
+                }
+            }
+
+            if (fanout == null)
+            {
+                fanout = new KafkaMessagesFanout(keyHash, authorization, key, this);
+                candidates.add(fanout);
+            }
+
+            return fanout;
+        }
+
         @Override
         protected void doKafkaConsumerFlush(
             long traceId,
@@ -1660,6 +1791,47 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
             int reserved,
             int qos,
             Array32FW<MqttTopicFilterFW> filters)
+        {
+            if (fanout != null)
+            {
+                doKafkaRefanout(traceId, authorization, filters);
+            }
+            else
+            {
+                doKafkaFetchFlush(traceId, authorization, budgetId, reserved, qos, filters);
+            }
+        }
+
+        private void doKafkaRefanout(
+            long traceId,
+            long authorization,
+            Array32FW<MqttTopicFilterFW> filters)
+        {
+            fanout.leave(this, traceId, authorization);
+            fanout = null;
+            fanoutSkip = false;
+            state = 0;
+
+            filters.forEach(filter ->
+            {
+                if (matchesTopicFilter(filter.pattern().asString()) &&
+                    (filter.flags() & SEND_RETAIN_FLAG) != 0)
+                {
+                    mqtt.retainAvailable = true;
+                }
+            });
+
+            messagesSubscriptionIds.clear();
+            doKafkaBegin(traceId, authorization, 0, filters);
+        }
+
+        private void doKafkaFetchFlush(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int qos,
+            Array32FW<MqttTopicFilterFW> filters)
         {
             initialSeq = mqtt.initialSeq;
 
@@ -1741,7 +1913,11 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            if (MqttKafkaState.initialOpened(state) && !MqttKafkaState.initialClosed(state))
+            if (fanout != null)
+            {
+                doKafkaLeave(traceId, authorization);
+            }
+            else if (MqttKafkaState.initialOpened(state) && !MqttKafkaState.initialClosed(state))
             {
                 initialSeq = mqtt.initialSeq;
                 initialAck = mqtt.initialAck;
@@ -1756,7 +1932,11 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            if (MqttKafkaState.initialOpened(state) && !MqttKafkaState.initialClosed(state))
+            if (fanout != null)
+            {
+                doKafkaLeave(traceId, authorization);
+            }
+            else if (MqttKafkaState.initialOpened(state) && !MqttKafkaState.initialClosed(state))
             {
                 initialSeq = mqtt.initialSeq;
                 initialAck = mqtt.initialAck;
@@ -1770,7 +1950,11 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         private void doKafkaReset(
             long traceId)
         {
-            if (MqttKafkaState.initialOpened(state) && !MqttKafkaState.replyClosed(state))
+            if (fanout != null)
+            {
+                doKafkaLeave(traceId, 0L);
+            }
+            else if (MqttKafkaState.initialOpened(state) && !MqttKafkaState.replyClosed(state))
             {
                 state = MqttKafkaState.closeReply(state);
 
@@ -1778,6 +1962,18 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
             }
         }
 
+        private void doKafkaLeave(
+            long traceId,
+            long authorization)
+        {
+            if (!MqttKafkaState.initialClosed(state))
+            {
+                state = MqttKafkaState.closeReply(MqttKafkaState.closeInitial(state));
+
+                fanout.leave(this, traceId, authorization);
+            }
+        }
+
         private void doKafkaWindow(
             long traceId,
             long authorization,
@@ -1785,7 +1981,11 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
             int padding,
             int capabilities)
         {
-            if (MqttKafkaState.replyOpening(state))
+            if (fanout != null)
+            {
+                fanout.doKafkaWindow(traceId, authorization, capabilities);
+            }
+            else if (MqttKafkaState.replyOpening(state))
             {
                 final int replyWin = replyMax - (int) (replySeq - replyAck);
                 final int newReplyWin = mqtt.mqttSharedBudget;
@@ -1813,6 +2013,33 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
             }
         }
 
+        private void onFanoutBegin(
+            long traceId,
+            long authorization,
+            long affinity)
+        {
+            state = MqttKafkaState.openingReply(state);
+
+            mqtt.doMqttBegin(traceId, authorization, affinity);
+        }
+
+        private void onFanoutWindow(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int padding,
+            int capabilities)
+        {
+            state = MqttKafkaState.openInitial(state);
+
+            mqtt.doMqttWindow(authorization, traceId, budgetId, padding, capabilities);
+        }
+
+        private int fanoutWindow()
+        {
+            return mqtt.replyWindow() - (messageSlotLimit - messageSlotOffset);
+        }
+
         private void flushDataIfNecessary(
             long traceId,
             long authorization,
@@ -1865,6 +2092,467 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         }
     }
 
+    private final class KafkaMessagesFanout
+    {
+        private final long keyHash;
+        private final long authorization;
+        private final DirectBuffer key;
+        private final String16FW topic;
+        private final long topicKey;
+        private final long originId;
+        private final long routedId;
+        private final long initialId;
+        private final long replyId;
+        private final List<KafkaMessagesProxy> members;
+        private MessageConsumer kafka;
+
+        private int state;
+
+        private long initialSeq;
+        private long initialAck;
+        private int initialMax;
+        private long initialBud;
+        private int initialPad;
+        private int initialCap;
+
+        private long replySeq;
+        private long replyAck;
+        private int replyMax;
+        private int replyPad;
+        private long replyAffinity;
+        private boolean fragmented;
+
+        private KafkaMessagesFanout(
+            long keyHash,
+            long authorization,
+            DirectBuffer key,
+            KafkaMessagesProxy messages)
+        {
+            this.keyHash = keyHash;
+            this.authorization = authorization;
+            final MutableDirectBuffer keyCopy = new UnsafeBuffer(new byte[key.capacity()]);
+            keyCopy.putBytes(0, key, 0, key.capacity());
+            this.key = keyCopy;
+            this.topic = messages.topic;
+            this.topicKey = messages.topicKey;
+            this.originId = messages.originId;
+            this.routedId = messages.routedId;
+            this.initialId = supplyInitialId.applyAsLong(routedId);
+            this.replyId = supplyReplyId.applyAsLong(initialId);
+            this.members = new ArrayList<>();
+        }
+
+        private void onKafkaMessage(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
+            {
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onKafkaBegin(begin);
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                onKafkaData(data);
+                break;
+            case EndFW.TYPE_ID:
+                final EndFW end = endRO.wrap(buffer, index, index + length);
+                onKafkaEnd(end);
+                break;
+            case AbortFW.TYPE_ID:
+                final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                onKafkaAbort(abort);
+                break;
+            case FlushFW.TYPE_ID:
+                final FlushFW flush = flushRO.wrap(buffer, index, index + length);
+                onKafkaFlush(flush);
+                break;
+            case WindowFW.TYPE_ID:
+                final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                onKafkaWindow(window);
+                break;
+            case ResetFW.TYPE_ID:
+                final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                onKafkaReset(reset);
+                break;
+            }
+        }
+
+        private void onKafkaBegin(
+            BeginFW begin)
+        {
+            final long sequence = begin.sequence();
+            final long acknowledge = begin.acknowledge();
+            final int maximum = begin.maximum();
+            final long traceId = begin.traceId();
+            final long authorization = begin.authorization();
+            final long affinity = begin.affinity();
+            final OctetsFW extension = begin.extension();
+            final ExtensionFW beginEx = extension.get(extensionRO::tryWrap);
+            final KafkaBeginExFW kafkaBeginEx =
+                beginEx != null && beginEx.typeId() == kafkaTypeId ? extension.get(kafkaBeginExRO::tryWrap) : null;
+            final KafkaMergedBeginExFW kafkaMergedBeginEx =
+                kafkaBeginEx != null && kafkaBeginEx.kind() == KafkaDataExFW.KIND_MERGED ? kafkaBeginEx.merged() : null;
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+            assert acknowledge >= replyAck;
+
+            replySeq = sequence;
+            replyAck = acknowledge;
+            replyMax = maximum;
+            replyAffinity = affinity;
+            state = MqttKafkaState.openingReply(state);
+
+            assert replyAck <= replySeq;
+
+            if (kafkaMergedBeginEx != null)
+            {
+                kafkaMergedBeginEx.partitions().forEach(p ->
+                    highWaterMarks.put(topicPartitionKey(topicKey, p.partitionId()),
+                        new OffsetHighWaterMark(p.stableOffset() + 1)));
+            }
+
+            for (int i = members.size() - 1; i >= 0; i--)
+            {
+                members.get(i).onFanoutBegin(traceId, authorization, affinity);
+            }
+
+            doKafkaWindow(traceId, authorization, 0);
+        }
+
+        private void onKafkaData(
+            DataFW data)
+        {
+            final long sequence = data.sequence();
+            final long acknowledge = data.acknowledge();
+            final long traceId = data.traceId();
+            final long authorization = data.authorization();
+            final long budgetId = data.budgetId();
+            final int reserved = data.reserved();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence + reserved;
+
+            assert replyAck <= replySeq;
+
+            if (replySeq > replyAck + replyMax)
+            {
+                doKafkaReset(traceId);
+                doKafkaAbort(traceId, authorization);
+                onFanoutClosed();
+
+                for (int i = members.size() - 1; i >= 0; i--)
+                {
+                    members.get(i).mqtt.doMqttAbort(traceId, authorization);
+                }
+                members.clear();
+            }
+            else
+            {
+                final int flags = data.flags();
+                final int length = data.length();
+                final OctetsFW payload = data.payload();
+                final OctetsFW extension = data.extension();
+                final ExtensionFW dataEx = extension.get(extensionRO::tryWrap);
+                final KafkaDataExFW kafkaDataEx =
+                    dataEx != null && dataEx.typeId() == kafkaTypeId ? extension.get(kafkaDataExRO::tryWrap) : null;
+                final KafkaMergedDataExFW kafkaMergedDataEx =
+                    kafkaDataEx != null && kafkaDataEx.kind() == KafkaDataExFW.KIND_MERGED ? kafkaDataEx.merged() : null;
+
+                for (int i = members.size() - 1; i >= 0; i--)
+                {
+                    members.get(i).onFanoutData(traceId, authorization, budgetId, reserved, flags, length, payload,
+                        kafkaMergedDataEx);
+                }
+
+                fragmented = (flags & DATA_FLAG_FIN) == 0x00;
+            }
+        }
+
+        private void onKafkaFlush(
+            FlushFW flush)
+        {
+            final long sequence = flush.sequence();
+            final long acknowledge = flush.acknowledge();
+            final long traceId = flush.traceId();
+            final long authorization = flush.authorization();
+            final long budgetId = flush.budgetId();
+            final int reserved = flush.reserved();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence + reserved;
+
+            assert replyAck <= replySeq;
+
+            for (int i = members.size() - 1; i >= 0; i--)
+            {
+                members.get(i).mqtt.doMqttFlush(traceId, authorization, budgetId, reserved);
+            }
+        }
+
+        private void onKafkaEnd(
+            EndFW end)
+        {
+            final long sequence = end.sequence();
+            final long acknowledge = end.acknowledge();
+            final long traceId = end.traceId();
+            final long authorization = end.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = MqttKafkaState.closeReply(state);
+
+            assert replyAck <= replySeq;
+
+            doKafkaEnd(traceId, authorization);
+            onFanoutClosed();
+
+            for (int i = members.size() - 1; i >= 0; i--)
+            {
+                members.get(i).mqtt.doMqttEnd(traceId, authorization);
+            }
+            members.clear();
+        }
+
+        private void onKafkaAbort(
+            AbortFW abort)
+        {
+            final long sequence = abort.sequence();
+            final long acknowledge = abort.acknowledge();
+            final long traceId = abort.traceId();
+            final long authorization = abort.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = MqttKafkaState.closeReply(state);
+
+            assert replyAck <= replySeq;
+
+            doKafkaAbort(traceId, authorization);
+            onFanoutClosed();
+
+            for (int i = members.size() - 1; i >= 0; i--)
+            {
+                members.get(i).mqtt.doMqttAbort(traceId, authorization);
+            }
+            members.clear();
+        }
+
+        private void onKafkaReset(
+            ResetFW reset)
+        {
+            final long sequence = reset.sequence();
+            final long acknowledge = reset.acknowledge();
+            final long traceId = reset.traceId();
+
+            assert acknowledge <= sequence;
+            assert acknowledge >= initialAck;
+
+            initialAck = acknowledge;
+            state = MqttKafkaState.closeInitial(state);
+
+            assert initialAck <= initialSeq;
+
+            doKafkaReset(traceId);
+            onFanoutClosed();
+
+            for (int i = members.size() - 1; i >= 0; i--)
+            {
+                members.get(i).mqtt.doMqttReset(traceId);
+            }
+            members.clear();
+        }
+
+        private void onKafkaWindow(
+            WindowFW window)
+        {
+            final long sequence = window.sequence();
+            final long acknowledge = window.acknowledge();
+            final int maximum = window.maximum();
+            final long authorization = window.authorization();
+            final long traceId = window.traceId();
+            final long budgetId = window.budgetId();
+            final int padding = window.padding();
+            final int capabilities = window.capabilities();
+
+            assert acknowledge <= sequence;
+            assert acknowledge >= initialAck;
+            assert maximum >= initialMax;
+
+            initialAck = acknowledge;
+            initialMax = maximum;
+            initialBud = budgetId;
+            initialPad = padding;
+            initialCap = capabilities;
+            state = MqttKafkaState.openInitial(state);
+
+            assert initialAck <= initialSeq;
+
+            for (int i = members.size() - 1; i >= 0; i--)
+            {
+                members.get(i).onFanoutWindow(traceId, authorization, budgetId, padding, capabilities);
+            }
+        }
+
+        private void join(
+            KafkaMessagesProxy messages,
+            long traceId,
+            long authorization,
+            long affinity,
+            Array32FW<MqttTopicFilterFW> filters)
+        {
+            members.add(messages);
+            messages.fanoutSkip = fragmented;
+
+            if (!MqttKafkaState.initialOpening(state))
+            {
+                state = MqttKafkaState.openingInitial(state);
+
+                kafka = newKafkaStream(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck,
+                    initialMax, traceId, authorization, affinity, messages.mqtt.clientId, topic, filters,
+                    MqttQoS.AT_MOST_ONCE.value(), KafkaOffsetType.LIVE);
+            }
+            else
+            {
+                if (MqttKafkaState.replyOpening(state))
+                {
+                    messages.onFanoutBegin(traceId, authorization, replyAffinity);
+                }
+
+                if (MqttKafkaState.initialOpened(state))
+                {
+                    messages.onFanoutWindow(traceId, authorization, initialBud, initialPad, initialCap);
+                }
+
+                doKafkaWindow(traceId, authorization, 0);
+            }
+        }
+
+        private void leave(
+            KafkaMessagesProxy messages,
+            long traceId,
+            long authorization)
+        {
+            if (members.remove(messages))
+            {
+                if (members.isEmpty())
+                {
+                    onFanoutClosed();
+                    doKafkaEnd(traceId, authorization);
+                    doKafkaReset(traceId);
+                }
+                else
+                {
+                    doKafkaWindow(traceId, authorization, 0);
+                }
+            }
+        }
+
+        private void doKafkaWindow(
+            long traceId,
+            long authorization,
+            int capabilities)
+        {
+            if (MqttKafkaState.replyOpening(state) &&
+                !MqttKafkaState.replyClosed(state) &&
+                !members.isEmpty())
+            {
+                int newReplyWin = Integer.MAX_VALUE;
+                int newReplyPad = 0;
+                for (int i = 0; i < members.size(); i++)
+                {
+                    final KafkaMessagesProxy member = members.get(i);
+                    newReplyWin = Math.min(newReplyWin, member.fanoutWindow());
+                    newReplyPad = Math.max(newReplyPad, member.mqtt.replyPad);
+                }
+
+                final int replyWin = replyMax - (int) (replySeq - replyAck);
+                final int replyCredit = newReplyWin - replyWin;
+
+                if (replyCredit > 0)
+                {
+                    final int replyNoAck = (int) (replySeq - replyAck);
+                    replyAck += Math.min(replyNoAck, replyCredit);
+                    assert replyAck <= replySeq;
+
+                    replyMax = newReplyWin + (int) (replySeq - replyAck);
+                    assert replyMax >= 0;
+
+                    replyPad = newReplyPad;
+
+                    doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, authorization, 0L, replyPad, 0, capabilities);
+                }
+            }
+        }
+
+        private void doKafkaEnd(
+            long traceId,
+            long authorization)
+        {
+            if (!MqttKafkaState.initialClosed(state))
+            {
+                state = MqttKafkaState.closeInitial(state);
+
+                doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax, traceId, authorization);
+            }
+        }
+
+        private void doKafkaAbort(
+            long traceId,
+            long authorization)
+        {
+            if (!MqttKafkaState.initialClosed(state))
+            {
+                state = MqttKafkaState.closeInitial(state);
+
+                doAbort(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax, traceId, authorization);
+            }
+        }
+
+        private void doKafkaReset(
+            long traceId)
+        {
+            if (!MqttKafkaState.replyClosed(state))
+            {
+                state = MqttKafkaState.closeReply(state);
+
+                doReset(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId);
+            }
+        }
+
+        private boolean matches(
+            long routedId,
+            long authorization,
+            DirectBuffer key)
+        {
+            return this.routedId == routedId &&
+                this.authorization == authorization &&
+                this.key.equals(key);
+        }
+
+        private void onFanoutClosed()
+        {
+            final List<KafkaMessagesFanout> candidates = fanouts.get(keyHash);
+            if (candidates != null && candidates.remove(this) && candidates.isEmpty())
+            {
+                fanouts.remove(keyHash);
+            }
+        }
+    }
+
     private IntArrayList stringToOffsetMetadataList(
         String16FW metadata)
     {
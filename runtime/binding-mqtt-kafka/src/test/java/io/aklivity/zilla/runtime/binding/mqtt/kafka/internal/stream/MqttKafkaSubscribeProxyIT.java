@@ -15,6 +15,7 @@
 package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.stream;
 
 import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfigurationTest.BOOTSTRAP_STREAM_RECONNECT_DELAY_NAME;
+import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfigurationTest.SUBSCRIBE_FANOUT_NAME;
 import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfigurationTest.WILL_AVAILABLE_NAME;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_BUFFER_SLOT_CAPACITY;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DRAIN_ON_CLOSE;
@@ -646,4 +647,52 @@ public class MqttKafkaSubscribeProxyIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Configuration("proxy.yaml")
+    @Configure(name = WILL_AVAILABLE_NAME, value = "false")
+    @Configure(name = SUBSCRIBE_FANOUT_NAME, value = "true")
+    @Specification({
+        "${mqtt}/subscribe.fanout/client",
+        "${kafka}/subscribe.fanout/server"})
+    public void shouldReceiveOneMessageWithFanout() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.yaml")
+    @Configure(name = WILL_AVAILABLE_NAME, value = "false")
+    @Configure(name = SUBSCRIBE_FANOUT_NAME, value = "true")
+    @Specification({
+        "${mqtt}/subscribe.fanout.fragmented/client",
+        "${kafka}/subscribe.fanout.fragmented/server"})
+    public void shouldSkipFragmentedMessageWhenJoiningFanout() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.yaml")
+    @Configure(name = WILL_AVAILABLE_NAME, value = "false")
+    @Configure(name = SUBSCRIBE_FANOUT_NAME, value = "true")
+    @Specification({
+        "${mqtt}/subscribe.fanout.filter.change/client",
+        "${kafka}/subscribe.fanout.filter.change/server"})
+    public void shouldRejoinFanoutAfterFilterChange() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.yaml")
+    @Configure(name = WILL_AVAILABLE_NAME, value = "false")
+    @Configure(name = SUBSCRIBE_FANOUT_NAME, value = "true")
+    @Specification({
+        "${mqtt}/subscribe.fanout.authorization/client",
+        "${kafka}/subscribe.fanout.authorization/server"})
+    public void shouldNotShareFanoutAcrossAuthorizations() throws Exception
+    {
+        k3po.finish();
+    }
 }
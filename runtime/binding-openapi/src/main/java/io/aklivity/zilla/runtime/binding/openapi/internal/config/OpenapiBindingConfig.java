@@ -26,8 +26,6 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.ToLongFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.agrona.AsciiSequenceView;
@@ -35,7 +33,6 @@ import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntHashSet;
 import org.agrona.collections.Long2LongHashMap;
-import org.agrona.collections.Object2ObjectHashMap;
 
 import io.aklivity.zilla.runtime.binding.openapi.config.OpenapiCatalogConfig;
 import io.aklivity.zilla.runtime.binding.openapi.config.OpenapiConfig;
@@ -74,7 +71,7 @@ public final class OpenapiBindingConfig
     private final Consumer<NamespaceConfig> attach;
     private final Consumer<NamespaceConfig> detach;
     private final Long2LongHashMap resolvedIds;
-    private final Object2ObjectHashMap<Matcher, OpenapiPathItem> paths;
+    private final OpenapiPathTrie<OpenapiPathItem> paths;
     private final Int2ObjectHashMap<NamespaceConfig> composites;
     private final Map<CharSequence, Function<OpenapiPathItem, String>> resolversByMethod;
 
@@ -94,7 +91,7 @@ public final class OpenapiBindingConfig
         this.overrideRouteId = overrideRouteId;
         this.resolveId = binding.resolveId;
         this.options = (OpenapiOptionsConfig) binding.options;
-        this.paths = new Object2ObjectHashMap<>();
+        this.paths = new OpenapiPathTrie<>();
         this.composites = new Int2ObjectHashMap<>();
         this.resolvedIds = new Long2LongHashMap(-1);
         this.apiIdsByNamespaceId = new Long2LongHashMap(-1);
@@ -142,15 +139,7 @@ public final class OpenapiBindingConfig
             namespaceConfig.configs.forEach(c ->
             {
                 composites.put(c.schemaId, composite);
-                namespaceConfig.openapis.forEach(o ->
-                    o.paths.forEach((k, v) ->
-                    {
-                        String regex = k.replaceAll("\\{[^/]+}", "[^/]+");
-                        regex = "^" + regex + "$";
-                        Pattern pattern = Pattern.compile(regex);
-                        paths.put(pattern.matcher(""), v);
-                    })
-                );
+                namespaceConfig.openapis.forEach(o -> o.paths.forEach(paths::add));
             });
         }
 
@@ -197,22 +186,9 @@ public final class OpenapiBindingConfig
     {
         helper.visit(httpBeginEx);
 
-        String operationId = null;
+        final OpenapiPathItem operations = helper.path != null ? paths.resolve(helper.path) : null;
 
-        resolve:
-        for (Map.Entry<Matcher, OpenapiPathItem> item : paths.entrySet())
-        {
-            Matcher matcher = item.getKey();
-            matcher.reset(helper.path);
-            if (matcher.find())
-            {
-                OpenapiPathItem operations = item.getValue();
-                operationId = resolveMethod(operations);
-                break resolve;
-            }
-        }
-
-        return operationId;
+        return operations != null ? resolveMethod(operations) : null;
     }
 
     private String resolveMethod(
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.openapi.internal.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.agrona.collections.Int2ObjectHashMap;
+
+public final class OpenapiPathTrie<T>
+{
+    private static final char PATH_SEPARATOR = '/';
+    private static final char QUERY_SEPARATOR = '?';
+    private static final char PARAM_START = '{';
+    private static final char PARAM_END = '}';
+
+    private final Node<T> root;
+
+    private String[] names;
+    private int[] starts;
+    private int[] ends;
+    private int captured;
+
+    public OpenapiPathTrie()
+    {
+        this.root = new Node<>(null, null);
+        this.names = new String[0];
+        this.starts = new int[0];
+        this.ends = new int[0];
+    }
+
+    public void add(
+        String template,
+        T value)
+    {
+        Node<T> node = root;
+        int params = 0;
+
+        for (String segment : template.split(String.valueOf(PATH_SEPARATOR), -1))
+        {
+            final String[] parts = parts(segment);
+            node = parts != null ? node.template(segment, parts) : node.literal(segment);
+            params += parts != null ? parts.length >> 1 : 0;
+        }
+
+        node.value = value;
+
+        if (params > names.length)
+        {
+            names = Arrays.copyOf(names, params);
+            starts = Arrays.copyOf(starts, params);
+            ends = Arrays.copyOf(ends, params);
+        }
+    }
+
+    public T resolve(
+        CharSequence path)
+    {
+        int limit = path.length();
+        for (int index = 0; index < limit; index++)
+        {
+            if (path.charAt(index) == QUERY_SEPARATOR)
+            {
+                limit = index;
+                break;
+            }
+        }
+
+        captured = 0;
+        return resolve(root, path, 0, limit, 0);
+    }
+
+    public int captured()
+    {
+        return captured;
+    }
+
+    public String name(
+        int index)
+    {
+        assert index < captured;
+        return names[index];
+    }
+
+    public int start(
+        int index)
+    {
+        assert index < captured;
+        return starts[index];
+    }
+
+    public int end(
+        int index)
+    {
+        assert index < captured;
+        return ends[index];
+    }
+
+    private T resolve(
+        Node<T> node,
+        CharSequence path,
+        int start,
+        int limit,
+        int params)
+    {
+        int end = start;
+        int hash = 0;
+        while (end < limit && path.charAt(end) != PATH_SEPARATOR)
+        {
+            hash = 31 * hash + path.charAt(end);
+            end++;
+        }
+
+        T value = null;
+
+        final List<Node<T>> literals = node.literals.get(hash);
+        if (literals != null)
+        {
+            for (int index = 0; value == null && index < literals.size(); index++)
+            {
+                final Node<T> literal = literals.get(index);
+                if (literal.matches(path, start, end))
+                {
+                    value = resolveNext(literal, path, end, limit, params);
+                }
+            }
+        }
+
+        for (int index = 0; value == null && index < node.templates.size(); index++)
+        {
+            final Node<T> template = node.templates.get(index);
+            final int matched = template.matches(path, start, end, 0, params, this);
+            if (matched != -1)
+            {
+                value = resolveNext(template, path, end, limit, matched);
+            }
+        }
+
+        return value;
+    }
+
+    private T resolveNext(
+        Node<T> node,
+        CharSequence path,
+        int end,
+        int limit,
+        int params)
+    {
+        T value = null;
+
+        if (end == limit)
+        {
+            value = node.value;
+            captured = value != null ? params : 0;
+        }
+        else
+        {
+            value = resolve(node, path, end + 1, limit, params);
+        }
+
+        return value;
+    }
+
+    private static String[] parts(
+        String segment)
+    {
+        List<String> parts = null;
+
+        int literalAt = 0;
+        int paramAt = segment.indexOf(PARAM_START);
+        while (paramAt != -1)
+        {
+            final int paramEnd = segment.indexOf(PARAM_END, paramAt);
+            if (paramEnd == -1)
+            {
+                break;
+            }
+
+            if (parts == null)
+            {
+                parts = new ArrayList<>();
+            }
+
+            parts.add(segment.substring(literalAt, paramAt));
+            parts.add(segment.substring(paramAt + 1, paramEnd));
+
+            literalAt = paramEnd + 1;
+            paramAt = segment.indexOf(PARAM_START, literalAt);
+        }
+
+        if (parts != null)
+        {
+            parts.add(segment.substring(literalAt));
+        }
+
+        return parts != null ? parts.toArray(String[]::new) : null;
+    }
+
+    private static final class Node<T>
+    {
+        private final String segment;
+        private final String[] parts;
+        private final Int2ObjectHashMap<List<Node<T>>> literals;
+        private final List<Node<T>> templates;
+
+        private T value;
+
+        private Node(
+            String segment,
+            String[] parts)
+        {
+            this.segment = segment;
+            this.parts = parts;
+            this.literals = new Int2ObjectHashMap<>();
+            this.templates = new ArrayList<>();
+        }
+
+        private Node<T> literal(
+            String segment)
+        {
+            final List<Node<T>> candidates = literals.computeIfAbsent(segment.hashCode(), h -> new ArrayList<>(1));
+
+            Node<T> literal = null;
+            for (Node<T> candidate : candidates)
+            {
+                if (candidate.segment.equals(segment))
+                {
+                    literal = candidate;
+                    break;
+                }
+            }
+
+            if (literal == null)
+            {
+                literal = new Node<>(segment, null);
+                candidates.add(literal);
+            }
+
+            return literal;
+        }
+
+        private Node<T> template(
+            String segment,
+            String[] parts)
+        {
+            Node<T> template = null;
+            for (Node<T> candidate : templates)
+            {
+                if (candidate.segment.equals(segment))
+                {
+                    template = candidate;
+                    break;
+                }
+            }
+
+            if (template == null)
+            {
+                template = new Node<>(segment, parts);
+
+                // whole segment parameters match any segment, so try them last
+                templates.add(template.wildcard() ? templates.size() : firstWildcard(), template);
+            }
+
+            return template;
+        }
+
+        private int firstWildcard()
+        {
+            int index = templates.size();
+            while (index > 0 && templates.get(index - 1).wildcard())
+            {
+                index--;
+            }
+            return index;
+        }
+
+        private boolean wildcard()
+        {
+            return parts.length == 3 && parts[0].isEmpty() && parts[2].isEmpty();
+        }
+
+        private boolean matches(
+            CharSequence path,
+            int start,
+            int end)
+        {
+            boolean matches = segment.length() == end - start;
+            for (int index = 0; matches && index < segment.length(); index++)
+            {
+                matches = segment.charAt(index) == path.charAt(start + index);
+            }
+            return matches;
+        }
+
+        private int matches(
+            CharSequence path,
+            int start,
+            int end,
+            int part,
+            int params,
+            OpenapiPathTrie<T> trie)
+        {
+            int matched = -1;
+
+            if ((part & 1) == 0)
+            {
+                final String literal = parts[part];
+                final int literalEnd = start + literal.length();
+                if (literalEnd <= end && regionMatches(literal, path, start))
+                {
+                    matched = part + 1 == parts.length
+                        ? literalEnd == end ? params : -1
+                        : matches(path, literalEnd, end, part + 1, params, trie);
+                }
+            }
+            else
+            {
+                for (int paramEnd = end; matched == -1 && paramEnd > start; paramEnd--)
+                {
+                    matched = matches(path, paramEnd, end, part + 1, params + 1, trie);
+                    if (matched != -1)
+                    {
+                        trie.names[params] = parts[part];
+                        trie.starts[params] = start;
+                        trie.ends[params] = paramEnd;
+                    }
+                }
+            }
+
+            return matched;
+        }
+
+        private static boolean regionMatches(
+            String literal,
+            CharSequence path,
+            int start)
+        {
+            boolean matches = true;
+            for (int index = 0; matches && index < literal.length(); index++)
+            {
+                matches = literal.charAt(index) == path.charAt(start + index);
+            }
+            return matches;
+        }
+    }
+}
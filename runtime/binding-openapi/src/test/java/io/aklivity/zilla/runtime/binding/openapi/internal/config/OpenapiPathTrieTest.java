@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.openapi.internal.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class OpenapiPathTrieTest
+{
+    private OpenapiPathTrie<String> paths;
+
+    @Before
+    public void init()
+    {
+        paths = new OpenapiPathTrie<>();
+        paths.add("/", "root");
+        paths.add("/pets", "listPets");
+        paths.add("/pets/{id}", "showPetById");
+        paths.add("/pets/mine", "listMyPets");
+        paths.add("/files/{name}", "showFile");
+        paths.add("/files/{name}.json", "showJsonFile");
+        paths.add("/v{version}/items/{id}", "showItem");
+    }
+
+    @Test
+    public void shouldResolveLiteralPath()
+    {
+        assertEquals("root", paths.resolve("/"));
+        assertEquals("listPets", paths.resolve("/pets"));
+        assertEquals(0, paths.captured());
+    }
+
+    @Test
+    public void shouldPreferLiteralSegment()
+    {
+        assertEquals("listMyPets", paths.resolve("/pets/mine"));
+        assertEquals(0, paths.captured());
+    }
+
+    @Test
+    public void shouldCaptureParameter()
+    {
+        String path = "/pets/123";
+
+        assertEquals("showPetById", paths.resolve(path));
+        assertEquals(1, paths.captured());
+        assertEquals("id", paths.name(0));
+        assertEquals("123", path.substring(paths.start(0), paths.end(0)));
+    }
+
+    @Test
+    public void shouldCaptureParametersWithinSegments()
+    {
+        String path = "/v2/items/42";
+
+        assertEquals("showItem", paths.resolve(path));
+        assertEquals(2, paths.captured());
+        assertEquals("version", paths.name(0));
+        assertEquals("2", path.substring(paths.start(0), paths.end(0)));
+        assertEquals("id", paths.name(1));
+        assertEquals("42", path.substring(paths.start(1), paths.end(1)));
+    }
+
+    @Test
+    public void shouldPreferParameterWithinSegment()
+    {
+        String path = "/files/report.v1.json";
+
+        assertEquals("showJsonFile", paths.resolve(path));
+        assertEquals("report.v1", path.substring(paths.start(0), paths.end(0)));
+        assertEquals("showFile", paths.resolve("/files/report.v1.xml"));
+    }
+
+    @Test
+    public void shouldIgnoreQuery()
+    {
+        assertEquals("listPets", paths.resolve("/pets?limit=10"));
+        assertEquals("showPetById", paths.resolve("/pets/123?verbose"));
+    }
+
+    @Test
+    public void shouldNotResolveUnknownPath()
+    {
+        assertNull(paths.resolve("/pets/123/toys"));
+        assertNull(paths.resolve("/pets/"));
+        assertNull(paths.resolve("/owners"));
+        assertNull(paths.resolve("/v/items/42"));
+        assertEquals(0, paths.captured());
+    }
+}
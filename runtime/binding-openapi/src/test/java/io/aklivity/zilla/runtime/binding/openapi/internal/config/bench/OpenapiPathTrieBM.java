@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.openapi.internal.config.bench;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiPathTrie;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class OpenapiPathTrieBM
+{
+    @Param({"10", "100", "500"})
+    public int resources;
+
+    private final Map<Matcher, String> matchers = new LinkedHashMap<>();
+    private final OpenapiPathTrie<String> trie = new OpenapiPathTrie<>();
+
+    private String[] requests;
+    private int request;
+
+    @Setup
+    public void init()
+    {
+        for (int resource = 0; resource < resources; resource++)
+        {
+            add(String.format("/resource%d", resource));
+            add(String.format("/resource%d/{id}", resource));
+            add(String.format("/resource%d/{id}/items/{itemId}", resource));
+        }
+
+        requests = new String[]
+        {
+            "/resource0",
+            String.format("/resource%d/42", resources / 2),
+            String.format("/resource%d/42/items/7", resources - 1),
+            "/unknown/42"
+        };
+    }
+
+    @Benchmark
+    public void resolveRegex(
+        Blackhole blackhole)
+    {
+        final String path = nextRequest();
+
+        String resolved = null;
+        for (Map.Entry<Matcher, String> entry : matchers.entrySet())
+        {
+            final Matcher matcher = entry.getKey();
+            if (matcher.reset(path).find())
+            {
+                resolved = entry.getValue();
+                break;
+            }
+        }
+
+        blackhole.consume(resolved);
+    }
+
+    @Benchmark
+    public void resolveTrie(
+        Blackhole blackhole)
+    {
+        blackhole.consume(trie.resolve(nextRequest()));
+    }
+
+    private void add(
+        String template)
+    {
+        final String regex = "^" + template.replaceAll("\\{[^/]+}", "[^/]+") + "$";
+        matchers.put(Pattern.compile(regex).matcher(""), template);
+        trie.add(template, template);
+    }
+
+    private String nextRequest()
+    {
+        request = (request + 1) % requests.length;
+        return requests[request];
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(OpenapiPathTrieBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal;
+
+import java.net.URL;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.aklivity.zilla.runtime.binding.tcp.internal.metrics.TcpAcceptsMetric;
+import io.aklivity.zilla.runtime.binding.tcp.internal.metrics.TcpConnectionsMetric;
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public class TcpMetricGroup implements MetricGroup
+{
+    public static final String NAME = TcpBinding.NAME;
+
+    private final Map<String, Supplier<Metric>> tcpMetrics = Map.of(
+        TcpAcceptsMetric.NAME, TcpAcceptsMetric::new,
+        TcpConnectionsMetric.NAME, TcpConnectionsMetric::new
+    );
+
+    public TcpMetricGroup(
+        Configuration config)
+    {
+    }
+
+    @Override
+    public String name()
+    {
+        return NAME;
+    }
+
+    @Override
+    public URL type()
+    {
+        return getClass().getResource("schema/tcp.metrics.schema.patch.json");
+    }
+
+    @Override
+    public Metric supply(
+        String name)
+    {
+        return tcpMetrics.getOrDefault(name, () -> null).get();
+    }
+
+    @Override
+    public Collection<String> metricNames()
+    {
+        return tcpMetrics.keySet();
+    }
+}
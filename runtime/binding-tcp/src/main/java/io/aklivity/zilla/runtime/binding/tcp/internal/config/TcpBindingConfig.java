@@ -15,16 +15,22 @@
  */
 package io.aklivity.zilla.runtime.binding.tcp.internal.config;
 
+import static io.aklivity.zilla.runtime.engine.util.MetricRecorders.supplyRecorder;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 import java.net.InetSocketAddress;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 import io.aklivity.zilla.runtime.binding.tcp.config.TcpOptionsConfig;
+import io.aklivity.zilla.runtime.binding.tcp.internal.metrics.TcpAcceptsMetric;
+import io.aklivity.zilla.runtime.binding.tcp.internal.metrics.TcpConnectionsMetric;
+import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
 import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
 import io.aklivity.zilla.runtime.engine.poller.PollerKey;
 
 public final class TcpBindingConfig
@@ -36,11 +42,14 @@ public final class TcpBindingConfig
     public final KindConfig kind;
     public final TcpOptionsConfig options;
     public final List<TcpRouteConfig> routes;
+    public final LongConsumer accepts;
+    public final LongConsumer connections;
 
     private PollerKey[] attached;
 
     public TcpBindingConfig(
-        BindingConfig binding)
+        BindingConfig binding,
+        EngineContext context)
     {
         this.id = binding.id;
         this.name = binding.name;
@@ -49,6 +58,8 @@ public final class TcpBindingConfig
         this.routes = binding.kind == KindConfig.CLIENT && binding.routes.isEmpty()
                 ? DEFAULT_CLIENT_ROUTES
                 : binding.routes.stream().map(TcpRouteConfig::new).collect(toList());
+        this.accepts = supplyRecorder(context, binding, Metric.Kind.COUNTER, TcpAcceptsMetric.NAME);
+        this.connections = supplyRecorder(context, binding, Metric.Kind.GAUGE, TcpConnectionsMetric.NAME);
     }
 
     public PollerKey[] attach(
@@ -59,6 +70,11 @@ public final class TcpBindingConfig
         return detached;
     }
 
+    public PollerKey[] attached()
+    {
+        return attached;
+    }
+
     public TcpRouteConfig resolve(
         InetSocketAddress address)
     {
@@ -57,29 +57,9 @@ public final class TcpServerBindingConfig
             {
                 assert channels == null;
 
-                int size = options.ports != null ? options.ports.length : 0;
-                channels = new ServerSocketChannel[size];
-
-                for (int i = 0; i < size; i++)
-                {
-                    ServerSocketChannel channel = ServerSocketChannel.open();
-
-                    InetAddress address = InetAddress.getByName(options.host);
-                    InetSocketAddress local = new InetSocketAddress(address, options.ports[i]);
-
-                    channel.setOption(SO_REUSEADDR, true);
-                    channel.setOption(SO_REUSEPORT, true);
-                    channel.bind(local, options.backlog);
-                    channel.configureBlocking(false);
-
-                    channels[i] = channel;
-                }
+                channels = open(options);
             }
         }
-        catch (IOException ex)
-        {
-            LangUtil.rethrowUnchecked(ex);
-        }
         finally
         {
             lock.unlock();
@@ -109,4 +89,38 @@ public final class TcpServerBindingConfig
             lock.unlock();
         }
     }
+
+    public static ServerSocketChannel[] open(
+        TcpOptionsConfig options)
+    {
+        int size = options.ports != null ? options.ports.length : 0;
+        ServerSocketChannel[] channels = new ServerSocketChannel[size];
+
+        try
+        {
+            for (int i = 0; i < size; i++)
+            {
+                ServerSocketChannel channel = ServerSocketChannel.open();
+                channels[i] = channel;
+
+                InetAddress address = InetAddress.getByName(options.host);
+                InetSocketAddress local = new InetSocketAddress(address, options.ports[i]);
+
+                channel.setOption(SO_REUSEADDR, true);
+                channel.setOption(SO_REUSEPORT, true);
+                channel.bind(local, options.backlog);
+                channel.configureBlocking(false);
+            }
+        }
+        catch (IOException ex)
+        {
+            for (ServerSocketChannel channel : channels)
+            {
+                quietClose(channel);
+            }
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return channels;
+    }
 }
@@ -83,6 +83,7 @@ public class TcpClientFactory implements TcpStreamFactory
     private final ProxyBeginExFW beginExRO = new ProxyBeginExFW();
     private final ProxyBeginExFW.Builder beginExRW = new ProxyBeginExFW.Builder();
 
+    private final EngineContext context;
     private final TcpClientRouter router;
     private final BufferPool bufferPool;
     private final ByteBuffer readByteBuffer;
@@ -100,6 +101,7 @@ public class TcpClientFactory implements TcpStreamFactory
         TcpConfiguration config,
         EngineContext context)
     {
+        this.context = context;
         this.router = new TcpClientRouter(context);
         this.writeBuffer = context.writeBuffer();
         this.writeByteBuffer = ByteBuffer.allocateDirect(writeBuffer.capacity()).order(nativeOrder());
@@ -174,7 +176,7 @@ public class TcpClientFactory implements TcpStreamFactory
     public void attach(
         BindingConfig binding)
     {
-        TcpBindingConfig tcpBinding = new TcpBindingConfig(binding);
+        TcpBindingConfig tcpBinding = new TcpBindingConfig(binding, context);
         router.attach(tcpBinding);
     }
 
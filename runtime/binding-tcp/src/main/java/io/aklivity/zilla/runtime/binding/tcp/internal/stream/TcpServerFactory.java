@@ -84,6 +84,7 @@ public class TcpServerFactory implements TcpStreamFactory
 
     private final ProxyBeginExFW.Builder beginExRW = new ProxyBeginExFW.Builder();
 
+    private final EngineContext context;
     private final TcpServerRouter router;
 
     private final LongUnaryOperator supplyInitialId;
@@ -106,6 +107,7 @@ public class TcpServerFactory implements TcpStreamFactory
         EngineContext context,
         LongFunction<TcpServerBindingConfig> servers)
     {
+        this.context = context;
         this.router = new TcpServerRouter(config, context, this::handleAccept, servers);
         this.writeBuffer = context.writeBuffer();
         this.writeByteBuffer = ByteBuffer.allocateDirect(writeBuffer.capacity()).order(nativeOrder());
@@ -151,7 +153,7 @@ public class TcpServerFactory implements TcpStreamFactory
     public void attach(
         BindingConfig binding)
     {
-        TcpBindingConfig tcpBinding = new TcpBindingConfig(binding);
+        TcpBindingConfig tcpBinding = new TcpBindingConfig(binding, context);
         router.attach(tcpBinding);
     }
 
@@ -174,6 +176,9 @@ public class TcpServerFactory implements TcpStreamFactory
 
             for (SocketChannel channel = router.accept(server); channel != null; channel = router.accept(server))
             {
+                binding.accepts.accept(1L);
+                binding.connections.accept(1L);
+
                 channel.configureBlocking(false);
                 channel.setOption(TCP_NODELAY, options.nodelay);
                 channel.setOption(SO_KEEPALIVE, options.keepalive);
@@ -200,23 +205,29 @@ public class TcpServerFactory implements TcpStreamFactory
 
         if (route != null)
         {
-            final TcpServer server = new TcpServer(binding.id, route.id, network);
+            final TcpServer server = new TcpServer(binding, route.id, network);
             server.onNetAccepted();
         }
         else
         {
-            closeNet(network);
+            closeNet(binding, network);
         }
     }
 
     private void closeNet(
+        TcpBindingConfig binding,
         SocketChannel network)
     {
+        if (network.isOpen())
+        {
+            binding.connections.accept(-1L);
+        }
         router.close(network);
     }
 
     private final class TcpServer
     {
+        private final TcpBindingConfig binding;
         private final long originId;
         private final long routedId;
         private final long initialId;
@@ -241,11 +252,12 @@ public class TcpServerFactory implements TcpStreamFactory
         private int bytesFlushed;
 
         private TcpServer(
-            long originId,
+            TcpBindingConfig binding,
             long routedId,
             SocketChannel net)
         {
-            this.originId = originId;
+            this.binding = binding;
+            this.originId = binding.id;
             this.routedId = routedId;
             this.initialId = supplyInitialId.applyAsLong(routedId);
             this.replyId = supplyReplyId.applyAsLong(initialId);
@@ -294,7 +306,7 @@ public class TcpServerFactory implements TcpStreamFactory
 
                     if (net.socket().isOutputShutdown())
                     {
-                        closeNet(net);
+                        closeNet(binding, net);
                     }
                 }
                 else if (bytesRead != 0)
@@ -408,7 +420,7 @@ public class TcpServerFactory implements TcpStreamFactory
 
                 if (net.socket().isInputShutdown())
                 {
-                    closeNet(net);
+                    closeNet(binding, net);
                 }
             }
             catch (IOException ex)
@@ -726,7 +738,7 @@ public class TcpServerFactory implements TcpStreamFactory
 
             cleanupWriteSlot();
 
-            closeNet(net);
+            closeNet(binding, net);
         }
 
         private void cleanupWriteSlot()
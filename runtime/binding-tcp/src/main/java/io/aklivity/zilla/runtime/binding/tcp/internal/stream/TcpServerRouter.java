@@ -41,6 +41,7 @@ public final class TcpServerRouter
     private final ToIntFunction<PollerKey> acceptHandler;
     private final Function<SelectableChannel, PollerKey> supplyPollerKey;
     private final LongFunction<TcpServerBindingConfig> lookupServer;
+    private final boolean listenerPerWorker;
 
     private int remainingConnections;
     private boolean unbound;
@@ -56,6 +57,7 @@ public final class TcpServerRouter
         this.supplyPollerKey = context::supplyPollerKey;
         this.acceptHandler = acceptHandler;
         this.lookupServer = lookupServer;
+        this.listenerPerWorker = config.listenerPerWorker();
     }
 
     public void attach(
@@ -105,7 +107,7 @@ public final class TcpServerRouter
         {
             bindings.values().stream()
                 .filter(b -> b.kind == SERVER)
-                .forEach(this::unregister);
+                .forEach(this::pause);
             unbound = true;
         }
 
@@ -122,16 +124,57 @@ public final class TcpServerRouter
         {
             bindings.values().stream()
                 .filter(b -> b.kind == SERVER)
-                .forEach(this::register);
+                .forEach(this::resume);
             unbound = false;
         }
     }
 
+    private void pause(
+        TcpBindingConfig binding)
+    {
+        if (listenerPerWorker)
+        {
+            PollerKey[] acceptKeys = binding.attached();
+            if (acceptKeys != null)
+            {
+                for (PollerKey acceptKey : acceptKeys)
+                {
+                    acceptKey.clear(OP_ACCEPT);
+                }
+            }
+        }
+        else
+        {
+            unregister(binding);
+        }
+    }
+
+    private void resume(
+        TcpBindingConfig binding)
+    {
+        if (listenerPerWorker)
+        {
+            PollerKey[] acceptKeys = binding.attached();
+            if (acceptKeys != null)
+            {
+                for (PollerKey acceptKey : acceptKeys)
+                {
+                    acceptKey.register(OP_ACCEPT);
+                }
+            }
+        }
+        else
+        {
+            register(binding);
+        }
+    }
+
     private void register(
         TcpBindingConfig binding)
     {
-        TcpServerBindingConfig server = lookupServer.apply(binding.id);
-        ServerSocketChannel[] channels = server.bind(binding.options);
+        ServerSocketChannel[] channels = listenerPerWorker
+            ? TcpServerBindingConfig.open(binding.options)
+            : lookupServer.apply(binding.id).bind(binding.options);
 
         PollerKey[] acceptKeys = new PollerKey[channels.length];
         for (int i = 0; i < channels.length; i++)
@@ -155,10 +198,18 @@ public final class TcpServerRouter
             for (PollerKey acceptKey : acceptKeys)
             {
                 acceptKey.cancel();
+
+                if (listenerPerWorker)
+                {
+                    CloseHelper.quietClose(acceptKey.channel());
+                }
             }
         }
 
-        TcpServerBindingConfig server = lookupServer.apply(binding.id);
-        server.unbind();
+        if (!listenerPerWorker)
+        {
+            TcpServerBindingConfig server = lookupServer.apply(binding.id);
+            server.unbind();
+        }
     }
 }
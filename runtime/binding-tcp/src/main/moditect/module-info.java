@@ -30,4 +30,7 @@ module io.aklivity.zilla.runtime.binding.tcp
 
     provides io.aklivity.zilla.runtime.engine.event.EventFormatterFactorySpi
         with io.aklivity.zilla.runtime.binding.tcp.internal.TcpEventFormatterFactory;
+
+    provides io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactorySpi
+        with io.aklivity.zilla.runtime.binding.tcp.internal.TcpMetricGroupFactorySpi;
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Collection;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.tcp.internal.metrics.TcpAcceptsMetric;
+import io.aklivity.zilla.runtime.binding.tcp.internal.metrics.TcpConnectionsMetric;
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public class TcpMetricGroupTest
+{
+    @Test
+    public void shouldReturnMetricNames()
+    {
+        MetricGroup metricGroup = new TcpMetricGroup(new Configuration());
+
+        Collection<String> metricNames = metricGroup.metricNames();
+
+        assertThat(metricNames, containsInAnyOrder("tcp.accepts", "tcp.connections"));
+    }
+
+    @Test
+    public void shouldResolveAccepts()
+    {
+        MetricGroup metricGroup = new TcpMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("tcp.accepts");
+
+        assertThat(metric, instanceOf(TcpAcceptsMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.COUNTER));
+        assertThat(metric.unit(), equalTo(Metric.Unit.COUNT));
+    }
+
+    @Test
+    public void shouldResolveConnections()
+    {
+        MetricGroup metricGroup = new TcpMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("tcp.connections");
+
+        assertThat(metric, instanceOf(TcpConnectionsMetric.class));
+        assertThat(metric.kind(), equalTo(Metric.Kind.GAUGE));
+        assertThat(metric.unit(), equalTo(Metric.Unit.COUNT));
+    }
+
+    @Test
+    public void shouldNotResolveUnknownMetric()
+    {
+        MetricGroup metricGroup = new TcpMetricGroup(new Configuration());
+
+        Metric metric = metricGroup.supply("tcp.unknown");
+
+        assertThat(metric, nullValue());
+    }
+}
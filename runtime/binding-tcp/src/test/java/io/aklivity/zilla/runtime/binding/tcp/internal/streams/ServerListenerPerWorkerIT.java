@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal.streams;
+
+import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.TCP_LISTENER_PER_WORKER;
+import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.TCP_MAX_CONNECTIONS;
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DRAIN_ON_CLOSE;
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_WORKERS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.rules.RuleChain.outerRule;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.DisableOnDebug;
+import org.junit.rules.TestRule;
+import org.junit.rules.Timeout;
+
+import io.aklivity.k3po.runtime.junit.annotation.Specification;
+import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+import io.aklivity.zilla.runtime.engine.test.EngineRule;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+
+public class ServerListenerPerWorkerIT
+{
+    private final K3poRule k3po = new K3poRule()
+        .addScriptRoot("net", "io/aklivity/zilla/specs/binding/tcp/streams/network/rfc793")
+        .addScriptRoot("app", "io/aklivity/zilla/specs/binding/tcp/streams/application/rfc793");
+
+    private final TestRule timeout = new DisableOnDebug(new Timeout(5, SECONDS));
+
+    private final EngineRule engine = new EngineRule()
+        .directory("target/zilla-itests")
+        .countersBufferCapacity(8192)
+        .configure(ENGINE_WORKERS, 2)
+        .configure(TCP_MAX_CONNECTIONS, 1)
+        .configure(TCP_LISTENER_PER_WORKER, true)
+        .configure(ENGINE_DRAIN_ON_CLOSE, false)
+        .configurationRoot("io/aklivity/zilla/specs/binding/tcp/config")
+        .external("app0")
+        .clean();
+
+    @Rule
+    public final TestRule chain = outerRule(engine).around(k3po).around(timeout);
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${app}/client.and.server.sent.data.multiple.frames/server",
+        "${net}/client.and.server.sent.data.multiple.frames/client"
+    })
+    public void shouldSendAndReceiveData() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${app}/client.close/server",
+        "${net}/client.close/client"
+    })
+    public void shouldInitiateClientClose() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${app}/max.connections/server"
+    })
+    public void shouldPauseAndResumeAccept() throws Exception
+    {
+        k3po.start();
+
+        // both workers reach max.connections, so later connects wait in the listen backlog
+        SocketChannel channel1 = SocketChannel.open(new InetSocketAddress("127.0.0.1", 12345));
+        SocketChannel channel2 = SocketChannel.open(new InetSocketAddress("127.0.0.1", 12345));
+        SocketChannel channel3 = SocketChannel.open(new InetSocketAddress("127.0.0.1", 12345));
+        SocketChannel channel4 = SocketChannel.open(new InetSocketAddress("127.0.0.1", 12345));
+
+        k3po.awaitBarrier("CONNECTION_ACCEPTED_1");
+
+        channel1.close();
+        channel2.close();
+        channel3.close();
+        channel4.close();
+
+        k3po.awaitBarrier("CONNECTION_ACCEPTED_2");
+        k3po.awaitBarrier("CONNECTION_ACCEPTED_3");
+        k3po.awaitBarrier("CONNECTION_ACCEPTED_4");
+
+        k3po.finish();
+    }
+}
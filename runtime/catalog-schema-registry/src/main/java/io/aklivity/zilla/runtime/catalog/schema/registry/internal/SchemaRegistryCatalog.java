@@ -28,7 +28,7 @@ import io.aklivity.zilla.runtime.engine.catalog.CatalogContext;
 
 public final class SchemaRegistryCatalog implements Catalog
 {
-    private final Configuration config;
+    private final SchemaRegistryConfiguration config;
     private final String type;
     private final Set<String> aliases;
     private final Supplier<URL> schema;
@@ -40,7 +40,7 @@ public final class SchemaRegistryCatalog implements Catalog
         Set<String> aliases,
         Supplier<URL> schema)
     {
-        this.config = config;
+        this.config = new SchemaRegistryConfiguration(config);
         this.type = type;
         this.aliases = aliases;
         this.schema = schema;
@@ -14,12 +14,14 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
 
+import java.nio.file.Path;
 import java.util.concurrent.ConcurrentMap;
 
+import io.aklivity.zilla.runtime.catalog.schema.registry.config.AbstractSchemaRegistryOptionsConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.config.SchemaRegistryCatalogConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCache;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCacheFile;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCatalogHandler;
-import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
@@ -27,14 +29,14 @@ import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 
 public class SchemaRegistryCatalogContext implements CatalogContext
 {
-    private final Configuration config;
+    private final SchemaRegistryConfiguration config;
     private final String type;
     private final EngineContext context;
     private final ConcurrentMap<Long, SchemaRegistryCache> cachesById;
 
     public SchemaRegistryCatalogContext(
         String type,
-        Configuration config,
+        SchemaRegistryConfiguration config,
         EngineContext context,
         ConcurrentMap<Long, SchemaRegistryCache> cachesById)
     {
@@ -48,8 +50,21 @@ public class SchemaRegistryCatalogContext implements CatalogContext
     public CatalogHandler attach(
         CatalogConfig catalog)
     {
-        SchemaRegistryCache cache = cachesById.computeIfAbsent(catalog.id, id -> new SchemaRegistryCache());
+        SchemaRegistryCache cache = cachesById.computeIfAbsent(catalog.id, id -> newCache(catalog));
         SchemaRegistryCatalogConfig attached = new SchemaRegistryCatalogConfig(type, context, catalog, cache);
         return new SchemaRegistryCatalogHandler(config, attached, context);
     }
+
+    private SchemaRegistryCache newCache(
+        CatalogConfig catalog)
+    {
+        SchemaRegistryCacheFile file = null;
+        if (config.cachePersistent())
+        {
+            AbstractSchemaRegistryOptionsConfig options = AbstractSchemaRegistryOptionsConfig.class.cast(catalog.options);
+            Path path = config.cacheDirectory().resolve(type).resolve(catalog.namespace).resolve(catalog.name);
+            file = new SchemaRegistryCacheFile(path, options.url);
+        }
+        return new SchemaRegistryCache(file);
+    }
 }
@@ -23,9 +23,34 @@ public class SchemaRegistryCache
     public final ConcurrentMap<Integer, CompletableFuture<CachedSchema>> schemas;
     public final ConcurrentMap<Integer, CompletableFuture<CachedSchemaId>> schemaIds;
 
+    private final SchemaRegistryCacheFile file;
+
     public SchemaRegistryCache()
+    {
+        this(null);
+    }
+
+    public SchemaRegistryCache(
+        SchemaRegistryCacheFile file)
     {
         this.schemas = new ConcurrentHashMap<>();
         this.schemaIds = new ConcurrentHashMap<>();
+        this.file = file;
+
+        if (file != null)
+        {
+            file.load().forEach((schemaId, schema) ->
+                schemas.put(schemaId, CompletableFuture.completedFuture(new CachedSchema(schema))));
+        }
+    }
+
+    public void store(
+        int schemaId,
+        String schema)
+    {
+        if (file != null)
+        {
+            file.append(schemaId, schema);
+        }
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.agrona.IoUtil;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public final class SchemaRegistryCacheFile
+{
+    private static final int FILE_MAGIC = 0x5a535231;
+
+    private final Path path;
+    private final byte[] header;
+
+    public SchemaRegistryCacheFile(
+        Path path,
+        String location)
+    {
+        byte[] locationBytes = location.getBytes(UTF_8);
+        UnsafeBuffer header = new UnsafeBuffer(new byte[SIZE_OF_INT + SIZE_OF_INT + locationBytes.length]);
+        header.putInt(0, FILE_MAGIC);
+        header.putInt(SIZE_OF_INT, locationBytes.length);
+        header.putBytes(SIZE_OF_INT + SIZE_OF_INT, locationBytes);
+
+        this.path = path;
+        this.header = header.byteArray();
+    }
+
+    public Int2ObjectHashMap<String> load()
+    {
+        Int2ObjectHashMap<String> schemas = new Int2ObjectHashMap<>();
+        boolean intact = false;
+
+        try
+        {
+            if (Files.size(path) >= header.length)
+            {
+                MappedByteBuffer mapped = IoUtil.mapExistingFile(path.toFile(), READ_ONLY, path.toString());
+                try
+                {
+                    UnsafeBuffer buffer = new UnsafeBuffer(mapped);
+                    if (matchesHeader(buffer))
+                    {
+                        intact = loadSchemas(buffer, schemas) == buffer.capacity();
+                    }
+                }
+                finally
+                {
+                    IoUtil.unmap(mapped);
+                }
+            }
+        }
+        catch (IOException | RuntimeException ex)
+        {
+            // best effort, schemas are fetched from the registry instead
+        }
+
+        if (!intact)
+        {
+            reset();
+            schemas.forEach(this::append);
+        }
+
+        return schemas;
+    }
+
+    public synchronized void append(
+        int schemaId,
+        String schema)
+    {
+        byte[] schemaBytes = schema.getBytes(UTF_8);
+        UnsafeBuffer entry = new UnsafeBuffer(new byte[SIZE_OF_INT + SIZE_OF_INT + schemaBytes.length]);
+        entry.putInt(0, schemaId);
+        entry.putInt(SIZE_OF_INT, schemaBytes.length);
+        entry.putBytes(SIZE_OF_INT + SIZE_OF_INT, schemaBytes);
+
+        try
+        {
+            Files.write(path, entry.byteArray(), CREATE, APPEND);
+        }
+        catch (IOException ex)
+        {
+            // best effort, schema is fetched from the registry again after restart
+        }
+    }
+
+    private boolean matchesHeader(
+        UnsafeBuffer buffer)
+    {
+        boolean matches = buffer.capacity() >= header.length;
+        for (int index = 0; matches && index < header.length; index++)
+        {
+            matches = buffer.getByte(index) == header[index];
+        }
+        return matches;
+    }
+
+    private int loadSchemas(
+        UnsafeBuffer buffer,
+        Int2ObjectHashMap<String> schemas)
+    {
+        int progress = header.length;
+        int limit = buffer.capacity();
+        while (progress + SIZE_OF_INT + SIZE_OF_INT <= limit)
+        {
+            int schemaId = buffer.getInt(progress);
+            int length = buffer.getInt(progress + SIZE_OF_INT);
+            int offset = progress + SIZE_OF_INT + SIZE_OF_INT;
+            if (length < 0 || offset + length > limit)
+            {
+                break;
+            }
+
+            byte[] schemaBytes = new byte[length];
+            buffer.getBytes(offset, schemaBytes);
+            schemas.put(schemaId, new String(schemaBytes, UTF_8));
+            progress = offset + length;
+        }
+        return progress;
+    }
+
+    private void reset()
+    {
+        try
+        {
+            Files.createDirectories(path.getParent());
+            Files.write(path, header, CREATE, TRUNCATE_EXISTING);
+        }
+        catch (IOException ex)
+        {
+            // best effort, schemas are fetched from the registry instead
+        }
+    }
+}
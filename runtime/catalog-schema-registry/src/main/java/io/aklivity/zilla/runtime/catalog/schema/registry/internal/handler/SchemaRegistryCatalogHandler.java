@@ -16,6 +16,7 @@ package io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler;
 
 import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.CachedSchemaId.IN_PROGRESS;
 import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.serializer.UnregisterSchemaRequest.NO_VERSIONS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -27,7 +28,10 @@ import java.security.SecureRandom;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.LongFunction;
 import java.util.zip.CRC32C;
@@ -42,9 +46,11 @@ import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
 import org.agrona.collections.Int2ObjectCache;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.catalog.schema.registry.config.AbstractSchemaRegistryOptionsConfig;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.config.SchemaRegistryCatalogConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.events.SchemaRegistryEventContext;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.serializer.RegisterSchemaRequest;
@@ -53,6 +59,7 @@ import io.aklivity.zilla.runtime.catalog.schema.registry.internal.types.SchemaRe
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 import io.aklivity.zilla.runtime.engine.security.Trusted;
 import io.aklivity.zilla.runtime.engine.vault.VaultHandler;
@@ -80,12 +87,18 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
     private final CRC32C crc32c;
     private final Int2ObjectCache<String> schemas;
     private final Int2ObjectCache<CachedSchemaId> schemaIds;
+    private final Int2ObjectHashMap<CompletableFuture<CachedSchema>> awaitedSchemas;
+    private final Int2ObjectHashMap<CompletableFuture<CachedSchemaId>> awaitedSchemaIds;
     private final long maxAgeMillis;
+    private final long resolveTimeoutMillis;
     private final SchemaRegistryEventContext event;
     private final long catalogId;
     private final ConcurrentMap<Integer, CompletableFuture<CachedSchema>> cachedSchemas;
     private final ConcurrentMap<Integer, CompletableFuture<CachedSchemaId>> cachedSchemaIds;
     private final String authorization;
+    private final SchemaRegistryCache cache;
+    private final Signaler signaler;
+    private final ConcurrentLinkedQueue<Runnable> deferredEvents;
 
     public SchemaRegistryCatalogHandler(
         Configuration config,
@@ -139,12 +152,18 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
         this.crc32c = new CRC32C();
         this.schemas = new Int2ObjectCache<>(1, 1024, i -> {});
         this.schemaIds = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.awaitedSchemas = new Int2ObjectHashMap<>();
+        this.awaitedSchemaIds = new Int2ObjectHashMap<>();
         this.maxAgeMillis = options.maxAge.toMillis();
+        this.resolveTimeoutMillis = new SchemaRegistryConfiguration(config).resolveTimeout().toMillis();
         this.event = catalog.events;
         this.catalogId = catalog.id;
         this.cachedSchemas = catalog.cache.schemas;
         this.cachedSchemaIds = catalog.cache.schemaIds;
         this.authorization = options.authorization;
+        this.cache = catalog.cache;
+        this.signaler = context.signaler();
+        this.deferredEvents = new ConcurrentLinkedQueue<>();
     }
 
     @Override
@@ -191,57 +210,22 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
             }
             else
             {
-                AtomicInteger retryAttempts = new AtomicInteger();
-                CompletableFuture<CachedSchema> newFuture = new CompletableFuture<>();
-                CompletableFuture<CachedSchema> existing = cachedSchemas.get(schemaId);
-                if (existing != null && existing.isDone())
+                CompletableFuture<CachedSchema> future = awaitedSchemas.get(schemaId);
+                if (future != null && future.isDone())
                 {
-                    try
-                    {
-                        CachedSchema cachedSchema = existing.get();
-                        if (cachedSchema != null)
-                        {
-                            retryAttempts = cachedSchema.retryAttempts;
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        existing.completeExceptionally(ex);
-                    }
+                    awaitedSchemas.remove(schemaId);
                 }
-                CompletableFuture<CachedSchema> future = cachedSchemas.merge(schemaId, newFuture, (v1, v2) ->
-                    v1.getNow(CachedSchema.IN_PROGRESS).schema == null ? v2 : v1);
-                if (future == newFuture)
+                else
                 {
-                    try
-                    {
-                        String response = sendHttpRequest(MessageFormat.format(SCHEMA_PATH, schemaId));
-                        if (response == null)
-                        {
-                            if (retryAttempts.getAndIncrement() == 0)
-                            {
-                                event.onUnretrievableSchemaId(catalogId, schemaId);
-                            }
-                            newFuture.complete(new CachedSchema(null, retryAttempts));
-                        }
-                        else
-                        {
-                            if (retryAttempts.getAndSet(0) > 0)
-                            {
-                                event.onRetrievableSchemaId(catalogId, schemaId);
-                            }
-                            newFuture.complete(new CachedSchema(registerRequest.resolveSchemaResponse(response), retryAttempts));
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        newFuture.completeExceptionally(ex);
-                    }
+                    future = supplySchema(schemaId);
                 }
-                assert future != null;
                 try
                 {
-                    schema = future.get().schema;
+                    CachedSchema cachedSchema = await(future, CachedSchema.IN_PROGRESS);
+                    if (cachedSchema != CachedSchema.IN_PROGRESS)
+                    {
+                        schema = cachedSchema.schema;
+                    }
                     if (schema != null)
                     {
                         schemas.put(schemaId, schema);
@@ -253,6 +237,7 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
                 }
             }
         }
+        flushDeferredEvents();
         return schema;
     }
 
@@ -270,85 +255,33 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
         }
         else
         {
-            CachedSchemaId cachedSchemaId = null;
-            AtomicInteger retryAttempts = new AtomicInteger();
-            long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
-            CompletableFuture<CachedSchemaId> newFuture = new CompletableFuture<>();
-            CompletableFuture<CachedSchemaId> existing = cachedSchemaIds.get(schemaKey);
-            if (existing != null && existing.isDone())
+            CompletableFuture<CachedSchemaId> future = awaitedSchemaIds.get(schemaKey);
+            if (future != null && future.isDone())
             {
-                try
-                {
-                    cachedSchemaId = existing.get();
-                    if (cachedSchemaId != null)
-                    {
-                        retryAttempts = cachedSchemaId.retryAttempts;
-                    }
-                }
-                catch (Throwable ex)
-                {
-                    existing.completeExceptionally(ex);
-                }
+                awaitedSchemaIds.remove(schemaKey);
             }
-            CompletableFuture<CachedSchemaId> future = cachedSchemaIds.merge(schemaKey, newFuture, (v1, v2) ->
-                v1.getNow(IN_PROGRESS).retry() &&
-                    (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
-            if (future == newFuture)
+            else
             {
-                try
+                future = supplySchemaId(subject, version, schemaKey);
+            }
+            try
+            {
+                CachedSchemaId cachedSchemaId = await(future, IN_PROGRESS);
+                if (cachedSchemaId != IN_PROGRESS)
                 {
-                    String response = sendHttpRequest(MessageFormat.format(SUBJECT_VERSION_PATH, subject, version));
-                    if (response == null)
-                    {
-                        if (retryAttempts.getAndIncrement() == 0)
-                        {
-                            retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
-                            event.onUnretrievableSchemaSubjectVersion(catalogId, subject, version);
-                            if (cachedSchemaId != null && cachedSchemaId.id != NO_SCHEMA_ID)
-                            {
-                                event.onUnretrievableSchemaSubjectVersionStaleSchema(catalogId, subject, version,
-                                    cachedSchemaId.id);
-                            }
-                        }
-
-                        if (cachedSchemaId != null)
-                        {
-                            if (cachedSchemaId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
-                            {
-                                retryAfter = Math.min(cachedSchemaId.retryAfter << 1, maxAgeMillis);
-                            }
-                            newFuture.complete(new CachedSchemaId(cachedSchemaId.timestamp, cachedSchemaId.id,
-                                retryAttempts, retryAfter));
-                        }
-                        else
-                        {
-                            newFuture.complete(new CachedSchemaId(System.currentTimeMillis(), NO_SCHEMA_ID,
-                                retryAttempts, retryAfter));
-                        }
-                    }
-                    else if (response != null)
+                    schemaId = cachedSchemaId.id;
+                    if (schemaId != NO_SCHEMA_ID)
                     {
-                        if (retryAttempts.getAndSet(0) > 0)
-                        {
-                            event.onRetrievableSchemaSubjectVersion(catalogId, subject, version);
-                        }
-                        newFuture.complete(new CachedSchemaId(System.currentTimeMillis(),
-                            registerRequest.resolveResponse(response), retryAttempts, retryAfter));
+                        schemaIds.put(schemaKey, cachedSchemaId);
                     }
                 }
-                catch (Throwable ex)
+                else
                 {
-                    newFuture.completeExceptionally(ex);
-                }
-            }
-            assert future != null;
-            try
-            {
-                cachedSchemaId = future.get();
-                schemaId = cachedSchemaId.id;
-                if (schemaId != NO_SCHEMA_ID)
-                {
-                    schemaIds.put(schemaKey, cachedSchemaId);
+                    CachedSchemaId staleSchemaId = schemaIds.get(schemaKey);
+                    if (staleSchemaId != null)
+                    {
+                        schemaId = staleSchemaId.id;
+                    }
                 }
             }
             catch (Throwable ex)
@@ -356,9 +289,68 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
                 future.completeExceptionally(ex);
             }
         }
+        flushDeferredEvents();
         return schemaId;
     }
 
+    @Override
+    public boolean pending(
+        int schemaId,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        boolean pending = false;
+        if (schemaId != NO_SCHEMA_ID && !schemas.containsKey(schemaId))
+        {
+            CompletableFuture<CachedSchema> future = awaitedSchemas.get(schemaId);
+            if (future == null)
+            {
+                future = supplySchema(schemaId);
+            }
+            pending = !future.isDone();
+            if (pending)
+            {
+                awaitedSchemas.put(schemaId, future);
+                future.whenComplete((s, ex) -> signaler.signalNow(originId, routedId, streamId, traceId, signalId, 0));
+            }
+        }
+        flushDeferredEvents();
+        return pending;
+    }
+
+    @Override
+    public boolean pending(
+        String subject,
+        String version,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        boolean pending = false;
+        int schemaKey = generateCRC32C(subject, version);
+        if (!schemaIds.containsKey(schemaKey) || schemaIds.get(schemaKey).expired(maxAgeMillis))
+        {
+            CompletableFuture<CachedSchemaId> future = awaitedSchemaIds.get(schemaKey);
+            if (future == null)
+            {
+                future = supplySchemaId(subject, version, schemaKey);
+            }
+            pending = !future.isDone();
+            if (pending)
+            {
+                awaitedSchemaIds.put(schemaKey, future);
+                future.whenComplete((s, ex) -> signaler.signalNow(originId, routedId, streamId, traceId, signalId, 0));
+            }
+        }
+        flushDeferredEvents();
+        return pending;
+    }
+
     @Override
     public int resolve(
         DirectBuffer data,
@@ -424,7 +416,210 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
         return MAX_PADDING_LENGTH;
     }
 
-    private String sendHttpRequest(
+    private CompletableFuture<CachedSchema> supplySchema(
+        int schemaId)
+    {
+        AtomicInteger retryAttempts = new AtomicInteger();
+        CompletableFuture<CachedSchema> newFuture = new CompletableFuture<>();
+        CompletableFuture<CachedSchema> existing = cachedSchemas.get(schemaId);
+        if (existing != null && existing.isDone())
+        {
+            try
+            {
+                CachedSchema cachedSchema = existing.get();
+                if (cachedSchema != null)
+                {
+                    retryAttempts = cachedSchema.retryAttempts;
+                }
+            }
+            catch (Throwable ex)
+            {
+                existing.completeExceptionally(ex);
+            }
+        }
+        CompletableFuture<CachedSchema> future = cachedSchemas.merge(schemaId, newFuture, (v1, v2) ->
+            v1.isCompletedExceptionally() || v1.getNow(CachedSchema.IN_PROGRESS).schema == null ? v2 : v1);
+        if (future == newFuture)
+        {
+            try
+            {
+                AtomicInteger attempts = retryAttempts;
+                sendHttpRequestAsync(MessageFormat.format(SCHEMA_PATH, schemaId))
+                    .thenAccept(response -> onSchemaResponse(schemaId, response, attempts, newFuture));
+            }
+            catch (Throwable ex)
+            {
+                newFuture.completeExceptionally(ex);
+            }
+        }
+        assert future != null;
+        return future;
+    }
+
+    private CompletableFuture<CachedSchemaId> supplySchemaId(
+        String subject,
+        String version,
+        int schemaKey)
+    {
+        CachedSchemaId cachedSchemaId = null;
+        AtomicInteger retryAttempts = new AtomicInteger();
+        CompletableFuture<CachedSchemaId> newFuture = new CompletableFuture<>();
+        CompletableFuture<CachedSchemaId> existing = cachedSchemaIds.get(schemaKey);
+        if (existing != null && existing.isDone())
+        {
+            try
+            {
+                cachedSchemaId = existing.get();
+                if (cachedSchemaId != null)
+                {
+                    retryAttempts = cachedSchemaId.retryAttempts;
+                }
+            }
+            catch (Throwable ex)
+            {
+                existing.completeExceptionally(ex);
+            }
+        }
+        CompletableFuture<CachedSchemaId> future = cachedSchemaIds.merge(schemaKey, newFuture, (v1, v2) ->
+            v1.isCompletedExceptionally() ||
+            v1.getNow(IN_PROGRESS).retry() &&
+                (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
+        if (future == newFuture)
+        {
+            try
+            {
+                CachedSchemaId staleSchemaId = cachedSchemaId;
+                AtomicInteger attempts = retryAttempts;
+                sendHttpRequestAsync(MessageFormat.format(SUBJECT_VERSION_PATH, subject, version))
+                    .thenAccept(response -> onSchemaIdResponse(subject, version, response, staleSchemaId, attempts,
+                        newFuture));
+            }
+            catch (Throwable ex)
+            {
+                newFuture.completeExceptionally(ex);
+            }
+        }
+        assert future != null;
+        return future;
+    }
+
+    private void onSchemaResponse(
+        int schemaId,
+        String response,
+        AtomicInteger retryAttempts,
+        CompletableFuture<CachedSchema> future)
+    {
+        try
+        {
+            if (response == null)
+            {
+                if (retryAttempts.getAndIncrement() == 0)
+                {
+                    deferredEvents.add(() -> event.onUnretrievableSchemaId(catalogId, schemaId));
+                }
+                future.complete(new CachedSchema(null, retryAttempts));
+            }
+            else
+            {
+                if (retryAttempts.getAndSet(0) > 0)
+                {
+                    deferredEvents.add(() -> event.onRetrievableSchemaId(catalogId, schemaId));
+                }
+                String schema = registerRequest.resolveSchemaResponse(response);
+                if (schema != null)
+                {
+                    cache.store(schemaId, schema);
+                }
+                future.complete(new CachedSchema(schema, retryAttempts));
+            }
+        }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private void onSchemaIdResponse(
+        String subject,
+        String version,
+        String response,
+        CachedSchemaId cachedSchemaId,
+        AtomicInteger retryAttempts,
+        CompletableFuture<CachedSchemaId> future)
+    {
+        try
+        {
+            long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
+            if (response == null)
+            {
+                if (retryAttempts.getAndIncrement() == 0)
+                {
+                    retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
+                    deferredEvents.add(() -> event.onUnretrievableSchemaSubjectVersion(catalogId, subject, version));
+                    if (cachedSchemaId != null && cachedSchemaId.id != NO_SCHEMA_ID)
+                    {
+                        deferredEvents.add(() -> event.onUnretrievableSchemaSubjectVersionStaleSchema(catalogId, subject,
+                            version, cachedSchemaId.id));
+                    }
+                }
+
+                if (cachedSchemaId != null)
+                {
+                    if (cachedSchemaId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
+                    {
+                        retryAfter = Math.min(cachedSchemaId.retryAfter << 1, maxAgeMillis);
+                    }
+                    future.complete(new CachedSchemaId(cachedSchemaId.timestamp, cachedSchemaId.id,
+                        retryAttempts, retryAfter));
+                }
+                else
+                {
+                    future.complete(new CachedSchemaId(System.currentTimeMillis(), NO_SCHEMA_ID,
+                        retryAttempts, retryAfter));
+                }
+            }
+            else
+            {
+                if (retryAttempts.getAndSet(0) > 0)
+                {
+                    deferredEvents.add(() -> event.onRetrievableSchemaSubjectVersion(catalogId, subject, version));
+                }
+                future.complete(new CachedSchemaId(System.currentTimeMillis(),
+                    registerRequest.resolveResponse(response), retryAttempts, retryAfter));
+            }
+        }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private <T> T await(
+        CompletableFuture<T> future,
+        T inProgress) throws InterruptedException, ExecutionException
+    {
+        T value = inProgress;
+        try
+        {
+            // callers that checked pending(...) only resolve once done, others wait at most resolve.timeout
+            value = future.get(resolveTimeoutMillis, MILLISECONDS);
+        }
+        catch (TimeoutException ex)
+        {
+            // still in flight, completes in the background for the next resolve
+        }
+        return value;
+    }
+
+    private void flushDeferredEvents()
+    {
+        for (Runnable deferred = deferredEvents.poll(); deferred != null; deferred = deferredEvents.poll())
+        {
+            deferred.run();
+        }
+    }
+
+    private CompletableFuture<String> sendHttpRequestAsync(
         String path)
     {
         HttpRequest.Builder httpRequest = HttpRequest
@@ -438,17 +633,8 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
 
         // TODO: introduce interrupt/timeout for request to schema registry
 
-        String responseBody;
-        try
-        {
-            HttpResponse<String> httpResponse = client.send(httpRequest.build(), HttpResponse.BodyHandlers.ofString());
-            responseBody = httpResponse.statusCode() == 200 ? httpResponse.body() : null;
-        }
-        catch (Exception ex)
-        {
-            responseBody = null;
-        }
-        return responseBody;
+        return client.sendAsync(httpRequest.build(), HttpResponse.BodyHandlers.ofString())
+            .handle((r, ex) -> ex == null && r.statusCode() == 200 ? r.body() : null);
     }
 
     private String sendPostHttpRequest(
@@ -14,9 +14,27 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Properties;
 
@@ -27,10 +45,13 @@ import org.junit.Test;
 
 import io.aklivity.zilla.runtime.catalog.schema.registry.config.SchemaRegistryOptionsConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.config.SchemaRegistryCatalogConfig;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCache;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCacheFile;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCatalogHandler;
 import io.aklivity.zilla.runtime.engine.EngineConfiguration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 
@@ -110,4 +131,175 @@ public class SchemaRegistryCatalogHandlerTest
 
         assertEquals(9, schemaId);
     }
+
+    @Test
+    public void shouldResolveSchemaFromCacheFile() throws Exception
+    {
+        Path path = Paths.get("target/zilla-itests/schema-registry/test/test0");
+        Files.deleteIfExists(path);
+
+        SchemaRegistryCacheFile file = new SchemaRegistryCacheFile(path, "http://localhost:8081");
+        file.load();
+        file.append(9, "{\"type\":\"string\"}");
+
+        SchemaRegistryCache cache = new SchemaRegistryCache(new SchemaRegistryCacheFile(path, "http://localhost:8081"));
+        SchemaRegistryCatalogConfig cachedConfig = CatalogConfig.builder(c ->
+                new SchemaRegistryCatalogConfig(SchemaRegistryCatalogFactorySpi.TYPE, context, c, cache))
+            .namespace("test")
+            .name("test0")
+            .type(SchemaRegistryCatalogFactorySpi.TYPE)
+            .options(SchemaRegistryOptionsConfig::builder)
+                .url("http://localhost:8081")
+                .context("default")
+                .maxAge(Duration.ofSeconds(1))
+                .build()
+            .build();
+
+        SchemaRegistryCatalogHandler catalog = new SchemaRegistryCatalogHandler(config, cachedConfig, context);
+
+        assertEquals("{\"type\":\"string\"}", catalog.resolve(9));
+    }
+
+    @Test
+    public void shouldResolveSchemaWithinResolveTimeout() throws Exception
+    {
+        try (ServerSocket server = new ServerSocket(0))
+        {
+            SchemaRegistryCatalogConfig serverConfig = CatalogConfig.builder(c -> new SchemaRegistryCatalogConfig(context, c))
+                .namespace("test")
+                .name("test0")
+                .type(SchemaRegistryCatalogFactorySpi.TYPE)
+                .options(SchemaRegistryOptionsConfig::builder)
+                    .url("http://localhost:" + server.getLocalPort())
+                    .context("default")
+                    .maxAge(Duration.ofSeconds(1))
+                    .build()
+                .build();
+
+            SchemaRegistryCatalogHandler catalog =
+                new SchemaRegistryCatalogHandler(resolveTimeout("PT5S"), serverConfig, context);
+
+            Thread registry = new Thread(() ->
+            {
+                try (Socket socket = server.accept())
+                {
+                    respond(socket, "{\"schema\":\"{\\\"type\\\":\\\"string\\\"}\"}");
+                }
+                catch (Exception ex)
+                {
+                    throw new RuntimeException(ex);
+                }
+            });
+            registry.start();
+
+            assertEquals("{\"type\":\"string\"}", catalog.resolve(9));
+
+            registry.join();
+        }
+    }
+
+    @Test
+    public void shouldSignalPendingSchemaWhenResolved() throws Exception
+    {
+        try (ServerSocket server = new ServerSocket(0))
+        {
+            Signaler signaler = mock(Signaler.class);
+            when(context.signaler()).thenReturn(signaler);
+
+            SchemaRegistryCatalogConfig serverConfig = CatalogConfig.builder(c -> new SchemaRegistryCatalogConfig(context, c))
+                .namespace("test")
+                .name("test0")
+                .type(SchemaRegistryCatalogFactorySpi.TYPE)
+                .options(SchemaRegistryOptionsConfig::builder)
+                    .url("http://localhost:" + server.getLocalPort())
+                    .context("default")
+                    .maxAge(Duration.ofSeconds(1))
+                    .build()
+                .build();
+
+            SchemaRegistryCatalogHandler catalog =
+                new SchemaRegistryCatalogHandler(resolveTimeout("PT0.1S"), serverConfig, context);
+
+            assertTrue(catalog.pending(9, 1L, 2L, 3L, 4L, 5));
+            assertNull(catalog.resolve(9));
+            verify(signaler, never()).signalNow(anyLong(), anyLong(), anyLong(), anyLong(), anyInt(), anyInt());
+
+            try (Socket socket = server.accept())
+            {
+                respond(socket, "{\"schema\":\"{\\\"type\\\":\\\"string\\\"}\"}");
+
+                verify(signaler, timeout(5000)).signalNow(1L, 2L, 3L, 4L, 5, 0);
+            }
+
+            assertFalse(catalog.pending(9, 1L, 2L, 3L, 4L, 5));
+            assertEquals("{\"type\":\"string\"}", catalog.resolve(9));
+        }
+    }
+
+    @Test
+    public void shouldSignalPendingSchemaIdWhenResolved() throws Exception
+    {
+        try (ServerSocket server = new ServerSocket(0))
+        {
+            Signaler signaler = mock(Signaler.class);
+            when(context.signaler()).thenReturn(signaler);
+
+            SchemaRegistryCatalogConfig serverConfig = CatalogConfig.builder(c -> new SchemaRegistryCatalogConfig(context, c))
+                .namespace("test")
+                .name("test0")
+                .type(SchemaRegistryCatalogFactorySpi.TYPE)
+                .options(SchemaRegistryOptionsConfig::builder)
+                    .url("http://localhost:" + server.getLocalPort())
+                    .context("default")
+                    .maxAge(Duration.ofSeconds(1))
+                    .build()
+                .build();
+
+            SchemaRegistryCatalogHandler catalog =
+                new SchemaRegistryCatalogHandler(resolveTimeout("PT0.1S"), serverConfig, context);
+
+            assertTrue(catalog.pending("items-snapshots-value", "latest", 1L, 2L, 3L, 4L, 5));
+            assertEquals(CatalogHandler.NO_SCHEMA_ID, catalog.resolve("items-snapshots-value", "latest"));
+            verify(signaler, never()).signalNow(anyLong(), anyLong(), anyLong(), anyLong(), anyInt(), anyInt());
+
+            try (Socket socket = server.accept())
+            {
+                respond(socket, "{\"id\":9,\"version\":1}");
+
+                verify(signaler, timeout(5000)).signalNow(1L, 2L, 3L, 4L, 5, 0);
+            }
+
+            assertFalse(catalog.pending("items-snapshots-value", "latest", 1L, 2L, 3L, 4L, 5));
+            assertEquals(9, catalog.resolve("items-snapshots-value", "latest"));
+        }
+    }
+
+    private static EngineConfiguration resolveTimeout(
+        String timeout)
+    {
+        Properties properties = new Properties();
+        properties.setProperty(SchemaRegistryConfiguration.SCHEMA_REGISTRY_RESOLVE_TIMEOUT.name(), timeout);
+        return new EngineConfiguration(properties);
+    }
+
+    private static void respond(
+        Socket socket,
+        String content) throws Exception
+    {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+        String line = reader.readLine();
+        while (line != null && !line.isEmpty())
+        {
+            line = reader.readLine();
+        }
+
+        byte[] body = content.getBytes(UTF_8);
+        OutputStream output = socket.getOutputStream();
+        output.write(("HTTP/1.1 200 OK\r\n" +
+            "Content-Type: application/json\r\n" +
+            "Content-Length: " + body.length + "\r\n" +
+            "\r\n").getBytes(UTF_8));
+        output.write(body);
+        output.flush();
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SchemaRegistryCacheFileTest
+{
+    private static final Path PATH = Paths.get("target/zilla-itests/schema-registry/test/test0");
+
+    @Before
+    public void setup() throws Exception
+    {
+        Files.deleteIfExists(PATH);
+    }
+
+    @Test
+    public void shouldLoadAppendedSchemas()
+    {
+        SchemaRegistryCacheFile file = new SchemaRegistryCacheFile(PATH, "http://localhost:8081");
+        assertTrue(file.load().isEmpty());
+
+        file.append(9, "{\"type\":\"string\"}");
+        file.append(10, "{\"type\":\"int\"}");
+
+        Int2ObjectHashMap<String> schemas = new SchemaRegistryCacheFile(PATH, "http://localhost:8081").load();
+
+        assertEquals(2, schemas.size());
+        assertEquals("{\"type\":\"string\"}", schemas.get(9));
+        assertEquals("{\"type\":\"int\"}", schemas.get(10));
+    }
+
+    @Test
+    public void shouldDiscardSchemasForDifferentLocation()
+    {
+        SchemaRegistryCacheFile file = new SchemaRegistryCacheFile(PATH, "http://localhost:8081");
+        file.load();
+        file.append(9, "{\"type\":\"string\"}");
+
+        Int2ObjectHashMap<String> schemas = new SchemaRegistryCacheFile(PATH, "http://localhost:8082").load();
+
+        assertTrue(schemas.isEmpty());
+        assertTrue(new SchemaRegistryCacheFile(PATH, "http://localhost:8081").load().isEmpty());
+    }
+
+    @Test
+    public void shouldRecoverFromTruncatedSchema() throws Exception
+    {
+        SchemaRegistryCacheFile file = new SchemaRegistryCacheFile(PATH, "http://localhost:8081");
+        file.load();
+        file.append(9, "{\"type\":\"string\"}");
+        Files.write(PATH, new byte[] { 0x0a, 0x00, 0x00, 0x00, 0x7f, 0x00 }, APPEND);
+
+        SchemaRegistryCacheFile recovered = new SchemaRegistryCacheFile(PATH, "http://localhost:8081");
+        assertEquals(1, recovered.load().size());
+
+        recovered.append(10, "{\"type\":\"int\"}");
+        Int2ObjectHashMap<String> schemas = new SchemaRegistryCacheFile(PATH, "http://localhost:8081").load();
+
+        assertEquals(2, schemas.size());
+        assertEquals("{\"type\":\"int\"}", schemas.get(10));
+    }
+}
@@ -16,6 +16,7 @@
 package io.aklivity.zilla.runtime.engine;
 
 import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKETS;
+import static io.aklivity.zilla.runtime.engine.internal.registry.EngineWorker.MAX_WORKERS;
 import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.stream.Collectors.toList;
 import static org.agrona.LangUtil.rethrowUnchecked;
@@ -118,6 +119,10 @@ public final class Engine implements Collector, AutoCloseable
             .readonly(readonly)
             .build();
         int workerCount = info.workerCount();
+        if (workerCount > MAX_WORKERS)
+        {
+            throw new IllegalArgumentException(String.format("workers must not exceed %d: %d", MAX_WORKERS, workerCount));
+        }
 
         LabelManager labels = new LabelManager(config.directory());
         Int2ObjectHashMap<ToIntFunction<KindConfig>> maxWorkersByBindingType = new Int2ObjectHashMap<>();
@@ -136,7 +141,7 @@ public final class Engine implements Collector, AutoCloseable
         }
         IntFunction<ToIntFunction<KindConfig>> maxWorkers = maxWorkersByBindingType::get;
 
-        Tuning tuning = new Tuning(config.directory(), workerCount);
+        Tuning tuning = new Tuning(config.directory(), workerCount, config.workerDispatch());
         tuning.reset();
         for (EngineAffinity affinity : affinities)
         {
@@ -144,6 +149,10 @@ public final class Engine implements Collector, AutoCloseable
             int localId = labels.supplyLabelId(affinity.binding);
             long bindingId = NamespacedId.id(namespaceId, localId);
             tuning.affinity(bindingId, affinity.mask);
+            if (affinity.dispatch != null)
+            {
+                tuning.dispatch(bindingId, affinity.dispatch);
+            }
         }
         this.tuning = tuning;
 
@@ -156,9 +165,9 @@ public final class Engine implements Collector, AutoCloseable
         for (int workerIndex = 0; workerIndex < workerCount; workerIndex++)
         {
             EngineWorker worker =
-                new EngineWorker(config, tasks, labels, errorHandler, tuning::affinity, bindings, exporters,
-                    guards, vaults, catalogs, models, metricGroups, this, this::supplyEventReader,
-                    eventFormatterFactory, workerIndex, readonly, this::process);
+                new EngineWorker(config, tasks, labels, errorHandler, tuning::affinity, tuning::dispatch,
+                    this::wakeup, bindings, exporters, guards, vaults, catalogs, models, metricGroups, this,
+                    this::supplyEventReader, eventFormatterFactory, workerIndex, readonly, this::process);
             workers.add(worker);
         }
         this.workers = workers;
@@ -307,6 +316,16 @@ public final class Engine implements Collector, AutoCloseable
         return new EngineBuilder();
     }
 
+    private void wakeup(
+        int index)
+    {
+        final List<EngineWorker> workers = this.workers;
+        if (workers != null && index < workers.size())
+        {
+            workers.get(index).wakeup();
+        }
+    }
+
     private Thread newTaskThread(
         Runnable r)
     {
@@ -15,19 +15,24 @@
  */
 package io.aklivity.zilla.runtime.engine;
 
+import java.util.BitSet;
+
 final class EngineAffinity
 {
     final String namespace;
     final String binding;
-    final long mask;
+    final BitSet mask;
+    final EngineDispatch dispatch;
 
     EngineAffinity(
         String namespace,
         String binding,
-        long mask)
+        BitSet mask,
+        EngineDispatch dispatch)
     {
         this.namespace = namespace;
         this.binding = binding;
         this.mask = mask;
+        this.dispatch = dispatch;
     }
 }
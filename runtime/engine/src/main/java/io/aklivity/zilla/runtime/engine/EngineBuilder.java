@@ -17,6 +17,7 @@ package io.aklivity.zilla.runtime.engine;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -64,7 +65,24 @@ public class EngineBuilder
         String binding,
         long mask)
     {
-        affinities.add(new EngineAffinity(namespace, binding, mask));
+        return affinity(namespace, binding, BitSet.valueOf(new long[] { mask }));
+    }
+
+    public EngineBuilder affinity(
+        String namespace,
+        String binding,
+        BitSet mask)
+    {
+        return affinity(namespace, binding, mask, null);
+    }
+
+    public EngineBuilder affinity(
+        String namespace,
+        String binding,
+        BitSet mask,
+        EngineDispatch dispatch)
+    {
+        affinities.add(new EngineAffinity(namespace, binding, mask, dispatch));
         return this;
     }
 
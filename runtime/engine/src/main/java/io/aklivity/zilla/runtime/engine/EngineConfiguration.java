@@ -80,6 +80,8 @@ public class EngineConfiguration extends Configuration
     public static final BooleanPropertyDef ENGINE_VERBOSE_SCHEMA_PLAIN;
     public static final BooleanPropertyDef ENGINE_VERBOSE_COMPOSITES;
     public static final IntPropertyDef ENGINE_WORKERS;
+    public static final PropertyDef<EngineDispatch> ENGINE_WORKER_DISPATCH;
+    public static final BooleanPropertyDef ENGINE_WORKER_IDLE_SELECT;
     public static final PropertyDef<String> ENGINE_CACERTS_STORE_TYPE;
     public static final PropertyDef<String> ENGINE_CACERTS_STORE;
     public static final PropertyDef<String> ENGINE_CACERTS_STORE_PASS;
@@ -130,6 +132,9 @@ public class EngineConfiguration extends Configuration
         ENGINE_VERBOSE_SCHEMA_PLAIN = config.property("verbose.schema.plain", false);
         ENGINE_VERBOSE_EXCEPTIONS = config.property("exception-traces", false);
         ENGINE_WORKERS = config.property("workers", Runtime.getRuntime().availableProcessors());
+        ENGINE_WORKER_DISPATCH = config.property(EngineDispatch.class, "worker.dispatch",
+                EngineConfiguration::decodeWorkerDispatch, "round-robin");
+        ENGINE_WORKER_IDLE_SELECT = config.property("worker.idle.select", false);
         ENGINE_CACERTS_STORE_TYPE = config.property("cacerts.store.type", EngineConfiguration::cacertsStoreTypeDefault);
         ENGINE_CACERTS_STORE = config.property("cacerts.store", EngineConfiguration::cacertsStoreDefault);
         ENGINE_CACERTS_STORE_PASS = config.property("cacerts.store.pass");
@@ -319,6 +324,16 @@ public class EngineConfiguration extends Configuration
         return ENGINE_WORKERS.getAsInt(this);
     }
 
+    public EngineDispatch workerDispatch()
+    {
+        return ENGINE_WORKER_DISPATCH.get(this);
+    }
+
+    public boolean workerIdleSelect()
+    {
+        return ENGINE_WORKER_IDLE_SELECT.getAsBoolean(this);
+    }
+
     public String cacertsStoreType()
     {
         return ENGINE_CACERTS_STORE_TYPE.get(this);
@@ -423,6 +438,13 @@ public class EngineConfiguration extends Configuration
         return System.getProperty(ZILLA_DIRECTORY_PROPERTY, ".");
     }
 
+    private static EngineDispatch decodeWorkerDispatch(
+        Configuration config,
+        String value)
+    {
+        return EngineDispatch.valueOf(value.toUpperCase().replace('-', '_'));
+    }
+
     private static HostResolver decodeHostResolver(
         Configuration config,
         String value)
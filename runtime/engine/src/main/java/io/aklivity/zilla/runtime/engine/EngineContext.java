@@ -19,6 +19,7 @@ import java.net.InetAddress;
 import java.nio.channels.SelectableChannel;
 import java.nio.file.Path;
 import java.time.Clock;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 import org.agrona.MutableDirectBuffer;
@@ -110,6 +111,14 @@ public interface EngineContext
         long bindingId,
         long metricId);
 
+    default LongConsumer supplyMetricWriter(
+        Metric.Kind kind,
+        long bindingId,
+        long metricId)
+    {
+        return value -> {};
+    }
+
     MessageConsumer droppedFrameHandler();
 
     int supplyClientIndex(
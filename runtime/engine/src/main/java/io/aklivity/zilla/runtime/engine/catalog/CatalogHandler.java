@@ -90,6 +90,29 @@ public interface CatalogHandler
         return NO_SCHEMA_ID;
     }
 
+    default boolean pending(
+        int schemaId,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return false;
+    }
+
+    default boolean pending(
+        String subject,
+        String version,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return false;
+    }
+
     default int decode(
         long traceId,
         long bindingId,
@@ -21,11 +21,14 @@ import static java.util.function.Function.identity;
 import java.util.LinkedList;
 import java.util.List;
 
+import jakarta.json.JsonObject;
+
 public class NamespaceConfig
 {
     public static final String FILESYSTEM = "filesystem";
 
     public transient int id;
+    public transient JsonObject source;
 
     public final String name;
     public final TelemetryConfig telemetry;
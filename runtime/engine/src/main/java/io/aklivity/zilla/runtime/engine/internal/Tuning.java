@@ -29,25 +29,38 @@ import java.nio.channels.FileChannel.MapMode;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.BitSet;
 
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
 import org.agrona.collections.Long2LongHashMap;
 
+import io.aklivity.zilla.runtime.engine.EngineDispatch;
+
 public final class Tuning implements AutoCloseable
 {
-    private final int available;
+    public static final int EXTERNAL_INDEX = Long.SIZE - 1;
+
+    private static final EngineDispatch[] DISPATCHES = EngineDispatch.values();
+
+    private final BitSet available;
+    private final int words;
     private final Long2LongHashMap affinities;
+    private final EngineDispatch dispatch;
     private final Path tuning;
 
     private MappedByteBuffer mappedByteBuf;
 
     public Tuning(
         Path directory,
-        int count)
+        int count,
+        EngineDispatch dispatch)
     {
-        this.available = (1 << count) - 1;
+        this.available = new BitSet(count);
+        this.available.set(0, count);
+        this.words = Math.max((count + Long.SIZE - 1) / Long.SIZE, 1);
         this.affinities = new Long2LongHashMap(-1L);
+        this.dispatch = dispatch;
         this.tuning = directory.resolve("tuning");
     }
 
@@ -59,7 +72,7 @@ public final class Tuning implements AutoCloseable
             Files.createDirectories(tuning.getParent());
             Files.createFile(tuning);
 
-            mappedByteBuf = mapCreateReadWrite(tuning, 10 * 1024);
+            mappedByteBuf = mapCreateReadWrite(tuning, 10 * 1024 * (words + 1));
         }
         catch (IOException ex)
         {
@@ -69,10 +82,94 @@ public final class Tuning implements AutoCloseable
 
     public void affinity(
         long bindingId,
-        long mask)
+        BitSet mask)
+    {
+        assert mask.nextSetBit(available.length()) == -1 || external(mask);
+
+        long offset = supplyOffset(bindingId);
+
+        if (offset != affinities.missingValue())
+        {
+            long[] maskWords = mask.toLongArray();
+            for (int index = 0; index < words; index++)
+            {
+                long maskWord = index < maskWords.length ? maskWords[index] : 0L;
+                mappedByteBuf.putLong((int) offset + index * Long.BYTES, maskWord);
+            }
+        }
+    }
+
+    public BitSet affinity(
+        long bindingId)
+    {
+        long offset = affinities.get(bindingId);
+
+        BitSet mask;
+        if (offset != affinities.missingValue())
+        {
+            long[] maskWords = new long[words];
+            for (int index = 0; index < words; index++)
+            {
+                maskWords[index] = mappedByteBuf.getLong((int) offset + index * Long.BYTES);
+            }
+            mask = BitSet.valueOf(maskWords);
+        }
+        else
+        {
+            mask = (BitSet) available.clone();
+        }
+
+        return mask;
+    }
+
+    public void dispatch(
+        long bindingId,
+        EngineDispatch dispatch)
+    {
+        long offset = supplyOffset(bindingId);
+
+        if (offset != affinities.missingValue())
+        {
+            mappedByteBuf.putLong((int) offset + words * Long.BYTES, dispatch.ordinal());
+        }
+    }
+
+    public EngineDispatch dispatch(
+        long bindingId)
+    {
+        long offset = affinities.get(bindingId);
+
+        EngineDispatch dispatch = this.dispatch;
+        if (offset != affinities.missingValue())
+        {
+            long ordinal = mappedByteBuf.getLong((int) offset + words * Long.BYTES);
+            if (ordinal >= 0 && ordinal < DISPATCHES.length)
+            {
+                dispatch = DISPATCHES[(int) ordinal];
+            }
+        }
+
+        return dispatch;
+    }
+
+    @Override
+    public void close() throws Exception
     {
-        assert (mask & ~available) == 0 || mask == 1L << (Long.SIZE - 1);
+        if (mappedByteBuf != null)
+        {
+            IoUtil.unmap(mappedByteBuf);
+        }
+    }
 
+    private boolean external(
+        BitSet mask)
+    {
+        return mask.cardinality() == 1 && mask.get(EXTERNAL_INDEX) && !available.get(EXTERNAL_INDEX);
+    }
+
+    private long supplyOffset(
+        long bindingId)
+    {
         long offset = affinities.get(bindingId);
 
         if (offset == affinities.missingValue())
@@ -81,11 +178,17 @@ public final class Tuning implements AutoCloseable
             {
                 offset = channel.position() + Long.BYTES;
 
+                // binding id, affinity mask words, then dispatch ordinal (-1 for engine default)
                 ByteBuffer byteBuf = ByteBuffer
-                        .wrap(new byte[Long.BYTES + Long.BYTES])
+                        .wrap(new byte[Long.BYTES + words * Long.BYTES + Long.BYTES])
                         .order(nativeOrder());
                 byteBuf.putLong(bindingId);
-                byteBuf.putLong(0L);
+                long[] availableWords = available.toLongArray();
+                for (int index = 0; index < words; index++)
+                {
+                    byteBuf.putLong(index < availableWords.length ? availableWords[index] : 0L);
+                }
+                byteBuf.putLong(-1L);
                 byteBuf.flip();
 
                 while (byteBuf.hasRemaining())
@@ -102,30 +205,9 @@ public final class Tuning implements AutoCloseable
             }
         }
 
-        offset = affinities.get(bindingId);
-        assert offset != affinities.missingValue();
-
-        mappedByteBuf.putLong((int) offset, mask);
-    }
-
-    public long affinity(
-        long bindingId)
-    {
-        long offset = affinities.get(bindingId);
-
-        return offset != affinities.missingValue() ? mappedByteBuf.getLong((int) offset) : available;
-    }
-
-    @Override
-    public void close() throws Exception
-    {
-        if (mappedByteBuf != null)
-        {
-            IoUtil.unmap(mappedByteBuf);
-        }
+        return offset;
     }
 
-
     private static MappedByteBuffer mapCreateReadWrite(
         Path file,
         int capacity)
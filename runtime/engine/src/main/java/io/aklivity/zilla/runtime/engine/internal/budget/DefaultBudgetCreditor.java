@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine.internal.budget;
 
+import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.BUDGET_WATCHERS_WORDS;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetIdOffset;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetRemainingOffset;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetWatchersOffset;
@@ -36,7 +37,7 @@ public class DefaultBudgetCreditor implements BudgetCreditor, AutoCloseable
 {
     public interface BudgetFlusher
     {
-        void flush(long traceId, long budgetId, long watchers);
+        void flush(long traceId, long budgetId, int watcherBase, long watchers);
     }
 
     private final long budgetMask;
@@ -100,7 +101,10 @@ public class DefaultBudgetCreditor implements BudgetCreditor, AutoCloseable
             if (storage.compareAndSetLong(budgetIdOffset, 0L, budgetId))
             {
                 storage.putLong(budgetRemainingOffset(index), 0L);
-                storage.putLong(budgetWatchersOffset(index), 0L);
+                for (int word = 0; word < BUDGET_WATCHERS_WORDS; word++)
+                {
+                    storage.putLong(budgetWatchersOffset(index, word), 0L);
+                }
                 budgetIndex = budgetMask | (long) index;
                 break;
             }
@@ -145,11 +149,14 @@ public class DefaultBudgetCreditor implements BudgetCreditor, AutoCloseable
                     System.nanoTime(), traceId, budgetId, credit, previous, previous + credit);
         }
 
-        final long watchers = storage.getLongVolatile(budgetWatchersOffset(index));
-        if (watchers != 0)
+        for (int word = 0; word < BUDGET_WATCHERS_WORDS; word++)
         {
-            final long budgetId = storage.getLong(budgetIdOffset(index));
-            flusher.flush(traceId, budgetId, watchers);
+            final long watchers = storage.getLongVolatile(budgetWatchersOffset(index, word));
+            if (watchers != 0)
+            {
+                final long budgetId = storage.getLong(budgetIdOffset(index));
+                flusher.flush(traceId, budgetId, word << 6, watchers);
+            }
         }
 
         return previous;
@@ -169,7 +176,10 @@ public class DefaultBudgetCreditor implements BudgetCreditor, AutoCloseable
 
         final long budgetId = storage.getAndSetLong(budgetIdOffset(index), 0L);
         storage.putLong(budgetRemainingOffset(index), 0L);
-        storage.putLongOrdered(budgetWatchersOffset(index), 0L);
+        for (int word = 0; word < BUDGET_WATCHERS_WORDS; word++)
+        {
+            storage.putLongOrdered(budgetWatchersOffset(index, word), 0L);
+        }
 
         assert budgetId != 0L;
 
@@ -39,6 +39,7 @@ public final class DefaultBudgetDebitor implements BudgetDebitor, AutoCloseable
     private final AtomicBuffer storage;
     private final int entries;
     private final long budgetMask;
+    private final int watcherWord;
     private final long watcherMask;
     private final Long2LongHashMap budgetIdByIndex;
     private final Long2ObjectHashMap<Long2ObjectHashMap<LongConsumer>> flushersByBudgetId;
@@ -56,7 +57,8 @@ public final class DefaultBudgetDebitor implements BudgetDebitor, AutoCloseable
         assert isPowerOfTwo(entries);
         this.entries = entries;
         this.budgetMask = budgetMask(ownerIndex);
-        this.watcherMask = 1L << watcherIndex;
+        this.watcherWord = watcherIndex >> 6;
+        this.watcherMask = 1L << (watcherIndex & 0x3f);
         this.budgetIdByIndex = new Long2LongHashMap(-1L);
         this.flushersByBudgetId = new Long2ObjectHashMap<>();
         this.watcherIdsByBudgetId = new Long2ObjectHashMap<>();
@@ -257,7 +259,7 @@ public final class DefaultBudgetDebitor implements BudgetDebitor, AutoCloseable
     {
         assert (budgetIndex & budgetMask) == budgetMask;
         final int index = (int) (budgetIndex & ~budgetMask);
-        return storage.getLongVolatile(budgetWatchersOffset(index));
+        return storage.getLongVolatile(budgetWatchersOffset(index, watcherWord));
     }
 
     long budgetId(
@@ -276,7 +278,7 @@ public final class DefaultBudgetDebitor implements BudgetDebitor, AutoCloseable
         final LongHashSet watcherIds = watcherIdsByBudgetId.computeIfAbsent(budgetId, id -> new LongHashSet());
         watcherIds.add(watcherId);
 
-        final int watchersOffset = budgetWatchersOffset(index);
+        final int watchersOffset = budgetWatchersOffset(index, watcherWord);
         for (long watchers = storage.getLongVolatile(watchersOffset);
                 (watchers & watcherMask) == 0L &&
                 !storage.compareAndSetLong(watchersOffset, watchers, watchers | watcherMask);
@@ -300,7 +302,7 @@ public final class DefaultBudgetDebitor implements BudgetDebitor, AutoCloseable
             {
                 watcherIdsByBudgetId.remove(budgetId);
 
-                final int watchersOffset = budgetWatchersOffset(index);
+                final int watchersOffset = budgetWatchersOffset(index, watcherWord);
                 for (long watchers = storage.getLongVolatile(watchersOffset);
                         (watchers & watcherMask) != 0L &&
                         !storage.compareAndSetLong(watchersOffset, watchers, watchers & ~watcherMask);
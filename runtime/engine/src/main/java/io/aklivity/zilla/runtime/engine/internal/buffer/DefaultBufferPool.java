@@ -94,7 +94,7 @@ public class DefaultBufferPool implements BufferPool
 
     public int acquiredSlots()
     {
-        return used.cardinality();
+        return slotCount - availableSlots.value;
     }
 
     public int slotCount()
@@ -166,6 +166,9 @@ public class NamespaceAdapter implements JsonbAdapter<NamespaceConfig, JsonObjec
                 .forEach(namespace::catalog);
         }
 
-        return namespace.build();
+        NamespaceConfig config = namespace.build();
+        config.source = object;
+
+        return config;
     }
 }
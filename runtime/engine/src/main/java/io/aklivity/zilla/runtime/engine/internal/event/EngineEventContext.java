@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine.internal.event;
 
+import static io.aklivity.zilla.runtime.engine.internal.types.event.EngineEventType.CONFIG_RELOADED;
 import static io.aklivity.zilla.runtime.engine.internal.types.event.EngineEventType.CONFIG_WATCHER_FAILED;
 
 import java.nio.ByteBuffer;
@@ -41,6 +42,7 @@ public final class EngineEventContext
     private final long engineId;
     private final int engineTypeId;
     private final int configWatcherFailedEventId;
+    private final int configReloadedEventId;
     private final MessageConsumer eventWriter;
     private final Clock clock;
 
@@ -50,6 +52,7 @@ public final class EngineEventContext
         this.engineId = engine.supplyNamespacedId(Engine.NAME, "events");
         this.engineTypeId = engine.supplyLabelId(Engine.NAME);
         this.configWatcherFailedEventId = engine.supplyLabelId("engine.config.watcher.failed");
+        this.configReloadedEventId = engine.supplyLabelId("engine.config.reloaded");
         this.eventWriter = engine.supplyEventWriter();
         this.clock = engine.clock();
     }
@@ -78,4 +81,35 @@ public final class EngineEventContext
         eventWriter.accept(engineTypeId, event.buffer(), event.offset(), event.limit());
     }
 
+    public void configReloaded(
+        long traceId,
+        long duration,
+        int added,
+        int removed,
+        int changed,
+        int unchanged)
+    {
+        EngineEventExFW extension = eventExRW
+            .wrap(extensionBuffer, 0, extensionBuffer.capacity())
+            .configReloaded(e -> e
+                .typeId(CONFIG_RELOADED.value())
+                .duration(duration)
+                .added(added)
+                .removed(removed)
+                .changed(changed)
+                .unchanged(unchanged)
+            )
+            .build();
+
+        EventFW event = eventRW
+            .wrap(eventBuffer, 0, eventBuffer.capacity())
+            .id(configReloadedEventId)
+            .timestamp(clock.millis())
+            .traceId(traceId)
+            .namespacedId(engineId)
+            .extension(extension.buffer(), extension.offset(), extension.limit())
+            .build();
+
+        eventWriter.accept(engineTypeId, event.buffer(), event.offset(), event.limit());
+    }
 }
@@ -19,6 +19,7 @@ import org.agrona.DirectBuffer;
 
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.event.EventFormatterSpi;
+import io.aklivity.zilla.runtime.engine.internal.types.event.EngineConfigReloadedExFW;
 import io.aklivity.zilla.runtime.engine.internal.types.event.EngineConfigWatcherFailedExFW;
 import io.aklivity.zilla.runtime.engine.internal.types.event.EngineEventExFW;
 import io.aklivity.zilla.runtime.engine.internal.types.event.EventFW;
@@ -29,6 +30,8 @@ public final class EngineEventFormatter implements EventFormatterSpi
         "Dynamic config reloading is disabled.";
     private static final String CONFIG_WATCHER_FAILED_WITH_REASON_FORMAT =
         CONFIG_WATCHER_FAILED_FORMAT + " %s.";
+    private static final String CONFIG_RELOADED_FORMAT =
+        "Config reloaded in %d ms, bindings added %d, removed %d, changed %d, unchanged %d.";
 
     private final EventFW eventRO = new EventFW();
     private final EngineEventExFW eventExRO = new EngineEventExFW();
@@ -58,6 +61,11 @@ public final class EngineEventFormatter implements EventFormatterSpi
                 : CONFIG_WATCHER_FAILED_FORMAT;
             text = String.format(format, reason);
             break;
+        case CONFIG_RELOADED:
+            EngineConfigReloadedExFW configReloaded = extension.configReloaded();
+            text = String.format(CONFIG_RELOADED_FORMAT, configReloaded.duration(), configReloaded.added(),
+                configReloaded.removed(), configReloaded.changed(), configReloaded.unchanged());
+            break;
         }
 
         return text;
@@ -41,7 +41,8 @@ public final class BudgetsLayout implements AutoCloseable
     public static final int SIZEOF_BUDGET_REMAINING = Long.BYTES;
     public static final int LIMIT_BUDGET_REMAINING = OFFSET_BUDGET_REMAINING + SIZEOF_BUDGET_REMAINING;
     public static final int OFFSET_BUDGET_WATCHERS = LIMIT_BUDGET_REMAINING;
-    public static final int SIZEOF_BUDGET_WATCHERS = Long.BYTES;
+    public static final int BUDGET_WATCHERS_WORDS = 4;
+    public static final int SIZEOF_BUDGET_WATCHERS = Long.BYTES * BUDGET_WATCHERS_WORDS;
     public static final int LIMIT_BUDGET_WATCHERS = OFFSET_BUDGET_WATCHERS + SIZEOF_BUDGET_WATCHERS;
 
     public static final int SIZEOF_BUDGET_ENTRY =
@@ -92,7 +93,15 @@ public final class BudgetsLayout implements AutoCloseable
     public static int budgetWatchersOffset(
         int index)
     {
-        return budgetEntryOffset(index) + OFFSET_BUDGET_WATCHERS;
+        return budgetWatchersOffset(index, 0);
+    }
+
+    public static int budgetWatchersOffset(
+        int index,
+        int word)
+    {
+        assert word >= 0 && word < BUDGET_WATCHERS_WORDS;
+        return budgetEntryOffset(index) + OFFSET_BUDGET_WATCHERS + (word << 3);
     }
 
     private static int budgetEntryOffset(
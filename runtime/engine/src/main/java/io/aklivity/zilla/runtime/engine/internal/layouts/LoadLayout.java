@@ -0,0 +1,169 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.layouts;
+
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.IoUtil.createEmptyFile;
+import static org.agrona.IoUtil.mapExistingFile;
+import static org.agrona.IoUtil.unmap;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public final class LoadLayout implements AutoCloseable
+{
+    public static final int OFFSET_STREAMS_DEPTH = 0;
+    public static final int SIZEOF_STREAMS_DEPTH = Long.BYTES;
+    public static final int LIMIT_STREAMS_DEPTH = OFFSET_STREAMS_DEPTH + SIZEOF_STREAMS_DEPTH;
+    public static final int OFFSET_STREAMS_CAPACITY = LIMIT_STREAMS_DEPTH;
+    public static final int SIZEOF_STREAMS_CAPACITY = Long.BYTES;
+    public static final int LIMIT_STREAMS_CAPACITY = OFFSET_STREAMS_CAPACITY + SIZEOF_STREAMS_CAPACITY;
+    public static final int OFFSET_STREAMS_ACTIVE = LIMIT_STREAMS_CAPACITY;
+    public static final int SIZEOF_STREAMS_ACTIVE = Long.BYTES;
+    public static final int LIMIT_STREAMS_ACTIVE = OFFSET_STREAMS_ACTIVE + SIZEOF_STREAMS_ACTIVE;
+    public static final int OFFSET_BUFFERS_ACQUIRED = LIMIT_STREAMS_ACTIVE;
+    public static final int SIZEOF_BUFFERS_ACQUIRED = Long.BYTES;
+    public static final int LIMIT_BUFFERS_ACQUIRED = OFFSET_BUFFERS_ACQUIRED + SIZEOF_BUFFERS_ACQUIRED;
+    public static final int OFFSET_BUFFERS_CAPACITY = LIMIT_BUFFERS_ACQUIRED;
+    public static final int SIZEOF_BUFFERS_CAPACITY = Long.BYTES;
+    public static final int LIMIT_BUFFERS_CAPACITY = OFFSET_BUFFERS_CAPACITY + SIZEOF_BUFFERS_CAPACITY;
+
+    public static final int SIZEOF_LOAD = CACHE_LINE_LENGTH;
+
+    private static final int PERCENT = 100;
+
+    private final AtomicBuffer buffer;
+
+    private LoadLayout(
+        AtomicBuffer buffer)
+    {
+        assert buffer.capacity() >= LIMIT_BUFFERS_CAPACITY;
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void close()
+    {
+        unmap(buffer.byteBuffer());
+    }
+
+    public void capacity(
+        long streamsCapacity,
+        long buffersCapacity)
+    {
+        buffer.putLongOrdered(OFFSET_STREAMS_CAPACITY, streamsCapacity);
+        buffer.putLongOrdered(OFFSET_BUFFERS_CAPACITY, buffersCapacity);
+    }
+
+    public void update(
+        long streamsDepth,
+        long streamsActive,
+        long buffersAcquired)
+    {
+        buffer.putLongOrdered(OFFSET_STREAMS_DEPTH, streamsDepth);
+        buffer.putLongOrdered(OFFSET_STREAMS_ACTIVE, streamsActive);
+        buffer.putLongOrdered(OFFSET_BUFFERS_ACQUIRED, buffersAcquired);
+    }
+
+    public long streamsDepth()
+    {
+        return buffer.getLongVolatile(OFFSET_STREAMS_DEPTH);
+    }
+
+    public long streamsCapacity()
+    {
+        return buffer.getLongVolatile(OFFSET_STREAMS_CAPACITY);
+    }
+
+    public long streamsActive()
+    {
+        return buffer.getLongVolatile(OFFSET_STREAMS_ACTIVE);
+    }
+
+    public long buffersAcquired()
+    {
+        return buffer.getLongVolatile(OFFSET_BUFFERS_ACQUIRED);
+    }
+
+    public long buffersCapacity()
+    {
+        return buffer.getLongVolatile(OFFSET_BUFFERS_CAPACITY);
+    }
+
+    public long load()
+    {
+        final long streamsPercent = percent(streamsDepth(), streamsCapacity());
+        final long buffersPercent = percent(buffersAcquired(), buffersCapacity());
+        final long streamsActive = Math.min(streamsActive(), 0xffff_ffffL);
+
+        return (streamsPercent + buffersPercent) << Integer.SIZE | streamsActive;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("load=[streams=%d/%d, active=%d, buffers=%d/%d]",
+                streamsDepth(), streamsCapacity(), streamsActive(), buffersAcquired(), buffersCapacity());
+    }
+
+    private static long percent(
+        long value,
+        long capacity)
+    {
+        return capacity > 0L ? Math.min(value * PERCENT / capacity, PERCENT) : 0L;
+    }
+
+    public static final class Builder
+    {
+        private Path path;
+        private boolean owner;
+
+        public Builder path(
+            Path path)
+        {
+            this.path = path;
+            return this;
+        }
+
+        public Builder owner(
+            boolean owner)
+        {
+            this.owner = owner;
+            return this;
+        }
+
+        public LoadLayout build()
+        {
+            final File load = path.toFile();
+
+            if (owner)
+            {
+                CloseHelper.close(createEmptyFile(load, SIZEOF_LOAD));
+            }
+
+            final MappedByteBuffer mapped = mapExistingFile(load, "load");
+
+            final AtomicBuffer buffer = new UnsafeBuffer(mapped);
+
+            return new LoadLayout(buffer);
+        }
+    }
+}
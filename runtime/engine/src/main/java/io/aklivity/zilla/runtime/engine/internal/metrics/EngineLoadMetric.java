@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.metrics;
+
+import java.util.function.IntFunction;
+import java.util.function.ToLongFunction;
+
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.internal.layouts.LoadLayout;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricContext;
+
+public final class EngineLoadMetric implements Metric
+{
+    private final String name;
+    private final Unit unit;
+    private final String description;
+    private final IntFunction<LoadLayout> supplyLoad;
+    private final ToLongFunction<LoadLayout> sampler;
+
+    EngineLoadMetric(
+        String name,
+        Unit unit,
+        String description,
+        IntFunction<LoadLayout> supplyLoad,
+        ToLongFunction<LoadLayout> sampler)
+    {
+        this.name = name;
+        this.unit = unit;
+        this.description = description;
+        this.supplyLoad = supplyLoad;
+        this.sampler = sampler;
+    }
+
+    @Override
+    public String name()
+    {
+        return name;
+    }
+
+    @Override
+    public Kind kind()
+    {
+        return Kind.GAUGE;
+    }
+
+    @Override
+    public Unit unit()
+    {
+        return unit;
+    }
+
+    @Override
+    public String description()
+    {
+        return description;
+    }
+
+    @Override
+    public MetricContext supply(
+        EngineContext context)
+    {
+        final int index = context.index();
+        return new EngineLoadMetricContext(EngineMetricGroup.NAME, kind(), () -> sampler.applyAsLong(supplyLoad.apply(index)));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.metrics;
+
+import static io.aklivity.zilla.runtime.engine.metrics.MetricContext.Direction.BOTH;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+import org.agrona.DirectBuffer;
+
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.internal.types.stream.BeginFW;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricContext;
+
+public final class EngineLoadMetricContext implements MetricContext
+{
+    private final String group;
+    private final Metric.Kind kind;
+    private final LongSupplier sampler;
+
+    public EngineLoadMetricContext(
+        String group,
+        Metric.Kind kind,
+        LongSupplier sampler)
+    {
+        this.group = group;
+        this.kind = kind;
+        this.sampler = sampler;
+    }
+
+    @Override
+    public String group()
+    {
+        return group;
+    }
+
+    @Override
+    public Metric.Kind kind()
+    {
+        return kind;
+    }
+
+    @Override
+    public Direction direction()
+    {
+        return BOTH;
+    }
+
+    @Override
+    public MessageConsumer supply(
+        LongConsumer recorder)
+    {
+        return new EngineLoadHandler(recorder);
+    }
+
+    private final class EngineLoadHandler implements MessageConsumer
+    {
+        private final LongConsumer recorder;
+
+        private long sampled;
+
+        private EngineLoadHandler(
+            LongConsumer recorder)
+        {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void accept(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            // sampled as streams open, gauges accumulate deltas so record the change since the last sample
+            if (msgTypeId == BeginFW.TYPE_ID)
+            {
+                final long value = sampler.getAsLong();
+                recorder.accept(value - sampled);
+                sampled = value;
+            }
+        }
+    }
+}
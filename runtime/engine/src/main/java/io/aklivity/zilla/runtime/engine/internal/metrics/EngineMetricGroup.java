@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.metrics;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.agrona.collections.Int2ObjectHashMap;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.EngineConfiguration;
+import io.aklivity.zilla.runtime.engine.internal.layouts.LoadLayout;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public final class EngineMetricGroup implements MetricGroup
+{
+    public static final String NAME = "engine";
+
+    public static final String STREAMS_BACKLOG = String.format("%s.%s", NAME, "streams.backlog");
+    public static final String STREAMS_ACTIVE = String.format("%s.%s", NAME, "streams.active");
+    public static final String BUFFERS_ACQUIRED = String.format("%s.%s", NAME, "buffers.acquired");
+
+    private final Path directory;
+    private final Int2ObjectHashMap<LoadLayout> loadsByIndex;
+    private final Map<String, Supplier<Metric>> engineMetrics;
+
+    public EngineMetricGroup(
+        Configuration config)
+    {
+        this.directory = new EngineConfiguration(config).directory();
+        this.loadsByIndex = new Int2ObjectHashMap<>();
+
+        final IntFunction<LoadLayout> supplyLoad = this::supplyLoad;
+        this.engineMetrics = Map.of(
+            STREAMS_BACKLOG, () -> new EngineLoadMetric(STREAMS_BACKLOG, Metric.Unit.BYTES,
+                "Bytes pending in the worker streams buffer", supplyLoad, LoadLayout::streamsDepth),
+            STREAMS_ACTIVE, () -> new EngineLoadMetric(STREAMS_ACTIVE, Metric.Unit.COUNT,
+                "Number of active streams on the worker", supplyLoad, LoadLayout::streamsActive),
+            BUFFERS_ACQUIRED, () -> new EngineLoadMetric(BUFFERS_ACQUIRED, Metric.Unit.COUNT,
+                "Number of worker buffer slots in use", supplyLoad, LoadLayout::buffersAcquired)
+        );
+    }
+
+    @Override
+    public String name()
+    {
+        return NAME;
+    }
+
+    @Override
+    public URL type()
+    {
+        return null;
+    }
+
+    @Override
+    public Metric supply(
+        String name)
+    {
+        return engineMetrics.getOrDefault(name, () -> null).get();
+    }
+
+    @Override
+    public Collection<String> metricNames()
+    {
+        return engineMetrics.keySet();
+    }
+
+    private synchronized LoadLayout supplyLoad(
+        int index)
+    {
+        return loadsByIndex.computeIfAbsent(index, this::newLoadLayout);
+    }
+
+    private LoadLayout newLoadLayout(
+        int index)
+    {
+        return new LoadLayout.Builder()
+                .path(directory.resolve(String.format("load%d", index)))
+                .owner(false)
+                .build();
+    }
+}
@@ -51,6 +51,28 @@ public final class Poller extends TransportPoller
         return workDone;
     }
 
+    public int doWork(
+        long timeoutMillis)
+    {
+        int workDone = 0;
+
+        try
+        {
+            workDone += selector.select(selectHandler, timeoutMillis);
+        }
+        catch (Throwable ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return workDone;
+    }
+
+    public void wakeup()
+    {
+        selector.wakeup();
+    }
+
     public void onClose()
     {
         for (SelectionKey key : selector.keys())
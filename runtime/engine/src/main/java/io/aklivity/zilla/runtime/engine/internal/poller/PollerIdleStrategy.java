@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.poller;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.agrona.concurrent.IdleStrategy;
+
+public final class PollerIdleStrategy implements IdleStrategy
+{
+    public static final String ALIAS = "poller";
+
+    private final Poller poller;
+    private final BooleanSupplier ready;
+    private final long maxSpins;
+    private final long maxYields;
+    private final long maxParkMillis;
+    private final AtomicBoolean parked;
+
+    private long spins;
+    private long yields;
+
+    public PollerIdleStrategy(
+        Poller poller,
+        BooleanSupplier ready,
+        long maxSpins,
+        long maxYields,
+        long maxParkNanos)
+    {
+        this.poller = poller;
+        this.ready = ready;
+        this.maxSpins = maxSpins;
+        this.maxYields = maxYields;
+        this.maxParkMillis = Math.max(NANOSECONDS.toMillis(maxParkNanos), 1L);
+        this.parked = new AtomicBoolean();
+    }
+
+    @Override
+    public void idle(
+        int workCount)
+    {
+        if (workCount > 0)
+        {
+            reset();
+        }
+        else
+        {
+            idle();
+        }
+    }
+
+    @Override
+    public void idle()
+    {
+        if (spins < maxSpins)
+        {
+            spins++;
+            Thread.onSpinWait();
+        }
+        else if (yields < maxYields)
+        {
+            yields++;
+            Thread.yield();
+        }
+        else
+        {
+            park();
+        }
+    }
+
+    @Override
+    public void reset()
+    {
+        spins = 0L;
+        yields = 0L;
+    }
+
+    @Override
+    public String alias()
+    {
+        return ALIAS;
+    }
+
+    public void wakeup()
+    {
+        if (parked.get() && parked.compareAndSet(true, false))
+        {
+            poller.wakeup();
+        }
+    }
+
+    private void park()
+    {
+        parked.set(true);
+
+        // re-check after publishing parked, so a concurrent writer either wakes us or is seen here
+        if (!ready.getAsBoolean())
+        {
+            poller.doWork(maxParkMillis);
+        }
+
+        parked.set(false);
+    }
+}
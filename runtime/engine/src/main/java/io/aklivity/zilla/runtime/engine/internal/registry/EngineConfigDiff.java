@@ -0,0 +1,247 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.registry;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.config.ConfigAdapterContext;
+import io.aklivity.zilla.runtime.engine.config.EngineConfig;
+import io.aklivity.zilla.runtime.engine.config.NamespaceConfig;
+import io.aklivity.zilla.runtime.engine.internal.config.NamespaceAdapter;
+
+final class EngineConfigDiff
+{
+    private static final String BINDINGS_NAME = "bindings";
+
+    final List<NamespaceConfig> detached;
+    final List<NamespaceConfig> attached;
+    final Map<NamespaceConfig, Set<String>> updated;
+
+    int bindingsAdded;
+    int bindingsRemoved;
+    int bindingsChanged;
+    int bindingsUnchanged;
+
+    EngineConfigDiff(
+        ConfigAdapterContext context,
+        EngineConfig oldConfig,
+        EngineConfig newConfig)
+    {
+        this.detached = new LinkedList<>();
+        this.attached = new LinkedList<>();
+        this.updated = new LinkedHashMap<>();
+
+        final NamespaceAdapter adapter = new NamespaceAdapter(context);
+        final Map<String, NamespaceConfig> oldNamespaces = namespacesByName(oldConfig);
+        final Map<String, NamespaceConfig> newNamespaces = namespacesByName(newConfig);
+
+        for (NamespaceConfig oldNamespace : oldNamespaces.values())
+        {
+            if (!newNamespaces.containsKey(oldNamespace.name))
+            {
+                detached.add(oldNamespace);
+                bindingsRemoved += oldNamespace.bindings.size();
+            }
+        }
+
+        for (NamespaceConfig newNamespace : newNamespaces.values())
+        {
+            final NamespaceConfig oldNamespace = oldNamespaces.get(newNamespace.name);
+            if (oldNamespace == null)
+            {
+                attached.add(newNamespace);
+                bindingsAdded += newNamespace.bindings.size();
+            }
+            else
+            {
+                diff(adapter, context, oldNamespace, newNamespace);
+            }
+        }
+    }
+
+    boolean unchanged()
+    {
+        return detached.isEmpty() && attached.isEmpty() && updated.isEmpty();
+    }
+
+    private void diff(
+        NamespaceAdapter adapter,
+        ConfigAdapterContext context,
+        NamespaceConfig oldNamespace,
+        NamespaceConfig newNamespace)
+    {
+        final JsonObject oldObject = sourceJson(adapter, oldNamespace);
+        final JsonObject newObject = sourceJson(adapter, newNamespace);
+
+        if (oldObject == null ||
+            newObject == null ||
+            !Objects.equals(withoutBindings(oldObject), withoutBindings(newObject)) ||
+            !Objects.equals(readResources(context, oldNamespace), readResources(context, newNamespace)))
+        {
+            detached.add(oldNamespace);
+            attached.add(newNamespace);
+            countReplaced(oldNamespace, newNamespace);
+        }
+        else
+        {
+            final JsonObject oldBindings = bindings(oldObject);
+            final JsonObject newBindings = bindings(newObject);
+            final Set<String> bindings = new HashSet<>();
+
+            for (String name : oldBindings.keySet())
+            {
+                if (!newBindings.containsKey(name))
+                {
+                    bindings.add(name);
+                    bindingsRemoved++;
+                }
+            }
+
+            for (Map.Entry<String, JsonValue> entry : newBindings.entrySet())
+            {
+                final String name = entry.getKey();
+                final JsonValue oldBinding = oldBindings.get(name);
+                if (oldBinding == null)
+                {
+                    bindings.add(name);
+                    bindingsAdded++;
+                }
+                else if (!oldBinding.equals(entry.getValue()))
+                {
+                    bindings.add(name);
+                    bindingsChanged++;
+                }
+                else
+                {
+                    bindingsUnchanged++;
+                }
+            }
+
+            if (!bindings.isEmpty())
+            {
+                updated.put(newNamespace, bindings);
+            }
+        }
+    }
+
+    private void countReplaced(
+        NamespaceConfig oldNamespace,
+        NamespaceConfig newNamespace)
+    {
+        final Set<String> oldNames = new HashSet<>();
+        oldNamespace.bindings.forEach(b -> oldNames.add(b.name));
+
+        for (BindingConfig binding : newNamespace.bindings)
+        {
+            if (oldNames.remove(binding.name))
+            {
+                bindingsChanged++;
+            }
+            else
+            {
+                bindingsAdded++;
+            }
+        }
+
+        bindingsRemoved += oldNames.size();
+    }
+
+    private static JsonObject sourceJson(
+        NamespaceAdapter adapter,
+        NamespaceConfig namespace)
+    {
+        JsonObject object = namespace.source;
+
+        try
+        {
+            if (object == null)
+            {
+                object = adapter.adaptToJson(namespace);
+            }
+        }
+        catch (Exception ex)
+        {
+            // treat as changed
+        }
+
+        return object;
+    }
+
+    private static Map<String, JsonValue> withoutBindings(
+        JsonObject object)
+    {
+        final Map<String, JsonValue> properties = new HashMap<>(object);
+        properties.remove(BINDINGS_NAME);
+        return properties;
+    }
+
+    private static JsonObject bindings(
+        JsonObject object)
+    {
+        return object.containsKey(BINDINGS_NAME)
+            ? object.getJsonObject(BINDINGS_NAME)
+            : JsonValue.EMPTY_JSON_OBJECT;
+    }
+
+    private static Map<String, String> readResources(
+        ConfigAdapterContext context,
+        NamespaceConfig namespace)
+    {
+        final Map<String, String> resources = new HashMap<>();
+
+        for (String location : namespace.resources)
+        {
+            String content = null;
+
+            try
+            {
+                content = context.readResource(location);
+            }
+            catch (Exception ex)
+            {
+                // treat as missing
+            }
+
+            resources.put(location, content);
+        }
+
+        return resources;
+    }
+
+    private static Map<String, NamespaceConfig> namespacesByName(
+        EngineConfig config)
+    {
+        final Map<String, NamespaceConfig> namespaces = new LinkedHashMap<>();
+
+        if (config != null)
+        {
+            config.namespaces.forEach(n -> namespaces.put(n.name, n));
+        }
+
+        return namespaces;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine.internal.registry;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.toList;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
@@ -23,6 +24,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -89,6 +91,8 @@ public class EngineManager
     private final Resolver expressions;
     private final Path configPath;
     private final EngineConfigWatchTask watchTask;
+    private final EngineEventContext events;
+    private final ConfigAdapterContext adapterContext;
 
     private String currentText;
     private EngineConfig current;
@@ -123,6 +127,8 @@ public class EngineManager
         this.expressions = Resolver.instantiate(config);
         this.configPath = Path.of(config.configURI());
         this.watchTask = new WatchTaskImpl(config, events, configPath);
+        this.events = events;
+        this.adapterContext = new NamespaceConfigAdapterContext(configPath);
     }
 
     public void start() throws Exception
@@ -172,15 +178,16 @@ public class EngineManager
             {
                 final String oldConfigText = currentText;
                 final EngineConfig oldConfig = current;
+                final long reloadStartAt = System.nanoTime();
 
-                unregister(oldConfig);
+                final EngineConfigDiff diff = new EngineConfigDiff(adapterContext, oldConfig, newConfig);
 
                 try
                 {
                     currentText = newConfigText;
                     current = newConfig;
 
-                    register(newConfig);
+                    reload(diff);
                 }
                 catch (Exception ex)
                 {
@@ -189,10 +196,17 @@ public class EngineManager
                     currentText = oldConfigText;
                     current = oldConfig;
 
-                    register(oldConfig);
+                    reload(new EngineConfigDiff(adapterContext, newConfig, oldConfig));
 
                     rethrowUnchecked(ex);
                 }
+
+                if (oldConfig != null)
+                {
+                    final long duration = NANOSECONDS.toMillis(System.nanoTime() - reloadStartAt);
+                    events.configReloaded(0L, duration, diff.bindingsAdded, diff.bindingsRemoved,
+                        diff.bindingsChanged, diff.bindingsUnchanged);
+                }
             }
         }
         catch (Exception ex)
@@ -218,7 +232,7 @@ public class EngineManager
         {
             EngineConfigReader reader = new EngineConfigReader(
                 config,
-                new NamespaceConfigAdapterContext(Path.of(config.configURI())),
+                adapterContext,
                 expressions,
                 schemaTypes,
                 logger);
@@ -381,46 +395,38 @@ public class EngineManager
             }
             binding.metricIds = metricIds.stream().mapToLong(Long::longValue).toArray();
 
-            long affinity = tuning.affinity(binding.id);
+            BitSet affinity = tuning.affinity(binding.id);
 
-            final long maxbits = maxWorkers.apply(binding.type.intern().hashCode()).applyAsInt(binding.kind);
-            for (int bitindex = 0; Long.bitCount(affinity) > maxbits; bitindex++)
+            final int maxbits = maxWorkers.apply(binding.type.intern().hashCode()).applyAsInt(binding.kind);
+            while (affinity.cardinality() > maxbits)
             {
-                affinity &= ~(1 << bitindex);
+                affinity.clear(affinity.nextSetBit(0));
             }
 
             tuning.affinity(binding.id, affinity);
         }
     }
 
-    private void register(
-        EngineConfig config)
+    private void reload(
+        EngineConfigDiff diff)
     {
-        if (config != null)
+        extensions.forEach(e -> e.onUnregistered(context));
+
+        for (NamespaceConfig namespace : diff.detached)
         {
-            for (NamespaceConfig namespace : config.namespaces)
-            {
-                register(namespace);
-                watch(namespace);
-            }
+            unwatch(namespace);
+            unregister(namespace);
         }
 
-        extensions.forEach(e -> e.onRegistered(context));
-    }
+        diff.updated.forEach(this::update);
 
-    private void unregister(
-        EngineConfig config)
-    {
-        if (config != null)
+        for (NamespaceConfig namespace : diff.attached)
         {
-            for (NamespaceConfig namespace : config.namespaces)
-            {
-                unwatch(namespace);
-                unregister(namespace);
-            }
+            register(namespace);
+            watch(namespace);
         }
 
-        extensions.forEach(e -> e.onUnregistered(context));
+        extensions.forEach(e -> e.onRegistered(context));
     }
 
     private void watch(
@@ -446,6 +452,16 @@ public class EngineManager
             .ifPresent(CompletableFuture::join);
     }
 
+    private void update(
+        NamespaceConfig namespace,
+        Set<String> bindings)
+    {
+        workers.stream()
+            .map(w -> w.update(namespace, bindings))
+            .reduce(CompletableFuture::allOf)
+            .ifPresent(CompletableFuture::join);
+    }
+
     private void unregister(
         NamespaceConfig namespace)
     {
@@ -16,6 +16,7 @@
 package io.aklivity.zilla.runtime.engine.internal.registry;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
@@ -113,6 +114,13 @@ public class EngineRegistry
         return new NamespaceTask(namespace, this::detachNamespace);
     }
 
+    public NamespaceTask update(
+        NamespaceConfig namespace,
+        Set<String> bindings)
+    {
+        return new NamespaceTask(namespace, n -> updateNamespace(n, bindings));
+    }
+
     public BindingRegistry resolveBinding(
         long bindingId)
     {
@@ -201,6 +209,15 @@ public class EngineRegistry
         registry.attach();
     }
 
+    private void updateNamespace(
+        NamespaceConfig namespace,
+        Set<String> bindings)
+    {
+        int namespaceId = supplyLabelId.applyAsInt(namespace.name);
+        NamespaceRegistry registry = namespacesById.get(namespaceId);
+        registry.update(namespace, bindings);
+    }
+
     protected void detachNamespace(
         NamespaceConfig namespace)
     {
@@ -61,10 +61,10 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
-import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
 import org.agrona.DeadlineTimerWheel;
@@ -88,6 +88,7 @@ import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.hints.ThreadHints;
 
 import io.aklivity.zilla.runtime.engine.EngineConfiguration;
+import io.aklivity.zilla.runtime.engine.EngineDispatch;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.Binding;
 import io.aklivity.zilla.runtime.engine.binding.BindingContext;
@@ -121,10 +122,12 @@ import io.aklivity.zilla.runtime.engine.internal.layouts.BindingsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.BufferPoolLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.EventsLayout;
+import io.aklivity.zilla.runtime.engine.internal.layouts.LoadLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.StreamsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.ScalarsLayout;
 import io.aklivity.zilla.runtime.engine.internal.poller.Poller;
+import io.aklivity.zilla.runtime.engine.internal.poller.PollerIdleStrategy;
 import io.aklivity.zilla.runtime.engine.internal.stream.StreamId;
 import io.aklivity.zilla.runtime.engine.internal.stream.Target;
 import io.aklivity.zilla.runtime.engine.internal.types.stream.AbortFW;
@@ -154,12 +157,16 @@ import io.aklivity.zilla.runtime.engine.vault.VaultHandler;
 
 public class EngineWorker implements EngineContext, Agent
 {
+    public static final int MAX_WORKERS = 1 << Byte.SIZE;
+
     private static final int RESERVED_SIZE = 33;
 
     private static final int SHIFT_SIZE = 56;
 
     private static final int SIGNAL_TASK_QUEUED = 1;
 
+    private static final int READ_BATCH_SCALE_MAX = 8;
+
     private final FrameFW frameRO = new FrameFW();
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -181,6 +188,7 @@ public class EngineWorker implements EngineContext, Agent
     private final Map<String, MetricGroup> metricGroupsByName;
     private final StreamsLayout streamsLayout;
     private final BufferPoolLayout bufferPoolLayout;
+    private final LoadLayout loadLayout;
     private final RingBuffer streamsBuffer;
     private final MutableDirectBuffer writeBuffer;
     private final Long2ObjectHashMap<LongHashSet> streamSets;
@@ -199,9 +207,12 @@ public class EngineWorker implements EngineContext, Agent
     private final LongFunction<Affinity> resolveAffinity;
 
     private final Poller poller;
+    private final Runnable wakeup;
+    private final IntConsumer wakeupWorker;
 
     private final DefaultBudgetCreditor creditor;
     private final Int2ObjectHashMap<DefaultBudgetDebitor> debitorsByIndex;
+    private final Int2ObjectHashMap<LoadLayout> loadsByIndex;
 
     private final Long2ObjectHashMap<Affinity> affinityByBindingId;
 
@@ -215,7 +226,8 @@ public class EngineWorker implements EngineContext, Agent
 
     private final EngineRegistry registry;
     private final Deque<Runnable> taskQueue;
-    private final LongUnaryOperator affinityMask;
+    private final LongFunction<BitSet> affinityMask;
+    private final LongFunction<EngineDispatch> affinityDispatch;
     private final Path configPath;
     private final AgentRunner runner;
     private final IdleStrategy idleStrategy;
@@ -236,6 +248,7 @@ public class EngineWorker implements EngineContext, Agent
     private long authorizedId;
 
     private long lastReadStreamId;
+    private long streamsActive;
 
     private volatile Thread thread;
 
@@ -244,7 +257,9 @@ public class EngineWorker implements EngineContext, Agent
         ExecutorService executor,
         LabelManager labels,
         ErrorHandler errorHandler,
-        LongUnaryOperator affinityMask,
+        LongFunction<BitSet> affinityMask,
+        LongFunction<EngineDispatch> affinityDispatch,
+        IntConsumer wakeupWorker,
         Collection<Binding> bindings,
         Collection<Exporter> exporters,
         Collection<Guard> guards,
@@ -264,6 +279,8 @@ public class EngineWorker implements EngineContext, Agent
         this.configPath = Path.of(config.configURI());
         this.labels = labels;
         this.affinityMask = affinityMask;
+        this.affinityDispatch = affinityDispatch;
+        this.wakeupWorker = wakeupWorker;
 
         final IdleStrategy idleStrategy = new BackoffIdleStrategy(
                 config.maxSpins(),
@@ -309,6 +326,11 @@ public class EngineWorker implements EngineContext, Agent
                 .readonly(readonly)
                 .build();
 
+        final LoadLayout loadLayout = new LoadLayout.Builder()
+                .path(config.directory().resolve(String.format("load%d", index)))
+                .owner(!readonly)
+                .build();
+
         this.eventsLayout = new EventsLayout.Builder()
                 .path(config.directory().resolve(String.format("events%d", index)))
                 .capacity(config.eventsBufferCapacity())
@@ -319,13 +341,32 @@ public class EngineWorker implements EngineContext, Agent
         this.agentName = String.format("engine/data#%d", index);
         this.streamsLayout = streamsLayout;
         this.bufferPoolLayout = bufferPoolLayout;
-        this.runner = new AgentRunner(idleStrategy, errorHandler, null, this);
+        this.loadLayout = loadLayout;
+        this.streamsBuffer = streamsLayout.streamsBuffer();
+        this.poller = new Poller();
+
+        if (config.workerIdleSelect())
+        {
+            final PollerIdleStrategy pollerIdleStrategy = new PollerIdleStrategy(
+                    poller,
+                    () -> streamsBuffer.size() != 0,
+                    config.maxSpins(),
+                    config.maxYields(),
+                    config.maxParkNanos());
+
+            this.wakeup = pollerIdleStrategy::wakeup;
+            this.runner = new AgentRunner(pollerIdleStrategy, errorHandler, null, this);
+        }
+        else
+        {
+            this.wakeup = () -> {};
+            this.runner = new AgentRunner(idleStrategy, errorHandler, null, this);
+        }
 
         this.resolveHost = config.hostResolver();
         this.timestamps = config.timestamps();
         this.readLimit = config.maximumMessagesPerRead();
         this.expireLimit = config.maximumExpirationsPerPoll();
-        this.streamsBuffer = streamsLayout.streamsBuffer();
         this.writeBuffer = new UnsafeBuffer(new byte[config.bufferSlotCapacity() + 1024]);
         this.streamSets = new Long2ObjectHashMap<>();
         this.streams = initDispatcher();
@@ -344,8 +385,6 @@ public class EngineWorker implements EngineContext, Agent
         this.futuresById = new Long2ObjectHashMap<>();
         this.signaler = new EngineSignaler(executor, Math.max(config.bufferSlotCapacity(), 512));
 
-        this.poller = new Poller();
-
         final BufferPool bufferPool = bufferPoolLayout.bufferPool();
 
         final long initial = ((long) index) << SHIFT_SIZE;
@@ -368,6 +407,12 @@ public class EngineWorker implements EngineContext, Agent
         this.creditor = new DefaultBudgetCreditor(index, budgetsLayout, this::doSystemFlush, this::supplyBudgetId,
             signaler::executeTaskAt, config.childCleanupLingerMillis());
         this.debitorsByIndex = new Int2ObjectHashMap<DefaultBudgetDebitor>();
+        this.loadsByIndex = new Int2ObjectHashMap<>();
+
+        if (!readonly)
+        {
+            loadLayout.capacity(streamsBuffer.capacity(), config.bufferPoolCapacity() / config.bufferSlotCapacity());
+        }
 
         Map<String, BindingContext> bindingsByType = new LinkedHashMap<>();
         for (Binding binding : bindings)
@@ -462,7 +507,7 @@ public class EngineWorker implements EngineContext, Agent
     public static int indexOfId(
         long indexedId)
     {
-        return (int) (indexedId >> SHIFT_SIZE);
+        return (int) (indexedId >>> SHIFT_SIZE);
     }
 
     @Override
@@ -602,6 +647,7 @@ public class EngineWorker implements EngineContext, Agent
                     MessageConsumer handler = streams[streamIndex(streamId)].remove(instanceId(streamId));
                     if (handler != null)
                     {
+                        streamsActive--;
                         doSyntheticAbort(streamId, handler);
                         doSyntheticReset(streamId, supplyWriter(streamIndex(streamId)));
                     }
@@ -849,7 +895,12 @@ public class EngineWorker implements EngineContext, Agent
                 }
             }
 
-            workDone += streamsBuffer.read(readHandler, readLimit);
+            workDone += streamsBuffer.read(readHandler, readBatch());
+
+            if (workDone != 0)
+            {
+                updateLoad();
+            }
         }
         catch (Throwable ex)
         {
@@ -897,6 +948,9 @@ public class EngineWorker implements EngineContext, Agent
 
         quietClose(streamsLayout);
         quietClose(bufferPoolLayout);
+        quietClose(loadLayout);
+
+        loadsByIndex.forEach((k, v) -> quietClose(v));
 
         debitorsByIndex.forEach((k, v) -> quietClose(v));
         quietClose(creditor);
@@ -929,6 +983,11 @@ public class EngineWorker implements EngineContext, Agent
         return agentName;
     }
 
+    public void wakeup()
+    {
+        wakeup.run();
+    }
+
     public CompletableFuture<Void> attach(
         NamespaceConfig namespace)
     {
@@ -964,6 +1023,25 @@ public class EngineWorker implements EngineContext, Agent
         return detachTask.future();
     }
 
+    public CompletableFuture<Void> update(
+        NamespaceConfig namespace,
+        Set<String> bindings)
+    {
+        assert thread != Thread.currentThread();
+
+        NamespaceTask updateTask = registry.update(namespace, bindings);
+        taskQueue.offer(updateTask);
+        signaler.signalNow(0L, 0L, 0L, supplyTraceId(), SIGNAL_TASK_QUEUED, 0);
+
+        if (localIndex == 0)
+        {
+            updateTask.future().join();
+            writeBindingTypes(registry);
+        }
+
+        return updateTask.future();
+    }
+
     public AgentRunner runner()
     {
         return runner;
@@ -1149,12 +1227,15 @@ public class EngineWorker implements EngineContext, Agent
     private void doSystemFlush(
         long traceId,
         long budgetId,
+        int watcherBase,
         long watchers)
     {
-        for (int watcherIndex = 0; watcherIndex < Long.SIZE; watcherIndex++)
+        for (int watcherBit = 0; watcherBit < Long.SIZE; watcherBit++)
         {
-            if ((watchers & (1L << watcherIndex)) != 0L)
+            if ((watchers & (1L << watcherBit)) != 0L)
             {
+                final int watcherIndex = watcherBase + watcherBit;
+
                 if (EngineConfiguration.DEBUG_BUDGETS)
                 {
                     System.out.format("[%d] [0x%016x] [0x%016x] flush %d\n",
@@ -1278,11 +1359,11 @@ public class EngineWorker implements EngineContext, Agent
                     break;
                 case EndFW.TYPE_ID:
                     handler.accept(msgTypeId, buffer, index, length);
-                    dispatcher.remove(instanceId);
+                    removeStream(dispatcher, instanceId);
                     break;
                 case AbortFW.TYPE_ID:
                     handler.accept(msgTypeId, buffer, index, length);
-                    dispatcher.remove(instanceId);
+                    removeStream(dispatcher, instanceId);
                     break;
                 case FlushFW.TYPE_ID:
                     handler.accept(msgTypeId, buffer, index, length);
@@ -1448,11 +1529,11 @@ public class EngineWorker implements EngineContext, Agent
                     break;
                 case EndFW.TYPE_ID:
                     handler.accept(msgTypeId, buffer, index, length);
-                    dispatcher.remove(instanceId);
+                    removeStream(dispatcher, instanceId);
                     break;
                 case AbortFW.TYPE_ID:
                     handler.accept(msgTypeId, buffer, index, length);
-                    dispatcher.remove(instanceId);
+                    removeStream(dispatcher, instanceId);
                     break;
                 case FlushFW.TYPE_ID:
                     handler.accept(msgTypeId, buffer, index, length);
@@ -1598,7 +1679,7 @@ public class EngineWorker implements EngineContext, Agent
                     .andThen(newStream);
 
                 final long replyId = supplyReplyId(initialId);
-                streams[streamIndex(initialId)].put(instanceId(initialId), newStream);
+                putStream(streams[streamIndex(initialId)], instanceId(initialId), newStream);
                 throttles[throttleIndex(replyId)].put(instanceId(replyId), newStream);
                 streamSets.computeIfAbsent(routedId, k -> new LongHashSet())
                     .add(initialId);
@@ -1640,7 +1721,7 @@ public class EngineWorker implements EngineContext, Agent
         newStream = correlations.remove(streamId);
         if (newStream != null)
         {
-            streams[streamIndex(streamId)].put(instanceId(streamId), newStream);
+            putStream(streams[streamIndex(streamId)], instanceId(streamId), newStream);
         }
 
         return newStream;
@@ -1790,7 +1871,8 @@ public class EngineWorker implements EngineContext, Agent
         return targetsByIndex.computeIfAbsent(index, newTarget);
     }
 
-    private LongConsumer supplyMetricWriter(
+    @Override
+    public LongConsumer supplyMetricWriter(
         Metric.Kind kind,
         long bindingId,
         long metricId)
@@ -1854,7 +1936,8 @@ public class EngineWorker implements EngineContext, Agent
     private Target newTarget(
         int index)
     {
-        return new Target(config, index, writeBuffer, correlations, streams, streamSets, throttles);
+        return new Target(config, index, writeBuffer, correlations, streams, streamSets, throttles,
+            () -> wakeupWorker.accept(index));
     }
 
     private DefaultBudgetDebitor newBudgetDebitor(
@@ -1872,24 +1955,138 @@ public class EngineWorker implements EngineContext, Agent
         long bindingId)
     {
         final Affinity affinity = supplyAffinity(bindingId);
+
+        return affinity.dispatch == EngineDispatch.LEAST_LOADED
+            ? resolveLeastLoadedIndex(affinity)
+            : resolveRoundRobinIndex(affinity);
+    }
+
+    private int resolveRoundRobinIndex(
+        Affinity affinity)
+    {
         final BitSet mask = affinity.mask;
         final int remoteIndex = affinity.nextIndex;
 
-        // currently round-robin with prefer-local only
+        // round-robin with prefer-local only
         assert mask.cardinality() != 0;
         if (remoteIndex != localIndex)
         {
-            int nextIndex = affinity.mask.nextSetBit(remoteIndex + 1);
-            if (nextIndex == -1)
+            affinity.nextIndex = nextAffinityIndex(mask, remoteIndex);
+        }
+
+        return remoteIndex;
+    }
+
+    private int resolveLeastLoadedIndex(
+        Affinity affinity)
+    {
+        final BitSet mask = affinity.mask;
+        final int startIndex = affinity.nextIndex;
+
+        assert mask.cardinality() != 0;
+        final int remoteIndex = resolveLeastLoadedIndex(mask, startIndex, localIndex, this::supplyLoadValue);
+
+        if (mask.cardinality() > 1)
+        {
+            affinity.nextIndex = nextAffinityIndex(mask, startIndex);
+        }
+
+        return remoteIndex;
+    }
+
+    static int resolveLeastLoadedIndex(
+        BitSet mask,
+        int startIndex,
+        int localIndex,
+        IntToLongFunction supplyLoad)
+    {
+        int remoteIndex = startIndex;
+        if (mask.cardinality() > 1)
+        {
+            long remoteLoad = supplyLoad.applyAsLong(startIndex);
+
+            // ties rotate from the round-robin cursor, so stale equal loads still spread
+            for (int index = nextAffinityIndex(mask, startIndex); index != startIndex; index = nextAffinityIndex(mask, index))
             {
-                nextIndex = affinity.mask.nextSetBit(0);
+                final long load = supplyLoad.applyAsLong(index);
+                if (load < remoteLoad || load == remoteLoad && index == localIndex)
+                {
+                    remoteIndex = index;
+                    remoteLoad = load;
+                }
             }
-            affinity.nextIndex = nextIndex;
         }
 
         return remoteIndex;
     }
 
+    private static int nextAffinityIndex(
+        BitSet mask,
+        int index)
+    {
+        int nextIndex = mask.nextSetBit(index + 1);
+        if (nextIndex == -1)
+        {
+            nextIndex = mask.nextSetBit(0);
+        }
+        return nextIndex;
+    }
+
+    private long supplyLoadValue(
+        int index)
+    {
+        return supplyLoad(index).load();
+    }
+
+    private LoadLayout supplyLoad(
+        int index)
+    {
+        return index == localIndex ? loadLayout : loadsByIndex.computeIfAbsent(index, this::newLoadLayout);
+    }
+
+    private LoadLayout newLoadLayout(
+        int index)
+    {
+        return new LoadLayout.Builder()
+                .path(config.directory().resolve(String.format("load%d", index)))
+                .owner(false)
+                .build();
+    }
+
+    private int readBatch()
+    {
+        // scale with streams buffer occupancy, so a backlog drains in fewer duty cycles
+        final long scale = 1L + (long) streamsBuffer.size() * (READ_BATCH_SCALE_MAX - 1) / streamsBuffer.capacity();
+
+        return (int) Math.min(readLimit * scale, Integer.MAX_VALUE);
+    }
+
+    private void updateLoad()
+    {
+        loadLayout.update(streamsBuffer.size(), streamsActive, bufferPool.acquiredSlots());
+    }
+
+    private void putStream(
+        Int2ObjectHashMap<MessageConsumer> dispatcher,
+        int instanceId,
+        MessageConsumer stream)
+    {
+        if (dispatcher.put(instanceId, stream) == null)
+        {
+            streamsActive++;
+        }
+    }
+
+    private void removeStream(
+        Int2ObjectHashMap<MessageConsumer> dispatcher,
+        int instanceId)
+    {
+        if (dispatcher.remove(instanceId) != null)
+        {
+            streamsActive--;
+        }
+    }
+
     private Affinity supplyAffinity(
         long bindingId)
     {
@@ -1899,20 +2096,21 @@ public class EngineWorker implements EngineContext, Agent
     public Affinity resolveAffinity(
         long bindingId)
     {
-        long mask = affinityMask.applyAsLong(bindingId);
+        BitSet mask = affinityMask.apply(bindingId);
 
-        if (Long.bitCount(mask) == 0)
+        if (mask.isEmpty())
         {
             int namespaceId = NamespacedId.namespaceId(bindingId);
             int localId = NamespacedId.localId(bindingId);
             String namespace = labels.lookupLabel(namespaceId);
             String binding = labels.lookupLabel(localId);
-            throw new IllegalStateException(String.format("affinity mask must specify at least one bit: %s.%s %d",
+            throw new IllegalStateException(String.format("affinity mask must specify at least one bit: %s.%s %s",
                     namespace, binding, mask));
         }
 
         Affinity affinity = new Affinity();
-        affinity.mask = BitSet.valueOf(new long[] { mask });
+        affinity.mask = mask;
+        affinity.dispatch = affinityDispatch.apply(bindingId);
         affinity.nextIndex = affinity.mask.get(localIndex) ? localIndex : affinity.mask.nextSetBit(0);
 
         return affinity;
@@ -1928,7 +2126,7 @@ public class EngineWorker implements EngineContext, Agent
     private Int2ObjectHashMap<MessageConsumer>[] initDispatcher()
     {
         @SuppressWarnings("unchecked")
-        Int2ObjectHashMap<MessageConsumer>[] dispatcher = new Int2ObjectHashMap[64];
+        Int2ObjectHashMap<MessageConsumer>[] dispatcher = new Int2ObjectHashMap[MAX_WORKERS];
         for (int i = 0; i < dispatcher.length; i++)
         {
             dispatcher[i] = new Int2ObjectHashMap<>();
@@ -2131,6 +2329,7 @@ public class EngineWorker implements EngineContext, Agent
                 .build();
 
             streamsBuffer.write(signal.typeId(), signal.buffer(), signal.offset(), signal.sizeof());
+            wakeup.run();
         }
 
         private void signal(
@@ -2166,12 +2365,14 @@ public class EngineWorker implements EngineContext, Agent
                                             .build();
 
             streamsBuffer.write(signal.typeId(), signal.buffer(), signal.offset(), signal.sizeof());
+            wakeup.run();
         }
     }
 
     private static final class Affinity
     {
         BitSet mask;
+        EngineDispatch dispatch;
         int nextIndex;
     }
 }
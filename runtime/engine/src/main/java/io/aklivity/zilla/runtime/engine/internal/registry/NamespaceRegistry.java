@@ -22,6 +22,7 @@ import static io.aklivity.zilla.runtime.engine.metrics.MetricContext.Direction.R
 import static io.aklivity.zilla.runtime.engine.metrics.MetricContext.Direction.SENT;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
@@ -53,7 +54,6 @@ import io.aklivity.zilla.runtime.engine.vault.VaultContext;
 
 public class NamespaceRegistry
 {
-    private final NamespaceConfig namespace;
     private final Function<String, BindingContext> bindingsByType;
     private final Function<String, GuardContext> guardsByType;
     private final Function<String, VaultContext> vaultsByType;
@@ -75,6 +75,8 @@ public class NamespaceRegistry
     private final LongConsumer detachBinding;
     private final Collector collector;
 
+    private NamespaceConfig namespace;
+
     public NamespaceRegistry(
         NamespaceConfig namespace,
         Function<String, BindingContext> bindingsByType,
@@ -139,6 +141,21 @@ public class NamespaceRegistry
         namespace.telemetry.exporters.forEach(this::detachExporter);
     }
 
+    public void update(
+        NamespaceConfig namespace,
+        Set<String> bindings)
+    {
+        this.namespace.bindings.stream()
+            .filter(b -> bindings.contains(b.name))
+            .forEach(this::detachBinding);
+
+        this.namespace = namespace;
+
+        namespace.bindings.stream()
+            .filter(b -> bindings.contains(b.name))
+            .forEach(this::attachBinding);
+    }
+
     public Collection<BindingRegistry> bindings()
     {
         return bindingsById.values();
@@ -219,6 +236,7 @@ public class NamespaceRegistry
         switch (metricGroup)
         {
         case "stream":
+        case "engine":
             if (originTypeId >= 0)
             {
                 kind = ROUTED;
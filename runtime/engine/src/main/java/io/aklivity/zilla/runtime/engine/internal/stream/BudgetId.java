@@ -22,7 +22,7 @@ public final class BudgetId
     {
         final int reserved = Byte.SIZE;
         final int shift = Long.SIZE - reserved;
-        return (int)(budgetId >> shift) & Byte.MAX_VALUE;
+        return (int)(budgetId >> shift) & 0xff;
     }
 
     public static long budgetMask(
@@ -32,13 +32,13 @@ public final class StreamId
     public static int clientIndex(
         long streamId)
     {
-        return (int)(streamId >> 56) & 0x7f;
+        return (int)(streamId >> 56) & 0xff;
     }
 
     public static int serverIndex(
         long streamId)
     {
-        return (int)(streamId >> 48) & 0x7f;
+        return (int)(streamId >> 48) & 0xff;
     }
 
     public static int instanceId(
@@ -52,8 +52,8 @@ public final class StreamId
         int remoteIndex,
         int instanceId)
     {
-        return isInitial(instanceId) ? ((localIndex & 0x7fL) << 56) | ((remoteIndex & 0x7fL) << 48) | instanceId
-                : ((remoteIndex & 0x7fL) << 56) | ((localIndex & 0x7fL) << 48) | instanceId;
+        return isInitial(instanceId) ? ((localIndex & 0xffL) << 56) | ((remoteIndex & 0xffL) << 48) | instanceId
+                : ((remoteIndex & 0xffL) << 56) | ((localIndex & 0xffL) << 48) | instanceId;
     }
 
     public static long throttleId(
@@ -61,8 +61,8 @@ public final class StreamId
         int remoteIndex,
         int instanceId)
     {
-        return isInitial(instanceId) ? ((remoteIndex & 0x7fL) << 56) | ((localIndex & 0x7fL) << 48) | instanceId
-                : ((localIndex & 0x7fL) << 56) | ((remoteIndex & 0x7fL) << 48) | instanceId;
+        return isInitial(instanceId) ? ((remoteIndex & 0xffL) << 56) | ((localIndex & 0xffL) << 48) | instanceId
+                : ((localIndex & 0xffL) << 56) | ((remoteIndex & 0xffL) << 48) | instanceId;
     }
 
     public static boolean isInitial(
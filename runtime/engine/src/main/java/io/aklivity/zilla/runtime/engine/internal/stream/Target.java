@@ -59,6 +59,7 @@ public final class Target implements AutoCloseable
     private final Long2ObjectHashMap<LongHashSet> streamSets;
     private final Int2ObjectHashMap<MessageConsumer>[] throttles;
     private final MessageConsumer writeHandler;
+    private final Runnable wakeup;
 
     private MessagePredicate streamsBuffer;
 
@@ -70,7 +71,8 @@ public final class Target implements AutoCloseable
         Long2ObjectHashMap<MessageConsumer> correlations,
         Int2ObjectHashMap<MessageConsumer>[] streams,
         Long2ObjectHashMap<LongHashSet> streamSets,
-        Int2ObjectHashMap<MessageConsumer>[] throttles)
+        Int2ObjectHashMap<MessageConsumer>[] throttles,
+        Runnable wakeup)
     {
         this.timestamps = config.timestamps();
         this.localIndex = index;
@@ -91,6 +93,7 @@ public final class Target implements AutoCloseable
         this.streams = streams;
         this.streamSets = streamSets;
         this.throttles = throttles;
+        this.wakeup = wakeup;
 
         this.writeHandler = this::handleWrite;
     }
@@ -158,6 +161,8 @@ public final class Target implements AutoCloseable
         {
             throw new IllegalStateException("Unable to write to streams buffer");
         }
+
+        wakeup.run();
     }
 
     private boolean handleWriteSystem(
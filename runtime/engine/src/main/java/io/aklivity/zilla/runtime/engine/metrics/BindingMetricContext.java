@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.metrics;
+
+import static io.aklivity.zilla.runtime.engine.metrics.MetricContext.Direction.BOTH;
+
+import java.util.function.LongConsumer;
+
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+
+public final class BindingMetricContext implements MetricContext
+{
+    private final String group;
+    private final Metric.Kind kind;
+
+    public BindingMetricContext(
+        String group,
+        Metric.Kind kind)
+    {
+        this.group = group;
+        this.kind = kind;
+    }
+
+    @Override
+    public String group()
+    {
+        return group;
+    }
+
+    @Override
+    public Metric.Kind kind()
+    {
+        return kind;
+    }
+
+    @Override
+    public Direction direction()
+    {
+        return BOTH;
+    }
+
+    @Override
+    public MessageConsumer supply(
+        LongConsumer recorder)
+    {
+        // recorded by the binding itself via MetricRecorders.supplyRecorder, not by observing frames
+        return MessageConsumer.NOOP;
+    }
+}
@@ -64,6 +64,19 @@ public interface ConverterHandler
     {
     }
 
+    default boolean pending(
+        DirectBuffer data,
+        int index,
+        int length,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return false;
+    }
+
     default int padding(
         DirectBuffer data,
         int index,
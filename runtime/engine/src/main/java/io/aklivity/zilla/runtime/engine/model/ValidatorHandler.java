@@ -44,4 +44,17 @@ public interface ValidatorHandler
     {
         return validate(traceId, bindingId, FLAGS_COMPLETE, data, index, length, next);
     }
+
+    default boolean pending(
+        DirectBuffer data,
+        int index,
+        int length,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return false;
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+
+public final class Correlations<V>
+{
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Function<V, DirectBuffer> correlationId;
+    private final Long2ObjectHashMap<V> correlations;
+
+    public Correlations(
+        Function<V, DirectBuffer> correlationId)
+    {
+        this.correlationId = correlationId;
+        this.correlations = new Long2ObjectHashMap<>();
+    }
+
+    public boolean register(
+        V value)
+    {
+        final DirectBuffer id = correlationId.apply(value);
+        final long key = hash(id, 0, id.capacity());
+        final boolean registered = !correlations.containsKey(key);
+
+        if (registered)
+        {
+            correlations.put(key, value);
+        }
+
+        return registered;
+    }
+
+    public void unregister(
+        V value)
+    {
+        final DirectBuffer id = correlationId.apply(value);
+        final long key = hash(id, 0, id.capacity());
+
+        if (correlations.get(key) == value)
+        {
+            correlations.remove(key);
+        }
+    }
+
+    public V resolve(
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        final V candidate = correlations.get(hash(buffer, offset, length));
+
+        V resolved = null;
+        if (candidate != null && matches(correlationId.apply(candidate), buffer, offset, length))
+        {
+            resolved = candidate;
+        }
+
+        return resolved;
+    }
+
+    public void forEach(
+        Consumer<V> action)
+    {
+        final List<V> values = new ArrayList<>(correlations.values());
+        values.forEach(action);
+    }
+
+    public void visit(
+        Consumer<V> action)
+    {
+        correlations.values().forEach(action);
+    }
+
+    public void drain(
+        Consumer<V> action)
+    {
+        final List<V> values = new ArrayList<>(correlations.values());
+        correlations.clear();
+        values.forEach(action);
+    }
+
+    public int size()
+    {
+        return correlations.size();
+    }
+
+    public boolean isEmpty()
+    {
+        return correlations.isEmpty();
+    }
+
+    public static long hash(
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        long hash = FNV_OFFSET_BASIS;
+        for (int index = offset; index < offset + length; index++)
+        {
+            hash ^= buffer.getByte(index) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static boolean matches(
+        DirectBuffer id,
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        boolean matches = id.capacity() == length;
+        for (int index = 0; matches && index < length; index++)
+        {
+            matches = id.getByte(index) == buffer.getByte(offset + index);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.util;
+
+import java.util.function.LongConsumer;
+
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+
+public final class MetricRecorders
+{
+    private static final LongConsumer NO_RECORDER = value -> {};
+
+    public static LongConsumer supplyRecorder(
+        EngineContext context,
+        BindingConfig binding,
+        Metric.Kind kind,
+        String metricName)
+    {
+        LongConsumer recorder = NO_RECORDER;
+
+        if (binding.metricIds != null)
+        {
+            for (long metricId : binding.metricIds)
+            {
+                if (metricName.equals(context.supplyLocalName(metricId)))
+                {
+                    recorder = context.supplyMetricWriter(kind, binding.id, metricId);
+                    break;
+                }
+            }
+        }
+
+        return recorder;
+    }
+
+    private MetricRecorders()
+    {
+    }
+}
@@ -33,6 +33,7 @@ module io.aklivity.zilla.runtime.engine
     exports io.aklivity.zilla.runtime.engine.reader;
     exports io.aklivity.zilla.runtime.engine.resolver;
     exports io.aklivity.zilla.runtime.engine.security;
+    exports io.aklivity.zilla.runtime.engine.util;
     exports io.aklivity.zilla.runtime.engine.util.function;
     exports io.aklivity.zilla.runtime.engine.vault;
 
@@ -56,6 +57,8 @@ module io.aklivity.zilla.runtime.engine
 
     provides io.aklivity.zilla.runtime.engine.event.EventFormatterFactorySpi
         with io.aklivity.zilla.runtime.engine.internal.event.EngineEventFormatterFactory;
+    provides io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactorySpi
+        with io.aklivity.zilla.runtime.engine.internal.metrics.EngineMetricGroupFactorySpi;
 
     uses io.aklivity.zilla.runtime.engine.config.ConditionConfigAdapterSpi;
     uses io.aklivity.zilla.runtime.engine.config.CompositeBindingAdapterSpi;
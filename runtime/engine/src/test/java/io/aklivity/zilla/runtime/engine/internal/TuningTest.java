@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal;
+
+import static io.aklivity.zilla.runtime.engine.EngineDispatch.LEAST_LOADED;
+import static io.aklivity.zilla.runtime.engine.EngineDispatch.ROUND_ROBIN;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class TuningTest
+{
+    private static final Path DIRECTORY = Paths.get("target/zilla-itests/tuning");
+
+    @Test
+    public void shouldPersistDispatch() throws Exception
+    {
+        try (Tuning tuning = new Tuning(DIRECTORY, 4, ROUND_ROBIN))
+        {
+            tuning.reset();
+
+            BitSet mask = new BitSet();
+            mask.set(1);
+            tuning.affinity(1L, mask);
+            tuning.dispatch(1L, LEAST_LOADED);
+
+            assertEquals(LEAST_LOADED, tuning.dispatch(1L));
+            assertEquals(mask, tuning.affinity(1L));
+        }
+    }
+
+    @Test
+    public void shouldDefaultDispatch() throws Exception
+    {
+        try (Tuning tuning = new Tuning(DIRECTORY, 4, LEAST_LOADED))
+        {
+            tuning.reset();
+
+            BitSet mask = new BitSet();
+            mask.set(0);
+            tuning.affinity(1L, mask);
+
+            assertEquals(LEAST_LOADED, tuning.dispatch(1L));
+            assertEquals(LEAST_LOADED, tuning.dispatch(2L));
+        }
+    }
+
+    @Test
+    public void shouldDefaultAffinityWhenOnlyDispatch() throws Exception
+    {
+        try (Tuning tuning = new Tuning(DIRECTORY, 4, ROUND_ROBIN))
+        {
+            tuning.reset();
+
+            tuning.dispatch(1L, LEAST_LOADED);
+
+            BitSet available = new BitSet();
+            available.set(0, 4);
+            assertEquals(LEAST_LOADED, tuning.dispatch(1L));
+            assertEquals(available, tuning.affinity(1L));
+        }
+    }
+}
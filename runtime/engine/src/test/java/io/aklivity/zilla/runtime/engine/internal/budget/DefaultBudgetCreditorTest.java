@@ -145,7 +145,7 @@ public class DefaultBudgetCreditorTest
             assertEquals(1024L, creditor.available(creditorIndex));
         }
 
-        verify(flusher).flush(traceId, budgetId, 0x01L);
+        verify(flusher).flush(traceId, budgetId, 0, 0x01L);
         verifyNoMoreInteractions(flusher);
     }
 
@@ -171,7 +171,7 @@ public class DefaultBudgetCreditorTest
             assertEquals(1024L, creditor.available(creditorIndex));
         }
 
-        verify(flusher).flush(traceId, budgetId, 0x01L);
+        verify(flusher).flush(traceId, budgetId, 0, 0x01L);
         verifyNoMoreInteractions(flusher);
     }
 }
@@ -18,6 +18,7 @@ package io.aklivity.zilla.runtime.engine.internal.budget;
 import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetIdOffset;
 import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetRemainingOffset;
+import static io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout.budgetWatchersOffset;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.mockito.Mockito.verify;
@@ -230,4 +231,36 @@ public class DefaultBudgetDebitorTest
         verify(flusher).accept(traceId);
         verifyNoMoreInteractions(flusher);
     }
+
+    @Test
+    public void shouldClaimWithInsufficientBudgetBeyondFirstWatchersWord() throws Exception
+    {
+        final LongConsumer flusher = Mockito.mock(LongConsumer.class);
+        final BudgetsLayout layout = new BudgetsLayout.Builder()
+            .owner(true)
+            .path(Paths.get("target/zilla-itests/budgets0"))
+            .capacity(1024)
+            .build();
+
+        final long budgetId = 1L;
+        final long watcherId = 2L;
+        final int creditorLocalIndex = 1;
+
+        try (DefaultBudgetDebitor debitor = new DefaultBudgetDebitor(130, 0, layout))
+        {
+            layout.buffer().putLongVolatile(budgetIdOffset(creditorLocalIndex), budgetId);
+            layout.buffer().putLongVolatile(budgetRemainingOffset(creditorLocalIndex), 256L);
+
+            final long debitorIndex = debitor.acquire(budgetId, watcherId, flusher);
+            final int claimed = debitor.claim(debitorIndex, watcherId, 512, 1024);
+            final long watchers = debitor.watchers(debitorIndex);
+            final long firstWatchers = layout.buffer().getLongVolatile(budgetWatchersOffset(creditorLocalIndex, 0));
+
+            assertEquals(0, claimed);
+            assertEquals(1L << 2, watchers);
+            assertEquals(0L, firstWatchers);
+        }
+
+        verifyNoMoreInteractions(flusher);
+    }
 }
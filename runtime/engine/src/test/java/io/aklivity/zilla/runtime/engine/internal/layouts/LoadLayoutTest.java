@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.layouts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+public class LoadLayoutTest
+{
+    private static final Path PATH = Paths.get("target/zilla-itests/load0");
+
+    @Test
+    public void shouldPublishAndReadLoad()
+    {
+        try (LoadLayout owner = new LoadLayout.Builder()
+                .path(PATH)
+                .owner(true)
+                .build();
+             LoadLayout reader = new LoadLayout.Builder()
+                .path(PATH)
+                .owner(false)
+                .build())
+        {
+            owner.capacity(1024L, 64L);
+            owner.update(256L, 3L, 16L);
+
+            assertEquals(256L, reader.streamsDepth());
+            assertEquals(1024L, reader.streamsCapacity());
+            assertEquals(3L, reader.streamsActive());
+            assertEquals(16L, reader.buffersAcquired());
+            assertEquals(64L, reader.buffersCapacity());
+        }
+    }
+
+    @Test
+    public void shouldOrderLoadByOccupancyThenActiveStreams()
+    {
+        try (LoadLayout layout = new LoadLayout.Builder()
+                .path(PATH)
+                .owner(true)
+                .build())
+        {
+            layout.capacity(1024L, 64L);
+
+            layout.update(0L, 10L, 0L);
+            final long idleWithStreams = layout.load();
+
+            layout.update(0L, 2L, 0L);
+            final long idleWithFewerStreams = layout.load();
+
+            layout.update(512L, 2L, 0L);
+            final long busyStreams = layout.load();
+
+            layout.update(0L, 2L, 32L);
+            final long busyBuffers = layout.load();
+
+            assertTrue(idleWithFewerStreams < idleWithStreams);
+            assertTrue(idleWithStreams < busyStreams);
+            assertTrue(idleWithStreams < busyBuffers);
+            assertEquals(busyStreams, busyBuffers);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.metrics;
+
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DIRECTORY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.internal.layouts.LoadLayout;
+import io.aklivity.zilla.runtime.engine.internal.types.stream.BeginFW;
+import io.aklivity.zilla.runtime.engine.internal.types.stream.DataFW;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricContext;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public class EngineMetricGroupTest
+{
+    private static final Path DIRECTORY = Paths.get("target/zilla-itests/engine-metrics");
+
+    @Test
+    public void shouldReturnMetricNames()
+    {
+        MetricGroup metricGroup = new EngineMetricGroup(new Configuration());
+
+        assertThat(metricGroup.metricNames(), containsInAnyOrder(
+            "engine.streams.backlog",
+            "engine.streams.active",
+            "engine.buffers.acquired"));
+    }
+
+    @Test
+    public void shouldRecordStreamsActiveOnBegin()
+    {
+        Properties properties = new Properties();
+        properties.setProperty(ENGINE_DIRECTORY.name(), DIRECTORY.toString());
+        MetricGroup metricGroup = new EngineMetricGroup(new Configuration(properties));
+
+        try (LoadLayout load = new LoadLayout.Builder()
+                .path(DIRECTORY.resolve("load0"))
+                .owner(true)
+                .build())
+        {
+            EngineContext context = mock(EngineContext.class);
+            when(context.index()).thenReturn(0);
+
+            Metric metric = metricGroup.supply("engine.streams.active");
+            MetricContext metricContext = metric.supply(context);
+
+            long[] gauge = new long[1];
+            MessageConsumer handler = metricContext.supply(delta -> gauge[0] += delta);
+            UnsafeBuffer buffer = new UnsafeBuffer(new byte[0]);
+
+            assertThat(metric.kind(), equalTo(Metric.Kind.GAUGE));
+
+            load.update(0L, 3L, 0L);
+            handler.accept(BeginFW.TYPE_ID, buffer, 0, 0);
+            assertThat(gauge[0], equalTo(3L));
+
+            load.update(0L, 1L, 0L);
+            handler.accept(DataFW.TYPE_ID, buffer, 0, 0);
+            assertThat(gauge[0], equalTo(3L));
+
+            handler.accept(BeginFW.TYPE_ID, buffer, 0, 0);
+            assertThat(gauge[0], equalTo(1L));
+        }
+    }
+}
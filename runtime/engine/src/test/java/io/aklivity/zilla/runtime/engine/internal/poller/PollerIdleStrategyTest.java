@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.poller;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+public class PollerIdleStrategyTest
+{
+    @Test
+    public void shouldParkUntilWakeup() throws Exception
+    {
+        final Poller poller = new Poller();
+        final PollerIdleStrategy idleStrategy = new PollerIdleStrategy(poller, () -> false, 0L, 0L, SECONDS.toNanos(30L));
+
+        try
+        {
+            final long startAt = System.nanoTime();
+            final CompletableFuture<Void> parked = CompletableFuture.runAsync(idleStrategy::idle);
+
+            while (!parked.isDone())
+            {
+                idleStrategy.wakeup();
+                Thread.sleep(10L);
+            }
+
+            assertTrue(System.nanoTime() - startAt < SECONDS.toNanos(10L));
+        }
+        finally
+        {
+            poller.onClose();
+        }
+    }
+
+    @Test
+    public void shouldNotParkWhenReady() throws Exception
+    {
+        final Poller poller = new Poller();
+        final AtomicBoolean ready = new AtomicBoolean(true);
+        final PollerIdleStrategy idleStrategy = new PollerIdleStrategy(poller, ready::get, 0L, 0L, SECONDS.toNanos(30L));
+
+        try
+        {
+            final long startAt = System.nanoTime();
+            idleStrategy.idle();
+
+            assertTrue(System.nanoTime() - startAt < SECONDS.toNanos(10L));
+        }
+        finally
+        {
+            poller.onClose();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.poller.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.AgentRunner;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.engine.internal.concurent.ManyToOneRingBuffer;
+import io.aklivity.zilla.runtime.engine.internal.poller.Poller;
+import io.aklivity.zilla.runtime.engine.internal.poller.PollerIdleStrategy;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(MICROSECONDS)
+public class PollerIdleStrategyBM
+{
+    private static final long MAX_SPINS = 64L;
+    private static final long MAX_YIELDS = 64L;
+    private static final long MIN_PARK_NANOS = 64L;
+    private static final long MAX_PARK_NANOS = MILLISECONDS.toNanos(100L);
+
+    @Param({"backoff", "poller"})
+    public String strategy;
+
+    @Param({"0", "10", "100", "1000"})
+    public long intervalMicros;
+
+    private final AtomicLong consumed = new AtomicLong();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private ManyToOneRingBuffer streams;
+    private MutableDirectBuffer writeBuffer;
+    private Poller poller;
+    private PollerIdleStrategy pollerIdleStrategy;
+    private AgentRunner runner;
+    private long produced;
+    private long iterationAt;
+    private long iterationCpuAt;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.streams = new ManyToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 * 1024 + TRAILER_LENGTH)));
+        this.writeBuffer = new UnsafeBuffer(new byte[64]);
+        this.poller = new Poller();
+
+        IdleStrategy idleStrategy;
+        if ("poller".equals(strategy))
+        {
+            this.pollerIdleStrategy = new PollerIdleStrategy(poller, () -> streams.size() != 0,
+                    MAX_SPINS, MAX_YIELDS, MAX_PARK_NANOS);
+            idleStrategy = pollerIdleStrategy;
+        }
+        else
+        {
+            idleStrategy = new BackoffIdleStrategy(MAX_SPINS, MAX_YIELDS, MIN_PARK_NANOS, MAX_PARK_NANOS);
+        }
+
+        this.runner = new AgentRunner(idleStrategy, Throwable::printStackTrace, null, new ConsumerAgent());
+        AgentRunner.startOnThread(runner);
+    }
+
+    @TearDown(Level.Trial)
+    public void close()
+    {
+        runner.close();
+        poller.onClose();
+    }
+
+    @Setup(Level.Iteration)
+    public void beginIteration()
+    {
+        iterationAt = System.nanoTime();
+        iterationCpuAt = threads.getThreadCpuTime(runner.thread().threadId());
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration()
+    {
+        final long elapsed = System.nanoTime() - iterationAt;
+        final long cpu = threads.getThreadCpuTime(runner.thread().threadId()) - iterationCpuAt;
+        System.out.format(" [consumer cpu %.1f%%]", 100.0 * cpu / elapsed);
+    }
+
+    @Setup(Level.Invocation)
+    public void pause()
+    {
+        if (intervalMicros != 0L)
+        {
+            LockSupport.parkNanos(MICROSECONDS.toNanos(intervalMicros));
+        }
+    }
+
+    @Benchmark
+    public long deliver()
+    {
+        final long sequence = ++produced;
+
+        writeBuffer.putLong(0, sequence);
+        while (!streams.write(1, writeBuffer, 0, Long.BYTES))
+        {
+            Thread.onSpinWait();
+        }
+
+        if (pollerIdleStrategy != null)
+        {
+            pollerIdleStrategy.wakeup();
+        }
+
+        while (consumed.get() < sequence)
+        {
+            Thread.onSpinWait();
+        }
+
+        return sequence;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(PollerIdleStrategyBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    private final class ConsumerAgent implements Agent
+    {
+        @Override
+        public int doWork()
+        {
+            return poller.doWork() + streams.read(this::onMessage, 64);
+        }
+
+        @Override
+        public String roleName()
+        {
+            return "consumer";
+        }
+
+        private void onMessage(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            consumed.lazySet(buffer.getLong(index));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.registry;
+
+import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.Set;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.config.ConfigAdapterContext;
+import io.aklivity.zilla.runtime.engine.config.EngineConfig;
+import io.aklivity.zilla.runtime.engine.config.NamespaceConfig;
+import io.aklivity.zilla.runtime.engine.config.NamespaceConfigBuilder;
+import io.aklivity.zilla.runtime.engine.internal.config.NamespaceAdapter;
+import io.aklivity.zilla.runtime.engine.test.internal.guard.config.TestGuardOptionsConfig;
+
+public class EngineConfigDiffTest
+{
+    private final ConfigAdapterContext context = location -> null;
+
+    @Test
+    public void shouldDiffUnchanged()
+    {
+        EngineConfig oldConfig = engine(namespace("test", "app0"));
+        EngineConfig newConfig = engine(namespace("test", "app0"));
+
+        EngineConfigDiff diff = new EngineConfigDiff(context, oldConfig, newConfig);
+
+        assertTrue(diff.unchanged());
+        assertEquals(1, diff.bindingsUnchanged);
+    }
+
+    @Test
+    public void shouldDiffChangedBindingOnly()
+    {
+        EngineConfig oldConfig = engine(namespace("test", "app0"));
+        EngineConfig newConfig = engine(namespace("test", "app1"));
+
+        EngineConfigDiff diff = new EngineConfigDiff(context, oldConfig, newConfig);
+
+        assertFalse(diff.unchanged());
+        assertThat(diff.attached, empty());
+        assertThat(diff.detached, empty());
+        assertEquals(Set.of("net0"), diff.updated.get(newConfig.namespaces.get(0)));
+        assertEquals(0, diff.bindingsAdded);
+        assertEquals(0, diff.bindingsRemoved);
+        assertEquals(1, diff.bindingsChanged);
+        assertEquals(1, diff.bindingsUnchanged);
+    }
+
+    @Test
+    public void shouldDiffAddedAndRemovedNamespaces()
+    {
+        EngineConfig oldConfig = engine(namespace("old", "app0"));
+        EngineConfig newConfig = engine(namespace("new", "app0"));
+
+        EngineConfigDiff diff = new EngineConfigDiff(context, oldConfig, newConfig);
+
+        assertEquals("old", diff.detached.get(0).name);
+        assertEquals("new", diff.attached.get(0).name);
+        assertThat(diff.updated.keySet(), empty());
+        assertEquals(2, diff.bindingsAdded);
+        assertEquals(2, diff.bindingsRemoved);
+    }
+
+    @Test
+    public void shouldDiffReplacedNamespaceWhenGuardChanged()
+    {
+        EngineConfig oldConfig = engine(namespace("test", "app0"));
+        EngineConfig newConfig = engine(NamespaceConfig.builder()
+            .name("test")
+            .inject(n -> bindings(n, "app0"))
+            .guard()
+                .name("guard0")
+                .type("test")
+                .options(TestGuardOptionsConfig::builder)
+                    .credentials("token")
+                    .lifetime(Duration.ofSeconds(10))
+                    .build()
+                .build()
+            .build());
+
+        EngineConfigDiff diff = new EngineConfigDiff(context, oldConfig, newConfig);
+
+        assertEquals(1, diff.detached.size());
+        assertEquals(1, diff.attached.size());
+        assertThat(diff.updated.keySet(), empty());
+        assertEquals(2, diff.bindingsChanged);
+    }
+
+    @Test
+    public void shouldDiffChangedBindingWhenSourceOnlyFieldChanged()
+    {
+        NamespaceAdapter adapter = new NamespaceAdapter(context);
+        EngineConfig oldConfig = engine(adapter.adaptFromJson(source("test", "schema0")));
+        EngineConfig newConfig = engine(adapter.adaptFromJson(source("test", "schema1")));
+
+        EngineConfigDiff diff = new EngineConfigDiff(context, oldConfig, newConfig);
+
+        assertFalse(diff.unchanged());
+        assertThat(diff.attached, empty());
+        assertThat(diff.detached, empty());
+        assertEquals(Set.of("net0"), diff.updated.get(newConfig.namespaces.get(0)));
+        assertEquals(1, diff.bindingsChanged);
+        assertEquals(1, diff.bindingsUnchanged);
+    }
+
+    private static JsonObject source(
+        String name,
+        String schema)
+    {
+        return Json.createObjectBuilder()
+            .add("name", name)
+            .add("bindings", Json.createObjectBuilder()
+                .add("net0", Json.createObjectBuilder()
+                    .add("type", "test")
+                    .add("kind", "server")
+                    .add("options", Json.createObjectBuilder()
+                        .add("schema", schema))
+                    .add("exit", "app0"))
+                .add("net1", Json.createObjectBuilder()
+                    .add("type", "test")
+                    .add("kind", "server")
+                    .add("exit", "app9")))
+            .build();
+    }
+
+    private static EngineConfig engine(
+        NamespaceConfig namespace)
+    {
+        return EngineConfig.builder()
+            .namespace(namespace)
+            .build();
+    }
+
+    private static NamespaceConfig namespace(
+        String name,
+        String exit)
+    {
+        return NamespaceConfig.builder()
+            .name(name)
+            .inject(n -> bindings(n, exit))
+            .build();
+    }
+
+    private static NamespaceConfigBuilder<NamespaceConfig> bindings(
+        NamespaceConfigBuilder<NamespaceConfig> namespace,
+        String exit)
+    {
+        return namespace
+            .binding()
+                .name("net0")
+                .type("test")
+                .kind(SERVER)
+                .exit(exit)
+                .build()
+            .binding()
+                .name("net1")
+                .type("test")
+                .kind(SERVER)
+                .exit("app9")
+                .build();
+    }
+}
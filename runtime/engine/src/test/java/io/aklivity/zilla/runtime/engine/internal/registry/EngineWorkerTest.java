@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.registry;
+
+import static io.aklivity.zilla.runtime.engine.internal.registry.EngineWorker.resolveLeastLoadedIndex;
+import static org.junit.Assert.assertEquals;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class EngineWorkerTest
+{
+    @Test
+    public void shouldResolveLeastLoadedIndex()
+    {
+        final BitSet mask = mask(0, 1, 2, 3);
+        final long[] loads = { 40L, 30L, 10L, 20L };
+
+        assertEquals(2, resolveLeastLoadedIndex(mask, 0, 0, i -> loads[i]));
+        assertEquals(2, resolveLeastLoadedIndex(mask, 3, 0, i -> loads[i]));
+    }
+
+    @Test
+    public void shouldResolveLeastLoadedIndexWithinMask()
+    {
+        final BitSet mask = mask(0, 1, 3);
+        final long[] loads = { 40L, 30L, 10L, 20L };
+
+        assertEquals(3, resolveLeastLoadedIndex(mask, 0, 0, i -> loads[i]));
+    }
+
+    @Test
+    public void shouldResolveTiesFromStartIndex()
+    {
+        final BitSet mask = mask(0, 1, 2, 3);
+        final long[] loads = { 10L, 10L, 10L, 10L };
+
+        assertEquals(2, resolveLeastLoadedIndex(mask, 2, 0, i -> loads[i]));
+        assertEquals(3, resolveLeastLoadedIndex(mask, 3, 0, i -> loads[i]));
+    }
+
+    @Test
+    public void shouldPreferLocalIndexOnTie()
+    {
+        final BitSet mask = mask(0, 1, 2, 3);
+        final long[] loads = { 10L, 20L, 10L, 10L };
+
+        assertEquals(0, resolveLeastLoadedIndex(mask, 2, 0, i -> loads[i]));
+    }
+
+    @Test
+    public void shouldResolveSingleIndexWithoutLoad()
+    {
+        final BitSet mask = mask(1);
+
+        assertEquals(1, resolveLeastLoadedIndex(mask, 1, 0, i ->
+        {
+            throw new AssertionError("load not required");
+        }));
+    }
+
+    private static BitSet mask(
+        int... indexes)
+    {
+        final BitSet mask = new BitSet();
+        for (int index : indexes)
+        {
+            mask.set(index);
+        }
+        return mask;
+    }
+}
@@ -22,6 +22,7 @@ import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DRAIN_
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_ROUTED_DELAY_MILLIS;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_SYNTHETIC_ABORT;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_WORKERS;
+import static io.aklivity.zilla.runtime.engine.internal.Tuning.EXTERNAL_INDEX;
 import static java.nio.file.FileVisitOption.FOLLOW_LINKS;
 import static java.nio.file.Files.exists;
 import static java.util.Collections.synchronizedList;
@@ -71,7 +72,7 @@ public final class EngineRule implements TestRule
     public static final String ENGINE_CACERTS_STORE_NAME = "zilla.engine.cacerts.store";
     public static final String ENGINE_CACERTS_STORE_PASS_NAME = "zilla.engine.cacerts.store.pass";
 
-    private static final long EXTERNAL_AFFINITY_MASK = 1L << (Long.SIZE - 1);
+    private static final long EXTERNAL_AFFINITY_MASK = 1L << EXTERNAL_INDEX;
     private static final Pattern DATA_FILENAME_PATTERN = Pattern.compile("data\\d+");
 
     private final Properties properties;
@@ -50,11 +50,14 @@ import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.Data
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.EndFW;
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.FlushFW;
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.ResetFW;
+import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.SignalFW;
 import io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.types.stream.WindowFW;
 import io.aklivity.zilla.runtime.engine.vault.VaultHandler;
 
 final class TestBindingFactory implements BindingHandler
 {
+    private static final int CATALOG_RESOLVED_SIGNAL_ID = 1;
+
     private final BeginFW beginRO = new BeginFW();
     private final BeginFW.Builder beginRW = new BeginFW.Builder();
 
@@ -79,6 +82,8 @@ final class TestBindingFactory implements BindingHandler
     private final ChallengeFW challengeRO = new ChallengeFW();
     private final ChallengeFW.Builder challengeRW = new ChallengeFW.Builder();
 
+    private final SignalFW signalRO = new SignalFW();
+
     private final EngineContext context;
     private final Long2LongHashMap router;
     private final TestEventContext event;
@@ -208,6 +213,9 @@ final class TestBindingFactory implements BindingHandler
 
         private final TestTarget target;
 
+        private int catalogAssertionIndex;
+        private boolean catalogAssertionPending;
+
         private TestSource(
             MessageConsumer source,
             long originId,
@@ -264,6 +272,10 @@ final class TestBindingFactory implements BindingHandler
                 ChallengeFW challenge = challengeRO.wrap(buffer, index, index + length);
                 onReplyChallenge(challenge);
                 break;
+            case SignalFW.TYPE_ID:
+                SignalFW signal = signalRO.wrap(buffer, index, index + length);
+                onInitialSignal(signal);
+                break;
             }
         }
 
@@ -301,45 +313,7 @@ final class TestBindingFactory implements BindingHandler
                 CatalogHandler handler = catalogs.get(0);
                 if (catalogAssertions != null && !catalogAssertions.isEmpty())
                 {
-                    for (CatalogAssertion assertion : catalogAssertions)
-                    {
-                        try
-                        {
-                            Thread.sleep(assertion.delay);
-                        }
-                        catch (Exception ex)
-                        {
-                            throw new RuntimeException(ex);
-                        }
-                        if (catalog.subject != null && catalog.version != null)
-                        {
-                            int id = handler.resolve(catalog.subject, catalog.version);
-                            if (id != assertion.id)
-                            {
-                                doInitialReset(traceId);
-                            }
-                            if (DEFAULT_ASSERTION_SCHEMA != assertion.schema)
-                            {
-                                String schema = handler.resolve(id);
-                                if (!Objects.equals(assertion.schema, schema))
-                                {
-                                    doInitialReset(traceId);
-                                }
-                            }
-                        }
-                        else
-                        {
-                            String schema = handler.resolve(catalog.id);
-                            if (assertion.schema == null && schema != null)
-                            {
-                                doInitialReset(traceId);
-                            }
-                            else if (assertion.schema != null && !assertion.schema.equals(schema))
-                            {
-                                doInitialReset(traceId);
-                            }
-                        }
-                    }
+                    doCatalogAssertions(traceId);
                 }
                 else
                 {
@@ -375,6 +349,86 @@ final class TestBindingFactory implements BindingHandler
             }
         }
 
+        private void onInitialSignal(
+            SignalFW signal)
+        {
+            long traceId = signal.traceId();
+            int signalId = signal.signalId();
+
+            if (signalId == CATALOG_RESOLVED_SIGNAL_ID)
+            {
+                doCatalogAssertions(traceId);
+            }
+        }
+
+        private void doCatalogAssertions(
+            long traceId)
+        {
+            CatalogHandler handler = catalogs.get(0);
+            while (catalogAssertionIndex < catalogAssertions.size())
+            {
+                CatalogAssertion assertion = catalogAssertions.get(catalogAssertionIndex);
+                if (!catalogAssertionPending)
+                {
+                    try
+                    {
+                        Thread.sleep(assertion.delay);
+                    }
+                    catch (Exception ex)
+                    {
+                        throw new RuntimeException(ex);
+                    }
+                }
+                if (catalog.subject != null && catalog.version != null)
+                {
+                    catalogAssertionPending = handler.pending(catalog.subject, catalog.version,
+                        originId, routedId, initialId, traceId, CATALOG_RESOLVED_SIGNAL_ID);
+                    if (catalogAssertionPending)
+                    {
+                        break;
+                    }
+                    int id = handler.resolve(catalog.subject, catalog.version);
+                    if (id != assertion.id)
+                    {
+                        doInitialReset(traceId);
+                    }
+                    if (DEFAULT_ASSERTION_SCHEMA != assertion.schema)
+                    {
+                        catalogAssertionPending = handler.pending(id,
+                            originId, routedId, initialId, traceId, CATALOG_RESOLVED_SIGNAL_ID);
+                        if (catalogAssertionPending)
+                        {
+                            break;
+                        }
+                        String schema = handler.resolve(id);
+                        if (!Objects.equals(assertion.schema, schema))
+                        {
+                            doInitialReset(traceId);
+                        }
+                    }
+                }
+                else
+                {
+                    catalogAssertionPending = handler.pending(catalog.id,
+                        originId, routedId, initialId, traceId, CATALOG_RESOLVED_SIGNAL_ID);
+                    if (catalogAssertionPending)
+                    {
+                        break;
+                    }
+                    String schema = handler.resolve(catalog.id);
+                    if (assertion.schema == null && schema != null)
+                    {
+                        doInitialReset(traceId);
+                    }
+                    else if (assertion.schema != null && !assertion.schema.equals(schema))
+                    {
+                        doInitialReset(traceId);
+                    }
+                }
+                catalogAssertionIndex++;
+            }
+        }
+
         private void onInitialData(
             DataFW data)
         {
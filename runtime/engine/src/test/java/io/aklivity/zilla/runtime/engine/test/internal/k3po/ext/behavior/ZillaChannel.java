@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.behavior;
 
+import static io.aklivity.zilla.runtime.engine.internal.Tuning.EXTERNAL_INDEX;
 import static io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.behavior.ZillaThrottleMode.MESSAGE;
 
 import java.util.Deque;
@@ -122,7 +123,7 @@ public abstract class ZillaChannel extends AbstractChannel<ZillaChannelConfig>
 
     public int getLocalScope()
     {
-        return Long.SIZE - 1;
+        return EXTERNAL_INDEX;
     }
 
     public abstract int getRemoteScope();
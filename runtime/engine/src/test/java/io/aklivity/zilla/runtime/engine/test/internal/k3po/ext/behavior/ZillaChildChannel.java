@@ -40,7 +40,7 @@ public final class ZillaChildChannel extends ZillaChannel
 
         fireChannelOpen(this);
 
-        this.remoteScope = (int)(sourceId >> 56) & 0x7f;
+        this.remoteScope = (int)(sourceId >> 56) & 0xff;
     }
 
     @Override
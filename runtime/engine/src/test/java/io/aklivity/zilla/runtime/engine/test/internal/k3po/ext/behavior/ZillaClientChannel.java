@@ -42,7 +42,7 @@ public final class ZillaClientChannel extends ZillaChannel
     @Override
     public long targetId()
     {
-        return super.targetId() | ((long)(remoteScope & 0x7f) << 48);
+        return super.targetId() | ((long)(remoteScope & 0xff) << 48);
     }
 
     public void setRemoteScope(
@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.behavior;
 
+import static io.aklivity.zilla.runtime.engine.internal.Tuning.EXTERNAL_INDEX;
+
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.netty.channel.Channel;
@@ -32,7 +34,7 @@ public class ZillaClientChannelFactory implements ChannelFactory
     {
         this.channelSink = new ZillaClientChannelSink();
         this.enginePool = enginePool;
-        this.initialId = new AtomicLong(((long)(Long.SIZE - 1) << 56) | 0x0000_0000_0000_0001L);
+        this.initialId = new AtomicLong(((long) EXTERNAL_INDEX << 56) | 0x0000_0000_0000_0001L);
     }
 
     @Override
@@ -325,13 +325,14 @@ public final class ZillaScope implements AutoCloseable
     private void doSystemFlush(
         long traceId,
         long budgetId,
+        int watcherBase,
         long watchers)
     {
-        for (int watcherIndex = 0; watcherIndex < Long.SIZE; watcherIndex++)
+        for (int watcherBit = 0; watcherBit < Long.SIZE; watcherBit++)
         {
-            if ((watchers & (1L << watcherIndex)) != 0L)
+            if ((watchers & (1L << watcherBit)) != 0L)
             {
-                final ZillaTarget target = supplyTarget(watcherIndex);
+                final ZillaTarget target = supplyTarget(watcherBase + watcherBit);
                 target.doSystemFlush(traceId, budgetId);
             }
         }
@@ -386,13 +387,13 @@ public final class ZillaScope implements AutoCloseable
     private static int localIndex(
         long streamId)
     {
-        return (int)(streamId >> 56) & 0x7f;
+        return (int)(streamId >> 56) & 0xff;
     }
 
     private static int remoteIndex(
         long streamId)
     {
-        return (int)(streamId >> 48) & 0x7f;
+        return (int)(streamId >> 48) & 0xff;
     }
 
     private static boolean isInitial(
@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine.test.internal.k3po.ext.behavior;
 
+import static io.aklivity.zilla.runtime.engine.internal.Tuning.EXTERNAL_INDEX;
 import static org.jboss.netty.channel.Channels.fireChannelOpen;
 
 import org.jboss.netty.channel.Channel;
@@ -55,7 +56,7 @@ public final class ZillaServerChannel extends AbstractServerChannel<ZillaServerC
 
     public int getLocalScope()
     {
-        return Long.SIZE - 1;
+        return EXTERNAL_INDEX;
     }
 
     protected void setLocalAddress(
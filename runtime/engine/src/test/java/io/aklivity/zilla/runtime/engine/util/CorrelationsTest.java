@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class CorrelationsTest
+{
+    private final Correlations<DirectBuffer> correlations = new Correlations<>(id -> id);
+
+    @Test
+    public void shouldResolveRegistered()
+    {
+        final DirectBuffer request1 = correlationId("request-1");
+        final DirectBuffer request2 = correlationId("request-2");
+
+        assertTrue(correlations.register(request1));
+        assertTrue(correlations.register(request2));
+
+        final DirectBuffer reply = new UnsafeBuffer("xxrequest-2".getBytes(UTF_8));
+
+        assertSame(request2, correlations.resolve(reply, 2, reply.capacity() - 2));
+        assertEquals(2, correlations.size());
+    }
+
+    @Test
+    public void shouldNotResolveUnregistered()
+    {
+        final DirectBuffer request = correlationId("request-1");
+
+        correlations.register(request);
+        correlations.unregister(request);
+
+        final DirectBuffer reply = correlationId("request-1");
+
+        assertNull(correlations.resolve(reply, 0, reply.capacity()));
+        assertTrue(correlations.isEmpty());
+    }
+
+    @Test
+    public void shouldNotRegisterDuplicate()
+    {
+        assertTrue(correlations.register(correlationId("request-1")));
+        assertFalse(correlations.register(correlationId("request-1")));
+    }
+
+    @Test
+    public void shouldVisitRegistered()
+    {
+        correlations.register(correlationId("request-1"));
+        correlations.register(correlationId("request-2"));
+
+        final List<DirectBuffer> visited = new ArrayList<>();
+        correlations.visit(visited::add);
+
+        assertEquals(2, visited.size());
+        assertEquals(2, correlations.size());
+    }
+
+    @Test
+    public void shouldDrainRegistered()
+    {
+        correlations.register(correlationId("request-1"));
+        correlations.register(correlationId("request-2"));
+
+        final List<DirectBuffer> drained = new ArrayList<>();
+        correlations.drain(drained::add);
+
+        assertEquals(2, drained.size());
+        assertTrue(correlations.isEmpty());
+    }
+
+    private static DirectBuffer correlationId(
+        String value)
+    {
+        return new UnsafeBuffer(value.getBytes(UTF_8));
+    }
+}
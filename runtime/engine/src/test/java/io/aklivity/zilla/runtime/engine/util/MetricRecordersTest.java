@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.util;
+
+import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
+import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.COUNTER;
+import static io.aklivity.zilla.runtime.engine.util.MetricRecorders.supplyRecorder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.ScalarsLayout;
+import io.aklivity.zilla.runtime.engine.metrics.BindingMetricContext;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricContext;
+
+public class MetricRecordersTest
+{
+    private static final long BINDING_ID = 11L;
+    private static final long METRIC_ID = 42L;
+
+    private final Path path = Paths.get("target/zilla-itests/counters-recorders");
+
+    private ScalarsLayout countersLayout;
+    private EngineContext context;
+    private BindingConfig binding;
+
+    @Before
+    public void initLayout()
+    {
+        countersLayout = new ScalarsLayout.Builder()
+            .path(path)
+            .capacity(8192)
+            .readonly(false)
+            .label("counters")
+            .build();
+
+        context = mock(EngineContext.class);
+        when(context.supplyLocalName(METRIC_ID)).thenReturn("test.counter");
+        when(context.supplyMetricWriter(COUNTER, BINDING_ID, METRIC_ID))
+            .thenAnswer(i -> countersLayout.supplyWriter(BINDING_ID, METRIC_ID));
+
+        binding = BindingConfig.builder()
+            .namespace("test")
+            .name("test0")
+            .type("test")
+            .kind(SERVER)
+            .build();
+        binding.id = BINDING_ID;
+    }
+
+    @After
+    public void closeLayout() throws Exception
+    {
+        countersLayout.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void shouldRecordValueForConfiguredMetric()
+    {
+        binding.metricIds = new long[] { METRIC_ID };
+
+        LongConsumer recorder = supplyRecorder(context, binding, COUNTER, "test.counter");
+        LongSupplier reader = countersLayout.supplyReader(BINDING_ID, METRIC_ID);
+
+        recorder.accept(1L);
+        recorder.accept(2L);
+
+        assertThat(reader.getAsLong(), equalTo(3L));
+    }
+
+    @Test
+    public void shouldNotSupplyWriterForUnconfiguredMetric()
+    {
+        binding.metricIds = new long[] { METRIC_ID };
+
+        LongConsumer recorder = supplyRecorder(context, binding, COUNTER, "test.unknown");
+        recorder.accept(1L);
+
+        verify(context, never()).supplyMetricWriter(any(Metric.Kind.class), anyLong(), anyLong());
+    }
+
+    @Test
+    public void shouldNotSupplyWriterWithoutMetrics()
+    {
+        LongConsumer recorder = supplyRecorder(context, binding, COUNTER, "test.counter");
+        recorder.accept(1L);
+
+        verify(context, never()).supplyMetricWriter(any(Metric.Kind.class), anyLong(), anyLong());
+    }
+
+    @Test
+    public void shouldSupplyNoopFrameHandler()
+    {
+        MetricContext metricContext = new BindingMetricContext("test", COUNTER);
+
+        assertThat(metricContext.group(), equalTo("test"));
+        assertThat(metricContext.kind(), equalTo(COUNTER));
+        assertThat(metricContext.direction(), equalTo(MetricContext.Direction.BOTH));
+        assertThat(metricContext.supply(value -> {}), equalTo(MessageConsumer.NOOP));
+    }
+}
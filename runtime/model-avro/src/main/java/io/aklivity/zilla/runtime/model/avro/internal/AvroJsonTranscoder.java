@@ -0,0 +1,951 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.model.avro.internal;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Transcodes between Avro binary and canonical Avro JSON by walking the encoded bytes
+ * directly against a schema compiled once, without materializing a {@code GenericRecord}.
+ * <p>
+ * JSON output matches {@code CanonicalJsonEncoder}. JSON input is accepted only in schema
+ * field order without omitted fields; otherwise {@link #toAvro} returns {@code -1} so the
+ * caller can fall back to {@code CanonicalJsonDecoder}, which handles reordering and defaults.
+ */
+public final class AvroJsonTranscoder
+{
+    private static final byte[] NULL = "null".getBytes(UTF_8);
+    private static final byte[] TRUE = "true".getBytes(UTF_8);
+    private static final byte[] FALSE = "false".getBytes(UTF_8);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(UTF_8);
+
+    private static final RuntimeException UNSUPPORTED = new UnsupportedOperationException("canonical order required");
+
+    private final JsonFactory factory;
+    private final DirectBufferInputStream in;
+    private final Node root;
+
+    private DirectBuffer source;
+    private int progress;
+    private int limit;
+
+    private MutableDirectBuffer target;
+    private int position;
+
+    public AvroJsonTranscoder(
+        Schema schema)
+    {
+        this.factory = new JsonFactory();
+        this.in = new DirectBufferInputStream();
+        this.root = compile(schema, new IdentityHashMap<>());
+    }
+
+    public int toJson(
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer target,
+        int offset)
+    {
+        this.source = buffer;
+        this.progress = index;
+        this.limit = index + length;
+        this.target = target;
+        this.position = offset;
+
+        root.toJson();
+
+        return position - offset;
+    }
+
+    public int toAvro(
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer target,
+        int offset) throws IOException
+    {
+        this.target = target;
+        this.position = offset;
+
+        int written = -1;
+
+        in.wrap(buffer, index, length);
+        try (JsonParser parser = factory.createParser(in))
+        {
+            if (parser.nextToken() != null)
+            {
+                root.toAvro(parser);
+
+                if (parser.nextToken() == null)
+                {
+                    written = position - offset;
+                }
+            }
+        }
+        catch (JsonProcessingException ex)
+        {
+            written = -1;
+        }
+        catch (RuntimeException ex)
+        {
+            if (ex != UNSUPPORTED)
+            {
+                throw ex;
+            }
+        }
+
+        return written;
+    }
+
+    private Node compile(
+        Schema schema,
+        Map<Schema, Node> compiled)
+    {
+        Node node = compiled.get(schema);
+
+        if (node == null)
+        {
+            switch (schema.getType())
+            {
+            case RECORD:
+                RecordNode record = new RecordNode();
+                compiled.put(schema, record);
+                record.compile(schema, compiled);
+                node = record;
+                break;
+            case ENUM:
+                node = new EnumNode(schema);
+                break;
+            case ARRAY:
+                ArrayNode array = new ArrayNode();
+                compiled.put(schema, array);
+                array.items = compile(schema.getElementType(), compiled);
+                node = array;
+                break;
+            case MAP:
+                MapNode map = new MapNode();
+                compiled.put(schema, map);
+                map.values = compile(schema.getValueType(), compiled);
+                node = map;
+                break;
+            case UNION:
+                UnionNode union = new UnionNode();
+                compiled.put(schema, union);
+                union.compile(schema, compiled);
+                node = union;
+                break;
+            case FIXED:
+                node = new FixedNode(schema.getFixedSize());
+                break;
+            case STRING:
+                node = new StringNode();
+                break;
+            case BYTES:
+                node = new BytesNode();
+                break;
+            case INT:
+                node = new IntNode();
+                break;
+            case LONG:
+                node = new LongNode();
+                break;
+            case FLOAT:
+                node = new FloatNode();
+                break;
+            case DOUBLE:
+                node = new DoubleNode();
+                break;
+            case BOOLEAN:
+                node = new BooleanNode();
+                break;
+            case NULL:
+                node = new NullNode();
+                break;
+            default:
+                throw new AvroRuntimeException("Unsupported schema type " + schema.getType());
+            }
+
+            compiled.put(schema, node);
+        }
+
+        return node;
+    }
+
+    private abstract class Node
+    {
+        abstract void toJson();
+
+        abstract void toAvro(
+            JsonParser parser) throws IOException;
+    }
+
+    private final class RecordNode extends Node
+    {
+        private String[] names;
+        private byte[][] labels;
+        private Node[] fields;
+
+        private void compile(
+            Schema schema,
+            Map<Schema, Node> compiled)
+        {
+            final List<Schema.Field> schemaFields = schema.getFields();
+            final int size = schemaFields.size();
+
+            names = new String[size];
+            labels = new byte[size][];
+            fields = new Node[size];
+
+            for (int i = 0; i < size; i++)
+            {
+                final Schema.Field field = schemaFields.get(i);
+                names[i] = field.name();
+                labels[i] = encodeLabel(i != 0 ? "," : "", field.name(), ":");
+                fields[i] = AvroJsonTranscoder.this.compile(field.schema(), compiled);
+            }
+        }
+
+        @Override
+        void toJson()
+        {
+            writeByte('{');
+            for (int i = 0; i < fields.length; i++)
+            {
+                writeBytes(labels[i]);
+                fields[i].toJson();
+            }
+            writeByte('}');
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expect(parser.currentToken(), JsonToken.START_OBJECT);
+            for (int i = 0; i < fields.length; i++)
+            {
+                expect(parser.nextToken(), JsonToken.FIELD_NAME);
+                if (!names[i].equals(parser.currentName()))
+                {
+                    throw UNSUPPORTED;
+                }
+                parser.nextToken();
+                fields[i].toAvro(parser);
+            }
+            expect(parser.nextToken(), JsonToken.END_OBJECT);
+        }
+    }
+
+    private final class EnumNode extends Node
+    {
+        private final byte[][] symbols;
+        private final Map<String, Integer> ordinals;
+
+        private EnumNode(
+            Schema schema)
+        {
+            final List<String> enumSymbols = schema.getEnumSymbols();
+            this.symbols = new byte[enumSymbols.size()][];
+            this.ordinals = new HashMap<>();
+            for (int i = 0; i < symbols.length; i++)
+            {
+                symbols[i] = encodeLabel("", enumSymbols.get(i), "");
+                ordinals.put(enumSymbols.get(i), i);
+            }
+        }
+
+        @Override
+        void toJson()
+        {
+            final int ordinal = readInt();
+            if (ordinal < 0 || ordinal >= symbols.length)
+            {
+                throw new AvroRuntimeException("Malformed enum ordinal " + ordinal);
+            }
+            writeBytes(symbols[ordinal]);
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expect(parser.currentToken(), JsonToken.VALUE_STRING);
+            final Integer ordinal = ordinals.get(parser.getText());
+            if (ordinal == null)
+            {
+                throw UNSUPPORTED;
+            }
+            writeLong(ordinal);
+        }
+    }
+
+    private final class ArrayNode extends Node
+    {
+        private Node items;
+
+        @Override
+        void toJson()
+        {
+            writeByte('[');
+            boolean first = true;
+            for (long count = readBlockCount(); count != 0; count = readBlockCount())
+            {
+                for (long i = 0; i < count; i++)
+                {
+                    if (!first)
+                    {
+                        writeByte(',');
+                    }
+                    items.toJson();
+                    first = false;
+                }
+            }
+            writeByte(']');
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expect(parser.currentToken(), JsonToken.START_ARRAY);
+            final int start = position;
+            long count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY)
+            {
+                items.toAvro(parser);
+                count++;
+            }
+            writeBlock(start, count);
+        }
+    }
+
+    private final class MapNode extends Node
+    {
+        private Node values;
+
+        @Override
+        void toJson()
+        {
+            writeByte('{');
+            boolean first = true;
+            for (long count = readBlockCount(); count != 0; count = readBlockCount())
+            {
+                for (long i = 0; i < count; i++)
+                {
+                    if (!first)
+                    {
+                        writeByte(',');
+                    }
+                    final int length = readLength();
+                    writeString(progress, length, false);
+                    progress += length;
+                    writeByte(':');
+                    values.toJson();
+                    first = false;
+                }
+            }
+            writeByte('}');
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expect(parser.currentToken(), JsonToken.START_OBJECT);
+            final int start = position;
+            long count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                final byte[] key = parser.currentName().getBytes(UTF_8);
+                writeLong(key.length);
+                target.putBytes(position, key);
+                position += key.length;
+                parser.nextToken();
+                values.toAvro(parser);
+                count++;
+            }
+            expect(parser.currentToken(), JsonToken.END_OBJECT);
+            writeBlock(start, count);
+        }
+    }
+
+    private final class UnionNode extends Node
+    {
+        private Node[] branches;
+        private String[] names;
+        private byte[][] labels;
+        private int nullIndex = -1;
+        private int nullableIndex = -1;
+
+        private void compile(
+            Schema schema,
+            Map<Schema, Node> compiled)
+        {
+            final List<Schema> types = schema.getTypes();
+            final int size = types.size();
+
+            branches = new Node[size];
+            names = new String[size];
+            labels = new byte[size][];
+
+            for (int i = 0; i < size; i++)
+            {
+                final Schema type = types.get(i);
+                branches[i] = AvroJsonTranscoder.this.compile(type, compiled);
+                names[i] = type.getFullName();
+                labels[i] = encodeLabel("{", type.getFullName(), ":");
+                if (type.getType() == Schema.Type.NULL)
+                {
+                    nullIndex = i;
+                }
+            }
+
+            if (size == 2 && nullIndex != -1)
+            {
+                nullableIndex = 1 - nullIndex;
+            }
+        }
+
+        @Override
+        void toJson()
+        {
+            final int index = readInt();
+            if (index < 0 || index >= branches.length)
+            {
+                throw new AvroRuntimeException("Malformed union index " + index);
+            }
+
+            if (index == nullIndex || index == nullableIndex)
+            {
+                branches[index].toJson();
+            }
+            else
+            {
+                writeBytes(labels[index]);
+                branches[index].toJson();
+                writeByte('}');
+            }
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            final JsonToken token = parser.currentToken();
+
+            if (token == JsonToken.VALUE_NULL)
+            {
+                if (nullIndex == -1)
+                {
+                    throw UNSUPPORTED;
+                }
+                writeLong(nullIndex);
+            }
+            else if (nullableIndex != -1)
+            {
+                writeLong(nullableIndex);
+                branches[nullableIndex].toAvro(parser);
+            }
+            else
+            {
+                expect(token, JsonToken.START_OBJECT);
+                expect(parser.nextToken(), JsonToken.FIELD_NAME);
+                final int index = indexOf(parser.currentName());
+                writeLong(index);
+                parser.nextToken();
+                branches[index].toAvro(parser);
+                expect(parser.nextToken(), JsonToken.END_OBJECT);
+            }
+        }
+
+        private int indexOf(
+            String name)
+        {
+            int index = -1;
+            for (int i = 0; i < names.length && index == -1; i++)
+            {
+                if (names[i].equals(name))
+                {
+                    index = i;
+                }
+            }
+
+            if (index == -1)
+            {
+                throw UNSUPPORTED;
+            }
+
+            return index;
+        }
+    }
+
+    private final class FixedNode extends Node
+    {
+        private final int size;
+
+        private FixedNode(
+            int size)
+        {
+            this.size = size;
+        }
+
+        @Override
+        void toJson()
+        {
+            require(size);
+            writeString(progress, size, true);
+            progress += size;
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            if (writeLatin1(parser) != size)
+            {
+                throw UNSUPPORTED;
+            }
+        }
+    }
+
+    private final class BytesNode extends Node
+    {
+        @Override
+        void toJson()
+        {
+            final int length = readLength();
+            writeString(progress, length, true);
+            progress += length;
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            final int start = position;
+            final int length = writeLatin1(parser);
+            final int lengthSize = sizeOfLong(length);
+            target.putBytes(start + lengthSize, target, start, length);
+            position = start;
+            writeLong(length);
+            position += length;
+        }
+    }
+
+    private final class StringNode extends Node
+    {
+        @Override
+        void toJson()
+        {
+            final int length = readLength();
+            writeString(progress, length, false);
+            progress += length;
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expect(parser.currentToken(), JsonToken.VALUE_STRING);
+            final byte[] value = parser.getText().getBytes(UTF_8);
+            writeLong(value.length);
+            target.putBytes(position, value);
+            position += value.length;
+        }
+    }
+
+    private final class IntNode extends Node
+    {
+        @Override
+        void toJson()
+        {
+            position += target.putIntAscii(position, readInt());
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expect(parser.currentToken(), JsonToken.VALUE_NUMBER_INT);
+            if (parser.getNumberType() != JsonParser.NumberType.INT)
+            {
+                throw UNSUPPORTED;
+            }
+            writeLong(parser.getIntValue());
+        }
+    }
+
+    private final class LongNode extends Node
+    {
+        @Override
+        void toJson()
+        {
+            position += target.putLongAscii(position, readLong());
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expect(parser.currentToken(), JsonToken.VALUE_NUMBER_INT);
+            final JsonParser.NumberType type = parser.getNumberType();
+            if (type != JsonParser.NumberType.INT && type != JsonParser.NumberType.LONG)
+            {
+                throw UNSUPPORTED;
+            }
+            writeLong(parser.getLongValue());
+        }
+    }
+
+    private final class FloatNode extends Node
+    {
+        @Override
+        void toJson()
+        {
+            require(Float.BYTES);
+            final float value = source.getFloat(progress, LITTLE_ENDIAN);
+            progress += Float.BYTES;
+            writeNumber(Float.toString(value), Float.isFinite(value));
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expectNumber(parser.currentToken());
+            target.putFloat(position, parser.getFloatValue(), LITTLE_ENDIAN);
+            position += Float.BYTES;
+        }
+    }
+
+    private final class DoubleNode extends Node
+    {
+        @Override
+        void toJson()
+        {
+            require(Double.BYTES);
+            final double value = source.getDouble(progress, LITTLE_ENDIAN);
+            progress += Double.BYTES;
+            writeNumber(Double.toString(value), Double.isFinite(value));
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expectNumber(parser.currentToken());
+            target.putDouble(position, parser.getDoubleValue(), LITTLE_ENDIAN);
+            position += Double.BYTES;
+        }
+    }
+
+    private final class BooleanNode extends Node
+    {
+        @Override
+        void toJson()
+        {
+            require(1);
+            final byte value = source.getByte(progress++);
+            if (value != 0 && value != 1)
+            {
+                throw new AvroRuntimeException("Malformed boolean " + value);
+            }
+            writeBytes(value != 0 ? TRUE : FALSE);
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            final JsonToken token = parser.currentToken();
+            if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE)
+            {
+                throw UNSUPPORTED;
+            }
+            target.putByte(position++, (byte) (token == JsonToken.VALUE_TRUE ? 1 : 0));
+        }
+    }
+
+    private final class NullNode extends Node
+    {
+        @Override
+        void toJson()
+        {
+            writeBytes(NULL);
+        }
+
+        @Override
+        void toAvro(
+            JsonParser parser) throws IOException
+        {
+            expect(parser.currentToken(), JsonToken.VALUE_NULL);
+        }
+    }
+
+    private void require(
+        int length)
+    {
+        if (length < 0 || progress + length > limit)
+        {
+            throw new AvroRuntimeException("Malformed or truncated Avro data");
+        }
+    }
+
+    private long readLong()
+    {
+        long value = 0L;
+        int shift = 0;
+        int b;
+        do
+        {
+            require(1);
+            b = source.getByte(progress++);
+            value |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        }
+        while ((b & 0x80) != 0 && shift < 64);
+
+        if ((b & 0x80) != 0)
+        {
+            throw new AvroRuntimeException("Malformed variable length long");
+        }
+
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    private int readInt()
+    {
+        final long value = readLong();
+        if (value != (int) value)
+        {
+            throw new AvroRuntimeException("Malformed int " + value);
+        }
+        return (int) value;
+    }
+
+    private int readLength()
+    {
+        final int length = readInt();
+        require(length);
+        return length;
+    }
+
+    private long readBlockCount()
+    {
+        long count = readLong();
+        if (count < 0L)
+        {
+            count = -count;
+            readLong();
+        }
+        return count;
+    }
+
+    private void writeByte(
+        int value)
+    {
+        target.putByte(position++, (byte) value);
+    }
+
+    private void writeBytes(
+        byte[] value)
+    {
+        target.putBytes(position, value);
+        position += value.length;
+    }
+
+    private void writeNumber(
+        String value,
+        boolean finite)
+    {
+        if (!finite)
+        {
+            writeByte('"');
+        }
+        position += target.putStringWithoutLengthAscii(position, value);
+        if (!finite)
+        {
+            writeByte('"');
+        }
+    }
+
+    private void writeString(
+        int index,
+        int length,
+        boolean latin1)
+    {
+        writeByte('"');
+        for (int i = index; i < index + length; i++)
+        {
+            final int b = source.getByte(i) & 0xff;
+            if (b == '"' || b == '\\')
+            {
+                writeByte('\\');
+                writeByte(b);
+            }
+            else if (b < 0x20)
+            {
+                writeControl(b);
+            }
+            else if (latin1 && b >= 0x80)
+            {
+                writeByte(0xc0 | (b >> 6));
+                writeByte(0x80 | (b & 0x3f));
+            }
+            else
+            {
+                writeByte(b);
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeControl(
+        int b)
+    {
+        writeByte('\\');
+        switch (b)
+        {
+        case '\b':
+            writeByte('b');
+            break;
+        case '\t':
+            writeByte('t');
+            break;
+        case '\n':
+            writeByte('n');
+            break;
+        case '\f':
+            writeByte('f');
+            break;
+        case '\r':
+            writeByte('r');
+            break;
+        default:
+            writeByte('u');
+            writeByte('0');
+            writeByte('0');
+            writeByte(HEX[b >> 4]);
+            writeByte(HEX[b & 0x0f]);
+            break;
+        }
+    }
+
+    private void writeLong(
+        long value)
+    {
+        long encoded = (value << 1) ^ (value >> 63);
+        while ((encoded & ~0x7fL) != 0L)
+        {
+            writeByte((int) ((encoded & 0x7f) | 0x80));
+            encoded >>>= 7;
+        }
+        writeByte((int) encoded);
+    }
+
+    private int writeLatin1(
+        JsonParser parser) throws IOException
+    {
+        expect(parser.currentToken(), JsonToken.VALUE_STRING);
+        final String value = parser.getText();
+        final int length = value.length();
+        for (int i = 0; i < length; i++)
+        {
+            final char ch = value.charAt(i);
+            if (ch > 0xff)
+            {
+                throw UNSUPPORTED;
+            }
+            target.putByte(position++, (byte) ch);
+        }
+        return length;
+    }
+
+    private void writeBlock(
+        int start,
+        long count)
+    {
+        if (count != 0L)
+        {
+            final int length = position - start;
+            final int countSize = sizeOfLong(count);
+            target.putBytes(start + countSize, target, start, length);
+            position = start;
+            writeLong(count);
+            position += length;
+        }
+        writeLong(0L);
+    }
+
+    private static int sizeOfLong(
+        long value)
+    {
+        long encoded = (value << 1) ^ (value >> 63);
+        int size = 1;
+        while ((encoded & ~0x7fL) != 0L)
+        {
+            encoded >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void expect(
+        JsonToken actual,
+        JsonToken expected)
+    {
+        if (actual != expected)
+        {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private static void expectNumber(
+        JsonToken actual)
+    {
+        if (actual != JsonToken.VALUE_NUMBER_INT && actual != JsonToken.VALUE_NUMBER_FLOAT)
+        {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private static byte[] encodeLabel(
+        String prefix,
+        String name,
+        String suffix)
+    {
+        return String.format("%s\"%s\"%s", prefix, name, suffix).getBytes(UTF_8);
+    }
+}
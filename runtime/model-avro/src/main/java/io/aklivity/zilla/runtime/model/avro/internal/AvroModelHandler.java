@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.model.avro.internal;
 
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -84,6 +86,7 @@ public abstract class AvroModelHandler
     private final Int2ObjectCache<GenericDatumReader<GenericRecord>> readers;
     private final Int2ObjectCache<GenericDatumWriter<GenericRecord>> writers;
     private final Int2ObjectCache<GenericRecord> records;
+    private final Int2ObjectCache<AvroJsonTranscoder> transcoders;
     private final Int2IntHashMap paddings;
     private final AvroBytesFW bytesRO;
     private final AvroIntFW intRO;
@@ -113,6 +116,7 @@ public abstract class AvroModelHandler
         this.readers = new Int2ObjectCache<>(1, 1024, i -> {});
         this.writers = new Int2ObjectCache<>(1, 1024, i -> {});
         this.records = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.transcoders = new Int2ObjectCache<>(1, 1024, i -> {});
         this.paddings = new Int2IntHashMap(-1);
         this.expandable = new ExpandableDirectBufferOutputStream(new ExpandableDirectByteBuffer());
         this.in = new DirectBufferInputStream();
@@ -212,6 +216,39 @@ public abstract class AvroModelHandler
         return records.computeIfAbsent(schemaId, this::createRecord);
     }
 
+    protected final AvroJsonTranscoder supplyTranscoder(
+        int schemaId)
+    {
+        return transcoders.computeIfAbsent(schemaId, this::createTranscoder);
+    }
+
+    protected final boolean pendingSchema(
+        int schemaId,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        boolean pending = false;
+
+        if (schemaId == NO_SCHEMA_ID && catalog != null)
+        {
+            if (catalog.id != NO_SCHEMA_ID)
+            {
+                schemaId = catalog.id;
+            }
+            else
+            {
+                pending = handler.pending(subject, catalog.version, originId, routedId, streamId, traceId, signalId);
+                schemaId = pending ? NO_SCHEMA_ID : handler.resolve(subject, catalog.version);
+            }
+        }
+
+        return pending ||
+            schemaId != NO_SCHEMA_ID && handler.pending(schemaId, originId, routedId, streamId, traceId, signalId);
+    }
+
     private GenericDatumReader<GenericRecord> createReader(
         int schemaId)
     {
@@ -248,6 +285,18 @@ public abstract class AvroModelHandler
         return record;
     }
 
+    private AvroJsonTranscoder createTranscoder(
+        int schemaId)
+    {
+        Schema schema = supplySchema(schemaId);
+        AvroJsonTranscoder transcoder = null;
+        if (schema != null && schema.getType() == Schema.Type.RECORD)
+        {
+            transcoder = new AvroJsonTranscoder(schema);
+        }
+        return transcoder;
+    }
+
     private Schema resolveSchema(
         int schemaId)
     {
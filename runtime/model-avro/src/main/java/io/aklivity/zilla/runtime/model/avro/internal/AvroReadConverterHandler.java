@@ -79,6 +79,20 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
         return padding;
     }
 
+    @Override
+    public boolean pending(
+        DirectBuffer data,
+        int index,
+        int length,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return pendingSchema(handler.resolve(data, index, length), originId, routedId, streamId, traceId, signalId);
+    }
+
     @Override
     public void extract(
         String path)
@@ -157,8 +171,7 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
 
         if (VIEW_JSON.equals(view))
         {
-            deserializeRecord(traceId, bindingId, schemaId, data, index, length);
-            int recordLength = expandable.position();
+            int recordLength = deserializeRecord(traceId, bindingId, schemaId, data, index, length);
             if (recordLength > 0)
             {
                 next.accept(expandable.buffer(), 0, recordLength);
@@ -173,7 +186,7 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
         return valLength;
     }
 
-    private void deserializeRecord(
+    private int deserializeRecord(
         long traceId,
         long bindingId,
         int schemaId,
@@ -181,11 +194,21 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
         int index,
         int length)
     {
+        int recordLength = -1;
         try
         {
+            AvroJsonTranscoder transcoder = supplyTranscoder(schemaId);
             GenericDatumReader<GenericRecord> reader = supplyReader(schemaId);
             GenericDatumWriter<GenericRecord> writer = supplyWriter(schemaId);
-            if (reader != null)
+            if (transcoder != null)
+            {
+                expandable.wrap(expandable.buffer());
+                recordLength = transcoder.toJson(buffer, index, length, expandable.buffer(), 0);
+
+                progress = index;
+                extractFields(buffer, index + length, supplySchema(schemaId));
+            }
+            else if (reader != null)
             {
                 GenericRecord record = supplyRecord(schemaId);
                 in.wrap(buffer, index, length);
@@ -195,6 +218,7 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
                 JsonEncoder out = new CanonicalJsonEncoder(schema, expandable);
                 writer.write(record, out);
                 out.flush();
+                recordLength = expandable.position();
 
                 progress = index;
                 extractFields(buffer, index + length, schema);
@@ -204,5 +228,6 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
         {
             event.validationFailure(traceId, bindingId, ex.getMessage());
         }
+        return recordLength;
     }
 }
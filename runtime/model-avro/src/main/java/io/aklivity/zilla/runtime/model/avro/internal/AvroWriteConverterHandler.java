@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.model.avro.internal;
 
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+
 import java.io.IOException;
 
 import org.agrona.DirectBuffer;
@@ -48,6 +50,20 @@ public class AvroWriteConverterHandler extends AvroModelHandler implements Conve
         return handler.encodePadding(length);
     }
 
+    @Override
+    public boolean pending(
+        DirectBuffer data,
+        int index,
+        int length,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return pendingSchema(NO_SCHEMA_ID, originId, routedId, streamId, traceId, signalId);
+    }
+
     @Override
     public int convert(
         long traceId,
@@ -97,9 +113,13 @@ public class AvroWriteConverterHandler extends AvroModelHandler implements Conve
                     valLength = length;
                     break;
                 case RECORD:
+                    AvroJsonTranscoder transcoder = supplyTranscoder(schemaId);
                     GenericDatumReader<GenericRecord> reader = supplyReader(schemaId);
                     GenericDatumWriter<GenericRecord> writer = supplyWriter(schemaId);
-                    if (reader != null)
+                    int position = transcoder != null
+                        ? transcoder.toAvro(buffer, index, length, expandable.buffer(), 0)
+                        : -1;
+                    if (position == -1 && reader != null)
                     {
                         GenericRecord record = supplyRecord(schemaId);
                         in.wrap(buffer, index, length);
@@ -109,12 +129,12 @@ public class AvroWriteConverterHandler extends AvroModelHandler implements Conve
                         encoderFactory.binaryEncoder(expandable, encoder);
                         writer.write(record, encoder);
                         encoder.flush();
-                        int position = expandable.position();
-                        if (position > 0)
-                        {
-                            next.accept(expandable.buffer(), 0, position);
-                            valLength = position;
-                        }
+                        position = expandable.position();
+                    }
+                    if (position > 0)
+                    {
+                        next.accept(expandable.buffer(), 0, position);
+                        valLength = position;
                     }
                     break;
                 default:
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.model.avro.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.CanonicalJsonDecoder;
+import org.apache.avro.io.CanonicalJsonEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.Test;
+
+public class AvroJsonTranscoderTest
+{
+    private static final String SCHEMA = "{\"type\":\"record\",\"name\":\"Event\",\"namespace\":\"com.example\"," +
+        "\"fields\":[" +
+        "{\"name\":\"id\",\"type\":\"string\"}," +
+        "{\"name\":\"status\",\"type\":[\"null\",\"string\"]}," +
+        "{\"name\":\"count\",\"type\":\"long\"}," +
+        "{\"name\":\"ratio\",\"type\":\"double\"}," +
+        "{\"name\":\"weight\",\"type\":\"float\"}," +
+        "{\"name\":\"active\",\"type\":\"boolean\"}," +
+        "{\"name\":\"kind\",\"type\":{\"type\":\"enum\",\"name\":\"Kind\",\"symbols\":[\"A\",\"B\"]}}," +
+        "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"items\":\"string\"}}," +
+        "{\"name\":\"attributes\",\"type\":{\"type\":\"map\",\"values\":\"int\"}}," +
+        "{\"name\":\"choice\",\"type\":[\"null\",\"int\",{\"type\":\"record\",\"name\":\"Address\"," +
+            "\"fields\":[{\"name\":\"street\",\"type\":\"string\"},{\"name\":\"number\",\"type\":\"int\"}]}]}," +
+        "{\"name\":\"raw\",\"type\":\"bytes\"}," +
+        "{\"name\":\"digest\",\"type\":{\"type\":\"fixed\",\"name\":\"Digest\",\"size\":2}}]}";
+
+    private static final String JSON = "{" +
+        "\"id\":\"id\\\"0\\n\"," +
+        "\"status\":\"positive\"," +
+        "\"count\":-1234567890123," +
+        "\"ratio\":1.5," +
+        "\"weight\":0.25," +
+        "\"active\":true," +
+        "\"kind\":\"B\"," +
+        "\"tags\":[\"a\",\"b\",\"c\"]," +
+        "\"attributes\":{\"x\":1}," +
+        "\"choice\":{\"com.example.Address\":{\"street\":\"main\",\"number\":7}}," +
+        "\"raw\":\"\\u0000\\u00FF\"," +
+        "\"digest\":\"ab\"" +
+        "}";
+
+    @Test
+    public void shouldTranscodeAvroToJson() throws Exception
+    {
+        Schema schema = new Schema.Parser().parse(SCHEMA);
+        byte[] avro = encodeAvro(schema, JSON);
+
+        AvroJsonTranscoder transcoder = new AvroJsonTranscoder(schema);
+        MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+        int length = transcoder.toJson(new UnsafeBuffer(avro), 0, avro.length, target, 0);
+
+        assertEquals(encodeJson(schema, avro), target.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldTranscodeJsonToAvro() throws Exception
+    {
+        Schema schema = new Schema.Parser().parse(SCHEMA);
+        String json = encodeJson(schema, encodeAvro(schema, JSON));
+        byte[] bytes = json.getBytes(UTF_8);
+
+        AvroJsonTranscoder transcoder = new AvroJsonTranscoder(schema);
+        MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+        int length = transcoder.toAvro(new UnsafeBuffer(bytes), 0, bytes.length, target, 0);
+
+        byte[] actual = new byte[length];
+        target.getBytes(0, actual);
+        assertArrayEquals(encodeAvro(schema, json), actual);
+    }
+
+    @Test
+    public void shouldDeferReorderedJson() throws Exception
+    {
+        Schema schema = new Schema.Parser().parse(SCHEMA);
+        byte[] bytes = "{\"status\":null,\"id\":\"id0\"}".getBytes(UTF_8);
+
+        AvroJsonTranscoder transcoder = new AvroJsonTranscoder(schema);
+        int length = transcoder.toAvro(new UnsafeBuffer(bytes), 0, bytes.length, new ExpandableDirectByteBuffer(), 0);
+
+        assertEquals(-1, length);
+    }
+
+    @Test(expected = AvroRuntimeException.class)
+    public void shouldRejectTruncatedAvro() throws Exception
+    {
+        Schema schema = new Schema.Parser().parse(SCHEMA);
+        byte[] avro = {0x06, 0x69};
+
+        AvroJsonTranscoder transcoder = new AvroJsonTranscoder(schema);
+        transcoder.toJson(new UnsafeBuffer(avro), 0, avro.length, new ExpandableDirectByteBuffer(), 0);
+    }
+
+    private static byte[] encodeAvro(
+        Schema schema,
+        String json) throws Exception
+    {
+        GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
+        GenericRecord record = reader.read(null, new CanonicalJsonDecoder(schema, json));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(schema).write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    private static String encodeJson(
+        Schema schema,
+        byte[] avro) throws Exception
+    {
+        GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
+        GenericRecord record = reader.read(null, DecoderFactory.get().binaryDecoder(new ByteArrayInputStream(avro), null));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CanonicalJsonEncoder encoder = new CanonicalJsonEncoder(schema, out);
+        new GenericDatumWriter<GenericRecord>(schema).write(record, encoder);
+        encoder.flush();
+        return out.toString(UTF_8);
+    }
+}
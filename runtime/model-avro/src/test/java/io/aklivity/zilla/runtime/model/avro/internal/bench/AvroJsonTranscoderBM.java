@@ -0,0 +1,172 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.model.avro.internal.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.agrona.io.ExpandableDirectBufferOutputStream;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.CanonicalJsonDecoder;
+import org.apache.avro.io.CanonicalJsonEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.model.avro.internal.AvroJsonTranscoder;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class AvroJsonTranscoderBM
+{
+    private static final String SCHEMA = "{\"type\":\"record\",\"name\":\"Event\",\"namespace\":\"io.aklivity.example\"," +
+        "\"fields\":[" +
+        "{\"name\":\"id\",\"type\":\"string\"}," +
+        "{\"name\":\"status\",\"type\":[\"null\",\"string\"]}," +
+        "{\"name\":\"timestamp\",\"type\":\"long\"}," +
+        "{\"name\":\"amount\",\"type\":\"double\"}," +
+        "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"items\":\"string\"}}," +
+        "{\"name\":\"attributes\",\"type\":{\"type\":\"map\",\"values\":\"string\"}}]}";
+
+    private static final String JSON = "{" +
+        "\"id\":\"0f8fad5b-d9cb-469f-a165-70867728950e\"," +
+        "\"status\":\"positive\"," +
+        "\"timestamp\":1718000000000," +
+        "\"amount\":42.5," +
+        "\"tags\":[\"alpha\",\"beta\",\"gamma\"]," +
+        "\"attributes\":{\"region\":\"us-east-1\"}" +
+        "}";
+
+    private final ExpandableDirectBufferOutputStream expandable =
+        new ExpandableDirectBufferOutputStream(new ExpandableDirectByteBuffer());
+    private final MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+    private final DirectBufferInputStream in = new DirectBufferInputStream();
+
+    private Schema schema;
+    private GenericDatumReader<GenericRecord> reader;
+    private GenericDatumWriter<GenericRecord> writer;
+    private GenericRecord record;
+    private BinaryDecoder decoder;
+    private BinaryEncoder encoder;
+    private AvroJsonTranscoder transcoder;
+    private DirectBuffer avro;
+    private DirectBuffer json;
+
+    @Setup
+    public void init() throws IOException
+    {
+        schema = new Schema.Parser().parse(SCHEMA);
+        reader = new GenericDatumReader<>(schema);
+        writer = new GenericDatumWriter<>(schema);
+        record = new GenericData.Record(schema);
+        transcoder = new AvroJsonTranscoder(schema);
+
+        final GenericRecord value = reader.read(null, new CanonicalJsonDecoder(schema, JSON));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final BinaryEncoder binary = EncoderFactory.get().binaryEncoder(out, null);
+        writer.write(value, binary);
+        binary.flush();
+
+        avro = new UnsafeBuffer(out.toByteArray());
+        json = new UnsafeBuffer(JSON.getBytes(UTF_8));
+    }
+
+    @Benchmark
+    public void readGeneric(
+        Blackhole blackhole) throws IOException
+    {
+        in.wrap(avro, 0, avro.capacity());
+        expandable.wrap(expandable.buffer());
+        decoder = DecoderFactory.get().binaryDecoder(in, decoder);
+        record = reader.read(record, decoder);
+        CanonicalJsonEncoder out = new CanonicalJsonEncoder(schema, expandable);
+        writer.write(record, out);
+        out.flush();
+
+        blackhole.consume(expandable.position());
+    }
+
+    @Benchmark
+    public void readTranscoder(
+        Blackhole blackhole)
+    {
+        blackhole.consume(transcoder.toJson(avro, 0, avro.capacity(), target, 0));
+    }
+
+    @Benchmark
+    public void writeGeneric(
+        Blackhole blackhole) throws IOException
+    {
+        in.wrap(json, 0, json.capacity());
+        expandable.wrap(expandable.buffer());
+        record = reader.read(record, new CanonicalJsonDecoder(schema, in));
+        encoder = EncoderFactory.get().binaryEncoder(expandable, encoder);
+        writer.write(record, encoder);
+        encoder.flush();
+
+        blackhole.consume(expandable.position());
+    }
+
+    @Benchmark
+    public void writeTranscoder(
+        Blackhole blackhole) throws IOException
+    {
+        blackhole.consume(transcoder.toAvro(json, 0, json.capacity(), target, 0));
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(AvroJsonTranscoderBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -14,10 +14,14 @@
  */
 package io.aklivity.zilla.runtime.model.json.internal;
 
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
 
+import jakarta.json.JsonReader;
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParserFactory;
@@ -52,12 +56,15 @@ public abstract class JsonModelHandler
 
     private final Int2ObjectCache<JsonSchema> schemas;
     private final Int2ObjectCache<JsonProvider> providers;
+    private final Int2ObjectCache<JsonStreamingValidator> validators;
     private final JsonProvider schemaProvider;
     private final JsonValidationService service;
     private final JsonParserFactory factory;
 
     private JsonParser parser;
     private DirectBufferInputStream in;
+    private byte[][] extractedKeys;
+    private OctetsFW[] extractedValues;
 
     public JsonModelHandler(
         JsonModelConfig config,
@@ -74,9 +81,12 @@ public abstract class JsonModelHandler
                 : config.subject;
         this.schemas = new Int2ObjectCache<>(1, 1024, i -> {});
         this.providers = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.validators = new Int2ObjectCache<>(1, 1024, i -> {});
         this.in = new DirectBufferInputStream();
         this.event = new JsonModelEventContext(context);
         this.extracted = new HashMap<>();
+        this.extractedKeys = new byte[0][];
+        this.extractedValues = new OctetsFW[0];
     }
 
     protected final boolean validate(
@@ -94,10 +104,12 @@ public abstract class JsonModelHandler
             status &= provider != null;
             if (status)
             {
-                for (OctetsFW value: extracted.values())
-                {
-                    value.wrap(EMPTY_BUFFER, 0, 0);
-                }
+                resetExtracted();
+            }
+
+            if (status && !validateStreaming(schemaId, buffer, index, length))
+            {
+                resetExtracted();
                 in.wrap(buffer, index, length);
                 parser = provider.createParser(in);
                 OctetsFW valueBytes = null;
@@ -147,6 +159,73 @@ public abstract class JsonModelHandler
         return status;
     }
 
+    protected final boolean validateStreaming(
+        int schemaId,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        JsonStreamingValidator validator = supplyValidator(schemaId);
+        boolean valid = false;
+        if (validator != null && validator != JsonStreamingValidator.UNSUPPORTED)
+        {
+            if (extractedValues.length != extracted.size())
+            {
+                indexExtracted();
+            }
+            valid = validator.validate(buffer, index, length, extractedKeys, extractedValues);
+        }
+        return valid;
+    }
+
+    protected final boolean pendingSchema(
+        int schemaId,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        boolean pending = false;
+
+        if (schemaId == NO_SCHEMA_ID && catalog != null)
+        {
+            if (catalog.id != NO_SCHEMA_ID)
+            {
+                schemaId = catalog.id;
+            }
+            else
+            {
+                pending = handler.pending(subject, catalog.version, originId, routedId, streamId, traceId, signalId);
+                schemaId = pending ? NO_SCHEMA_ID : handler.resolve(subject, catalog.version);
+            }
+        }
+
+        return pending ||
+            schemaId != NO_SCHEMA_ID && handler.pending(schemaId, originId, routedId, streamId, traceId, signalId);
+    }
+
+    private void resetExtracted()
+    {
+        for (OctetsFW value: extracted.values())
+        {
+            value.wrap(EMPTY_BUFFER, 0, 0);
+        }
+    }
+
+    private void indexExtracted()
+    {
+        extractedKeys = new byte[extracted.size()][];
+        extractedValues = new OctetsFW[extracted.size()];
+        int slot = 0;
+        for (Map.Entry<String, OctetsFW> entry : extracted.entrySet())
+        {
+            extractedKeys[slot] = entry.getKey().getBytes(UTF_8);
+            extractedValues[slot] = entry.getValue();
+            slot++;
+        }
+    }
+
     private int calculateValueLength()
     {
         int length = 0;
@@ -182,6 +261,32 @@ public abstract class JsonModelHandler
         return providers.computeIfAbsent(schemaId, this::createProvider);
     }
 
+    private JsonStreamingValidator supplyValidator(
+        int schemaId)
+    {
+        return validators.computeIfAbsent(schemaId, this::createValidator);
+    }
+
+    private JsonStreamingValidator createValidator(
+        int schemaId)
+    {
+        JsonStreamingValidator validator = null;
+        String schemaText = handler.resolve(schemaId);
+        if (schemaText != null)
+        {
+            try (JsonReader reader = schemaProvider.createReader(new StringReader(schemaText)))
+            {
+                validator = JsonStreamingValidator.compile(reader.readValue());
+            }
+
+            if (validator == null)
+            {
+                validator = JsonStreamingValidator.UNSUPPORTED;
+            }
+        }
+        return validator;
+    }
+
     private JsonSchema supplySchema(
         int schemaId)
     {
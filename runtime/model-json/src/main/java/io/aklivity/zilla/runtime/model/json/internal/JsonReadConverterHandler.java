@@ -51,13 +51,27 @@ public class JsonReadConverterHandler extends JsonModelHandler implements Conver
         return handler.decodePadding(data, index, length);
     }
 
+    @Override
+    public boolean pending(
+        DirectBuffer data,
+        int index,
+        int length,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return pendingSchema(handler.resolve(data, index, length), originId, routedId, streamId, traceId, signalId);
+    }
+
     @Override
     public void extract(
         String path)
     {
         if (matcher.reset(path).matches())
         {
-            extracted.put(matcher.group(1), new OctetsFW());
+            extracted.computeIfAbsent(matcher.group(1), k -> new OctetsFW());
         }
     }
 
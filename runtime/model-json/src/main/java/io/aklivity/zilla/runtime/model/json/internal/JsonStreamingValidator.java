@@ -0,0 +1,873 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import org.agrona.DirectBuffer;
+
+import io.aklivity.zilla.runtime.model.json.internal.types.OctetsFW;
+
+/**
+ * Validates JSON documents against a JSON schema compiled into a byte-level matcher over the
+ * {@link DirectBuffer}, extracting requested field values without materializing strings.
+ * <p>
+ * Only the {@code type}, {@code properties}, {@code required}, {@code additionalProperties},
+ * {@code items}, {@code enum} and {@code pattern} keywords are compiled, see {@link #compile(JsonValue)}.
+ * A document is only accepted when it is well-formed and provably valid; anything else, such as
+ * escaped keys, non-ASCII pattern subjects or enum literals spelled differently, is deferred to the
+ * general purpose validator by returning {@code false}, which also reports any validation failure.
+ */
+public final class JsonStreamingValidator
+{
+    private static final int MAX_DEPTH = 64;
+    private static final int MAX_REQUIRED = Long.SIZE;
+
+    private static final int TYPE_OBJECT = 0x01;
+    private static final int TYPE_ARRAY = 0x02;
+    private static final int TYPE_STRING = 0x04;
+    private static final int TYPE_NUMBER = 0x08;
+    private static final int TYPE_INTEGER = 0x10;
+    private static final int TYPE_BOOLEAN = 0x20;
+    private static final int TYPE_NULL = 0x40;
+    private static final int TYPE_ANY = 0x7f;
+
+    private static final Map<String, Integer> TYPES = Map.of(
+        "object", TYPE_OBJECT,
+        "array", TYPE_ARRAY,
+        "string", TYPE_STRING,
+        "number", TYPE_NUMBER | TYPE_INTEGER,
+        "integer", TYPE_INTEGER,
+        "boolean", TYPE_BOOLEAN,
+        "null", TYPE_NULL);
+
+    private static final Set<String> KEYWORDS = Set.of(
+        "type", "properties", "required", "additionalProperties", "items", "enum", "pattern");
+
+    private static final Set<String> ANNOTATIONS = Set.of(
+        "$schema", "$id", "$comment", "title", "description", "default", "examples");
+
+    private static final byte[] TRUE = "true".getBytes(UTF_8);
+    private static final byte[] FALSE = "false".getBytes(UTF_8);
+    private static final byte[] NULL = "null".getBytes(UTF_8);
+
+    private static final Node ANY = newAny();
+
+    private static final DeferredException DEFERRED = new DeferredException();
+
+    /**
+     * Marks a schema that does not compile, so it is not compiled again; never used to validate.
+     */
+    public static final JsonStreamingValidator UNSUPPORTED = new JsonStreamingValidator(null);
+
+    private final Node root;
+    private final AsciiSequence sequence;
+
+    private DirectBuffer buffer;
+    private int progress;
+    private int limit;
+    private byte[][] keys;
+    private OctetsFW[] values;
+    private OctetsFW pending;
+
+    private boolean escaped;
+    private boolean ascii;
+    private boolean integral;
+
+    private JsonStreamingValidator(
+        Node root)
+    {
+        this.root = root;
+        this.sequence = new AsciiSequence();
+    }
+
+    /**
+     * Compiles the schema, returning {@code null} when it uses keywords beyond the supported subset.
+     */
+    public static JsonStreamingValidator compile(
+        JsonValue schema)
+    {
+        Node root = compileNode(schema);
+        return root != null ? new JsonStreamingValidator(root) : null;
+    }
+
+    /**
+     * Returns {@code true} when the document is valid, having wrapped the value of each of the given keys.
+     * Returns {@code false} when the document must be validated by the general purpose validator.
+     */
+    public boolean validate(
+        DirectBuffer buffer,
+        int index,
+        int length,
+        byte[][] keys,
+        OctetsFW[] values)
+    {
+        this.buffer = buffer;
+        this.progress = index;
+        this.limit = index + length;
+        this.keys = keys;
+        this.values = values;
+        this.pending = null;
+
+        boolean valid;
+        try
+        {
+            skipWhitespace();
+            value(root, 0);
+            skipWhitespace();
+            valid = progress == limit;
+        }
+        catch (DeferredException ex)
+        {
+            valid = false;
+        }
+        finally
+        {
+            this.buffer = null;
+            this.keys = null;
+            this.values = null;
+            this.pending = null;
+        }
+
+        return valid;
+    }
+
+    private void value(
+        Node node,
+        int depth)
+    {
+        if (depth > MAX_DEPTH || progress >= limit)
+        {
+            throw DEFERRED;
+        }
+
+        int start = progress;
+        byte ch = buffer.getByte(progress);
+        switch (ch)
+        {
+        case '{':
+            checkType(node, TYPE_OBJECT);
+            object(node, depth);
+            break;
+        case '[':
+            checkType(node, TYPE_ARRAY);
+            array(node, depth);
+            break;
+        case '"':
+            checkType(node, TYPE_STRING);
+            string();
+            checkPattern(node, start + 1, progress - 1);
+            checkEnum(node, start, progress);
+            extract(start + 1, progress - 1);
+            break;
+        case 't':
+            checkType(node, TYPE_BOOLEAN);
+            literal(TRUE);
+            checkEnum(node, start, progress);
+            break;
+        case 'f':
+            checkType(node, TYPE_BOOLEAN);
+            literal(FALSE);
+            checkEnum(node, start, progress);
+            break;
+        case 'n':
+            checkType(node, TYPE_NULL);
+            literal(NULL);
+            checkEnum(node, start, progress);
+            break;
+        default:
+            number();
+            checkType(node, integral ? TYPE_INTEGER : TYPE_NUMBER);
+            checkEnum(node, start, progress);
+            extract(start, progress);
+            break;
+        }
+    }
+
+    private void object(
+        Node node,
+        int depth)
+    {
+        long required = 0L;
+
+        progress++;
+        skipWhitespace();
+        if (peek() == '}')
+        {
+            progress++;
+        }
+        else
+        {
+            boolean more = true;
+            while (more)
+            {
+                if (peek() != '"')
+                {
+                    throw DEFERRED;
+                }
+
+                int keyStart = progress + 1;
+                string();
+                int keyEnd = progress - 1;
+                if (escaped)
+                {
+                    throw DEFERRED;
+                }
+
+                pending = lookupExtracted(keyStart, keyEnd);
+
+                Node child;
+                int slot = node.lookup(buffer, keyStart, keyEnd);
+                if (slot != -1)
+                {
+                    child = node.properties[slot];
+                    if (slot < MAX_REQUIRED)
+                    {
+                        required |= 1L << slot;
+                    }
+                }
+                else if (node.additional != null)
+                {
+                    child = node.additional;
+                }
+                else
+                {
+                    throw DEFERRED;
+                }
+
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                value(child, depth + 1);
+                skipWhitespace();
+
+                byte ch = peek();
+                progress++;
+                if (ch == '}')
+                {
+                    more = false;
+                }
+                else if (ch == ',')
+                {
+                    skipWhitespace();
+                }
+                else
+                {
+                    throw DEFERRED;
+                }
+            }
+        }
+
+        if ((required & node.required) != node.required)
+        {
+            throw DEFERRED;
+        }
+    }
+
+    private void array(
+        Node node,
+        int depth)
+    {
+        progress++;
+        skipWhitespace();
+        if (peek() == ']')
+        {
+            progress++;
+        }
+        else
+        {
+            boolean more = true;
+            while (more)
+            {
+                value(node.items, depth + 1);
+                skipWhitespace();
+
+                byte ch = peek();
+                progress++;
+                if (ch == ']')
+                {
+                    more = false;
+                }
+                else if (ch == ',')
+                {
+                    skipWhitespace();
+                }
+                else
+                {
+                    throw DEFERRED;
+                }
+            }
+        }
+    }
+
+    private void string()
+    {
+        progress++;
+        escaped = false;
+        ascii = true;
+
+        boolean closed = false;
+        while (!closed)
+        {
+            if (progress >= limit)
+            {
+                throw DEFERRED;
+            }
+
+            int ch = buffer.getByte(progress++) & 0xff;
+            if (ch == '"')
+            {
+                closed = true;
+            }
+            else if (ch == '\\')
+            {
+                escaped = true;
+                escape();
+            }
+            else if (ch < 0x20)
+            {
+                throw DEFERRED;
+            }
+            else if (ch >= 0x80)
+            {
+                ascii = false;
+                utf8(ch);
+            }
+        }
+    }
+
+    private void escape()
+    {
+        if (progress >= limit)
+        {
+            throw DEFERRED;
+        }
+
+        byte ch = buffer.getByte(progress++);
+        switch (ch)
+        {
+        case '"':
+        case '\\':
+        case '/':
+        case 'b':
+        case 'f':
+        case 'n':
+        case 'r':
+        case 't':
+            break;
+        case 'u':
+            if (progress + 4 > limit)
+            {
+                throw DEFERRED;
+            }
+            for (int i = 0; i < 4; i++)
+            {
+                if (Character.digit(buffer.getByte(progress++), 16) == -1)
+                {
+                    throw DEFERRED;
+                }
+            }
+            break;
+        default:
+            throw DEFERRED;
+        }
+    }
+
+    private void utf8(
+        int lead)
+    {
+        int continuations;
+        int min;
+        if ((lead & 0xe0) == 0xc0)
+        {
+            continuations = 1;
+            min = 0x80;
+        }
+        else if ((lead & 0xf0) == 0xe0)
+        {
+            continuations = 2;
+            min = 0x800;
+        }
+        else if ((lead & 0xf8) == 0xf0)
+        {
+            continuations = 3;
+            min = 0x10000;
+        }
+        else
+        {
+            throw DEFERRED;
+        }
+
+        if (progress + continuations > limit)
+        {
+            throw DEFERRED;
+        }
+
+        int codePoint = lead & (0x3f >> continuations);
+        for (int i = 0; i < continuations; i++)
+        {
+            int ch = buffer.getByte(progress++) & 0xff;
+            if ((ch & 0xc0) != 0x80)
+            {
+                throw DEFERRED;
+            }
+            codePoint = (codePoint << 6) | (ch & 0x3f);
+        }
+
+        if (codePoint < min ||
+            codePoint > Character.MAX_CODE_POINT ||
+            codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)
+        {
+            throw DEFERRED;
+        }
+    }
+
+    private void number()
+    {
+        integral = true;
+
+        if (peek() == '-')
+        {
+            progress++;
+        }
+
+        byte ch = peek();
+        if (ch == '0')
+        {
+            progress++;
+        }
+        else if (ch >= '1' && ch <= '9')
+        {
+            digits();
+        }
+        else
+        {
+            throw DEFERRED;
+        }
+
+        if (peek() == '.')
+        {
+            integral = false;
+            progress++;
+            digits();
+        }
+
+        ch = peek();
+        if (ch == 'e' || ch == 'E')
+        {
+            integral = false;
+            progress++;
+            ch = peek();
+            if (ch == '+' || ch == '-')
+            {
+                progress++;
+            }
+            digits();
+        }
+    }
+
+    private void digits()
+    {
+        int start = progress;
+        byte ch = peek();
+        while (ch >= '0' && ch <= '9')
+        {
+            progress++;
+            ch = peek();
+        }
+
+        if (progress == start)
+        {
+            throw DEFERRED;
+        }
+    }
+
+    private void literal(
+        byte[] expected)
+    {
+        if (progress + expected.length > limit)
+        {
+            throw DEFERRED;
+        }
+
+        for (int i = 0; i < expected.length; i++)
+        {
+            if (buffer.getByte(progress++) != expected[i])
+            {
+                throw DEFERRED;
+            }
+        }
+    }
+
+    private void expect(
+        char expected)
+    {
+        if (peek() != expected)
+        {
+            throw DEFERRED;
+        }
+        progress++;
+    }
+
+    private byte peek()
+    {
+        return progress < limit ? buffer.getByte(progress) : -1;
+    }
+
+    private void skipWhitespace()
+    {
+        byte ch = peek();
+        while (ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r')
+        {
+            progress++;
+            ch = peek();
+        }
+    }
+
+    private void checkType(
+        Node node,
+        int type)
+    {
+        if ((node.types & type) == 0)
+        {
+            throw DEFERRED;
+        }
+    }
+
+    private void checkPattern(
+        Node node,
+        int start,
+        int end)
+    {
+        if (node.pattern != null &&
+            (escaped || !ascii || !node.pattern.reset(sequence.wrap(buffer, start, end)).find()))
+        {
+            throw DEFERRED;
+        }
+    }
+
+    private void checkEnum(
+        Node node,
+        int start,
+        int end)
+    {
+        if (node.constants != null && lookup(node.constants, start, end) == -1)
+        {
+            throw DEFERRED;
+        }
+    }
+
+    private void extract(
+        int start,
+        int end)
+    {
+        if (pending != null)
+        {
+            pending.wrap(buffer, start, end);
+            pending = null;
+        }
+    }
+
+    private OctetsFW lookupExtracted(
+        int start,
+        int end)
+    {
+        OctetsFW value = null;
+        if (keys != null)
+        {
+            int slot = lookup(keys, start, end);
+            value = slot != -1 ? values[slot] : null;
+        }
+        return value;
+    }
+
+    private int lookup(
+        byte[][] candidates,
+        int start,
+        int end)
+    {
+        return lookup(candidates, buffer, start, end);
+    }
+
+    private static int lookup(
+        byte[][] candidates,
+        DirectBuffer buffer,
+        int start,
+        int end)
+    {
+        int length = end - start;
+        int slot = -1;
+        for (int i = 0; slot == -1 && i < candidates.length; i++)
+        {
+            byte[] candidate = candidates[i];
+            if (candidate.length == length)
+            {
+                int at = 0;
+                while (at < length && buffer.getByte(start + at) == candidate[at])
+                {
+                    at++;
+                }
+                slot = at == length ? i : -1;
+            }
+        }
+        return slot;
+    }
+
+    private static Node newAny()
+    {
+        Node any = new Node();
+        any.additional = any;
+        any.items = any;
+        return any;
+    }
+
+    private static Node compileNode(
+        JsonValue schema)
+    {
+        Node node = null;
+        if (schema == JsonValue.TRUE)
+        {
+            node = ANY;
+        }
+        else if (schema instanceof JsonObject)
+        {
+            node = compileObject((JsonObject) schema);
+        }
+        return node;
+    }
+
+    private static Node compileObject(
+        JsonObject schema)
+    {
+        Node node = new Node();
+        boolean supported = true;
+
+        for (String keyword : schema.keySet())
+        {
+            supported &= KEYWORDS.contains(keyword) || ANNOTATIONS.contains(keyword);
+        }
+
+        JsonValue type = schema.get("type");
+        if (supported && type != null)
+        {
+            node.types = 0;
+            if (type instanceof JsonArray)
+            {
+                for (JsonValue name : (JsonArray) type)
+                {
+                    supported &= name instanceof JsonString && TYPES.containsKey(((JsonString) name).getString());
+                    node.types |= supported ? TYPES.get(((JsonString) name).getString()) : 0;
+                }
+            }
+            else
+            {
+                supported &= type instanceof JsonString && TYPES.containsKey(((JsonString) type).getString());
+                node.types = supported ? TYPES.get(((JsonString) type).getString()) : 0;
+            }
+        }
+
+        List<String> names = new ArrayList<>();
+        List<Node> properties = new ArrayList<>();
+
+        JsonValue required = schema.get("required");
+        if (supported && required != null)
+        {
+            supported &= required instanceof JsonArray && ((JsonArray) required).size() <= MAX_REQUIRED;
+            if (supported)
+            {
+                for (JsonValue name : (JsonArray) required)
+                {
+                    supported &= name instanceof JsonString;
+                    if (supported && !names.contains(((JsonString) name).getString()))
+                    {
+                        names.add(((JsonString) name).getString());
+                        properties.add(ANY);
+                    }
+                }
+                node.required = names.size() == MAX_REQUIRED ? -1L : (1L << names.size()) - 1;
+            }
+        }
+
+        JsonValue declared = schema.get("properties");
+        if (supported && declared != null)
+        {
+            supported &= declared instanceof JsonObject;
+            if (supported)
+            {
+                for (Map.Entry<String, JsonValue> entry : ((JsonObject) declared).entrySet())
+                {
+                    Node property = compileNode(entry.getValue());
+                    supported &= property != null;
+
+                    int slot = names.indexOf(entry.getKey());
+                    if (slot != -1)
+                    {
+                        properties.set(slot, property);
+                    }
+                    else
+                    {
+                        names.add(entry.getKey());
+                        properties.add(property);
+                    }
+                }
+            }
+        }
+
+        node.names = new byte[names.size()][];
+        for (int i = 0; i < names.size(); i++)
+        {
+            node.names[i] = names.get(i).getBytes(UTF_8);
+        }
+        node.properties = properties.toArray(Node[]::new);
+
+        JsonValue additional = schema.get("additionalProperties");
+        if (supported && additional != null)
+        {
+            node.additional = additional == JsonValue.FALSE ? null : compileNode(additional);
+            supported &= additional == JsonValue.FALSE || node.additional != null;
+        }
+
+        JsonValue items = schema.get("items");
+        if (supported && items != null)
+        {
+            node.items = compileNode(items);
+            supported &= node.items != null;
+        }
+
+        JsonValue constants = schema.get("enum");
+        if (supported && constants != null)
+        {
+            supported &= constants instanceof JsonArray;
+            if (supported)
+            {
+                JsonArray literals = (JsonArray) constants;
+                node.constants = new byte[literals.size()][];
+                for (int i = 0; i < literals.size(); i++)
+                {
+                    JsonValue literal = literals.get(i);
+                    supported &= !(literal instanceof JsonObject) && !(literal instanceof JsonArray);
+                    node.constants[i] = literal.toString().getBytes(UTF_8);
+                }
+            }
+        }
+
+        JsonValue pattern = schema.get("pattern");
+        if (supported && pattern != null)
+        {
+            supported &= pattern instanceof JsonString;
+            if (supported)
+            {
+                try
+                {
+                    node.pattern = Pattern.compile(((JsonString) pattern).getString()).matcher("");
+                }
+                catch (PatternSyntaxException ex)
+                {
+                    supported = false;
+                }
+            }
+        }
+
+        return supported ? node : null;
+    }
+
+    private static final class Node
+    {
+        private int types = TYPE_ANY;
+        private byte[][] names = new byte[0][];
+        private Node[] properties = new Node[0];
+        private long required;
+        private Node additional = ANY;
+        private Node items = ANY;
+        private byte[][] constants;
+        private Matcher pattern;
+
+        private int lookup(
+            DirectBuffer buffer,
+            int start,
+            int end)
+        {
+            return JsonStreamingValidator.lookup(names, buffer, start, end);
+        }
+    }
+
+    private static final class AsciiSequence implements CharSequence
+    {
+        private DirectBuffer buffer;
+        private int offset;
+        private int length;
+
+        private AsciiSequence wrap(
+            DirectBuffer buffer,
+            int start,
+            int end)
+        {
+            this.buffer = buffer;
+            this.offset = start;
+            this.length = end - start;
+            return this;
+        }
+
+        @Override
+        public int length()
+        {
+            return length;
+        }
+
+        @Override
+        public char charAt(
+            int index)
+        {
+            return (char) buffer.getByte(offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(
+            int start,
+            int end)
+        {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString()
+        {
+            return buffer.getStringWithoutLengthAscii(offset, length);
+        }
+    }
+
+    private static final class DeferredException extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+
+        private DeferredException()
+        {
+            super(null, null, false, false);
+        }
+    }
+}
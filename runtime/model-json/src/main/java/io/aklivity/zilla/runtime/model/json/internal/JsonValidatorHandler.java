@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.model.json.internal;
 
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParsingException;
@@ -78,7 +80,7 @@ public class JsonValidatorHandler extends JsonModelHandler implements ValidatorH
 
                 status &= provider != null;
 
-                if (status)
+                if (status && !validateStreaming(schemaId, buffer, 0, progress))
                 {
                     parser = provider.createParser(in);
                     while (parser.hasNext())
@@ -96,4 +98,18 @@ public class JsonValidatorHandler extends JsonModelHandler implements ValidatorH
 
         return status;
     }
+
+    @Override
+    public boolean pending(
+        DirectBuffer data,
+        int index,
+        int length,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return pendingSchema(NO_SCHEMA_ID, originId, routedId, streamId, traceId, signalId);
+    }
 }
@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.model.json.internal;
 
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+
 import org.agrona.DirectBuffer;
 
 import io.aklivity.zilla.runtime.engine.EngineContext;
@@ -40,6 +42,20 @@ public class JsonWriteConverterHandler extends JsonModelHandler implements Conve
         return handler.encodePadding(length);
     }
 
+    @Override
+    public boolean pending(
+        DirectBuffer data,
+        int index,
+        int length,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return pendingSchema(NO_SCHEMA_ID, originId, routedId, streamId, traceId, signalId);
+    }
+
     @Override
     public int convert(
         long traceId,
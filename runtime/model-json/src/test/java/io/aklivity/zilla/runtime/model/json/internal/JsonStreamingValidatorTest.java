@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+
+import jakarta.json.JsonReader;
+import jakarta.json.spi.JsonProvider;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.model.json.internal.types.OctetsFW;
+
+public class JsonStreamingValidatorTest
+{
+    private static final String SCHEMA = "{" +
+        "\"type\": \"object\"," +
+        "\"properties\": " +
+        "{" +
+            "\"id\": {" +
+                "\"type\": \"string\"," +
+                "\"pattern\": \"^[0-9]+$\"" +
+            "}," +
+            "\"status\": {" +
+                "\"type\": \"string\"," +
+                "\"enum\": [\"OK\", \"FAIL\"]" +
+            "}," +
+            "\"count\": {" +
+                "\"type\": \"integer\"" +
+            "}," +
+            "\"tags\": {" +
+                "\"type\": \"array\"," +
+                "\"items\": {" +
+                    "\"type\": [\"string\", \"null\"]" +
+                "}" +
+            "}" +
+        "}," +
+        "\"required\": [" +
+            "\"id\"," +
+            "\"status\"" +
+        "]" +
+        "}";
+
+    private final byte[][] keys = { "status".getBytes(UTF_8), "count".getBytes(UTF_8) };
+    private final OctetsFW[] values = { new OctetsFW(), new OctetsFW() };
+
+    @Test
+    public void shouldValidateAndExtract()
+    {
+        JsonStreamingValidator validator = compile(SCHEMA);
+
+        String payload =
+            "{" +
+                "\"id\": \"123\"," +
+                "\"count\": 321," +
+                "\"tags\": [\"a\", null]," +
+                "\"other\": {\"status\": true, \"nested\": [1.5e3, false]}," +
+                "\"status\": \"OK\"" +
+            "}";
+
+        assertTrue(validate(validator, payload));
+        assertEquals("OK", values[0].buffer().getStringWithoutLengthUtf8(values[0].offset(), values[0].sizeof()));
+        assertEquals("321", values[1].buffer().getStringWithoutLengthUtf8(values[1].offset(), values[1].sizeof()));
+    }
+
+    @Test
+    public void shouldDeferInvalidDocuments()
+    {
+        JsonStreamingValidator validator = compile(SCHEMA);
+
+        assertFalse(validate(validator, "{\"id\":\"12a\",\"status\":\"OK\"}"));
+        assertFalse(validate(validator, "{\"id\":\"123\",\"status\":\"NONE\"}"));
+        assertFalse(validate(validator, "{\"id\":\"123\"}"));
+        assertFalse(validate(validator, "{\"id\":\"123\",\"status\":\"OK\",\"tags\":[1]}"));
+        assertFalse(validate(validator, "[]"));
+    }
+
+    @Test
+    public void shouldDeferMalformedDocuments()
+    {
+        JsonStreamingValidator validator = compile(SCHEMA);
+
+        assertFalse(validate(validator, "{\"id\":\"123\",\"status\":\"OK\""));
+        assertFalse(validate(validator, "{\"id\":\"123\",\"status\":\"OK\",}"));
+        assertFalse(validate(validator, "{\"id\":\"123\",\"status\":\"OK\"} {}"));
+        assertFalse(validate(validator, "{\"id\":\"123\",\"status\":\"OK\",\"count\":01}"));
+    }
+
+    @Test
+    public void shouldNotCompileUnsupportedKeywords()
+    {
+        assertNull(compile("{\"$ref\": \"#/definitions/event\"}"));
+        assertNull(compile("{\"type\": \"string\", \"format\": \"email\"}"));
+        assertNull(compile("{\"type\": \"array\", \"items\": {\"minLength\": 1}}"));
+    }
+
+    private boolean validate(
+        JsonStreamingValidator validator,
+        String payload)
+    {
+        byte[] bytes = payload.getBytes(UTF_8);
+        DirectBuffer data = new UnsafeBuffer(bytes);
+        return validator.validate(data, 0, bytes.length, keys, values);
+    }
+
+    private static JsonStreamingValidator compile(
+        String schema)
+    {
+        try (JsonReader reader = JsonProvider.provider().createReader(new StringReader(schema)))
+        {
+            return JsonStreamingValidator.compile(reader.readValue());
+        }
+    }
+}
@@ -18,7 +18,11 @@ import static io.aklivity.zilla.runtime.engine.model.ValidatorHandler.FLAGS_FIN;
 import static io.aklivity.zilla.runtime.engine.model.ValidatorHandler.FLAGS_INIT;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Clock;
@@ -282,4 +286,88 @@ public class JsonValidatorTest
 
         assertTrue(validator.validate(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP));
     }
+
+    @Test
+    public void shouldNotRecompileUnsupportedSchemaPerMessage()
+    {
+        TestCatalogConfig catalog = CatalogConfig.builder(TestCatalogConfig::new)
+            .namespace("test")
+            .name("test0")
+            .type("test")
+            .options(TestCatalogOptionsConfig::builder)
+                .id(1)
+                .schema("{\"type\": \"integer\", \"minimum\": 0}")
+                .build()
+            .build();
+
+        JsonModelConfig model = JsonModelConfig.builder()
+            .catalog()
+            .name("test0")
+                .schema()
+                    .strategy("topic")
+                    .subject(null)
+                    .version("latest")
+                    .id(1)
+                    .build()
+                .build()
+            .build();
+
+        TestCatalogHandler handler = spy(new TestCatalogHandler(catalog.options));
+        when(context.supplyCatalog(catalog.id)).thenReturn(handler);
+        JsonValidatorHandler validator = new JsonValidatorHandler(model, context);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        byte[] bytes = "42".getBytes();
+        data.wrap(bytes, 0, bytes.length);
+
+        assertTrue(validator.validate(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP));
+        assertTrue(validator.validate(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP));
+        assertTrue(validator.validate(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP));
+
+        verify(handler, times(2)).resolve(1);
+    }
+
+    @Test
+    public void shouldDeferValidationWhileSchemaPending()
+    {
+        TestCatalogConfig catalog = CatalogConfig.builder(TestCatalogConfig::new)
+            .namespace("test")
+            .name("test0")
+            .type("test")
+            .options(TestCatalogOptionsConfig::builder)
+                .id(1)
+                .schema("{\"type\": \"integer\"}")
+                .build()
+            .build();
+
+        JsonModelConfig model = JsonModelConfig.builder()
+            .catalog()
+            .name("test0")
+                .schema()
+                    .strategy("topic")
+                    .subject("test-value")
+                    .version("latest")
+                    .id(0)
+                    .build()
+                .build()
+            .build();
+
+        TestCatalogHandler handler = spy(new TestCatalogHandler(catalog.options));
+        when(context.supplyCatalog(catalog.id)).thenReturn(handler);
+        JsonValidatorHandler validator = new JsonValidatorHandler(model, context);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        byte[] bytes = "42".getBytes();
+        data.wrap(bytes, 0, bytes.length);
+
+        doReturn(true).when(handler).pending("test-value", "latest", 1L, 2L, 3L, 4L, 5);
+        assertTrue(validator.pending(data, 0, data.capacity(), 1L, 2L, 3L, 4L, 5));
+
+        doReturn(false).when(handler).pending("test-value", "latest", 1L, 2L, 3L, 4L, 5);
+        assertFalse(validator.pending(data, 0, data.capacity(), 1L, 2L, 3L, 4L, 5));
+        verify(handler).pending(1, 1L, 2L, 3L, 4L, 5);
+        assertTrue(validator.validate(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP));
+    }
 }
@@ -0,0 +1,1672 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.protobuf.internal;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+
+/**
+ * Transcodes between protobuf wire format and the JSON produced by {@code JsonFormat.printer()}
+ * (preserving proto field names, including default values, omitting whitespace) without building a
+ * {@code DynamicMessage}.
+ * <p>
+ * Only canonical input is transcoded: fields in ascending field number order, each at most once
+ * (repeated fields contiguous), and no constructs outside the supported subset. Anything else
+ * returns {@code -1} so the caller can fall back to the generic {@code DynamicMessage} path,
+ * which also reports validation failures.
+ */
+public final class ProtobufJsonTranscoder
+{
+    private static final int JSON_FIELD_STRUCTURE_LENGTH = "\"\":\"\",".length();
+    private static final int JSON_OBJECT_CURLY_BRACES = 2;
+
+    private static final int MAX_DEPTH = 100;
+    private static final int TAG_TYPE_BITS = 3;
+    private static final int WIRETYPE_VARINT = 0;
+    private static final int WIRETYPE_FIXED64 = 1;
+    private static final int WIRETYPE_LENGTH_DELIMITED = 2;
+    private static final int WIRETYPE_FIXED32 = 5;
+
+    private static final RuntimeException UNSUPPORTED = new UnsupportedOperationException("canonical encoding required");
+
+    private static final byte[] TRUE = "true".getBytes(US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(US_ASCII);
+    private static final byte[] NAN = "\"NaN\"".getBytes(US_ASCII);
+    private static final byte[] INFINITY = "\"Infinity\"".getBytes(US_ASCII);
+    private static final byte[] NEGATIVE_INFINITY = "\"-Infinity\"".getBytes(US_ASCII);
+    private static final byte[] LINE_SEPARATOR = "\\u2028".getBytes(US_ASCII);
+    private static final byte[] PARAGRAPH_SEPARATOR = "\\u2029".getBytes(US_ASCII);
+    private static final byte[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(US_ASCII);
+    private static final byte[] BASE64_VALUES = new byte[128];
+    private static final byte[][] ESCAPES = new byte[128][];
+
+    static
+    {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        for (int i = 0; i < BASE64.length; i++)
+        {
+            BASE64_VALUES[BASE64[i]] = (byte) i;
+        }
+
+        for (int ch = 0; ch < 0x20; ch++)
+        {
+            ESCAPES[ch] = String.format("\\u%04x", ch).getBytes(US_ASCII);
+        }
+        ESCAPES['"'] = "\\\"".getBytes(US_ASCII);
+        ESCAPES['\\'] = "\\\\".getBytes(US_ASCII);
+        ESCAPES['\t'] = "\\t".getBytes(US_ASCII);
+        ESCAPES['\b'] = "\\b".getBytes(US_ASCII);
+        ESCAPES['\n'] = "\\n".getBytes(US_ASCII);
+        ESCAPES['\r'] = "\\r".getBytes(US_ASCII);
+        ESCAPES['\f'] = "\\f".getBytes(US_ASCII);
+        ESCAPES['<'] = "\\u003c".getBytes(US_ASCII);
+        ESCAPES['>'] = "\\u003e".getBytes(US_ASCII);
+        ESCAPES['&'] = "\\u0026".getBytes(US_ASCII);
+        ESCAPES['='] = "\\u003d".getBytes(US_ASCII);
+        ESCAPES['\''] = "\\u0027".getBytes(US_ASCII);
+    }
+
+    private final Map<Descriptor, MessageNode> messages;
+    private final int padding;
+
+    private DirectBuffer json;
+    private int limit;
+    private int progress;
+    private int tokenStart;
+    private int tokenEnd;
+    private boolean escaped;
+    private boolean negative;
+
+    public ProtobufJsonTranscoder(
+        FileDescriptor descriptor)
+    {
+        this.messages = new IdentityHashMap<>();
+
+        int padding = 0;
+        Deque<Descriptor> pending = new ArrayDeque<>();
+        for (Descriptor message : descriptor.getMessageTypes())
+        {
+            padding += JSON_OBJECT_CURLY_BRACES;
+            for (FieldDescriptor field : message.getFields())
+            {
+                padding += field.getName().getBytes(UTF_8).length + JSON_FIELD_STRUCTURE_LENGTH;
+            }
+            pending.add(message);
+        }
+        this.padding = padding;
+
+        while (!pending.isEmpty())
+        {
+            Descriptor message = pending.remove();
+            messages.put(message, new MessageNode(message));
+            pending.addAll(message.getNestedTypes());
+        }
+        messages.values().forEach(MessageNode::link);
+    }
+
+    public int padding()
+    {
+        return padding;
+    }
+
+    public int toJson(
+        Descriptor descriptor,
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer target,
+        int offset)
+    {
+        int written = -1;
+        MessageNode node = messages.get(descriptor);
+        if (node != null)
+        {
+            try
+            {
+                progress = index;
+                written = node.toJson(buffer, index + length, target, offset, 0) - offset;
+            }
+            catch (UnsupportedOperationException ex)
+            {
+                // defer to the generic path
+            }
+        }
+        return written;
+    }
+
+    public int toProtobuf(
+        Descriptor descriptor,
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer target,
+        int offset)
+    {
+        int written = -1;
+        MessageNode node = messages.get(descriptor);
+        if (node != null)
+        {
+            try
+            {
+                json = buffer;
+                limit = index + length;
+                progress = index;
+                int position = node.toProtobuf(target, offset, 0);
+                if (peek() != -1)
+                {
+                    throw UNSUPPORTED;
+                }
+                written = position - offset;
+            }
+            catch (UnsupportedOperationException ex)
+            {
+                // defer to the generic path
+            }
+            finally
+            {
+                json = null;
+            }
+        }
+        return written;
+    }
+
+    private final class MessageNode
+    {
+        private final Descriptor descriptor;
+        private final FieldNode[] fields;
+        private final Int2ObjectHashMap<FieldNode> fieldsByNumber;
+        private boolean supported;
+
+        private MessageNode(
+            Descriptor descriptor)
+        {
+            this.descriptor = descriptor;
+            this.fieldsByNumber = new Int2ObjectHashMap<>();
+
+            List<FieldDescriptor> declared = descriptor.getFields();
+            FieldDescriptor[] sorted = declared.toArray(new FieldDescriptor[0]);
+            Arrays.sort(sorted, Comparator.comparingInt(FieldDescriptor::getNumber));
+
+            this.fields = new FieldNode[sorted.length];
+            for (int slot = 0; slot < sorted.length; slot++)
+            {
+                FieldNode field = new FieldNode(sorted[slot], slot);
+                fields[slot] = field;
+                fieldsByNumber.put(field.number, field);
+            }
+        }
+
+        private void link()
+        {
+            boolean supported = !descriptor.getFullName().startsWith("google.protobuf.");
+            for (FieldNode field : fields)
+            {
+                supported &= field.link();
+            }
+            this.supported = supported;
+        }
+
+        private int toJson(
+            DirectBuffer buffer,
+            int limit,
+            MutableDirectBuffer target,
+            int position,
+            int depth)
+        {
+            if (!supported || depth > MAX_DEPTH)
+            {
+                throw UNSUPPORTED;
+            }
+
+            target.putByte(position++, (byte) '{');
+            final int start = position;
+
+            int next = 0;
+            int elements = 0;
+            FieldNode open = null;
+            while (progress < limit)
+            {
+                final long tag = decodeVarint(buffer, limit);
+                final long number = tag >>> TAG_TYPE_BITS;
+                final FieldNode field = number <= Integer.MAX_VALUE ? fieldsByNumber.get((int) number) : null;
+                final int wireType = (int) tag & ((1 << TAG_TYPE_BITS) - 1);
+
+                if (field == null)
+                {
+                    throw UNSUPPORTED;
+                }
+
+                if (field != open)
+                {
+                    if (field.slot < next)
+                    {
+                        throw UNSUPPORTED;
+                    }
+
+                    if (open != null)
+                    {
+                        target.putByte(position++, (byte) ']');
+                        open = null;
+                    }
+
+                    position = putDefaults(target, position, start, next, field.slot);
+                    if (position != start)
+                    {
+                        target.putByte(position++, (byte) ',');
+                    }
+                    target.putBytes(position, field.name);
+                    position += field.name.length;
+                    next = field.slot + 1;
+
+                    if (field.repeated)
+                    {
+                        target.putByte(position++, (byte) '[');
+                        open = field;
+                        elements = position;
+                    }
+                }
+
+                position = field.toJson(buffer, limit, wireType, target, position, depth, field.repeated && position != elements);
+            }
+
+            if (open != null)
+            {
+                target.putByte(position++, (byte) ']');
+            }
+            position = putDefaults(target, position, start, next, fields.length);
+
+            target.putByte(position++, (byte) '}');
+            return position;
+        }
+
+        private int toProtobuf(
+            MutableDirectBuffer target,
+            int position,
+            int depth)
+        {
+            if (!supported || depth > MAX_DEPTH)
+            {
+                throw UNSUPPORTED;
+            }
+
+            expect('{');
+            if (peek() == '}')
+            {
+                progress++;
+            }
+            else
+            {
+                int next = 0;
+                do
+                {
+                    scanString();
+                    final FieldNode field = escaped ? null : lookup(json, tokenStart, tokenEnd - tokenStart);
+                    if (field == null || field.slot < next)
+                    {
+                        throw UNSUPPORTED;
+                    }
+                    next = field.slot + 1;
+
+                    expect(':');
+                    position = field.toProtobuf(target, position, depth);
+                }
+                while (accept(','));
+                expect('}');
+            }
+
+            return position;
+        }
+
+        private int putDefaults(
+            MutableDirectBuffer target,
+            int position,
+            int start,
+            int from,
+            int to)
+        {
+            for (int slot = from; slot < to; slot++)
+            {
+                final byte[] defaults = fields[slot].defaults;
+                if (defaults != null)
+                {
+                    if (position != start)
+                    {
+                        target.putByte(position++, (byte) ',');
+                    }
+                    target.putBytes(position, defaults);
+                    position += defaults.length;
+                }
+            }
+            return position;
+        }
+
+        private FieldNode lookup(
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            FieldNode match = null;
+            for (FieldNode field : fields)
+            {
+                if (field.matches(buffer, index, length))
+                {
+                    match = field;
+                    break;
+                }
+            }
+            return match;
+        }
+    }
+
+    private final class FieldNode
+    {
+        private final FieldDescriptor descriptor;
+        private final FieldDescriptor.Type type;
+        private final int number;
+        private final int slot;
+        private final boolean repeated;
+        private final boolean presence;
+        private final boolean packable;
+        private final boolean packed;
+        private final int wireType;
+        private final long tag;
+        private final long packedTag;
+        private final byte[] protoName;
+        private final byte[] jsonName;
+        private final byte[] name;
+        private final byte[] defaults;
+        private final Int2ObjectHashMap<byte[]> symbols;
+        private final byte[][] symbolNames;
+        private final int[] symbolNumbers;
+
+        private MessageNode message;
+
+        private FieldNode(
+            FieldDescriptor descriptor,
+            int slot)
+        {
+            this.descriptor = descriptor;
+            this.type = descriptor.getType();
+            this.number = descriptor.getNumber();
+            this.slot = slot;
+            this.repeated = descriptor.isRepeated();
+            this.presence = descriptor.hasPresence();
+            this.packable = repeated && descriptor.isPackable();
+            this.packed = repeated && descriptor.isPacked();
+            this.wireType = wireType(type);
+            this.tag = (long) number << TAG_TYPE_BITS | wireType;
+            this.packedTag = (long) number << TAG_TYPE_BITS | WIRETYPE_LENGTH_DELIMITED;
+            this.protoName = descriptor.getName().getBytes(UTF_8);
+            this.jsonName = descriptor.getJsonName().getBytes(UTF_8);
+            this.name = String.format("\"%s\":", descriptor.getName()).getBytes(UTF_8);
+
+            if (type == FieldDescriptor.Type.ENUM)
+            {
+                List<EnumValueDescriptor> values = descriptor.getEnumType().getValues();
+                this.symbols = new Int2ObjectHashMap<>();
+                this.symbolNames = new byte[values.size()][];
+                this.symbolNumbers = new int[values.size()];
+                for (int i = 0; i < values.size(); i++)
+                {
+                    EnumValueDescriptor value = values.get(i);
+                    symbols.putIfAbsent(value.getNumber(), String.format("\"%s\"", value.getName()).getBytes(UTF_8));
+                    symbolNames[i] = value.getName().getBytes(UTF_8);
+                    symbolNumbers[i] = value.getNumber();
+                }
+            }
+            else
+            {
+                this.symbols = null;
+                this.symbolNames = null;
+                this.symbolNumbers = null;
+            }
+
+            if (repeated)
+            {
+                this.defaults = concat(name, "[]");
+            }
+            else if (type == FieldDescriptor.Type.MESSAGE || type == FieldDescriptor.Type.GROUP)
+            {
+                this.defaults = null;
+            }
+            else
+            {
+                this.defaults = concat(name, defaultJson());
+            }
+        }
+
+        private boolean link()
+        {
+            boolean supported = !descriptor.isMapField() &&
+                !descriptor.isRequired() &&
+                descriptor.getContainingOneof() == null &&
+                type != FieldDescriptor.Type.GROUP;
+
+            if (type == FieldDescriptor.Type.MESSAGE)
+            {
+                message = messages.get(descriptor.getMessageType());
+                supported &= message != null;
+            }
+
+            return supported;
+        }
+
+        private boolean matches(
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            return contentEquals(protoName, buffer, index, length) || contentEquals(jsonName, buffer, index, length);
+        }
+
+        private int toJson(
+            DirectBuffer buffer,
+            int limit,
+            int wireType,
+            MutableDirectBuffer target,
+            int position,
+            int depth,
+            boolean more)
+        {
+            if (packable && wireType == WIRETYPE_LENGTH_DELIMITED)
+            {
+                final int end = decodeLength(buffer, limit);
+                while (progress < end)
+                {
+                    if (more)
+                    {
+                        target.putByte(position++, (byte) ',');
+                    }
+                    position = valueToJson(buffer, end, target, position, depth);
+                    more = true;
+                }
+            }
+            else
+            {
+                if (wireType != this.wireType)
+                {
+                    throw UNSUPPORTED;
+                }
+
+                if (more)
+                {
+                    target.putByte(position++, (byte) ',');
+                }
+                position = valueToJson(buffer, limit, target, position, depth);
+            }
+            return position;
+        }
+
+        private int valueToJson(
+            DirectBuffer buffer,
+            int limit,
+            MutableDirectBuffer target,
+            int position,
+            int depth)
+        {
+            switch (type)
+            {
+            case DOUBLE:
+                position = putDouble(Double.longBitsToDouble(decodeFixed64(buffer, limit)), target, position);
+                break;
+            case FLOAT:
+                position = putFloat(Float.intBitsToFloat(decodeFixed32(buffer, limit)), target, position);
+                break;
+            case INT64:
+                position = putQuotedLong(decodeVarint(buffer, limit), target, position);
+                break;
+            case SFIXED64:
+                position = putQuotedLong(decodeFixed64(buffer, limit), target, position);
+                break;
+            case SINT64:
+                long sint64 = decodeVarint(buffer, limit);
+                position = putQuotedLong((sint64 >>> 1) ^ -(sint64 & 1), target, position);
+                break;
+            case UINT64:
+                position = putQuotedUnsignedLong(decodeVarint(buffer, limit), target, position);
+                break;
+            case FIXED64:
+                position = putQuotedUnsignedLong(decodeFixed64(buffer, limit), target, position);
+                break;
+            case INT32:
+                position += target.putIntAscii(position, (int) decodeVarint(buffer, limit));
+                break;
+            case SFIXED32:
+                position += target.putIntAscii(position, decodeFixed32(buffer, limit));
+                break;
+            case SINT32:
+                int sint32 = (int) decodeVarint(buffer, limit);
+                position += target.putIntAscii(position, (sint32 >>> 1) ^ -(sint32 & 1));
+                break;
+            case UINT32:
+                position += target.putLongAscii(position, decodeVarint(buffer, limit) & 0xffff_ffffL);
+                break;
+            case FIXED32:
+                position += target.putLongAscii(position, decodeFixed32(buffer, limit) & 0xffff_ffffL);
+                break;
+            case BOOL:
+                byte[] bool = decodeVarint(buffer, limit) != 0L ? TRUE : FALSE;
+                target.putBytes(position, bool);
+                position += bool.length;
+                break;
+            case ENUM:
+                int symbol = (int) decodeVarint(buffer, limit);
+                byte[] name = symbols.get(symbol);
+                if (name != null)
+                {
+                    target.putBytes(position, name);
+                    position += name.length;
+                }
+                else
+                {
+                    position += target.putIntAscii(position, symbol);
+                }
+                break;
+            case STRING:
+                int stringEnd = decodeLength(buffer, limit);
+                position = putString(buffer, progress, stringEnd, target, position);
+                progress = stringEnd;
+                break;
+            case BYTES:
+                int bytesEnd = decodeLength(buffer, limit);
+                position = putBase64(buffer, progress, bytesEnd, target, position);
+                progress = bytesEnd;
+                break;
+            case MESSAGE:
+                int messageEnd = decodeLength(buffer, limit);
+                position = message.toJson(buffer, messageEnd, target, position, depth + 1);
+                break;
+            default:
+                throw UNSUPPORTED;
+            }
+            return position;
+        }
+
+        private int toProtobuf(
+            MutableDirectBuffer target,
+            int position,
+            int depth)
+        {
+            if (repeated)
+            {
+                expect('[');
+                if (packed)
+                {
+                    final int start = position;
+                    position = putVarint(target, position, packedTag);
+                    final int elements = position;
+                    if (!accept(']'))
+                    {
+                        do
+                        {
+                            position = valueToProtobuf(target, position, depth);
+                        }
+                        while (accept(','));
+                        expect(']');
+                    }
+                    position = position != elements ? putLength(target, elements, position) : start;
+                }
+                else if (!accept(']'))
+                {
+                    do
+                    {
+                        position = putVarint(target, position, tag);
+                        position = valueToProtobuf(target, position, depth);
+                    }
+                    while (accept(','));
+                    expect(']');
+                }
+            }
+            else
+            {
+                final int start = position;
+                position = putVarint(target, position, tag);
+                final int value = position;
+                position = valueToProtobuf(target, position, depth);
+                if (!presence && isZero(target, value, position))
+                {
+                    position = start;
+                }
+            }
+            return position;
+        }
+
+        private int valueToProtobuf(
+            MutableDirectBuffer target,
+            int position,
+            int depth)
+        {
+            switch (type)
+            {
+            case DOUBLE:
+                target.putLong(position, Double.doubleToRawLongBits(scanDouble()), LITTLE_ENDIAN);
+                position += Long.BYTES;
+                break;
+            case FLOAT:
+                target.putInt(position, Float.floatToRawIntBits(scanFloat()), LITTLE_ENDIAN);
+                position += Integer.BYTES;
+                break;
+            case INT64:
+                position = putVarint(target, position, scanSigned(Long.MIN_VALUE, Long.MAX_VALUE));
+                break;
+            case SFIXED64:
+                target.putLong(position, scanSigned(Long.MIN_VALUE, Long.MAX_VALUE), LITTLE_ENDIAN);
+                position += Long.BYTES;
+                break;
+            case SINT64:
+                long sint64 = scanSigned(Long.MIN_VALUE, Long.MAX_VALUE);
+                position = putVarint(target, position, (sint64 << 1) ^ (sint64 >> 63));
+                break;
+            case UINT64:
+                position = putVarint(target, position, scanUnsigned(-1L));
+                break;
+            case FIXED64:
+                target.putLong(position, scanUnsigned(-1L), LITTLE_ENDIAN);
+                position += Long.BYTES;
+                break;
+            case INT32:
+                position = putVarint(target, position, scanSigned(Integer.MIN_VALUE, Integer.MAX_VALUE));
+                break;
+            case SFIXED32:
+                target.putInt(position, (int) scanSigned(Integer.MIN_VALUE, Integer.MAX_VALUE), LITTLE_ENDIAN);
+                position += Integer.BYTES;
+                break;
+            case SINT32:
+                int sint32 = (int) scanSigned(Integer.MIN_VALUE, Integer.MAX_VALUE);
+                position = putVarint(target, position, ((sint32 << 1) ^ (sint32 >> 31)) & 0xffff_ffffL);
+                break;
+            case UINT32:
+                position = putVarint(target, position, scanUnsigned(0xffff_ffffL));
+                break;
+            case FIXED32:
+                target.putInt(position, (int) scanUnsigned(0xffff_ffffL), LITTLE_ENDIAN);
+                position += Integer.BYTES;
+                break;
+            case BOOL:
+                position = putVarint(target, position, scanBoolean() ? 1L : 0L);
+                break;
+            case ENUM:
+                final int symbol = peek() == '"' ? scanSymbol() : (int) scanSigned(Integer.MIN_VALUE, Integer.MAX_VALUE);
+                position = putVarint(target, position, symbol);
+                break;
+            case STRING:
+                scanString();
+                position = putUtf8(target, position);
+                break;
+            case BYTES:
+                scanString();
+                if (escaped)
+                {
+                    throw UNSUPPORTED;
+                }
+                position = putBytes(target, position);
+                break;
+            case MESSAGE:
+                final int start = position;
+                position = message.toProtobuf(target, position, depth + 1);
+                position = putLength(target, start, position);
+                break;
+            default:
+                throw UNSUPPORTED;
+            }
+            return position;
+        }
+
+        private int scanSymbol()
+        {
+            scanString();
+
+            int symbol = -1;
+            for (int i = 0; !escaped && i < symbolNames.length; i++)
+            {
+                if (contentEquals(symbolNames[i], json, tokenStart, tokenEnd - tokenStart))
+                {
+                    symbol = i;
+                    break;
+                }
+            }
+
+            if (symbol == -1)
+            {
+                throw UNSUPPORTED;
+            }
+            return symbolNumbers[symbol];
+        }
+
+        private String defaultJson()
+        {
+            String value;
+            switch (type)
+            {
+            case DOUBLE:
+            case FLOAT:
+                value = "0.0";
+                break;
+            case INT64:
+            case SFIXED64:
+            case SINT64:
+            case UINT64:
+            case FIXED64:
+                value = "\"0\"";
+                break;
+            case BOOL:
+                value = "false";
+                break;
+            case STRING:
+            case BYTES:
+                value = "\"\"";
+                break;
+            case ENUM:
+                value = String.format("\"%s\"", ((EnumValueDescriptor) descriptor.getDefaultValue()).getName());
+                break;
+            default:
+                value = "0";
+                break;
+            }
+            return value;
+        }
+    }
+
+    private long decodeVarint(
+        DirectBuffer buffer,
+        int limit)
+    {
+        long value = 0L;
+        int shift = 0;
+        byte b;
+        do
+        {
+            if (progress >= limit || shift >= Long.SIZE)
+            {
+                throw UNSUPPORTED;
+            }
+            b = buffer.getByte(progress++);
+            value |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        }
+        while (b < 0);
+        return value;
+    }
+
+    private int decodeLength(
+        DirectBuffer buffer,
+        int limit)
+    {
+        final long length = decodeVarint(buffer, limit);
+        if (length < 0L || length > limit - progress)
+        {
+            throw UNSUPPORTED;
+        }
+        return progress + (int) length;
+    }
+
+    private int decodeFixed32(
+        DirectBuffer buffer,
+        int limit)
+    {
+        if (limit - progress < Integer.BYTES)
+        {
+            throw UNSUPPORTED;
+        }
+        final int value = buffer.getInt(progress, LITTLE_ENDIAN);
+        progress += Integer.BYTES;
+        return value;
+    }
+
+    private long decodeFixed64(
+        DirectBuffer buffer,
+        int limit)
+    {
+        if (limit - progress < Long.BYTES)
+        {
+            throw UNSUPPORTED;
+        }
+        final long value = buffer.getLong(progress, LITTLE_ENDIAN);
+        progress += Long.BYTES;
+        return value;
+    }
+
+    private int peek()
+    {
+        int ch = -1;
+        while (progress < limit)
+        {
+            final byte b = json.getByte(progress);
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r')
+            {
+                ch = b & 0xff;
+                break;
+            }
+            progress++;
+        }
+        return ch;
+    }
+
+    private boolean accept(
+        char ch)
+    {
+        final boolean accepted = peek() == ch;
+        if (accepted)
+        {
+            progress++;
+        }
+        return accepted;
+    }
+
+    private void expect(
+        char ch)
+    {
+        if (!accept(ch))
+        {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private void scanString()
+    {
+        expect('"');
+        tokenStart = progress;
+        escaped = false;
+        for (;;)
+        {
+            if (progress >= limit)
+            {
+                throw UNSUPPORTED;
+            }
+
+            final byte b = json.getByte(progress++);
+            if (b == '"')
+            {
+                break;
+            }
+            else if (b == '\\')
+            {
+                escaped = true;
+                progress++;
+            }
+            else if (b >= 0 && b < 0x20)
+            {
+                throw UNSUPPORTED;
+            }
+        }
+        tokenEnd = progress - 1;
+    }
+
+    private boolean scanBoolean()
+    {
+        final boolean value;
+        if (peek() == 't' && scanLiteral(TRUE))
+        {
+            value = true;
+        }
+        else if (peek() == 'f' && scanLiteral(FALSE))
+        {
+            value = false;
+        }
+        else
+        {
+            throw UNSUPPORTED;
+        }
+        return value;
+    }
+
+    private boolean scanLiteral(
+        byte[] literal)
+    {
+        final boolean matched = contentEquals(literal, json, progress, Math.min(literal.length, limit - progress));
+        if (matched)
+        {
+            progress += literal.length;
+        }
+        return matched;
+    }
+
+    private long scanMagnitude()
+    {
+        final boolean quoted = accept('"');
+        if (!quoted && peek() == -1)
+        {
+            throw UNSUPPORTED;
+        }
+
+        negative = progress < limit && json.getByte(progress) == '-';
+        if (negative)
+        {
+            progress++;
+        }
+
+        final int start = progress;
+        long magnitude = 0L;
+        while (progress < limit)
+        {
+            final int digit = json.getByte(progress) - '0';
+            if (digit < 0 || digit > 9)
+            {
+                break;
+            }
+            if (Long.compareUnsigned(magnitude, 0x1999_9999_9999_9999L) > 0)
+            {
+                throw UNSUPPORTED;
+            }
+            final long value = magnitude * 10L + digit;
+            if (Long.compareUnsigned(value, magnitude * 10L) < 0)
+            {
+                throw UNSUPPORTED;
+            }
+            magnitude = value;
+            progress++;
+        }
+
+        final int digits = progress - start;
+        if (digits == 0 || digits > 1 && json.getByte(start) == '0')
+        {
+            throw UNSUPPORTED;
+        }
+
+        if (quoted)
+        {
+            if (progress >= limit || json.getByte(progress) != '"')
+            {
+                throw UNSUPPORTED;
+            }
+            progress++;
+        }
+        else if (progress < limit && isNumberPart(json.getByte(progress)))
+        {
+            throw UNSUPPORTED;
+        }
+
+        return magnitude;
+    }
+
+    private long scanSigned(
+        long min,
+        long max)
+    {
+        final long magnitude = scanMagnitude();
+        if (negative ? Long.compareUnsigned(magnitude, -min) > 0 : Long.compareUnsigned(magnitude, max) > 0)
+        {
+            throw UNSUPPORTED;
+        }
+        return negative ? -magnitude : magnitude;
+    }
+
+    private long scanUnsigned(
+        long max)
+    {
+        final long magnitude = scanMagnitude();
+        if (negative && magnitude != 0L || Long.compareUnsigned(magnitude, max) > 0)
+        {
+            throw UNSUPPORTED;
+        }
+        return magnitude;
+    }
+
+    private float scanFloat()
+    {
+        final double value = scanDouble();
+        if (value > Float.MAX_VALUE * (1.0 + 1e-6) && value != Double.POSITIVE_INFINITY ||
+            value < -Float.MAX_VALUE * (1.0 + 1e-6) && value != Double.NEGATIVE_INFINITY)
+        {
+            throw UNSUPPORTED;
+        }
+        return (float) value;
+    }
+
+    private double scanDouble()
+    {
+        final double value;
+        if (peek() == '"')
+        {
+            scanString();
+            if (escaped)
+            {
+                throw UNSUPPORTED;
+            }
+            final int length = tokenEnd - tokenStart;
+            if (contentEquals(NAN, 1, NAN.length - 2, json, tokenStart, length))
+            {
+                value = Double.NaN;
+            }
+            else if (contentEquals(INFINITY, 1, INFINITY.length - 2, json, tokenStart, length))
+            {
+                value = Double.POSITIVE_INFINITY;
+            }
+            else if (contentEquals(NEGATIVE_INFINITY, 1, NEGATIVE_INFINITY.length - 2, json, tokenStart, length))
+            {
+                value = Double.NEGATIVE_INFINITY;
+            }
+            else
+            {
+                value = parseDouble(tokenStart, tokenEnd);
+            }
+        }
+        else
+        {
+            final int start = progress;
+            while (progress < limit && isNumberPart(json.getByte(progress)))
+            {
+                progress++;
+            }
+            value = parseDouble(start, progress);
+        }
+        return value;
+    }
+
+    private double parseDouble(
+        int start,
+        int end)
+    {
+        final int length = end - start;
+        final int digits = length > 0 && json.getByte(start) == '-' ? length - 1 : length;
+        if (digits == 0)
+        {
+            throw UNSUPPORTED;
+        }
+
+        boolean integral = digits <= 15;
+        for (int i = end - digits; integral && i < end; i++)
+        {
+            final byte b = json.getByte(i);
+            integral = b >= '0' && b <= '9';
+        }
+
+        double value;
+        if (integral)
+        {
+            value = json.parseLongAscii(start, length);
+            if (value == 0.0 && digits != length)
+            {
+                value = -0.0;
+            }
+        }
+        else
+        {
+            try
+            {
+                value = Double.parseDouble(json.getStringWithoutLengthAscii(start, length));
+            }
+            catch (NumberFormatException ex)
+            {
+                throw UNSUPPORTED;
+            }
+
+            if (Double.isInfinite(value) || Double.isNaN(value))
+            {
+                throw UNSUPPORTED;
+            }
+        }
+        return value;
+    }
+
+    private int putUtf8(
+        MutableDirectBuffer target,
+        int position)
+    {
+        final int start = position;
+        if (!escaped)
+        {
+            final int length = tokenEnd - tokenStart;
+            validateUtf8(json, tokenStart, tokenEnd);
+            position = putVarint(target, position, length);
+            target.putBytes(position, json, tokenStart, length);
+            position += length;
+        }
+        else
+        {
+            int index = tokenStart;
+            while (index < tokenEnd)
+            {
+                final byte b = json.getByte(index++);
+                if (b != '\\')
+                {
+                    target.putByte(position++, b);
+                }
+                else if (json.getByte(index) != 'u')
+                {
+                    target.putByte(position++, unescape(json.getByte(index++)));
+                }
+                else
+                {
+                    int codePoint = parseHex(index + 1);
+                    index += 5;
+                    if (Character.isHighSurrogate((char) codePoint))
+                    {
+                        if (index + 6 > tokenEnd || json.getByte(index) != '\\' || json.getByte(index + 1) != 'u')
+                        {
+                            throw UNSUPPORTED;
+                        }
+                        final int low = parseHex(index + 2);
+                        if (!Character.isLowSurrogate((char) low))
+                        {
+                            throw UNSUPPORTED;
+                        }
+                        codePoint = Character.toCodePoint((char) codePoint, (char) low);
+                        index += 6;
+                    }
+                    else if (Character.isLowSurrogate((char) codePoint))
+                    {
+                        throw UNSUPPORTED;
+                    }
+                    position = putCodePoint(target, position, codePoint);
+                }
+            }
+            validateUtf8(target, start, position);
+            position = putLength(target, start, position);
+        }
+        return position;
+    }
+
+    private int putBytes(
+        MutableDirectBuffer target,
+        int position)
+    {
+        final int length = tokenEnd - tokenStart;
+        if (length % 4 != 0)
+        {
+            throw UNSUPPORTED;
+        }
+
+        int padding = 0;
+        if (length > 0 && json.getByte(tokenEnd - 1) == '=')
+        {
+            padding++;
+            if (json.getByte(tokenEnd - 2) == '=')
+            {
+                padding++;
+            }
+        }
+
+        final int decoded = length / 4 * 3 - padding;
+        position = putVarint(target, position, decoded);
+
+        int bits = 0;
+        int count = 0;
+        for (int i = tokenStart; i < tokenEnd - padding; i++)
+        {
+            final byte b = json.getByte(i);
+            final int value = b >= 0 ? BASE64_VALUES[b] : -1;
+            if (value < 0)
+            {
+                throw UNSUPPORTED;
+            }
+            bits = bits << 6 | value;
+            count += 6;
+            if (count >= 8)
+            {
+                count -= 8;
+                target.putByte(position++, (byte) (bits >> count));
+            }
+        }
+
+        if ((bits & ((1 << count) - 1)) != 0)
+        {
+            throw UNSUPPORTED;
+        }
+
+        return position;
+    }
+
+    private int parseHex(
+        int index)
+    {
+        if (index + 4 > tokenEnd)
+        {
+            throw UNSUPPORTED;
+        }
+
+        int value = 0;
+        for (int i = index; i < index + 4; i++)
+        {
+            final int digit = Character.digit(json.getByte(i), 16);
+            if (digit < 0)
+            {
+                throw UNSUPPORTED;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private static byte unescape(
+        byte ch)
+    {
+        byte value;
+        switch (ch)
+        {
+        case '"':
+        case '\\':
+        case '/':
+            value = ch;
+            break;
+        case 'b':
+            value = '\b';
+            break;
+        case 'f':
+            value = '\f';
+            break;
+        case 'n':
+            value = '\n';
+            break;
+        case 'r':
+            value = '\r';
+            break;
+        case 't':
+            value = '\t';
+            break;
+        default:
+            throw UNSUPPORTED;
+        }
+        return value;
+    }
+
+    private static int putString(
+        DirectBuffer buffer,
+        int index,
+        int limit,
+        MutableDirectBuffer target,
+        int position)
+    {
+        target.putByte(position++, (byte) '"');
+        for (int i = index; i < limit; )
+        {
+            final int b = buffer.getByte(i) & 0xff;
+            if (b < 0x80)
+            {
+                final byte[] escape = ESCAPES[b];
+                if (escape != null)
+                {
+                    target.putBytes(position, escape);
+                    position += escape.length;
+                }
+                else
+                {
+                    target.putByte(position++, (byte) b);
+                }
+                i++;
+            }
+            else
+            {
+                final int size = sizeofUtf8(buffer, i, limit);
+                if (size == 3 && b == 0xe2 && (buffer.getByte(i + 1) & 0xff) == 0x80 &&
+                    ((buffer.getByte(i + 2) & 0xfe) == 0xa8))
+                {
+                    final byte[] separator = buffer.getByte(i + 2) == (byte) 0xa8 ? LINE_SEPARATOR : PARAGRAPH_SEPARATOR;
+                    target.putBytes(position, separator);
+                    position += separator.length;
+                }
+                else
+                {
+                    target.putBytes(position, buffer, i, size);
+                    position += size;
+                }
+                i += size;
+            }
+        }
+        target.putByte(position++, (byte) '"');
+        return position;
+    }
+
+    private static int putBase64(
+        DirectBuffer buffer,
+        int index,
+        int limit,
+        MutableDirectBuffer target,
+        int position)
+    {
+        target.putByte(position++, (byte) '"');
+        int i = index;
+        for (; i + 3 <= limit; i += 3)
+        {
+            final int bits = (buffer.getByte(i) & 0xff) << 16 |
+                (buffer.getByte(i + 1) & 0xff) << 8 |
+                buffer.getByte(i + 2) & 0xff;
+            target.putByte(position++, BASE64[bits >>> 18]);
+            target.putByte(position++, BASE64[bits >>> 12 & 0x3f]);
+            target.putByte(position++, BASE64[bits >>> 6 & 0x3f]);
+            target.putByte(position++, BASE64[bits & 0x3f]);
+        }
+
+        final int remaining = limit - i;
+        if (remaining > 0)
+        {
+            final int bits = (buffer.getByte(i) & 0xff) << 16 | (remaining > 1 ? (buffer.getByte(i + 1) & 0xff) << 8 : 0);
+            target.putByte(position++, BASE64[bits >>> 18]);
+            target.putByte(position++, BASE64[bits >>> 12 & 0x3f]);
+            target.putByte(position++, remaining > 1 ? BASE64[bits >>> 6 & 0x3f] : (byte) '=');
+            target.putByte(position++, (byte) '=');
+        }
+        target.putByte(position++, (byte) '"');
+        return position;
+    }
+
+    private static int putQuotedLong(
+        long value,
+        MutableDirectBuffer target,
+        int position)
+    {
+        target.putByte(position++, (byte) '"');
+        position += target.putLongAscii(position, value);
+        target.putByte(position++, (byte) '"');
+        return position;
+    }
+
+    private static int putQuotedUnsignedLong(
+        long value,
+        MutableDirectBuffer target,
+        int position)
+    {
+        target.putByte(position++, (byte) '"');
+        if (value >= 0L)
+        {
+            position += target.putLongAscii(position, value);
+        }
+        else
+        {
+            final long quotient = (value >>> 1) / 5;
+            position += target.putLongAscii(position, quotient);
+            target.putByte(position++, (byte) ('0' + (value - quotient * 10)));
+        }
+        target.putByte(position++, (byte) '"');
+        return position;
+    }
+
+    private static int putFloat(
+        float value,
+        MutableDirectBuffer target,
+        int position)
+    {
+        if (Float.isNaN(value) || Float.isInfinite(value))
+        {
+            position = putNonFinite(value, target, position);
+        }
+        else if (value == (int) value && Math.abs(value) < 1.0e7f && (value != 0.0f || Float.floatToRawIntBits(value) == 0))
+        {
+            position += target.putIntAscii(position, (int) value);
+            target.putByte(position++, (byte) '.');
+            target.putByte(position++, (byte) '0');
+        }
+        else
+        {
+            position += target.putStringWithoutLengthAscii(position, Float.toString(value));
+        }
+        return position;
+    }
+
+    private static int putDouble(
+        double value,
+        MutableDirectBuffer target,
+        int position)
+    {
+        if (Double.isNaN(value) || Double.isInfinite(value))
+        {
+            position = putNonFinite(value, target, position);
+        }
+        else if (value == (long) value && Math.abs(value) < 1.0e7 && (value != 0.0 || Double.doubleToRawLongBits(value) == 0L))
+        {
+            position += target.putLongAscii(position, (long) value);
+            target.putByte(position++, (byte) '.');
+            target.putByte(position++, (byte) '0');
+        }
+        else
+        {
+            position += target.putStringWithoutLengthAscii(position, Double.toString(value));
+        }
+        return position;
+    }
+
+    private static int putNonFinite(
+        double value,
+        MutableDirectBuffer target,
+        int position)
+    {
+        final byte[] literal = Double.isNaN(value) ? NAN : value > 0 ? INFINITY : NEGATIVE_INFINITY;
+        target.putBytes(position, literal);
+        return position + literal.length;
+    }
+
+    private static int putCodePoint(
+        MutableDirectBuffer target,
+        int position,
+        int codePoint)
+    {
+        if (codePoint < 0x80)
+        {
+            target.putByte(position++, (byte) codePoint);
+        }
+        else if (codePoint < 0x800)
+        {
+            target.putByte(position++, (byte) (0xc0 | codePoint >>> 6));
+            target.putByte(position++, (byte) (0x80 | codePoint & 0x3f));
+        }
+        else if (codePoint < 0x10000)
+        {
+            target.putByte(position++, (byte) (0xe0 | codePoint >>> 12));
+            target.putByte(position++, (byte) (0x80 | codePoint >>> 6 & 0x3f));
+            target.putByte(position++, (byte) (0x80 | codePoint & 0x3f));
+        }
+        else
+        {
+            target.putByte(position++, (byte) (0xf0 | codePoint >>> 18));
+            target.putByte(position++, (byte) (0x80 | codePoint >>> 12 & 0x3f));
+            target.putByte(position++, (byte) (0x80 | codePoint >>> 6 & 0x3f));
+            target.putByte(position++, (byte) (0x80 | codePoint & 0x3f));
+        }
+        return position;
+    }
+
+    private static int putVarint(
+        MutableDirectBuffer target,
+        int position,
+        long value)
+    {
+        while ((value & ~0x7fL) != 0L)
+        {
+            target.putByte(position++, (byte) (value & 0x7f | 0x80));
+            value >>>= 7;
+        }
+        target.putByte(position++, (byte) value);
+        return position;
+    }
+
+    private static int putLength(
+        MutableDirectBuffer target,
+        int start,
+        int end)
+    {
+        final int length = end - start;
+        final int lengthSize = sizeofVarint(length);
+        target.putBytes(start + lengthSize, target, start, length);
+        putVarint(target, start, length);
+        return end + lengthSize;
+    }
+
+    private static int sizeofVarint(
+        long value)
+    {
+        int size = 1;
+        while ((value & ~0x7fL) != 0L)
+        {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void validateUtf8(
+        DirectBuffer buffer,
+        int index,
+        int limit)
+    {
+        for (int i = index; i < limit; )
+        {
+            i += buffer.getByte(i) >= 0 ? 1 : sizeofUtf8(buffer, i, limit);
+        }
+    }
+
+    private static int sizeofUtf8(
+        DirectBuffer buffer,
+        int index,
+        int limit)
+    {
+        final int b = buffer.getByte(index) & 0xff;
+
+        final int size;
+        final int min;
+        final int max;
+        if (b >= 0xc2 && b <= 0xdf)
+        {
+            size = 2;
+            min = 0x80;
+            max = 0xbf;
+        }
+        else if (b >= 0xe0 && b <= 0xef)
+        {
+            size = 3;
+            min = b == 0xe0 ? 0xa0 : 0x80;
+            max = b == 0xed ? 0x9f : 0xbf;
+        }
+        else if (b >= 0xf0 && b <= 0xf4)
+        {
+            size = 4;
+            min = b == 0xf0 ? 0x90 : 0x80;
+            max = b == 0xf4 ? 0x8f : 0xbf;
+        }
+        else
+        {
+            throw UNSUPPORTED;
+        }
+
+        if (index + size > limit)
+        {
+            throw UNSUPPORTED;
+        }
+
+        final int second = buffer.getByte(index + 1) & 0xff;
+        if (second < min || second > max)
+        {
+            throw UNSUPPORTED;
+        }
+
+        for (int i = index + 2; i < index + size; i++)
+        {
+            if ((buffer.getByte(i) & 0xc0) != 0x80)
+            {
+                throw UNSUPPORTED;
+            }
+        }
+        return size;
+    }
+
+    private static boolean isZero(
+        DirectBuffer buffer,
+        int index,
+        int limit)
+    {
+        boolean zero = true;
+        for (int i = index; zero && i < limit; i++)
+        {
+            zero = buffer.getByte(i) == 0;
+        }
+        return zero;
+    }
+
+    private static boolean isNumberPart(
+        byte b)
+    {
+        return b >= '0' && b <= '9' || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+    }
+
+    private static boolean contentEquals(
+        byte[] expected,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        return contentEquals(expected, 0, expected.length, buffer, index, length);
+    }
+
+    private static boolean contentEquals(
+        byte[] expected,
+        int offset,
+        int count,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        boolean equal = count == length;
+        for (int i = 0; equal && i < count; i++)
+        {
+            equal = expected[offset + i] == buffer.getByte(index + i);
+        }
+        return equal;
+    }
+
+    private static byte[] concat(
+        byte[] prefix,
+        String suffix)
+    {
+        final byte[] suffixBytes = suffix.getBytes(UTF_8);
+        final byte[] bytes = Arrays.copyOf(prefix, prefix.length + suffixBytes.length);
+        System.arraycopy(suffixBytes, 0, bytes, prefix.length, suffixBytes.length);
+        return bytes;
+    }
+
+    private static int wireType(
+        FieldDescriptor.Type type)
+    {
+        int wireType;
+        switch (type)
+        {
+        case DOUBLE:
+        case FIXED64:
+        case SFIXED64:
+            wireType = WIRETYPE_FIXED64;
+            break;
+        case FLOAT:
+        case FIXED32:
+        case SFIXED32:
+            wireType = WIRETYPE_FIXED32;
+            break;
+        case STRING:
+        case BYTES:
+        case MESSAGE:
+            wireType = WIRETYPE_LENGTH_DELIMITED;
+            break;
+        default:
+            wireType = WIRETYPE_VARINT;
+            break;
+        }
+        return wireType;
+    }
+}
@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.model.protobuf.internal;
 
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -50,9 +52,6 @@ public class ProtobufModelHandler
     protected static final byte[] ZERO_INDEX = new byte[]{0x0};
     protected static final String VIEW_JSON = "json";
 
-    private static final int JSON_FIELD_STRUCTURE_LENGTH = "\"\":\"\",".length();
-    private static final int JSON_OBJECT_CURLY_BRACES = 2;
-
     protected final SchemaConfig catalog;
     protected final CatalogHandler handler;
     protected final String subject;
@@ -64,6 +63,7 @@ public class ProtobufModelHandler
 
     private final Int2ObjectCache<FileDescriptor> descriptors;
     private final Int2ObjectCache<DescriptorTree> tree;
+    private final Int2ObjectCache<ProtobufJsonTranscoder> transcoders;
     private final Object2ObjectHashMap<String, DynamicMessage.Builder> builders;
     private final FileDescriptor[] dependencies;
     private final Int2IntHashMap paddings;
@@ -81,6 +81,7 @@ public class ProtobufModelHandler
         this.view = config.view;
         this.descriptors = new Int2ObjectCache<>(1, 1024, i -> {});
         this.tree = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.transcoders = new Int2ObjectCache<>(1, 1024, i -> {});
         this.builders = new Object2ObjectHashMap<>();
         this.in = new DirectBufferInputStream();
         this.dependencies = new FileDescriptor[0];
@@ -102,6 +103,12 @@ public class ProtobufModelHandler
         return tree.computeIfAbsent(schemaId, this::createDescriptorTree);
     }
 
+    protected ProtobufJsonTranscoder supplyTranscoder(
+        int schemaId)
+    {
+        return transcoders.computeIfAbsent(schemaId, this::createTranscoder);
+    }
+
     protected byte[] encodeIndexes()
     {
         int size = indexes.size();
@@ -154,7 +161,8 @@ public class ProtobufModelHandler
     protected int supplyJsonFormatPadding(
         int schemaId)
     {
-        return paddings.computeIfAbsent(schemaId, id -> calculateJsonFormatPadding(supplyDescriptor(id)));
+        ProtobufJsonTranscoder transcoder = supplyTranscoder(schemaId);
+        return transcoder != null ? transcoder.padding() : 0;
     }
 
     protected DynamicMessage.Builder supplyDynamicMessageBuilder(
@@ -173,6 +181,33 @@ public class ProtobufModelHandler
         return builder;
     }
 
+    protected final boolean pendingSchema(
+        int schemaId,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        boolean pending = false;
+
+        if (schemaId == NO_SCHEMA_ID && catalog != null)
+        {
+            if (catalog.id != NO_SCHEMA_ID)
+            {
+                schemaId = catalog.id;
+            }
+            else
+            {
+                pending = handler.pending(subject, catalog.version, originId, routedId, streamId, traceId, signalId);
+                schemaId = pending ? NO_SCHEMA_ID : handler.resolve(subject, catalog.version);
+            }
+        }
+
+        return pending ||
+            schemaId != NO_SCHEMA_ID && handler.pending(schemaId, originId, routedId, streamId, traceId, signalId);
+    }
+
     private DynamicMessage.Builder createDynamicMessageBuilder(
         Descriptors.Descriptor descriptor)
     {
@@ -209,26 +244,6 @@ public class ProtobufModelHandler
         return padding;
     }
 
-    private int calculateJsonFormatPadding(
-        FileDescriptor descriptor)
-    {
-        int padding = 0;
-
-        if (descriptor != null)
-        {
-            for (Descriptors.Descriptor message : descriptor.getMessageTypes())
-            {
-                padding += JSON_OBJECT_CURLY_BRACES;
-                for (Descriptors.FieldDescriptor field : message.getFields())
-                {
-                    padding += field.getName().getBytes().length + JSON_FIELD_STRUCTURE_LENGTH;
-                }
-            }
-
-        }
-        return padding;
-    }
-
     private FileDescriptor createDescriptors(
         int schemaId)
     {
@@ -272,4 +287,17 @@ public class ProtobufModelHandler
         }
         return tree;
     }
+
+    private ProtobufJsonTranscoder createTranscoder(
+        int schemaId)
+    {
+        ProtobufJsonTranscoder transcoder = null;
+        FileDescriptor descriptor = supplyDescriptor(schemaId);
+
+        if (descriptor != null)
+        {
+            transcoder = new ProtobufJsonTranscoder(descriptor);
+        }
+        return transcoder;
+    }
 }
@@ -87,6 +87,20 @@ public class ProtobufReadConverterHandler extends ProtobufModelHandler implement
         return padding;
     }
 
+    @Override
+    public boolean pending(
+        DirectBuffer data,
+        int index,
+        int length,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return pendingSchema(handler.resolve(data, index, length), originId, routedId, streamId, traceId, signalId);
+    }
+
     @Override
     public void extract(
         String path)
@@ -180,7 +194,19 @@ public class ProtobufReadConverterHandler extends ProtobufModelHandler implement
         if (tree != null)
         {
             Descriptors.Descriptor descriptor = tree.findByIndexes(indexes);
-            if (descriptor != null)
+            if (descriptor != null && VIEW_JSON.equals(view))
+            {
+                ProtobufJsonTranscoder transcoder = supplyTranscoder(schemaId);
+                valLength = transcoder.toJson(descriptor, data, index, length, out.buffer(), 0);
+                if (valLength != -1)
+                {
+                    progress = index;
+                    extractFields(data, length, descriptor);
+                    next.accept(out.buffer(), 0, valLength);
+                }
+            }
+
+            if (descriptor != null && valLength == -1)
             {
                 in.wrap(data, index, length);
                 DynamicMessage.Builder builder = supplyDynamicMessageBuilder(descriptor);
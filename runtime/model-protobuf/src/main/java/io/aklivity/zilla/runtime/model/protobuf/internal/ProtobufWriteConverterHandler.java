@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.model.protobuf.internal;
 
+import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+
 import java.io.IOException;
 import java.io.InputStreamReader;
 
@@ -61,6 +63,20 @@ public class ProtobufWriteConverterHandler extends ProtobufModelHandler implemen
         return handler.encodePadding(length) + supplyIndexPadding(schemaId);
     }
 
+    @Override
+    public boolean pending(
+        DirectBuffer data,
+        int index,
+        int length,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId)
+    {
+        return pendingSchema(NO_SCHEMA_ID, originId, routedId, streamId, traceId, signalId);
+    }
+
     @Override
     public int convert(
         long traceId,
@@ -172,26 +188,35 @@ public class ProtobufWriteConverterHandler extends ProtobufModelHandler implemen
                 indexes.clear();
                 indexes.add(tree.indexes.size());
                 indexes.addAll(tree.indexes);
-                DynamicMessage.Builder builder = supplyDynamicMessageBuilder(descriptor);
-                in.wrap(buffer, index, length);
-                try
-                {
-                    parser.merge(input, builder);
-                    DynamicMessage message = builder.build();
-                    if (message.isInitialized() && message.getUnknownFields().asMap().isEmpty())
-                    {
-                        out.wrap(out.buffer());
-                        message.writeTo(out);
-                        valLength = encode(traceId, bindingId, schemaId, out.buffer(), 0, out.position(), next);
-                    }
-                }
-                catch (IOException ex)
+                ProtobufJsonTranscoder transcoder = supplyTranscoder(schemaId);
+                int position = transcoder.toProtobuf(descriptor, buffer, index, length, out.buffer(), 0);
+                if (position != -1)
                 {
-                    event.validationFailure(traceId, bindingId, ex.getMessage());
+                    valLength = encode(traceId, bindingId, schemaId, out.buffer(), 0, position, next);
                 }
-                finally
+                else
                 {
-                    builder.clear();
+                    DynamicMessage.Builder builder = supplyDynamicMessageBuilder(descriptor);
+                    in.wrap(buffer, index, length);
+                    try
+                    {
+                        parser.merge(input, builder);
+                        DynamicMessage message = builder.build();
+                        if (message.isInitialized() && message.getUnknownFields().asMap().isEmpty())
+                        {
+                            out.wrap(out.buffer());
+                            message.writeTo(out);
+                            valLength = encode(traceId, bindingId, schemaId, out.buffer(), 0, out.position(), next);
+                        }
+                    }
+                    catch (IOException ex)
+                    {
+                        event.validationFailure(traceId, bindingId, ex.getMessage());
+                    }
+                    finally
+                    {
+                        builder.clear();
+                    }
                 }
             }
         }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.protobuf.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.util.JsonFormat;
+
+import io.aklivity.zilla.runtime.model.protobuf.internal.parser.Protobuf3Lexer;
+import io.aklivity.zilla.runtime.model.protobuf.internal.parser.Protobuf3Parser;
+
+public class ProtobufJsonTranscoderTest
+{
+    private static final String SCHEMA = "syntax = \"proto3\";" +
+        "package io.aklivity.example;" +
+        "message Event " +
+        "{" +
+            "string id = 1;" +
+            "double amount = 2;" +
+            "float ratio = 3;" +
+            "int64 timestamp = 4;" +
+            "uint64 sequence = 5;" +
+            "int32 count = 6;" +
+            "fixed64 checksum = 7;" +
+            "fixed32 flags = 8;" +
+            "bool active = 9;" +
+            "bytes payload = 10;" +
+            "uint32 size = 11;" +
+            "sfixed32 offset = 12;" +
+            "sfixed64 position = 13;" +
+            "sint32 delta = 14;" +
+            "sint64 drift = 15;" +
+            "repeated string tags = 16;" +
+            "repeated int32 scores = 17;" +
+            "message Location " +
+            "{" +
+                "string city = 1;" +
+                "int32 zip = 2;" +
+            "}" +
+            "Location location = 18;" +
+            "repeated Location history = 19;" +
+        "}";
+
+    private static final String JSON = "{" +
+        "\"id\":\"id\\\"0\\n<&>\\u00e9\"," +
+        "\"amount\":-42.5," +
+        "\"ratio\":0.25," +
+        "\"timestamp\":\"-1718000000000\"," +
+        "\"sequence\":\"18446744073709551615\"," +
+        "\"count\":-7," +
+        "\"checksum\":\"9223372036854775808\"," +
+        "\"flags\":4294967295," +
+        "\"active\":true," +
+        "\"payload\":\"AAEC/w==\"," +
+        "\"size\":300," +
+        "\"offset\":-1," +
+        "\"position\":\"-2\"," +
+        "\"delta\":-3," +
+        "\"drift\":\"-4\"," +
+        "\"tags\":[\"alpha\",\"\",\"gamma\"]," +
+        "\"scores\":[1,-2,300]," +
+        "\"location\":{\"city\":\"main\",\"zip\":7}," +
+        "\"history\":[{\"city\":\"old\"},{}]" +
+        "}";
+
+    private final JsonFormat.Printer printer = JsonFormat.printer()
+        .omittingInsignificantWhitespace()
+        .preservingProtoFieldNames()
+        .includingDefaultValueFields();
+
+    private Descriptor descriptor;
+    private ProtobufJsonTranscoder transcoder;
+
+    @Before
+    public void init() throws Exception
+    {
+        Protobuf3Parser parser = new Protobuf3Parser(new CommonTokenStream(new Protobuf3Lexer(CharStreams.fromString(SCHEMA))));
+        ProtoListener listener = new ProtoListener();
+        new ParseTreeWalker().walk(listener, parser.proto());
+
+        FileDescriptor file = FileDescriptor.buildFrom(listener.build(), new FileDescriptor[0]);
+        descriptor = file.findMessageTypeByName("Event");
+        transcoder = new ProtobufJsonTranscoder(file);
+    }
+
+    @Test
+    public void shouldTranscodeProtobufToJson() throws Exception
+    {
+        DynamicMessage message = parse(JSON);
+        byte[] bytes = message.toByteArray();
+
+        MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+        int length = transcoder.toJson(descriptor, new UnsafeBuffer(bytes), 0, bytes.length, target, 0);
+
+        assertEquals(printer.print(message), target.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldTranscodeDefaultsToJson() throws Exception
+    {
+        DynamicMessage message = parse("{}");
+
+        MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+        int length = transcoder.toJson(descriptor, new UnsafeBuffer(new byte[0]), 0, 0, target, 0);
+
+        assertEquals(printer.print(message), target.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldTranscodeJsonToProtobuf() throws Exception
+    {
+        DynamicMessage message = parse(JSON);
+        byte[] json = printer.print(message).getBytes(UTF_8);
+
+        MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+        int length = transcoder.toProtobuf(descriptor, new UnsafeBuffer(json), 0, json.length, target, 0);
+
+        byte[] actual = new byte[length];
+        target.getBytes(0, actual);
+        assertArrayEquals(message.toByteArray(), actual);
+    }
+
+    @Test
+    public void shouldDeferReorderedJson()
+    {
+        byte[] json = "{\"count\":1,\"id\":\"id0\"}".getBytes(UTF_8);
+
+        MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+        int length = transcoder.toProtobuf(descriptor, new UnsafeBuffer(json), 0, json.length, target, 0);
+
+        assertEquals(-1, length);
+    }
+
+    @Test
+    public void shouldDeferUnknownField()
+    {
+        byte[] bytes = {(byte) 0x98, 0x06, 0x01};
+
+        MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+        int length = transcoder.toJson(descriptor, new UnsafeBuffer(bytes), 0, bytes.length, target, 0);
+
+        assertEquals(-1, length);
+    }
+
+    @Test
+    public void shouldDeferRequiredField() throws Exception
+    {
+        FileDescriptorProto proto = FileDescriptorProto.newBuilder()
+            .setName("required.proto")
+            .setSyntax("proto2")
+            .addMessageType(DescriptorProto.newBuilder()
+                .setName("Event")
+                .addField(FieldDescriptorProto.newBuilder()
+                    .setName("id")
+                    .setNumber(1)
+                    .setLabel(FieldDescriptorProto.Label.LABEL_REQUIRED)
+                    .setType(FieldDescriptorProto.Type.TYPE_STRING))
+                .addField(FieldDescriptorProto.newBuilder()
+                    .setName("count")
+                    .setNumber(2)
+                    .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                    .setType(FieldDescriptorProto.Type.TYPE_INT32)))
+            .build();
+        FileDescriptor file = FileDescriptor.buildFrom(proto, new FileDescriptor[0]);
+        ProtobufJsonTranscoder required = new ProtobufJsonTranscoder(file);
+
+        byte[] json = "{\"count\":1}".getBytes(UTF_8);
+
+        MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+        int length = required.toProtobuf(file.findMessageTypeByName("Event"), new UnsafeBuffer(json), 0, json.length, target, 0);
+
+        assertEquals(-1, length);
+    }
+
+    private DynamicMessage parse(
+        String json) throws Exception
+    {
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+        JsonFormat.parser().merge(json, builder);
+        return builder.build();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.protobuf.internal.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.agrona.io.ExpandableDirectBufferOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.util.JsonFormat;
+
+import io.aklivity.zilla.runtime.model.protobuf.internal.ProtobufJsonTranscoder;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class ProtobufJsonTranscoderBM
+{
+    private static final String JSON = "{" +
+        "\"id\":\"0f8fad5b-d9cb-469f-a165-70867728950e\"," +
+        "\"status\":\"positive\"," +
+        "\"timestamp\":\"1718000000000\"," +
+        "\"amount\":42.5," +
+        "\"count\":3," +
+        "\"tags\":[\"alpha\",\"beta\",\"gamma\"]" +
+        "}";
+
+    private final ExpandableDirectBufferOutputStream out =
+        new ExpandableDirectBufferOutputStream(new ExpandableDirectByteBuffer());
+    private final OutputStreamWriter output = new OutputStreamWriter(out);
+    private final DirectBufferInputStream in = new DirectBufferInputStream();
+    private final InputStreamReader input = new InputStreamReader(in);
+    private final MutableDirectBuffer target = new ExpandableDirectByteBuffer();
+
+    private JsonFormat.Printer printer;
+    private JsonFormat.Parser parser;
+    private DynamicMessage.Builder builder;
+    private Descriptor descriptor;
+    private ProtobufJsonTranscoder transcoder;
+    private DirectBuffer protobuf;
+    private DirectBuffer json;
+
+    @Setup
+    public void init() throws IOException, DescriptorValidationException
+    {
+        FileDescriptorProto proto = FileDescriptorProto.newBuilder()
+            .setSyntax("proto3")
+            .setPackage("io.aklivity.example")
+            .addMessageType(DescriptorProto.newBuilder()
+                .setName("Event")
+                .addField(field("id", 1, Type.TYPE_STRING, Label.LABEL_OPTIONAL))
+                .addField(field("status", 2, Type.TYPE_STRING, Label.LABEL_OPTIONAL))
+                .addField(field("timestamp", 3, Type.TYPE_INT64, Label.LABEL_OPTIONAL))
+                .addField(field("amount", 4, Type.TYPE_DOUBLE, Label.LABEL_OPTIONAL))
+                .addField(field("count", 5, Type.TYPE_INT32, Label.LABEL_OPTIONAL))
+                .addField(field("tags", 6, Type.TYPE_STRING, Label.LABEL_REPEATED)))
+            .build();
+        FileDescriptor file = FileDescriptor.buildFrom(proto, new FileDescriptor[0]);
+
+        descriptor = file.findMessageTypeByName("Event");
+        transcoder = new ProtobufJsonTranscoder(file);
+        printer = JsonFormat.printer()
+            .omittingInsignificantWhitespace()
+            .preservingProtoFieldNames()
+            .includingDefaultValueFields();
+        parser = JsonFormat.parser();
+        builder = DynamicMessage.newBuilder(descriptor);
+
+        parser.merge(JSON, builder);
+        DynamicMessage message = builder.build();
+        builder.clear();
+
+        protobuf = new UnsafeBuffer(message.toByteArray());
+        json = new UnsafeBuffer(printer.print(message).getBytes(UTF_8));
+    }
+
+    @Benchmark
+    public void readGeneric(
+        Blackhole blackhole) throws IOException
+    {
+        in.wrap(protobuf, 0, protobuf.capacity());
+        DynamicMessage message = builder.mergeFrom(in).build();
+        builder.clear();
+        out.wrap(out.buffer());
+        printer.appendTo(message, output);
+        output.flush();
+
+        blackhole.consume(out.position());
+    }
+
+    @Benchmark
+    public void readTranscoder(
+        Blackhole blackhole)
+    {
+        blackhole.consume(transcoder.toJson(descriptor, protobuf, 0, protobuf.capacity(), target, 0));
+    }
+
+    @Benchmark
+    public void writeGeneric(
+        Blackhole blackhole) throws IOException
+    {
+        in.wrap(json, 0, json.capacity());
+        parser.merge(input, builder);
+        DynamicMessage message = builder.build();
+        builder.clear();
+        out.wrap(out.buffer());
+        message.writeTo(out);
+
+        blackhole.consume(out.position());
+    }
+
+    @Benchmark
+    public void writeTranscoder(
+        Blackhole blackhole)
+    {
+        blackhole.consume(transcoder.toProtobuf(descriptor, json, 0, json.capacity(), target, 0));
+    }
+
+    private static FieldDescriptorProto field(
+        String name,
+        int number,
+        Type type,
+        Label label)
+    {
+        return FieldDescriptorProto.newBuilder()
+            .setName(name)
+            .setNumber(number)
+            .setType(type)
+            .setLabel(label)
+            .build();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(ProtobufJsonTranscoderBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
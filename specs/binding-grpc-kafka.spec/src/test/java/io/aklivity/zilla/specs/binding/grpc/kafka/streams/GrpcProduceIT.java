@@ -99,6 +99,15 @@ public class GrpcProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${grpc}/unary.rpc.shared/client",
+        "${grpc}/unary.rpc.shared/server"})
+    public void shouldExchangeMessagesInUnaryWithSharedReplies() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${grpc}/unary.rpc.error/client",
@@ -99,6 +99,15 @@ public class KafkaProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${kafka}/unary.rpc.shared/client",
+        "${kafka}/unary.rpc.shared/server"})
+    public void shouldExchangeMessagesInUnaryWithSharedReplies() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${kafka}/unary.rpc.rejected/client",
@@ -405,6 +405,33 @@ public class HttpIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${http}/get.items.shared/client",
+        "${http}/get.items.shared/server"})
+    public void shouldGetItemsShared() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${http}/get.items.shared.if.none.match/client",
+        "${http}/get.items.shared.if.none.match/server"})
+    public void shouldNotGetItemsSharedIfNoneMatchNotModified() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${http}/get.items.cached/client",
+        "${http}/get.items.cached/server"})
+    public void shouldGetItemsCached() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${http}/get.items.with.body/client",
@@ -477,6 +504,15 @@ public class HttpIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${http}/post.item.command.shared/client",
+        "${http}/post.item.command.shared/server"})
+    public void shouldPostItemCommandsWithSharedReplies() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${http}/post.item.command.if.match/client",
@@ -378,6 +378,15 @@ public class KafkaIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${kafka}/get.items.cached/client",
+        "${kafka}/get.items.cached/server"})
+    public void shouldGetItemsCached() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${kafka}/patch.item/client",
@@ -432,6 +441,15 @@ public class KafkaIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${kafka}/post.item.command.shared/client",
+        "${kafka}/post.item.command.shared/server"})
+    public void shouldPostItemCommandsWithSharedReplies() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${kafka}/post.item.async.command/client",
@@ -99,6 +99,22 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateClientOptionsProduceCompression()
+    {
+        JsonObject config = schema.validate("client.options.produce.compression.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
+    @Test
+    public void shouldValidateClientOptionsRack()
+    {
+        JsonObject config = schema.validate("client.options.rack.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateClientOptionsSaslScram()
     {
@@ -705,4 +705,17 @@ public class FetchIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${app}/session.incremental/client",
+        "${app}/session.incremental/server"})
+    public void shouldReceiveMessagesInIncrementalSession() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("JOIN_SECOND_PARTITION");
+        k3po.notifyBarrier("LEAVE_FIRST_PARTITION");
+        k3po.notifyBarrier("LEAVE_SECOND_PARTITION");
+        k3po.finish();
+    }
 }
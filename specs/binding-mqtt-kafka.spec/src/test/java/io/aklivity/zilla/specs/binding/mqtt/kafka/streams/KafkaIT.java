@@ -1095,4 +1095,40 @@ public class KafkaIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${kafka}/subscribe.fanout/client",
+        "${kafka}/subscribe.fanout/server"})
+    public void shouldReceiveOneMessageWithFanout() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${kafka}/subscribe.fanout.fragmented/client",
+        "${kafka}/subscribe.fanout.fragmented/server"})
+    public void shouldSkipFragmentedMessageWhenJoiningFanout() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${kafka}/subscribe.fanout.filter.change/client",
+        "${kafka}/subscribe.fanout.filter.change/server"})
+    public void shouldRejoinFanoutAfterFilterChange() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${kafka}/subscribe.fanout.authorization/client",
+        "${kafka}/subscribe.fanout.authorization/server"})
+    public void shouldNotShareFanoutAcrossAuthorizations() throws Exception
+    {
+        k3po.finish();
+    }
 }
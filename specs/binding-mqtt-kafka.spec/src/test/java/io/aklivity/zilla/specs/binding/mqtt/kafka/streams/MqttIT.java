@@ -872,4 +872,40 @@ public class MqttIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${mqtt}/subscribe.fanout/client",
+        "${mqtt}/subscribe.fanout/server"})
+    public void shouldReceiveOneMessageWithFanout() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${mqtt}/subscribe.fanout.fragmented/client",
+        "${mqtt}/subscribe.fanout.fragmented/server"})
+    public void shouldSkipFragmentedMessageWhenJoiningFanout() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${mqtt}/subscribe.fanout.filter.change/client",
+        "${mqtt}/subscribe.fanout.filter.change/server"})
+    public void shouldRejoinFanoutAfterFilterChange() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${mqtt}/subscribe.fanout.authorization/client",
+        "${mqtt}/subscribe.fanout.authorization/server"})
+    public void shouldNotShareFanoutAcrossAuthorizations() throws Exception
+    {
+        k3po.finish();
+    }
 }